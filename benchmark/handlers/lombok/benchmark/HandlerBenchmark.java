@@ -0,0 +1,149 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import static lombok.benchmark.SyntheticSources.Variant.*;
+import static lombok.benchmark.SyntheticSourcesParams.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import lombok.DirectoryRunner;
+import lombok.benchmark.SyntheticSources.Variant;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.*;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Measures how long the javac and eclipse handlers take, and how much memory they allocate, to process synthetic beans
+ * (N classes with M fields each.) The beans are processed by {@link DirectoryRunner}, the same way the transformation
+ * tests process their files. A {@code DirectoryRunner} compiles whole files, so the cost of each handler is the
+ * difference between two variants of the same beans: {@code JavaBeanHandler} is what {@code @GenerateJavaBean} adds to
+ * plain beans, and {@code BoundSetterHandler} is what {@code @GenerateBoundSetter} adds on top of that.
+ * <p>
+ * These differences are biased upwards: besides compiling, each run pretty-prints the transformed files and compares
+ * them to their (empty) expected files, and both costs grow with the amount of generated code. The handler rows are
+ * upper bounds of the handlers' own cost, good for comparing two builds rather than for absolute figures.
+ * </p>
+ * <p>
+ * Arguments (all optional): number of classes (default 100), number of fields per class (default 20), warmup rounds
+ * (default 3) and measured rounds (default 5.) The report shows the median of the measured rounds.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+public class HandlerBenchmark {
+
+  public static void main(String[] args) throws Exception {
+    SyntheticSources sources = new SyntheticSources(argument(args, 0, 100), argument(args, 1, 20));
+    int warmups = argument(args, 2, 3);
+    int rounds = argument(args, 3, 5);
+    System.out.printf("%d classes x %d fields, %d warmup and %d measured rounds%n%n", sources.classCount(),
+        sources.fieldCount(), warmups, rounds);
+    System.out.println("handler rows include printing and diffing the code they generate (upper bounds)");
+    System.out.println();
+    report("javac (delombok)", measure(Javac.class, sources, warmups, rounds), sources);
+    report("ecj", measure(Ecj.class, sources, warmups, rounds), sources);
+  }
+
+  private static int argument(String[] args, int index, int defaultValue) {
+    return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+  }
+
+  /** Returns the median wall time (index 0) and allocated bytes (index 1) of each variant, in declaration order. */
+  private static long[][] measure(Class<? extends SyntheticSourcesParams> params, SyntheticSources sources,
+      int warmups, int rounds) throws Exception {
+    Variant[] variants = Variant.values();
+    long[][][] samples = new long[variants.length][2][rounds];
+    for (int round = 0; round < warmups + rounds; round++) {
+      for (Variant variant : variants) {
+        sources.write(variant, SOURCES, EXPECTED);
+        CompilationListener listener = new CompilationListener();
+        RunNotifier notifier = new RunNotifier();
+        notifier.addListener(listener);
+        new DirectoryRunner(params).run(notifier);
+        if (listener.error != null) throw new IllegalStateException(listener.error.getTestHeader(),
+            listener.error.getException());
+        if (round < warmups) continue;
+        samples[variant.ordinal()][0][round - warmups] = listener.wallNanos;
+        samples[variant.ordinal()][1][round - warmups] = listener.allocatedBytes;
+      }
+    }
+    long[][] medians = new long[variants.length][2];
+    for (int i = 0; i < variants.length; i++)
+      for (int j = 0; j < 2; j++) medians[i][j] = median(samples[i][j]);
+    return medians;
+  }
+
+  private static long median(long[] samples) {
+    long[] sorted = samples.clone();
+    Arrays.sort(sorted);
+    return sorted[sorted.length / 2];
+  }
+
+  private static void report(String compiler, long[][] medians, SyntheticSources sources) {
+    long[] plain = medians[PLAIN.ordinal()];
+    long[] javaBean = medians[JAVA_BEAN.ordinal()];
+    long[] boundSetters = medians[BOUND_SETTERS.ordinal()];
+    System.out.println(compiler);
+    System.out.printf("  %-28s %12s %12s%n", "", "wall (ms)", "alloc (KB)");
+    row("whole compilation", boundSetters[0], boundSetters[1], 1);
+    row("parsing and lombok", plain[0], plain[1], 1);
+    row("JavaBeanHandler", javaBean[0] - plain[0], javaBean[1] - plain[1], 1);
+    row("  per class", javaBean[0] - plain[0], javaBean[1] - plain[1], sources.classCount());
+    row("BoundSetterHandler", boundSetters[0] - javaBean[0], boundSetters[1] - javaBean[1], 1);
+    row("  per field", boundSetters[0] - javaBean[0], boundSetters[1] - javaBean[1],
+        sources.classCount() * sources.fieldCount());
+    System.out.println();
+  }
+
+  private static void row(String label, long wallNanos, long allocatedBytes, int divisor) {
+    System.out.printf("  %-28s %12.3f %12.1f%n", label, wallNanos / 1000000d / divisor,
+        allocatedBytes / 1024d / divisor);
+  }
+
+  /** Adds up the wall time and the bytes allocated by the thread that compiles each file. */
+  private static class CompilationListener extends RunListener {
+    private final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    long wallNanos;
+    long allocatedBytes;
+    Failure error;
+
+    private long startNanos;
+    private long startBytes;
+
+    @Override public void testStarted(Description description) {
+      startBytes = allocatedBytes();
+      startNanos = System.nanoTime();
+    }
+
+    @Override public void testFinished(Description description) {
+      wallNanos += System.nanoTime() - startNanos;
+      allocatedBytes += allocatedBytes() - startBytes;
+    }
+
+    /** The synthetic beans are never expected to match their (empty) "expected" files, only crashes count. */
+    @Override public void testFailure(Failure failure) {
+      if (!(failure.getException() instanceof AssertionError)) error = failure;
+    }
+
+    private long allocatedBytes() {
+      return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import java.io.*;
+
+/**
+ * Writes synthetic beans, one class per file, for the handlers to process.
+ *
+ * @author Alex Ruiz
+ */
+class SyntheticSources {
+
+  /** How much of each bean is annotated, which decides the handlers that have work to do. */
+  enum Variant {
+    /** No annotations: measures parsing and lombok itself, which the other variants subtract. */
+    PLAIN,
+    /** {@code @GenerateJavaBean} on each class: adds the cost of {@code JavaBeanHandler}. */
+    JAVA_BEAN,
+    /** {@code @GenerateJavaBean} on each class and {@code @GenerateBoundSetter} on each field: adds the cost of
+     * {@code BoundSetterHandler}. */
+    BOUND_SETTERS
+  }
+
+  private static final String[] FIELD_TYPES = { "String", "int", "long", "double", "boolean", "Object" };
+
+  private final int classCount;
+  private final int fieldCount;
+
+  SyntheticSources(int classCount, int fieldCount) {
+    this.classCount = classCount;
+    this.fieldCount = fieldCount;
+  }
+
+  /**
+   * Replaces the contents of the given directories with the synthetic beans of the given variant, and an empty
+   * "expected" file for each of them.
+   * @param variant how much of each bean is annotated.
+   * @param sources the directory to write the beans to.
+   * @param expected the directory to write the empty "expected" files to.
+   * @throws IOException if any of the files cannot be written.
+   */
+  void write(Variant variant, File sources, File expected) throws IOException {
+    clear(sources);
+    clear(expected);
+    for (int i = 0; i < classCount; i++) {
+      String className = "Bean" + i;
+      write(new File(sources, className + ".java"), bean(variant, className));
+      write(new File(expected, className + ".java"), "");
+    }
+  }
+
+  private String bean(Variant variant, String className) {
+    StringBuilder b = new StringBuilder();
+    b.append("import lombok.GenerateBoundSetter;\n");
+    b.append("import lombok.GenerateJavaBean;\n\n");
+    if (variant != Variant.PLAIN) b.append("@GenerateJavaBean\n");
+    b.append("class ").append(className).append(" {\n");
+    for (int i = 0; i < fieldCount; i++) {
+      b.append("  ");
+      if (variant == Variant.BOUND_SETTERS) b.append("@GenerateBoundSetter ");
+      b.append("private ").append(FIELD_TYPES[i % FIELD_TYPES.length]).append(" field").append(i).append(";\n");
+    }
+    return b.append("}\n").toString();
+  }
+
+  private static void clear(File directory) throws IOException {
+    File[] files = directory.listFiles();
+    if (files != null) for (File file : files) file.delete();
+    if (!directory.isDirectory() && !directory.mkdirs()) throw new IOException("Unable to create " + directory);
+  }
+
+  private static void write(File file, String contents) throws IOException {
+    Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+    try {
+      writer.write(contents);
+    } finally {
+      writer.close();
+    }
+  }
+
+  int classCount() {
+    return classCount;
+  }
+
+  int fieldCount() {
+    return fieldCount;
+  }
+}
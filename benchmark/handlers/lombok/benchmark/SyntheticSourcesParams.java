@@ -0,0 +1,64 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import static lombok.DirectoryRunner.Compiler.*;
+
+import java.io.File;
+
+import lombok.DirectoryRunner;
+import lombok.DirectoryRunner.Compiler;
+import lombok.DirectoryRunner.TestParams;
+
+/**
+ * Points a {@link DirectoryRunner} to the synthetic beans written by {@link SyntheticSources}.
+ *
+ * @author Alex Ruiz
+ */
+public abstract class SyntheticSourcesParams implements TestParams {
+
+  static final File SOURCES = new File("build/benchmark/handlers/before");
+  static final File EXPECTED = new File("build/benchmark/handlers/after");
+
+  @Override public boolean printErrors() {
+    return false;
+  }
+
+  @Override public File getBeforeDirectory() {
+    return SOURCES;
+  }
+
+  @Override public File getAfterDirectory() {
+    return EXPECTED;
+  }
+
+  @Override public File getMessagesDirectory() {
+    return EXPECTED;
+  }
+
+  /** Runs the javac handlers, through delombok. */
+  public static class Javac extends SyntheticSourcesParams {
+    @Override public Compiler getCompiler() {
+      return DELOMBOK;
+    }
+  }
+
+  /** Runs the eclipse handlers. */
+  public static class Ecj extends SyntheticSourcesParams {
+    @Override public Compiler getCompiler() {
+      return ECJ;
+    }
+  }
+}
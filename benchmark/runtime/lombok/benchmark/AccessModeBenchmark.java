@@ -0,0 +1,58 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the throughput of setters of {@code volatile} properties, for each access mode of a bound setter: reading
+ * the field back after a {@code volatile} store ({@code DECLARED}), passing the parameter to listeners instead
+ * ({@code VOLATILE}), and writing the field with a release store ({@code RELEASE}.) Setters are measured with and
+ * without a listener.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AccessModeBenchmark {
+
+  @Param({ "false", "true" }) public boolean listening;
+
+  private AccessModeBean bean;
+  private int next;
+
+  @Setup public void setUp() {
+    bean = new AccessModeBean();
+    if (listening) bean.addPropertyChangeListener(new RecordingListener());
+  }
+
+  @Benchmark public void declared() {
+    bean.setDeclaredCount(next++);
+  }
+
+  @Benchmark public void volatileAccess() {
+    bean.setVolatileCount(next++);
+  }
+
+  @Benchmark public void release() {
+    bean.setReleaseCount(next++);
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the throughput of several threads writing the same property, when every write must notify listeners with
+ * the value it actually replaced: by holding the lock of the bean around the bound setter, and by calling the generated
+ * {@code getAndSet} method, which replaces the value atomically without locking.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AtomicUpdateBenchmark {
+
+  private AtomicUpdateBean bean;
+
+  @Setup public void setUp() {
+    bean = new AtomicUpdateBean();
+    bean.addPropertyChangeListener(new RecordingListener());
+  }
+
+  /** Gives each thread its own sequence of values, so every write is an actual change. */
+  @State(Scope.Thread)
+  public static class Values {
+    int next;
+  }
+
+  @Benchmark @Threads(4) public void synchronizedSetter(Values values) {
+    synchronized (bean) {
+      bean.setCount(values.next++);
+    }
+  }
+
+  @Benchmark @Threads(4) public int getAndSet(Values values) {
+    return bean.getAndSetCount(values.next++);
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures how much memory it takes to create a bean that never gets any listeners, for each listener registry. Compare
+ * the {@code gc.alloc.rate.norm} metric of the GC profiler ('ant benchmark' runs it by default), which reports the
+ * bytes allocated per bean.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanFootprintBenchmark {
+
+  @Benchmark public Object propertyChangeSupport() {
+    return new PropertyChangeSupportBean();
+  }
+
+  @Benchmark public Object lazyPropertyChangeSupport() {
+    return new LazyPropertyChangeSupportBean();
+  }
+
+  @Benchmark public Object copyOnWrite() {
+    return new CopyOnWriteBean();
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import static lombok.EqualityCheck.EQUALS;
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+
+/**
+ * JavaBean that has a bound setter for each kind of property, to measure the generated setters one type at a time.
+ *
+ * @author Alex Ruiz
+ */
+@GenerateJavaBean
+public class BoundSetterBean {
+
+  @GenerateBoundSetter private String name;
+  @GenerateBoundSetter private int count;
+  @GenerateBoundSetter private long id;
+  @GenerateBoundSetter private double weight;
+  @GenerateBoundSetter private boolean active;
+  @GenerateBoundSetter(equalityCheck = EQUALS) private String status;
+}
@@ -0,0 +1,83 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the throughput of the generated bound setters, for each kind of property, when the value changes and when
+ * the same value is written again.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BoundSetterBenchmark {
+
+  @Param({ "0", "1", "10", "100" })
+  int listenerCount;
+
+  private BoundSetterBean bean;
+
+  @Setup public void setUp() {
+    bean = new BoundSetterBean();
+    for (int i = 0; i < listenerCount; i++) bean.addPropertyChangeListener(new RecordingListener());
+  }
+
+  /** Gives each thread its own sequence of values, so every write is an actual change. */
+  @State(Scope.Thread)
+  public static class Values {
+    final String[] names = { "Frodo", "Sam" };
+    int next;
+  }
+
+  @Benchmark public void setString(Values values) {
+    bean.setName(values.names[values.next++ & 1]);
+  }
+
+  @Benchmark public void setInt(Values values) {
+    bean.setCount(values.next++);
+  }
+
+  @Benchmark @Threads(4) public void setIntContended(Values values) {
+    bean.setCount(values.next++);
+  }
+
+  @Benchmark public void setLong(Values values) {
+    bean.setId(values.next++);
+  }
+
+  @Benchmark public void setDouble(Values values) {
+    bean.setWeight(values.next++);
+  }
+
+  @Benchmark public void setBoolean(Values values) {
+    bean.setActive((values.next++ & 1) == 0);
+  }
+
+  @Benchmark public void setSameString() {
+    bean.setName("Frodo");
+  }
+
+  @Benchmark public void setSameStringWithEqualityCheck() {
+    bean.setStatus("Frodo");
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the throughput of a setter whose changes are received by a property change listener, which gets a new boxed
+ * event on every change, and by a change callback, which gets the old and new values as {@code long} bits. Run with the
+ * GC profiler, the results show that the callback does not allocate.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChangeCallbackBenchmark {
+
+  private ChangeCallbackBean listenedBean;
+  private ChangeCallbackBean calledBackBean;
+  private int next;
+
+  @Setup public void setUp() {
+    listenedBean = new ChangeCallbackBean();
+    listenedBean.addPropertyChangeListener(new RecordingListener());
+    calledBackBean = new ChangeCallbackBean();
+    calledBackBean.addChangeCallback(new RecordingCallback());
+  }
+
+  @Benchmark public void propertyChangeListener() {
+    listenedBean.setCount(next++);
+  }
+
+  @Benchmark public void changeCallback() {
+    calledBackBean.setCount(next++);
+  }
+
+  private static class RecordingCallback implements ChangeCallbackBean.ChangeCallback {
+
+    long lastBits;
+    Object lastValue;
+
+    @Override public void onChange(ChangeCallbackBean source, int propertyOrdinal, long oldBits, long newBits) {
+      lastBits = newBits;
+    }
+
+    @Override public void onChange(ChangeCallbackBean source, int propertyOrdinal, Object oldValue, Object newValue) {
+      lastValue = newValue;
+    }
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+
+/**
+ * JavaBean that journals the changes of its properties, and that can also take a snapshot of all its properties.
+ *
+ * @author Alex Ruiz
+ */
+@GenerateJavaBean(changeJournal = true)
+@GenerateBoundSetter
+public class ChangeJournalBean {
+
+  static final int PROPERTY_COUNT = 32;
+
+  private int p0;
+  private int p1;
+  private int p2;
+  private int p3;
+  private int p4;
+  private int p5;
+  private int p6;
+  private int p7;
+  private int p8;
+  private int p9;
+  private int p10;
+  private int p11;
+  private int p12;
+  private int p13;
+  private int p14;
+  private int p15;
+  private int p16;
+  private int p17;
+  private int p18;
+  private int p19;
+  private int p20;
+  private int p21;
+  private int p22;
+  private int p23;
+  private int p24;
+  private int p25;
+  private int p26;
+  private int p27;
+  private int p28;
+  private int p29;
+  private int p30;
+  private int p31;
+
+  Object[] snapshot() {
+    return new Object[] { p0, p1, p2, p3, p4, p5, p6, p7, p8, p9, p10, p11, p12, p13, p14, p15, p16, p17, p18, p19, p20,
+        p21, p22, p23, p24, p25, p26, p27, p28, p29, p30, p31 };
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of finding out what changed in a bean since the last time its changes were shipped, when the
+ * bean is snapshot and compared with the previous snapshot, and when its change journal is drained. Each benchmark
+ * writes one property first.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChangeJournalBenchmark {
+
+  private ChangeJournalBean bean;
+  private Object[] lastSnapshot;
+  private ChangeJournalBean.ChangeConsumer consumer;
+  private int next;
+
+  @Setup public void setUp(final Blackhole blackhole) {
+    bean = new ChangeJournalBean();
+    lastSnapshot = bean.snapshot();
+    consumer = new ChangeJournalBean.ChangeConsumer() {
+      @Override public void accept(int propertyOrdinal, Object newValue) {
+        blackhole.consume(newValue);
+      }
+    };
+  }
+
+  @Benchmark public void snapshotDiff(Blackhole blackhole) {
+    bean.setP3(next++);
+    Object[] snapshot = bean.snapshot();
+    for (int ordinal = 0; ordinal < ChangeJournalBean.PROPERTY_COUNT; ordinal++)
+      if (!snapshot[ordinal].equals(lastSnapshot[ordinal])) blackhole.consume(snapshot[ordinal]);
+    lastSnapshot = snapshot;
+  }
+
+  @Benchmark public void journal() {
+    bean.setP3(next++);
+    bean.drainChanges(consumer);
+  }
+}
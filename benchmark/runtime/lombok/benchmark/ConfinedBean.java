@@ -0,0 +1,31 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import static lombok.Threading.CONFINED;
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+
+/**
+ * JavaBean, used by only one thread, that keeps its listeners in a plain array.
+ *
+ * @author Alex Ruiz
+ */
+@GenerateJavaBean(threading = CONFINED)
+public class ConfinedBean {
+
+  @GenerateBoundSetter private String name;
+  @GenerateBoundSetter private int count;
+}
@@ -0,0 +1,56 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the throughput of several threads incrementing the same property: by holding the lock of the bean around
+ * {@code setRequests(getRequests() + 1)}, by calling the generated {@code incrementRequests} method, which notifies
+ * listeners of every increment, and by calling an {@code increment} method that only notifies every 1000th.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CounterBenchmark {
+
+  private CounterBean bean;
+
+  @Setup public void setUp() {
+    bean = new CounterBean();
+    bean.addPropertyChangeListener(new RecordingListener());
+  }
+
+  @Benchmark @Threads(4) public void synchronizedSetter() {
+    synchronized (bean) {
+      bean.setRequests(bean.getRequests() + 1);
+    }
+  }
+
+  @Benchmark @Threads(4) public int increment() {
+    return bean.incrementRequests();
+  }
+
+  @Benchmark @Threads(4) public int coalescedIncrement() {
+    return bean.incrementCoalescedRequests();
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the cost of finding out which properties of a bean were written, when a listener collects the names of the
+ * changed properties in a set, and when the bean records writes in its generated dirty-tracking bitset. Each benchmark
+ * writes two properties, reads the names of the dirty properties and clears them, as a form that saves a bean would.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DirtyTrackingBenchmark {
+
+  private PropertyChangeSupportBean propertyChangeSupportBean;
+  private DirtyPropertiesListener dirtyPropertiesListener;
+  private DirtyTrackingBean dirtyTrackingBean;
+  private int next;
+
+  @Setup public void setUp() {
+    propertyChangeSupportBean = new PropertyChangeSupportBean();
+    dirtyPropertiesListener = new DirtyPropertiesListener();
+    propertyChangeSupportBean.addPropertyChangeListener(dirtyPropertiesListener);
+    dirtyTrackingBean = new DirtyTrackingBean();
+  }
+
+  @Benchmark public String[] listener() {
+    propertyChangeSupportBean.setCount(next++);
+    propertyChangeSupportBean.setName(next % 2 == 0 ? "even" : "odd");
+    Set<String> dirty = dirtyPropertiesListener.dirtyProperties;
+    String[] names = dirty.toArray(new String[dirty.size()]);
+    dirty.clear();
+    return names;
+  }
+
+  @Benchmark public String[] bitset() {
+    dirtyTrackingBean.setCount(next++);
+    dirtyTrackingBean.setName(next % 2 == 0 ? "even" : "odd");
+    String[] names = dirtyTrackingBean.dirtyProperties();
+    dirtyTrackingBean.clearDirty();
+    return names;
+  }
+
+  private static class DirtyPropertiesListener implements PropertyChangeListener {
+    final Set<String> dirtyProperties = new HashSet<String>();
+
+    @Override public void propertyChange(PropertyChangeEvent event) {
+      dirtyProperties.add(event.getPropertyName());
+    }
+  }
+}
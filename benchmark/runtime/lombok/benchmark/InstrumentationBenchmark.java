@@ -0,0 +1,72 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the overhead of instrumented setters, which count writes, no-op writes, notifications and listener time in
+ * striped counters, compared to the setters of a bean that is not instrumented, from one thread and from four threads
+ * writing the same property.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstrumentationBenchmark {
+
+  @Param({ "0", "1" })
+  int listenerCount;
+
+  private BoundSetterBean bean;
+  private InstrumentedBean instrumentedBean;
+
+  @Setup public void setUp() {
+    bean = new BoundSetterBean();
+    instrumentedBean = new InstrumentedBean();
+    for (int i = 0; i < listenerCount; i++) {
+      bean.addPropertyChangeListener(new RecordingListener());
+      instrumentedBean.addPropertyChangeListener(new RecordingListener());
+    }
+  }
+
+  /** Gives each thread its own sequence of values, so every write is an actual change. */
+  @State(Scope.Thread)
+  public static class Values {
+    int next;
+  }
+
+  @Benchmark public void setInt(Values values) {
+    bean.setCount(values.next++);
+  }
+
+  @Benchmark public void setIntInstrumented(Values values) {
+    instrumentedBean.setCount(values.next++);
+  }
+
+  @Benchmark @Threads(4) public void setIntContended(Values values) {
+    bean.setCount(values.next++);
+  }
+
+  @Benchmark @Threads(4) public void setIntInstrumentedContended(Values values) {
+    instrumentedBean.setCount(values.next++);
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures how long it takes to add a listener and remove it again from a bean that already has many listeners, for
+ * the default registry, the copy-on-write array and the striped registry. The default and copy-on-write registries
+ * copy or scan all the listeners on each change; the striped registry only touches one stripe.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListenerChurnBenchmark {
+
+  @Param({ "10", "1000", "10000" })
+  int listenerCount;
+
+  private PropertyChangeSupportBean propertyChangeSupportBean;
+  private CopyOnWriteBean copyOnWriteBean;
+  private StripedBean stripedBean;
+  private final RecordingListener churningListener = new RecordingListener();
+
+  @Setup public void setUp() {
+    propertyChangeSupportBean = new PropertyChangeSupportBean();
+    copyOnWriteBean = new CopyOnWriteBean();
+    stripedBean = new StripedBean();
+    for (int i = 0; i < listenerCount; i++) {
+      propertyChangeSupportBean.addPropertyChangeListener(new RecordingListener());
+      copyOnWriteBean.addPropertyChangeListener(new RecordingListener());
+      stripedBean.addPropertyChangeListener(new RecordingListener());
+    }
+  }
+
+  @Benchmark public void propertyChangeSupport() {
+    propertyChangeSupportBean.addPropertyChangeListener(churningListener);
+    propertyChangeSupportBean.removePropertyChangeListener(churningListener);
+  }
+
+  @Benchmark public void copyOnWrite() {
+    copyOnWriteBean.addPropertyChangeListener(churningListener);
+    copyOnWriteBean.removePropertyChangeListener(churningListener);
+  }
+
+  @Benchmark public void striped() {
+    stripedBean.addPropertyChangeListener(churningListener);
+    stripedBean.removePropertyChangeListener(churningListener);
+  }
+}
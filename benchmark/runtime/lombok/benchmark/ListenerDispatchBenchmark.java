@@ -0,0 +1,65 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures how long a single change takes to reach every listener, for each listener registry. The results include the
+ * latency percentiles, so the occasional slow change shows up next to the typical one.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListenerDispatchBenchmark {
+
+  @Param({ "0", "1", "10", "100" })
+  int listenerCount;
+
+  private PropertyChangeSupportBean propertyChangeSupportBean;
+  private LazyPropertyChangeSupportBean lazyPropertyChangeSupportBean;
+  private CopyOnWriteBean copyOnWriteBean;
+  private int next;
+
+  @Setup public void setUp() {
+    propertyChangeSupportBean = new PropertyChangeSupportBean();
+    lazyPropertyChangeSupportBean = new LazyPropertyChangeSupportBean();
+    copyOnWriteBean = new CopyOnWriteBean();
+    for (int i = 0; i < listenerCount; i++) {
+      propertyChangeSupportBean.addPropertyChangeListener(new RecordingListener());
+      lazyPropertyChangeSupportBean.addPropertyChangeListener(new RecordingListener());
+      copyOnWriteBean.addPropertyChangeListener(new RecordingListener());
+    }
+  }
+
+  @Benchmark public void propertyChangeSupport() {
+    propertyChangeSupportBean.setCount(next++);
+  }
+
+  @Benchmark public void lazyPropertyChangeSupport() {
+    lazyPropertyChangeSupportBean.setCount(next++);
+  }
+
+  @Benchmark public void copyOnWrite() {
+    copyOnWriteBean.setCount(next++);
+  }
+}
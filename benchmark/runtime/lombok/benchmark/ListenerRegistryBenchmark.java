@@ -0,0 +1,83 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the throughput of bound setters backed by a {@code PropertyChangeSupport} (created eagerly or lazily)
+ * against bound setters backed by a copy-on-write array, with one writer thread and with several writer threads
+ * sharing the same bean.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListenerRegistryBenchmark {
+
+  @Param({ "0", "1", "10", "100" })
+  int listenerCount;
+
+  private PropertyChangeSupportBean propertyChangeSupportBean;
+  private LazyPropertyChangeSupportBean lazyPropertyChangeSupportBean;
+  private CopyOnWriteBean copyOnWriteBean;
+
+  @Setup public void setUp() {
+    propertyChangeSupportBean = new PropertyChangeSupportBean();
+    lazyPropertyChangeSupportBean = new LazyPropertyChangeSupportBean();
+    copyOnWriteBean = new CopyOnWriteBean();
+    for (int i = 0; i < listenerCount; i++) {
+      propertyChangeSupportBean.addPropertyChangeListener(new RecordingListener());
+      lazyPropertyChangeSupportBean.addPropertyChangeListener(new RecordingListener());
+      copyOnWriteBean.addPropertyChangeListener(new RecordingListener());
+    }
+  }
+
+  /** Gives each thread its own sequence of values, so every write is an actual change. */
+  @State(Scope.Thread)
+  public static class Values {
+    int next;
+  }
+
+  @Benchmark public void propertyChangeSupport(Values values) {
+    propertyChangeSupportBean.setCount(values.next++);
+  }
+
+  @Benchmark @Threads(4) public void propertyChangeSupportContended(Values values) {
+    propertyChangeSupportBean.setCount(values.next++);
+  }
+
+  @Benchmark public void lazyPropertyChangeSupport(Values values) {
+    lazyPropertyChangeSupportBean.setCount(values.next++);
+  }
+
+  @Benchmark @Threads(4) public void lazyPropertyChangeSupportContended(Values values) {
+    lazyPropertyChangeSupportBean.setCount(values.next++);
+  }
+
+  @Benchmark public void copyOnWrite(Values values) {
+    copyOnWriteBean.setCount(values.next++);
+  }
+
+  @Benchmark @Threads(4) public void copyOnWriteContended(Values values) {
+    copyOnWriteBean.setCount(values.next++);
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import static java.lang.Character.*;
+
+import java.beans.PropertyChangeSupport;
+import java.util.concurrent.TimeUnit;
+
+import lombok.core.handlers.TransformationsUtil;
+import lombok.core.util.Names;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the names derived by the handlers (qualified name segments, constant names and setter names) when they
+ * are looked up in the caches of <code>{@link Names}</code> and when they are computed on each call, as they were
+ * before the caches.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NamesBenchmark {
+
+  @Param({ "firstName" })
+  String propertyName;
+
+  @Benchmark public String[] splitNameOf() {
+    return Names.splitNameOf(PropertyChangeSupport.class);
+  }
+
+  @Benchmark public String[] splitNameOfUncached() {
+    return PropertyChangeSupport.class.getName().split("\\.");
+  }
+
+  @Benchmark public String nameOfConstantBasedOnProperty() {
+    return Names.nameOfConstantBasedOnProperty(propertyName);
+  }
+
+  @Benchmark public String nameOfConstantBasedOnPropertyUncached() {
+    char[] chars = propertyName.toCharArray();
+    StringBuilder b = new StringBuilder();
+    b.append("PROP_");
+    for (int i = 0; i < chars.length; i++) {
+      char c = chars[i];
+      if (isUpperCase(c) && i > 0) b.append('_');
+      if (isLowerCase(c)) c = toUpperCase(c);
+      b.append(c);
+    }
+    return b.toString();
+  }
+
+  @Benchmark public String nameOfSetter() {
+    return Names.nameOfSetter(propertyName);
+  }
+
+  @Benchmark public String nameOfSetterUncached() {
+    return TransformationsUtil.toSetterName(propertyName);
+  }
+}
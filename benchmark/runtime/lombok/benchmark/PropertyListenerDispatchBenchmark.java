@@ -0,0 +1,63 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures how long a single change takes to reach the listeners registered for one property, comparing the
+ * {@code PropertyChangeSupport} registry, which looks up the listeners of the property by name on every change, with
+ * the indexed registry, which reaches them by the ordinal of the property. When the listeners are registered for a
+ * property other than the changed one, the results show the cost of finding out that nobody is listening.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PropertyListenerDispatchBenchmark {
+
+  @Param({ "1", "10", "100" })
+  int listenerCount;
+
+  @Param({ "count", "name" })
+  String listenedProperty;
+
+  private NamedPropertyChangeSupportBean propertyChangeSupportBean;
+  private IndexedBean indexedBean;
+  private int next;
+
+  @Setup public void setUp() {
+    propertyChangeSupportBean = new NamedPropertyChangeSupportBean();
+    indexedBean = new IndexedBean();
+    for (int i = 0; i < listenerCount; i++) {
+      propertyChangeSupportBean.listenTo(listenedProperty, new RecordingListener());
+      indexedBean.addPropertyChangeListener(listenedProperty, new RecordingListener());
+    }
+  }
+
+  @Benchmark public void propertyChangeSupport() {
+    propertyChangeSupportBean.setCount(next++);
+  }
+
+  @Benchmark public void indexed() {
+    indexedBean.setCount(next++);
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the throughput of a setter on beans that are only used by one thread, when the bean keeps its listeners in
+ * the default, thread-safe registry, in a copy-on-write array read with {@code volatile} semantics, and in the plain
+ * array of a thread-confined bean.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ThreadConfinedBenchmark {
+
+  @Param({ "0", "1", "10" })
+  int listenerCount;
+
+  private PropertyChangeSupportBean propertyChangeSupportBean;
+  private CopyOnWriteBean copyOnWriteBean;
+  private ConfinedBean confinedBean;
+  private int next;
+
+  @Setup public void setUp() {
+    propertyChangeSupportBean = new PropertyChangeSupportBean();
+    copyOnWriteBean = new CopyOnWriteBean();
+    confinedBean = new ConfinedBean();
+    for (int i = 0; i < listenerCount; i++) {
+      propertyChangeSupportBean.addPropertyChangeListener(new RecordingListener());
+      copyOnWriteBean.addPropertyChangeListener(new RecordingListener());
+      confinedBean.addPropertyChangeListener(new RecordingListener());
+    }
+  }
+
+  @Benchmark public void shared() {
+    propertyChangeSupportBean.setCount(next++);
+  }
+
+  @Benchmark public void sharedCopyOnWrite() {
+    copyOnWriteBean.setCount(next++);
+  }
+
+  @Benchmark public void confined() {
+    confinedBean.setCount(next++);
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import java.beans.PropertyChangeEvent;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the cost of a short-lived listener (e.g. a view) observing a long-lived bean for a single change: added
+ * with {@code addPropertyChangeListener} and removed explicitly, or added with {@code addWeakPropertyChangeListener}
+ * and simply dropped. The weak listener stays registered, and keeps receiving events, until it is collected and
+ * expunged, so this includes the cost of notifying the listeners that were dropped since the last garbage collection.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WeakListenerBenchmark {
+
+  private WeakListenersBean bean;
+  private int next;
+
+  @Setup public void setUp() {
+    bean = new WeakListenersBean();
+  }
+
+  @Benchmark public PropertyChangeEvent removedListener() {
+    RecordingListener view = new RecordingListener();
+    bean.addPropertyChangeListener(view);
+    bean.setCount(next++);
+    bean.removePropertyChangeListener(view);
+    return view.lastEvent;
+  }
+
+  @Benchmark public PropertyChangeEvent droppedWeakListener() {
+    RecordingListener view = new RecordingListener();
+    bean.addWeakPropertyChangeListener(view);
+    bean.setCount(next++);
+    return view.lastEvent;
+  }
+}
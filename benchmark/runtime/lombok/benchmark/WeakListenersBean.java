@@ -0,0 +1,31 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.benchmark;
+
+import static lombok.ListenerRegistry.STRIPED;
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+
+/**
+ * JavaBean that accepts weak property change listeners. Its listeners are striped, so that adding and removing a
+ * listener does not get slower with the listeners that were dropped but not collected yet.
+ *
+ * @author Alex Ruiz
+ */
+@GenerateJavaBean(registry = STRIPED, weakListeners = true)
+public class WeakListenersBean {
+
+  @GenerateBoundSetter private int count;
+}
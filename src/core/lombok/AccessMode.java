@@ -0,0 +1,45 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok;
+
+/**
+ * How a setter generated for a field annotated with <code>{@link GenerateBoundSetter}</code> writes the field, and
+ * where it gets the new value it passes to listeners and change callbacks.
+ *
+ * @author Alex Ruiz
+ */
+public enum AccessMode {
+
+  /**
+   * The setter reads and writes the field as it is declared, and reads the field again to get the new value it passes
+   * to listeners.
+   */
+  DECLARED,
+
+  /**
+   * The field must be {@code volatile}. The setter reads the field once, for the old value, writes it once, and passes
+   * its parameter to listeners as the new value, so it does not pay for a {@code volatile} load after the store.
+   */
+  VOLATILE,
+
+  /**
+   * The field must be a {@code volatile} instance field of type {@code int}, {@code long} or a non-generic reference
+   * type. The setter writes the field with {@code lazySet} on a generated field updater: a release store, which makes
+   * the writes that precede it visible before the new value, but does not wait for the new value to be visible to other
+   * threads as a {@code volatile} store does. Like {@code VOLATILE}, the setter passes its parameter to listeners as
+   * the new value.
+   */
+  RELEASE;
+}
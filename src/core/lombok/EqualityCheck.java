@@ -0,0 +1,43 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok;
+
+/**
+ * How a setter generated for a field annotated with <code>{@link GenerateBoundSetter}</code> detects that the new value
+ * of the field is the same as the current one, in which case it returns right away without changing the field or
+ * notifying any listener. For primitive fields, {@code IDENTITY} and {@code EQUALS} both compare values with
+ * {@code ==} ({@code float} and {@code double} values are compared using {@code Float.compare} and
+ * {@code Double.compare}.)
+ *
+ * @author Alex Ruiz
+ */
+public enum EqualityCheck {
+
+  /**
+   * The setter always changes the field. Listeners are not notified when the old and new values are equal.
+   */
+  NONE,
+
+  /**
+   * The setter returns right away if the new value is the same instance as the current value.
+   */
+  IDENTITY,
+
+  /**
+   * The setter returns right away if the new value is the same instance as the current value, or if both are not
+   * {@code null} and equal (according to {@code equals}.)
+   */
+  EQUALS;
+}
@@ -0,0 +1,45 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok;
+
+import java.util.concurrent.Executor;
+
+/**
+ * The ways a class annotated with <code>{@link GenerateJavaBean}</code> can deliver property change events to its
+ * listeners.
+ *
+ * @author Alex Ruiz
+ */
+public enum EventDispatch {
+
+  /**
+   * Listeners are notified by the thread that changes the property, before the setter returns.
+   */
+  SYNC,
+
+  /**
+   * Events are added to a queue owned by the bean and delivered to the listeners by an
+   * <code>{@link Executor}</code>, so the thread that changes the property never runs listener code. Events of the
+   * same bean are delivered one at a time, in the order the properties were changed. The executor is shared by all the
+   * instances of the bean's class and can be replaced by calling the generated static method
+   * {@code setPropertyChangeExecutor(Executor)}. The default executor starts a virtual thread per task when the JDK
+   * supports virtual threads, and uses a cached pool of daemon threads otherwise, so that it never keeps the JVM alive
+   * once the application has exited. An application that needs every event delivered before exiting should install
+   * an executor of its own and shut it down. An exception thrown by a listener reaches the executor, and the remaining
+   * queued events are delivered by a new task. If the executor rejects a task, the exception reaches the thread that
+   * submitted it, and the queued events are delivered by the next task the executor accepts.
+   */
+  ASYNC;
+}
@@ -14,9 +14,11 @@
  */
 package lombok;
 
-import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.*;
 import static java.lang.annotation.RetentionPolicy.SOURCE;
 import static lombok.AccessLevel.PUBLIC;
+import static lombok.AccessMode.DECLARED;
+import static lombok.EqualityCheck.NONE;
 
 import java.beans.PropertyChangeSupport;
 import java.lang.annotation.*;
@@ -24,7 +26,7 @@ import java.lang.annotation.*;
 import lombok.AccessLevel;
 
 /**
- * Instructs lombok to generate a "bound" setter for an annotated field.
+ * Instructs lombok to generate a "bound" setter for an annotated field, or for every field of an annotated class.
  * <p>
  * For example, given this class:
  * 
@@ -44,6 +46,10 @@ import lombok.AccessLevel;
  *   private String firstName;
  *   
  *   public void setFirstName(String value) {
+ *      if (!propertySupport.hasListeners(PROP_FIRST_NAME)) {
+ *        firstName = value;
+ *        return;
+ *      }
  *      String oldValue = firstName;
  *      firstName = value;
  *      propertySupport.firePropertyChange(PROP_FIRST_NAME, oldValue, firstName);
@@ -52,6 +58,11 @@ import lombok.AccessLevel;
  * </pre>
  * </p>
  * <p>
+ * Annotating a class is the same as annotating each of its fields, except for {@code static} and {@code final}
+ * fields, fields whose name starts with '$', and fields that have their own {@code @GenerateBoundSetter} (which takes
+ * precedence.) All the setters of the class are generated at once, which is cheaper for classes with many properties.
+ * </p>
+ * <p>
  * <strong>Note:</strong> The handler for this annotation assumes that the class declaring the annotated field has a
  * field of type <code>{@link PropertyChangeSupport}</code> with name "propertySupport." You can either add this
  * expected field manually or annotate the class with <code>{@link GenerateJavaBean}</code> to have lombok generate it
@@ -60,11 +71,52 @@ import lombok.AccessLevel;
  * 
  * @author Alex Ruiz
  */
-@Target(FIELD) @Retention(SOURCE)
+@Target({ FIELD, TYPE }) @Retention(SOURCE)
 public @interface GenerateBoundSetter {
   
   /**
    * If you want your setter to be non-public, you can specify an alternate access level here.
    */
   AccessLevel value() default PUBLIC;
+
+  /**
+   * Whether the setter should return right away, without changing the field or looking for listeners, when the new
+   * value is the same as the current one. This is useful for properties that are often set to the value they already
+   * have.
+   */
+  EqualityCheck equalityCheck() default NONE;
+
+  /**
+   * How the setter writes the field, and whether it reads the field again to get the new value it passes to listeners.
+   * {@code VOLATILE} and {@code RELEASE} require a {@code volatile} field, and spare concurrent readers of hot fields
+   * the fences they do not need (see <code>{@link AccessMode}</code>.)
+   */
+  AccessMode accessMode() default DECLARED;
+
+  /**
+   * Whether {@code compareAndSet} and {@code getAndSet} methods (e.g. {@code compareAndSetFirstName(expected, value)}
+   * and {@code getAndSetFirstName(value)}) should be generated along with the setter. They replace the value of the
+   * field atomically, with a field updater, and notify listeners once, with the value they actually replaced, even
+   * when other threads write the same property concurrently. The field must be a {@code volatile} instance field of
+   * type {@code int}, {@code long} or a non-generic reference type, and cannot be constrained.
+   */
+  boolean atomicUpdates() default false;
+
+  /**
+   * Whether {@code increment} and {@code addTo} methods (e.g. {@code incrementCount()} and {@code addToCount(delta)})
+   * should be generated along with the setter. They add to the value of the field atomically, without locking, with a
+   * field updater, and return the new value. The field must be a {@code volatile} instance field of type {@code int} or
+   * {@code long}, and cannot be constrained.
+   */
+  boolean counter() default false;
+
+  /**
+   * How many updates of a counter (see <code>{@link #counter()}</code>) a notification stands for. Only the updates
+   * that reach or cross a multiple of this number are passed to listeners and change callbacks, with the value they
+   * replaced. For example, with {@code notifyEvery = 100}, {@code incrementCount()} notifies the change from 99 to 100,
+   * but not the 99 changes before it. Multiples are found by rounding down, also below zero: going down, an update
+   * is notified when it leaves a multiple (e.g. from 0 to -1, or from 100 to 99.) The default, 1, notifies every
+   * update.
+   */
+  int notifyEvery() default 1;
 }
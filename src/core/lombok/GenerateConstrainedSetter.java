@@ -0,0 +1,76 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.SOURCE;
+import static lombok.AccessLevel.PUBLIC;
+
+import java.beans.VetoableChangeSupport;
+import java.lang.annotation.*;
+
+/**
+ * Instructs lombok to generate a "constrained" setter for an annotated field: a setter that gives vetoable change
+ * listeners the chance to reject the new value before it is set.
+ * <p>
+ * For example, given this class:
+ * 
+ * <pre>
+ * public class Person {
+ * 
+ *   &#64;GenerateConstrainedSetter private String firstName;
+ * }
+ * </pre>
+ * our lombok annotation handlers (for both javac and eclipse) will generate the AST nodes that correspond to this code:
+ * 
+ * <pre>
+ * public class Person {
+ * 
+ *   public static final String PROP_FIRST_NAME = "firstName";
+ *   
+ *   private String firstName;
+ *   
+ *   public void setFirstName(String value) throws PropertyVetoException {
+ *      if (vetoableSupport != null &amp;&amp; vetoableSupport.hasListeners(PROP_FIRST_NAME))
+ *        vetoableSupport.fireVetoableChange(PROP_FIRST_NAME, firstName, value);
+ *      firstName = value;
+ *   }
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * The setter does not create a <code>{@link VetoableChangeSupport}</code>, nor an event, unless a vetoable change
+ * listener has been registered for the property. If the field gets a bound setter as well (because it is annotated with
+ * <code>{@link GenerateBoundSetter}</code>, or its class is), the bound setter checks for vetoes first and then
+ * notifies the property change listeners as usual, and its access level is the one used.
+ * </p>
+ * <p>
+ * <strong>Note:</strong> The handler for this annotation assumes that the class declaring the annotated field has a
+ * field of type <code>{@link VetoableChangeSupport}</code> with name "vetoableSupport," which may be {@code null}.
+ * You can either add this expected field manually or annotate the class with <code>{@link GenerateJavaBean}</code> to
+ * have lombok generate it for you, along with the methods that add and remove vetoable change listeners. The
+ * generated field is created when the first listener is added.
+ * </p>
+ * 
+ * @author Alex Ruiz
+ */
+@Target(FIELD) @Retention(SOURCE)
+public @interface GenerateConstrainedSetter {
+
+  /**
+   * If you want your setter to be non-public, you can specify an alternate access level here.
+   */
+  AccessLevel value() default PUBLIC;
+}
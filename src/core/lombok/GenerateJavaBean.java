@@ -16,6 +16,9 @@ package lombok;
 
 import static java.lang.annotation.ElementType.*;
 import static java.lang.annotation.RetentionPolicy.SOURCE;
+import static lombok.EventDispatch.SYNC;
+import static lombok.ListenerRegistry.PROPERTY_CHANGE_SUPPORT;
+import static lombok.Threading.SHARED;
 
 import java.lang.annotation.*;
 
@@ -47,8 +50,107 @@ import java.lang.annotation.*;
  * }
  * </pre>
  * </p>
- *  
+ * <p>
+ * The generated code can be changed with these attributes, each documented below:
+ * <ul>
+ * <li><code>{@link #registry()}</code>: where listeners are kept (see <code>{@link ListenerRegistry}</code>)</li>
+ * <li><code>{@link #batchChanges()}</code>: coalesces the changes made between {@code beginBatch} and
+ * {@code endBatch}</li>
+ * <li><code>{@link #dispatch()}</code>: how events reach listeners (see <code>{@link EventDispatch}</code>)</li>
+ * <li><code>{@link #threading()}</code>: the threads the bean is used from (see <code>{@link Threading}</code>)</li>
+ * <li><code>{@link #changeCallbacks()}</code>: allocation-free callbacks, invoked with the ordinal of the property</li>
+ * <li><code>{@link #dirtyTracking()}</code>: a bitset of the properties changed since {@code clearDirty}</li>
+ * <li><code>{@link #changeJournal()}</code>: the last value of each property changed since {@code drainChanges}</li>
+ * <li><code>{@link #weakListeners()}</code>: listeners held through weak references</li>
+ * <li><code>{@link #instrumented()}</code>: per-property write and event counters</li>
+ * </ul>
+ * If any field of the class is annotated with <code>{@link GenerateConstrainedSetter}</code>, the class also gets the
+ * methods {@code addVetoableChangeListener} and {@code removeVetoableChangeListener}.
+ * </p>
+ *
  * @author Alex Ruiz
  */
-@Target(TYPE) @Retention(SOURCE) 
-public @interface GenerateJavaBean {}
+@Target(TYPE) @Retention(SOURCE)
+public @interface GenerateJavaBean {
+
+  /**
+   * Where the generated code keeps the registered property change listeners.
+   */
+  ListenerRegistry registry() default PROPERTY_CHANGE_SUPPORT;
+
+  /**
+   * Whether to generate the methods {@code beginBatch()} and {@code endBatch()}. Property changes made between these
+   * two calls are coalesced per property (keeping the first old value and the last new value) and delivered to the
+   * listeners when the outermost batch ends. Changes that restore the original value of a property are not delivered.
+   * Batches are not thread-safe: a batch must be started, filled and ended by the only thread writing to the bean.
+   */
+  boolean batchChanges() default false;
+
+  /**
+   * How property change events are delivered to the listeners.
+   */
+  EventDispatch dispatch() default SYNC;
+
+  /**
+   * The threads the bean is used from. <code>{@link Threading#CONFINED}</code> trades thread-safety for setters that
+   * notify listeners without any synchronization.
+   */
+  Threading threading() default SHARED;
+
+  /**
+   * Whether to generate the interface {@code ChangeCallback} and the methods {@code addChangeCallback} and
+   * {@code removeChangeCallback}. Change callbacks receive the ordinal of the changed property and its old and new
+   * values, without creating an event or boxing: values of primitive properties are passed as {@code long} bits
+   * (e.g. {@code Double.doubleToLongBits} for {@code double}, and 0 or 1 for {@code boolean}.) Callbacks are invoked
+   * by the setter itself, right after the field is written and only if the value changed, even if property changes
+   * are batched or dispatched asynchronously. Callbacks, dirty tracking and the change journal tell changes apart the
+   * same way, following the <code>{@link GenerateBoundSetter#equalityCheck() equalityCheck}</code> of the property: a
+   * value is unchanged if it is the same instance as the current one or, unless the check is
+   * <code>{@link EqualityCheck#IDENTITY}</code>, if both are not {@code null} and equal.
+   */
+  boolean changeCallbacks() default false;
+
+  /**
+   * Whether bound setters record, in a bitset indexed by property ordinal, that the value of their property changed,
+   * and to generate the methods {@code isDirty(String)}, {@code isDirty(int)}, {@code dirtyProperties()} and
+   * {@code clearDirty()}. {@code isDirty(int)} takes the ordinal of a property (e.g. {@code ORDINAL_FIRST_NAME}) and
+   * reads its bit directly, instead of comparing the name with the name of every property. A write that leaves the
+   * value unchanged (as change callbacks tell, see <code>{@link #changeCallbacks()}</code>) is not recorded. Recording
+   * a change costs a single bitwise OR, whether or not anybody is listening. The bitset is not synchronized: it is
+   * meant to be read and cleared by the thread writing to the bean (e.g. when its changes are flushed.)
+   */
+  boolean dirtyTracking() default false;
+
+  /**
+   * Whether bound setters add their new value to a change journal, and to generate the interface
+   * {@code ChangeConsumer} and the method {@code drainChanges(ChangeConsumer)}. The journal holds at most one entry per
+   * property: changing a property that is already in the journal replaces its value and keeps its position. A write
+   * that leaves the value unchanged (as change callbacks tell, see <code>{@link #changeCallbacks()}</code>) is not
+   * journaled, and does not lock the journal. Journaling and draining lock the journal, and the consumer is invoked
+   * once the lock has been released, so it may write to the bean. The lock only keeps the journal consistent with
+   * itself: a setter journals its value before writing the field, without holding the lock, so concurrent writers of
+   * the same property may leave the journal and the field holding different values. A bean whose journal feeds a
+   * replica must be written by a single thread at a time, like a dirty-tracking bean.
+   */
+  boolean changeJournal() default false;
+
+  /**
+   * Whether to generate the method {@code addWeakPropertyChangeListener}, which registers a listener held through a
+   * weak reference, so that the bean does not keep the listener (or anything it refers to) from being garbage
+   * collected. Listeners that were collected are removed from the bean the next time a weak listener is added, or the
+   * next time an event reaches them. Since that event may be delivered by the executor's thread, weak listeners cannot
+   * be used with both <code>{@link EventDispatch#ASYNC}</code> dispatch and <code>{@link Threading#CONFINED}</code>
+   * threading: removing a listener would write the listener array of the bean from a thread it is not confined to.
+   */
+  boolean weakListeners() default false;
+
+  /**
+   * Whether bound setters record their event traffic in the <code>{@link lombok.core.PropertyMetrics}</code> of their
+   * property, which can be read with <code>{@link lombok.core.BeanMetrics}</code> or, through JMX, from the MBean
+   * {@code lombok:type=BeanMetrics,name=<name of the class>}. Counters are striped, so that setters called from many
+   * threads do not contend on them. Instrumented JavaBeans need lombok-javabeans at runtime; JavaBeans that are not
+   * instrumented do not, and their setters are generated exactly as if this attribute did not exist. The MBean stays
+   * registered until {@code BeanMetrics.unregister} is called for the class.
+   */
+  boolean instrumented() default false;
+}
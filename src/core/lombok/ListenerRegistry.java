@@ -0,0 +1,73 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok;
+
+import java.beans.PropertyChangeSupport;
+
+/**
+ * The ways a class annotated with <code>{@link GenerateJavaBean}</code> can keep track of its property change
+ * listeners.
+ *
+ * @author Alex Ruiz
+ */
+public enum ListenerRegistry {
+
+  /**
+   * Listeners are stored in a field of type <code>{@link PropertyChangeSupport}</code> with name "propertySupport."
+   * Registering listeners and firing events are synchronized.
+   */
+  PROPERTY_CHANGE_SUPPORT,
+
+  /**
+   * Like <code>{@link #PROPERTY_CHANGE_SUPPORT}</code>, but the field "propertySupport" is {@code volatile}, starts as
+   * {@code null} and the <code>{@link PropertyChangeSupport}</code> is created (using compare-and-set) when the first
+   * listener is added. This is the best choice when many instances of a bean are kept in memory and only a few of them
+   * ever get listeners.
+   */
+  LAZY_PROPERTY_CHANGE_SUPPORT,
+
+  /**
+   * Listeners are stored in a {@code volatile} array that is replaced (using compare-and-set) every time a listener is
+   * added or removed. Firing an event only reads the current array, without any locking. This is the best choice for
+   * beans that fire many events, from many threads, to a set of listeners that rarely changes.
+   */
+  COPY_ON_WRITE,
+
+  /**
+   * Like <code>{@link #COPY_ON_WRITE}</code>, but also supports listeners of a single property, registered with
+   * {@code addPropertyChangeListener(String, PropertyChangeListener)}. Each bound property gets a constant {@code int}
+   * ordinal (e.g. "ORDINAL_FIRST_NAME") and the listeners of a single property are stored in a copy-on-write table,
+   * indexed by ordinal. The name of the property is resolved to its ordinal once, when the listener is added; firing an
+   * event reaches the listeners of the changed property with an array index, instead of the map lookup
+   * <code>{@link PropertyChangeSupport}</code> does on every event.
+   */
+  INDEXED,
+
+  /**
+   * Listeners are partitioned, by identity hash code, into a fixed number of stripes. Each stripe keeps its listeners
+   * in an <code>{@link java.util.IdentityHashMap IdentityHashMap}</code>, so adding or removing a listener takes
+   * constant time no matter how many listeners are registered, and only locks the stripe the listener belongs to.
+   * Firing an event reads a snapshot array of each stripe, without locking; adding or removing a listener only discards
+   * the snapshot of its own stripe, which is rebuilt by the next event. The stripes are created when the first listener
+   * is added, so beans that never get a listener don't pay for them. This is the best choice for beans that accumulate
+   * thousands of listeners, with frequent registration churn.
+   * <p>
+   * Unlike <code>{@link PropertyChangeSupport}</code>, this registry does not keep one entry per registration, in
+   * order. Listeners are compared by identity, so adding the same listener twice registers it once, and it is notified
+   * once per event. Listeners are notified in no particular order, not in the order they were added.
+   * </p>
+   */
+  STRIPED;
+}
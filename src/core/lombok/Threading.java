@@ -0,0 +1,39 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok;
+
+/**
+ * The threads a class annotated with <code>{@link GenerateJavaBean}</code> expects to be used from.
+ *
+ * @author Alex Ruiz
+ */
+public enum Threading {
+
+  /**
+   * Instances of the bean can be changed, and their listeners added and removed, from any thread. The listener
+   * registry is the one chosen with <code>{@link GenerateJavaBean#registry()}</code>.
+   */
+  SHARED,
+
+  /**
+   * Each instance of the bean is only used by the thread that created it (or by one thread at a time, handed over
+   * safely.) Listeners are stored in a plain array, which is copied and replaced every time a listener is added or
+   * removed, and read by setters without any locking, {@code volatile} read or compare-and-set. This is the best
+   * choice for beans that are changed in tight loops by a single thread. The registry chosen with
+   * <code>{@link GenerateJavaBean#registry()}</code> is ignored, with a warning if it is not the default, so listeners
+   * of a single property are not supported.
+   */
+  CONFINED;
+}
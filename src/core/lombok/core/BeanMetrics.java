@@ -0,0 +1,162 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.core;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Registry of the metrics of the JavaBeans annotated with {@code @GenerateJavaBean(instrumented = true)}, which holds
+ * one <code>{@link PropertyMetrics}</code> per class and property, shared by all instances of the class. The metrics
+ * of every class are also registered in the platform MBean server, under the name
+ * {@code lombok:type=BeanMetrics,name=<name of the class>}, when the class first asks for them.
+ * <p>
+ * Generated setters look up their metrics once, when the JavaBean class is initialized, and keep them in a constant.
+ * The registry refers to the JavaBean classes weakly, and the metrics only know the name of their class, so neither
+ * keeps a class (or its class loader) from being unloaded. The platform MBean server, however, keeps the metrics
+ * registered until <code>{@link #unregister(Class)}</code> is called: applications that are redeployed in a container
+ * should call it for their instrumented classes when they stop, so that the next deployment can register its own.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+public final class BeanMetrics implements BeanMetricsMXBean {
+
+  private static final String OBJECT_NAME_PREFIX = "lombok:type=BeanMetrics,name=";
+
+  private static final Map<Class<?>, BeanMetrics> ALL = new WeakHashMap<Class<?>, BeanMetrics>();
+
+  /**
+   * Returns the metrics of a property of the given JavaBean class, creating them if necessary.
+   * @param beanType the JavaBean class.
+   * @param propertyName the name of the property.
+   * @return the metrics of the property.
+   */
+  public static PropertyMetrics propertyMetrics(Class<?> beanType, String propertyName) {
+    return metricsOf(beanType).property(propertyName);
+  }
+
+  /**
+   * Returns the metrics of the given JavaBean class, creating (and registering) them if necessary.
+   * @param beanType the JavaBean class.
+   * @return the metrics of the given JavaBean class.
+   */
+  public static BeanMetrics metricsOf(Class<?> beanType) {
+    // only called when a JavaBean class is initialized, so a lock does not get in the way of setters.
+    synchronized (ALL) {
+      BeanMetrics metrics = ALL.get(beanType);
+      if (metrics != null) return metrics;
+      metrics = new BeanMetrics(beanType.getName());
+      ALL.put(beanType, metrics);
+      metrics.register();
+      return metrics;
+    }
+  }
+
+  /**
+   * Removes the metrics of the given JavaBean class from this registry and from the platform MBean server. The class
+   * keeps updating the metrics it has already looked up, but they can no longer be read through this registry.
+   * @param beanType the JavaBean class.
+   */
+  public static void unregister(Class<?> beanType) {
+    synchronized (ALL) {
+      BeanMetrics metrics = ALL.remove(beanType);
+      if (metrics != null) metrics.unregister();
+    }
+  }
+
+  private final String beanClassName;
+  private final ConcurrentMap<String, PropertyMetrics> properties = new ConcurrentHashMap<String, PropertyMetrics>();
+
+  private BeanMetrics(String beanClassName) {
+    this.beanClassName = beanClassName;
+  }
+
+  private void register() {
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName());
+    } catch (JMException e) {
+      // the metrics can still be read with metricsOf.
+    } catch (SecurityException e) {
+      // the metrics can still be read with metricsOf.
+    }
+  }
+
+  private void unregister() {
+    try {
+      ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName());
+    } catch (JMException e) {
+      // the metrics were not registered.
+    } catch (SecurityException e) {
+      // the metrics were not registered.
+    }
+  }
+
+  /**
+   * Returns the name of these metrics in the platform MBean server.
+   * @return the name of these metrics in the platform MBean server.
+   * @throws JMException if the name of the JavaBean class does not make a valid object name.
+   */
+  public ObjectName objectName() throws JMException {
+    return new ObjectName(OBJECT_NAME_PREFIX + beanClassName);
+  }
+
+  private PropertyMetrics property(String propertyName) {
+    PropertyMetrics metrics = properties.get(propertyName);
+    if (metrics != null) return metrics;
+    PropertyMetrics created = new PropertyMetrics(propertyName);
+    metrics = properties.putIfAbsent(propertyName, created);
+    return metrics != null ? metrics : created;
+  }
+
+  @Override public String getBeanClassName() {
+    return beanClassName;
+  }
+
+  @Override public Map<String, Long> getWrites() {
+    Map<String, Long> writes = new TreeMap<String, Long>();
+    for (PropertyMetrics metrics : properties.values()) writes.put(metrics.propertyName(), metrics.writes());
+    return writes;
+  }
+
+  @Override public Map<String, Long> getNoOpWrites() {
+    Map<String, Long> noOpWrites = new TreeMap<String, Long>();
+    for (PropertyMetrics metrics : properties.values()) noOpWrites.put(metrics.propertyName(), metrics.noOpWrites());
+    return noOpWrites;
+  }
+
+  @Override public Map<String, Long> getFires() {
+    Map<String, Long> fires = new TreeMap<String, Long>();
+    for (PropertyMetrics metrics : properties.values()) fires.put(metrics.propertyName(), metrics.fires());
+    return fires;
+  }
+
+  @Override public Map<String, Long> getListenerNanos() {
+    Map<String, Long> nanos = new TreeMap<String, Long>();
+    for (PropertyMetrics metrics : properties.values()) nanos.put(metrics.propertyName(), metrics.listenerNanos());
+    return nanos;
+  }
+
+  @Override public void reset() {
+    for (PropertyMetrics metrics : properties.values()) metrics.reset();
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.core;
+
+import java.util.Map;
+
+/**
+ * Management interface of the metrics of the instrumented JavaBeans of a class (see
+ * <code>{@link BeanMetrics}</code>.) Every map is keyed by property name.
+ *
+ * @author Alex Ruiz
+ */
+public interface BeanMetricsMXBean {
+
+  /**
+   * Returns the name of the JavaBean class.
+   * @return the name of the JavaBean class.
+   */
+  String getBeanClassName();
+
+  /**
+   * Returns the number of writes to each property.
+   * @return the number of writes to each property.
+   */
+  Map<String, Long> getWrites();
+
+  /**
+   * Returns the number of writes that left the value of each property unchanged.
+   * @return the number of writes that left the value of each property unchanged.
+   */
+  Map<String, Long> getNoOpWrites();
+
+  /**
+   * Returns the number of changes passed to the listeners of each property.
+   * @return the number of changes passed to the listeners of each property.
+   */
+  Map<String, Long> getFires();
+
+  /**
+   * Returns the total time, in nanoseconds, spent passing changes to the listeners of each property.
+   * @return the total time, in nanoseconds, spent passing changes to the listeners of each property.
+   */
+  Map<String, Long> getListenerNanos();
+
+  /**
+   * Sets all counters of all properties to zero.
+   */
+  void reset();
+}
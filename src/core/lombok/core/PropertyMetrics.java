@@ -0,0 +1,104 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.core;
+
+/**
+ * Counters of the event traffic of a bound property, updated by the setters generated for a JavaBean annotated with
+ * {@code @GenerateJavaBean(instrumented = true)}: the number of writes, the number of writes that left the value
+ * unchanged, the number of changes passed to the listeners, and the time spent passing them. Counters can be updated by
+ * many threads at once without contending with each other (see <code>{@link StripedCounter}</code>.)
+ *
+ * @author Alex Ruiz
+ */
+public final class PropertyMetrics {
+
+  private final String propertyName;
+  private final StripedCounter writes = new StripedCounter();
+  private final StripedCounter noOpWrites = new StripedCounter();
+  private final StripedCounter fires = new StripedCounter();
+  private final StripedCounter listenerNanos = new StripedCounter();
+
+  PropertyMetrics(String propertyName) {
+    this.propertyName = propertyName;
+  }
+
+  /**
+   * Returns the name of the property these metrics belong to.
+   * @return the name of the property these metrics belong to.
+   */
+  public String propertyName() {
+    return propertyName;
+  }
+
+  /**
+   * Records a write to the property.
+   * @param noOp indicates whether the write left the value of the property unchanged.
+   */
+  public void recordWrite(boolean noOp) {
+    writes.add(1);
+    if (noOp) noOpWrites.add(1);
+  }
+
+  /**
+   * Records a change passed to the listeners of the property.
+   * @param nanos the time, in nanoseconds, spent passing the change to the listeners.
+   */
+  public void recordFire(long nanos) {
+    fires.add(1);
+    listenerNanos.add(nanos);
+  }
+
+  /**
+   * Returns the number of writes to the property.
+   * @return the number of writes to the property.
+   */
+  public long writes() {
+    return writes.sum();
+  }
+
+  /**
+   * Returns the number of writes that left the value of the property unchanged.
+   * @return the number of writes that left the value of the property unchanged.
+   */
+  public long noOpWrites() {
+    return noOpWrites.sum();
+  }
+
+  /**
+   * Returns the number of changes passed to the listeners of the property.
+   * @return the number of changes passed to the listeners of the property.
+   */
+  public long fires() {
+    return fires.sum();
+  }
+
+  /**
+   * Returns the total time, in nanoseconds, spent passing changes to the listeners of the property.
+   * @return the total time, in nanoseconds, spent passing changes to the listeners of the property.
+   */
+  public long listenerNanos() {
+    return listenerNanos.sum();
+  }
+
+  /**
+   * Sets all counters to zero.
+   */
+  public void reset() {
+    writes.reset();
+    noOpWrites.reset();
+    fires.reset();
+    listenerNanos.reset();
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.core;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counter that threads can add to concurrently without contending on a single memory location. Every thread adds to
+ * one of several cells, chosen by the identifier of the thread, and the value of the counter is the sum of all cells.
+ * Cells are 64 bytes apart, so threads adding to different cells do not share a cache line. The sum is not an atomic
+ * snapshot: additions that happen while summing may or may not be included.
+ * <p>
+ * This counter plays the role of {@code java.util.concurrent.atomic.LongAdder} (not available in Java 6), without
+ * growing its number of cells under contention: it has one cell per available processor (rounded up to a power of
+ * two.)
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+public final class StripedCounter {
+
+  // 8 longs: 64 bytes, the size of a cache line on most processors.
+  private static final int PADDING = 8;
+  private static final int STRIPE_COUNT = stripeCount(Runtime.getRuntime().availableProcessors());
+
+  private static int stripeCount(int processorCount) {
+    int count = 1;
+    while (count < processorCount) count <<= 1;
+    return count;
+  }
+
+  private final AtomicLongArray cells = new AtomicLongArray(STRIPE_COUNT * PADDING);
+
+  /**
+   * Adds the given value to this counter.
+   * @param value the value to add.
+   */
+  public void add(long value) {
+    // consecutive thread identifiers get different cells.
+    int stripe = (int) (Thread.currentThread().getId() & (STRIPE_COUNT - 1));
+    cells.addAndGet(stripe * PADDING, value);
+  }
+
+  /**
+   * Returns the value of this counter.
+   * @return the sum of the values added to this counter since it was created or last reset.
+   */
+  public long sum() {
+    long sum = 0;
+    for (int i = 0; i < STRIPE_COUNT; i++) sum += cells.get(i * PADDING);
+    return sum;
+  }
+
+  /**
+   * Sets the value of this counter to zero. Additions that happen while resetting may or may not be kept.
+   */
+  public void reset() {
+    for (int i = 0; i < STRIPE_COUNT; i++) cells.set(i * PADDING, 0);
+  }
+}
@@ -33,6 +33,33 @@ public final class Arrays {
     return elements;
   }
   
+  /**
+   * Returns a copy of the given array, with the given element added at the end.
+   * @param <T> the type of the given array.
+   * @param array the given array.
+   * @param element the element to add.
+   * @return a copy of the given array, one element longer.
+   */
+  public static <T> T[] append(T[] array, T element) {
+    T[] appended = copyOf(array, array.length + 1);
+    appended[array.length] = element;
+    return appended;
+  }
+
+  /**
+   * Returns a copy of the given array, with the given element added at the beginning.
+   * @param <T> the type of the given array.
+   * @param element the element to add.
+   * @param array the given array.
+   * @return a copy of the given array, one element longer.
+   */
+  public static <T> T[] prepend(T element, T[] array) {
+    T[] prepended = copyOf(array, array.length + 1);
+    System.arraycopy(array, 0, prepended, 1, array.length);
+    prepended[0] = element;
+    return prepended;
+  }
+
   /**
    * Returns a copy of the given array.
    * @param <T> the type of the given array.
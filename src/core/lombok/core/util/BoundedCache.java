@@ -0,0 +1,67 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.core.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Thread-safe cache of values that are expensive to compute from a small set of keys, like names derived from other
+ * names. Lookups do not lock. Once the cache holds its maximum number of values, it is emptied before adding the next
+ * one, so a build that keeps bringing new keys recomputes values now and then, but never holds more than the maximum.
+ * Values must not be modified by the callers, since they are shared.
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ *
+ * @author Alex Ruiz
+ */
+public abstract class BoundedCache<K, V> {
+
+  private final ConcurrentMap<K, V> values = new ConcurrentHashMap<K, V>();
+  private final int maximumSize;
+
+  /**
+   * Creates a new <code>{@link BoundedCache}</code>.
+   * @param maximumSize the maximum number of values to keep.
+   */
+  protected BoundedCache(int maximumSize) {
+    this.maximumSize = maximumSize;
+  }
+
+  /**
+   * Returns the value for the given key, computing it only if it is not in this cache.
+   * @param key the given key.
+   * @return the value for the given key.
+   */
+  public final V get(K key) {
+    V value = values.get(key);
+    if (value != null) return value;
+    value = computeValue(key);
+    if (values.size() >= maximumSize) values.clear();
+    values.put(key, value);
+    return value;
+  }
+
+  /**
+   * Computes the value for the given key. Two threads asking for the same missing key may both compute it.
+   * @param key the given key.
+   * @return the value for the given key, never {@code null}.
+   */
+  protected abstract V computeValue(K key);
+
+  int size() {
+    return values.size();
+  }
+}
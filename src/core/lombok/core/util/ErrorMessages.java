@@ -31,6 +31,60 @@ public final class ErrorMessages {
     return errorMessage("@%s can be used on fields only", annotationType);
   }
 
+  public static String canBeUsedOnClassAndFieldOnly(Class<? extends Annotation> annotationType) {
+    return errorMessage("@%s can be used on classes and fields only", annotationType);
+  }
+
+  public static String accessModeRequiresVolatileField(Class<? extends Annotation> annotationType,
+      Enum<?> accessMode) {
+    return String.format("@%s(accessMode = %s) can be used on volatile fields only", annotationType.getName(),
+        accessMode.name());
+  }
+
+  public static String releaseAccessModeRequiresUpdatableField(Class<? extends Annotation> annotationType) {
+    return errorMessage("@%s(accessMode = RELEASE) can be used on instance fields of type int, long or a non-generic "
+        + "reference type only", annotationType);
+  }
+
+  public static String atomicUpdatesRequireUpdatableField(Class<? extends Annotation> annotationType) {
+    return errorMessage("@%s(atomicUpdates = true) can be used on volatile instance fields of type int, long or a "
+        + "non-generic reference type only", annotationType);
+  }
+
+  public static String atomicUpdatesCannotBeVetoed(Class<? extends Annotation> annotationType,
+      Class<? extends Annotation> constrainedType) {
+    return String.format("@%s(atomicUpdates = true) cannot be used on fields annotated with @%s",
+        annotationType.getName(), constrainedType.getName());
+  }
+
+  public static String counterRequiresVolatileNumericField(Class<? extends Annotation> annotationType) {
+    return errorMessage("@%s(counter = true) can be used on volatile instance fields of type int or long only",
+        annotationType);
+  }
+
+  public static String counterCannotBeVetoed(Class<? extends Annotation> annotationType,
+      Class<? extends Annotation> constrainedType) {
+    return String.format("@%s(counter = true) cannot be used on fields annotated with @%s", annotationType.getName(),
+        constrainedType.getName());
+  }
+
+  public static String notifyEveryMustBePositive(Class<? extends Annotation> annotationType, int notifyEvery) {
+    return String.format("@%s(notifyEvery = %d) is invalid: notifyEvery must be 1 or greater",
+        annotationType.getName(), notifyEvery);
+  }
+
+  public static String confinedThreadingIgnoresRegistry(Class<? extends Annotation> annotationType,
+      Enum<?> registry) {
+    return String.format("@%s(threading = CONFINED) ignores registry = %s: listeners of confined JavaBeans are always "
+        + "kept in a plain array", annotationType.getName(), registry.name());
+  }
+
+  public static String weakListenersRequireSyncDispatchWhenConfined(Class<? extends Annotation> annotationType) {
+    return errorMessage("@%s(weakListeners = true) cannot be used with dispatch = ASYNC and threading = CONFINED: "
+        + "cleared weak listeners would be removed by the executor's thread, not the one the JavaBean is confined to",
+        annotationType);
+  }
+
   private static String errorMessage(String format, Class<? extends Annotation> annotationType) {
     return String.format(format, annotationType.getName());
   }
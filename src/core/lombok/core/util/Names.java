@@ -15,10 +15,12 @@
 package lombok.core.util;
 
 import static java.lang.Character.*;
+import static lombok.core.handlers.TransformationsUtil.toSetterName;
 import static lombok.core.util.Arrays.array;
 
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
+import java.beans.VetoableChangeSupport;
 
 /**
  * Utility methods related to names.
@@ -30,12 +32,138 @@ public final class Names {
   /** Name of the field of type <code>{@link PropertyChangeSupport}</code>. */
   public static final String PROPERTY_SUPPORT_FIELD_NAME = "propertySupport";
 
+  /** Name of the constant holding the field updater that lazily sets the field "propertySupport." */
+  public static final String PROPERTY_SUPPORT_UPDATER_FIELD_NAME = "PROPERTY_SUPPORT_UPDATER";
+
   /** Name of the method "firePropertyChange" in <code>{@link PropertyChangeSupport}</code>. */
   public static final String FIRE_PROPERTY_CHANGE_METHOD_NAME = "firePropertyChange";
 
+  /** Name of the method "hasListeners" in <code>{@link PropertyChangeSupport}</code>. */
+  public static final String HAS_LISTENERS_METHOD_NAME = "hasListeners";
+
+  /** Name of the static method "compare" in the wrapper classes of {@code float} and {@code double}. */
+  public static final String COMPARE_METHOD_NAME = "compare";
+
   /** Name of the method argument of type <code>{@link PropertyChangeListener}</code>. */
   public static final String LISTENER_ARG_NAME = "listener";
 
+  /** Name of the {@code volatile} array that stores property change listeners in a copy-on-write fashion. */
+  public static final String PROPERTY_CHANGE_LISTENERS_FIELD_NAME = "propertyChangeListeners";
+
+  /** Name of the constant holding the empty array of property change listeners. */
+  public static final String NO_PROPERTY_CHANGE_LISTENERS_FIELD_NAME = "NO_PROPERTY_CHANGE_LISTENERS";
+
+  /** Name of the constant holding the field updater used to replace the array of property change listeners. */
+  public static final String PROPERTY_CHANGE_LISTENERS_UPDATER_FIELD_NAME = "PROPERTY_CHANGE_LISTENERS_UPDATER";
+
+  /** Name of the generated method that passes a property change event to all the registered listeners. */
+  public static final String NOTIFY_PROPERTY_CHANGE_LISTENERS_METHOD_NAME = "notifyPropertyChangeListeners";
+
+  /** Name of the generated member type that holds one stripe of property change listeners. */
+  public static final String PROPERTY_CHANGE_LISTENER_STRIPE_TYPE_NAME = "PropertyChangeListenerStripe";
+
+  /** Name of the array of stripes that property change listeners are partitioned into, by identity hash code. */
+  public static final String PROPERTY_CHANGE_LISTENER_STRIPES_FIELD_NAME = "propertyChangeListenerStripes";
+
+  /** Name of the constant holding the field updater used to create the array of stripes on the first add. */
+  public static final String PROPERTY_CHANGE_LISTENER_STRIPES_UPDATER_FIELD_NAME =
+      "PROPERTY_CHANGE_LISTENER_STRIPES_UPDATER";
+
+  /** Name of the counter of the property change listeners stored in all the stripes. */
+  public static final String PROPERTY_CHANGE_LISTENER_COUNT_FIELD_NAME = "propertyChangeListenerCount";
+
+  /** Name of the generated method that returns the current snapshot of the listeners of a stripe. */
+  public static final String PROPERTY_CHANGE_LISTENERS_OF_METHOD_NAME = "propertyChangeListenersOf";
+
+  /** Name of the {@code volatile} table that stores, by property ordinal, the listeners of a single property. */
+  public static final String NAMED_PROPERTY_CHANGE_LISTENERS_FIELD_NAME = "namedPropertyChangeListeners";
+
+  /** Name of the constant holding the table of property change listeners that has no listeners for any property. */
+  public static final String NO_NAMED_PROPERTY_CHANGE_LISTENERS_FIELD_NAME = "NO_NAMED_PROPERTY_CHANGE_LISTENERS";
+
+  /** Name of the constant holding the field updater used to replace the table of listeners of single properties. */
+  public static final String NAMED_PROPERTY_CHANGE_LISTENERS_UPDATER_FIELD_NAME =
+      "NAMED_PROPERTY_CHANGE_LISTENERS_UPDATER";
+
+  /** Name of the constant holding the names of the bound properties, in the order of their ordinals. */
+  public static final String PROPERTY_NAMES_FIELD_NAME = "PROPERTY_NAMES";
+
+  /** Name of the generated method that returns the ordinal of a property, given its name. */
+  public static final String PROPERTY_ORDINAL_METHOD_NAME = "propertyOrdinal";
+
+  /** Name of the generated method that passes a property change event to the listeners of a single property. */
+  public static final String NOTIFY_NAMED_PROPERTY_CHANGE_LISTENERS_METHOD_NAME =
+      "notifyNamedPropertyChangeListeners";
+
+  /** Name of the generated method that adds a listener of a single property, given the ordinal of the property. */
+  public static final String ADD_NAMED_PROPERTY_CHANGE_LISTENER_METHOD_NAME = "addNamedPropertyChangeListener";
+
+  /** Name of the generated method that removes a listener of a single property, given the ordinal of the property. */
+  public static final String REMOVE_NAMED_PROPERTY_CHANGE_LISTENER_METHOD_NAME = "removeNamedPropertyChangeListener";
+
+  /** Name of the generated interface implemented by callbacks that receive property changes without events. */
+  public static final String CHANGE_CALLBACK_TYPE_NAME = "ChangeCallback";
+
+  /** Name of the method of the generated interface "ChangeCallback." */
+  public static final String ON_CHANGE_METHOD_NAME = "onChange";
+
+  /** Name of the {@code volatile} array that stores change callbacks in a copy-on-write fashion. */
+  public static final String CHANGE_CALLBACKS_FIELD_NAME = "changeCallbacks";
+
+  /** Name of the constant holding the empty array of change callbacks. */
+  public static final String NO_CHANGE_CALLBACKS_FIELD_NAME = "NO_CHANGE_CALLBACKS";
+
+  /** Name of the constant holding the field updater used to replace the array of change callbacks. */
+  public static final String CHANGE_CALLBACKS_UPDATER_FIELD_NAME = "CHANGE_CALLBACKS_UPDATER";
+
+  /** Name of the generated method that adds a change callback. */
+  public static final String ADD_CHANGE_CALLBACK_METHOD_NAME = "addChangeCallback";
+
+  /** Name of the generated method that removes a change callback. */
+  public static final String REMOVE_CHANGE_CALLBACK_METHOD_NAME = "removeChangeCallback";
+
+  /** Name of the generated method that passes a property change to all the registered change callbacks. */
+  public static final String NOTIFY_CHANGE_CALLBACKS_METHOD_NAME = "notifyChangeCallbacks";
+
+  /** Name of the map that collects property changes while a batch is in progress. */
+  public static final String BATCHED_CHANGES_FIELD_NAME = "batchedChanges";
+
+  /** Name of the counter of nested, not yet ended, batches. */
+  public static final String BATCH_DEPTH_FIELD_NAME = "batchDepth";
+
+  /** Name of the generated method that starts a batch of property changes. */
+  public static final String BEGIN_BATCH_METHOD_NAME = "beginBatch";
+
+  /** Name of the generated method that ends a batch of property changes. */
+  public static final String END_BATCH_METHOD_NAME = "endBatch";
+
+  /** Name of the generated method that adds a property change to the current batch. */
+  public static final String BATCH_PROPERTY_CHANGE_METHOD_NAME = "batchPropertyChange";
+
+  /** Name of the static field holding the executor that delivers property change events asynchronously. */
+  public static final String PROPERTY_CHANGE_EXECUTOR_FIELD_NAME = "propertyChangeExecutor";
+
+  /** Name of the generated static method that replaces the executor that delivers property change events. */
+  public static final String SET_PROPERTY_CHANGE_EXECUTOR_METHOD_NAME = "setPropertyChangeExecutor";
+
+  /** Name of the generated static method that creates the default executor for property change events. */
+  public static final String DEFAULT_PROPERTY_CHANGE_EXECUTOR_METHOD_NAME = "defaultPropertyChangeExecutor";
+
+  /** Name of the queue of property change events waiting to be delivered asynchronously. */
+  public static final String PENDING_PROPERTY_CHANGES_FIELD_NAME = "pendingPropertyChanges";
+
+  /** Name of the flag indicating that the queued property change events are being delivered. */
+  public static final String DISPATCHING_PROPERTY_CHANGES_FIELD_NAME = "dispatchingPropertyChanges";
+
+  /** Name of the task, submitted to the executor, that delivers the queued property change events. */
+  public static final String PROPERTY_CHANGE_DISPATCHER_FIELD_NAME = "propertyChangeDispatcher";
+
+  /** Name of the generated method that queues a property change event for asynchronous delivery. */
+  public static final String DISPATCH_PROPERTY_CHANGE_METHOD_NAME = "dispatchPropertyChange";
+
+  /** Name of the generated method that delivers the queued property change events. */
+  public static final String DISPATCH_PENDING_PROPERTY_CHANGES_METHOD_NAME = "dispatchPendingPropertyChanges";
+
   /*** Name of the variable containing the "old" value of a field before it is changed in a setter. */
   public static final String OLD_VALUE_VARIABLE_NAME = "old";
 
@@ -43,14 +171,102 @@ public final class Names {
   public static final String[] PROPERTY_CHANGE_METHOD_NAMES = array("addPropertyChangeListener",
       "removePropertyChangeListener");
 
+  /** Name of the field of type <code>{@link VetoableChangeSupport}</code>. */
+  public static final String VETOABLE_SUPPORT_FIELD_NAME = "vetoableSupport";
+
+  /** Name of the constant holding the field updater that lazily sets the field "vetoableSupport." */
+  public static final String VETOABLE_SUPPORT_UPDATER_FIELD_NAME = "VETOABLE_SUPPORT_UPDATER";
+
+  /** Name of the method "fireVetoableChange" in <code>{@link VetoableChangeSupport}</code>. */
+  public static final String FIRE_VETOABLE_CHANGE_METHOD_NAME = "fireVetoableChange";
+
+  /** Names of the "*VetoableChangeListener" methods in <code>{@link VetoableChangeSupport}</code>. */
+  public static final String[] VETOABLE_CHANGE_METHOD_NAMES = array("addVetoableChangeListener",
+      "removeVetoableChangeListener");
+
+  /** Name of the bitset recording, by property ordinal, which properties were written since it was last cleared. */
+  public static final String DIRTY_BITS_FIELD_NAME = "dirtyBits";
+
+  /** Name of the generated method that indicates whether a property was written since the bitset was cleared. */
+  public static final String IS_DIRTY_METHOD_NAME = "isDirty";
+
+  /** Name of the generated method that returns the names of the properties written since the bitset was cleared. */
+  public static final String DIRTY_PROPERTIES_METHOD_NAME = "dirtyProperties";
+
+  /** Name of the generated method that clears the bitset of written properties. */
+  public static final String CLEAR_DIRTY_METHOD_NAME = "clearDirty";
+
+  /** Name of the generated interface that receives the changes drained from the change journal. */
+  public static final String CHANGE_CONSUMER_TYPE_NAME = "ChangeConsumer";
+
+  /** Name of the method in the generated interface {@code ChangeConsumer}. */
+  public static final String ACCEPT_METHOD_NAME = "accept";
+
+  /** Name of the array holding the ordinals of the journaled properties, in the order they were first written. */
+  public static final String JOURNAL_ORDINALS_FIELD_NAME = "journalOrdinals";
+
+  /** Name of the array holding, by property ordinal, the last value written to each journaled property. */
+  public static final String JOURNAL_VALUES_FIELD_NAME = "journalValues";
+
+  /** Name of the array indicating, by property ordinal, whether a property is in the change journal. */
+  public static final String JOURNALED_FIELD_NAME = "journaled";
+
+  /** Name of the field holding the number of properties in the change journal. */
+  public static final String JOURNAL_SIZE_FIELD_NAME = "journalSize";
+
+  /** Name of the generated method that setters use to add a change to the change journal. */
+  public static final String JOURNAL_CHANGE_METHOD_NAME = "journalChange";
+
+  /** Name of the generated method that passes the journaled changes to a {@code ChangeConsumer} and clears them. */
+  public static final String DRAIN_CHANGES_METHOD_NAME = "drainChanges";
+
+  /** Name of the generated type that holds a property change listener through a weak reference. */
+  public static final String WEAK_PROPERTY_CHANGE_LISTENER_TYPE_NAME = "WeakPropertyChangeListener";
+
+  /** Name of the field holding the queue of the weak references to property change listeners that were cleared. */
+  public static final String WEAK_PROPERTY_CHANGE_LISTENER_QUEUE_FIELD_NAME = "weakPropertyChangeListenerQueue";
+
+  /** Name of the generated method that adds a property change listener held through a weak reference. */
+  public static final String ADD_WEAK_PROPERTY_CHANGE_LISTENER_METHOD_NAME = "addWeakPropertyChangeListener";
+
+  /** Name of the generated method that removes the weak property change listeners that were cleared. */
+  public static final String EXPUNGE_WEAK_PROPERTY_CHANGE_LISTENERS_METHOD_NAME = "expungeWeakPropertyChangeListeners";
+
+  /** Name of the method that instrumented setters use to record a write in the metrics of a property. */
+  public static final String RECORD_WRITE_METHOD_NAME = "recordWrite";
+
+  /** Name of the method that instrumented setters use to record a notification in the metrics of a property. */
+  public static final String RECORD_FIRE_METHOD_NAME = "recordFire";
+
+  // the same few types, and the same property names, show up over and over during a build. Only the names that take a
+  // regular expression or a pass over every character are cached; the ones derived from them by adding a prefix or a
+  // suffix cost about as much to build as to look up.
+  private static final BoundedCache<Class<?>, String[]> SPLIT_NAMES = new BoundedCache<Class<?>, String[]>(256) {
+    @Override protected String[] computeValue(Class<?> type) {
+      return type.getName().split("\\.");
+    }
+  };
+
+  private static final BoundedCache<String, String> CONSTANT_NAMES = new BoundedCache<String, String>(4096) {
+    @Override protected String computeValue(String propertyName) {
+      return constantNameBasedOnProperty(propertyName);
+    }
+  };
+
+  private static final BoundedCache<String, String> SETTER_NAMES = new BoundedCache<String, String>(4096) {
+    @Override protected String computeValue(String fieldName) {
+      return toSetterName(fieldName);
+    }
+  };
+
   /**
    * Splits the name of the class using "\." as the regular expression. For example, {@code java.lang.String} will be
-   * split into { "java", "lang", "String" }.
+   * split into { "java", "lang", "String" }. The returned array is shared, and must not be modified.
    * @param type the given class.
    * @return the name of the type split using "\." as the regular expression.
    */
   public static String[] splitNameOf(Class<?> type) {
-    return type.getName().split("\\.");
+    return SPLIT_NAMES.get(type);
   }
 
   /**
@@ -60,6 +276,118 @@ public final class Names {
    * @return the name of the constant that holds the name of a property.
    */
   public static String nameOfConstantBasedOnProperty(String propertyName) {
+    return CONSTANT_NAMES.get(propertyName);
+  }
+
+  /**
+   * Creates the name of the constant that holds the ordinal of a property. For example, if the name of a property is
+   * "firstName," this method will return "ORDINAL_FIRST_NAME."
+   * @param propertyName the name of the property.
+   * @return the name of the constant that holds the ordinal of a property.
+   */
+  public static String nameOfOrdinalConstantBasedOnProperty(String propertyName) {
+    return "ORDINAL_" + nameOfConstantBasedOnProperty(propertyName).substring("PROP_".length());
+  }
+
+  /**
+   * Creates the name of the constant that holds the field updater of a property. For example, if the name of a property
+   * is "firstName," this method will return "FIRST_NAME_UPDATER."
+   * @param propertyName the name of the property.
+   * @return the name of the constant that holds the field updater of a property.
+   */
+  public static String nameOfUpdaterConstantBasedOnProperty(String propertyName) {
+    return nameOfConstantBasedOnProperty(propertyName).substring("PROP_".length()) + "_UPDATER";
+  }
+
+  /**
+   * Creates the name of the constant that holds the metrics of a property. For example, if the name of a property is
+   * "firstName," this method will return "FIRST_NAME_METRICS."
+   * @param propertyName the name of the property.
+   * @return the name of the constant that holds the metrics of a property.
+   */
+  public static String nameOfMetricsConstantBasedOnProperty(String propertyName) {
+    return nameOfConstantBasedOnProperty(propertyName).substring("PROP_".length()) + "_METRICS";
+  }
+
+  /**
+   * Returns the name of the setter of the given field. For example, if the name of the field is "firstName," this
+   * method will return "setFirstName."
+   * @param fieldName the name of the field.
+   * @return the name of the setter of the given field.
+   */
+  public static String nameOfSetter(String fieldName) {
+    return SETTER_NAMES.get(fieldName);
+  }
+
+  /**
+   * Returns the name of the method that adds a listener of the given property only. For example, if the name of the
+   * property is "firstName," this method will return "addFirstNameListener."
+   * @param propertyName the name of the property.
+   * @return the name of the method that adds a listener of the given property.
+   */
+  public static String nameOfAddPropertyListenerMethod(String propertyName) {
+    return "add" + capitalizedName(propertyName) + "Listener";
+  }
+
+  /**
+   * Returns the name of the method that removes a listener of the given property only. For example, if the name of
+   * the property is "firstName," this method will return "removeFirstNameListener."
+   * @param propertyName the name of the property.
+   * @return the name of the method that removes a listener of the given property.
+   */
+  public static String nameOfRemovePropertyListenerMethod(String propertyName) {
+    return "remove" + capitalizedName(propertyName) + "Listener";
+  }
+
+  /**
+   * Returns the name of the method that atomically replaces the value of the given property, if it has the expected
+   * value. For example, if the name of the property is "firstName," this method will return
+   * "compareAndSetFirstName."
+   * @param propertyName the name of the property.
+   * @return the name of the method that atomically replaces the value of the given property, if it has the expected
+   *         value.
+   */
+  public static String nameOfCompareAndSetMethod(String propertyName) {
+    return "compareAndSet" + capitalizedName(propertyName);
+  }
+
+  /**
+   * Returns the name of the method that atomically replaces the value of the given property and returns the previous
+   * one. For example, if the name of the property is "firstName," this method will return "getAndSetFirstName."
+   * @param propertyName the name of the property.
+   * @return the name of the method that atomically replaces the value of the given property and returns the previous
+   *         one.
+   */
+  public static String nameOfGetAndSetMethod(String propertyName) {
+    return "getAndSet" + capitalizedName(propertyName);
+  }
+
+  /**
+   * Returns the name of the method that atomically adds one to the given property. For example, if the name of the
+   * property is "count," this method will return "incrementCount."
+   * @param propertyName the name of the property.
+   * @return the name of the method that atomically adds one to the given property.
+   */
+  public static String nameOfIncrementMethod(String propertyName) {
+    return "increment" + capitalizedName(propertyName);
+  }
+
+  /**
+   * Returns the name of the method that atomically adds a number to the given property. For example, if the name of
+   * the property is "count," this method will return "addToCount."
+   * @param propertyName the name of the property.
+   * @return the name of the method that atomically adds a number to the given property.
+   */
+  public static String nameOfAddToMethod(String propertyName) {
+    return "addTo" + capitalizedName(propertyName);
+  }
+
+  private static String capitalizedName(String propertyName) {
+    // same capitalization as the setter: "firstName" -> "FirstName"
+    return nameOfSetter(propertyName).substring("set".length());
+  }
+
+  private static String constantNameBasedOnProperty(String propertyName) {
     char[] chars = propertyName.toCharArray();
     StringBuilder b = new StringBuilder();
     b.append("PROP_");
@@ -0,0 +1,88 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.core.util;
+
+import java.beans.PropertyChangeSupport;
+
+/**
+ * The primitive types a bound property can have, and how changes of each of them are dispatched to
+ * <code>{@link PropertyChangeSupport}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public enum PrimitiveType {
+
+  BOOLEAN("boolean", Boolean.class, true), BYTE("byte", Byte.class, true), CHAR("char", Character.class, true),
+  SHORT("short", Short.class, true), INT("int", Integer.class, true), LONG("long", Long.class, false),
+  FLOAT("float", Float.class, false), DOUBLE("double", Double.class, false);
+
+  private final String keyword;
+  private final Class<?> wrapperType;
+  private final boolean firedWithoutBoxing;
+
+  private PrimitiveType(String keyword, Class<?> wrapperType, boolean firedWithoutBoxing) {
+    this.keyword = keyword;
+    this.wrapperType = wrapperType;
+    this.firedWithoutBoxing = firedWithoutBoxing;
+  }
+
+  /**
+   * Returns the primitive type whose keyword is equal to the given name.
+   * @param typeName the name of a type, as written in source code (e.g. "int".)
+   * @return the primitive type with the given name, or {@code null} if the given name does not belong to a primitive
+   * type.
+   */
+  public static PrimitiveType primitiveTypeNamed(String typeName) {
+    for (PrimitiveType type : values())
+      if (type.keyword.equals(typeName)) return type;
+    return null;
+  }
+
+  /**
+   * Indicates whether values of this type can be passed to one of the "primitive" overloads of
+   * {@code PropertyChangeSupport.firePropertyChange} (the ones that take {@code int} or {@code boolean} values.) Those
+   * overloads only box values after verifying that the old and new values are different.
+   * @return {@code true} if values of this type can be fired without being boxed; {@code false} otherwise.
+   */
+  public boolean isFiredWithoutBoxing() {
+    return firedWithoutBoxing;
+  }
+
+  /**
+   * Indicates whether this type is {@code float} or {@code double}. Old and new values of these types need to be
+   * compared using {@code Float.compare} or {@code Double.compare} to keep the semantics of {@code equals}, which is
+   * the comparison <code>{@link PropertyChangeSupport}</code> uses.
+   * @return {@code true} if this type is {@code float} or {@code double}; {@code false} otherwise.
+   */
+  public boolean isFloatingPoint() {
+    return this == FLOAT || this == DOUBLE;
+  }
+
+  /**
+   * Returns the wrapper class of this type (e.g. <code>{@link Double}</code> for {@code double}.)
+   * @return the wrapper class of this type.
+   */
+  public Class<?> wrapperType() {
+    return wrapperType;
+  }
+
+  /**
+   * Returns this type's keyword (e.g. "int".)
+   * @return this type's keyword.
+   */
+  @Override public String toString() {
+    return keyword;
+  }
+}
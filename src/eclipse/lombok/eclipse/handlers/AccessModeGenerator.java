@@ -0,0 +1,116 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.eclipse.handlers;
+
+import static java.lang.reflect.Modifier.VOLATILE;
+import static lombok.AccessMode.DECLARED;
+import static lombok.AccessMode.RELEASE;
+import static lombok.core.util.Arrays.array;
+import static lombok.core.util.ErrorMessages.*;
+import static lombok.eclipse.handlers.Eclipse.*;
+import static lombok.eclipse.handlers.FieldUpdaters.*;
+import static lombok.eclipse.handlers.Lombok.newFieldAccessor;
+
+import lombok.AccessMode;
+import lombok.GenerateBoundSetter;
+import lombok.eclipse.EclipseNode;
+
+import org.eclipse.jdt.internal.compiler.ast.*;
+
+/**
+ * Generates how a bound setter writes its field, and where it gets the new value it passes to listeners, for the
+ * <code>{@link AccessMode}</code> requested by {@code @GenerateBoundSetter(accessMode = ...)}. With {@code DECLARED},
+ * the setter assigns the field and reads it back. With {@code VOLATILE} and {@code RELEASE}, the setter passes its
+ * parameter instead, and with {@code RELEASE} it writes the field with {@code lazySet} on a generated field updater
+ * (e.g. {@code FIRST_NAME_UPDATER.lazySet(this, firstName);}.)
+ *
+ * @author Alex Ruiz
+ */
+class AccessModeGenerator {
+
+  private static final String LAZY_SET_METHOD_NAME = "lazySet";
+
+  /**
+   * Returns the generator for the given access mode.
+   * @param accessMode the access mode requested for a bound setter.
+   * @return the created generator.
+   */
+  static AccessModeGenerator accessModeGenerator(AccessMode accessMode) {
+    return new AccessModeGenerator(accessMode);
+  }
+
+  private final AccessMode accessMode;
+
+  private AccessModeGenerator(AccessMode accessMode) {
+    this.accessMode = accessMode;
+  }
+
+  /**
+   * Indicates whether the given field can be written with the access mode of this generator. If it cannot, an error
+   * is reported on the field.
+   * @param fieldNode the given field.
+   * @param typeNode the type declaring the field.
+   * @return {@code true} if the given field can be written with the access mode of this generator; {@code false}
+   *         otherwise.
+   */
+  boolean supports(EclipseNode fieldNode, EclipseNode typeNode) {
+    if (accessMode == DECLARED) return true;
+    FieldDeclaration fieldDecl = (FieldDeclaration) fieldNode.get();
+    if ((fieldDecl.modifiers & VOLATILE) == 0) {
+      fieldNode.addError(accessModeRequiresVolatileField(GenerateBoundSetter.class, accessMode));
+      return false;
+    }
+    if (accessMode == RELEASE && updaterTypeOf(fieldNode, typeNode) == null) {
+      fieldNode.addError(releaseAccessModeRequiresUpdatableField(GenerateBoundSetter.class));
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Generates, in the given type, the field updater that writes the given field, if the access mode of this generator
+   * needs one.
+   * @param fieldNode the given field.
+   * @param typeNode the type declaring the field.
+   */
+  void generateUpdaterField(EclipseNode fieldNode, EclipseNode typeNode) {
+    if (accessMode == RELEASE) FieldUpdaters.generateUpdaterField(fieldNode, typeNode);
+  }
+
+  /**
+   * Returns the new value that the setter of the given field passes to listeners and change callbacks: the field
+   * itself with {@code DECLARED}, and the parameter of the setter otherwise.
+   * @param fieldNode the given field.
+   * @return the new value that the setter of the given field passes to listeners and change callbacks.
+   */
+  Expression newValue(EclipseNode fieldNode) {
+    if (accessMode == DECLARED) return newFieldAccessor(fieldNode);
+    return singleNameReference(fieldNode.getName(), fieldNode.get());
+  }
+
+  /**
+   * Creates the statement that writes the parameter of the setter of the given field to the field.
+   * @param fieldNode the given field.
+   * @return the created statement.
+   */
+  Statement assignNewValueStatement(EclipseNode fieldNode) {
+    // RELEASE: FIRST_NAME_UPDATER.lazySet(this, firstName);
+    // otherwise: this.firstName = firstName;
+    ASTNode source = fieldNode.get();
+    Expression newValue = singleNameReference(fieldNode.getName(), source);
+    if (accessMode != RELEASE) return assignment(newFieldAccessor(fieldNode), newValue, source);
+    return updaterInvocation(LAZY_SET_METHOD_NAME, array(newValue), fieldNode);
+  }
+}
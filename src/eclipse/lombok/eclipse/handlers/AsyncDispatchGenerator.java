@@ -0,0 +1,408 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.eclipse.handlers;
+
+import static java.lang.reflect.Modifier.*;
+import static lombok.core.util.Arrays.array;
+import static lombok.core.util.Names.*;
+import static lombok.eclipse.handlers.Eclipse.*;
+import static lombok.eclipse.handlers.EclipseHandlerUtil.*;
+import static lombok.eclipse.handlers.FieldBuilder.newField;
+import static lombok.eclipse.handlers.Lombok.addField;
+import static lombok.eclipse.handlers.Lombok.addMethod;
+import static lombok.eclipse.handlers.Lombok.addStaticField;
+import static lombok.eclipse.handlers.MemberChecks.fieldAlreadyExists;
+import static lombok.eclipse.handlers.MethodBuilder.newMethod;
+import static org.eclipse.jdt.internal.compiler.ast.OperatorIds.*;
+
+import java.beans.PropertyChangeEvent;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import lombok.eclipse.EclipseNode;
+
+import org.eclipse.jdt.internal.compiler.ast.*;
+
+/**
+ * Delivers property change events through an <code>{@link Executor}</code> instead of notifying listeners in the
+ * setters. Listeners are still stored by the listener registry this generator wraps. Events are queued per bean and
+ * only one task per bean delivers them, so listeners receive the events of a bean in the order they were fired. The
+ * default executor runs tasks on virtual threads or, before Java 21, on a cached pool of daemon threads, so that it
+ * never keeps the JVM alive.
+ *
+ * @author Alex Ruiz
+ */
+class AsyncDispatchGenerator extends ListenerRegistryGenerator {
+
+  private static final String EVENT_VARIABLE_NAME = "event";
+  private static final String EXCEPTION_VARIABLE_NAME = "e";
+  private static final String EXECUTOR_ARG_NAME = "executor";
+  private static final String PROPERTY_NAME_ARG_NAME = "propertyName";
+  private static final String OLD_VALUE_ARG_NAME = "oldValue";
+  private static final String NEW_VALUE_ARG_NAME = "newValue";
+  private static final String TASK_ARG_NAME = "task";
+  private static final String THREAD_VARIABLE_NAME = "thread";
+
+  private final ListenerRegistryGenerator registry;
+
+  AsyncDispatchGenerator(ListenerRegistryGenerator registry) {
+    this.registry = registry;
+  }
+
+  @Override void generateRegistry(EclipseNode typeNode) {
+    registry.generateRegistry(typeNode);
+    if (fieldAlreadyExists(PENDING_PROPERTY_CHANGES_FIELD_NAME, typeNode)) return;
+    generateExecutorField(typeNode);
+    generatePendingChangesField(typeNode);
+    generateDispatchingField(typeNode);
+    generateDispatcherField(typeNode);
+    generateSetExecutorMethod(typeNode);
+    generateDefaultExecutorMethod(typeNode);
+    generateDispatchChangeMethod(typeNode);
+    generateDispatchEventMethod(typeNode);
+    generateDispatchPendingChangesMethod(typeNode);
+  }
+
+  private void generateExecutorField(EclipseNode typeNode) {
+    // private static volatile Executor propertyChangeExecutor = defaultPropertyChangeExecutor();
+    ASTNode source = typeNode.get();
+    FieldDeclaration fieldDecl = newField().ofType(qualifiedTypeReference(Executor.class, source))
+                                           .withName(PROPERTY_CHANGE_EXECUTOR_FIELD_NAME)
+                                           .withModifiers(PRIVATE | STATIC | VOLATILE)
+                                           .withInitializer(call(DEFAULT_PROPERTY_CHANGE_EXECUTOR_METHOD_NAME, source))
+                                           .buildWith(typeNode);
+    addStaticField(typeNode, fieldDecl);
+  }
+
+  private void generatePendingChangesField(EclipseNode typeNode) {
+    // private final Queue<PropertyChangeEvent> pendingPropertyChanges =
+    //     new ConcurrentLinkedQueue<PropertyChangeEvent>();
+    ASTNode source = typeNode.get();
+    Expression queue = newInstance(eventsType(ConcurrentLinkedQueue.class, source), null, source);
+    FieldDeclaration fieldDecl = newField().ofType(eventsType(Queue.class, source))
+                                           .withName(PENDING_PROPERTY_CHANGES_FIELD_NAME)
+                                           .withModifiers(PRIVATE | FINAL)
+                                           .withInitializer(queue)
+                                           .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generateDispatchingField(EclipseNode typeNode) {
+    // private final AtomicBoolean dispatchingPropertyChanges = new AtomicBoolean();
+    FieldDeclaration fieldDecl = newField().ofType(AtomicBoolean.class)
+                                           .withName(DISPATCHING_PROPERTY_CHANGES_FIELD_NAME)
+                                           .withModifiers(PRIVATE | FINAL)
+                                           .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generateDispatcherField(EclipseNode typeNode) {
+    // private final Runnable propertyChangeDispatcher = new Runnable() {
+    //   public void run() {
+    //     dispatchPendingPropertyChanges();
+    //   }
+    // };
+    ASTNode source = typeNode.get();
+    MethodDeclaration run = newMethod().withModifiers(PUBLIC)
+                                       .withName("run")
+                                       .withReturnType(voidType(source))
+                                       .withBody(array(call(DISPATCH_PENDING_PROPERTY_CHANGES_METHOD_NAME, source)))
+                                       .buildWith(typeNode);
+    TypeDeclaration typeDecl = (TypeDeclaration) typeNode.get();
+    Expression dispatcher = anonymousInstance(qualifiedTypeReference(Runnable.class, source),
+        array((AbstractMethodDeclaration) run), typeDecl.compilationResult, source);
+    FieldDeclaration fieldDecl = newField().ofType(qualifiedTypeReference(Runnable.class, source))
+                                           .withName(PROPERTY_CHANGE_DISPATCHER_FIELD_NAME)
+                                           .withModifiers(PRIVATE | FINAL)
+                                           .withInitializer(dispatcher)
+                                           .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generateSetExecutorMethod(EclipseNode typeNode) {
+    // public static void setPropertyChangeExecutor(final Executor executor) {
+    //   if (executor == null) throw new NullPointerException("executor");
+    //   propertyChangeExecutor = executor;
+    // }
+    ASTNode source = typeNode.get();
+    Expression missing = equalExpression(singleNameReference(EXECUTOR_ARG_NAME, source), nullLiteral(source),
+        EQUAL_EQUAL, source);
+    Expression exception = newInstance(qualifiedTypeReference(NullPointerException.class, source),
+        array(stringLiteral(EXECUTOR_ARG_NAME, source)), source);
+    Statement throwIfMissing = ifStatement(missing, throwStatement(exception, source), source);
+    Statement replace = assignment(singleNameReference(PROPERTY_CHANGE_EXECUTOR_FIELD_NAME, source),
+        singleNameReference(EXECUTOR_ARG_NAME, source), source);
+    MethodDeclaration methodDecl = newMethod().withModifiers(PUBLIC | STATIC)
+                                              .withName(SET_PROPERTY_CHANGE_EXECUTOR_METHOD_NAME)
+                                              .withReturnType(voidType(source))
+                                              .withParameters(array(parameter(Executor.class, EXECUTOR_ARG_NAME,
+                                                  source)))
+                                              .withBody(array(throwIfMissing, replace))
+                                              .buildWith(typeNode);
+    addMethod(typeNode, methodDecl);
+  }
+
+  private void generateDefaultExecutorMethod(EclipseNode typeNode) {
+    // private static Executor defaultPropertyChangeExecutor() {
+    //   try {
+    //     return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    //   } catch (final Exception e) {
+    //     return Executors.newCachedThreadPool(new ThreadFactory() { ... });
+    //   }
+    // }
+    ASTNode source = typeNode.get();
+    MessageSend getMethod = messageSend(source);
+    getMethod.receiver = classLiteral(qualifiedTypeReference(Executors.class, source), source);
+    getMethod.selector = "getMethod".toCharArray();
+    getMethod.arguments = array(stringLiteral("newVirtualThreadPerTaskExecutor", source));
+    MessageSend invoke = messageSend(source);
+    invoke.receiver = getMethod;
+    invoke.selector = "invoke".toCharArray();
+    invoke.arguments = array(nullLiteral(source));
+    Statement returnVirtual = returnStatement(cast(invoke, qualifiedTypeReference(Executor.class, source), source),
+        source);
+    MessageSend cachedPool = messageSend(source);
+    cachedPool.receiver = qualifiedNameReference(Executors.class, source);
+    cachedPool.selector = "newCachedThreadPool".toCharArray();
+    cachedPool.arguments = array(daemonThreadFactory(typeNode));
+    Statement returnCachedPool = returnStatement(cachedPool, source);
+    Statement tryVirtual = tryStatement(block(array(returnVirtual), source),
+        parameter(Exception.class, EXCEPTION_VARIABLE_NAME, source), block(array(returnCachedPool), source), null,
+        source);
+    MethodDeclaration methodDecl = newMethod().withModifiers(PRIVATE | STATIC)
+                                              .withName(DEFAULT_PROPERTY_CHANGE_EXECUTOR_METHOD_NAME)
+                                              .withReturnType(qualifiedTypeReference(Executor.class, source))
+                                              .withBody(array(tryVirtual))
+                                              .buildWith(typeNode);
+    addMethod(typeNode, methodDecl);
+  }
+
+  private Expression daemonThreadFactory(EclipseNode typeNode) {
+    // new ThreadFactory() {
+    //   public Thread newThread(final Runnable task) {
+    //     final Thread thread = Executors.defaultThreadFactory().newThread(task);
+    //     thread.setDaemon(true);
+    //     return thread;
+    //   }
+    // }
+    ASTNode source = typeNode.get();
+    MessageSend defaultFactory = messageSend(source);
+    defaultFactory.receiver = qualifiedNameReference(Executors.class, source);
+    defaultFactory.selector = "defaultThreadFactory".toCharArray();
+    MessageSend newThread = messageSend(source);
+    newThread.receiver = defaultFactory;
+    newThread.selector = "newThread".toCharArray();
+    newThread.arguments = array(singleNameReference(TASK_ARG_NAME, source));
+    LocalDeclaration threadDecl = localDeclaration(THREAD_VARIABLE_NAME.toCharArray(),
+        qualifiedTypeReference(Thread.class, source), newThread, source);
+    MessageSend setDaemon = messageSend(source);
+    setDaemon.receiver = singleNameReference(THREAD_VARIABLE_NAME, source);
+    setDaemon.selector = "setDaemon".toCharArray();
+    setDaemon.arguments = array(trueLiteral(source));
+    Statement returnThread = returnStatement(singleNameReference(THREAD_VARIABLE_NAME, source), source);
+    MethodDeclaration newThreadDecl = newMethod().withModifiers(PUBLIC)
+                                                 .withName("newThread")
+                                                 .withReturnType(qualifiedTypeReference(Thread.class, source))
+                                                 .withParameters(array(parameter(Runnable.class, TASK_ARG_NAME,
+                                                     source)))
+                                                 .withBody(array(threadDecl, setDaemon, returnThread))
+                                                 .buildWith(typeNode);
+    TypeDeclaration typeDecl = (TypeDeclaration) typeNode.get();
+    return anonymousInstance(qualifiedTypeReference(ThreadFactory.class, source),
+        array((AbstractMethodDeclaration) newThreadDecl), typeDecl.compilationResult, source);
+  }
+
+  private void generateDispatchChangeMethod(EclipseNode typeNode) {
+    // private void dispatchPropertyChange(final String propertyName, final Object oldValue, final Object newValue) {
+    //   if (oldValue != null && newValue != null && oldValue.equals(newValue)) return;
+    //   dispatchPropertyChange(new PropertyChangeEvent(this, propertyName, oldValue, newValue));
+    // }
+    ASTNode source = typeNode.get();
+    Expression oldNotNull = equalExpression(singleNameReference(OLD_VALUE_ARG_NAME, source), nullLiteral(source),
+        NOT_EQUAL, source);
+    Expression newNotNull = equalExpression(singleNameReference(NEW_VALUE_ARG_NAME, source), nullLiteral(source),
+        NOT_EQUAL, source);
+    MessageSend equal = messageSend(source);
+    equal.receiver = singleNameReference(OLD_VALUE_ARG_NAME, source);
+    equal.selector = "equals".toCharArray();
+    equal.arguments = array(singleNameReference(NEW_VALUE_ARG_NAME, source));
+    Expression unchanged = and(and(oldNotNull, newNotNull, source), equal, source);
+    Statement returnIfUnchanged = ifStatement(unchanged, returnStatement(source), source);
+    Expression[] eventArgs = array(referenceForThis(source), singleNameReference(PROPERTY_NAME_ARG_NAME, source),
+        singleNameReference(OLD_VALUE_ARG_NAME, source), singleNameReference(NEW_VALUE_ARG_NAME, source));
+    Expression newEvent = newInstance(qualifiedTypeReference(PropertyChangeEvent.class, source), eventArgs, source);
+    Argument[] parameters = array(parameter(String.class, PROPERTY_NAME_ARG_NAME, source),
+                                  parameter(Object.class, OLD_VALUE_ARG_NAME, source),
+                                  parameter(Object.class, NEW_VALUE_ARG_NAME, source));
+    Statement[] statements = array(returnIfUnchanged, call(DISPATCH_PROPERTY_CHANGE_METHOD_NAME, source, newEvent));
+    addMethod(typeNode, privateMethod(DISPATCH_PROPERTY_CHANGE_METHOD_NAME, parameters, statements, typeNode));
+  }
+
+  private void generateDispatchEventMethod(EclipseNode typeNode) {
+    // private void dispatchPropertyChange(final PropertyChangeEvent event) {
+    //   pendingPropertyChanges.offer(event);
+    //   if (dispatchingPropertyChanges.compareAndSet(false, true)) {
+    //     // executes the dispatcher (see submitDispatcherIfIdle.)
+    //   }
+    // }
+    ASTNode source = typeNode.get();
+    MessageSend offer = messageSend(source);
+    offer.receiver = singleNameReference(PENDING_PROPERTY_CHANGES_FIELD_NAME, source);
+    offer.selector = "offer".toCharArray();
+    offer.arguments = array(singleNameReference(EVENT_VARIABLE_NAME, source));
+    Argument[] parameters = array(parameter(PropertyChangeEvent.class, EVENT_VARIABLE_NAME, source));
+    Statement[] statements = array(offer, submitDispatcherIfIdle(null, source));
+    addMethod(typeNode, privateMethod(DISPATCH_PROPERTY_CHANGE_METHOD_NAME, parameters, statements, typeNode));
+  }
+
+  private void generateDispatchPendingChangesMethod(EclipseNode typeNode) {
+    // private void dispatchPendingPropertyChanges() {
+    //   try {
+    //     for (PropertyChangeEvent event = pendingPropertyChanges.poll(); event != null;
+    //         event = pendingPropertyChanges.poll()) propertySupport.firePropertyChange(event);
+    //   } finally {
+    //     dispatchingPropertyChanges.set(false);
+    //     if (!pendingPropertyChanges.isEmpty() && dispatchingPropertyChanges.compareAndSet(false, true)) {
+    //       // executes the dispatcher (see submitDispatcherIfIdle.)
+    //     }
+    //   }
+    // }
+    ASTNode source = typeNode.get();
+    LocalDeclaration eventDecl = localDeclaration(EVENT_VARIABLE_NAME.toCharArray(),
+        qualifiedTypeReference(PropertyChangeEvent.class, source), poll(source), 0, source);
+    Expression hasEvent = equalExpression(singleNameReference(EVENT_VARIABLE_NAME, source), nullLiteral(source),
+        NOT_EQUAL, source);
+    Statement next = assignment(singleNameReference(EVENT_VARIABLE_NAME, source), poll(source), source);
+    Statement deliver = forStatement(eventDecl, hasEvent, next,
+        registry.fireEventStatement(EVENT_VARIABLE_NAME, typeNode), source);
+    MessageSend isEmpty = messageSend(source);
+    isEmpty.receiver = singleNameReference(PENDING_PROPERTY_CHANGES_FIELD_NAME, source);
+    isEmpty.selector = "isEmpty".toCharArray();
+    Block finallyBlock = block(array(stopDispatchingStatement(source),
+        submitDispatcherIfIdle(not(isEmpty, source), source)), source);
+    Statement tryDeliver = tryStatement(block(array(deliver), source), null, null, finallyBlock, source);
+    MethodDeclaration methodDecl = newMethod().withModifiers(PRIVATE)
+                                              .withName(DISPATCH_PENDING_PROPERTY_CHANGES_METHOD_NAME)
+                                              .withReturnType(voidType(source))
+                                              .withBody(array(tryDeliver))
+                                              .buildWith(typeNode);
+    addMethod(typeNode, methodDecl);
+  }
+
+  private Statement submitDispatcherIfIdle(Expression precondition, ASTNode source) {
+    // if (dispatchingPropertyChanges.compareAndSet(false, true)) {
+    //   try {
+    //     propertyChangeExecutor.execute(propertyChangeDispatcher);
+    //   } catch (RuntimeException e) {
+    //     dispatchingPropertyChanges.set(false);
+    //     throw e;
+    //   }
+    // }
+    // an executor that rejects the dispatcher must not leave the flag set, or no event would be dispatched again.
+    MessageSend startDispatching = messageSend(source);
+    startDispatching.receiver = singleNameReference(DISPATCHING_PROPERTY_CHANGES_FIELD_NAME, source);
+    startDispatching.selector = "compareAndSet".toCharArray();
+    startDispatching.arguments = array(falseLiteral(source), trueLiteral(source));
+    Expression condition = startDispatching;
+    if (precondition != null) condition = and(precondition, startDispatching, source);
+    MessageSend execute = messageSend(source);
+    execute.receiver = singleNameReference(PROPERTY_CHANGE_EXECUTOR_FIELD_NAME, source);
+    execute.selector = "execute".toCharArray();
+    execute.arguments = array(singleNameReference(PROPERTY_CHANGE_DISPATCHER_FIELD_NAME, source));
+    Block rethrow = block(array(stopDispatchingStatement(source),
+        throwStatement(singleNameReference(EXCEPTION_VARIABLE_NAME, source), source)), source);
+    Statement tryExecute = tryStatement(block(array(execute), source),
+        parameter(RuntimeException.class, EXCEPTION_VARIABLE_NAME, source), rethrow, null, source);
+    return ifStatement(condition, block(array(tryExecute), source), source);
+  }
+
+  private Statement stopDispatchingStatement(ASTNode source) {
+    // dispatchingPropertyChanges.set(false);
+    MessageSend stopDispatching = messageSend(source);
+    stopDispatching.receiver = singleNameReference(DISPATCHING_PROPERTY_CHANGES_FIELD_NAME, source);
+    stopDispatching.selector = "set".toCharArray();
+    stopDispatching.arguments = array(falseLiteral(source));
+    return stopDispatching;
+  }
+
+  @Override Expression noListenersCondition(String propertyNameFieldName, EclipseNode fieldNode) {
+    return registry.noListenersCondition(propertyNameFieldName, fieldNode);
+  }
+
+  @Override Statement notifyListenersStatement(String propertyNameFieldName, Expression oldValue,
+      Expression newValue, EclipseNode fieldNode) {
+    // dispatchPropertyChange(PROP_FIRST_NAME, old, this.firstName);
+    ASTNode source = fieldNode.get();
+    return call(DISPATCH_PROPERTY_CHANGE_METHOD_NAME, source, singleNameReference(propertyNameFieldName, source),
+        oldValue, newValue);
+  }
+
+  @Override Statement fireEventStatement(String eventVariableName, EclipseNode typeNode) {
+    // dispatchPropertyChange(event);
+    ASTNode source = typeNode.get();
+    return call(DISPATCH_PROPERTY_CHANGE_METHOD_NAME, source, singleNameReference(eventVariableName, source));
+  }
+
+  @Override boolean firesIntAndBooleanWithoutBoxing() {
+    return false;
+  }
+
+  @Override boolean indexesPropertyListeners() {
+    return registry.indexesPropertyListeners();
+  }
+
+  @Override void generatePropertyListenerMethods(EclipseNode fieldNode, EclipseNode typeNode) {
+    registry.generatePropertyListenerMethods(fieldNode, typeNode);
+  }
+
+  private MethodDeclaration privateMethod(String methodName, Argument[] parameters, Statement[] statements,
+      EclipseNode typeNode) {
+    return newMethod().withModifiers(PRIVATE)
+                      .withName(methodName)
+                      .withReturnType(voidType(typeNode.get()))
+                      .withParameters(parameters)
+                      .withBody(statements)
+                      .buildWith(typeNode);
+  }
+
+  private MessageSend call(String methodName, ASTNode source, Expression... args) {
+    MessageSend call = messageSend(source);
+    call.receiver = ThisReference.implicitThis();
+    call.selector = methodName.toCharArray();
+    if (args.length > 0) call.arguments = args;
+    return call;
+  }
+
+  private Expression poll(ASTNode source) {
+    MessageSend poll = messageSend(source);
+    poll.receiver = singleNameReference(PENDING_PROPERTY_CHANGES_FIELD_NAME, source);
+    poll.selector = "poll".toCharArray();
+    return poll;
+  }
+
+  private TypeReference eventsType(Class<?> collectionType, ASTNode source) {
+    // Queue<PropertyChangeEvent>
+    TypeReference[] typeArguments = array(qualifiedTypeReference(PropertyChangeEvent.class, source));
+    return parameterizedTypeReference(collectionType, typeArguments, source);
+  }
+
+  private Argument parameter(Class<?> type, String parameterName, ASTNode source) {
+    return argument(parameterName.toCharArray(), qualifiedTypeReference(type, source), FINAL, source);
+  }
+}
@@ -15,26 +15,44 @@
 package lombok.eclipse.handlers;
 
 import static java.lang.reflect.Modifier.*;
+import static java.util.Collections.singletonList;
+import static lombok.EqualityCheck.*;
 import static lombok.core.handlers.TransformationsUtil.*;
 import static lombok.core.util.Arrays.*;
 import static lombok.core.util.AstGeneration.stopAstGeneration;
-import static lombok.core.util.ErrorMessages.canBeUsedOnFieldOnly;
+import static lombok.core.util.ErrorMessages.*;
 import static lombok.core.util.Names.*;
+import static lombok.core.util.PrimitiveType.primitiveTypeNamed;
 import static lombok.eclipse.Eclipse.*;
+import static lombok.eclipse.handlers.AccessModeGenerator.accessModeGenerator;
+import static lombok.eclipse.handlers.BoundProperties.*;
+import static lombok.eclipse.handlers.ChangeBatchGenerator.changeBatchGenerator;
+import static lombok.eclipse.handlers.ChangeCallbackGenerator.changeCallbackGenerator;
+import static lombok.eclipse.handlers.ChangeJournalGenerator.changeJournalGenerator;
+import static lombok.eclipse.handlers.DirtyTrackingGenerator.dirtyTrackingGenerator;
 import static lombok.eclipse.handlers.Eclipse.*;
 import static lombok.eclipse.handlers.EclipseHandlerUtil.*;
 import static lombok.eclipse.handlers.FieldBuilder.newField;
-import static lombok.eclipse.handlers.Lombok.newFieldAccessor;
+import static lombok.eclipse.handlers.FieldUpdaters.*;
+import static lombok.eclipse.handlers.InstrumentationGenerator.instrumentationGenerator;
+import static lombok.eclipse.handlers.ListenerRegistryGenerator.listenerRegistryGenerator;
+import static lombok.eclipse.handlers.Lombok.*;
 import static lombok.eclipse.handlers.MemberChecks.*;
 import static lombok.eclipse.handlers.MethodBuilder.newMethod;
+import static lombok.eclipse.handlers.VetoableChangeSupportGenerator.*;
+import static org.eclipse.jdt.internal.compiler.ast.OperatorIds.*;
+import static org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants.AccFinal;
 import static org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants.AccStatic;
 
 import java.beans.PropertyChangeSupport;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 import lombok.*;
 import lombok.core.AnnotationValues;
+import lombok.core.util.PrimitiveType;
 import lombok.eclipse.EclipseAnnotationHandler;
 import lombok.eclipse.EclipseNode;
 import lombok.javac.handlers.JavaBeanHandler;
@@ -44,7 +62,8 @@ import org.mangosdk.spi.ProviderFor;
 
 
 /**
- * Generates a "bound" setter for a field annotated with <code>{@link GenerateBoundSetter}</code>.
+ * Generates a "bound" setter for a field annotated with <code>{@link GenerateBoundSetter}</code>, or for every field
+ * of a class annotated with it.
  * <p>
  * For example, given this class:
  *
@@ -64,6 +83,10 @@ import org.mangosdk.spi.ProviderFor;
  *   private String firstName;
  *
  *   public void setFirstName(String value) {
+ *      if (!propertySupport.hasListeners(PROP_FIRST_NAME)) {
+ *        firstName = value;
+ *        return;
+ *      }
  *      String oldValue = firstName;
  *      firstName = value;
  *      propertySupport.firePropertyChange(PROP_FIRST_NAME, oldValue, firstName);
@@ -77,6 +100,24 @@ import org.mangosdk.spi.ProviderFor;
  * field manually or annotate the class with <code>{@link GenerateJavaBean}</code> to have
  * <code>{@link JavaBeanHandler}</code> generate it for you.
  * </p>
+ * <p>
+ * The setter is extended by these generators, depending on the attributes of <code>{@link GenerateJavaBean}</code>,
+ * <code>{@link GenerateBoundSetter}</code> and <code>{@link GenerateConstrainedSetter}</code>:
+ * <ul>
+ * <li><code>{@link ListenerRegistryGenerator}</code>: checks and notifies the listeners of the registry in use</li>
+ * <li><code>{@link ChangeBatchGenerator}</code>: adds changes to the batch in progress, if any</li>
+ * <li><code>{@link ChangeCallbackGenerator}</code>: passes every change to the change callbacks</li>
+ * <li><code>{@link VetoableChangeSupportGenerator}</code>: lets vetoable change listeners reject the new value</li>
+ * <li><code>{@link DirtyTrackingGenerator}</code>: marks the property as dirty, if its value changed</li>
+ * <li><code>{@link ChangeJournalGenerator}</code>: journals the new value, if it changed</li>
+ * <li><code>{@link AccessModeGenerator}</code>: writes {@code volatile} fields as asked by {@code accessMode}</li>
+ * <li><code>{@link FieldUpdaters}</code>: backs the {@code compareAndSet}, {@code getAndSet} and counter methods</li>
+ * <li><code>{@link InstrumentationGenerator}</code>: records writes and the time taken to notify listeners</li>
+ * </ul>
+ * With {@code equalityCheck = EQUALS} (or {@code IDENTITY}), the setter returns right away if the new value is the
+ * same as the current one. When the class is annotated, the setters of all its eligible fields are generated in a
+ * single pass, which scans the existing members of the class only once (see <code>{@link MemberNames}</code>.)
+ * </p>
  *
  * @author Alex Ruiz
  */
@@ -85,6 +126,12 @@ public class BoundSetterHandler implements EclipseAnnotationHandler<GenerateBoun
 
   private static final Class<GenerateBoundSetter> TARGET_ANNOTATION_TYPE = GenerateBoundSetter.class;
 
+  private static final String COMPARE_AND_SET_METHOD_NAME = "compareAndSet";
+  private static final String GET_AND_SET_METHOD_NAME = "getAndSet";
+  private static final String ADD_AND_GET_METHOD_NAME = "addAndGet";
+  private static final String EXPECTED_ARG_NAME = "expected";
+  private static final String DELTA_ARG_NAME = "delta";
+
   /**
    * Called when an annotation is found that is likely to match <code>{@link GenerateBoundSetter}</code>. This is were
    * AST node generation happens.
@@ -96,14 +143,17 @@ public class BoundSetterHandler implements EclipseAnnotationHandler<GenerateBoun
   @Override
   public boolean handle(AnnotationValues<GenerateBoundSetter> annotation, Annotation ast, EclipseNode astWrapper) {
     List<EclipseNode> fields = new ArrayList<EclipseNode>(astWrapper.upFromAnnotationToFields());
-    EclipseNode mayBeField = astWrapper.up();
-    if (mayBeField == null) return false;
-    if (!isField(mayBeField)) {
-      astWrapper.addError(canBeUsedOnFieldOnly(TARGET_ANNOTATION_TYPE));
+    EclipseNode annotatedNode = astWrapper.up();
+    if (annotatedNode == null) return false;
+    if (isField(annotatedNode)) {
+      generateSetters(fields, annotation.getInstance(), findTypeNodeFrom(annotatedNode));
+      return true;
+    }
+    if (isClass(annotatedNode)) {
+      generateSetters(fieldsOf(annotatedNode), annotation.getInstance(), annotatedNode);
       return true;
     }
-    EclipseNode typeNode = findTypeNodeFrom(mayBeField);
-    generateSetter(fields, annotation.getInstance(), typeNode);
+    astWrapper.addError(canBeUsedOnClassAndFieldOnly(TARGET_ANNOTATION_TYPE));
     return true;
   }
 
@@ -118,11 +168,31 @@ public class BoundSetterHandler implements EclipseAnnotationHandler<GenerateBoun
     return node != null && node.get() instanceof TypeDeclaration;
   }
 
-  private void generateSetter(List<EclipseNode> fields, GenerateBoundSetter setter, EclipseNode typeNode) {
+  private List<EclipseNode> fieldsOf(EclipseNode typeNode) {
+    // fields annotated with @GenerateBoundSetter are left to their own annotation, which may have other settings.
+    List<EclipseNode> fields = new ArrayList<EclipseNode>();
+    for (EclipseNode child : typeNode.down())
+      if (isField(child) && isBoundByTypeAnnotation(child)) fields.add(child);
+    return fields;
+  }
+
+  private void generateSetters(List<EclipseNode> fields, GenerateBoundSetter setter, EclipseNode typeNode) {
+    GenerateJavaBean javaBean = findAnnotation(GenerateJavaBean.class, typeNode);
+    ListenerRegistryGenerator registry = listenerRegistryGenerator(javaBean);
+    ChangeBatchGenerator batches = changeBatchGenerator(javaBean, registry);
+    ChangeCallbackGenerator callbacks = changeCallbackGenerator(javaBean, registry);
+    DirtyTrackingGenerator dirtyTracking = dirtyTrackingGenerator(javaBean);
+    ChangeJournalGenerator journal = changeJournalGenerator(javaBean);
+    InstrumentationGenerator instrumentation = instrumentationGenerator(javaBean);
     for (EclipseNode fieldNode : fields) {
       String propertyNameFieldName = nameOfConstantBasedOnProperty(fieldNode.getName());
       generatePropertyNameConstant(propertyNameFieldName, fieldNode, typeNode);
-      generateSetter(propertyNameFieldName, setter, fieldNode);
+      if (registry.indexesPropertyListeners() || callbacks.isEnabled() || dirtyTracking.isEnabled()
+          || journal.isEnabled())
+        generatePropertyOrdinalConstant(fieldNode, typeNode);
+      if (registry.indexesPropertyListeners()) registry.generatePropertyListenerMethods(fieldNode, typeNode);
+      generateSetter(propertyNameFieldName, setter, registry, batches, callbacks, dirtyTracking, journal,
+          instrumentation, fieldNode, typeNode);
     }
   }
 
@@ -130,27 +200,298 @@ public class BoundSetterHandler implements EclipseAnnotationHandler<GenerateBoun
     // generates:
     // public static final String PROP_FIRST_NAME = "firstName";
     String propertyName = fieldNode.getName();
-    if (fieldAlreadyExists(propertyNameFieldName, fieldNode)) return;
+    if (fieldAlreadyExists(propertyNameFieldName, typeNode)) return;
     Expression propertyNameExpression = stringLiteral(propertyName, typeNode.get());
     FieldDeclaration fieldDecl = newField().ofType(String.class)
                                            .withName(propertyNameFieldName)
                                            .withModifiers(PUBLIC | STATIC | FINAL)
                                            .withArgs(propertyNameExpression)
                                            .buildWith(typeNode);
-    injectField(typeNode, fieldDecl);
+    addStaticField(typeNode, fieldDecl);
   }
 
-  private void generateSetter(String propertyNameFieldName, GenerateBoundSetter setter, EclipseNode fieldNode) {
+  private void generatePropertyOrdinalConstant(EclipseNode fieldNode, EclipseNode typeNode) {
+    // generates:
+    // public static final int ORDINAL_FIRST_NAME = 0;
+    String ordinalFieldName = nameOfOrdinalConstantBasedOnProperty(fieldNode.getName());
+    int ordinal = boundPropertiesOf(typeNode).ordinalOf(fieldNode.getName());
+    if (ordinal < 0 || fieldAlreadyExists(ordinalFieldName, typeNode)) return;
+    ASTNode source = typeNode.get();
+    FieldDeclaration fieldDecl = newField().ofType(intType(source))
+                                           .withName(ordinalFieldName)
+                                           .withModifiers(PUBLIC | STATIC | FINAL)
+                                           .withInitializer(intLiteral(String.valueOf(ordinal), source))
+                                           .buildWith(typeNode);
+    addStaticField(typeNode, fieldDecl);
+  }
+
+  private void generateSetter(String propertyNameFieldName, GenerateBoundSetter setter,
+      ListenerRegistryGenerator registry, ChangeBatchGenerator batches, ChangeCallbackGenerator callbacks,
+      DirtyTrackingGenerator dirtyTracking, ChangeJournalGenerator journal, InstrumentationGenerator instrumentation,
+      EclipseNode fieldNode, EclipseNode typeNode) {
     AccessLevel accessLevel = setter.value();
     if (stopAstGeneration(accessLevel)) return;
-    String setterName = toSetterName(fieldNode.getName());
-    if (methodAlreadyExists(setterName, fieldNode)) return;
-    injectMethod(fieldNode.up(), createSetterDecl(accessLevel, propertyNameFieldName, setterName, fieldNode));
+    String setterName = nameOfSetter(fieldNode.getName());
+    if (methodAlreadyExists(setterName, typeNode)) return;
+    AccessModeGenerator access = accessModeGenerator(setter.accessMode());
+    if (!access.supports(fieldNode, typeNode)) return;
+    if (setter.atomicUpdates() && !supportsAtomicUpdates(fieldNode, typeNode)) return;
+    if (setter.counter() && !supportsCounter(setter, fieldNode, typeNode)) return;
+    access.generateUpdaterField(fieldNode, typeNode);
+    instrumentation.generateMetricsField(fieldNode, typeNode);
+    addMethod(typeNode, createSetterDecl(accessLevel, setter.equalityCheck(), propertyNameFieldName, setterName,
+        access, registry, batches, callbacks, dirtyTracking, journal, instrumentation, fieldNode, typeNode));
+    if (setter.atomicUpdates()) generateAtomicUpdateMethods(accessLevel, setter.equalityCheck(), propertyNameFieldName,
+        registry, batches, callbacks, dirtyTracking, journal, instrumentation, fieldNode, typeNode);
+    if (setter.counter()) generateCounterMethods(accessLevel, setter.notifyEvery(), propertyNameFieldName, registry,
+        batches, callbacks, dirtyTracking, journal, instrumentation, fieldNode, typeNode);
+  }
+
+  private boolean supportsAtomicUpdates(EclipseNode fieldNode, EclipseNode typeNode) {
+    FieldDeclaration fieldDecl = (FieldDeclaration) fieldNode.get();
+    if ((fieldDecl.modifiers & VOLATILE) == 0 || updaterTypeOf(fieldNode, typeNode) == null) {
+      fieldNode.addError(atomicUpdatesRequireUpdatableField(TARGET_ANNOTATION_TYPE));
+      return false;
+    }
+    if (isConstrained(fieldNode)) {
+      fieldNode.addError(atomicUpdatesCannotBeVetoed(TARGET_ANNOTATION_TYPE, GenerateConstrainedSetter.class));
+      return false;
+    }
+    return true;
+  }
+
+  private boolean supportsCounter(GenerateBoundSetter setter, EclipseNode fieldNode, EclipseNode typeNode) {
+    FieldDeclaration fieldDecl = (FieldDeclaration) fieldNode.get();
+    Class<?> updaterType = updaterTypeOf(fieldNode, typeNode);
+    boolean numeric = updaterType == AtomicIntegerFieldUpdater.class || updaterType == AtomicLongFieldUpdater.class;
+    if ((fieldDecl.modifiers & VOLATILE) == 0 || !numeric) {
+      fieldNode.addError(counterRequiresVolatileNumericField(TARGET_ANNOTATION_TYPE));
+      return false;
+    }
+    if (isConstrained(fieldNode)) {
+      fieldNode.addError(counterCannotBeVetoed(TARGET_ANNOTATION_TYPE, GenerateConstrainedSetter.class));
+      return false;
+    }
+    if (setter.notifyEvery() < 1) {
+      fieldNode.addError(notifyEveryMustBePositive(TARGET_ANNOTATION_TYPE, setter.notifyEvery()));
+      return false;
+    }
+    return true;
+  }
+
+  private void generateAtomicUpdateMethods(AccessLevel accessLevel, EqualityCheck equalityCheck,
+      String propertyNameFieldName, ListenerRegistryGenerator registry, ChangeBatchGenerator batches,
+      ChangeCallbackGenerator callbacks, DirtyTrackingGenerator dirtyTracking, ChangeJournalGenerator journal,
+      InstrumentationGenerator instrumentation, EclipseNode fieldNode, EclipseNode typeNode) {
+    generateUpdaterField(fieldNode, typeNode);
+    String compareAndSetName = nameOfCompareAndSetMethod(fieldNode.getName());
+    if (!methodAlreadyExists(compareAndSetName, typeNode))
+      addMethod(typeNode, compareAndSetDecl(accessLevel, equalityCheck, propertyNameFieldName, compareAndSetName,
+          registry, batches, callbacks, dirtyTracking, journal, instrumentation, fieldNode, typeNode));
+    String getAndSetName = nameOfGetAndSetMethod(fieldNode.getName());
+    if (!methodAlreadyExists(getAndSetName, typeNode))
+      addMethod(typeNode, getAndSetDecl(accessLevel, equalityCheck, propertyNameFieldName, getAndSetName, registry,
+          batches, callbacks, dirtyTracking, journal, instrumentation, fieldNode, typeNode));
+  }
+
+  private void generateCounterMethods(AccessLevel accessLevel, int notifyEvery, String propertyNameFieldName,
+      ListenerRegistryGenerator registry, ChangeBatchGenerator batches, ChangeCallbackGenerator callbacks,
+      DirtyTrackingGenerator dirtyTracking, ChangeJournalGenerator journal, InstrumentationGenerator instrumentation,
+      EclipseNode fieldNode, EclipseNode typeNode) {
+    generateUpdaterField(fieldNode, typeNode);
+    String addToName = nameOfAddToMethod(fieldNode.getName());
+    if (!methodAlreadyExists(addToName, typeNode))
+      addMethod(typeNode, addToDecl(accessLevel, notifyEvery, propertyNameFieldName, addToName, registry, batches,
+          callbacks, dirtyTracking, journal, instrumentation, fieldNode, typeNode));
+    String incrementName = nameOfIncrementMethod(fieldNode.getName());
+    if (!methodAlreadyExists(incrementName, typeNode))
+      addMethod(typeNode, incrementDecl(accessLevel, incrementName, addToName, fieldNode));
   }
 
-  private MethodDeclaration createSetterDecl(AccessLevel accessLevel, String propertyNameFieldName, String setterName,
+  private MethodDeclaration addToDecl(AccessLevel accessLevel, int notifyEvery, String propertyNameFieldName,
+      String methodName, ListenerRegistryGenerator registry, ChangeBatchGenerator batches,
+      ChangeCallbackGenerator callbacks, DirtyTrackingGenerator dirtyTracking, ChangeJournalGenerator journal,
+      InstrumentationGenerator instrumentation, EclipseNode fieldNode, EclipseNode typeNode) {
+    // the new value is held in a local variable named after the field, so it is what the setter would notify.
+    // public int addToCount(final int delta) {
+    //   final int count = COUNT_UPDATER.addAndGet(this, delta);
+    //   final int old = count - delta;
+    //   if (floor(old / 100) == floor(count / 100)) return count; // only if notifyEvery = 100
+    //   if (!propertySupport.hasListeners(PROP_COUNT)) return count;
+    //   propertySupport.firePropertyChange(PROP_COUNT, old, count);
+    //   return count;
+    // }
+    FieldDeclaration fieldDecl = (FieldDeclaration) fieldNode.get();
+    ASTNode source = fieldNode.get();
+    char[] deltaName = DELTA_ARG_NAME.toCharArray();
+    char[] oldValueName = OLD_VALUE_VARIABLE_NAME.toCharArray();
+    Expression add = updaterInvocation(ADD_AND_GET_METHOD_NAME, array(singleNameReference(deltaName, source)),
+        fieldNode);
+    Expression subtract = binaryExpression(singleNameReference(fieldDecl.name, source),
+        singleNameReference(deltaName, source), MINUS, source);
+    List<Statement> statements = new ArrayList<Statement>();
+    statements.add(localDeclaration(fieldDecl.name, fieldDecl.type, add, source));
+    statements.add(localDeclaration(oldValueName, fieldDecl.type, subtract, source));
+    // counters are numeric: whatever the equality check, a change is a different value.
+    statements.addAll(atomicUpdateNotificationDecls(NONE, propertyNameFieldName, oldValueName, fieldDecl.name,
+        notifyEvery, registry, batches, callbacks, dirtyTracking, journal, instrumentation, fieldNode, typeNode));
+    return newMethod().withModifiers(toEclipseModifier(accessLevel))
+                      .withName(methodName)
+                      .withReturnType(copyType(fieldDecl.type, source))
+                      .withParameters(array(argument(deltaName, copyType(fieldDecl.type, source), AccFinal, source)))
+                      .withBody(statements.toArray(new Statement[statements.size()]))
+                      .buildWith(fieldNode);
+  }
+
+  private MethodDeclaration incrementDecl(AccessLevel accessLevel, String methodName, String addToName,
       EclipseNode fieldNode) {
+    // public int incrementCount() {
+    //   return addToCount(1);
+    // }
+    FieldDeclaration fieldDecl = (FieldDeclaration) fieldNode.get();
+    ASTNode source = fieldNode.get();
+    MessageSend addOne = messageSend(source);
+    addOne.receiver = ThisReference.implicitThis();
+    addOne.selector = addToName.toCharArray();
+    addOne.arguments = array(intLiteral("1", source));
+    return newMethod().withModifiers(toEclipseModifier(accessLevel))
+                      .withName(methodName)
+                      .withReturnType(copyType(fieldDecl.type, source))
+                      .withBody(array((Statement) returnStatement(addOne, source)))
+                      .buildWith(fieldNode);
+  }
+
+  private MethodDeclaration compareAndSetDecl(AccessLevel accessLevel, EqualityCheck equalityCheck,
+      String propertyNameFieldName, String methodName, ListenerRegistryGenerator registry, ChangeBatchGenerator batches,
+      ChangeCallbackGenerator callbacks, DirtyTrackingGenerator dirtyTracking, ChangeJournalGenerator journal,
+      InstrumentationGenerator instrumentation, EclipseNode fieldNode, EclipseNode typeNode) {
+    // public boolean compareAndSetFirstName(final String expected, String firstName) {
+    //   if (!FIRST_NAME_UPDATER.compareAndSet(this, expected, firstName)) return false;
+    //   if (!propertySupport.hasListeners(PROP_FIRST_NAME)) return true;
+    //   propertySupport.firePropertyChange(PROP_FIRST_NAME, expected, firstName);
+    //   return true;
+    // }
+    FieldDeclaration fieldDecl = (FieldDeclaration) fieldNode.get();
+    ASTNode source = fieldNode.get();
+    char[] expectedName = EXPECTED_ARG_NAME.toCharArray();
+    Argument expected = argument(expectedName, copyType(fieldDecl.type, source), FINAL, source);
+    Expression[] args = array(singleNameReference(expectedName, source),
+                              singleNameReference(fieldNode.getName(), source));
+    Expression swapped = updaterInvocation(COMPARE_AND_SET_METHOD_NAME, args, fieldNode);
+    List<Statement> statements = new ArrayList<Statement>();
+    statements.add(ifStatement(not(swapped, source), returnStatement(falseLiteral(source), source), source));
+    statements.addAll(atomicUpdateNotificationDecls(equalityCheck, propertyNameFieldName, expectedName, null, 1,
+        registry, batches, callbacks, dirtyTracking, journal, instrumentation, fieldNode, typeNode));
+    Annotation[] nonNulls = findAnnotations(fieldDecl, NON_NULL_PATTERN);
+    return newMethod().withModifiers(toEclipseModifier(accessLevel))
+                      .withName(methodName)
+                      .withReturnType(booleanType(source))
+                      .withParameters(prepend(expected, parameters(nonNulls, fieldNode)))
+                      .withBody(statements.toArray(new Statement[statements.size()]))
+                      .buildWith(fieldNode);
+  }
+
+  private MethodDeclaration getAndSetDecl(AccessLevel accessLevel, EqualityCheck equalityCheck,
+      String propertyNameFieldName, String methodName, ListenerRegistryGenerator registry, ChangeBatchGenerator batches,
+      ChangeCallbackGenerator callbacks, DirtyTrackingGenerator dirtyTracking, ChangeJournalGenerator journal,
+      InstrumentationGenerator instrumentation, EclipseNode fieldNode, EclipseNode typeNode) {
+    // public String getAndSetFirstName(String firstName) {
+    //   final String old = FIRST_NAME_UPDATER.getAndSet(this, firstName);
+    //   if (!propertySupport.hasListeners(PROP_FIRST_NAME)) return old;
+    //   propertySupport.firePropertyChange(PROP_FIRST_NAME, old, firstName);
+    //   return old;
+    // }
+    FieldDeclaration fieldDecl = (FieldDeclaration) fieldNode.get();
+    ASTNode source = fieldNode.get();
+    char[] oldValueName = OLD_VALUE_VARIABLE_NAME.toCharArray();
+    Expression swap = updaterInvocation(GET_AND_SET_METHOD_NAME, array(singleNameReference(fieldNode.getName(),
+        source)), fieldNode);
+    List<Statement> statements = new ArrayList<Statement>();
+    statements.add(localDeclaration(oldValueName, fieldDecl.type, swap, source));
+    statements.addAll(atomicUpdateNotificationDecls(equalityCheck, propertyNameFieldName, oldValueName, oldValueName,
+        1, registry, batches, callbacks, dirtyTracking, journal, instrumentation, fieldNode, typeNode));
+    Annotation[] nonNulls = findAnnotations(fieldDecl, NON_NULL_PATTERN);
+    return newMethod().withModifiers(toEclipseModifier(accessLevel))
+                      .withName(methodName)
+                      .withReturnType(copyType(fieldDecl.type, source))
+                      .withParameters(parameters(nonNulls, fieldNode))
+                      .withBody(statements.toArray(new Statement[statements.size()]))
+                      .buildWith(fieldNode);
+  }
+
+  private List<Statement> atomicUpdateNotificationDecls(EqualityCheck equalityCheck, String propertyNameFieldName,
+      char[] oldValueName, char[] resultName, int notifyEvery, ListenerRegistryGenerator registry,
+      ChangeBatchGenerator batches, ChangeCallbackGenerator callbacks, DirtyTrackingGenerator dirtyTracking,
+      ChangeJournalGenerator journal, InstrumentationGenerator instrumentation, EclipseNode fieldNode,
+      EclipseNode typeNode) {
+    // the old value is the one the update actually replaced, and the new value is the parameter (or the local variable)
+    // named after the field, as with @GenerateBoundSetter(accessMode = VOLATILE).
+    AccessModeGenerator access = accessModeGenerator(AccessMode.VOLATILE);
+    ASTNode source = fieldNode.get();
+    List<Statement> statements = new ArrayList<Statement>();
+    if (instrumentation.isEnabled()) statements.add(instrumentation.recordWriteStatement(sameValueDecl(oldValueName,
+        EQUALS, access, fieldNode), fieldNode));
+    statements.addAll(unlessUnchangedDecl(sameValueDecl(oldValueName, changeRule(equalityCheck), access, fieldNode),
+        changeRecordingDecls(dirtyTracking, journal, fieldNode, typeNode), fieldNode));
+    if (notifyEvery > 1) statements.add(ifStatement(sameMultipleDecl(oldValueName, notifyEvery, fieldNode),
+        returnStatement(atomicUpdateResult(resultName, fieldNode), source), source));
+    if (callbacks.isEnabled())
+      statements.add(notifyCallbacksDecl(oldValueName, changeRule(equalityCheck), access, callbacks, fieldNode));
+    statements.add(returnIfNoListenersDecl(propertyNameFieldName, atomicUpdateResult(resultName, fieldNode), registry,
+        fieldNode));
+    statements.add(fireChangeEventMethodDecl(propertyNameFieldName, oldValueName, NONE, access, registry, batches,
+        instrumentation, fieldNode));
+    statements.add(returnStatement(atomicUpdateResult(resultName, fieldNode), source));
+    return statements;
+  }
+
+  private Expression sameMultipleDecl(char[] oldValueName, int notifyEvery, EclipseNode fieldNode) {
+    // the update did not reach or cross a multiple of notifyEvery:
+    // (old < 0 ? (old + 1) / 100 - 1 : old / 100) == (count < 0 ? (count + 1) / 100 - 1 : count / 100)
+    ASTNode source = fieldNode.get();
+    return equalExpression(multipleDecl(oldValueName, notifyEvery, fieldNode), multipleDecl(
+        fieldNode.getName().toCharArray(), notifyEvery, fieldNode), EQUAL_EQUAL, source);
+  }
+
+  private Expression multipleDecl(char[] valueName, int notifyEvery, EclipseNode fieldNode) {
+    // the quotient is rounded down, not toward zero, so that counters going below zero still reach or cross multiples:
+    // count < 0 ? (count + 1) / 100 - 1 : count / 100
+    ASTNode source = fieldNode.get();
+    String divisor = String.valueOf(notifyEvery);
+    Expression negative = binaryExpression(singleNameReference(valueName, source), intLiteral("0", source), LESS,
+        source);
+    Expression nextValue = binaryExpression(singleNameReference(valueName, source), intLiteral("1", source), PLUS,
+        source);
+    Expression roundedDown = binaryExpression(binaryExpression(nextValue, intLiteral(divisor, source), DIVIDE,
+        source), intLiteral("1", source), MINUS, source);
+    Expression quotient = binaryExpression(singleNameReference(valueName, source), intLiteral(divisor, source), DIVIDE,
+        source);
+    return conditional(negative, roundedDown, quotient, source);
+  }
+
+  private Expression atomicUpdateResult(char[] resultName, EclipseNode fieldNode) {
+    // compareAndSet returns true, getAndSet the old value, and addTo the new value.
+    ASTNode source = fieldNode.get();
+    if (resultName != null) return singleNameReference(resultName, source);
+    return trueLiteral(source);
+  }
+
+  private MethodDeclaration createSetterDecl(AccessLevel accessLevel, EqualityCheck equalityCheck,
+      String propertyNameFieldName, String setterName, AccessModeGenerator access,
+      ListenerRegistryGenerator registry, ChangeBatchGenerator batches, ChangeCallbackGenerator callbacks,
+      DirtyTrackingGenerator dirtyTracking, ChangeJournalGenerator journal, InstrumentationGenerator instrumentation,
+      EclipseNode fieldNode, EclipseNode typeNode) {
     // public void setFirstName(String value) {
+    //   FIRST_NAME_METRICS.recordWrite(firstName == value || ...); // only if the JavaBean is instrumented
+    //   if (firstName == value) return; // only if an equality check was requested
+    //   if (!(firstName == value)) { // only if dirty tracking or a change journal was requested
+    //     this.dirtyBits |= 1L << 0; // only if dirty tracking was requested
+    //     journalChange(ORDINAL_FIRST_NAME, value); // only if a change journal was requested
+    //   }
+    //   if (!propertySupport.hasListeners(PROP_FIRST_NAME)) {
+    //     firstName = value;
+    //     return;
+    //   }
     //   final String oldValue = firstName;
     //   firstName = value;
     //   propertySupport.firePropertyChange(PROP_FIRST_NAME, oldValue, firstName);
@@ -158,12 +499,15 @@ public class BoundSetterHandler implements EclipseAnnotationHandler<GenerateBoun
     FieldDeclaration fieldDecl = (FieldDeclaration) fieldNode.get();
     int accessModifiers = toEclipseModifier(accessLevel)| (fieldDecl.modifiers & AccStatic);
     Annotation[] nonNulls = findAnnotations(fieldDecl, NON_NULL_PATTERN);
-    return newMethod().withModifiers(accessModifiers)
-                      .withName(setterName)
-                      .withReturnType(voidType(fieldNode.get()))
-                      .withParameters(parameters(nonNulls, fieldNode))
-                      .withBody(body(propertyNameFieldName, fieldNode))
-                      .buildWith(fieldNode);
+    MethodBuilder setter = newMethod().withModifiers(accessModifiers)
+                                      .withName(setterName)
+                                      .withReturnType(voidType(fieldNode.get()))
+                                      .withParameters(parameters(nonNulls, fieldNode))
+                                      .withBody(body(equalityCheck, propertyNameFieldName, access, registry,
+                                          batches, callbacks, dirtyTracking, journal, instrumentation, fieldNode,
+                                          typeNode));
+    if (isConstrained(fieldNode)) setter.withThrowsClauses(vetoThrowsClause(fieldNode));
+    return setter.buildWith(fieldNode);
   }
 
   private Argument[] parameters(Annotation[] nonNulls, EclipseNode fieldNode) {
@@ -175,38 +519,214 @@ public class BoundSetterHandler implements EclipseAnnotationHandler<GenerateBoun
     return array(param);
   }
 
-  private Statement[] body(String propertyNameFieldName, EclipseNode fieldNode) {
+  private Statement[] body(EqualityCheck equalityCheck, String propertyNameFieldName, AccessModeGenerator access,
+      ListenerRegistryGenerator registry, ChangeBatchGenerator batches, ChangeCallbackGenerator callbacks,
+      DirtyTrackingGenerator dirtyTracking, ChangeJournalGenerator journal, InstrumentationGenerator instrumentation,
+      EclipseNode fieldNode, EclipseNode typeNode) {
     char[] oldValueName = OLD_VALUE_VARIABLE_NAME.toCharArray();
-    Statement[] statements = new Statement[3];
-    statements[0] = oldValueVariableDecl(oldValueName, fieldNode);
-    statements[1] = assignNewValueToFieldDecl(fieldNode);
-    statements[2] = fireChangeEventMethodDecl(propertyNameFieldName, oldValueName, fieldNode);
+    List<Statement> statements = new ArrayList<Statement>();
+    // every write is recorded, including the ones that are vetoed or leave the value unchanged. As with
+    // PropertyChangeSupport, a value is unchanged if it equals the current one, whatever the equality check.
+    if (instrumentation.isEnabled())
+      statements.add(instrumentation.recordWriteStatement(unchangedDecl(EQUALS, fieldNode), fieldNode));
+    if (equalityCheck != NONE) statements.add(returnIfUnchangedDecl(equalityCheck, fieldNode));
+    if (isConstrained(fieldNode)) statements.add(fireVetoableChangeStatement(propertyNameFieldName, fieldNode));
+    // a change is recorded and journaled even if nobody is listening, but not if it is vetoed or leaves the value
+    // unchanged. With an equality check, the setter has already returned if it does.
+    Expression unchanged = equalityCheck == NONE ? unchangedDecl(changeRule(equalityCheck), fieldNode) : null;
+    statements.addAll(unlessUnchangedDecl(unchanged, changeRecordingDecls(dirtyTracking, journal, fieldNode, typeNode),
+        fieldNode));
+    statements.add(assignAndReturnIfNoListenersDecl(propertyNameFieldName, access, registry, callbacks, fieldNode));
+    statements.add(oldValueVariableDecl(oldValueName, fieldNode));
+    statements.add(access.assignNewValueStatement(fieldNode));
+    if (callbacks.isEnabled()) {
+      // the setter has already returned if the value is unchanged, unless it checks nothing: identity is then enough.
+      EqualityCheck callbackRule = equalityCheck == NONE ? changeRule(equalityCheck) : IDENTITY;
+      statements.add(notifyCallbacksDecl(oldValueName, callbackRule, access, callbacks, fieldNode));
+      statements.add(returnIfNoListenersDecl(propertyNameFieldName, null, registry, fieldNode));
+    }
+    statements.add(fireChangeEventMethodDecl(propertyNameFieldName, oldValueName, equalityCheck, access,
+        registry, batches, instrumentation, fieldNode));
+    return statements.toArray(new Statement[statements.size()]);
+  }
+
+  private EqualityCheck changeRule(EqualityCheck equalityCheck) {
+    // dirty tracking, the change journal and change callbacks tell a change apart the same way: by identity if the
+    // setter checks identity, and as equals tells otherwise (as listeners do when the setter checks nothing.)
+    return equalityCheck == IDENTITY ? IDENTITY : EQUALS;
+  }
+
+  private Statement returnIfUnchangedDecl(EqualityCheck equalityCheck, EclipseNode fieldNode) {
+    // the new value is the current one: skip everything else, including the check for listeners.
+    ASTNode source = fieldNode.get();
+    return ifStatement(unchangedDecl(equalityCheck, fieldNode), returnStatement(source), source);
+  }
+
+  private List<Statement> changeRecordingDecls(DirtyTrackingGenerator dirtyTracking, ChangeJournalGenerator journal,
+      EclipseNode fieldNode, EclipseNode typeNode) {
+    // this.dirtyBits |= 1L << 0;
+    // journalChange(ORDINAL_FIRST_NAME, firstName);
+    List<Statement> statements = new ArrayList<Statement>();
+    if (dirtyTracking.tracks(fieldNode, typeNode))
+      statements.add(dirtyTracking.markDirtyStatement(fieldNode, typeNode));
+    if (journal.journals(fieldNode, typeNode)) statements.add(journal.journalChangeStatement(fieldNode));
     return statements;
   }
 
+  private List<Statement> unlessUnchangedDecl(Expression unchanged, List<Statement> statements,
+      EclipseNode fieldNode) {
+    // if (!(this.firstName == firstName || ...)) { ... }, or the statements as they are if there is nothing to check.
+    if (unchanged == null || statements.isEmpty()) return statements;
+    ASTNode source = fieldNode.get();
+    Statement then = statements.size() == 1 ? statements.get(0)
+        : block(statements.toArray(new Statement[statements.size()]), source);
+    return singletonList((Statement) ifStatement(not(unchanged, source), then, source));
+  }
+
+  private Expression unchangedDecl(EqualityCheck equalityCheck, EclipseNode fieldNode) {
+    // primitives: this.id == id
+    // IDENTITY (or NONE): this.firstName == firstName
+    // EQUALS: this.firstName == firstName || this.firstName != null && this.firstName.equals(firstName)
+    ASTNode source = fieldNode.get();
+    Expression newValue = singleNameReference(fieldNode.getName(), source);
+    PrimitiveType primitiveType = primitiveTypeOf(fieldNode);
+    Expression unchanged;
+    if (primitiveType != null) unchanged = compareDecl(primitiveType, newFieldAccessor(fieldNode), newValue,
+        EQUAL_EQUAL, fieldNode);
+    else unchanged = equalExpression(newFieldAccessor(fieldNode), newValue, EQUAL_EQUAL, source);
+    if (primitiveType == null && equalityCheck == EQUALS) {
+      Expression notNull = equalExpression(newFieldAccessor(fieldNode), nullLiteral(source), NOT_EQUAL, source);
+      MessageSend equal = messageSend(source);
+      equal.receiver = newFieldAccessor(fieldNode);
+      equal.selector = "equals".toCharArray();
+      equal.arguments = array(singleNameReference(fieldNode.getName(), source));
+      unchanged = or(unchanged, and(notNull, equal, source), source);
+    }
+    return unchanged;
+  }
+
+  private Statement assignAndReturnIfNoListenersDecl(String propertyNameFieldName, AccessModeGenerator access,
+      ListenerRegistryGenerator registry, ChangeCallbackGenerator callbacks, EclipseNode fieldNode) {
+    // nobody is listening: skip capturing the old value, boxing and creating the event.
+    ASTNode source = fieldNode.get();
+    Expression noListeners = callbacks.noListenersOrCallbacksCondition(
+        registry.noListenersCondition(propertyNameFieldName, fieldNode), fieldNode);
+    Statement[] assignAndReturn = array(access.assignNewValueStatement(fieldNode), returnStatement(source));
+    return ifStatement(noListeners, block(assignAndReturn, source), source);
+  }
+
+  private Statement notifyCallbacksDecl(char[] oldValueName, EqualityCheck changeRule, AccessModeGenerator access,
+      ChangeCallbackGenerator callbacks, EclipseNode fieldNode) {
+    // callbacks are invoked right away, even if listeners get the change later (batched or asynchronously.)
+    ASTNode source = fieldNode.get();
+    PrimitiveType primitiveType = primitiveTypeOf(fieldNode);
+    Expression changed;
+    if (primitiveType != null) changed = valueChangedDecl(primitiveType, oldValueName, access, fieldNode);
+    else if (changeRule == IDENTITY) changed = equalExpression(singleNameReference(oldValueName, source),
+        access.newValue(fieldNode), NOT_EQUAL, source);
+    else changed = not(sameValueDecl(oldValueName, changeRule, access, fieldNode), source);
+    return callbacks.notifyCallbacksStatement(primitiveType, changed, singleNameReference(oldValueName, source),
+        access.newValue(fieldNode), fieldNode);
+  }
+
+  private Statement returnIfNoListenersDecl(String propertyNameFieldName, Expression result,
+      ListenerRegistryGenerator registry, EclipseNode fieldNode) {
+    // only callbacks are registered: skip boxing and creating the event.
+    ASTNode source = fieldNode.get();
+    Expression noListeners = registry.noListenersCondition(propertyNameFieldName, fieldNode);
+    return ifStatement(noListeners, returnStatement(result, source), source);
+  }
+
   private Statement oldValueVariableDecl(char[] oldValueName, EclipseNode fieldNode) {
     FieldDeclaration varDecl = (FieldDeclaration) fieldNode.get();
     Expression fieldRef = newFieldAccessor(fieldNode);
     return localDeclaration(oldValueName, varDecl.type, fieldRef, fieldNode.get());
   }
 
-  private Statement assignNewValueToFieldDecl(EclipseNode fieldNode) {
+  private Statement fireChangeEventMethodDecl(String propertyNameFieldName, char[] oldValueName,
+      EqualityCheck equalityCheck, AccessModeGenerator access, ListenerRegistryGenerator registry,
+      ChangeBatchGenerator batches, InstrumentationGenerator instrumentation, EclipseNode fieldNode) {
     ASTNode source = fieldNode.get();
-    Expression fieldRef = newFieldAccessor(fieldNode);
-    Expression name = singleNameReference(fieldNode.getName(), source);
-    return assignment(fieldRef, name, source);
+    Statement notify = registry.notifyListenersStatement(propertyNameFieldName,
+        singleNameReference(oldValueName, source), access.newValue(fieldNode), fieldNode);
+    Statement fire = batches.batchOrNotifyStatement(notify, propertyNameFieldName,
+        singleNameReference(oldValueName, source), access.newValue(fieldNode), fieldNode);
+    PrimitiveType primitiveType = primitiveTypeOf(fieldNode);
+    if (instrumentation.isEnabled()) {
+      fire = instrumentation.timedFireStatement(fire, fieldNode);
+      // only changes passed to the listeners are timed and counted, not the ones the registry drops as equal.
+      if (primitiveType == null && equalityCheck != EQUALS)
+        return ifStatement(passedToListenersDecl(oldValueName, access, fieldNode), fire, source);
+    }
+    if (primitiveType == null) return fire;
+    // the setter has already returned if the value is unchanged: comparing again is redundant.
+    if (equalityCheck != NONE || firedWithoutBoxing(primitiveType, registry, batches)) return fire;
+    return ifStatement(valueChangedDecl(primitiveType, oldValueName, access, fieldNode), fire, source);
+  }
+
+  private boolean firedWithoutBoxing(PrimitiveType primitiveType, ListenerRegistryGenerator registry,
+      ChangeBatchGenerator batches) {
+    // batched changes are always boxed, so they are only added to a batch when the value actually changed.
+    return primitiveType.isFiredWithoutBoxing() && registry.firesIntAndBooleanWithoutBoxing() && !batches.isEnabled();
   }
 
-  private Statement fireChangeEventMethodDecl(String propertyNameFieldName, char[] oldValueName, EclipseNode fieldNode) {
+  private PrimitiveType primitiveTypeOf(EclipseNode fieldNode) {
+    FieldDeclaration fieldDecl = (FieldDeclaration) fieldNode.get();
+    return primitiveTypeNamed(fieldDecl.type.toString());
+  }
+
+  private Expression sameValueDecl(char[] oldValueName, EqualityCheck equalityCheck, AccessModeGenerator access,
+      EclipseNode fieldNode) {
+    // the update replaced a value with the same one:
+    // primitives: old == this.id
+    // IDENTITY: old == firstName
+    // EQUALS (or NONE), as PropertyChangeSupport tells: old == firstName || old != null && old.equals(firstName)
+    ASTNode source = fieldNode.get();
+    Expression oldValue = singleNameReference(oldValueName, source);
+    PrimitiveType primitiveType = primitiveTypeOf(fieldNode);
+    if (primitiveType != null) return compareDecl(primitiveType, oldValue, access.newValue(fieldNode), EQUAL_EQUAL,
+        fieldNode);
+    Expression same = equalExpression(oldValue, access.newValue(fieldNode), EQUAL_EQUAL, source);
+    if (equalityCheck == IDENTITY) return same;
+    Expression notNull = equalExpression(singleNameReference(oldValueName, source), nullLiteral(source), NOT_EQUAL,
+        source);
+    MessageSend equal = messageSend(source);
+    equal.receiver = singleNameReference(oldValueName, source);
+    equal.selector = "equals".toCharArray();
+    equal.arguments = array(access.newValue(fieldNode));
+    return or(same, and(notNull, equal, source), source);
+  }
+
+  private Expression passedToListenersDecl(char[] oldValueName, AccessModeGenerator access, EclipseNode fieldNode) {
+    // as every registry tells, a change is dropped if both values are non-null and equal:
+    // old == null || this.firstName == null || !old.equals(this.firstName)
+    ASTNode source = fieldNode.get();
+    Expression oldNull = equalExpression(singleNameReference(oldValueName, source), nullLiteral(source), EQUAL_EQUAL,
+        source);
+    Expression newNull = equalExpression(access.newValue(fieldNode), nullLiteral(source), EQUAL_EQUAL, source);
+    MessageSend equal = messageSend(source);
+    equal.receiver = singleNameReference(oldValueName, source);
+    equal.selector = "equals".toCharArray();
+    equal.arguments = array(access.newValue(fieldNode));
+    return or(or(oldNull, newNull, source), not(equal, source), source);
+  }
+
+  private Expression valueChangedDecl(PrimitiveType primitiveType, char[] oldValueName, AccessModeGenerator access,
+      EclipseNode fieldNode) {
+    // long: old != this.id
+    // float and double: java.lang.Double.compare(old, this.d) != 0
+    Expression oldValue = singleNameReference(oldValueName, fieldNode.get());
+    return compareDecl(primitiveType, oldValue, access.newValue(fieldNode), NOT_EQUAL, fieldNode);
+  }
+
+  private Expression compareDecl(PrimitiveType primitiveType, Expression left, Expression right, int operator,
+      EclipseNode fieldNode) {
     ASTNode source = fieldNode.get();
-    MessageSend fn = messageSend(source);
-    fn.receiver = singleNameReference(PROPERTY_SUPPORT_FIELD_NAME, source);
-    fn.selector = FIRE_PROPERTY_CHANGE_METHOD_NAME.toCharArray();
-    List<Expression> arguments = new ArrayList<Expression>();
-    arguments.add(singleNameReference(propertyNameFieldName, source));
-    arguments.add(singleNameReference(oldValueName, source));
-    arguments.add(newFieldAccessor(fieldNode));
-    fn.arguments = arguments.toArray(new Expression[arguments.size()]);
-    return fn;
+    if (!primitiveType.isFloatingPoint()) return equalExpression(left, right, operator, source);
+    MessageSend compare = messageSend(source);
+    compare.receiver = qualifiedNameReference(primitiveType.wrapperType(), source);
+    compare.selector = COMPARE_METHOD_NAME.toCharArray();
+    compare.arguments = array(left, right);
+    return equalExpression(compare, intLiteral("0", source), operator, source);
   }
 }
@@ -0,0 +1,265 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.eclipse.handlers;
+
+import static java.lang.reflect.Modifier.*;
+import static lombok.core.util.Arrays.array;
+import static lombok.core.util.Names.*;
+import static lombok.eclipse.handlers.Eclipse.*;
+import static lombok.eclipse.handlers.EclipseHandlerUtil.*;
+import static lombok.eclipse.handlers.FieldBuilder.newField;
+import static lombok.eclipse.handlers.Lombok.addField;
+import static lombok.eclipse.handlers.Lombok.addMethod;
+import static lombok.eclipse.handlers.MemberChecks.fieldAlreadyExists;
+import static lombok.eclipse.handlers.MethodBuilder.newMethod;
+import static org.eclipse.jdt.internal.compiler.ast.OperatorIds.*;
+
+import java.beans.PropertyChangeEvent;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.GenerateJavaBean;
+import lombok.eclipse.EclipseNode;
+
+import org.eclipse.jdt.internal.compiler.ast.*;
+
+/**
+ * Generates the members that let a JavaBean collect property changes between calls to {@code beginBatch()} and
+ * {@code endBatch()}, and deliver them to the listeners when the outermost batch ends. Changes of the same property are
+ * coalesced into one event that keeps the first old value and the last new value.
+ *
+ * @author Alex Ruiz
+ */
+class ChangeBatchGenerator {
+
+  private static final String CHANGES_VARIABLE_NAME = "changes";
+  private static final String EVENT_VARIABLE_NAME = "event";
+  private static final String FIRST_VARIABLE_NAME = "first";
+  private static final String FIRST_OLD_VALUE_VARIABLE_NAME = "firstOldValue";
+  private static final String PROPERTY_NAME_ARG_NAME = "propertyName";
+  private static final String OLD_VALUE_ARG_NAME = "oldValue";
+  private static final String NEW_VALUE_ARG_NAME = "newValue";
+
+  /**
+   * Returns the generator of batching support for the JavaBean annotated with the given
+   * <code>{@link GenerateJavaBean}</code>.
+   * @param javaBean the annotation on the JavaBean, or {@code null} if the JavaBean is not annotated.
+   * @param registry the generator of the listener registry of the JavaBean.
+   * @return the created generator, which generates nothing if the JavaBean does not batch changes.
+   */
+  static ChangeBatchGenerator changeBatchGenerator(GenerateJavaBean javaBean, ListenerRegistryGenerator registry) {
+    return new ChangeBatchGenerator(javaBean != null && javaBean.batchChanges(), registry);
+  }
+
+  private final boolean enabled;
+  private final ListenerRegistryGenerator registry;
+
+  private ChangeBatchGenerator(boolean enabled, ListenerRegistryGenerator registry) {
+    this.enabled = enabled;
+    this.registry = registry;
+  }
+
+  /**
+   * Indicates whether the JavaBean batches property changes.
+   * @return {@code true} if the JavaBean batches property changes; {@code false} otherwise.
+   */
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Generates, in the given type, the fields that keep track of the current batch and the methods
+   * {@code beginBatch()}, {@code endBatch()} and {@code batchPropertyChange(String, Object, Object)}.
+   * @param typeNode the type to add the members to.
+   */
+  void generateBatchMembers(EclipseNode typeNode) {
+    if (!enabled || fieldAlreadyExists(BATCHED_CHANGES_FIELD_NAME, typeNode)) return;
+    generateBatchedChangesField(typeNode);
+    generateBatchDepthField(typeNode);
+    generateBeginBatchMethod(typeNode);
+    generateEndBatchMethod(typeNode);
+    generateBatchPropertyChangeMethod(typeNode);
+  }
+
+  private void generateBatchedChangesField(EclipseNode typeNode) {
+    // private Map<String, PropertyChangeEvent> batchedChanges;
+    FieldDeclaration fieldDecl = newField().ofType(changesType(Map.class, typeNode.get()))
+                                           .withName(BATCHED_CHANGES_FIELD_NAME)
+                                           .withModifiers(PRIVATE)
+                                           .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generateBatchDepthField(EclipseNode typeNode) {
+    // private int batchDepth;
+    FieldDeclaration fieldDecl = newField().ofType(intType(typeNode.get()))
+                                           .withName(BATCH_DEPTH_FIELD_NAME)
+                                           .withModifiers(PRIVATE)
+                                           .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generateBeginBatchMethod(EclipseNode typeNode) {
+    // public void beginBatch() {
+    //   if (batchDepth++ == 0) batchedChanges = new LinkedHashMap<String, PropertyChangeEvent>();
+    // }
+    ASTNode source = typeNode.get();
+    Expression outermost = equalExpression(postIncrement(batchDepth(source), source), intLiteral("0", source),
+        EQUAL_EQUAL, source);
+    Expression newChanges = newInstance(changesType(LinkedHashMap.class, source), null, source);
+    Statement startBatch = ifStatement(outermost, assignment(batchedChanges(source), newChanges, source), source);
+    addMethod(typeNode, publicMethod(BEGIN_BATCH_METHOD_NAME, array(startBatch), typeNode));
+  }
+
+  private void generateEndBatchMethod(EclipseNode typeNode) {
+    // public void endBatch() {
+    //   if (batchDepth == 0) throw new IllegalStateException("endBatch() called without beginBatch()");
+    //   if (--batchDepth > 0) return;
+    //   final Map<String, PropertyChangeEvent> changes = batchedChanges;
+    //   batchedChanges = null;
+    //   for (final PropertyChangeEvent event : changes.values()) propertySupport.firePropertyChange(event);
+    // }
+    ASTNode source = typeNode.get();
+    Expression notStarted = equalExpression(batchDepth(source), intLiteral("0", source), EQUAL_EQUAL, source);
+    Expression exception = newInstance(qualifiedTypeReference(IllegalStateException.class, source),
+        array(stringLiteral("endBatch() called without beginBatch()", source)), source);
+    Statement throwIfNotStarted = ifStatement(notStarted, throwStatement(exception, source), source);
+    Expression nested = binaryExpression(preDecrement(batchDepth(source), source), intLiteral("0", source), GREATER,
+        source);
+    Statement returnIfNested = ifStatement(nested, returnStatement(source), source);
+    Statement changesDecl = localDeclaration(CHANGES_VARIABLE_NAME.toCharArray(), changesType(Map.class, source),
+        batchedChanges(source), source);
+    Statement clearChanges = assignment(batchedChanges(source), nullLiteral(source), source);
+    LocalDeclaration eventDecl = localDeclaration(EVENT_VARIABLE_NAME.toCharArray(),
+        qualifiedTypeReference(PropertyChangeEvent.class, source), null, source);
+    MessageSend values = messageSend(source);
+    values.receiver = singleNameReference(CHANGES_VARIABLE_NAME, source);
+    values.selector = "values".toCharArray();
+    Statement deliver = foreachStatement(eventDecl, values,
+        registry.fireEventStatement(EVENT_VARIABLE_NAME, typeNode), source);
+    Statement[] statements = array(throwIfNotStarted, returnIfNested, changesDecl, clearChanges, deliver);
+    addMethod(typeNode, publicMethod(END_BATCH_METHOD_NAME, statements, typeNode));
+  }
+
+  private void generateBatchPropertyChangeMethod(EclipseNode typeNode) {
+    // private void batchPropertyChange(final String propertyName, final Object oldValue, final Object newValue) {
+    //   final PropertyChangeEvent first = batchedChanges.get(propertyName);
+    //   final Object firstOldValue = first == null ? oldValue : first.getOldValue();
+    //   // null -> x -> null is restored too: PropertyChangeSupport would deliver a null -> null change.
+    //   if (firstOldValue == newValue || firstOldValue != null && firstOldValue.equals(newValue))
+    //     batchedChanges.remove(propertyName);
+    //   else batchedChanges.put(propertyName, new PropertyChangeEvent(this, propertyName, firstOldValue, newValue));
+    // }
+    ASTNode source = typeNode.get();
+    Statement firstDecl = localDeclaration(FIRST_VARIABLE_NAME.toCharArray(),
+        qualifiedTypeReference(PropertyChangeEvent.class, source), changesCall("get", source), source);
+    Expression noFirst = equalExpression(singleNameReference(FIRST_VARIABLE_NAME, source), nullLiteral(source),
+        EQUAL_EQUAL, source);
+    MessageSend firstOldValue = messageSend(source);
+    firstOldValue.receiver = singleNameReference(FIRST_VARIABLE_NAME, source);
+    firstOldValue.selector = "getOldValue".toCharArray();
+    Statement firstOldValueDecl = localDeclaration(FIRST_OLD_VALUE_VARIABLE_NAME.toCharArray(),
+        qualifiedTypeReference(Object.class, source),
+        conditional(noFirst, singleNameReference(OLD_VALUE_ARG_NAME, source), firstOldValue, source), source);
+    Expression same = equalExpression(singleNameReference(FIRST_OLD_VALUE_VARIABLE_NAME, source),
+        singleNameReference(NEW_VALUE_ARG_NAME, source), EQUAL_EQUAL, source);
+    Expression nonNull = equalExpression(singleNameReference(FIRST_OLD_VALUE_VARIABLE_NAME, source),
+        nullLiteral(source), NOT_EQUAL, source);
+    MessageSend equal = messageSend(source);
+    equal.receiver = singleNameReference(FIRST_OLD_VALUE_VARIABLE_NAME, source);
+    equal.selector = "equals".toCharArray();
+    equal.arguments = array(singleNameReference(NEW_VALUE_ARG_NAME, source));
+    Expression[] eventArgs = array(referenceForThis(source), singleNameReference(PROPERTY_NAME_ARG_NAME, source),
+        singleNameReference(FIRST_OLD_VALUE_VARIABLE_NAME, source), singleNameReference(NEW_VALUE_ARG_NAME, source));
+    Expression newEvent = newInstance(qualifiedTypeReference(PropertyChangeEvent.class, source), eventArgs, source);
+    Expression restored = or(same, and(nonNull, equal, source), source);
+    Statement removeOrPut = ifStatement(restored, changesCall("remove", source),
+        changesCall("put", source, newEvent), source);
+    Argument[] parameters = array(parameter(String.class, PROPERTY_NAME_ARG_NAME, source),
+                                  parameter(Object.class, OLD_VALUE_ARG_NAME, source),
+                                  parameter(Object.class, NEW_VALUE_ARG_NAME, source));
+    MethodDeclaration methodDecl = newMethod().withModifiers(PRIVATE)
+                                              .withName(BATCH_PROPERTY_CHANGE_METHOD_NAME)
+                                              .withReturnType(voidType(source))
+                                              .withParameters(parameters)
+                                              .withBody(array(firstDecl, firstOldValueDecl, removeOrPut))
+                                              .buildWith(typeNode);
+    addMethod(typeNode, methodDecl);
+  }
+
+  /**
+   * Creates the statement that either adds a property change to the current batch or, if there is no batch in
+   * progress, notifies the listeners right away. If the JavaBean does not batch changes, the given statement is
+   * returned unchanged.
+   * @param notify the statement that notifies the listeners.
+   * @param propertyNameFieldName the name of the constant holding the name of the property.
+   * @param oldValue the old value of the property.
+   * @param newValue the new value of the property.
+   * @param fieldNode the field the property belongs to.
+   * @return the created statement.
+   */
+  Statement batchOrNotifyStatement(Statement notify, String propertyNameFieldName, Expression oldValue,
+      Expression newValue, EclipseNode fieldNode) {
+    // if (batchedChanges != null) batchPropertyChange(PROP_FIRST_NAME, old, this.firstName);
+    // else propertySupport.firePropertyChange(PROP_FIRST_NAME, old, this.firstName);
+    if (!enabled) return notify;
+    ASTNode source = fieldNode.get();
+    Expression batching = equalExpression(batchedChanges(source), nullLiteral(source), NOT_EQUAL, source);
+    MessageSend batch = messageSend(source);
+    batch.receiver = ThisReference.implicitThis();
+    batch.selector = BATCH_PROPERTY_CHANGE_METHOD_NAME.toCharArray();
+    batch.arguments = array(singleNameReference(propertyNameFieldName, source), oldValue, newValue);
+    return ifStatement(batching, batch, notify, source);
+  }
+
+  private MethodDeclaration publicMethod(String methodName, Statement[] statements, EclipseNode typeNode) {
+    return newMethod().withModifiers(PUBLIC)
+                      .withName(methodName)
+                      .withReturnType(voidType(typeNode.get()))
+                      .withBody(statements)
+                      .buildWith(typeNode);
+  }
+
+  private MessageSend changesCall(String methodName, ASTNode source, Expression... extraArgs) {
+    // batchedChanges.get(propertyName)
+    MessageSend call = messageSend(source);
+    call.receiver = batchedChanges(source);
+    call.selector = methodName.toCharArray();
+    Expression[] args = new Expression[extraArgs.length + 1];
+    args[0] = singleNameReference(PROPERTY_NAME_ARG_NAME, source);
+    System.arraycopy(extraArgs, 0, args, 1, extraArgs.length);
+    call.arguments = args;
+    return call;
+  }
+
+  private TypeReference changesType(Class<?> mapType, ASTNode source) {
+    // Map<String, PropertyChangeEvent>
+    TypeReference[] typeArguments = array(qualifiedTypeReference(String.class, source),
+        qualifiedTypeReference(PropertyChangeEvent.class, source));
+    return parameterizedTypeReference(mapType, typeArguments, source);
+  }
+
+  private Argument parameter(Class<?> type, String parameterName, ASTNode source) {
+    return argument(parameterName.toCharArray(), qualifiedTypeReference(type, source), FINAL, source);
+  }
+
+  private Expression batchedChanges(ASTNode source) {
+    return singleNameReference(BATCHED_CHANGES_FIELD_NAME, source);
+  }
+
+  private Expression batchDepth(ASTNode source) {
+    return singleNameReference(BATCH_DEPTH_FIELD_NAME, source);
+  }
+}
@@ -0,0 +1,394 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.eclipse.handlers;
+
+import static java.lang.reflect.Modifier.*;
+import static lombok.core.util.Arrays.array;
+import static lombok.core.util.Names.*;
+import static lombok.core.util.PrimitiveType.*;
+import static lombok.eclipse.Eclipse.ECLIPSE_DO_NOT_TOUCH_FLAG;
+import static lombok.eclipse.Eclipse.setGeneratedBy;
+import static lombok.eclipse.handlers.Eclipse.*;
+import static lombok.eclipse.handlers.EclipseHandlerUtil.*;
+import static lombok.eclipse.handlers.FieldBuilder.newField;
+import static lombok.eclipse.handlers.Lombok.*;
+import static lombok.eclipse.handlers.MemberChecks.fieldAlreadyExists;
+import static lombok.eclipse.handlers.MethodBuilder.newMethod;
+import static org.eclipse.jdt.internal.compiler.ast.OperatorIds.*;
+import static org.eclipse.jdt.internal.compiler.lookup.ExtraCompilerModifiers.AccSemicolonBody;
+
+import java.util.Arrays;
+
+import lombok.GenerateJavaBean;
+import lombok.core.util.PrimitiveType;
+import lombok.eclipse.EclipseNode;
+
+import org.eclipse.jdt.internal.compiler.ast.*;
+
+/**
+ * Generates the interface {@code ChangeCallback} in a JavaBean, the members that keep track of the registered
+ * callbacks, and the code that setters use to invoke them. Callbacks are stored in a {@code volatile} array that is
+ * copied and replaced, using compare-and-set, every time a callback is added or removed. Invoking them does not lock,
+ * create events or box values: values of primitive properties are passed as {@code long} bits.
+ *
+ * @author Alex Ruiz
+ */
+class ChangeCallbackGenerator {
+
+  private static final String CALLBACK_ARG_NAME = "callback";
+  private static final String SOURCE_ARG_NAME = "source";
+  private static final String PROPERTY_ORDINAL_ARG_NAME = "propertyOrdinal";
+  private static final String ORDINAL_ARG_NAME = "ordinal";
+  private static final String OLD_BITS_ARG_NAME = "oldBits";
+  private static final String NEW_BITS_ARG_NAME = "newBits";
+  private static final String OLD_VALUE_ARG_NAME = "oldValue";
+  private static final String NEW_VALUE_ARG_NAME = "newValue";
+  private static final String CURRENT_VARIABLE_NAME = "current";
+  private static final String UPDATED_VARIABLE_NAME = "updated";
+  private static final String INDEX_VARIABLE_NAME = "index";
+
+  /**
+   * Returns the generator of change callbacks for the JavaBean annotated with the given
+   * <code>{@link GenerateJavaBean}</code>.
+   * @param javaBean the annotation on the JavaBean, or {@code null} if the JavaBean is not annotated.
+   * @param registry the generator of the listener registry of the JavaBean.
+   * @return the created generator, which generates nothing if the JavaBean does not have change callbacks.
+   */
+  static ChangeCallbackGenerator changeCallbackGenerator(GenerateJavaBean javaBean,
+      ListenerRegistryGenerator registry) {
+    return new ChangeCallbackGenerator(javaBean != null && javaBean.changeCallbacks(), registry);
+  }
+
+  private final boolean enabled;
+  private final ListenerRegistryGenerator registry;
+
+  private ChangeCallbackGenerator(boolean enabled, ListenerRegistryGenerator registry) {
+    this.enabled = enabled;
+    this.registry = registry;
+  }
+
+  /**
+   * Indicates whether the JavaBean has change callbacks.
+   * @return {@code true} if the JavaBean has change callbacks; {@code false} otherwise.
+   */
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Generates, in the given type, the interface {@code ChangeCallback}, the fields that store the registered callbacks
+   * and the methods {@code addChangeCallback}, {@code removeChangeCallback} and {@code notifyChangeCallbacks}.
+   * @param typeNode the type to add the members to.
+   */
+  void generateCallbackMembers(EclipseNode typeNode) {
+    if (!enabled || fieldAlreadyExists(CHANGE_CALLBACKS_FIELD_NAME, typeNode)) return;
+    ASTNode source = typeNode.get();
+    generateCallbackType(typeNode);
+    generateNoCallbacksField(typeNode);
+    registry.generateUpdaterField(CHANGE_CALLBACKS_UPDATER_FIELD_NAME, CHANGE_CALLBACKS_FIELD_NAME,
+        callbackArrayType(source), typeNode);
+    generateCallbacksField(typeNode);
+    addMethod(typeNode, callbackMethod(ADD_CHANGE_CALLBACK_METHOD_NAME, addCallbackStatements(source), typeNode));
+    addMethod(typeNode, callbackMethod(REMOVE_CHANGE_CALLBACK_METHOD_NAME, removeCallbackStatements(source),
+        typeNode));
+    addMethod(typeNode, notifyCallbacksMethod(true, typeNode));
+    addMethod(typeNode, notifyCallbacksMethod(false, typeNode));
+  }
+
+  private void generateCallbackType(EclipseNode typeNode) {
+    // public static interface ChangeCallback {
+    //   void onChange(Person source, int propertyOrdinal, long oldBits, long newBits);
+    //   void onChange(Person source, int propertyOrdinal, Object oldValue, Object newValue);
+    // }
+    TypeDeclaration parent = (TypeDeclaration) typeNode.get();
+    TypeDeclaration typeDecl = new TypeDeclaration(parent.compilationResult);
+    typeDecl.bits |= ECLIPSE_DO_NOT_TOUCH_FLAG;
+    typeDecl.modifiers = PUBLIC | STATIC | INTERFACE;
+    typeDecl.name = CHANGE_CALLBACK_TYPE_NAME.toCharArray();
+    typeDecl.sourceStart = typeDecl.declarationSourceStart = typeDecl.bodyStart = parent.sourceStart;
+    typeDecl.sourceEnd = typeDecl.declarationSourceEnd = typeDecl.bodyEnd = parent.sourceEnd;
+    typeDecl.methods = array(onChangeMethod(true, typeNode), onChangeMethod(false, typeNode));
+    setGeneratedBy(typeDecl, parent);
+    addType(typeNode, typeDecl);
+  }
+
+  private AbstractMethodDeclaration onChangeMethod(boolean bits, EclipseNode typeNode) {
+    ASTNode source = typeNode.get();
+    Argument[] parameters = array(argument(SOURCE_ARG_NAME.toCharArray(), singleTypeReference(typeNode.getName(),
+                                      source), 0, source),
+                                  argument(PROPERTY_ORDINAL_ARG_NAME.toCharArray(), intType(source), 0, source),
+                                  argument(oldValueName(bits), valueType(bits, source), 0, source),
+                                  argument(newValueName(bits), valueType(bits, source), 0, source));
+    return newMethod().withModifiers(PUBLIC | ABSTRACT | AccSemicolonBody)
+                      .withName(ON_CHANGE_METHOD_NAME)
+                      .withReturnType(voidType(source))
+                      .withParameters(parameters)
+                      .buildWith(typeNode);
+  }
+
+  private void generateNoCallbacksField(EclipseNode typeNode) {
+    // private static final ChangeCallback[] NO_CHANGE_CALLBACKS = new ChangeCallback[0];
+    ASTNode source = typeNode.get();
+    FieldDeclaration fieldDecl = newField().ofType(callbackArrayType(source))
+                                           .withName(NO_CHANGE_CALLBACKS_FIELD_NAME)
+                                           .withModifiers(PRIVATE | STATIC | FINAL)
+                                           .withInitializer(arrayAllocation(callbackType(source),
+                                               intLiteral("0", source), source))
+                                           .buildWith(typeNode);
+    addStaticField(typeNode, fieldDecl);
+  }
+
+  private void generateCallbacksField(EclipseNode typeNode) {
+    // private volatile ChangeCallback[] changeCallbacks = NO_CHANGE_CALLBACKS;
+    ASTNode source = typeNode.get();
+    FieldDeclaration fieldDecl = newField().ofType(callbackArrayType(source))
+                                           .withName(CHANGE_CALLBACKS_FIELD_NAME)
+                                           .withModifiers(PRIVATE | VOLATILE)
+                                           .withInitializer(singleNameReference(NO_CHANGE_CALLBACKS_FIELD_NAME,
+                                               source))
+                                           .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private MethodDeclaration callbackMethod(String methodName, Statement[] statements, EclipseNode typeNode) {
+    ASTNode source = typeNode.get();
+    Argument parameter = argument(CALLBACK_ARG_NAME.toCharArray(), callbackType(source), FINAL, source);
+    return newMethod().withModifiers(PUBLIC)
+                      .withName(methodName)
+                      .withReturnType(voidType(source))
+                      .withParameters(array(parameter))
+                      .withBody(statements)
+                      .buildWith(typeNode);
+  }
+
+  private Statement[] addCallbackStatements(ASTNode source) {
+    // if (callback == null) return;
+    // while (true) {
+    //   final ChangeCallback[] current = this.changeCallbacks;
+    //   final ChangeCallback[] updated = Arrays.copyOf(current, current.length + 1);
+    //   updated[current.length] = callback;
+    //   if (CHANGE_CALLBACKS_UPDATER.compareAndSet(this, current, updated)) return;
+    // }
+    MessageSend copy = messageSend(source);
+    copy.receiver = qualifiedNameReference(Arrays.class, source);
+    copy.selector = "copyOf".toCharArray();
+    copy.arguments = array(singleNameReference(CURRENT_VARIABLE_NAME, source),
+                           binaryExpression(currentLength(source), intLiteral("1", source), PLUS, source));
+    Expression slot = arrayReference(singleNameReference(UPDATED_VARIABLE_NAME, source), currentLength(source),
+        source);
+    Statement[] loopBody = array(currentCallbacksDecl(source),
+                                 localCallbacksDecl(UPDATED_VARIABLE_NAME, copy, source),
+                                 assignment(slot, singleNameReference(CALLBACK_ARG_NAME, source), source),
+                                 returnIfReplaced(source));
+    return array(returnIfCallbackIsNull(source), whileStatement(trueLiteral(source), block(loopBody, source), source));
+  }
+
+  private Statement[] removeCallbackStatements(ASTNode source) {
+    // if (callback == null) return;
+    // while (true) {
+    //   final ChangeCallback[] current = this.changeCallbacks;
+    //   int index = 0;
+    //   while (index < current.length && !callback.equals(current[index])) index++;
+    //   if (index == current.length) return;
+    //   final ChangeCallback[] updated = new ChangeCallback[current.length - 1];
+    //   System.arraycopy(current, 0, updated, 0, index);
+    //   System.arraycopy(current, index + 1, updated, index, updated.length - index);
+    //   if (CHANGE_CALLBACKS_UPDATER.compareAndSet(this, current, updated)) return;
+    // }
+    MessageSend isCallback = messageSend(source);
+    isCallback.receiver = singleNameReference(CALLBACK_ARG_NAME, source);
+    isCallback.selector = "equals".toCharArray();
+    isCallback.arguments = array(arrayReference(singleNameReference(CURRENT_VARIABLE_NAME, source), index(source),
+        source));
+    Expression keepSearching = and(indexBeforeEnd(source), not(isCallback, source), source);
+    Statement search = whileStatement(keepSearching, postIncrement(index(source), source), source);
+    Statement returnIfNotFound = ifStatement(equalExpression(index(source), currentLength(source), EQUAL_EQUAL,
+        source), returnStatement(source), source);
+    Expression newArray = arrayAllocation(callbackType(source), binaryExpression(currentLength(source),
+        intLiteral("1", source), MINUS, source), source);
+    Expression updatedLength = qualifiedNameReference(UPDATED_VARIABLE_NAME + ".length", source);
+    Statement[] loopBody = array(currentCallbacksDecl(source),
+                                 indexDecl(source),
+                                 search,
+                                 returnIfNotFound,
+                                 localCallbacksDecl(UPDATED_VARIABLE_NAME, newArray, source),
+                                 arrayCopy(intLiteral("0", source), intLiteral("0", source), index(source), source),
+                                 arrayCopy(binaryExpression(index(source), intLiteral("1", source), PLUS, source),
+                                     index(source), binaryExpression(updatedLength, index(source), MINUS, source),
+                                     source),
+                                 returnIfReplaced(source));
+    return array(returnIfCallbackIsNull(source), whileStatement(trueLiteral(source), block(loopBody, source), source));
+  }
+
+  private MethodDeclaration notifyCallbacksMethod(boolean bits, EclipseNode typeNode) {
+    // private void notifyChangeCallbacks(final int ordinal, final long oldBits, final long newBits) {
+    //   final ChangeCallback[] current = this.changeCallbacks;
+    //   for (int index = 0; index < current.length; index++)
+    //     current[index].onChange(this, ordinal, oldBits, newBits);
+    // }
+    ASTNode source = typeNode.get();
+    MessageSend onChange = messageSend(source);
+    onChange.receiver = arrayReference(singleNameReference(CURRENT_VARIABLE_NAME, source), index(source), source);
+    onChange.selector = ON_CHANGE_METHOD_NAME.toCharArray();
+    onChange.arguments = array(referenceForThis(source), singleNameReference(ORDINAL_ARG_NAME, source),
+        singleNameReference(oldValueName(bits), source), singleNameReference(newValueName(bits), source));
+    Statement invokeEach = forStatement(indexDecl(source), indexBeforeEnd(source), postIncrement(index(source),
+        source), onChange, source);
+    Argument[] parameters = array(argument(ORDINAL_ARG_NAME.toCharArray(), intType(source), FINAL, source),
+                                  argument(oldValueName(bits), valueType(bits, source), FINAL, source),
+                                  argument(newValueName(bits), valueType(bits, source), FINAL, source));
+    return newMethod().withModifiers(PRIVATE)
+                      .withName(NOTIFY_CHANGE_CALLBACKS_METHOD_NAME)
+                      .withReturnType(voidType(source))
+                      .withParameters(parameters)
+                      .withBody(array(currentCallbacksDecl(source), invokeEach))
+                      .buildWith(typeNode);
+  }
+
+  /**
+   * Adds, to the condition that evaluates to {@code true} when no listener would receive a change of a property, the
+   * condition that no callback is registered. If the JavaBean does not have change callbacks, the given condition is
+   * returned unchanged.
+   * @param noListeners the condition that evaluates to {@code true} when there are no listeners.
+   * @param fieldNode the field the property belongs to.
+   * @return the created condition.
+   */
+  Expression noListenersOrCallbacksCondition(Expression noListeners, EclipseNode fieldNode) {
+    // this.changeCallbacks.length == 0 && !propertySupport.hasListeners(PROP_FIRST_NAME)
+    if (!enabled) return noListeners;
+    ASTNode source = fieldNode.get();
+    Expression callbacks = fieldReference(referenceForThis(source), CHANGE_CALLBACKS_FIELD_NAME, source);
+    Expression noCallbacks = equalExpression(fieldReference(callbacks, "length", source), intLiteral("0", source),
+        EQUAL_EQUAL, source);
+    return and(noCallbacks, noListeners, source);
+  }
+
+  /**
+   * Creates the statement that invokes the change callbacks if the value of a property changed.
+   * @param primitiveType the type of the property, or {@code null} if the property is not of a primitive type.
+   * @param changed the condition that evaluates to {@code true} when the value of the property changed.
+   * @param oldValue the old value of the property.
+   * @param newValue the new value of the property.
+   * @param fieldNode the field the property belongs to.
+   * @return the created statement.
+   */
+  Statement notifyCallbacksStatement(PrimitiveType primitiveType, Expression changed, Expression oldValue,
+      Expression newValue, EclipseNode fieldNode) {
+    // if (old != this.age) notifyChangeCallbacks(ORDINAL_AGE, old, this.age);
+    // if (Double.compare(old, this.weight) != 0)
+    //   notifyChangeCallbacks(ORDINAL_WEIGHT, Double.doubleToLongBits(old), Double.doubleToLongBits(this.weight));
+    ASTNode source = fieldNode.get();
+    MessageSend notify = messageSend(source);
+    notify.receiver = ThisReference.implicitThis();
+    notify.selector = NOTIFY_CHANGE_CALLBACKS_METHOD_NAME.toCharArray();
+    notify.arguments = array(singleNameReference(nameOfOrdinalConstantBasedOnProperty(fieldNode.getName()), source),
+        bits(primitiveType, oldValue, source), bits(primitiveType, newValue, source));
+    return ifStatement(changed, notify, source);
+  }
+
+  private Expression bits(PrimitiveType primitiveType, Expression value, ASTNode source) {
+    // other integral types are widened to long.
+    if (primitiveType == BOOLEAN)
+      return conditional(value, longLiteral("1L", source), longLiteral("0L", source), source);
+    if (primitiveType == FLOAT) return wrapperCall(primitiveType, "floatToIntBits", value, source);
+    if (primitiveType == DOUBLE) return wrapperCall(primitiveType, "doubleToLongBits", value, source);
+    return value;
+  }
+
+  private Expression wrapperCall(PrimitiveType primitiveType, String methodName, Expression value, ASTNode source) {
+    MessageSend call = messageSend(source);
+    call.receiver = qualifiedNameReference(primitiveType.wrapperType(), source);
+    call.selector = methodName.toCharArray();
+    call.arguments = array(value);
+    return call;
+  }
+
+  private Statement returnIfCallbackIsNull(ASTNode source) {
+    Expression isNull = equalExpression(singleNameReference(CALLBACK_ARG_NAME, source), nullLiteral(source),
+        EQUAL_EQUAL, source);
+    return ifStatement(isNull, returnStatement(source), source);
+  }
+
+  private Statement currentCallbacksDecl(ASTNode source) {
+    Expression callbacks = fieldReference(referenceForThis(source), CHANGE_CALLBACKS_FIELD_NAME, source);
+    return localCallbacksDecl(CURRENT_VARIABLE_NAME, callbacks, source);
+  }
+
+  private Statement localCallbacksDecl(String variableName, Expression init, ASTNode source) {
+    return localDeclaration(variableName.toCharArray(), callbackArrayType(source), init, source);
+  }
+
+  private Statement returnIfReplaced(ASTNode source) {
+    MessageSend replaced = messageSend(source);
+    replaced.receiver = singleNameReference(CHANGE_CALLBACKS_UPDATER_FIELD_NAME, source);
+    replaced.selector = "compareAndSet".toCharArray();
+    replaced.arguments = array(referenceForThis(source), singleNameReference(CURRENT_VARIABLE_NAME, source),
+        singleNameReference(UPDATED_VARIABLE_NAME, source));
+    return ifStatement(replaced, returnStatement(source), source);
+  }
+
+  private Statement arrayCopy(Expression sourcePosition, Expression destinationPosition, Expression length,
+      ASTNode source) {
+    MessageSend arrayCopy = messageSend(source);
+    arrayCopy.receiver = qualifiedNameReference(System.class, source);
+    arrayCopy.selector = "arraycopy".toCharArray();
+    arrayCopy.arguments = array(singleNameReference(CURRENT_VARIABLE_NAME, source), sourcePosition,
+        singleNameReference(UPDATED_VARIABLE_NAME, source), destinationPosition, length);
+    return arrayCopy;
+  }
+
+  private Statement indexDecl(ASTNode source) {
+    // int index = 0;
+    return localDeclaration(INDEX_VARIABLE_NAME.toCharArray(), intType(source), intLiteral("0", source), 0, source);
+  }
+
+  private Expression indexBeforeEnd(ASTNode source) {
+    // index < current.length
+    return binaryExpression(index(source), currentLength(source), LESS, source);
+  }
+
+  private TypeReference valueType(boolean bits, ASTNode source) {
+    // long for the bits of primitive values, Object for references.
+    if (bits) return longType(source);
+    return qualifiedTypeReference(Object.class, source);
+  }
+
+  private char[] oldValueName(boolean bits) {
+    return (bits ? OLD_BITS_ARG_NAME : OLD_VALUE_ARG_NAME).toCharArray();
+  }
+
+  private char[] newValueName(boolean bits) {
+    return (bits ? NEW_BITS_ARG_NAME : NEW_VALUE_ARG_NAME).toCharArray();
+  }
+
+  private TypeReference callbackType(ASTNode source) {
+    return singleTypeReference(CHANGE_CALLBACK_TYPE_NAME, source);
+  }
+
+  private TypeReference callbackArrayType(ASTNode source) {
+    TypeReference type = new ArrayTypeReference(CHANGE_CALLBACK_TYPE_NAME.toCharArray(), 1,
+        (long) source.sourceStart << 32 | source.sourceEnd);
+    setGeneratedBy(type, source);
+    return type;
+  }
+
+  private Expression currentLength(ASTNode source) {
+    return qualifiedNameReference(CURRENT_VARIABLE_NAME + ".length", source);
+  }
+
+  private Expression index(ASTNode source) {
+    return singleNameReference(INDEX_VARIABLE_NAME, source);
+  }
+}
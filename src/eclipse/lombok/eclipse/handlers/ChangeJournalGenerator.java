@@ -0,0 +1,306 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.eclipse.handlers;
+
+import static java.lang.reflect.Modifier.*;
+import static lombok.core.util.Arrays.array;
+import static lombok.core.util.Names.*;
+import static lombok.eclipse.Eclipse.ECLIPSE_DO_NOT_TOUCH_FLAG;
+import static lombok.eclipse.Eclipse.setGeneratedBy;
+import static lombok.eclipse.handlers.BoundProperties.boundPropertiesOf;
+import static lombok.eclipse.handlers.Eclipse.*;
+import static lombok.eclipse.handlers.FieldBuilder.newField;
+import static lombok.eclipse.handlers.Lombok.*;
+import static lombok.eclipse.handlers.MemberChecks.fieldAlreadyExists;
+import static lombok.eclipse.handlers.MethodBuilder.newMethod;
+import static org.eclipse.jdt.internal.compiler.ast.OperatorIds.LESS;
+import static org.eclipse.jdt.internal.compiler.lookup.ExtraCompilerModifiers.AccSemicolonBody;
+
+import java.util.Arrays;
+
+import lombok.GenerateJavaBean;
+import lombok.eclipse.EclipseNode;
+
+import org.eclipse.jdt.internal.compiler.ast.*;
+
+/**
+ * Generates the change journal of a JavaBean: the interface {@code ChangeConsumer}, the arrays that hold the last value
+ * written to each property, the method that setters use to add a change, and the method {@code drainChanges} that
+ * passes the journaled changes to a consumer. The journal has one slot per property ordinal (see
+ * <code>{@link BoundProperties}</code>), so it never holds more entries than the JavaBean has bound properties, and is
+ * guarded by the lock of its array of ordinals. That lock does not cover the writes of the fields, so the journal only
+ * matches the fields of a JavaBean that has a single writer.
+ *
+ * @author Alex Ruiz
+ */
+class ChangeJournalGenerator {
+
+  private static final String PROPERTY_ORDINAL_ARG_NAME = "propertyOrdinal";
+  private static final String ORDINAL_ARG_NAME = "ordinal";
+  private static final String NEW_VALUE_ARG_NAME = "newValue";
+  private static final String CONSUMER_ARG_NAME = "consumer";
+  private static final String ORDINALS_VARIABLE_NAME = "ordinals";
+  private static final String VALUES_VARIABLE_NAME = "values";
+  private static final String INDEX_VARIABLE_NAME = "index";
+
+  /**
+   * Returns the generator of the change journal for the JavaBean annotated with the given
+   * <code>{@link GenerateJavaBean}</code>.
+   * @param javaBean the annotation on the JavaBean, or {@code null} if the JavaBean is not annotated.
+   * @return the created generator, which generates nothing if the JavaBean does not have a change journal.
+   */
+  static ChangeJournalGenerator changeJournalGenerator(GenerateJavaBean javaBean) {
+    return new ChangeJournalGenerator(javaBean != null && javaBean.changeJournal());
+  }
+
+  private final boolean enabled;
+
+  private ChangeJournalGenerator(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Indicates whether the JavaBean has a change journal.
+   * @return {@code true} if the JavaBean has a change journal; {@code false} otherwise.
+   */
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Indicates whether the setter of the given field adds its changes to the journal: the JavaBean must have a change
+   * journal, and the field must be a bound property that is not {@code static}.
+   * @param fieldNode the given field.
+   * @param typeNode the type declaring the field.
+   * @return {@code true} if the setter of the given field adds its changes to the journal; {@code false} otherwise.
+   */
+  boolean journals(EclipseNode fieldNode, EclipseNode typeNode) {
+    if (!enabled) return false;
+    FieldDeclaration fieldDecl = (FieldDeclaration) fieldNode.get();
+    if ((fieldDecl.modifiers & STATIC) != 0) return false;
+    return boundPropertiesOf(typeNode).ordinalOf(fieldNode.getName()) >= 0;
+  }
+
+  /**
+   * Generates, in the given type, the interface {@code ChangeConsumer}, the fields that hold the journal and the
+   * methods {@code journalChange} and {@code drainChanges}.
+   * @param typeNode the type to add the members to.
+   */
+  void generateJournalMembers(EclipseNode typeNode) {
+    if (!enabled || fieldAlreadyExists(JOURNAL_ORDINALS_FIELD_NAME, typeNode)) return;
+    int propertyCount = boundPropertiesOf(typeNode).names().size();
+    if (propertyCount == 0) return;
+    ASTNode source = typeNode.get();
+    generateConsumerType(typeNode);
+    generateJournalField(JOURNAL_ORDINALS_FIELD_NAME, intType(source), arrayTypeReference("int", source),
+        propertyCount, typeNode);
+    generateJournalField(JOURNAL_VALUES_FIELD_NAME, objectType(source), arrayTypeReference(Object.class, source),
+        propertyCount, typeNode);
+    generateJournalField(JOURNALED_FIELD_NAME, booleanType(source), arrayTypeReference("boolean", source),
+        propertyCount, typeNode);
+    generateJournalSizeField(typeNode);
+    addMethod(typeNode, journalChangeMethod(typeNode));
+    addMethod(typeNode, drainChangesMethod(typeNode));
+  }
+
+  private void generateConsumerType(EclipseNode typeNode) {
+    // public static interface ChangeConsumer {
+    //   void accept(int propertyOrdinal, Object newValue);
+    // }
+    TypeDeclaration parent = (TypeDeclaration) typeNode.get();
+    Argument[] parameters = array(argument(PROPERTY_ORDINAL_ARG_NAME.toCharArray(), intType(parent), 0, parent),
+                                  argument(NEW_VALUE_ARG_NAME.toCharArray(), objectType(parent), 0, parent));
+    MethodDeclaration accept = newMethod().withModifiers(PUBLIC | ABSTRACT | AccSemicolonBody)
+                                          .withName(ACCEPT_METHOD_NAME)
+                                          .withReturnType(voidType(parent))
+                                          .withParameters(parameters)
+                                          .buildWith(typeNode);
+    TypeDeclaration typeDecl = new TypeDeclaration(parent.compilationResult);
+    typeDecl.bits |= ECLIPSE_DO_NOT_TOUCH_FLAG;
+    typeDecl.modifiers = PUBLIC | STATIC | INTERFACE;
+    typeDecl.name = CHANGE_CONSUMER_TYPE_NAME.toCharArray();
+    typeDecl.sourceStart = typeDecl.declarationSourceStart = typeDecl.bodyStart = parent.sourceStart;
+    typeDecl.sourceEnd = typeDecl.declarationSourceEnd = typeDecl.bodyEnd = parent.sourceEnd;
+    typeDecl.methods = new AbstractMethodDeclaration[] { accept };
+    setGeneratedBy(typeDecl, parent);
+    addType(typeNode, typeDecl);
+  }
+
+  private void generateJournalField(String fieldName, TypeReference elementType, TypeReference arrayType,
+      int propertyCount, EclipseNode typeNode) {
+    // private final int[] journalOrdinals = new int[2];
+    ASTNode source = typeNode.get();
+    FieldDeclaration fieldDecl = newField().ofType(arrayType)
+                                           .withName(fieldName)
+                                           .withModifiers(PRIVATE | FINAL)
+                                           .withInitializer(arrayAllocation(elementType,
+                                               intLiteral(String.valueOf(propertyCount), source), source))
+                                           .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generateJournalSizeField(EclipseNode typeNode) {
+    // private int journalSize;
+    FieldDeclaration fieldDecl = newField().ofType(intType(typeNode.get()))
+                                           .withName(JOURNAL_SIZE_FIELD_NAME)
+                                           .withModifiers(PRIVATE)
+                                           .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private MethodDeclaration journalChangeMethod(EclipseNode typeNode) {
+    // private void journalChange(final int ordinal, final Object newValue) {
+    //   synchronized (this.journalOrdinals) {
+    //     if (!this.journaled[ordinal]) {
+    //       this.journaled[ordinal] = true;
+    //       this.journalOrdinals[this.journalSize++] = ordinal;
+    //     }
+    //     this.journalValues[ordinal] = newValue;
+    //   }
+    // }
+    ASTNode source = typeNode.get();
+    Expression nextSlot = arrayReference(journalField(JOURNAL_ORDINALS_FIELD_NAME, source), postIncrement(
+        journalField(JOURNAL_SIZE_FIELD_NAME, source), source), source);
+    Statement[] append = array(assignment(journaled(singleNameReference(ORDINAL_ARG_NAME, source), source),
+                                   trueLiteral(source), source),
+                               assignment(nextSlot, singleNameReference(ORDINAL_ARG_NAME, source), source));
+    Statement appendIfNotJournaled = ifStatement(not(journaled(singleNameReference(ORDINAL_ARG_NAME, source), source),
+        source), block(append, source), source);
+    Statement setValue = assignment(journalValue(singleNameReference(ORDINAL_ARG_NAME, source), source),
+        singleNameReference(NEW_VALUE_ARG_NAME, source), source);
+    Argument[] parameters = array(argument(ORDINAL_ARG_NAME.toCharArray(), intType(source), FINAL, source),
+                                  argument(NEW_VALUE_ARG_NAME.toCharArray(), objectType(source), FINAL, source));
+    return newMethod().withModifiers(PRIVATE)
+                      .withName(JOURNAL_CHANGE_METHOD_NAME)
+                      .withReturnType(voidType(source))
+                      .withParameters(parameters)
+                      .withBody(array(locked(array(appendIfNotJournaled, setValue), source)))
+                      .buildWith(typeNode);
+  }
+
+  private MethodDeclaration drainChangesMethod(EclipseNode typeNode) {
+    // public void drainChanges(final ChangeConsumer consumer) {
+    //   final int[] ordinals;
+    //   final Object[] values;
+    //   synchronized (this.journalOrdinals) {
+    //     ordinals = java.util.Arrays.copyOf(this.journalOrdinals, this.journalSize);
+    //     values = new Object[this.journalSize];
+    //     for (int index = 0; index < ordinals.length; index++) {
+    //       values[index] = this.journalValues[ordinals[index]];
+    //       this.journalValues[ordinals[index]] = null;
+    //       this.journaled[ordinals[index]] = false;
+    //     }
+    //     this.journalSize = 0;
+    //   }
+    //   for (int index = 0; index < ordinals.length; index++) consumer.accept(ordinals[index], values[index]);
+    // }
+    ASTNode source = typeNode.get();
+    MessageSend copy = messageSend(source);
+    copy.receiver = qualifiedNameReference(Arrays.class, source);
+    copy.selector = "copyOf".toCharArray();
+    copy.arguments = array(journalField(JOURNAL_ORDINALS_FIELD_NAME, source), journalField(JOURNAL_SIZE_FIELD_NAME,
+        source));
+    Expression newValues = arrayAllocation(objectType(source), journalField(JOURNAL_SIZE_FIELD_NAME, source), source);
+    Statement[] clearEach = array(assignment(value(source), journalValue(ordinal(source), source), source),
+                                  assignment(journalValue(ordinal(source), source), nullLiteral(source), source),
+                                  assignment(journaled(ordinal(source), source), falseLiteral(source), source));
+    Statement[] drain = array(assignment(singleNameReference(ORDINALS_VARIABLE_NAME, source), copy, source),
+                              assignment(singleNameReference(VALUES_VARIABLE_NAME, source), newValues, source),
+                              forEachOrdinal(block(clearEach, source), source),
+                              assignment(journalField(JOURNAL_SIZE_FIELD_NAME, source), intLiteral("0", source),
+                                  source));
+    MessageSend accept = messageSend(source);
+    accept.receiver = singleNameReference(CONSUMER_ARG_NAME, source);
+    accept.selector = ACCEPT_METHOD_NAME.toCharArray();
+    accept.arguments = array(ordinal(source), value(source));
+    Statement[] statements = array(localDeclaration(ORDINALS_VARIABLE_NAME.toCharArray(), arrayTypeReference("int",
+                                       source), null, source),
+                                   localDeclaration(VALUES_VARIABLE_NAME.toCharArray(), arrayTypeReference(
+                                       Object.class, source), null, source),
+                                   locked(drain, source),
+                                   forEachOrdinal(accept, source));
+    Argument parameter = argument(CONSUMER_ARG_NAME.toCharArray(), singleTypeReference(CHANGE_CONSUMER_TYPE_NAME,
+        source), FINAL, source);
+    return newMethod().withModifiers(PUBLIC)
+                      .withName(DRAIN_CHANGES_METHOD_NAME)
+                      .withReturnType(voidType(source))
+                      .withParameters(array(parameter))
+                      .withBody(statements)
+                      .buildWith(typeNode);
+  }
+
+  /**
+   * Creates the statement that adds the new value of the given field to the journal (e.g.
+   * {@code journalChange(ORDINAL_FIRST_NAME, firstName);}.)
+   * @param fieldNode the field written by the setter.
+   * @return the created statement.
+   */
+  Statement journalChangeStatement(EclipseNode fieldNode) {
+    FieldDeclaration fieldDecl = (FieldDeclaration) fieldNode.get();
+    ASTNode source = fieldNode.get();
+    MessageSend journalChange = messageSend(source);
+    journalChange.receiver = ThisReference.implicitThis();
+    journalChange.selector = JOURNAL_CHANGE_METHOD_NAME.toCharArray();
+    journalChange.arguments = array(singleNameReference(nameOfOrdinalConstantBasedOnProperty(fieldNode.getName()),
+        source), singleNameReference(fieldDecl.name, source));
+    return journalChange;
+  }
+
+  private Statement locked(Statement[] statements, ASTNode source) {
+    // synchronized (this.journalOrdinals) { ... }
+    return synchronizedStatement(journalField(JOURNAL_ORDINALS_FIELD_NAME, source), block(statements, source), source);
+  }
+
+  private Statement forEachOrdinal(Statement body, ASTNode source) {
+    // for (int index = 0; index < ordinals.length; index++) ...
+    Statement indexDecl = localDeclaration(INDEX_VARIABLE_NAME.toCharArray(), intType(source), intLiteral("0",
+        source), 0, source);
+    Expression indexBeforeEnd = binaryExpression(index(source), qualifiedNameReference(ORDINALS_VARIABLE_NAME
+        + ".length", source), LESS, source);
+    return forStatement(indexDecl, indexBeforeEnd, postIncrement(index(source), source), body, source);
+  }
+
+  private Expression journaled(Expression ordinal, ASTNode source) {
+    // this.journaled[ordinal]
+    return arrayReference(journalField(JOURNALED_FIELD_NAME, source), ordinal, source);
+  }
+
+  private Expression journalValue(Expression ordinal, ASTNode source) {
+    // this.journalValues[ordinal]
+    return arrayReference(journalField(JOURNAL_VALUES_FIELD_NAME, source), ordinal, source);
+  }
+
+  private Expression ordinal(ASTNode source) {
+    // ordinals[index]
+    return arrayReference(singleNameReference(ORDINALS_VARIABLE_NAME, source), index(source), source);
+  }
+
+  private Expression value(ASTNode source) {
+    // values[index]
+    return arrayReference(singleNameReference(VALUES_VARIABLE_NAME, source), index(source), source);
+  }
+
+  private Expression journalField(String fieldName, ASTNode source) {
+    return fieldReference(referenceForThis(source), fieldName, source);
+  }
+
+  private Expression index(ASTNode source) {
+    return singleNameReference(INDEX_VARIABLE_NAME, source);
+  }
+
+  private TypeReference objectType(ASTNode source) {
+    return qualifiedTypeReference(Object.class, source);
+  }
+}
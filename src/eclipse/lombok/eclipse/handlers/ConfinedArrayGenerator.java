@@ -0,0 +1,44 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.eclipse.handlers;
+
+import static java.lang.reflect.Modifier.PRIVATE;
+import static lombok.core.util.Arrays.append;
+import static lombok.eclipse.handlers.Eclipse.*;
+
+import lombok.eclipse.EclipseNode;
+
+import org.eclipse.jdt.internal.compiler.ast.*;
+
+/**
+ * Stores property change listeners in a plain array that is copied and replaced every time a listener is added or
+ * removed, for beans that are only used by one thread. Nothing is {@code volatile} and nothing is compared-and-set:
+ * setters read the array like any other field, and notify listeners with a straight loop.
+ *
+ * @author Alex Ruiz
+ */
+class ConfinedArrayGenerator extends CopyOnWriteArrayGenerator {
+
+  @Override void generateListenersStore(EclipseNode typeNode) {
+    // private PropertyChangeListener[] propertyChangeListeners = NO_PROPERTY_CHANGE_LISTENERS;
+    generateListenersField(PRIVATE, typeNode);
+  }
+
+  @Override Statement[] replaceListeners(Statement[] update, ASTNode source) {
+    // this.propertyChangeListeners = updated;
+    return append(update, assignment(listenersField(source), singleNameReference(UPDATED_VARIABLE_NAME, source),
+        source));
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.eclipse.handlers;
+
+import static java.lang.reflect.Modifier.*;
+import static lombok.core.handlers.TransformationsUtil.NON_NULL_PATTERN;
+import static lombok.core.util.Arrays.*;
+import static lombok.core.util.AstGeneration.stopAstGeneration;
+import static lombok.core.util.ErrorMessages.canBeUsedOnFieldOnly;
+import static lombok.core.util.Names.*;
+import static lombok.eclipse.Eclipse.*;
+import static lombok.eclipse.handlers.BoundProperties.boundPropertiesOf;
+import static lombok.eclipse.handlers.Eclipse.*;
+import static lombok.eclipse.handlers.EclipseHandlerUtil.*;
+import static lombok.eclipse.handlers.FieldBuilder.newField;
+import static lombok.eclipse.handlers.Lombok.*;
+import static lombok.eclipse.handlers.MemberChecks.*;
+import static lombok.eclipse.handlers.MethodBuilder.newMethod;
+import static lombok.eclipse.handlers.VetoableChangeSupportGenerator.*;
+
+import java.beans.VetoableChangeSupport;
+import java.util.Collection;
+
+import lombok.*;
+import lombok.core.AnnotationValues;
+import lombok.eclipse.EclipseAnnotationHandler;
+import lombok.eclipse.EclipseNode;
+import lombok.javac.handlers.JavaBeanHandler;
+
+import org.eclipse.jdt.internal.compiler.ast.*;
+import org.mangosdk.spi.ProviderFor;
+
+/**
+ * Generates a "constrained" setter for a field annotated with <code>{@link GenerateConstrainedSetter}</code>.
+ * <p>
+ * For example, given this class:
+ *
+ * <pre>
+ * public class Person {
+ *
+ *   &#64;GenerateConstrainedSetter private String firstName;
+ * }
+ * </pre>
+ * this annotation handler will generate the AST nodes that correspond to this code:
+ *
+ * <pre>
+ * public class Person {
+ *
+ *   public static final String PROP_FIRST_NAME = "firstName";
+ *
+ *   private String firstName;
+ *
+ *   public void setFirstName(String value) throws PropertyVetoException {
+ *      if (vetoableSupport != null &amp;&amp; vetoableSupport.hasListeners(PROP_FIRST_NAME))
+ *        vetoableSupport.fireVetoableChange(PROP_FIRST_NAME, firstName, value);
+ *      firstName = value;
+ *   }
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * <strong>Note:</strong> This annotation handler assumes that the class declaring the annotated field has a field
+ * of type <code>{@link VetoableChangeSupport}</code> with name "vetoableSupport." You can either add this expected
+ * field manually or annotate the class with <code>{@link GenerateJavaBean}</code> to have
+ * <code>{@link JavaBeanHandler}</code> generate it for you.
+ * </p>
+ * <p>
+ * Fields that get a bound setter are left to <code>{@link BoundSetterHandler}</code>, which checks for vetoes before
+ * notifying property change listeners.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+@ProviderFor(EclipseAnnotationHandler.class)
+public class ConstrainedSetterHandler implements EclipseAnnotationHandler<GenerateConstrainedSetter> {
+
+  private static final Class<GenerateConstrainedSetter> TARGET_ANNOTATION_TYPE = GenerateConstrainedSetter.class;
+
+  /**
+   * Called when an annotation is found that is likely to match <code>{@link GenerateConstrainedSetter}</code>. This is
+   * were AST node generation happens.
+   * @param annotation the actual annotation.
+   * @param ast the Eclipse AST node representing the annotation.
+   * @param astWrapper the lombok AST wrapper around {@code ast}.
+   * @return {@code true} if this handler successfully handled {@code GenerateConstrainedSetter}; {@code false}
+   * otherwise.
+   */
+  @Override
+  public boolean handle(AnnotationValues<GenerateConstrainedSetter> annotation, Annotation ast,
+      EclipseNode astWrapper) {
+    Collection<EclipseNode> fields = astWrapper.upFromAnnotationToFields();
+    EclipseNode annotatedNode = astWrapper.up();
+    if (annotatedNode == null) return false;
+    if (!isField(annotatedNode)) {
+      astWrapper.addError(canBeUsedOnFieldOnly(TARGET_ANNOTATION_TYPE));
+      return true;
+    }
+    generateSetters(fields, annotation.getInstance(), annotatedNode.up());
+    return true;
+  }
+
+  private void generateSetters(Collection<EclipseNode> fields, GenerateConstrainedSetter setter,
+      EclipseNode typeNode) {
+    BoundProperties boundProperties = boundPropertiesOf(typeNode);
+    for (EclipseNode fieldNode : fields) {
+      // fields that get a bound setter are constrained by it.
+      if (boundProperties.ordinalOf(fieldNode.getName()) >= 0) continue;
+      String propertyNameFieldName = nameOfConstantBasedOnProperty(fieldNode.getName());
+      generatePropertyNameConstant(propertyNameFieldName, fieldNode, typeNode);
+      generateSetter(propertyNameFieldName, setter, fieldNode, typeNode);
+    }
+  }
+
+  private void generatePropertyNameConstant(String propertyNameFieldName, EclipseNode fieldNode,
+      EclipseNode typeNode) {
+    // generates:
+    // public static final String PROP_FIRST_NAME = "firstName";
+    if (fieldAlreadyExists(propertyNameFieldName, typeNode)) return;
+    Expression propertyNameExpression = stringLiteral(fieldNode.getName(), typeNode.get());
+    FieldDeclaration fieldDecl = newField().ofType(String.class)
+                                           .withName(propertyNameFieldName)
+                                           .withModifiers(PUBLIC | STATIC | FINAL)
+                                           .withArgs(propertyNameExpression)
+                                           .buildWith(typeNode);
+    addStaticField(typeNode, fieldDecl);
+  }
+
+  private void generateSetter(String propertyNameFieldName, GenerateConstrainedSetter setter, EclipseNode fieldNode,
+      EclipseNode typeNode) {
+    AccessLevel accessLevel = setter.value();
+    if (stopAstGeneration(accessLevel)) return;
+    String setterName = nameOfSetter(fieldNode.getName());
+    if (methodAlreadyExists(setterName, typeNode)) return;
+    addMethod(typeNode, createSetterDecl(accessLevel, propertyNameFieldName, setterName, fieldNode));
+  }
+
+  private MethodDeclaration createSetterDecl(AccessLevel accessLevel, String propertyNameFieldName,
+      String setterName, EclipseNode fieldNode) {
+    // public void setFirstName(String firstName) throws PropertyVetoException {
+    //   if (vetoableSupport != null && vetoableSupport.hasListeners(PROP_FIRST_NAME))
+    //     vetoableSupport.fireVetoableChange(PROP_FIRST_NAME, this.firstName, firstName);
+    //   this.firstName = firstName;
+    // }
+    FieldDeclaration fieldDecl = (FieldDeclaration) fieldNode.get();
+    ASTNode source = fieldNode.get();
+    Argument param = argument(fieldDecl.name, copyType(fieldDecl.type, source), 0, source);
+    Annotation[] nonNulls = findAnnotations(fieldDecl, NON_NULL_PATTERN);
+    Annotation[] copied = copyAnnotations(source, nonNulls);
+    if (isNotEmpty(copied)) param.annotations = copied;
+    Statement assign = assignment(newFieldAccessor(fieldNode), singleNameReference(fieldNode.getName(), source),
+        source);
+    return newMethod().withModifiers(toEclipseModifier(accessLevel))
+                      .withName(setterName)
+                      .withReturnType(voidType(source))
+                      .withParameters(array(param))
+                      .withThrowsClauses(vetoThrowsClause(fieldNode))
+                      .withBody(array(fireVetoableChangeStatement(propertyNameFieldName, fieldNode), assign))
+                      .buildWith(fieldNode);
+  }
+}
@@ -0,0 +1,347 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.eclipse.handlers;
+
+import static java.lang.reflect.Modifier.*;
+import static lombok.core.util.Arrays.*;
+import static lombok.core.util.Names.*;
+import static lombok.eclipse.handlers.Eclipse.*;
+import static lombok.eclipse.handlers.EclipseHandlerUtil.*;
+import static lombok.eclipse.handlers.FieldBuilder.newField;
+import static lombok.eclipse.handlers.Lombok.addField;
+import static lombok.eclipse.handlers.Lombok.addMethod;
+import static lombok.eclipse.handlers.Lombok.addStaticField;
+import static lombok.eclipse.handlers.MemberChecks.*;
+import static lombok.eclipse.handlers.MethodBuilder.newMethod;
+import static org.eclipse.jdt.internal.compiler.ast.OperatorIds.*;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.Arrays;
+
+import lombok.eclipse.EclipseNode;
+
+import org.eclipse.jdt.internal.compiler.ast.*;
+
+/**
+ * Stores property change listeners in a {@code volatile} array that is copied and replaced, using compare-and-set,
+ * every time a listener is added or removed. Notifying listeners does not lock.
+ *
+ * @author Alex Ruiz
+ */
+class CopyOnWriteArrayGenerator extends ListenerRegistryGenerator {
+
+  static final String CURRENT_VARIABLE_NAME = "current";
+  static final String UPDATED_VARIABLE_NAME = "updated";
+  static final String INDEX_VARIABLE_NAME = "index";
+  static final String EVENT_VARIABLE_NAME = "event";
+  static final String PROPERTY_NAME_ARG_NAME = "propertyName";
+  private static final String OLD_VALUE_ARG_NAME = "oldValue";
+  private static final String NEW_VALUE_ARG_NAME = "newValue";
+
+  @Override void generateRegistry(EclipseNode typeNode) {
+    if (fieldAlreadyExists(PROPERTY_CHANGE_LISTENERS_FIELD_NAME, typeNode)) return;
+    generateNoListenersField(typeNode);
+    generateListenersStore(typeNode);
+    generateChangeListenerMethod(PROPERTY_CHANGE_METHOD_NAMES[0], addListenerStatements(typeNode), typeNode);
+    generateChangeListenerMethod(PROPERTY_CHANGE_METHOD_NAMES[1], removeListenerStatements(typeNode), typeNode);
+    generateNotifyListenersMethod(typeNode);
+  }
+
+  final void generateNoListenersField(EclipseNode typeNode) {
+    // private static final PropertyChangeListener[] NO_PROPERTY_CHANGE_LISTENERS = new PropertyChangeListener[0];
+    ASTNode source = typeNode.get();
+    Expression emptyArray = arrayAllocation(listenerType(source), intLiteral("0", source), source);
+    FieldDeclaration fieldDecl = newField().ofType(listenerArrayType(source))
+                                           .withName(NO_PROPERTY_CHANGE_LISTENERS_FIELD_NAME)
+                                           .withModifiers(PRIVATE | STATIC | FINAL)
+                                           .withInitializer(emptyArray)
+                                           .buildWith(typeNode);
+    addStaticField(typeNode, fieldDecl);
+  }
+
+  /**
+   * Generates the field that stores the array of listeners, and the field updater that replaces it.
+   * @param typeNode the type to add the fields to.
+   */
+  void generateListenersStore(EclipseNode typeNode) {
+    generateUpdaterField(PROPERTY_CHANGE_LISTENERS_UPDATER_FIELD_NAME, PROPERTY_CHANGE_LISTENERS_FIELD_NAME,
+        listenerArrayType(typeNode.get()), typeNode);
+    generateListenersField(PRIVATE | VOLATILE, typeNode);
+  }
+
+  final void generateListenersField(int modifiers, EclipseNode typeNode) {
+    // private volatile PropertyChangeListener[] propertyChangeListeners = NO_PROPERTY_CHANGE_LISTENERS;
+    ASTNode source = typeNode.get();
+    FieldDeclaration fieldDecl = newField().ofType(listenerArrayType(source))
+                                           .withName(PROPERTY_CHANGE_LISTENERS_FIELD_NAME)
+                                           .withModifiers(modifiers)
+                                           .withInitializer(singleNameReference(NO_PROPERTY_CHANGE_LISTENERS_FIELD_NAME,
+                                               source))
+                                           .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private Statement[] addListenerStatements(EclipseNode typeNode) {
+    // if (listener == null) return;
+    // while (true) {
+    //   final PropertyChangeListener[] current = this.propertyChangeListeners;
+    //   final PropertyChangeListener[] updated = Arrays.copyOf(current, current.length + 1);
+    //   updated[current.length] = listener;
+    //   if (PROPERTY_CHANGE_LISTENERS_UPDATER.compareAndSet(this, current, updated)) return;
+    // }
+    ASTNode source = typeNode.get();
+    MessageSend copy = messageSend(source);
+    copy.receiver = qualifiedNameReference(Arrays.class, source);
+    copy.selector = "copyOf".toCharArray();
+    copy.arguments = array(singleNameReference(CURRENT_VARIABLE_NAME, source),
+                           binaryExpression(currentLength(source), intLiteral("1", source), PLUS, source));
+    Expression slot = arrayReference(singleNameReference(UPDATED_VARIABLE_NAME, source), currentLength(source),
+        source);
+    Statement[] update = array(currentListenersDecl(source),
+                               localDeclaration(UPDATED_VARIABLE_NAME.toCharArray(), listenerArrayType(source), copy,
+                                   source),
+                               assignment(slot, singleNameReference(LISTENER_ARG_NAME, source), source));
+    return prepend(returnIfListenerIsNull(source), replaceListeners(update, source));
+  }
+
+  private Statement[] removeListenerStatements(EclipseNode typeNode) {
+    // if (listener == null) return;
+    // while (true) {
+    //   final PropertyChangeListener[] current = this.propertyChangeListeners;
+    //   int index = 0;
+    //   while (index < current.length && !listener.equals(current[index])) index++;
+    //   if (index == current.length) return;
+    //   final PropertyChangeListener[] updated = new PropertyChangeListener[current.length - 1];
+    //   System.arraycopy(current, 0, updated, 0, index);
+    //   System.arraycopy(current, index + 1, updated, index, updated.length - index);
+    //   if (PROPERTY_CHANGE_LISTENERS_UPDATER.compareAndSet(this, current, updated)) return;
+    // }
+    ASTNode source = typeNode.get();
+    MessageSend isListener = messageSend(source);
+    isListener.receiver = singleNameReference(LISTENER_ARG_NAME, source);
+    isListener.selector = "equals".toCharArray();
+    isListener.arguments = array(arrayReference(singleNameReference(CURRENT_VARIABLE_NAME, source), index(source),
+        source));
+    Expression keepSearching = and(binaryExpression(index(source), currentLength(source), LESS, source),
+        not(isListener, source), source);
+    Statement search = whileStatement(keepSearching, postIncrement(index(source), source), source);
+    Statement returnIfNotFound = ifStatement(equalExpression(index(source), currentLength(source), EQUAL_EQUAL,
+        source), returnStatement(source), source);
+    Expression newArray = arrayAllocation(listenerType(source), binaryExpression(currentLength(source),
+        intLiteral("1", source), MINUS, source), source);
+    Expression updatedLength = qualifiedNameReference(UPDATED_VARIABLE_NAME + ".length", source);
+    Statement[] update = array(currentListenersDecl(source),
+                               indexDecl(source),
+                               search,
+                               returnIfNotFound,
+                               localDeclaration(UPDATED_VARIABLE_NAME.toCharArray(), listenerArrayType(source),
+                                   newArray, source),
+                               arrayCopy(intLiteral("0", source), intLiteral("0", source), index(source), source),
+                               arrayCopy(binaryExpression(index(source), intLiteral("1", source), PLUS, source),
+                                   index(source), binaryExpression(updatedLength, index(source), MINUS, source),
+                                   source));
+    return prepend(returnIfListenerIsNull(source), replaceListeners(update, source));
+  }
+
+  /**
+   * Creates the statements that run the given statements, which copy the current array of listeners into a variable
+   * named "updated" and change the copy, and then replace the array with the copy. The statements are retried until
+   * the array is replaced using compare-and-set.
+   * @param update the statements that create the changed copy of the array.
+   * @param source the node generated code is attributed to.
+   * @return the created statements.
+   */
+  Statement[] replaceListeners(Statement[] update, ASTNode source) {
+    return array(retryLoop(append(update, returnIfReplaced(source)), source));
+  }
+
+  private Statement arrayCopy(Expression sourcePosition, Expression destinationPosition, Expression length,
+      ASTNode source) {
+    MessageSend arrayCopy = messageSend(source);
+    arrayCopy.receiver = qualifiedNameReference(System.class, source);
+    arrayCopy.selector = "arraycopy".toCharArray();
+    arrayCopy.arguments = array(singleNameReference(CURRENT_VARIABLE_NAME, source), sourcePosition,
+        singleNameReference(UPDATED_VARIABLE_NAME, source), destinationPosition, length);
+    return arrayCopy;
+  }
+
+  Statement returnIfListenerIsNull(ASTNode source) {
+    Expression isNull = equalExpression(singleNameReference(LISTENER_ARG_NAME, source), nullLiteral(source),
+        EQUAL_EQUAL, source);
+    return ifStatement(isNull, returnStatement(source), source);
+  }
+
+  Statement retryLoop(Statement[] body, ASTNode source) {
+    return whileStatement(trueLiteral(source), block(body, source), source);
+  }
+
+  private Statement currentListenersDecl(ASTNode source) {
+    return localDeclaration(CURRENT_VARIABLE_NAME.toCharArray(), listenerArrayType(source), listenersField(source),
+        source);
+  }
+
+  Statement indexDecl(ASTNode source) {
+    return localDeclaration(INDEX_VARIABLE_NAME.toCharArray(), intType(source), intLiteral("0", source), 0, source);
+  }
+
+  private Statement returnIfReplaced(ASTNode source) {
+    MessageSend replaced = messageSend(source);
+    replaced.receiver = singleNameReference(PROPERTY_CHANGE_LISTENERS_UPDATER_FIELD_NAME, source);
+    replaced.selector = "compareAndSet".toCharArray();
+    replaced.arguments = array(referenceForThis(source), singleNameReference(CURRENT_VARIABLE_NAME, source),
+        singleNameReference(UPDATED_VARIABLE_NAME, source));
+    return ifStatement(replaced, returnStatement(source), source);
+  }
+
+  void generateNotifyListenersMethod(EclipseNode typeNode) {
+    // private void notifyPropertyChangeListeners(final String propertyName, final Object oldValue,
+    //     final Object newValue) {
+    //   if (oldValue != null && newValue != null && oldValue.equals(newValue)) return;
+    //   final PropertyChangeListener[] current = this.propertyChangeListeners;
+    //   final PropertyChangeEvent event = new PropertyChangeEvent(this, propertyName, oldValue, newValue);
+    //   for (int index = 0; index < current.length; index++) current[index].propertyChange(event);
+    // }
+    if (methodAlreadyExists(NOTIFY_PROPERTY_CHANGE_LISTENERS_METHOD_NAME, typeNode)) return;
+    addMethod(typeNode, notifyListenersMethod(new Argument[0], notifyListenersStatements(typeNode), typeNode));
+  }
+
+  /**
+   * Creates the method "notifyPropertyChangeListeners," which takes the name, old value and new value of a property,
+   * after the given parameters.
+   * @param leadingParameters the parameters that go before the name of the property.
+   * @param statements the body of the method.
+   * @param typeNode the type declaring the listener registry.
+   * @return the created method.
+   */
+  final MethodDeclaration notifyListenersMethod(Argument[] leadingParameters, Statement[] statements,
+      EclipseNode typeNode) {
+    ASTNode source = typeNode.get();
+    Argument[] parameters = leadingParameters;
+    parameters = append(parameters, parameter(String.class, PROPERTY_NAME_ARG_NAME, source));
+    parameters = append(parameters, parameter(Object.class, OLD_VALUE_ARG_NAME, source));
+    parameters = append(parameters, parameter(Object.class, NEW_VALUE_ARG_NAME, source));
+    return newMethod().withModifiers(PRIVATE)
+                      .withName(NOTIFY_PROPERTY_CHANGE_LISTENERS_METHOD_NAME)
+                      .withReturnType(voidType(source))
+                      .withParameters(parameters)
+                      .withBody(statements)
+                      .buildWith(typeNode);
+  }
+
+  /**
+   * Creates the statements that create an event, in a variable named "event," and pass it to all the listeners of the
+   * registry.
+   * @param typeNode the type declaring the listener registry.
+   * @return the created statements.
+   */
+  final Statement[] notifyListenersStatements(EclipseNode typeNode) {
+    ASTNode source = typeNode.get();
+    return array(returnIfEqual(source), currentListenersDecl(source), eventDecl(source),
+        notifyEachListener(EVENT_VARIABLE_NAME, source));
+  }
+
+  final Statement returnIfEqual(ASTNode source) {
+    // if (oldValue != null && newValue != null && oldValue.equals(newValue)) return;
+    MessageSend equal = messageSend(source);
+    equal.receiver = singleNameReference(OLD_VALUE_ARG_NAME, source);
+    equal.selector = "equals".toCharArray();
+    equal.arguments = array(singleNameReference(NEW_VALUE_ARG_NAME, source));
+    Expression bothNonNull = and(isNotNull(OLD_VALUE_ARG_NAME, source), isNotNull(NEW_VALUE_ARG_NAME, source),
+        source);
+    return ifStatement(and(bothNonNull, equal, source), returnStatement(source), source);
+  }
+
+  final Statement eventDecl(ASTNode source) {
+    // final PropertyChangeEvent event = new PropertyChangeEvent(this, propertyName, oldValue, newValue);
+    Expression[] eventArgs = array(referenceForThis(source), singleNameReference(PROPERTY_NAME_ARG_NAME, source),
+        singleNameReference(OLD_VALUE_ARG_NAME, source), singleNameReference(NEW_VALUE_ARG_NAME, source));
+    Expression newEvent = newInstance(qualifiedTypeReference(PropertyChangeEvent.class, source), eventArgs, source);
+    return localDeclaration(EVENT_VARIABLE_NAME.toCharArray(), qualifiedTypeReference(PropertyChangeEvent.class,
+        source), newEvent, source);
+  }
+
+  private Expression isNotNull(String name, ASTNode source) {
+    return equalExpression(singleNameReference(name, source), nullLiteral(source), NOT_EQUAL, source);
+  }
+
+  Statement notifyEachListener(String eventVariableName, ASTNode source) {
+    MessageSend notify = messageSend(source);
+    notify.receiver = arrayReference(singleNameReference(CURRENT_VARIABLE_NAME, source), index(source), source);
+    notify.selector = "propertyChange".toCharArray();
+    notify.arguments = array(singleNameReference(eventVariableName, source));
+    Expression keepNotifying = binaryExpression(index(source), currentLength(source), LESS, source);
+    return forStatement(indexDecl(source), keepNotifying, postIncrement(index(source), source), notify, source);
+  }
+
+  Argument parameter(Class<?> type, String parameterName, ASTNode source) {
+    return argument(parameterName.toCharArray(), qualifiedTypeReference(type, source), FINAL, source);
+  }
+
+  @Override Expression noListenersCondition(String propertyNameFieldName, EclipseNode fieldNode) {
+    // this.propertyChangeListeners.length == 0
+    ASTNode source = fieldNode.get();
+    Expression length = fieldReference(listenersField(source), "length", source);
+    return equalExpression(length, intLiteral("0", source), EQUAL_EQUAL, source);
+  }
+
+  @Override Statement notifyListenersStatement(String propertyNameFieldName, Expression oldValue,
+      Expression newValue, EclipseNode fieldNode) {
+    // notifyPropertyChangeListeners(PROP_FIRST_NAME, old, this.firstName);
+    ASTNode source = fieldNode.get();
+    MessageSend notify = messageSend(source);
+    notify.receiver = ThisReference.implicitThis();
+    notify.selector = NOTIFY_PROPERTY_CHANGE_LISTENERS_METHOD_NAME.toCharArray();
+    notify.arguments = array(singleNameReference(propertyNameFieldName, source), oldValue, newValue);
+    return notify;
+  }
+
+  @Override Statement fireEventStatement(String eventVariableName, EclipseNode typeNode) {
+    // {
+    //   final PropertyChangeListener[] current = this.propertyChangeListeners;
+    //   for (int index = 0; index < current.length; index++) current[index].propertyChange(event);
+    // }
+    return block(fireEventStatements(eventVariableName, typeNode), typeNode.get());
+  }
+
+  final Statement[] fireEventStatements(String eventVariableName, EclipseNode typeNode) {
+    ASTNode source = typeNode.get();
+    return array(currentListenersDecl(source), notifyEachListener(eventVariableName, source));
+  }
+
+  @Override boolean firesIntAndBooleanWithoutBoxing() {
+    return false;
+  }
+
+  final Expression listenersField(ASTNode source) {
+    return fieldReference(referenceForThis(source), PROPERTY_CHANGE_LISTENERS_FIELD_NAME, source);
+  }
+
+  private Expression currentLength(ASTNode source) {
+    return qualifiedNameReference(CURRENT_VARIABLE_NAME + ".length", source);
+  }
+
+  Expression index(ASTNode source) {
+    return singleNameReference(INDEX_VARIABLE_NAME, source);
+  }
+
+  TypeReference listenerType(ASTNode source) {
+    return qualifiedTypeReference(PropertyChangeListener.class, source);
+  }
+
+  TypeReference listenerArrayType(ASTNode source) {
+    return arrayTypeReference(PropertyChangeListener.class, source);
+  }
+}
@@ -0,0 +1,294 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.eclipse.handlers;
+
+import static java.lang.reflect.Modifier.*;
+import static lombok.core.util.Arrays.array;
+import static lombok.core.util.Names.*;
+import static lombok.eclipse.handlers.BoundProperties.boundPropertiesOf;
+import static lombok.eclipse.handlers.Eclipse.*;
+import static lombok.eclipse.handlers.FieldBuilder.newField;
+import static lombok.eclipse.handlers.Lombok.*;
+import static lombok.eclipse.handlers.MemberChecks.*;
+import static lombok.eclipse.handlers.MethodBuilder.newMethod;
+import static org.eclipse.jdt.internal.compiler.ast.OperatorIds.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import lombok.GenerateJavaBean;
+import lombok.eclipse.EclipseNode;
+
+import org.eclipse.jdt.internal.compiler.ast.*;
+
+/**
+ * Generates the bitset that records which properties of a JavaBean changed, the statement that bound setters use
+ * to record a change, and the methods that read and clear the bitset. The bit of a property is its ordinal (see
+ * <code>{@link BoundProperties}</code>): the bitset is a {@code long} when the JavaBean has up to 64 bound properties,
+ * and a {@code long[]} otherwise. Recording a change is a single bitwise OR with a constant.
+ *
+ * @author Alex Ruiz
+ */
+class DirtyTrackingGenerator {
+
+  private static final int BITS_PER_WORD = 64;
+  private static final int WORD_INDEX_SHIFT = 6;
+
+  private static final String PROPERTY_NAME_ARG_NAME = "propertyName";
+  private static final String PROPERTY_ORDINAL_ARG_NAME = "propertyOrdinal";
+  private static final String DIRTY_VARIABLE_NAME = "dirty";
+  private static final String INDEX_VARIABLE_NAME = "index";
+
+  /**
+   * Returns the generator of the dirty-tracking bitset for the JavaBean annotated with the given
+   * <code>{@link GenerateJavaBean}</code>.
+   * @param javaBean the annotation on the JavaBean, or {@code null} if the JavaBean is not annotated.
+   * @return the created generator, which generates nothing if the JavaBean does not track dirty properties.
+   */
+  static DirtyTrackingGenerator dirtyTrackingGenerator(GenerateJavaBean javaBean) {
+    return new DirtyTrackingGenerator(javaBean != null && javaBean.dirtyTracking());
+  }
+
+  private final boolean enabled;
+
+  private DirtyTrackingGenerator(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Indicates whether the JavaBean tracks dirty properties.
+   * @return {@code true} if the JavaBean tracks dirty properties; {@code false} otherwise.
+   */
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Indicates whether the setter of the given field records writes in the bitset: the JavaBean must track dirty
+   * properties, and the field must be a bound property that is not {@code static}.
+   * @param fieldNode the given field.
+   * @param typeNode the type declaring the field.
+   * @return {@code true} if the setter of the given field records writes; {@code false} otherwise.
+   */
+  boolean tracks(EclipseNode fieldNode, EclipseNode typeNode) {
+    if (!enabled) return false;
+    FieldDeclaration fieldDecl = (FieldDeclaration) fieldNode.get();
+    if ((fieldDecl.modifiers & STATIC) != 0) return false;
+    return boundPropertiesOf(typeNode).ordinalOf(fieldNode.getName()) >= 0;
+  }
+
+  /**
+   * Generates, in the given type, the bitset and the methods {@code isDirty} (by property name and by property
+   * ordinal), {@code dirtyProperties} and {@code clearDirty}.
+   * @param typeNode the type to add the members to.
+   */
+  void generateDirtyTrackingMembers(EclipseNode typeNode) {
+    if (!enabled || fieldAlreadyExists(DIRTY_BITS_FIELD_NAME, typeNode)) return;
+    List<String> properties = boundPropertiesOf(typeNode).names();
+    if (properties.isEmpty()) return;
+    generateDirtyBitsField(properties.size(), typeNode);
+    if (!methodAlreadyExists(IS_DIRTY_METHOD_NAME, typeNode)) {
+      generateIsDirtyMethod(properties, typeNode);
+      generateIsDirtyByOrdinalMethod(properties.size(), typeNode);
+    }
+    generateDirtyPropertiesMethod(properties, typeNode);
+    generateClearDirtyMethod(properties.size(), typeNode);
+  }
+
+  private void generateDirtyBitsField(int propertyCount, EclipseNode typeNode) {
+    // up to 64 properties: private long dirtyBits;
+    // more than 64 properties: private final long[] dirtyBits = new long[2];
+    ASTNode source = typeNode.get();
+    FieldDeclaration fieldDecl;
+    if (fitsInOneWord(propertyCount)) {
+      fieldDecl = newField().ofType(longType(source))
+                            .withName(DIRTY_BITS_FIELD_NAME)
+                            .withModifiers(PRIVATE)
+                            .buildWith(typeNode);
+    } else {
+      Expression words = arrayAllocation(longType(source), intLiteral(String.valueOf(wordCount(propertyCount)),
+          source), source);
+      fieldDecl = newField().ofType(longArrayType(source))
+                            .withName(DIRTY_BITS_FIELD_NAME)
+                            .withModifiers(PRIVATE | FINAL)
+                            .withInitializer(words)
+                            .buildWith(typeNode);
+    }
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generateIsDirtyMethod(List<String> properties, EclipseNode typeNode) {
+    // public boolean isDirty(final String propertyName) {
+    //   if (PROP_FIRST_NAME.equals(propertyName)) return (this.dirtyBits & 1L << 0) != 0;
+    //   ...
+    //   return false;
+    // }
+    ASTNode source = typeNode.get();
+    List<Statement> statements = new ArrayList<Statement>();
+    for (int ordinal = 0; ordinal < properties.size(); ordinal++) {
+      MessageSend isProperty = messageSend(source);
+      isProperty.receiver = singleNameReference(nameOfConstantBasedOnProperty(properties.get(ordinal)), source);
+      isProperty.selector = "equals".toCharArray();
+      isProperty.arguments = array(singleNameReference(PROPERTY_NAME_ARG_NAME, source));
+      statements.add(ifStatement(isProperty, returnStatement(isSet(ordinal, properties.size(), source), source),
+          source));
+    }
+    statements.add(returnStatement(falseLiteral(source), source));
+    Argument parameter = argument(PROPERTY_NAME_ARG_NAME.toCharArray(), qualifiedTypeReference(String.class, source),
+        FINAL, source);
+    addMethod(typeNode, newMethod().withModifiers(PUBLIC)
+                                   .withName(IS_DIRTY_METHOD_NAME)
+                                   .withReturnType(booleanType(source))
+                                   .withParameters(array(parameter))
+                                   .withBody(statements.toArray(new Statement[statements.size()]))
+                                   .buildWith(typeNode));
+  }
+
+  private void generateIsDirtyByOrdinalMethod(int propertyCount, EclipseNode typeNode) {
+    // public boolean isDirty(final int propertyOrdinal) {
+    //   return (this.dirtyBits & 1L << propertyOrdinal) != 0;
+    // }
+    // more than 64 properties: (this.dirtyBits[propertyOrdinal >>> 6] & 1L << propertyOrdinal) != 0
+    // a long is shifted by the low 6 bits of the ordinal only, which is the position of the bit within its word.
+    ASTNode source = typeNode.get();
+    Expression word = dirtyBitsField(source);
+    if (!fitsInOneWord(propertyCount)) word = arrayReference(word, binaryExpression(singleNameReference(
+        PROPERTY_ORDINAL_ARG_NAME, source), intLiteral(String.valueOf(WORD_INDEX_SHIFT), source), UNSIGNED_RIGHT_SHIFT,
+        source), source);
+    Expression bit = binaryExpression(longLiteral("1L", source), singleNameReference(PROPERTY_ORDINAL_ARG_NAME, source),
+        LEFT_SHIFT, source);
+    Expression isSet = equalExpression(binaryExpression(word, bit, AND, source), intLiteral("0", source), NOT_EQUAL,
+        source);
+    Argument parameter = argument(PROPERTY_ORDINAL_ARG_NAME.toCharArray(), intType(source), FINAL, source);
+    addMethod(typeNode, newMethod().withModifiers(PUBLIC)
+                                   .withName(IS_DIRTY_METHOD_NAME)
+                                   .withReturnType(booleanType(source))
+                                   .withParameters(array(parameter))
+                                   .withBody(array(returnStatement(isSet, source)))
+                                   .buildWith(typeNode));
+  }
+
+  private void generateDirtyPropertiesMethod(List<String> properties, EclipseNode typeNode) {
+    // public String[] dirtyProperties() {
+    //   final String[] dirty = new String[Long.bitCount(this.dirtyBits)];
+    //   int index = 0;
+    //   if ((this.dirtyBits & 1L << 0) != 0) dirty[index++] = PROP_FIRST_NAME;
+    //   ...
+    //   return dirty;
+    // }
+    if (methodAlreadyExists(DIRTY_PROPERTIES_METHOD_NAME, typeNode)) return;
+    ASTNode source = typeNode.get();
+    int propertyCount = properties.size();
+    Expression dirtyCount = null;
+    for (int word = 0; word < wordCount(propertyCount); word++) {
+      MessageSend bitCount = messageSend(source);
+      bitCount.receiver = qualifiedNameReference(Long.class, source);
+      bitCount.selector = "bitCount".toCharArray();
+      bitCount.arguments = array(dirtyWord(word, propertyCount, source));
+      dirtyCount = dirtyCount == null ? bitCount : binaryExpression(dirtyCount, bitCount, PLUS, source);
+    }
+    List<Statement> statements = new ArrayList<Statement>();
+    statements.add(localDeclaration(DIRTY_VARIABLE_NAME.toCharArray(), arrayTypeReference(String.class, source),
+        arrayAllocation(qualifiedTypeReference(String.class, source), dirtyCount, source), source));
+    statements.add(localDeclaration(INDEX_VARIABLE_NAME.toCharArray(), intType(source), intLiteral("0", source), 0,
+        source));
+    for (int ordinal = 0; ordinal < propertyCount; ordinal++) {
+      Expression slot = arrayReference(singleNameReference(DIRTY_VARIABLE_NAME, source), postIncrement(
+          singleNameReference(INDEX_VARIABLE_NAME, source), source), source);
+      Statement add = assignment(slot, singleNameReference(nameOfConstantBasedOnProperty(properties.get(ordinal)),
+          source), source);
+      statements.add(ifStatement(isSet(ordinal, propertyCount, source), add, source));
+    }
+    statements.add(returnStatement(singleNameReference(DIRTY_VARIABLE_NAME, source), source));
+    addMethod(typeNode, newMethod().withModifiers(PUBLIC)
+                                   .withName(DIRTY_PROPERTIES_METHOD_NAME)
+                                   .withReturnType(arrayTypeReference(String.class, source))
+                                   .withBody(statements.toArray(new Statement[statements.size()]))
+                                   .buildWith(typeNode));
+  }
+
+  private void generateClearDirtyMethod(int propertyCount, EclipseNode typeNode) {
+    // up to 64 properties: public void clearDirty() { this.dirtyBits = 0L; }
+    // more than 64 properties: public void clearDirty() { java.util.Arrays.fill(this.dirtyBits, 0L); }
+    if (methodAlreadyExists(CLEAR_DIRTY_METHOD_NAME, typeNode)) return;
+    ASTNode source = typeNode.get();
+    Statement clear;
+    if (fitsInOneWord(propertyCount)) {
+      clear = assignment(dirtyBitsField(source), longLiteral("0L", source), source);
+    } else {
+      MessageSend fill = messageSend(source);
+      fill.receiver = qualifiedNameReference(Arrays.class, source);
+      fill.selector = "fill".toCharArray();
+      fill.arguments = array(dirtyBitsField(source), longLiteral("0L", source));
+      clear = fill;
+    }
+    addMethod(typeNode, newMethod().withModifiers(PUBLIC)
+                                   .withName(CLEAR_DIRTY_METHOD_NAME)
+                                   .withReturnType(voidType(source))
+                                   .withBody(array(clear))
+                                   .buildWith(typeNode));
+  }
+
+  /**
+   * Creates the statement that records a change of the given field (e.g. {@code this.dirtyBits |= 1L << 3;}.)
+   * @param fieldNode the field written by the setter.
+   * @param typeNode the type declaring the field.
+   * @return the created statement.
+   */
+  Statement markDirtyStatement(EclipseNode fieldNode, EclipseNode typeNode) {
+    BoundProperties properties = boundPropertiesOf(typeNode);
+    int ordinal = properties.ordinalOf(fieldNode.getName());
+    int propertyCount = properties.names().size();
+    ASTNode source = fieldNode.get();
+    return compoundAssignment(dirtyWord(ordinal / BITS_PER_WORD, propertyCount, source), bit(ordinal, source), OR,
+        source);
+  }
+
+  private Expression isSet(int ordinal, int propertyCount, ASTNode source) {
+    // (this.dirtyBits & 1L << 3) != 0
+    Expression word = dirtyWord(ordinal / BITS_PER_WORD, propertyCount, source);
+    Expression masked = binaryExpression(word, bit(ordinal, source), AND, source);
+    return equalExpression(masked, intLiteral("0", source), NOT_EQUAL, source);
+  }
+
+  private Expression dirtyWord(int word, int propertyCount, ASTNode source) {
+    // this.dirtyBits, or this.dirtyBits[1] when there is more than one word.
+    if (fitsInOneWord(propertyCount)) return dirtyBitsField(source);
+    return arrayReference(dirtyBitsField(source), intLiteral(String.valueOf(word), source), source);
+  }
+
+  private Expression bit(int ordinal, ASTNode source) {
+    // 1L << 3
+    return binaryExpression(longLiteral("1L", source), intLiteral(String.valueOf(ordinal % BITS_PER_WORD), source),
+        LEFT_SHIFT, source);
+  }
+
+  private Expression dirtyBitsField(ASTNode source) {
+    return fieldReference(referenceForThis(source), DIRTY_BITS_FIELD_NAME, source);
+  }
+
+  private TypeReference longArrayType(ASTNode source) {
+    return arrayTypeReference("long", source);
+  }
+
+  private static boolean fitsInOneWord(int propertyCount) {
+    return propertyCount <= BITS_PER_WORD;
+  }
+
+  private static int wordCount(int propertyCount) {
+    return (propertyCount + BITS_PER_WORD - 1) / BITS_PER_WORD;
+  }
+}
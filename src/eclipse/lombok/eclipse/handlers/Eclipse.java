@@ -14,11 +14,16 @@
  */
 package lombok.eclipse.handlers;
 
+import static java.util.Arrays.fill;
 import static lombok.eclipse.Eclipse.*;
+import static org.eclipse.jdt.internal.compiler.ast.OperatorIds.*;
 import static org.eclipse.jdt.internal.compiler.ast.TypeReference.baseTypeReference;
 import static org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants.AccFinal;
-import static org.eclipse.jdt.internal.compiler.lookup.TypeIds.T_void;
+import static org.eclipse.jdt.internal.compiler.lookup.TypeIds.*;
 
+import lombok.core.util.BoundedCache;
+
+import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.internal.compiler.CompilationResult;
 import org.eclipse.jdt.internal.compiler.ast.*;
 
@@ -27,6 +32,38 @@ import org.eclipse.jdt.internal.compiler.ast.*;
  */
 final class Eclipse {
 
+  // ecj does not modify the tokens of a qualified name, so the tokens of the same few names (e.g.
+  // "java.beans.PropertyChangeSupport") can be shared by all the references to them.
+  private static final BoundedCache<String, char[][]> QUALIFIED_NAME_TOKENS = new BoundedCache<String, char[][]>(256) {
+    @Override protected char[][] computeValue(String qualifiedName) {
+      return fromQualifiedName(qualifiedName);
+    }
+  };
+
+  static Expression and(Expression left, Expression right, ASTNode source) {
+    AND_AND_Expression and = new AND_AND_Expression(left, right, AND_AND);
+    copySourceStartAndEnt(source, and);
+    setGeneratedBy(and, source);
+    return and;
+  }
+
+  static Expression anonymousInstance(TypeReference type, AbstractMethodDeclaration[] methods,
+      CompilationResult compilationResult, ASTNode source) {
+    TypeDeclaration anonymousType = new TypeDeclaration(compilationResult);
+    anonymousType.name = CharOperation.NO_CHAR;
+    anonymousType.bits |= ASTNode.IsAnonymousType | ASTNode.IsLocalType | ECLIPSE_DO_NOT_TOUCH_FLAG;
+    copySourceStartAndEnt(source, anonymousType);
+    anonymousType.bodyStart = anonymousType.declarationSourceStart = source.sourceStart;
+    anonymousType.bodyEnd = anonymousType.declarationSourceEnd = source.sourceEnd;
+    setGeneratedBy(anonymousType, source);
+    anonymousType.methods = methods;
+    QualifiedAllocationExpression allocation = new QualifiedAllocationExpression(anonymousType);
+    copySourceStartAndEnt(source, allocation);
+    setGeneratedBy(allocation, source);
+    allocation.type = type;
+    return allocation;
+  }
+
   static Argument argument(char[] name, TypeReference tr, int modifiers, ASTNode source) {
     Argument argument = new Argument(name, posNom(source), tr, modifiers);
     copySourceStartAndEnt(source, argument);
@@ -34,6 +71,53 @@ final class Eclipse {
     return argument;
   }
 
+  static Expression arrayAllocation(TypeReference type, Expression dimension, ASTNode source) {
+    return arrayAllocation(type, new Expression[] { dimension }, source);
+  }
+
+  static Expression arrayAllocation(TypeReference type, Expression[] dimensions, ASTNode source) {
+    ArrayAllocationExpression allocation = new ArrayAllocationExpression();
+    copySourceStartAndEnt(source, allocation);
+    setGeneratedBy(allocation, source);
+    allocation.type = type;
+    allocation.dimensions = dimensions;
+    return allocation;
+  }
+
+  static Expression arrayInitializer(TypeReference type, Expression[] elements, ASTNode source) {
+    ArrayInitializer initializer = new ArrayInitializer();
+    copySourceStartAndEnt(source, initializer);
+    setGeneratedBy(initializer, source);
+    initializer.expressions = elements;
+    ArrayAllocationExpression allocation = (ArrayAllocationExpression) arrayAllocation(type, new Expression[1], source);
+    allocation.initializer = initializer;
+    return allocation;
+  }
+
+  static Expression arrayReference(Expression array, Expression index, ASTNode source) {
+    ArrayReference reference = new ArrayReference(array, index);
+    copySourceStartAndEnt(source, reference);
+    setGeneratedBy(reference, source);
+    return reference;
+  }
+
+  static TypeReference arrayTypeReference(Class<?> type, ASTNode source) {
+    return arrayTypeReference(type, 1, source);
+  }
+
+  static TypeReference arrayTypeReference(String typeName, ASTNode source) {
+    TypeReference reference = new ArrayTypeReference(typeName.toCharArray(), 1, posNom(source));
+    setGeneratedBy(reference, source);
+    return reference;
+  }
+
+  static TypeReference arrayTypeReference(Class<?> type, int dimensions, ASTNode source) {
+    char[][] tokens = tokensOf(type.getName());
+    TypeReference reference = new ArrayQualifiedTypeReference(tokens, dimensions, positions(tokens, source));
+    setGeneratedBy(reference, source);
+    return reference;
+  }
+
   static Assignment assignment(Expression lhs, Expression expression, ASTNode source) {
     Assignment assignment = new Assignment(lhs, expression, (int)posNom(source));
     copySourceStartAndEnt(source, assignment);
@@ -41,9 +125,150 @@ final class Eclipse {
     return assignment;
   }
 
+  static Expression binaryExpression(Expression left, Expression right, int operator, ASTNode source) {
+    BinaryExpression binaryExpression = new BinaryExpression(left, right, operator);
+    copySourceStartAndEnt(source, binaryExpression);
+    setGeneratedBy(binaryExpression, source);
+    return binaryExpression;
+  }
+
+  static Block block(Statement[] statements, ASTNode source) {
+    Block block = new Block(0);
+    copySourceStartAndEnt(source, block);
+    setGeneratedBy(block, source);
+    block.statements = statements;
+    return block;
+  }
+
+  static TypeReference booleanType(ASTNode source) {
+    TypeReference type = baseTypeReference(T_boolean, 0);
+    copySourceStartAndEnt(source, type);
+    setGeneratedBy(type, source);
+    return type;
+  }
+
+  static Expression cast(Expression expression, TypeReference type, ASTNode source) {
+    CastExpression cast = new CastExpression(expression, type);
+    copySourceStartAndEnt(source, cast);
+    setGeneratedBy(cast, source);
+    return cast;
+  }
+
+  static Expression classLiteral(TypeReference type, ASTNode source) {
+    ClassLiteralAccess literal = new ClassLiteralAccess(source.sourceEnd, type);
+    literal.sourceStart = source.sourceStart;
+    setGeneratedBy(literal, source);
+    return literal;
+  }
+
+  static Assignment compoundAssignment(Expression lhs, Expression expression, int operator, ASTNode source) {
+    Assignment assignment = new CompoundAssignment(lhs, expression, operator, (int)posNom(source));
+    copySourceStartAndEnt(source, assignment);
+    setGeneratedBy(assignment, source);
+    return assignment;
+  }
+
+  static Expression conditional(Expression condition, Expression valueIfTrue, Expression valueIfFalse,
+      ASTNode source) {
+    ConditionalExpression conditional = new ConditionalExpression(condition, valueIfTrue, valueIfFalse);
+    copySourceStartAndEnt(source, conditional);
+    setGeneratedBy(conditional, source);
+    return conditional;
+  }
+
+  static ConstructorDeclaration constructorDeclaration(CompilationResult compilationResult, ASTNode source) {
+    ConstructorDeclaration constructor = new ConstructorDeclaration(compilationResult);
+    copySourceStartAndEnt(source, constructor);
+    setGeneratedBy(constructor, source);
+    return constructor;
+  }
+
+  static Expression equalExpression(Expression left, Expression right, int operator, ASTNode source) {
+    EqualExpression equalExpression = new EqualExpression(left, right, operator);
+    copySourceStartAndEnt(source, equalExpression);
+    setGeneratedBy(equalExpression, source);
+    return equalExpression;
+  }
+
+  static Expression falseLiteral(ASTNode source) {
+    FalseLiteral literal = new FalseLiteral(source.sourceStart, source.sourceEnd);
+    setGeneratedBy(literal, source);
+    return literal;
+  }
+
+  static Expression fieldReference(Expression receiver, String name, ASTNode source) {
+    FieldReference reference = new FieldReference(name.toCharArray(), posNom(source));
+    setGeneratedBy(reference, source);
+    reference.receiver = receiver;
+    return reference;
+  }
+
+  static ForStatement forStatement(Statement initialization, Expression condition, Statement increment,
+      Statement action, ASTNode source) {
+    ForStatement forStatement = new ForStatement(new Statement[] { initialization }, condition,
+        new Statement[] { increment }, action, true, source.sourceStart, source.sourceEnd);
+    setGeneratedBy(forStatement, source);
+    return forStatement;
+  }
+
+  static ForeachStatement foreachStatement(LocalDeclaration element, Expression collection, Statement action,
+      ASTNode source) {
+    ForeachStatement foreachStatement = new ForeachStatement(element, source.sourceStart);
+    foreachStatement.sourceEnd = source.sourceEnd;
+    setGeneratedBy(foreachStatement, source);
+    foreachStatement.collection = collection;
+    foreachStatement.action = action;
+    return foreachStatement;
+  }
+
+  static IfStatement ifStatement(Expression condition, Statement thenStatement, Statement elseStatement,
+      ASTNode source) {
+    IfStatement ifStatement = new IfStatement(condition, thenStatement, elseStatement, source.sourceStart,
+        source.sourceEnd);
+    setGeneratedBy(ifStatement, source);
+    return ifStatement;
+  }
+
+  static IfStatement ifStatement(Expression condition, Statement thenStatement, ASTNode source) {
+    IfStatement ifStatement = new IfStatement(condition, thenStatement, source.sourceStart, source.sourceEnd);
+    setGeneratedBy(ifStatement, source);
+    return ifStatement;
+  }
+
+  static TypeReference intType(ASTNode source) {
+    TypeReference type = baseTypeReference(T_int, 0);
+    copySourceStartAndEnt(source, type);
+    setGeneratedBy(type, source);
+    return type;
+  }
+
+  static Expression intLiteral(String value, ASTNode source) {
+    IntLiteral literal = new IntLiteral(value.toCharArray(), source.sourceStart, source.sourceEnd);
+    setGeneratedBy(literal, source);
+    return literal;
+  }
+
+  static TypeReference longType(ASTNode source) {
+    TypeReference type = baseTypeReference(T_long, 0);
+    copySourceStartAndEnt(source, type);
+    setGeneratedBy(type, source);
+    return type;
+  }
+
+  static Expression longLiteral(String value, ASTNode source) {
+    LongLiteral literal = new LongLiteral(value.toCharArray(), source.sourceStart, source.sourceEnd);
+    setGeneratedBy(literal, source);
+    return literal;
+  }
+
   static LocalDeclaration localDeclaration(char[] name, TypeReference type, Expression initializer, ASTNode source) {
+    return localDeclaration(name, type, initializer, AccFinal, source);
+  }
+
+  static LocalDeclaration localDeclaration(char[] name, TypeReference type, Expression initializer, int modifiers,
+      ASTNode source) {
     LocalDeclaration decl = new LocalDeclaration(name, source.sourceStart, source.sourceEnd);
-    decl.modifiers |= AccFinal;
+    decl.modifiers |= modifiers;
     setGeneratedBy(decl, source);
     decl.type = copyType(type, source);
     setGeneratedBy(decl.type, source);
@@ -66,15 +291,98 @@ final class Eclipse {
     return method;
   }
 
+  static Expression newInstance(TypeReference type, Expression[] arguments, ASTNode source) {
+    AllocationExpression allocation = new AllocationExpression();
+    copySourceStartAndEnt(source, allocation);
+    setGeneratedBy(allocation, source);
+    allocation.type = type;
+    allocation.arguments = arguments;
+    return allocation;
+  }
+
+  static Expression negate(Expression expression, ASTNode source) {
+    UnaryExpression negate = new UnaryExpression(expression, MINUS);
+    copySourceStartAndEnt(source, negate);
+    setGeneratedBy(negate, source);
+    return negate;
+  }
+
+  static Expression not(Expression expression, ASTNode source) {
+    // !(a == b): operator expressions are parenthesized, so that the tree prints the way it reads.
+    if (expression instanceof OperatorExpression) expression.bits |= 1 << ASTNode.ParenthesizedSHIFT;
+    UnaryExpression not = new UnaryExpression(expression, NOT);
+    copySourceStartAndEnt(source, not);
+    setGeneratedBy(not, source);
+    return not;
+  }
+
+  static Expression nullLiteral(ASTNode source) {
+    NullLiteral literal = new NullLiteral(source.sourceStart, source.sourceEnd);
+    setGeneratedBy(literal, source);
+    return literal;
+  }
+
+  static Expression or(Expression left, Expression right, ASTNode source) {
+    OR_OR_Expression or = new OR_OR_Expression(left, right, OR_OR);
+    copySourceStartAndEnt(source, or);
+    setGeneratedBy(or, source);
+    return or;
+  }
+
+  static TypeReference parameterizedTypeReference(Class<?> type, TypeReference[] typeArguments, ASTNode source) {
+    char[][] tokens = tokensOf(type.getName());
+    TypeReference[][] arguments = new TypeReference[tokens.length][];
+    arguments[tokens.length - 1] = typeArguments;
+    TypeReference reference = new ParameterizedQualifiedTypeReference(tokens, arguments, 0, positions(tokens, source));
+    setGeneratedBy(reference, source);
+    return reference;
+  }
+
+  static Expression postIncrement(Expression expression, ASTNode source) {
+    PostfixExpression increment = new PostfixExpression(expression, intLiteral("1", source), PLUS, source.sourceEnd);
+    increment.sourceStart = source.sourceStart;
+    setGeneratedBy(increment, source);
+    return increment;
+  }
+
+  static Expression preDecrement(Expression expression, ASTNode source) {
+    PrefixExpression decrement = new PrefixExpression(expression, intLiteral("1", source), MINUS, source.sourceStart);
+    decrement.sourceEnd = source.sourceEnd;
+    setGeneratedBy(decrement, source);
+    return decrement;
+  }
+
+  static Expression qualifiedNameReference(Class<?> type, ASTNode source) {
+    return qualifiedNameReference(type.getName(), source);
+  }
+
+  static Expression qualifiedNameReference(String name, ASTNode source) {
+    char[][] tokens = tokensOf(name);
+    QualifiedNameReference ref = new QualifiedNameReference(tokens, positions(tokens, source), source.sourceStart,
+        source.sourceEnd);
+    setGeneratedBy(ref, source);
+    return ref;
+  }
+
   static TypeReference qualifiedTypeReference(Class<?> type, ASTNode source) {
     long p = posNom(source);
-    return new QualifiedTypeReference(fromQualifiedName(type.getName()), new long[] { p, p, p });
+    return new QualifiedTypeReference(tokensOf(type.getName()), new long[] { p, p, p });
   }
 
   static Expression referenceForThis(ASTNode source) {
     return new ThisReference(source.sourceStart(), source.sourceEnd());
   }
 
+  static ReturnStatement returnStatement(ASTNode source) {
+    return returnStatement(null, source);
+  }
+
+  static ReturnStatement returnStatement(Expression expression, ASTNode source) {
+    ReturnStatement returnStatement = new ReturnStatement(expression, source.sourceStart, source.sourceEnd);
+    setGeneratedBy(returnStatement, source);
+    return returnStatement;
+  }
+
   static Expression singleNameReference(String name, ASTNode source) {
     return singleNameReference(name.toCharArray(), source);
   }
@@ -90,26 +398,89 @@ final class Eclipse {
     return ref;
   }
 
+  private static long[] positions(char[][] tokens, ASTNode source) {
+    long[] positions = new long[tokens.length];
+    fill(positions, posNom(source));
+    return positions;
+  }
+
   private static long posNom(ASTNode source) {
     return (long) source.sourceStart << 32 | source.sourceEnd;
   }
 
+  static TypeReference singleTypeReference(String name, ASTNode source) {
+    TypeReference reference = new SingleTypeReference(name.toCharArray(), posNom(source));
+    setGeneratedBy(reference, source);
+    return reference;
+  }
+
   static Expression stringLiteral(String s, ASTNode source) {
     StringLiteral string = new StringLiteral(s.toCharArray(), source.sourceStart, source.sourceEnd, 0);
     setGeneratedBy(string, source);
     return string;
   }
 
+  static ExplicitConstructorCall superConstructorCall(Expression[] arguments, ASTNode source) {
+    ExplicitConstructorCall call = new ExplicitConstructorCall(ExplicitConstructorCall.Super);
+    copySourceStartAndEnt(source, call);
+    setGeneratedBy(call, source);
+    call.arguments = arguments;
+    return call;
+  }
+
+  static SynchronizedStatement synchronizedStatement(Expression lock, Block block, ASTNode source) {
+    SynchronizedStatement synchronizedStatement = new SynchronizedStatement(lock, block, source.sourceStart,
+        source.sourceEnd);
+    setGeneratedBy(synchronizedStatement, source);
+    return synchronizedStatement;
+  }
+
+  static ThrowStatement throwStatement(Expression exception, ASTNode source) {
+    ThrowStatement throwStatement = new ThrowStatement(exception, source.sourceStart, source.sourceEnd);
+    setGeneratedBy(throwStatement, source);
+    return throwStatement;
+  }
+
+  static Expression trueLiteral(ASTNode source) {
+    TrueLiteral literal = new TrueLiteral(source.sourceStart, source.sourceEnd);
+    setGeneratedBy(literal, source);
+    return literal;
+  }
+
+  static TryStatement tryStatement(Block tryBlock, Argument catchArgument, Block catchBlock, Block finallyBlock,
+      ASTNode source) {
+    TryStatement tryStatement = new TryStatement();
+    copySourceStartAndEnt(source, tryStatement);
+    setGeneratedBy(tryStatement, source);
+    tryStatement.tryBlock = tryBlock;
+    if (catchArgument != null) {
+      tryStatement.catchArguments = new Argument[] { catchArgument };
+      tryStatement.catchBlocks = new Block[] { catchBlock };
+    }
+    tryStatement.finallyBlock = finallyBlock;
+    return tryStatement;
+  }
+
   static TypeReference voidType(ASTNode source) {
     TypeReference type = baseTypeReference(T_void, 0);
     copySourceStartAndEnt(source, type);
     return type;
   }
 
+  static WhileStatement whileStatement(Expression condition, Statement action, ASTNode source) {
+    WhileStatement whileStatement = new WhileStatement(condition, action, source.sourceStart, source.sourceEnd);
+    setGeneratedBy(whileStatement, source);
+    return whileStatement;
+  }
+
   private static void copySourceStartAndEnt(ASTNode from, ASTNode to) {
     to.sourceStart = from.sourceStart;
     to.sourceEnd = from.sourceEnd;
   }
 
+  private static char[][] tokensOf(String qualifiedName) {
+    return QUALIFIED_NAME_TOKENS.get(qualifiedName);
+  }
+
   private Eclipse() {}
 }
@@ -36,15 +36,22 @@ final class FieldBuilder {
   }
 
   private Class<?> type;
+  private TypeReference typeReference;
   private String name;
   private int modifiers;
   private Expression[] args = NO_ARGS;
+  private Expression initializer;
 
   FieldBuilder ofType(Class<?> newType) {
     type = newType;
     return this;
   }
 
+  FieldBuilder ofType(TypeReference newType) {
+    typeReference = newType;
+    return this;
+  }
+
   FieldBuilder withName(String newName) {
     name = newName;
     return this;
@@ -60,19 +67,29 @@ final class FieldBuilder {
     return this;
   }
 
+  FieldBuilder withInitializer(Expression newInitializer) {
+    initializer = newInitializer;
+    return this;
+  }
+
   FieldDeclaration buildWith(EclipseNode node) {
     ASTNode source = node.get();
     FieldDeclaration fieldDecl = new FieldDeclaration(name.toCharArray(), source.sourceStart, source.sourceEnd);
     setGeneratedBy(fieldDecl, source);
     fieldDecl.declarationSourceEnd = -1;
     fieldDecl.modifiers = modifiers;
-    fieldDecl.type = qualifiedTypeReference(type, source);
+    fieldDecl.type = typeReference != null ? typeReference : qualifiedTypeReference(type, source);
+    fieldDecl.initialization = initializer(source);
+    return fieldDecl;
+  }
+
+  private Expression initializer(ASTNode source) {
+    if (initializer != null || type == null) return initializer;
     AllocationExpression init = new AllocationExpression();
     setGeneratedBy(init, source);
     init.type = qualifiedTypeReference(type, source);
     init.arguments = args;
-    fieldDecl.initialization = init;
-    return fieldDecl;
+    return init;
   }
 
   private FieldBuilder() {}
@@ -0,0 +1,134 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.eclipse.handlers;
+
+import static java.lang.reflect.Modifier.*;
+import static lombok.core.util.Arrays.*;
+import static lombok.core.util.Names.nameOfUpdaterConstantBasedOnProperty;
+import static lombok.core.util.PrimitiveType.primitiveTypeNamed;
+import static lombok.eclipse.Eclipse.copyType;
+import static lombok.eclipse.handlers.Eclipse.*;
+import static lombok.eclipse.handlers.FieldBuilder.newField;
+import static lombok.eclipse.handlers.Lombok.addStaticField;
+import static lombok.eclipse.handlers.MemberChecks.fieldAlreadyExists;
+
+import java.util.concurrent.atomic.*;
+
+import lombok.core.util.PrimitiveType;
+import lombok.eclipse.EclipseNode;
+
+import org.eclipse.jdt.internal.compiler.ast.*;
+
+/**
+ * Generates the field updaters that write {@code volatile} fields of bound properties atomically or with release
+ * semantics (e.g. {@code FIRST_NAME_UPDATER}), and the invocations of their methods. Field updaters can only write
+ * instance fields of type {@code int}, {@code long} or a reference type whose class is known at runtime.
+ *
+ * @author Alex Ruiz
+ */
+final class FieldUpdaters {
+
+  private static final String NEW_UPDATER_METHOD_NAME = "newUpdater";
+
+  /**
+   * Returns the type of field updater that can write the given field.
+   * @param fieldNode the given field.
+   * @param typeNode the type declaring the field.
+   * @return the type of field updater that can write the given field, or {@code null} if no field updater can.
+   */
+  static Class<?> updaterTypeOf(EclipseNode fieldNode, EclipseNode typeNode) {
+    FieldDeclaration fieldDecl = (FieldDeclaration) fieldNode.get();
+    if ((fieldDecl.modifiers & STATIC) != 0) return null;
+    PrimitiveType primitiveType = primitiveTypeNamed(fieldDecl.type.toString());
+    if (primitiveType == PrimitiveType.INT) return AtomicIntegerFieldUpdater.class;
+    if (primitiveType == PrimitiveType.LONG) return AtomicLongFieldUpdater.class;
+    if (primitiveType != null || !isReifiable(fieldDecl.type, typeNode)) return null;
+    return AtomicReferenceFieldUpdater.class;
+  }
+
+  private static boolean isReifiable(TypeReference type, EclipseNode typeNode) {
+    if (type instanceof ParameterizedSingleTypeReference || type instanceof ParameterizedQualifiedTypeReference)
+      return false;
+    if (!(type instanceof SingleTypeReference)) return true;
+    String name = new String(((SingleTypeReference) type).token);
+    for (EclipseNode n = typeNode; n != null; n = n.up()) {
+      if (!(n.get() instanceof TypeDeclaration)) continue;
+      TypeParameter[] typeParameters = ((TypeDeclaration) n.get()).typeParameters;
+      if (typeParameters == null) continue;
+      for (TypeParameter typeParameter : typeParameters)
+        if (new String(typeParameter.name).equals(name)) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Generates, in the given type, the field updater that writes the given field, unless the type already has it. The
+   * given field must be one that a field updater can write (see <code>{@link #updaterTypeOf(EclipseNode, EclipseNode)}
+   * </code>.)
+   * @param fieldNode the given field.
+   * @param typeNode the type declaring the field.
+   */
+  static void generateUpdaterField(EclipseNode fieldNode, EclipseNode typeNode) {
+    // int: private static final AtomicIntegerFieldUpdater<Person> AGE_UPDATER =
+    //          AtomicIntegerFieldUpdater.newUpdater(Person.class, "age");
+    // reference: private static final AtomicReferenceFieldUpdater<Person, String> FIRST_NAME_UPDATER =
+    //                AtomicReferenceFieldUpdater.newUpdater(Person.class, String.class, "firstName");
+    String updaterFieldName = nameOfUpdaterConstantBasedOnProperty(fieldNode.getName());
+    if (fieldAlreadyExists(updaterFieldName, typeNode)) return;
+    FieldDeclaration fieldDecl = (FieldDeclaration) fieldNode.get();
+    ASTNode source = typeNode.get();
+    Class<?> updaterType = updaterTypeOf(fieldNode, typeNode);
+    Expression typeClass = classLiteral(singleTypeReference(typeNode.getName(), source), source);
+    Expression fieldName = stringLiteral(fieldNode.getName(), source);
+    TypeReference[] typeArguments;
+    Expression[] arguments;
+    if (updaterType == AtomicReferenceFieldUpdater.class) {
+      typeArguments = array(singleTypeReference(typeNode.getName(), source), copyType(fieldDecl.type, source));
+      arguments = array(typeClass, classLiteral(copyType(fieldDecl.type, source), source), fieldName);
+    } else {
+      typeArguments = array(singleTypeReference(typeNode.getName(), source));
+      arguments = array(typeClass, fieldName);
+    }
+    MessageSend newUpdater = messageSend(source);
+    newUpdater.receiver = qualifiedNameReference(updaterType, source);
+    newUpdater.selector = NEW_UPDATER_METHOD_NAME.toCharArray();
+    newUpdater.arguments = arguments;
+    FieldDeclaration updaterDecl = newField().ofType(parameterizedTypeReference(updaterType, typeArguments, source))
+                                             .withName(updaterFieldName)
+                                             .withModifiers(PRIVATE | STATIC | FINAL)
+                                             .withInitializer(newUpdater)
+                                             .buildWith(typeNode);
+    addStaticField(typeNode, updaterDecl);
+  }
+
+  /**
+   * Creates an invocation of a method of the field updater of the given field, on {@code this} (e.g.
+   * {@code FIRST_NAME_UPDATER.getAndSet(this, firstName)}.)
+   * @param methodName the name of the method to invoke.
+   * @param args the arguments of the method, after {@code this}.
+   * @param fieldNode the given field.
+   * @return the created method invocation.
+   */
+  static MessageSend updaterInvocation(String methodName, Expression[] args, EclipseNode fieldNode) {
+    ASTNode source = fieldNode.get();
+    MessageSend invocation = messageSend(source);
+    invocation.receiver = singleNameReference(nameOfUpdaterConstantBasedOnProperty(fieldNode.getName()), source);
+    invocation.selector = methodName.toCharArray();
+    invocation.arguments = prepend(referenceForThis(source), args);
+    return invocation;
+  }
+
+  private FieldUpdaters() {}
+}
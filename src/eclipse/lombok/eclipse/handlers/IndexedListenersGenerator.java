@@ -0,0 +1,439 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.eclipse.handlers;
+
+import static java.lang.reflect.Modifier.*;
+import static lombok.core.util.Arrays.*;
+import static lombok.core.util.Names.*;
+import static lombok.eclipse.handlers.BoundProperties.boundPropertiesOf;
+import static lombok.eclipse.handlers.Eclipse.*;
+import static lombok.eclipse.handlers.EclipseHandlerUtil.*;
+import static lombok.eclipse.handlers.FieldBuilder.newField;
+import static lombok.eclipse.handlers.Lombok.addField;
+import static lombok.eclipse.handlers.Lombok.addMethod;
+import static lombok.eclipse.handlers.Lombok.addStaticField;
+import static lombok.eclipse.handlers.MemberChecks.*;
+import static lombok.eclipse.handlers.MethodBuilder.newMethod;
+import static org.eclipse.jdt.internal.compiler.ast.OperatorIds.*;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import lombok.eclipse.EclipseNode;
+
+import org.eclipse.jdt.internal.compiler.ast.*;
+
+/**
+ * Stores listeners of all properties like <code>{@link CopyOnWriteArrayGenerator}</code> does, and listeners of a
+ * single property in a {@code volatile} table, indexed by the ordinal of the property, that is copied and replaced
+ * every time a listener is added or removed. All the instances of a type start with the same, empty, table.
+ *
+ * @author Alex Ruiz
+ */
+class IndexedListenersGenerator extends CopyOnWriteArrayGenerator {
+
+  private static final String ORDINAL_VARIABLE_NAME = "ordinal";
+  private static final String LISTENERS_VARIABLE_NAME = "listeners";
+
+  @Override void generateRegistry(EclipseNode typeNode) {
+    super.generateRegistry(typeNode);
+    if (fieldAlreadyExists(NAMED_PROPERTY_CHANGE_LISTENERS_FIELD_NAME, typeNode)) return;
+    generatePropertyNamesField(typeNode);
+    generateNoNamedListenersField(typeNode);
+    generateUpdaterField(NAMED_PROPERTY_CHANGE_LISTENERS_UPDATER_FIELD_NAME, NAMED_PROPERTY_CHANGE_LISTENERS_FIELD_NAME,
+        tableType(typeNode.get()), typeNode);
+    generateNamedListenersField(typeNode);
+    // same names as the methods for listeners of all properties, which are already generated: only the parameters
+    // differ.
+    addMethod(typeNode, namedChangeListenerMethod(PROPERTY_CHANGE_METHOD_NAMES[0],
+        ADD_NAMED_PROPERTY_CHANGE_LISTENER_METHOD_NAME, typeNode));
+    addMethod(typeNode, namedChangeListenerMethod(PROPERTY_CHANGE_METHOD_NAMES[1],
+        REMOVE_NAMED_PROPERTY_CHANGE_LISTENER_METHOD_NAME, typeNode));
+    addMethod(typeNode, ordinalChangeListenerMethod(ADD_NAMED_PROPERTY_CHANGE_LISTENER_METHOD_NAME,
+        addNamedListenerStatements(typeNode), typeNode));
+    addMethod(typeNode, ordinalChangeListenerMethod(REMOVE_NAMED_PROPERTY_CHANGE_LISTENER_METHOD_NAME,
+        removeNamedListenerStatements(typeNode), typeNode));
+    generatePropertyOrdinalMethod(typeNode);
+  }
+
+  @Override void generatePropertyListenerMethods(EclipseNode fieldNode, EclipseNode typeNode) {
+    // public void addFirstNameListener(final PropertyChangeListener listener) {
+    //   addNamedPropertyChangeListener(ORDINAL_FIRST_NAME, listener);
+    // }
+    //
+    // public void removeFirstNameListener(final PropertyChangeListener listener) {
+    //   removeNamedPropertyChangeListener(ORDINAL_FIRST_NAME, listener);
+    // }
+    String propertyName = fieldNode.getName();
+    ASTNode source = typeNode.get();
+    generateChangeListenerMethod(nameOfAddPropertyListenerMethod(propertyName),
+        array(delegateStatement(ADD_NAMED_PROPERTY_CHANGE_LISTENER_METHOD_NAME, ordinalConstant(fieldNode), source)),
+        typeNode);
+    generateChangeListenerMethod(nameOfRemovePropertyListenerMethod(propertyName),
+        array(delegateStatement(REMOVE_NAMED_PROPERTY_CHANGE_LISTENER_METHOD_NAME, ordinalConstant(fieldNode),
+            source)), typeNode);
+  }
+
+  private void generatePropertyNamesField(EclipseNode typeNode) {
+    // private static final String[] PROPERTY_NAMES = new String[] { "firstName", "lastName" };
+    ASTNode source = typeNode.get();
+    List<Expression> names = new ArrayList<Expression>();
+    for (String name : boundPropertiesOf(typeNode).names()) names.add(stringLiteral(name, source));
+    Expression init = arrayInitializer(qualifiedTypeReference(String.class, source),
+        names.toArray(new Expression[names.size()]), source);
+    FieldDeclaration fieldDecl = newField().ofType(arrayTypeReference(String.class, source))
+                                           .withName(PROPERTY_NAMES_FIELD_NAME)
+                                           .withModifiers(PRIVATE | STATIC | FINAL)
+                                           .withInitializer(init)
+                                           .buildWith(typeNode);
+    addStaticField(typeNode, fieldDecl);
+  }
+
+  private void generateNoNamedListenersField(EclipseNode typeNode) {
+    // private static final PropertyChangeListener[][] NO_NAMED_PROPERTY_CHANGE_LISTENERS =
+    //     new PropertyChangeListener[2][0];
+    ASTNode source = typeNode.get();
+    String propertyCount = String.valueOf(boundPropertiesOf(typeNode).names().size());
+    Expression[] dimensions = array(intLiteral(propertyCount, source), intLiteral("0", source));
+    FieldDeclaration fieldDecl = newField().ofType(tableType(source))
+                                           .withName(NO_NAMED_PROPERTY_CHANGE_LISTENERS_FIELD_NAME)
+                                           .withModifiers(PRIVATE | STATIC | FINAL)
+                                           .withInitializer(arrayAllocation(listenerType(source), dimensions, source))
+                                           .buildWith(typeNode);
+    addStaticField(typeNode, fieldDecl);
+  }
+
+  private void generateNamedListenersField(EclipseNode typeNode) {
+    // private volatile PropertyChangeListener[][] namedPropertyChangeListeners = NO_NAMED_PROPERTY_CHANGE_LISTENERS;
+    ASTNode source = typeNode.get();
+    FieldDeclaration fieldDecl = newField().ofType(tableType(source))
+                                           .withName(NAMED_PROPERTY_CHANGE_LISTENERS_FIELD_NAME)
+                                           .withModifiers(PRIVATE | VOLATILE)
+                                           .withInitializer(singleNameReference(
+                                               NO_NAMED_PROPERTY_CHANGE_LISTENERS_FIELD_NAME, source))
+                                           .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private MethodDeclaration namedChangeListenerMethod(String methodName, String delegateMethodName,
+      EclipseNode typeNode) {
+    // public void addPropertyChangeListener(final String propertyName, final PropertyChangeListener listener) {
+    //   addNamedPropertyChangeListener(propertyOrdinal(propertyName), listener);
+    // }
+    ASTNode source = typeNode.get();
+    MessageSend ordinal = messageSend(source);
+    ordinal.receiver = ThisReference.implicitThis();
+    ordinal.selector = PROPERTY_ORDINAL_METHOD_NAME.toCharArray();
+    ordinal.arguments = array(singleNameReference(PROPERTY_NAME_ARG_NAME, source));
+    Argument[] parameters = array(parameter(String.class, PROPERTY_NAME_ARG_NAME, source), listenerParameter(source));
+    return newMethod().withModifiers(PUBLIC)
+                      .withName(methodName)
+                      .withReturnType(voidType(source))
+                      .withParameters(parameters)
+                      .withBody(array(delegateStatement(delegateMethodName, ordinal, source)))
+                      .buildWith(typeNode);
+  }
+
+  private Statement delegateStatement(String delegateMethodName, Expression ordinal, ASTNode source) {
+    MessageSend delegate = messageSend(source);
+    delegate.receiver = ThisReference.implicitThis();
+    delegate.selector = delegateMethodName.toCharArray();
+    delegate.arguments = array(ordinal, singleNameReference(LISTENER_ARG_NAME, source));
+    return delegate;
+  }
+
+  private MethodDeclaration ordinalChangeListenerMethod(String methodName, Statement[] statements,
+      EclipseNode typeNode) {
+    ASTNode source = typeNode.get();
+    return newMethod().withModifiers(PRIVATE)
+                      .withName(methodName)
+                      .withReturnType(voidType(source))
+                      .withParameters(array(ordinalParameter(source), listenerParameter(source)))
+                      .withBody(statements)
+                      .buildWith(typeNode);
+  }
+
+  private Statement[] addNamedListenerStatements(EclipseNode typeNode) {
+    // if (listener == null || ordinal < 0) return;
+    // while (true) {
+    //   final PropertyChangeListener[][] current = this.namedPropertyChangeListeners;
+    //   final PropertyChangeListener[] listeners = current[ordinal];
+    //   final PropertyChangeListener[][] updated = current.clone();
+    //   updated[ordinal] = Arrays.copyOf(listeners, listeners.length + 1);
+    //   updated[ordinal][listeners.length] = listener;
+    //   if (NAMED_PROPERTY_CHANGE_LISTENERS_UPDATER.compareAndSet(this, current, updated)) return;
+    // }
+    ASTNode source = typeNode.get();
+    MessageSend copy = messageSend(source);
+    copy.receiver = qualifiedNameReference(Arrays.class, source);
+    copy.selector = "copyOf".toCharArray();
+    copy.arguments = array(singleNameReference(LISTENERS_VARIABLE_NAME, source),
+                           binaryExpression(listenersLength(source), intLiteral("1", source), PLUS, source));
+    Expression slot = arrayReference(updatedListeners(source), listenersLength(source), source);
+    Statement[] loopBody = array(currentTableDecl(source),
+                                 listenersDecl(source),
+                                 updatedTableDecl(source),
+                                 assignment(updatedListeners(source), copy, source),
+                                 assignment(slot, singleNameReference(LISTENER_ARG_NAME, source), source),
+                                 returnIfReplaced(source));
+    return array(returnIfNoListenerOrProperty(source), retryLoop(loopBody, source));
+  }
+
+  private Statement[] removeNamedListenerStatements(EclipseNode typeNode) {
+    // if (listener == null || ordinal < 0) return;
+    // while (true) {
+    //   final PropertyChangeListener[][] current = this.namedPropertyChangeListeners;
+    //   final PropertyChangeListener[] listeners = current[ordinal];
+    //   int index = 0;
+    //   while (index < listeners.length && !listener.equals(listeners[index])) index++;
+    //   if (index == listeners.length) return;
+    //   final PropertyChangeListener[][] updated = current.clone();
+    //   updated[ordinal] = new PropertyChangeListener[listeners.length - 1];
+    //   System.arraycopy(listeners, 0, updated[ordinal], 0, index);
+    //   System.arraycopy(listeners, index + 1, updated[ordinal], index, updated[ordinal].length - index);
+    //   if (NAMED_PROPERTY_CHANGE_LISTENERS_UPDATER.compareAndSet(this, current, updated)) return;
+    // }
+    ASTNode source = typeNode.get();
+    MessageSend isListener = messageSend(source);
+    isListener.receiver = singleNameReference(LISTENER_ARG_NAME, source);
+    isListener.selector = "equals".toCharArray();
+    isListener.arguments = array(arrayReference(singleNameReference(LISTENERS_VARIABLE_NAME, source), index(source),
+        source));
+    Expression keepSearching = and(binaryExpression(index(source), listenersLength(source), LESS, source),
+        not(isListener, source), source);
+    Statement search = whileStatement(keepSearching, postIncrement(index(source), source), source);
+    Statement returnIfNotFound = ifStatement(equalExpression(index(source), listenersLength(source), EQUAL_EQUAL,
+        source), returnStatement(source), source);
+    Expression newArray = arrayAllocation(listenerType(source), binaryExpression(listenersLength(source),
+        intLiteral("1", source), MINUS, source), source);
+    Expression updatedLength = fieldReference(updatedListeners(source), "length", source);
+    Statement[] loopBody = array(currentTableDecl(source),
+                                 listenersDecl(source),
+                                 indexDecl(source),
+                                 search,
+                                 returnIfNotFound,
+                                 updatedTableDecl(source),
+                                 assignment(updatedListeners(source), newArray, source),
+                                 arrayCopy(intLiteral("0", source), intLiteral("0", source), index(source), source),
+                                 arrayCopy(binaryExpression(index(source), intLiteral("1", source), PLUS, source),
+                                     index(source), binaryExpression(updatedLength, index(source), MINUS, source),
+                                     source),
+                                 returnIfReplaced(source));
+    return array(returnIfNoListenerOrProperty(source), retryLoop(loopBody, source));
+  }
+
+  private Statement returnIfNoListenerOrProperty(ASTNode source) {
+    // if (listener == null || ordinal < 0) return;
+    Expression noListener = equalExpression(singleNameReference(LISTENER_ARG_NAME, source), nullLiteral(source),
+        EQUAL_EQUAL, source);
+    return ifStatement(or(noListener, noProperty(source), source), returnStatement(source), source);
+  }
+
+  private Expression noProperty(ASTNode source) {
+    // ordinal < 0
+    return binaryExpression(ordinal(source), intLiteral("0", source), LESS, source);
+  }
+
+  private Statement currentTableDecl(ASTNode source) {
+    return localDeclaration(CURRENT_VARIABLE_NAME.toCharArray(), tableType(source), namedListenersField(source),
+        source);
+  }
+
+  private Statement listenersDecl(ASTNode source) {
+    Expression listeners = arrayReference(singleNameReference(CURRENT_VARIABLE_NAME, source), ordinal(source), source);
+    return localDeclaration(LISTENERS_VARIABLE_NAME.toCharArray(), listenerArrayType(source), listeners, source);
+  }
+
+  private Statement updatedTableDecl(ASTNode source) {
+    MessageSend clone = messageSend(source);
+    clone.receiver = singleNameReference(CURRENT_VARIABLE_NAME, source);
+    clone.selector = "clone".toCharArray();
+    return localDeclaration(UPDATED_VARIABLE_NAME.toCharArray(), tableType(source), clone, source);
+  }
+
+  private Expression updatedListeners(ASTNode source) {
+    // updated[ordinal]
+    return arrayReference(singleNameReference(UPDATED_VARIABLE_NAME, source), ordinal(source), source);
+  }
+
+  private Expression listenersLength(ASTNode source) {
+    return qualifiedNameReference(LISTENERS_VARIABLE_NAME + ".length", source);
+  }
+
+  private Statement arrayCopy(Expression sourcePosition, Expression destinationPosition, Expression length,
+      ASTNode source) {
+    MessageSend arrayCopy = messageSend(source);
+    arrayCopy.receiver = qualifiedNameReference(System.class, source);
+    arrayCopy.selector = "arraycopy".toCharArray();
+    arrayCopy.arguments = array(singleNameReference(LISTENERS_VARIABLE_NAME, source), sourcePosition,
+        updatedListeners(source), destinationPosition, length);
+    return arrayCopy;
+  }
+
+  private Statement returnIfReplaced(ASTNode source) {
+    MessageSend replaced = messageSend(source);
+    replaced.receiver = singleNameReference(NAMED_PROPERTY_CHANGE_LISTENERS_UPDATER_FIELD_NAME, source);
+    replaced.selector = "compareAndSet".toCharArray();
+    replaced.arguments = array(referenceForThis(source), singleNameReference(CURRENT_VARIABLE_NAME, source),
+        singleNameReference(UPDATED_VARIABLE_NAME, source));
+    return ifStatement(replaced, returnStatement(source), source);
+  }
+
+  private void generatePropertyOrdinalMethod(EclipseNode typeNode) {
+    // private static int propertyOrdinal(final String propertyName) {
+    //   for (int ordinal = 0; ordinal < PROPERTY_NAMES.length; ordinal++)
+    //     if (PROPERTY_NAMES[ordinal].equals(propertyName)) return ordinal;
+    //   return -1;
+    // }
+    if (methodAlreadyExists(PROPERTY_ORDINAL_METHOD_NAME, typeNode)) return;
+    ASTNode source = typeNode.get();
+    MessageSend isProperty = messageSend(source);
+    isProperty.receiver = arrayReference(singleNameReference(PROPERTY_NAMES_FIELD_NAME, source), ordinal(source),
+        source);
+    isProperty.selector = "equals".toCharArray();
+    isProperty.arguments = array(singleNameReference(PROPERTY_NAME_ARG_NAME, source));
+    Statement returnIfFound = ifStatement(isProperty, returnStatement(ordinal(source), source), source);
+    Statement init = localDeclaration(ORDINAL_VARIABLE_NAME.toCharArray(), intType(source), intLiteral("0", source), 0,
+        source);
+    Expression beforeEnd = binaryExpression(ordinal(source),
+        qualifiedNameReference(PROPERTY_NAMES_FIELD_NAME + ".length", source), LESS, source);
+    Statement search = forStatement(init, beforeEnd, postIncrement(ordinal(source), source), returnIfFound, source);
+    Statement notFound = returnStatement(negate(intLiteral("1", source), source), source);
+    MethodDeclaration methodDecl = newMethod().withModifiers(PRIVATE | STATIC)
+                                              .withName(PROPERTY_ORDINAL_METHOD_NAME)
+                                              .withReturnType(intType(source))
+                                              .withParameters(array(parameter(String.class, PROPERTY_NAME_ARG_NAME,
+                                                  source)))
+                                              .withBody(array(search, notFound))
+                                              .buildWith(typeNode);
+    addMethod(typeNode, methodDecl);
+  }
+
+  @Override void generateNotifyListenersMethod(EclipseNode typeNode) {
+    // private void notifyPropertyChangeListeners(final int ordinal, final String propertyName, final Object oldValue,
+    //     final Object newValue) {
+    //   if (oldValue != null && newValue != null && oldValue.equals(newValue)) return;
+    //   final PropertyChangeListener[] current = this.propertyChangeListeners;
+    //   final PropertyChangeEvent event = new PropertyChangeEvent(this, propertyName, oldValue, newValue);
+    //   for (int index = 0; index < current.length; index++) current[index].propertyChange(event);
+    //   notifyNamedPropertyChangeListeners(ordinal, event);
+    // }
+    if (methodAlreadyExists(NOTIFY_PROPERTY_CHANGE_LISTENERS_METHOD_NAME, typeNode)) return;
+    ASTNode source = typeNode.get();
+    Statement[] statements = append(notifyListenersStatements(typeNode),
+        notifyNamedListenersStatement(ordinal(source), EVENT_VARIABLE_NAME, source));
+    addMethod(typeNode, notifyListenersMethod(array(ordinalParameter(source)), statements, typeNode));
+    generateNotifyNamedListenersMethod(typeNode);
+  }
+
+  private void generateNotifyNamedListenersMethod(EclipseNode typeNode) {
+    // private void notifyNamedPropertyChangeListeners(final int ordinal, final PropertyChangeEvent event) {
+    //   if (ordinal < 0) return;
+    //   final PropertyChangeListener[] current = this.namedPropertyChangeListeners[ordinal];
+    //   for (int index = 0; index < current.length; index++) current[index].propertyChange(event);
+    // }
+    if (methodAlreadyExists(NOTIFY_NAMED_PROPERTY_CHANGE_LISTENERS_METHOD_NAME, typeNode)) return;
+    ASTNode source = typeNode.get();
+    Expression listeners = arrayReference(namedListenersField(source), ordinal(source), source);
+    Statement[] statements = array(ifStatement(noProperty(source), returnStatement(source), source),
+                                   localDeclaration(CURRENT_VARIABLE_NAME.toCharArray(), listenerArrayType(source),
+                                       listeners, source),
+                                   notifyEachListener(EVENT_VARIABLE_NAME, source));
+    Argument[] parameters = array(ordinalParameter(source),
+        parameter(PropertyChangeEvent.class, EVENT_VARIABLE_NAME, source));
+    MethodDeclaration methodDecl = newMethod().withModifiers(PRIVATE)
+                                              .withName(NOTIFY_NAMED_PROPERTY_CHANGE_LISTENERS_METHOD_NAME)
+                                              .withReturnType(voidType(source))
+                                              .withParameters(parameters)
+                                              .withBody(statements)
+                                              .buildWith(typeNode);
+    addMethod(typeNode, methodDecl);
+  }
+
+  private Argument ordinalParameter(ASTNode source) {
+    return argument(ORDINAL_VARIABLE_NAME.toCharArray(), intType(source), FINAL, source);
+  }
+
+  private Statement notifyNamedListenersStatement(Expression ordinal, String eventVariableName, ASTNode source) {
+    MessageSend notify = messageSend(source);
+    notify.receiver = ThisReference.implicitThis();
+    notify.selector = NOTIFY_NAMED_PROPERTY_CHANGE_LISTENERS_METHOD_NAME.toCharArray();
+    notify.arguments = array(ordinal, singleNameReference(eventVariableName, source));
+    return notify;
+  }
+
+  @Override Expression noListenersCondition(String propertyNameFieldName, EclipseNode fieldNode) {
+    // this.propertyChangeListeners.length == 0 && this.namedPropertyChangeListeners[ORDINAL_FIRST_NAME].length == 0
+    ASTNode source = fieldNode.get();
+    Expression listeners = arrayReference(namedListenersField(source), ordinalConstant(fieldNode), source);
+    Expression noNamedListeners = equalExpression(fieldReference(listeners, "length", source), intLiteral("0", source),
+        EQUAL_EQUAL, source);
+    return and(super.noListenersCondition(propertyNameFieldName, fieldNode), noNamedListeners, source);
+  }
+
+  @Override Statement notifyListenersStatement(String propertyNameFieldName, Expression oldValue,
+      Expression newValue, EclipseNode fieldNode) {
+    // notifyPropertyChangeListeners(ORDINAL_FIRST_NAME, PROP_FIRST_NAME, old, this.firstName);
+    ASTNode source = fieldNode.get();
+    MessageSend notify = messageSend(source);
+    notify.receiver = ThisReference.implicitThis();
+    notify.selector = NOTIFY_PROPERTY_CHANGE_LISTENERS_METHOD_NAME.toCharArray();
+    notify.arguments = array(ordinalConstant(fieldNode), singleNameReference(propertyNameFieldName, source), oldValue,
+        newValue);
+    return notify;
+  }
+
+  @Override Statement fireEventStatement(String eventVariableName, EclipseNode typeNode) {
+    // {
+    //   final PropertyChangeListener[] current = this.propertyChangeListeners;
+    //   for (int index = 0; index < current.length; index++) current[index].propertyChange(event);
+    //   notifyNamedPropertyChangeListeners(propertyOrdinal(event.getPropertyName()), event);
+    // }
+    ASTNode source = typeNode.get();
+    MessageSend propertyName = messageSend(source);
+    propertyName.receiver = singleNameReference(eventVariableName, source);
+    propertyName.selector = "getPropertyName".toCharArray();
+    MessageSend ordinal = messageSend(source);
+    ordinal.receiver = ThisReference.implicitThis();
+    ordinal.selector = PROPERTY_ORDINAL_METHOD_NAME.toCharArray();
+    ordinal.arguments = array((Expression) propertyName);
+    Statement[] statements = append(fireEventStatements(eventVariableName, typeNode),
+        notifyNamedListenersStatement(ordinal, eventVariableName, source));
+    return block(statements, source);
+  }
+
+  @Override boolean indexesPropertyListeners() {
+    return true;
+  }
+
+  private Expression ordinalConstant(EclipseNode fieldNode) {
+    return singleNameReference(nameOfOrdinalConstantBasedOnProperty(fieldNode.getName()), fieldNode.get());
+  }
+
+  private Expression ordinal(ASTNode source) {
+    return singleNameReference(ORDINAL_VARIABLE_NAME, source);
+  }
+
+  private Expression namedListenersField(ASTNode source) {
+    return fieldReference(referenceForThis(source), NAMED_PROPERTY_CHANGE_LISTENERS_FIELD_NAME, source);
+  }
+
+  private TypeReference tableType(ASTNode source) {
+    return arrayTypeReference(PropertyChangeListener.class, 2, source);
+  }
+}
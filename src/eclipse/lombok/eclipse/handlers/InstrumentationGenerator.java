@@ -0,0 +1,146 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.eclipse.handlers;
+
+import static java.lang.reflect.Modifier.*;
+import static lombok.core.util.Arrays.array;
+import static lombok.core.util.Names.*;
+import static lombok.eclipse.handlers.Eclipse.*;
+import static lombok.eclipse.handlers.FieldBuilder.newField;
+import static lombok.eclipse.handlers.Lombok.addStaticField;
+import static lombok.eclipse.handlers.MemberChecks.fieldAlreadyExists;
+import static org.eclipse.jdt.internal.compiler.ast.OperatorIds.MINUS;
+
+import lombok.GenerateJavaBean;
+import lombok.core.BeanMetrics;
+import lombok.core.PropertyMetrics;
+import lombok.eclipse.EclipseNode;
+
+import org.eclipse.jdt.internal.compiler.ast.*;
+
+/**
+ * Generates the instrumentation of the bound setters of a JavaBean: a constant per property holding its
+ * <code>{@link PropertyMetrics}</code>, the statement that records a write, and the statements that time the
+ * notification of listeners. Generates nothing unless the JavaBean is annotated with
+ * {@code @GenerateJavaBean(instrumented = true)}.
+ *
+ * @author Alex Ruiz
+ */
+class InstrumentationGenerator {
+
+  private static final String PROPERTY_METRICS_METHOD_NAME = "propertyMetrics";
+  private static final String NANO_TIME_METHOD_NAME = "nanoTime";
+  private static final String FIRE_START_VARIABLE_NAME = "fireStart";
+
+  /**
+   * Returns the generator of the instrumentation of the JavaBean annotated with the given
+   * <code>{@link GenerateJavaBean}</code>.
+   * @param javaBean the annotation on the JavaBean, or {@code null} if the JavaBean is not annotated.
+   * @return the created generator, which generates nothing if the JavaBean is not instrumented.
+   */
+  static InstrumentationGenerator instrumentationGenerator(GenerateJavaBean javaBean) {
+    return new InstrumentationGenerator(javaBean != null && javaBean.instrumented());
+  }
+
+  private final boolean enabled;
+
+  private InstrumentationGenerator(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Indicates whether the JavaBean is instrumented.
+   * @return {@code true} if the JavaBean is instrumented; {@code false} otherwise.
+   */
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Generates, in the given type, the constant holding the metrics of the given field, unless the JavaBean is not
+   * instrumented or the type already has the constant.
+   * @param fieldNode the given field.
+   * @param typeNode the type declaring the field.
+   */
+  void generateMetricsField(EclipseNode fieldNode, EclipseNode typeNode) {
+    // the property name is a literal, since PROP_FIRST_NAME may not be initialized yet.
+    // private static final lombok.core.PropertyMetrics FIRST_NAME_METRICS =
+    //     lombok.core.BeanMetrics.propertyMetrics(Person.class, "firstName");
+    String metricsFieldName = nameOfMetricsConstantBasedOnProperty(fieldNode.getName());
+    if (!enabled || fieldAlreadyExists(metricsFieldName, typeNode)) return;
+    ASTNode source = typeNode.get();
+    MessageSend propertyMetrics = messageSend(source);
+    propertyMetrics.receiver = qualifiedNameReference(BeanMetrics.class, source);
+    propertyMetrics.selector = PROPERTY_METRICS_METHOD_NAME.toCharArray();
+    propertyMetrics.arguments = array(classLiteral(singleTypeReference(typeNode.getName(), source), source),
+        stringLiteral(fieldNode.getName(), source));
+    FieldDeclaration fieldDecl = newField().ofType(qualifiedTypeReference(PropertyMetrics.class, source))
+                                           .withName(metricsFieldName)
+                                           .withModifiers(PRIVATE | STATIC | FINAL)
+                                           .withInitializer(propertyMetrics)
+                                           .buildWith(typeNode);
+    addStaticField(typeNode, fieldDecl);
+  }
+
+  /**
+   * Creates the statement that records a write to the given field (e.g.
+   * {@code FIRST_NAME_METRICS.recordWrite(this.firstName == firstName);}.)
+   * @param unchanged the condition that is {@code true} if the write leaves the value of the field unchanged.
+   * @param fieldNode the field written by the setter.
+   * @return the created statement.
+   */
+  Statement recordWriteStatement(Expression unchanged, EclipseNode fieldNode) {
+    return recordStatement(RECORD_WRITE_METHOD_NAME, unchanged, fieldNode);
+  }
+
+  /**
+   * Wraps the given statement, which passes a change of the given field to the listeners, with statements that
+   * measure the time it takes and record it:
+   *
+   * <pre>
+   * final long fireStart = System.nanoTime();
+   * propertySupport.firePropertyChange(PROP_FIRST_NAME, old, this.firstName);
+   * FIRST_NAME_METRICS.recordFire(System.nanoTime() - fireStart);
+   * </pre>
+   * @param fire the statement that passes a change to the listeners.
+   * @param fieldNode the field written by the setter.
+   * @return the given statement and the statements that time it, in a block.
+   */
+  Statement timedFireStatement(Statement fire, EclipseNode fieldNode) {
+    ASTNode source = fieldNode.get();
+    Statement start = localDeclaration(FIRE_START_VARIABLE_NAME.toCharArray(), longType(source), nanoTime(source),
+        source);
+    Expression elapsed = binaryExpression(nanoTime(source), singleNameReference(FIRE_START_VARIABLE_NAME, source),
+        MINUS, source);
+    Statement record = recordStatement(RECORD_FIRE_METHOD_NAME, elapsed, fieldNode);
+    return block(array(start, fire, record), source);
+  }
+
+  private Statement recordStatement(String methodName, Expression arg, EclipseNode fieldNode) {
+    ASTNode source = fieldNode.get();
+    MessageSend record = messageSend(source);
+    record.receiver = singleNameReference(nameOfMetricsConstantBasedOnProperty(fieldNode.getName()), source);
+    record.selector = methodName.toCharArray();
+    record.arguments = array(arg);
+    return record;
+  }
+
+  private Expression nanoTime(ASTNode source) {
+    MessageSend nanoTime = messageSend(source);
+    nanoTime.receiver = qualifiedNameReference(System.class, source);
+    nanoTime.selector = NANO_TIME_METHOD_NAME.toCharArray();
+    return nanoTime;
+  }
+}
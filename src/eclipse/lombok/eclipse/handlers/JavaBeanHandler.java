@@ -14,24 +14,27 @@
  */
 package lombok.eclipse.handlers;
 
-import static java.lang.reflect.Modifier.*;
-import static lombok.core.util.Arrays.array;
-import static lombok.core.util.ErrorMessages.canBeUsedOnClassOnly;
-import static lombok.core.util.Names.*;
-import static lombok.eclipse.handlers.Eclipse.*;
-import static lombok.eclipse.handlers.EclipseHandlerUtil.*;
-import static lombok.eclipse.handlers.FieldBuilder.newField;
-import static lombok.eclipse.handlers.MemberChecks.*;
-import static lombok.eclipse.handlers.MethodBuilder.newMethod;
+import static lombok.core.util.ErrorMessages.*;
+import static lombok.eclipse.handlers.ChangeBatchGenerator.changeBatchGenerator;
+import static lombok.eclipse.handlers.ChangeCallbackGenerator.changeCallbackGenerator;
+import static lombok.eclipse.handlers.ChangeJournalGenerator.changeJournalGenerator;
+import static lombok.eclipse.handlers.DirtyTrackingGenerator.dirtyTrackingGenerator;
+import static lombok.eclipse.handlers.ListenerRegistryGenerator.listenerRegistryGenerator;
+import static lombok.eclipse.handlers.MemberChecks.isClass;
+import static lombok.eclipse.handlers.VetoableChangeSupportGenerator.*;
+import static lombok.eclipse.handlers.WeakListenersGenerator.weakListenersGenerator;
 
 import java.beans.*;
 
+import lombok.EventDispatch;
+import lombok.GenerateConstrainedSetter;
 import lombok.GenerateJavaBean;
+import lombok.ListenerRegistry;
+import lombok.Threading;
 import lombok.core.AnnotationValues;
 import lombok.eclipse.*;
 
 import org.eclipse.jdt.internal.compiler.ast.*;
-import org.eclipse.jdt.internal.compiler.ast.Statement;
 import org.mangosdk.spi.ProviderFor;
 
 
@@ -72,6 +75,47 @@ import org.mangosdk.spi.ProviderFor;
  * }
  * </pre>
  * </p>
+ * <p>
+ * When <code>{@link GenerateJavaBean#registry()}</code> is <code>{@link ListenerRegistry#COPY_ON_WRITE}</code>,
+ * listeners are stored in a copy-on-write array instead (see <code>{@link CopyOnWriteArrayGenerator}</code>.) When it
+ * is <code>{@link ListenerRegistry#INDEXED}</code>, listeners of a single property can be added too, and are stored by
+ * the ordinal of the property (see <code>{@link IndexedListenersGenerator}</code>.) When it is
+ * <code>{@link ListenerRegistry#STRIPED}</code>, listeners are partitioned into stripes by identity hash code (see
+ * <code>{@link StripedListenersGenerator}</code>.) When <code>{@link GenerateJavaBean#threading()}</code> is
+ * <code>{@link Threading#CONFINED}</code>, listeners are stored in a plain array that is read without any
+ * synchronization (see <code>{@link ConfinedArrayGenerator}</code>.)
+ * </p>
+ * <p>
+ * When <code>{@link GenerateJavaBean#batchChanges()}</code> is {@code true}, the methods {@code beginBatch()} and
+ * {@code endBatch()} are generated as well (see <code>{@link ChangeBatchGenerator}</code>.)
+ * </p>
+ * <p>
+ * When <code>{@link GenerateJavaBean#changeCallbacks()}</code> is {@code true}, the interface {@code ChangeCallback}
+ * and the methods that add and remove change callbacks are generated as well (see
+ * <code>{@link ChangeCallbackGenerator}</code>.)
+ * </p>
+ * <p>
+ * When <code>{@link GenerateJavaBean#dirtyTracking()}</code> is {@code true}, a bitset recording which properties were
+ * written, and the methods {@code isDirty(String)}, {@code dirtyProperties()} and {@code clearDirty()} are generated
+ * as well (see <code>{@link DirtyTrackingGenerator}</code>.)
+ * </p>
+ * <p>
+ * When <code>{@link GenerateJavaBean#changeJournal()}</code> is {@code true}, the interface {@code ChangeConsumer},
+ * the arrays that hold the change journal and the method {@code drainChanges(ChangeConsumer)} are generated as well
+ * (see <code>{@link ChangeJournalGenerator}</code>.)
+ * </p>
+ * <p>
+ * When <code>{@link GenerateJavaBean#weakListeners()}</code> is {@code true}, the type
+ * {@code WeakPropertyChangeListener} and the method {@code addWeakPropertyChangeListener(PropertyChangeListener)} are
+ * generated as well (see <code>{@link WeakListenersGenerator}</code>.)
+ * </p>
+ * <p>
+ * When any field of the class is annotated with <code>{@link GenerateConstrainedSetter}</code>, a field of type
+ * <code>{@link VetoableChangeSupport}</code> with name "vetoableSupport," created when the first vetoable change
+ * listener is added, and the methods {@code addVetoableChangeListener(VetoableChangeListener)} and
+ * {@code removeVetoableChangeListener(VetoableChangeListener)} are generated as well (see
+ * <code>{@link VetoableChangeSupportGenerator}</code>.)
+ * </p>
  *
  * @author Alex Ruiz
  */
@@ -96,53 +140,23 @@ public class JavaBeanHandler implements EclipseAnnotationHandler<GenerateJavaBea
       astWrapper.addError(canBeUsedOnClassOnly(TARGET_ANNOTATION_TYPE));
       return true;
     }
-    generatePropertyChangeSupportField(typeNode);
-    generateChangeListenerMethods(typeNode);
+    GenerateJavaBean javaBean = annotation.getInstance();
+    if (javaBean.threading() == Threading.CONFINED && javaBean.registry() != ListenerRegistry.PROPERTY_CHANGE_SUPPORT)
+      astWrapper.addWarning(confinedThreadingIgnoresRegistry(TARGET_ANNOTATION_TYPE, javaBean.registry()));
+    // cleared weak listeners are removed by the thread delivering the event: with asynchronous dispatch, the executor's
+    // thread, which must not write the unsynchronized listener array of a confined JavaBean.
+    boolean weakListenersRejected = javaBean.weakListeners() && javaBean.dispatch() == EventDispatch.ASYNC
+        && javaBean.threading() == Threading.CONFINED;
+    if (weakListenersRejected)
+      astWrapper.addError(weakListenersRequireSyncDispatchWhenConfined(TARGET_ANNOTATION_TYPE));
+    ListenerRegistryGenerator registry = listenerRegistryGenerator(javaBean);
+    registry.generateRegistry(typeNode);
+    changeBatchGenerator(javaBean, registry).generateBatchMembers(typeNode);
+    changeCallbackGenerator(javaBean, registry).generateCallbackMembers(typeNode);
+    dirtyTrackingGenerator(javaBean).generateDirtyTrackingMembers(typeNode);
+    changeJournalGenerator(javaBean).generateJournalMembers(typeNode);
+    if (!weakListenersRejected) weakListenersGenerator(javaBean).generateWeakListenerMembers(typeNode);
+    if (hasConstrainedProperties(typeNode)) generateVetoableSupport(registry, typeNode);
     return true;
   }
-
-  private void generatePropertyChangeSupportField(EclipseNode typeNode) {
-    if (fieldAlreadyExists(PROPERTY_SUPPORT_FIELD_NAME, typeNode)) return;
-    FieldDeclaration fieldDecl = newField().ofType(PropertyChangeSupport.class)
-                                           .withName(PROPERTY_SUPPORT_FIELD_NAME)
-                                           .withModifiers(PRIVATE | FINAL)
-                                           .withArgs(referenceForThis(typeNode.get()))
-                                           .buildWith(typeNode);
-    injectField(typeNode, fieldDecl);
-  }
-
-  private void generateChangeListenerMethods(EclipseNode typeNode) {
-    for (String methodName : PROPERTY_CHANGE_METHOD_NAMES)
-      generateChangeListenerMethod(methodName, typeNode);
-  }
-
-  private void generateChangeListenerMethod(String methodName, EclipseNode typeNode) {
-    MethodDeclaration methodDecl = newMethod().withModifiers(PUBLIC)
-                                              .withName(methodName)
-                                              .withReturnType(voidType(typeNode.get()))
-                                              .withParameters(parameters(typeNode))
-                                              .withBody(body(methodName, typeNode))
-                                              .buildWith(typeNode);
-    injectMethod(typeNode, methodDecl);
-  }
-
-  private Argument[] parameters(EclipseNode typeNode) {
-    ASTNode source = typeNode.get();
-    TypeReference type = qualifiedTypeReference(PropertyChangeListener.class, source);
-    Argument parameter = argument(LISTENER_ARG_NAME.toCharArray(), type, FINAL, source);
-    return array(parameter);
-  }
-
-  private Statement[] body(String methodName, EclipseNode typeNode) {
-    return array(delegateToPropertySupport(methodName, typeNode));
-  }
-  
-  private Statement delegateToPropertySupport(String methodName, EclipseNode typeNode) {
-    ASTNode source = typeNode.get();
-    MessageSend fn = messageSend(source);
-    fn.receiver = singleNameReference(PROPERTY_SUPPORT_FIELD_NAME.toCharArray(), source, 0);
-    fn.selector = methodName.toCharArray();
-    fn.arguments = array(singleNameReference(LISTENER_ARG_NAME, source));
-    return fn;
-  }
 }
@@ -0,0 +1,95 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.eclipse.handlers;
+
+import static java.lang.reflect.Modifier.*;
+import static lombok.core.util.Arrays.array;
+import static lombok.core.util.Names.*;
+import static lombok.eclipse.handlers.Eclipse.*;
+import static lombok.eclipse.handlers.FieldBuilder.newField;
+import static lombok.eclipse.handlers.Lombok.addField;
+import static lombok.eclipse.handlers.MemberChecks.fieldAlreadyExists;
+import static org.eclipse.jdt.internal.compiler.ast.OperatorIds.*;
+
+import java.beans.PropertyChangeSupport;
+
+import lombok.eclipse.EclipseNode;
+
+import org.eclipse.jdt.internal.compiler.ast.*;
+
+/**
+ * Stores property change listeners in a field of type <code>{@link PropertyChangeSupport}</code> that is created
+ * when the first listener is added.
+ *
+ * @author Alex Ruiz
+ */
+class LazyPropertyChangeSupportGenerator extends PropertyChangeSupportGenerator {
+
+  @Override void generateRegistry(EclipseNode typeNode) {
+    if (fieldAlreadyExists(PROPERTY_SUPPORT_FIELD_NAME, typeNode)) {
+      super.generateRegistry(typeNode);
+      return;
+    }
+    ASTNode source = typeNode.get();
+    generateUpdaterField(PROPERTY_SUPPORT_UPDATER_FIELD_NAME, PROPERTY_SUPPORT_FIELD_NAME,
+        qualifiedTypeReference(PropertyChangeSupport.class, source), typeNode);
+    generatePropertyChangeSupportField(typeNode);
+    generateChangeListenerMethod(PROPERTY_CHANGE_METHOD_NAMES[0], addListenerStatements(typeNode), typeNode);
+    generateChangeListenerMethod(PROPERTY_CHANGE_METHOD_NAMES[1], removeListenerStatements(typeNode), typeNode);
+  }
+
+  private void generatePropertyChangeSupportField(EclipseNode typeNode) {
+    // private volatile PropertyChangeSupport propertySupport;
+    TypeReference fieldType = qualifiedTypeReference(PropertyChangeSupport.class, typeNode.get());
+    FieldDeclaration fieldDecl = newField().ofType(fieldType)
+                                           .withName(PROPERTY_SUPPORT_FIELD_NAME)
+                                           .withModifiers(PRIVATE | VOLATILE)
+                                           .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private Statement[] addListenerStatements(EclipseNode typeNode) {
+    // if (propertySupport == null) PROPERTY_SUPPORT_UPDATER.compareAndSet(this, null, new PropertyChangeSupport(this));
+    // propertySupport.addPropertyChangeListener(listener);
+    ASTNode source = typeNode.get();
+    Expression newSupport = newInstance(qualifiedTypeReference(PropertyChangeSupport.class, source),
+        array(referenceForThis(source)), source);
+    MessageSend create = messageSend(source);
+    create.receiver = singleNameReference(PROPERTY_SUPPORT_UPDATER_FIELD_NAME, source);
+    create.selector = "compareAndSet".toCharArray();
+    create.arguments = array(referenceForThis(source), nullLiteral(source), newSupport);
+    Statement createIfMissing = ifStatement(propertySupportIs(EQUAL_EQUAL, source), create, source);
+    return array(createIfMissing, delegateToPropertySupport(PROPERTY_CHANGE_METHOD_NAMES[0], typeNode));
+  }
+
+  private Statement[] removeListenerStatements(EclipseNode typeNode) {
+    // if (propertySupport != null) propertySupport.removePropertyChangeListener(listener);
+    ASTNode source = typeNode.get();
+    Statement remove = delegateToPropertySupport(PROPERTY_CHANGE_METHOD_NAMES[1], typeNode);
+    return array((Statement) ifStatement(propertySupportIs(NOT_EQUAL, source), remove, source));
+  }
+
+  @Override Expression noListenersCondition(String propertyNameFieldName, EclipseNode fieldNode) {
+    // propertySupport == null || !propertySupport.hasListeners(PROP_FIRST_NAME)
+    ASTNode source = fieldNode.get();
+    Expression noSupport = propertySupportIs(EQUAL_EQUAL, source);
+    return or(noSupport, super.noListenersCondition(propertyNameFieldName, fieldNode), source);
+  }
+
+  private Expression propertySupportIs(int operator, ASTNode source) {
+    return equalExpression(singleNameReference(PROPERTY_SUPPORT_FIELD_NAME, source), nullLiteral(source), operator,
+        source);
+  }
+}
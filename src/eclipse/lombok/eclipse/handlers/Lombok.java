@@ -14,11 +14,22 @@
  */
 package lombok.eclipse.handlers;
 
-import static lombok.eclipse.handlers.EclipseHandlerUtil.createFieldAccessor;
+import static lombok.core.AST.Kind.ANNOTATION;
+import static lombok.core.AST.Kind.TYPE;
+import static lombok.core.util.Arrays.append;
+import static lombok.eclipse.Eclipse.*;
+import static lombok.eclipse.handlers.EclipseHandlerUtil.*;
 import static lombok.eclipse.handlers.EclipseHandlerUtil.FieldAccess.ALWAYS_FIELD;
+import static lombok.eclipse.handlers.MemberNames.memberNamesOf;
+
+import java.lang.annotation.Annotation;
+
 import lombok.eclipse.EclipseNode;
 
+import org.eclipse.jdt.internal.compiler.ast.AbstractMethodDeclaration;
 import org.eclipse.jdt.internal.compiler.ast.Expression;
+import org.eclipse.jdt.internal.compiler.ast.FieldDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.TypeDeclaration;
 
 /**
  * @author Alex Ruiz
@@ -29,5 +40,57 @@ public final class Lombok {
     return createFieldAccessor(fieldNode, ALWAYS_FIELD, fieldNode.get());
   }
 
+  static <A extends Annotation> A findAnnotation(Class<A> annotationType, EclipseNode node) {
+    for (EclipseNode child : node.down()) {
+      if (!ANNOTATION.equals(child.getKind()) || !annotationTypeMatches(annotationType, child)) continue;
+      return createAnnotation(annotationType, child).getInstance();
+    }
+    return null;
+  }
+
+  /*
+   * injects the field and records it in the type's MemberNames, so that later checks for existing members don't need to
+   * scan the type again.
+   */
+  static void addField(EclipseNode typeNode, FieldDeclaration fieldDecl) {
+    MemberNames memberNames = memberNamesOf(typeNode);
+    injectField(typeNode, fieldDecl);
+    memberNames.fieldAdded(new String(fieldDecl.name), typeNode);
+  }
+
+  /*
+   * ecj only adds a class initializer while parsing types that already declare static fields, so without one the
+   * initializers of injected static fields would never run.
+   */
+  static void addStaticField(EclipseNode typeNode, FieldDeclaration fieldDecl) {
+    MemberNames memberNames = memberNamesOf(typeNode);
+    injectField(typeNode, fieldDecl);
+    TypeDeclaration typeDecl = (TypeDeclaration) typeNode.get();
+    if (!hasClinit(typeDecl)) typeDecl.addClinit();
+    memberNames.fieldAdded(new String(fieldDecl.name), typeNode);
+  }
+
+  private static boolean hasClinit(TypeDeclaration typeDecl) {
+    if (typeDecl.methods != null)
+      for (AbstractMethodDeclaration methodDecl : typeDecl.methods) if (methodDecl.isClinit()) return true;
+    return false;
+  }
+
+  static void addMethod(EclipseNode typeNode, AbstractMethodDeclaration methodDecl) {
+    MemberNames memberNames = memberNamesOf(typeNode);
+    injectMethod(typeNode, methodDecl);
+    memberNames.methodAdded(new String(methodDecl.selector), typeNode);
+  }
+
+  /*
+   * lombok only knows how to inject fields and methods: member types are added to the type and to the lombok AST here.
+   */
+  static void addType(EclipseNode typeNode, TypeDeclaration memberTypeDecl) {
+    TypeDeclaration typeDecl = (TypeDeclaration) typeNode.get();
+    if (typeDecl.memberTypes == null) typeDecl.memberTypes = new TypeDeclaration[] { memberTypeDecl };
+    else typeDecl.memberTypes = append(typeDecl.memberTypes, memberTypeDecl);
+    typeNode.add(memberTypeDecl, TYPE);
+  }
+
   private Lombok() {}
 }
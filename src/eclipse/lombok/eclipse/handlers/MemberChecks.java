@@ -17,10 +17,8 @@ package lombok.eclipse.handlers;
 import static lombok.core.AST.Kind.FIELD;
 import static org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants.*;
 
-import static lombok.eclipse.handlers.EclipseHandlerUtil.*;
-import static lombok.eclipse.handlers.EclipseHandlerUtil.MemberExistsResult.NOT_EXISTS;
+import static lombok.eclipse.handlers.MemberNames.memberNamesOf;
 import lombok.eclipse.EclipseNode;
-import lombok.eclipse.handlers.EclipseHandlerUtil.MemberExistsResult;
 
 import org.eclipse.jdt.internal.compiler.ast.*;
 
@@ -41,15 +39,11 @@ final class MemberChecks {
   }
 
   static boolean fieldAlreadyExists(String fieldName, EclipseNode node) {
-    return existsYesOrNo(fieldExists(fieldName, node));
+    return memberNamesOf(node).hasField(fieldName);
   }
 
   static boolean methodAlreadyExists(String methodName, EclipseNode node) {
-    return existsYesOrNo(methodExists(methodName, node));
-  }
-
-  private static boolean existsYesOrNo(MemberExistsResult result) {
-    return !result.equals(NOT_EXISTS);
+    return memberNamesOf(node).hasMethod(methodName);
   }
 
   private MemberChecks() {}
@@ -0,0 +1,109 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.eclipse.handlers;
+
+import static java.util.Collections.synchronizedMap;
+
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import lombok.eclipse.EclipseNode;
+
+import org.eclipse.jdt.internal.compiler.ast.*;
+
+/**
+ * The names of the fields and methods of a type. Each type is indexed once, by whichever handler asks first, and the
+ * index is shared by all handlers and generators, which record the members they add through
+ * <code>{@link Lombok#addField(EclipseNode, FieldDeclaration)}</code>,
+ * <code>{@link Lombok#addStaticField(EclipseNode, FieldDeclaration)}</code> and
+ * <code>{@link Lombok#addMethod(EclipseNode, AbstractMethodDeclaration)}</code>. If the members of the type are changed
+ * by anybody else (e.g. lombok's own handlers) the type is indexed again.
+ *
+ * @author Alex Ruiz
+ */
+final class MemberNames {
+
+  // weak keys: the index of a type goes away with its AST.
+  private static final Map<TypeDeclaration, MemberNames> INDEX =
+      synchronizedMap(new WeakHashMap<TypeDeclaration, MemberNames>());
+
+  private final Set<String> fieldNames = new HashSet<String>();
+  private final Set<String> methodNames = new HashSet<String>();
+  private WeakReference<FieldDeclaration[]> indexedFields = new WeakReference<FieldDeclaration[]>(null);
+  private WeakReference<AbstractMethodDeclaration[]> indexedMethods =
+      new WeakReference<AbstractMethodDeclaration[]>(null);
+
+  static MemberNames memberNamesOf(EclipseNode node) {
+    TypeDeclaration typeDecl = typeDeclarationOf(node);
+    MemberNames names;
+    synchronized (INDEX) {
+      names = INDEX.get(typeDecl);
+      if (names == null) INDEX.put(typeDecl, names = new MemberNames());
+    }
+    if (!names.isIndexed(typeDecl)) names.index(typeDecl);
+    return names;
+  }
+
+  private static TypeDeclaration typeDeclarationOf(EclipseNode node) {
+    EclipseNode n = node;
+    while (!(n.get() instanceof TypeDeclaration)) n = n.up();
+    return (TypeDeclaration) n.get();
+  }
+
+  private MemberNames() {}
+
+  // injecting a member always replaces the array that holds it.
+  private boolean isIndexed(TypeDeclaration typeDecl) {
+    return indexedFields.get() == typeDecl.fields && indexedMethods.get() == typeDecl.methods;
+  }
+
+  private void index(TypeDeclaration typeDecl) {
+    fieldNames.clear();
+    methodNames.clear();
+    if (typeDecl.fields != null) for (FieldDeclaration fieldDecl : typeDecl.fields) {
+      if (fieldDecl.name != null) fieldNames.add(new String(fieldDecl.name));
+    }
+    if (typeDecl.methods != null) for (AbstractMethodDeclaration methodDecl : typeDecl.methods) {
+      methodNames.add(new String(methodDecl.selector));
+    }
+    membersIndexed(typeDecl);
+  }
+
+  private void membersIndexed(TypeDeclaration typeDecl) {
+    indexedFields = new WeakReference<FieldDeclaration[]>(typeDecl.fields);
+    indexedMethods = new WeakReference<AbstractMethodDeclaration[]>(typeDecl.methods);
+  }
+
+  boolean hasField(String name) {
+    return fieldNames.contains(name);
+  }
+
+  boolean hasMethod(String name) {
+    return methodNames.contains(name);
+  }
+
+  void fieldAdded(String name, EclipseNode typeNode) {
+    fieldNames.add(name);
+    membersIndexed(typeDeclarationOf(typeNode));
+  }
+
+  void methodAdded(String name, EclipseNode typeNode) {
+    methodNames.add(name);
+    membersIndexed(typeDeclarationOf(typeNode));
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.eclipse.handlers;
+
+import static java.lang.reflect.Modifier.*;
+import static lombok.core.util.Arrays.array;
+import static lombok.core.util.Names.*;
+import static lombok.eclipse.handlers.Eclipse.*;
+import static lombok.eclipse.handlers.FieldBuilder.newField;
+import static lombok.eclipse.handlers.Lombok.addField;
+import static lombok.eclipse.handlers.MemberChecks.fieldAlreadyExists;
+
+import java.beans.PropertyChangeSupport;
+
+import lombok.eclipse.EclipseNode;
+
+import org.eclipse.jdt.internal.compiler.ast.*;
+
+/**
+ * Stores property change listeners in a field of type <code>{@link PropertyChangeSupport}</code>.
+ *
+ * @author Alex Ruiz
+ */
+class PropertyChangeSupportGenerator extends ListenerRegistryGenerator {
+
+  @Override void generateRegistry(EclipseNode typeNode) {
+    generatePropertyChangeSupportField(typeNode);
+    for (String methodName : PROPERTY_CHANGE_METHOD_NAMES)
+      generateChangeListenerMethod(methodName, array(delegateToPropertySupport(methodName, typeNode)), typeNode);
+  }
+
+  private void generatePropertyChangeSupportField(EclipseNode typeNode) {
+    // private final PropertyChangeSupport propertySupport = new PropertyChangeSupport(this);
+    if (fieldAlreadyExists(PROPERTY_SUPPORT_FIELD_NAME, typeNode)) return;
+    FieldDeclaration fieldDecl = newField().ofType(PropertyChangeSupport.class)
+                                           .withName(PROPERTY_SUPPORT_FIELD_NAME)
+                                           .withModifiers(PRIVATE | FINAL)
+                                           .withArgs(referenceForThis(typeNode.get()))
+                                           .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  final Statement delegateToPropertySupport(String methodName, EclipseNode typeNode) {
+    // propertySupport.addPropertyChangeListener(listener);
+    ASTNode source = typeNode.get();
+    MessageSend fn = messageSend(source);
+    fn.receiver = singleNameReference(PROPERTY_SUPPORT_FIELD_NAME.toCharArray(), source, 0);
+    fn.selector = methodName.toCharArray();
+    fn.arguments = array(singleNameReference(LISTENER_ARG_NAME, source));
+    return fn;
+  }
+
+  @Override Expression noListenersCondition(String propertyNameFieldName, EclipseNode fieldNode) {
+    // !propertySupport.hasListeners(PROP_FIRST_NAME)
+    ASTNode source = fieldNode.get();
+    MessageSend hasListeners = messageSend(source);
+    hasListeners.receiver = singleNameReference(PROPERTY_SUPPORT_FIELD_NAME, source);
+    hasListeners.selector = HAS_LISTENERS_METHOD_NAME.toCharArray();
+    hasListeners.arguments = array(singleNameReference(propertyNameFieldName, source));
+    return not(hasListeners, source);
+  }
+
+  @Override Statement notifyListenersStatement(String propertyNameFieldName, Expression oldValue,
+      Expression newValue, EclipseNode fieldNode) {
+    // propertySupport.firePropertyChange(PROP_FIRST_NAME, old, this.firstName);
+    ASTNode source = fieldNode.get();
+    MessageSend fn = messageSend(source);
+    fn.receiver = singleNameReference(PROPERTY_SUPPORT_FIELD_NAME, source);
+    fn.selector = FIRE_PROPERTY_CHANGE_METHOD_NAME.toCharArray();
+    fn.arguments = array(singleNameReference(propertyNameFieldName, source), oldValue, newValue);
+    return fn;
+  }
+
+  @Override Statement fireEventStatement(String eventVariableName, EclipseNode typeNode) {
+    // propertySupport.firePropertyChange(event);
+    ASTNode source = typeNode.get();
+    MessageSend fn = messageSend(source);
+    fn.receiver = singleNameReference(PROPERTY_SUPPORT_FIELD_NAME, source);
+    fn.selector = FIRE_PROPERTY_CHANGE_METHOD_NAME.toCharArray();
+    fn.arguments = array(singleNameReference(eventVariableName, source));
+    return fn;
+  }
+
+  @Override boolean firesIntAndBooleanWithoutBoxing() {
+    return true;
+  }
+}
@@ -0,0 +1,327 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.eclipse.handlers;
+
+import static java.lang.reflect.Modifier.*;
+import static lombok.core.util.Arrays.array;
+import static lombok.core.util.Names.*;
+import static lombok.eclipse.Eclipse.ECLIPSE_DO_NOT_TOUCH_FLAG;
+import static lombok.eclipse.Eclipse.setGeneratedBy;
+import static lombok.eclipse.handlers.Eclipse.*;
+import static lombok.eclipse.handlers.FieldBuilder.newField;
+import static lombok.eclipse.handlers.Lombok.*;
+import static lombok.eclipse.handlers.MemberChecks.*;
+import static lombok.eclipse.handlers.MethodBuilder.newMethod;
+import static org.eclipse.jdt.internal.compiler.ast.OperatorIds.*;
+
+import java.util.IdentityHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.eclipse.EclipseNode;
+
+import org.eclipse.jdt.internal.compiler.ast.*;
+
+/**
+ * Partitions property change listeners, by identity hash code, into stripes. Each stripe stores its listeners in an
+ * <code>{@link IdentityHashMap}</code>, guarded by the stripe's monitor, and caches them in a {@code volatile} array
+ * that notifying listeners reads without locking. Adding or removing a listener discards the array of its stripe only;
+ * the array is rebuilt by the next notification. The stripes are created by the first add, so that a bean that never
+ * gets a listener only holds a {@code null} reference.
+ *
+ * @author Alex Ruiz
+ */
+class StripedListenersGenerator extends CopyOnWriteArrayGenerator {
+
+  // must be a power of two: the stripe of a listener is its identity hash code masked with the number of stripes - 1.
+  private static final int STRIPE_COUNT = 8;
+
+  private static final String STRIPES_VARIABLE_NAME = "stripes";
+  private static final String STRIPE_VARIABLE_NAME = "stripe";
+  private static final String STRIPE_INDEX_VARIABLE_NAME = "stripeIndex";
+  private static final String STRIPE_LISTENERS_FIELD_NAME = "listeners";
+  private static final String STRIPE_SNAPSHOT_FIELD_NAME = "snapshot";
+
+  @Override void generateRegistry(EclipseNode typeNode) {
+    if (fieldAlreadyExists(PROPERTY_CHANGE_LISTENER_STRIPES_FIELD_NAME, typeNode)) return;
+    generateNoListenersField(typeNode);
+    generateStripeType(typeNode);
+    generateUpdaterField(PROPERTY_CHANGE_LISTENER_STRIPES_UPDATER_FIELD_NAME,
+        PROPERTY_CHANGE_LISTENER_STRIPES_FIELD_NAME, stripeArrayType(typeNode.get()), typeNode);
+    generateStripesField(typeNode);
+    generateCountField(typeNode);
+    generateChangeListenerMethod(PROPERTY_CHANGE_METHOD_NAMES[0], addListenerStatements(typeNode), typeNode);
+    generateChangeListenerMethod(PROPERTY_CHANGE_METHOD_NAMES[1], removeListenerStatements(typeNode), typeNode);
+    generateListenersOfMethod(typeNode);
+    generateNotifyListenersMethod(typeNode);
+  }
+
+  private void generateStripeType(EclipseNode typeNode) {
+    // private static final class PropertyChangeListenerStripe {
+    //   final IdentityHashMap<PropertyChangeListener, Boolean> listeners =
+    //       new IdentityHashMap<PropertyChangeListener, Boolean>();
+    //   volatile PropertyChangeListener[] snapshot = NO_PROPERTY_CHANGE_LISTENERS;
+    // }
+    TypeDeclaration parent = (TypeDeclaration) typeNode.get();
+    FieldDeclaration listeners = newField().ofType(listenerMapType(parent))
+                                           .withName(STRIPE_LISTENERS_FIELD_NAME)
+                                           .withModifiers(FINAL)
+                                           .withInitializer(newInstance(listenerMapType(parent), null, parent))
+                                           .buildWith(typeNode);
+    FieldDeclaration snapshot = newField().ofType(listenerArrayType(parent))
+                                          .withName(STRIPE_SNAPSHOT_FIELD_NAME)
+                                          .withModifiers(VOLATILE)
+                                          .withInitializer(singleNameReference(NO_PROPERTY_CHANGE_LISTENERS_FIELD_NAME,
+                                              parent))
+                                          .buildWith(typeNode);
+    TypeDeclaration typeDecl = new TypeDeclaration(parent.compilationResult);
+    typeDecl.bits |= ECLIPSE_DO_NOT_TOUCH_FLAG;
+    typeDecl.modifiers = PRIVATE | STATIC | FINAL;
+    typeDecl.name = PROPERTY_CHANGE_LISTENER_STRIPE_TYPE_NAME.toCharArray();
+    typeDecl.sourceStart = typeDecl.declarationSourceStart = typeDecl.bodyStart = parent.sourceStart;
+    typeDecl.sourceEnd = typeDecl.declarationSourceEnd = typeDecl.bodyEnd = parent.sourceEnd;
+    typeDecl.fields = array(listeners, snapshot);
+    setGeneratedBy(typeDecl.createDefaultConstructor(true, true), parent);
+    setGeneratedBy(typeDecl, parent);
+    addType(typeNode, typeDecl);
+  }
+
+  private TypeReference listenerMapType(ASTNode source) {
+    // IdentityHashMap<PropertyChangeListener, Boolean>
+    return parameterizedTypeReference(IdentityHashMap.class, array(listenerType(source),
+        qualifiedTypeReference(Boolean.class, source)), source);
+  }
+
+  private void generateStripesField(EclipseNode typeNode) {
+    // private volatile PropertyChangeListenerStripe[] propertyChangeListenerStripes;
+    FieldDeclaration fieldDecl = newField().ofType(stripeArrayType(typeNode.get()))
+                                           .withName(PROPERTY_CHANGE_LISTENER_STRIPES_FIELD_NAME)
+                                           .withModifiers(PRIVATE | VOLATILE)
+                                           .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generateCountField(EclipseNode typeNode) {
+    // private final AtomicInteger propertyChangeListenerCount = new AtomicInteger();
+    FieldDeclaration fieldDecl = newField().ofType(AtomicInteger.class)
+                                           .withName(PROPERTY_CHANGE_LISTENER_COUNT_FIELD_NAME)
+                                           .withModifiers(PRIVATE | FINAL)
+                                           .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private Statement[] addListenerStatements(EclipseNode typeNode) {
+    // if (listener == null) return;
+    // if (this.propertyChangeListenerStripes == null) PROPERTY_CHANGE_LISTENER_STRIPES_UPDATER.compareAndSet(this,
+    //     null, new PropertyChangeListenerStripe[] { new PropertyChangeListenerStripe(), ... });
+    // final PropertyChangeListenerStripe[] stripes = this.propertyChangeListenerStripes;
+    // final PropertyChangeListenerStripe stripe = stripes[System.identityHashCode(listener) & (stripes.length - 1)];
+    // synchronized (stripe) {
+    //   if (stripe.listeners.put(listener, Boolean.TRUE) != null) return;
+    //   stripe.snapshot = null;
+    // }
+    // this.propertyChangeListenerCount.incrementAndGet();
+    ASTNode source = typeNode.get();
+    Expression put = stripeListenersCall("put", array(singleNameReference(LISTENER_ARG_NAME, source),
+        qualifiedNameReference("java.lang.Boolean.TRUE", source)), source);
+    Statement[] stripesLookup = array(createStripesIfMissing(source), stripesDecl(source));
+    return updateStripeStatements(stripesLookup, equalExpression(put, nullLiteral(source), NOT_EQUAL, source),
+        "incrementAndGet", source);
+  }
+
+  private Statement createStripesIfMissing(ASTNode source) {
+    Expression[] stripes = new Expression[STRIPE_COUNT];
+    for (int i = 0; i < STRIPE_COUNT; i++) stripes[i] = newInstance(stripeType(source), null, source);
+    MessageSend create = messageSend(source);
+    create.receiver = singleNameReference(PROPERTY_CHANGE_LISTENER_STRIPES_UPDATER_FIELD_NAME, source);
+    create.selector = "compareAndSet".toCharArray();
+    create.arguments = array(referenceForThis(source), nullLiteral(source), arrayInitializer(stripeType(source),
+        stripes, source));
+    return ifStatement(equalExpression(stripesField(source), nullLiteral(source), EQUAL_EQUAL, source), create,
+        source);
+  }
+
+  private Statement[] removeListenerStatements(EclipseNode typeNode) {
+    // if (listener == null) return;
+    // final PropertyChangeListenerStripe[] stripes = this.propertyChangeListenerStripes;
+    // if (stripes == null) return;
+    // final PropertyChangeListenerStripe stripe = stripes[System.identityHashCode(listener) & (stripes.length - 1)];
+    // synchronized (stripe) {
+    //   if (stripe.listeners.remove(listener) == null) return;
+    //   stripe.snapshot = null;
+    // }
+    // this.propertyChangeListenerCount.decrementAndGet();
+    ASTNode source = typeNode.get();
+    Expression remove = stripeListenersCall("remove", array(singleNameReference(LISTENER_ARG_NAME, source)), source);
+    Statement returnIfNoStripes = ifStatement(equalExpression(stripes(source), nullLiteral(source), EQUAL_EQUAL,
+        source), returnStatement(source), source);
+    Statement[] stripesLookup = array(stripesDecl(source), returnIfNoStripes);
+    return updateStripeStatements(stripesLookup, equalExpression(remove, nullLiteral(source), EQUAL_EQUAL, source),
+        "decrementAndGet", source);
+  }
+
+  private Statement stripesDecl(ASTNode source) {
+    // final PropertyChangeListenerStripe[] stripes = this.propertyChangeListenerStripes;
+    return localDeclaration(STRIPES_VARIABLE_NAME.toCharArray(), stripeArrayType(source), stripesField(source),
+        source);
+  }
+
+  private Statement[] updateStripeStatements(Statement[] stripesLookup, Expression unchanged, String countMethodName,
+      ASTNode source) {
+    MessageSend identityHash = messageSend(source);
+    identityHash.receiver = qualifiedNameReference(System.class, source);
+    identityHash.selector = "identityHashCode".toCharArray();
+    identityHash.arguments = array(singleNameReference(LISTENER_ARG_NAME, source));
+    Expression lastStripe = binaryExpression(stripesLength(source), intLiteral("1", source), MINUS, source);
+    Expression stripe = arrayReference(stripes(source), binaryExpression(identityHash, lastStripe, AND, source),
+        source);
+    Statement stripeDecl = localDeclaration(STRIPE_VARIABLE_NAME.toCharArray(), stripeType(source), stripe, source);
+    Statement returnIfUnchanged = ifStatement(unchanged, returnStatement(source), source);
+    Statement discardSnapshot = assignment(stripeSnapshot(source), nullLiteral(source), source);
+    Statement lock = synchronizedStatement(singleNameReference(STRIPE_VARIABLE_NAME, source),
+        block(array(returnIfUnchanged, discardSnapshot), source), source);
+    MessageSend count = messageSend(source);
+    count.receiver = countField(source);
+    count.selector = countMethodName.toCharArray();
+    return array(returnIfListenerIsNull(source), stripesLookup[0], stripesLookup[1], stripeDecl, lock, count);
+  }
+
+  private Expression stripeListenersCall(String methodName, Expression[] args, ASTNode source) {
+    // stripe.listeners.<methodName>(<args>)
+    MessageSend call = messageSend(source);
+    call.receiver = qualifiedNameReference(STRIPE_VARIABLE_NAME + "." + STRIPE_LISTENERS_FIELD_NAME, source);
+    call.selector = methodName.toCharArray();
+    call.arguments = args;
+    return call;
+  }
+
+  private void generateListenersOfMethod(EclipseNode typeNode) {
+    // private static PropertyChangeListener[] propertyChangeListenersOf(final PropertyChangeListenerStripe stripe) {
+    //   final PropertyChangeListener[] current = stripe.snapshot;
+    //   if (current != null) return current;
+    //   synchronized (stripe) {
+    //     if (stripe.snapshot == null)
+    //       stripe.snapshot = stripe.listeners.keySet().toArray(NO_PROPERTY_CHANGE_LISTENERS);
+    //     return stripe.snapshot;
+    //   }
+    // }
+    if (methodAlreadyExists(PROPERTY_CHANGE_LISTENERS_OF_METHOD_NAME, typeNode)) return;
+    ASTNode source = typeNode.get();
+    Statement currentDecl = localDeclaration(CURRENT_VARIABLE_NAME.toCharArray(), listenerArrayType(source),
+        stripeSnapshot(source), source);
+    Expression hasCurrent = equalExpression(singleNameReference(CURRENT_VARIABLE_NAME, source), nullLiteral(source),
+        NOT_EQUAL, source);
+    Statement returnIfCurrent = ifStatement(hasCurrent, returnStatement(singleNameReference(CURRENT_VARIABLE_NAME,
+        source), source), source);
+    MessageSend toArray = messageSend(source);
+    toArray.receiver = stripeListenersCall("keySet", null, source);
+    toArray.selector = "toArray".toCharArray();
+    toArray.arguments = array(singleNameReference(NO_PROPERTY_CHANGE_LISTENERS_FIELD_NAME, source));
+    Statement rebuild = ifStatement(equalExpression(stripeSnapshot(source), nullLiteral(source), EQUAL_EQUAL, source),
+        assignment(stripeSnapshot(source), toArray, source), source);
+    Statement lock = synchronizedStatement(singleNameReference(STRIPE_VARIABLE_NAME, source),
+        block(array(rebuild, returnStatement(stripeSnapshot(source), source)), source), source);
+    Argument parameter = argument(STRIPE_VARIABLE_NAME.toCharArray(), stripeType(source), FINAL, source);
+    MethodDeclaration methodDecl = newMethod().withModifiers(PRIVATE | STATIC)
+                                              .withName(PROPERTY_CHANGE_LISTENERS_OF_METHOD_NAME)
+                                              .withReturnType(listenerArrayType(source))
+                                              .withParameters(array(parameter))
+                                              .withBody(array(currentDecl, returnIfCurrent, lock))
+                                              .buildWith(typeNode);
+    addMethod(typeNode, methodDecl);
+  }
+
+  @Override void generateNotifyListenersMethod(EclipseNode typeNode) {
+    // private void notifyPropertyChangeListeners(final String propertyName, final Object oldValue,
+    //     final Object newValue) {
+    //   if (oldValue != null && newValue != null && oldValue.equals(newValue)) return;
+    //   final PropertyChangeEvent event = new PropertyChangeEvent(this, propertyName, oldValue, newValue);
+    //   {
+    //     ...
+    //   }
+    // }
+    if (methodAlreadyExists(NOTIFY_PROPERTY_CHANGE_LISTENERS_METHOD_NAME, typeNode)) return;
+    ASTNode source = typeNode.get();
+    Statement[] statements = array(returnIfEqual(source), eventDecl(source), fireEventStatement(EVENT_VARIABLE_NAME,
+        typeNode));
+    addMethod(typeNode, notifyListenersMethod(new Argument[0], statements, typeNode));
+  }
+
+  @Override Expression noListenersCondition(String propertyNameFieldName, EclipseNode fieldNode) {
+    // this.propertyChangeListenerCount.get() == 0
+    ASTNode source = fieldNode.get();
+    MessageSend count = messageSend(source);
+    count.receiver = countField(source);
+    count.selector = "get".toCharArray();
+    return equalExpression(count, intLiteral("0", source), EQUAL_EQUAL, source);
+  }
+
+  @Override Statement fireEventStatement(String eventVariableName, EclipseNode typeNode) {
+    // {
+    //   final PropertyChangeListenerStripe[] stripes = this.propertyChangeListenerStripes;
+    //   if (stripes != null) for (int stripeIndex = 0; stripeIndex < stripes.length; stripeIndex++) {
+    //     final PropertyChangeListener[] current = propertyChangeListenersOf(stripes[stripeIndex]);
+    //     for (int index = 0; index < current.length; index++) current[index].propertyChange(event);
+    //   }
+    // }
+    ASTNode source = typeNode.get();
+    Statement stripeIndexDecl = localDeclaration(STRIPE_INDEX_VARIABLE_NAME.toCharArray(), intType(source),
+        intLiteral("0", source), 0, source);
+    Expression moreStripes = binaryExpression(stripeIndex(source), stripesLength(source), LESS, source);
+    MessageSend listenersOf = messageSend(source);
+    listenersOf.receiver = ThisReference.implicitThis();
+    listenersOf.selector = PROPERTY_CHANGE_LISTENERS_OF_METHOD_NAME.toCharArray();
+    listenersOf.arguments = array(arrayReference(stripes(source), stripeIndex(source), source));
+    Statement currentDecl = localDeclaration(CURRENT_VARIABLE_NAME.toCharArray(), listenerArrayType(source),
+        listenersOf, source);
+    Statement body = block(array(currentDecl, notifyEachListener(eventVariableName, source)), source);
+    Statement loop = forStatement(stripeIndexDecl, moreStripes, postIncrement(stripeIndex(source), source), body,
+        source);
+    Statement loopIfStripes = ifStatement(equalExpression(stripes(source), nullLiteral(source), NOT_EQUAL, source),
+        loop, source);
+    return block(array(stripesDecl(source), loopIfStripes), source);
+  }
+
+  private Expression countField(ASTNode source) {
+    return fieldReference(referenceForThis(source), PROPERTY_CHANGE_LISTENER_COUNT_FIELD_NAME, source);
+  }
+
+  private Expression stripesField(ASTNode source) {
+    return fieldReference(referenceForThis(source), PROPERTY_CHANGE_LISTENER_STRIPES_FIELD_NAME, source);
+  }
+
+  private Expression stripes(ASTNode source) {
+    return singleNameReference(STRIPES_VARIABLE_NAME, source);
+  }
+
+  private Expression stripeIndex(ASTNode source) {
+    return singleNameReference(STRIPE_INDEX_VARIABLE_NAME, source);
+  }
+
+  private Expression stripesLength(ASTNode source) {
+    return qualifiedNameReference(STRIPES_VARIABLE_NAME + ".length", source);
+  }
+
+  private Expression stripeSnapshot(ASTNode source) {
+    return qualifiedNameReference(STRIPE_VARIABLE_NAME + "." + STRIPE_SNAPSHOT_FIELD_NAME, source);
+  }
+
+  private TypeReference stripeType(ASTNode source) {
+    return singleTypeReference(PROPERTY_CHANGE_LISTENER_STRIPE_TYPE_NAME, source);
+  }
+
+  private TypeReference stripeArrayType(ASTNode source) {
+    return arrayTypeReference(PROPERTY_CHANGE_LISTENER_STRIPE_TYPE_NAME, source);
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.eclipse.handlers;
+
+import static java.lang.reflect.Modifier.*;
+import static lombok.core.util.Arrays.array;
+import static lombok.core.util.Names.*;
+import static lombok.eclipse.handlers.Eclipse.*;
+import static lombok.eclipse.handlers.FieldBuilder.newField;
+import static lombok.eclipse.handlers.Lombok.*;
+import static lombok.eclipse.handlers.MemberChecks.*;
+import static lombok.eclipse.handlers.MethodBuilder.newMethod;
+import static org.eclipse.jdt.internal.compiler.ast.OperatorIds.*;
+
+import java.beans.PropertyVetoException;
+import java.beans.VetoableChangeListener;
+import java.beans.VetoableChangeSupport;
+
+import lombok.GenerateConstrainedSetter;
+import lombok.eclipse.EclipseNode;
+
+import org.eclipse.jdt.internal.compiler.ast.*;
+
+/**
+ * Generates the field of type <code>{@link VetoableChangeSupport}</code> that stores the vetoable change listeners of a
+ * JavaBean, and the code that constrained setters use to give those listeners the chance to reject a new value. The
+ * field is created when the first listener is added, and setters check it for {@code null} before anything else: a
+ * JavaBean that nobody tries to veto pays no synchronization or allocation for its constrained properties.
+ *
+ * @author Alex Ruiz
+ */
+final class VetoableChangeSupportGenerator {
+
+  /**
+   * Indicates whether the given field is annotated with <code>{@link GenerateConstrainedSetter}</code>.
+   * @param fieldNode the given field.
+   * @return {@code true} if the given field is constrained; {@code false} otherwise.
+   */
+  static boolean isConstrained(EclipseNode fieldNode) {
+    return findAnnotation(GenerateConstrainedSetter.class, fieldNode) != null;
+  }
+
+  /**
+   * Indicates whether any field of the given type is annotated with <code>{@link GenerateConstrainedSetter}</code>.
+   * @param typeNode the given type.
+   * @return {@code true} if the given type has constrained properties; {@code false} otherwise.
+   */
+  static boolean hasConstrainedProperties(EclipseNode typeNode) {
+    for (EclipseNode child : typeNode.down())
+      if (isField(child) && isConstrained(child)) return true;
+    return false;
+  }
+
+  /**
+   * Generates, in the given type, the field that stores vetoable change listeners and the methods that add and remove
+   * them. Nothing is generated if the type already declares the field.
+   * @param registry the generator of the listener registry of the type, which provides the field updater.
+   * @param typeNode the type to add the members to.
+   */
+  static void generateVetoableSupport(ListenerRegistryGenerator registry, EclipseNode typeNode) {
+    if (fieldAlreadyExists(VETOABLE_SUPPORT_FIELD_NAME, typeNode)) return;
+    registry.generateUpdaterField(VETOABLE_SUPPORT_UPDATER_FIELD_NAME, VETOABLE_SUPPORT_FIELD_NAME,
+        qualifiedTypeReference(VetoableChangeSupport.class, typeNode.get()), typeNode);
+    generateVetoableSupportField(typeNode);
+    generateVetoableListenerMethod(VETOABLE_CHANGE_METHOD_NAMES[0], addListenerStatements(typeNode), typeNode);
+    generateVetoableListenerMethod(VETOABLE_CHANGE_METHOD_NAMES[1], removeListenerStatements(typeNode), typeNode);
+  }
+
+  private static void generateVetoableSupportField(EclipseNode typeNode) {
+    // private volatile VetoableChangeSupport vetoableSupport;
+    TypeReference fieldType = qualifiedTypeReference(VetoableChangeSupport.class, typeNode.get());
+    FieldDeclaration fieldDecl = newField().ofType(fieldType)
+                                           .withName(VETOABLE_SUPPORT_FIELD_NAME)
+                                           .withModifiers(PRIVATE | VOLATILE)
+                                           .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private static void generateVetoableListenerMethod(String methodName, Statement[] statements,
+      EclipseNode typeNode) {
+    if (methodAlreadyExists(methodName, typeNode)) return;
+    ASTNode source = typeNode.get();
+    TypeReference listenerType = qualifiedTypeReference(VetoableChangeListener.class, source);
+    MethodDeclaration methodDecl = newMethod().withModifiers(PUBLIC)
+                                              .withName(methodName)
+                                              .withReturnType(voidType(source))
+                                              .withParameters(array(argument(LISTENER_ARG_NAME.toCharArray(),
+                                                  listenerType, FINAL, source)))
+                                              .withBody(statements)
+                                              .buildWith(typeNode);
+    addMethod(typeNode, methodDecl);
+  }
+
+  private static Statement[] addListenerStatements(EclipseNode typeNode) {
+    // if (vetoableSupport == null) VETOABLE_SUPPORT_UPDATER.compareAndSet(this, null, new VetoableChangeSupport(this));
+    // vetoableSupport.addVetoableChangeListener(listener);
+    ASTNode source = typeNode.get();
+    Expression newSupport = newInstance(qualifiedTypeReference(VetoableChangeSupport.class, source),
+        array(referenceForThis(source)), source);
+    MessageSend create = messageSend(source);
+    create.receiver = singleNameReference(VETOABLE_SUPPORT_UPDATER_FIELD_NAME, source);
+    create.selector = "compareAndSet".toCharArray();
+    create.arguments = array(referenceForThis(source), nullLiteral(source), newSupport);
+    Statement createIfMissing = ifStatement(vetoableSupportIs(EQUAL_EQUAL, source), create, source);
+    return array(createIfMissing, delegateToVetoableSupport(VETOABLE_CHANGE_METHOD_NAMES[0], source));
+  }
+
+  private static Statement[] removeListenerStatements(EclipseNode typeNode) {
+    // if (vetoableSupport != null) vetoableSupport.removeVetoableChangeListener(listener);
+    ASTNode source = typeNode.get();
+    Statement remove = delegateToVetoableSupport(VETOABLE_CHANGE_METHOD_NAMES[1], source);
+    return array((Statement) ifStatement(vetoableSupportIs(NOT_EQUAL, source), remove, source));
+  }
+
+  private static Statement delegateToVetoableSupport(String methodName, ASTNode source) {
+    MessageSend fn = messageSend(source);
+    fn.receiver = singleNameReference(VETOABLE_SUPPORT_FIELD_NAME, source);
+    fn.selector = methodName.toCharArray();
+    fn.arguments = array(singleNameReference(LISTENER_ARG_NAME, source));
+    return fn;
+  }
+
+  /**
+   * Creates the statement that passes a change of the given property to the vetoable change listeners, if any.
+   * @param propertyNameFieldName the name of the constant holding the name of the property.
+   * @param fieldNode the field the property belongs to.
+   * @return the created statement.
+   */
+  static Statement fireVetoableChangeStatement(String propertyNameFieldName, EclipseNode fieldNode) {
+    // if (vetoableSupport != null && vetoableSupport.hasListeners(PROP_FIRST_NAME))
+    //   vetoableSupport.fireVetoableChange(PROP_FIRST_NAME, this.firstName, firstName);
+    ASTNode source = fieldNode.get();
+    MessageSend hasListeners = messageSend(source);
+    hasListeners.receiver = singleNameReference(VETOABLE_SUPPORT_FIELD_NAME, source);
+    hasListeners.selector = HAS_LISTENERS_METHOD_NAME.toCharArray();
+    hasListeners.arguments = array(singleNameReference(propertyNameFieldName, source));
+    Expression vetoable = and(vetoableSupportIs(NOT_EQUAL, source), hasListeners, source);
+    MessageSend fire = messageSend(source);
+    fire.receiver = singleNameReference(VETOABLE_SUPPORT_FIELD_NAME, source);
+    fire.selector = FIRE_VETOABLE_CHANGE_METHOD_NAME.toCharArray();
+    fire.arguments = array(singleNameReference(propertyNameFieldName, source), newFieldAccessor(fieldNode),
+        singleNameReference(fieldNode.getName(), source));
+    return ifStatement(vetoable, fire, source);
+  }
+
+  /**
+   * Creates the throws clause of a constrained setter.
+   * @param fieldNode the field the property belongs to.
+   * @return the created throws clause.
+   */
+  static TypeReference[] vetoThrowsClause(EclipseNode fieldNode) {
+    return array(qualifiedTypeReference(PropertyVetoException.class, fieldNode.get()));
+  }
+
+  private static Expression vetoableSupportIs(int operator, ASTNode source) {
+    return equalExpression(singleNameReference(VETOABLE_SUPPORT_FIELD_NAME, source), nullLiteral(source), operator,
+        source);
+  }
+
+  private VetoableChangeSupportGenerator() {}
+}
@@ -0,0 +1,268 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.eclipse.handlers;
+
+import static java.lang.reflect.Modifier.*;
+import static lombok.core.util.Arrays.array;
+import static lombok.core.util.Names.*;
+import static lombok.eclipse.Eclipse.ECLIPSE_DO_NOT_TOUCH_FLAG;
+import static lombok.eclipse.Eclipse.setGeneratedBy;
+import static lombok.eclipse.handlers.Eclipse.*;
+import static lombok.eclipse.handlers.FieldBuilder.newField;
+import static lombok.eclipse.handlers.Lombok.*;
+import static lombok.eclipse.handlers.MemberChecks.fieldAlreadyExists;
+import static lombok.eclipse.handlers.MethodBuilder.newMethod;
+import static org.eclipse.jdt.internal.compiler.ast.OperatorIds.*;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+import lombok.GenerateJavaBean;
+import lombok.ListenerRegistry;
+import lombok.eclipse.EclipseNode;
+
+import org.eclipse.jdt.internal.compiler.ast.*;
+
+/**
+ * Generates the members that let a JavaBean hold property change listeners through weak references: the type
+ * {@code WeakPropertyChangeListener}, the queue that receives the references cleared by the garbage collector, and the
+ * methods {@code addWeakPropertyChangeListener} and {@code expungeWeakPropertyChangeListeners}. Weak listeners are
+ * added and removed with {@code addPropertyChangeListener} and {@code removePropertyChangeListener}, so they work with
+ * every <code>{@link ListenerRegistry}</code>. Listeners that were collected are removed by the next call to
+ * {@code addWeakPropertyChangeListener}, or by the next event that reaches them, so no thread has to watch the queue.
+ *
+ * @author Alex Ruiz
+ */
+class WeakListenersGenerator {
+
+  private static final String SOURCE_FIELD_NAME = "source";
+  private static final String EVENT_ARG_NAME = "event";
+  private static final String WEAK_LISTENER_VARIABLE_NAME = "weakListener";
+  private static final String CLEARED_VARIABLE_NAME = "cleared";
+
+  /**
+   * Returns the generator of weak listener support for the JavaBean annotated with the given
+   * <code>{@link GenerateJavaBean}</code>.
+   * @param javaBean the annotation on the JavaBean, or {@code null} if the JavaBean is not annotated.
+   * @return the created generator, which generates nothing if the JavaBean does not support weak listeners.
+   */
+  static WeakListenersGenerator weakListenersGenerator(GenerateJavaBean javaBean) {
+    return new WeakListenersGenerator(javaBean != null && javaBean.weakListeners());
+  }
+
+  private final boolean enabled;
+
+  private WeakListenersGenerator(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Generates, in the given type, the type {@code WeakPropertyChangeListener}, the queue of cleared references and the
+   * methods {@code addWeakPropertyChangeListener} and {@code expungeWeakPropertyChangeListeners}.
+   * @param typeNode the type to add the members to.
+   */
+  void generateWeakListenerMembers(EclipseNode typeNode) {
+    if (!enabled || fieldAlreadyExists(WEAK_PROPERTY_CHANGE_LISTENER_QUEUE_FIELD_NAME, typeNode)) return;
+    generateWeakListenerType(typeNode);
+    generateQueueField(typeNode);
+    addMethod(typeNode, addWeakListenerMethod(typeNode));
+    addMethod(typeNode, expungeMethod(typeNode));
+  }
+
+  private void generateWeakListenerType(EclipseNode typeNode) {
+    // private static final class WeakPropertyChangeListener extends WeakReference<PropertyChangeListener>
+    //     implements PropertyChangeListener {
+    //   private final Person source;
+    //
+    //   WeakPropertyChangeListener(final PropertyChangeListener listener, final Person source) {
+    //     super(listener, source.weakPropertyChangeListenerQueue);
+    //     this.source = source;
+    //   }
+    //
+    //   public void propertyChange(final PropertyChangeEvent event) {
+    //     ...
+    //   }
+    // }
+    TypeDeclaration parent = (TypeDeclaration) typeNode.get();
+    FieldDeclaration source = newField().ofType(beanType(typeNode))
+                                        .withName(SOURCE_FIELD_NAME)
+                                        .withModifiers(PRIVATE | FINAL)
+                                        .buildWith(typeNode);
+    TypeDeclaration typeDecl = new TypeDeclaration(parent.compilationResult);
+    typeDecl.bits |= ECLIPSE_DO_NOT_TOUCH_FLAG;
+    typeDecl.modifiers = PRIVATE | STATIC | FINAL;
+    typeDecl.name = WEAK_PROPERTY_CHANGE_LISTENER_TYPE_NAME.toCharArray();
+    typeDecl.sourceStart = typeDecl.declarationSourceStart = typeDecl.bodyStart = parent.sourceStart;
+    typeDecl.sourceEnd = typeDecl.declarationSourceEnd = typeDecl.bodyEnd = parent.sourceEnd;
+    typeDecl.superclass = parameterizedTypeReference(WeakReference.class, array(listenerType(parent)), parent);
+    typeDecl.superInterfaces = array(listenerType(parent));
+    typeDecl.fields = array(source);
+    typeDecl.methods = new AbstractMethodDeclaration[] { constructor(typeDecl, typeNode),
+        propertyChangeMethod(typeNode) };
+    setGeneratedBy(typeDecl, parent);
+    addType(typeNode, typeDecl);
+  }
+
+  private ConstructorDeclaration constructor(TypeDeclaration typeDecl, EclipseNode typeNode) {
+    TypeDeclaration parent = (TypeDeclaration) typeNode.get();
+    Expression[] superArgs = array(singleNameReference(LISTENER_ARG_NAME, parent), qualifiedNameReference(
+        SOURCE_FIELD_NAME + "." + WEAK_PROPERTY_CHANGE_LISTENER_QUEUE_FIELD_NAME, parent));
+    ConstructorDeclaration constructor = constructorDeclaration(parent.compilationResult, parent);
+    constructor.bits |= ECLIPSE_DO_NOT_TOUCH_FLAG;
+    constructor.selector = typeDecl.name;
+    constructor.arguments = array(argument(LISTENER_ARG_NAME.toCharArray(), listenerType(parent), FINAL, parent),
+                                  argument(SOURCE_FIELD_NAME.toCharArray(), beanType(typeNode), FINAL, parent));
+    constructor.constructorCall = superConstructorCall(superArgs, parent);
+    constructor.statements = array((Statement) assignment(sourceField(parent), singleNameReference(SOURCE_FIELD_NAME,
+        parent), parent));
+    constructor.bodyStart = constructor.declarationSourceStart = constructor.sourceStart;
+    constructor.bodyEnd = constructor.declarationSourceEnd = constructor.sourceEnd;
+    return constructor;
+  }
+
+  private MethodDeclaration propertyChangeMethod(EclipseNode typeNode) {
+    // public void propertyChange(final PropertyChangeEvent event) {
+    //   final PropertyChangeListener listener = get();
+    //   if (listener == null) {
+    //     this.source.removePropertyChangeListener(this);
+    //     this.source.expungeWeakPropertyChangeListeners();
+    //     return;
+    //   }
+    //   listener.propertyChange(event);
+    // }
+    ASTNode source = typeNode.get();
+    MessageSend get = messageSend(source);
+    get.receiver = ThisReference.implicitThis();
+    get.selector = "get".toCharArray();
+    Statement listenerDecl = localDeclaration(LISTENER_ARG_NAME.toCharArray(), listenerType(source), get, source);
+    MessageSend remove = messageSend(source);
+    remove.receiver = sourceField(source);
+    remove.selector = PROPERTY_CHANGE_METHOD_NAMES[1].toCharArray();
+    remove.arguments = array(referenceForThis(source));
+    MessageSend expunge = messageSend(source);
+    expunge.receiver = sourceField(source);
+    expunge.selector = EXPUNGE_WEAK_PROPERTY_CHANGE_LISTENERS_METHOD_NAME.toCharArray();
+    Statement removeIfCleared = ifStatement(equalExpression(singleNameReference(LISTENER_ARG_NAME, source),
+        nullLiteral(source), EQUAL_EQUAL, source), block(array(remove, expunge, returnStatement(source)), source),
+        source);
+    MessageSend notify = messageSend(source);
+    notify.receiver = singleNameReference(LISTENER_ARG_NAME, source);
+    notify.selector = "propertyChange".toCharArray();
+    notify.arguments = array(singleNameReference(EVENT_ARG_NAME, source));
+    Argument parameter = argument(EVENT_ARG_NAME.toCharArray(), qualifiedTypeReference(PropertyChangeEvent.class,
+        source), FINAL, source);
+    return newMethod().withModifiers(PUBLIC)
+                      .withName("propertyChange")
+                      .withReturnType(voidType(source))
+                      .withParameters(array(parameter))
+                      .withBody(array(listenerDecl, removeIfCleared, notify))
+                      .buildWith(typeNode);
+  }
+
+  private void generateQueueField(EclipseNode typeNode) {
+    // private final ReferenceQueue<PropertyChangeListener> weakPropertyChangeListenerQueue =
+    //     new ReferenceQueue<PropertyChangeListener>();
+    ASTNode source = typeNode.get();
+    FieldDeclaration fieldDecl = newField().ofType(queueType(source))
+                                           .withName(WEAK_PROPERTY_CHANGE_LISTENER_QUEUE_FIELD_NAME)
+                                           .withModifiers(PRIVATE | FINAL)
+                                           .withInitializer(newInstance(queueType(source), null, source))
+                                           .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private MethodDeclaration addWeakListenerMethod(EclipseNode typeNode) {
+    // public PropertyChangeListener addWeakPropertyChangeListener(final PropertyChangeListener listener) {
+    //   expungeWeakPropertyChangeListeners();
+    //   if (listener == null) return null;
+    //   final PropertyChangeListener weakListener = new WeakPropertyChangeListener(listener, this);
+    //   addPropertyChangeListener(weakListener);
+    //   return weakListener;
+    // }
+    ASTNode source = typeNode.get();
+    MessageSend expunge = messageSend(source);
+    expunge.receiver = ThisReference.implicitThis();
+    expunge.selector = EXPUNGE_WEAK_PROPERTY_CHANGE_LISTENERS_METHOD_NAME.toCharArray();
+    Statement returnIfNull = ifStatement(equalExpression(singleNameReference(LISTENER_ARG_NAME, source),
+        nullLiteral(source), EQUAL_EQUAL, source), returnStatement(nullLiteral(source), source), source);
+    Expression newWeakListener = newInstance(singleTypeReference(WEAK_PROPERTY_CHANGE_LISTENER_TYPE_NAME, source),
+        array(singleNameReference(LISTENER_ARG_NAME, source), referenceForThis(source)), source);
+    Statement weakListenerDecl = localDeclaration(WEAK_LISTENER_VARIABLE_NAME.toCharArray(), listenerType(source),
+        newWeakListener, source);
+    MessageSend add = messageSend(source);
+    add.receiver = ThisReference.implicitThis();
+    add.selector = PROPERTY_CHANGE_METHOD_NAMES[0].toCharArray();
+    add.arguments = array(singleNameReference(WEAK_LISTENER_VARIABLE_NAME, source));
+    Statement[] statements = array(expunge, returnIfNull, weakListenerDecl, add, returnStatement(singleNameReference(
+        WEAK_LISTENER_VARIABLE_NAME, source), source));
+    Argument parameter = argument(LISTENER_ARG_NAME.toCharArray(), listenerType(source), FINAL, source);
+    return newMethod().withModifiers(PUBLIC)
+                      .withName(ADD_WEAK_PROPERTY_CHANGE_LISTENER_METHOD_NAME)
+                      .withReturnType(listenerType(source))
+                      .withParameters(array(parameter))
+                      .withBody(statements)
+                      .buildWith(typeNode);
+  }
+
+  private MethodDeclaration expungeMethod(EclipseNode typeNode) {
+    // private void expungeWeakPropertyChangeListeners() {
+    //   for (Object cleared = this.weakPropertyChangeListenerQueue.poll(); cleared != null;
+    //       cleared = this.weakPropertyChangeListenerQueue.poll())
+    //     removePropertyChangeListener((PropertyChangeListener) cleared);
+    // }
+    ASTNode source = typeNode.get();
+    Statement clearedDecl = localDeclaration(CLEARED_VARIABLE_NAME.toCharArray(), qualifiedTypeReference(Object.class,
+        source), poll(source), 0, source);
+    Expression notEmpty = equalExpression(singleNameReference(CLEARED_VARIABLE_NAME, source), nullLiteral(source),
+        NOT_EQUAL, source);
+    Statement next = assignment(singleNameReference(CLEARED_VARIABLE_NAME, source), poll(source), source);
+    MessageSend remove = messageSend(source);
+    remove.receiver = ThisReference.implicitThis();
+    remove.selector = PROPERTY_CHANGE_METHOD_NAMES[1].toCharArray();
+    remove.arguments = array(cast(singleNameReference(CLEARED_VARIABLE_NAME, source), listenerType(source), source));
+    return newMethod().withModifiers(PRIVATE)
+                      .withName(EXPUNGE_WEAK_PROPERTY_CHANGE_LISTENERS_METHOD_NAME)
+                      .withReturnType(voidType(source))
+                      .withBody(array((Statement) forStatement(clearedDecl, notEmpty, next, remove, source)))
+                      .buildWith(typeNode);
+  }
+
+  private Expression poll(ASTNode source) {
+    // this.weakPropertyChangeListenerQueue.poll()
+    MessageSend poll = messageSend(source);
+    poll.receiver = fieldReference(referenceForThis(source), WEAK_PROPERTY_CHANGE_LISTENER_QUEUE_FIELD_NAME, source);
+    poll.selector = "poll".toCharArray();
+    return poll;
+  }
+
+  private Expression sourceField(ASTNode source) {
+    return fieldReference(referenceForThis(source), SOURCE_FIELD_NAME, source);
+  }
+
+  private TypeReference beanType(EclipseNode typeNode) {
+    return singleTypeReference(typeNode.getName(), typeNode.get());
+  }
+
+  private TypeReference listenerType(ASTNode source) {
+    return qualifiedTypeReference(PropertyChangeListener.class, source);
+  }
+
+  private TypeReference queueType(ASTNode source) {
+    // ReferenceQueue<PropertyChangeListener>
+    return parameterizedTypeReference(ReferenceQueue.class, array(listenerType(source)), source);
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.javac.handlers;
+
+import static com.sun.tools.javac.code.Flags.VOLATILE;
+import static lombok.AccessMode.DECLARED;
+import static lombok.AccessMode.RELEASE;
+import static lombok.core.util.ErrorMessages.*;
+import static lombok.javac.handlers.FieldUpdaters.*;
+import static lombok.javac.handlers.Lombok.newFieldAccessor;
+
+import lombok.AccessMode;
+import lombok.GenerateBoundSetter;
+import lombok.javac.JavacNode;
+
+import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.JCTree.JCStatement;
+import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
+import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.util.List;
+
+/**
+ * Generates how a bound setter writes its field, and where it gets the new value it passes to listeners, for the
+ * <code>{@link AccessMode}</code> requested by {@code @GenerateBoundSetter(accessMode = ...)}. With {@code DECLARED},
+ * the setter assigns the field and reads it back. With {@code VOLATILE} and {@code RELEASE}, the setter passes its
+ * parameter instead, and with {@code RELEASE} it writes the field with {@code lazySet} on a generated field updater
+ * (e.g. {@code FIRST_NAME_UPDATER.lazySet(this, firstName);}.)
+ *
+ * @author Alex Ruiz
+ */
+final class AccessModeGenerator {
+
+  private static final String LAZY_SET_METHOD_NAME = "lazySet";
+
+  /**
+   * Returns the generator for the given access mode.
+   * @param accessMode the access mode requested for a bound setter.
+   * @return the created generator.
+   */
+  static AccessModeGenerator accessModeGenerator(AccessMode accessMode) {
+    return new AccessModeGenerator(accessMode);
+  }
+
+  private final AccessMode accessMode;
+
+  private AccessModeGenerator(AccessMode accessMode) {
+    this.accessMode = accessMode;
+  }
+
+  /**
+   * Indicates whether the given field can be written with the access mode of this generator. If it cannot, an error
+   * is reported on the field.
+   * @param fieldNode the given field.
+   * @param typeNode the type declaring the field.
+   * @return {@code true} if the given field can be written with the access mode of this generator; {@code false}
+   *         otherwise.
+   */
+  boolean supports(JavacNode fieldNode, JavacNode typeNode) {
+    if (accessMode == DECLARED) return true;
+    JCVariableDecl fieldDecl = (JCVariableDecl) fieldNode.get();
+    if ((fieldDecl.mods.flags & VOLATILE) == 0) {
+      fieldNode.addError(accessModeRequiresVolatileField(GenerateBoundSetter.class, accessMode));
+      return false;
+    }
+    if (accessMode == RELEASE && updaterTypeOf(fieldNode, typeNode) == null) {
+      fieldNode.addError(releaseAccessModeRequiresUpdatableField(GenerateBoundSetter.class));
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Generates, in the given type, the field updater that writes the given field, if the access mode of this generator
+   * needs one.
+   * @param fieldNode the given field.
+   * @param typeNode the type declaring the field.
+   */
+  void generateUpdaterField(JavacNode fieldNode, JavacNode typeNode) {
+    if (accessMode == RELEASE) FieldUpdaters.generateUpdaterField(fieldNode, typeNode);
+  }
+
+  /**
+   * Returns the new value that the setter of the given field passes to listeners and change callbacks: the field
+   * itself with {@code DECLARED}, and the parameter of the setter otherwise.
+   * @param fieldNode the given field.
+   * @return the new value that the setter of the given field passes to listeners and change callbacks.
+   */
+  JCExpression newValue(JavacNode fieldNode) {
+    if (accessMode == DECLARED) return newFieldAccessor(fieldNode);
+    JCVariableDecl fieldDecl = (JCVariableDecl) fieldNode.get();
+    return fieldNode.getTreeMaker().Ident(fieldDecl.name);
+  }
+
+  /**
+   * Creates the statement that writes the parameter of the setter of the given field to the field.
+   * @param fieldNode the given field.
+   * @return the created statement.
+   */
+  JCStatement assignNewValueStatement(JavacNode fieldNode) {
+    // RELEASE: FIRST_NAME_UPDATER.lazySet(this, firstName);
+    // otherwise: this.firstName = firstName;
+    JCVariableDecl fieldDecl = (JCVariableDecl) fieldNode.get();
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCExpression newValue = treeMaker.Ident(fieldDecl.name);
+    if (accessMode != RELEASE) return treeMaker.Exec(treeMaker.Assign(newFieldAccessor(fieldNode), newValue));
+    return treeMaker.Exec(updaterInvocation(LAZY_SET_METHOD_NAME, List.of(newValue), fieldNode));
+  }
+}
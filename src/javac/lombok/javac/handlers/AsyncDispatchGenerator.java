@@ -0,0 +1,406 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.javac.handlers;
+
+import static com.sun.tools.javac.code.Flags.*;
+import static lombok.core.util.Names.*;
+import static lombok.javac.handlers.FieldBuilder.newField;
+import static lombok.javac.handlers.JCNoType.voidType;
+import static lombok.javac.handlers.JavacHandlerUtil.*;
+import static lombok.javac.handlers.Lombok.addField;
+import static lombok.javac.handlers.Lombok.addMethod;
+import static lombok.javac.handlers.MemberChecks.fieldAlreadyExists;
+import static lombok.javac.handlers.MethodBuilder.newMethod;
+
+import java.beans.PropertyChangeEvent;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import lombok.javac.JavacNode;
+
+import com.sun.tools.javac.code.TypeTags;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.JCTree.JCBlock;
+import com.sun.tools.javac.tree.JCTree.JCCatch;
+import com.sun.tools.javac.tree.JCTree.JCClassDecl;
+import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.JCTree.JCMethodDecl;
+import com.sun.tools.javac.tree.JCTree.JCStatement;
+import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
+import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.util.List;
+
+/**
+ * Delivers property change events through an <code>{@link Executor}</code> instead of notifying listeners in the
+ * setters. Listeners are still stored by the listener registry this generator wraps. Events are queued per bean and
+ * only one task per bean delivers them, so listeners receive the events of a bean in the order they were fired. The
+ * default executor runs tasks on virtual threads or, before Java 21, on a cached pool of daemon threads, so that it
+ * never keeps the JVM alive.
+ *
+ * @author Alex Ruiz
+ */
+class AsyncDispatchGenerator extends ListenerRegistryGenerator {
+
+  private static final String EVENT_VARIABLE_NAME = "event";
+  private static final String EXCEPTION_VARIABLE_NAME = "e";
+  private static final String EXECUTOR_ARG_NAME = "executor";
+  private static final String PROPERTY_NAME_ARG_NAME = "propertyName";
+  private static final String OLD_VALUE_ARG_NAME = "oldValue";
+  private static final String NEW_VALUE_ARG_NAME = "newValue";
+  private static final String TASK_ARG_NAME = "task";
+  private static final String THREAD_VARIABLE_NAME = "thread";
+
+  private final ListenerRegistryGenerator registry;
+
+  AsyncDispatchGenerator(ListenerRegistryGenerator registry) {
+    this.registry = registry;
+  }
+
+  @Override void generateRegistry(JavacNode typeNode) {
+    registry.generateRegistry(typeNode);
+    if (fieldAlreadyExists(PENDING_PROPERTY_CHANGES_FIELD_NAME, typeNode)) return;
+    generateExecutorField(typeNode);
+    generatePendingChangesField(typeNode);
+    generateDispatchingField(typeNode);
+    generateDispatcherField(typeNode);
+    generateSetExecutorMethod(typeNode);
+    generateDefaultExecutorMethod(typeNode);
+    generateDispatchChangeMethod(typeNode);
+    generateDispatchEventMethod(typeNode);
+    generateDispatchPendingChangesMethod(typeNode);
+  }
+
+  private void generateExecutorField(JavacNode typeNode) {
+    // private static volatile Executor propertyChangeExecutor = defaultPropertyChangeExecutor();
+    JCVariableDecl fieldDecl = newField().ofType(typeReference(Executor.class, typeNode))
+                                         .withName(PROPERTY_CHANGE_EXECUTOR_FIELD_NAME)
+                                         .withModifiers(PRIVATE | STATIC | VOLATILE)
+                                         .withInitializer(call(DEFAULT_PROPERTY_CHANGE_EXECUTOR_METHOD_NAME, typeNode))
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generatePendingChangesField(JavacNode typeNode) {
+    // private final Queue<PropertyChangeEvent> pendingPropertyChanges =
+    //     new ConcurrentLinkedQueue<PropertyChangeEvent>();
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression queue = treeMaker.NewClass(null, List.<JCExpression> nil(),
+        eventsType(ConcurrentLinkedQueue.class, typeNode), List.<JCExpression> nil(), null);
+    JCVariableDecl fieldDecl = newField().ofType(eventsType(Queue.class, typeNode))
+                                         .withName(PENDING_PROPERTY_CHANGES_FIELD_NAME)
+                                         .withModifiers(PRIVATE | FINAL)
+                                         .withInitializer(queue)
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generateDispatchingField(JavacNode typeNode) {
+    // private final AtomicBoolean dispatchingPropertyChanges = new AtomicBoolean();
+    JCVariableDecl fieldDecl = newField().ofType(AtomicBoolean.class)
+                                         .withName(DISPATCHING_PROPERTY_CHANGES_FIELD_NAME)
+                                         .withModifiers(PRIVATE | FINAL)
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generateDispatcherField(JavacNode typeNode) {
+    // private final Runnable propertyChangeDispatcher = new Runnable() {
+    //   public void run() {
+    //     dispatchPendingPropertyChanges();
+    //   }
+    // };
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCStatement dispatch = treeMaker.Exec(call(DISPATCH_PENDING_PROPERTY_CHANGES_METHOD_NAME, typeNode));
+    JCMethodDecl run = newMethod().withModifiers(PUBLIC)
+                                  .withName("run")
+                                  .withReturnType(treeMaker.Type(voidType()))
+                                  .withBody(treeMaker.Block(0, List.of(dispatch)))
+                                  .buildWith(typeNode);
+    JCClassDecl body = treeMaker.AnonymousClassDef(treeMaker.Modifiers(0), List.<JCTree> of(run));
+    JCExpression dispatcher = treeMaker.NewClass(null, List.<JCExpression> nil(),
+        typeReference(Runnable.class, typeNode), List.<JCExpression> nil(), body);
+    JCVariableDecl fieldDecl = newField().ofType(typeReference(Runnable.class, typeNode))
+                                         .withName(PROPERTY_CHANGE_DISPATCHER_FIELD_NAME)
+                                         .withModifiers(PRIVATE | FINAL)
+                                         .withInitializer(dispatcher)
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generateSetExecutorMethod(JavacNode typeNode) {
+    // public static void setPropertyChangeExecutor(final Executor executor) {
+    //   if (executor == null) throw new NullPointerException("executor");
+    //   propertyChangeExecutor = executor;
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression missing = treeMaker.Binary(JCTree.EQ, name(EXECUTOR_ARG_NAME, typeNode), nullLiteral(typeNode));
+    JCExpression exception = treeMaker.NewClass(null, List.<JCExpression> nil(),
+        typeReference(NullPointerException.class, typeNode),
+        List.<JCExpression> of(treeMaker.Literal(EXECUTOR_ARG_NAME)), null);
+    JCStatement throwIfMissing = treeMaker.If(missing, treeMaker.Throw(exception), null);
+    JCStatement replace = treeMaker.Exec(treeMaker.Assign(name(PROPERTY_CHANGE_EXECUTOR_FIELD_NAME, typeNode),
+        name(EXECUTOR_ARG_NAME, typeNode)));
+    JCMethodDecl methodDecl = newMethod().withModifiers(PUBLIC | STATIC)
+                                         .withName(SET_PROPERTY_CHANGE_EXECUTOR_METHOD_NAME)
+                                         .withReturnType(treeMaker.Type(voidType()))
+                                         .withParameters(List.of(parameter(Executor.class, EXECUTOR_ARG_NAME,
+                                             typeNode)))
+                                         .withBody(treeMaker.Block(0, List.of(throwIfMissing, replace)))
+                                         .buildWith(typeNode);
+    addMethod(typeNode, methodDecl);
+  }
+
+  private void generateDefaultExecutorMethod(JavacNode typeNode) {
+    // private static Executor defaultPropertyChangeExecutor() {
+    //   try {
+    //     return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    //   } catch (final Exception e) {
+    //     return Executors.newCachedThreadPool(new ThreadFactory() { ... });
+    //   }
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression getMethod = treeMaker.Apply(List.<JCExpression> nil(),
+        treeMaker.Select(classLiteral(typeReference(Executors.class, typeNode), typeNode),
+            typeNode.toName("getMethod")),
+        List.<JCExpression> of(treeMaker.Literal("newVirtualThreadPerTaskExecutor")));
+    JCExpression invoke = treeMaker.Apply(List.<JCExpression> nil(), treeMaker.Select(getMethod,
+        typeNode.toName("invoke")), List.of(nullLiteral(typeNode)));
+    JCStatement returnVirtual = treeMaker.Return(treeMaker.TypeCast(typeReference(Executor.class, typeNode), invoke));
+    JCExpression cachedPool = treeMaker.Apply(List.<JCExpression> nil(),
+        chainDots(treeMaker, typeNode, append(splitNameOf(Executors.class), "newCachedThreadPool")),
+        List.of(daemonThreadFactory(typeNode)));
+    JCCatch fallback = treeMaker.Catch(parameter(Exception.class, EXCEPTION_VARIABLE_NAME, typeNode),
+        treeMaker.Block(0, List.<JCStatement> of(treeMaker.Return(cachedPool))));
+    JCStatement tryVirtual = treeMaker.Try(treeMaker.Block(0, List.of(returnVirtual)), List.of(fallback), null);
+    JCMethodDecl methodDecl = newMethod().withModifiers(PRIVATE | STATIC)
+                                         .withName(DEFAULT_PROPERTY_CHANGE_EXECUTOR_METHOD_NAME)
+                                         .withReturnType(typeReference(Executor.class, typeNode))
+                                         .withBody(treeMaker.Block(0, List.of(tryVirtual)))
+                                         .buildWith(typeNode);
+    addMethod(typeNode, methodDecl);
+  }
+
+  private JCExpression daemonThreadFactory(JavacNode typeNode) {
+    // new ThreadFactory() {
+    //   public Thread newThread(final Runnable task) {
+    //     final Thread thread = Executors.defaultThreadFactory().newThread(task);
+    //     thread.setDaemon(true);
+    //     return thread;
+    //   }
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression defaultFactory = treeMaker.Apply(List.<JCExpression> nil(),
+        chainDots(treeMaker, typeNode, append(splitNameOf(Executors.class), "defaultThreadFactory")),
+        List.<JCExpression> nil());
+    JCExpression newThread = treeMaker.Apply(List.<JCExpression> nil(), treeMaker.Select(defaultFactory,
+        typeNode.toName("newThread")), List.of(name(TASK_ARG_NAME, typeNode)));
+    JCStatement threadDecl = treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(THREAD_VARIABLE_NAME),
+        typeReference(Thread.class, typeNode), newThread);
+    JCExpression setDaemon = treeMaker.Apply(List.<JCExpression> nil(), treeMaker.Select(
+        name(THREAD_VARIABLE_NAME, typeNode), typeNode.toName("setDaemon")),
+        List.<JCExpression> of(treeMaker.Literal(TypeTags.BOOLEAN, 1)));
+    JCStatement returnThread = treeMaker.Return(name(THREAD_VARIABLE_NAME, typeNode));
+    JCMethodDecl newThreadDecl = newMethod().withModifiers(PUBLIC)
+                                            .withName("newThread")
+                                            .withReturnType(typeReference(Thread.class, typeNode))
+                                            .withParameters(List.of(parameter(Runnable.class, TASK_ARG_NAME,
+                                                typeNode)))
+                                            .withBody(treeMaker.Block(0, List.of(threadDecl,
+                                                treeMaker.Exec(setDaemon), returnThread)))
+                                            .buildWith(typeNode);
+    JCClassDecl body = treeMaker.AnonymousClassDef(treeMaker.Modifiers(0), List.<JCTree> of(newThreadDecl));
+    return treeMaker.NewClass(null, List.<JCExpression> nil(), typeReference(ThreadFactory.class, typeNode),
+        List.<JCExpression> nil(), body);
+  }
+
+  private void generateDispatchChangeMethod(JavacNode typeNode) {
+    // private void dispatchPropertyChange(final String propertyName, final Object oldValue, final Object newValue) {
+    //   if (oldValue != null && newValue != null && oldValue.equals(newValue)) return;
+    //   dispatchPropertyChange(new PropertyChangeEvent(this, propertyName, oldValue, newValue));
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression oldNotNull = treeMaker.Binary(JCTree.NE, name(OLD_VALUE_ARG_NAME, typeNode), nullLiteral(typeNode));
+    JCExpression newNotNull = treeMaker.Binary(JCTree.NE, name(NEW_VALUE_ARG_NAME, typeNode), nullLiteral(typeNode));
+    JCExpression equal = treeMaker.Apply(List.<JCExpression> nil(),
+        chainDots(treeMaker, typeNode, OLD_VALUE_ARG_NAME, "equals"), List.of(name(NEW_VALUE_ARG_NAME, typeNode)));
+    JCExpression unchanged = treeMaker.Binary(JCTree.AND, treeMaker.Binary(JCTree.AND, oldNotNull, newNotNull),
+        equal);
+    JCStatement returnIfUnchanged = treeMaker.If(unchanged, treeMaker.Return(null), null);
+    List<JCExpression> eventArgs = List.of(chainDots(treeMaker, typeNode, "this"),
+        name(PROPERTY_NAME_ARG_NAME, typeNode), name(OLD_VALUE_ARG_NAME, typeNode), name(NEW_VALUE_ARG_NAME, typeNode));
+    JCExpression newEvent = treeMaker.NewClass(null, List.<JCExpression> nil(),
+        typeReference(PropertyChangeEvent.class, typeNode), eventArgs, null);
+    JCStatement dispatch = treeMaker.Exec(call(DISPATCH_PROPERTY_CHANGE_METHOD_NAME, typeNode, newEvent));
+    List<JCVariableDecl> parameters = List.of(parameter(String.class, PROPERTY_NAME_ARG_NAME, typeNode),
+                                              parameter(Object.class, OLD_VALUE_ARG_NAME, typeNode),
+                                              parameter(Object.class, NEW_VALUE_ARG_NAME, typeNode));
+    addMethod(typeNode, privateMethod(DISPATCH_PROPERTY_CHANGE_METHOD_NAME, parameters,
+        List.of(returnIfUnchanged, dispatch), typeNode));
+  }
+
+  private void generateDispatchEventMethod(JavacNode typeNode) {
+    // private void dispatchPropertyChange(final PropertyChangeEvent event) {
+    //   pendingPropertyChanges.offer(event);
+    //   if (dispatchingPropertyChanges.compareAndSet(false, true)) {
+    //     // executes the dispatcher (see submitDispatcherIfIdle.)
+    //   }
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression offer = treeMaker.Apply(List.<JCExpression> nil(),
+        chainDots(treeMaker, typeNode, PENDING_PROPERTY_CHANGES_FIELD_NAME, "offer"),
+        List.of(name(EVENT_VARIABLE_NAME, typeNode)));
+    List<JCVariableDecl> parameters = List.of(parameter(PropertyChangeEvent.class, EVENT_VARIABLE_NAME, typeNode));
+    List<JCStatement> statements = List.of(treeMaker.Exec(offer), submitDispatcherIfIdle(null, typeNode));
+    addMethod(typeNode, privateMethod(DISPATCH_PROPERTY_CHANGE_METHOD_NAME, parameters, statements, typeNode));
+  }
+
+  private void generateDispatchPendingChangesMethod(JavacNode typeNode) {
+    // private void dispatchPendingPropertyChanges() {
+    //   try {
+    //     for (PropertyChangeEvent event = pendingPropertyChanges.poll(); event != null;
+    //         event = pendingPropertyChanges.poll()) propertySupport.firePropertyChange(event);
+    //   } finally {
+    //     dispatchingPropertyChanges.set(false);
+    //     if (!pendingPropertyChanges.isEmpty() && dispatchingPropertyChanges.compareAndSet(false, true)) {
+    //       // executes the dispatcher (see submitDispatcherIfIdle.)
+    //     }
+    //   }
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCVariableDecl eventDecl = treeMaker.VarDef(treeMaker.Modifiers(0), typeNode.toName(EVENT_VARIABLE_NAME),
+        typeReference(PropertyChangeEvent.class, typeNode), poll(typeNode));
+    JCExpression hasEvent = treeMaker.Binary(JCTree.NE, name(EVENT_VARIABLE_NAME, typeNode), nullLiteral(typeNode));
+    JCExpression next = treeMaker.Assign(name(EVENT_VARIABLE_NAME, typeNode), poll(typeNode));
+    JCStatement deliver = treeMaker.ForLoop(List.<JCStatement> of(eventDecl), hasEvent,
+        List.of(treeMaker.Exec(next)), registry.fireEventStatement(EVENT_VARIABLE_NAME, typeNode));
+    JCExpression isEmpty = treeMaker.Apply(List.<JCExpression> nil(),
+        chainDots(treeMaker, typeNode, PENDING_PROPERTY_CHANGES_FIELD_NAME, "isEmpty"), List.<JCExpression> nil());
+    JCBlock finalizer = treeMaker.Block(0, List.of(stopDispatchingStatement(typeNode),
+        submitDispatcherIfIdle(treeMaker.Unary(JCTree.NOT, isEmpty), typeNode)));
+    JCStatement tryDeliver = treeMaker.Try(treeMaker.Block(0, List.of(deliver)), List.<JCCatch> nil(), finalizer);
+    addMethod(typeNode, privateMethod(DISPATCH_PENDING_PROPERTY_CHANGES_METHOD_NAME,
+        List.<JCVariableDecl> nil(), List.of(tryDeliver), typeNode));
+  }
+
+  private JCStatement submitDispatcherIfIdle(JCExpression precondition, JavacNode typeNode) {
+    // if (dispatchingPropertyChanges.compareAndSet(false, true)) {
+    //   try {
+    //     propertyChangeExecutor.execute(propertyChangeDispatcher);
+    //   } catch (RuntimeException e) {
+    //     dispatchingPropertyChanges.set(false);
+    //     throw e;
+    //   }
+    // }
+    // an executor that rejects the dispatcher must not leave the flag set, or no event would be dispatched again.
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression startDispatching = treeMaker.Apply(List.<JCExpression> nil(),
+        chainDots(treeMaker, typeNode, DISPATCHING_PROPERTY_CHANGES_FIELD_NAME, "compareAndSet"),
+        List.of(booleanLiteral(false, typeNode), booleanLiteral(true, typeNode)));
+    JCExpression condition = startDispatching;
+    if (precondition != null) condition = treeMaker.Binary(JCTree.AND, precondition, startDispatching);
+    JCExpression execute = treeMaker.Apply(List.<JCExpression> nil(),
+        chainDots(treeMaker, typeNode, PROPERTY_CHANGE_EXECUTOR_FIELD_NAME, "execute"),
+        List.of(name(PROPERTY_CHANGE_DISPATCHER_FIELD_NAME, typeNode)));
+    JCBlock rethrow = treeMaker.Block(0, List.of(stopDispatchingStatement(typeNode),
+        treeMaker.Throw(name(EXCEPTION_VARIABLE_NAME, typeNode))));
+    JCCatch rejected = treeMaker.Catch(parameter(RuntimeException.class, EXCEPTION_VARIABLE_NAME, typeNode), rethrow);
+    JCStatement tryExecute = treeMaker.Try(treeMaker.Block(0, List.<JCStatement> of(treeMaker.Exec(execute))),
+        List.of(rejected), null);
+    return treeMaker.If(condition, treeMaker.Block(0, List.of(tryExecute)), null);
+  }
+
+  private JCStatement stopDispatchingStatement(JavacNode typeNode) {
+    // dispatchingPropertyChanges.set(false);
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.Exec(treeMaker.Apply(List.<JCExpression> nil(),
+        chainDots(treeMaker, typeNode, DISPATCHING_PROPERTY_CHANGES_FIELD_NAME, "set"),
+        List.of(booleanLiteral(false, typeNode))));
+  }
+
+  @Override JCExpression noListenersCondition(String propertyNameFieldName, JavacNode fieldNode) {
+    return registry.noListenersCondition(propertyNameFieldName, fieldNode);
+  }
+
+  @Override JCStatement notifyListenersStatement(String propertyNameFieldName, JCExpression oldValue,
+      JCExpression newValue, JavacNode fieldNode) {
+    // dispatchPropertyChange(PROP_FIRST_NAME, old, this.firstName);
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    return treeMaker.Exec(call(DISPATCH_PROPERTY_CHANGE_METHOD_NAME, fieldNode, name(propertyNameFieldName, fieldNode),
+        oldValue, newValue));
+  }
+
+  @Override JCStatement fireEventStatement(String eventVariableName, JavacNode typeNode) {
+    // dispatchPropertyChange(event);
+    return typeNode.getTreeMaker().Exec(call(DISPATCH_PROPERTY_CHANGE_METHOD_NAME, typeNode,
+        name(eventVariableName, typeNode)));
+  }
+
+  @Override boolean firesIntAndBooleanWithoutBoxing() {
+    return false;
+  }
+
+  @Override boolean indexesPropertyListeners() {
+    return registry.indexesPropertyListeners();
+  }
+
+  @Override void generatePropertyListenerMethods(JavacNode fieldNode, JavacNode typeNode) {
+    registry.generatePropertyListenerMethods(fieldNode, typeNode);
+  }
+
+  private JCMethodDecl privateMethod(String methodName, List<JCVariableDecl> parameters, List<JCStatement> statements,
+      JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return newMethod().withModifiers(PRIVATE)
+                      .withName(methodName)
+                      .withReturnType(treeMaker.Type(voidType()))
+                      .withParameters(parameters)
+                      .withBody(treeMaker.Block(0, statements))
+                      .buildWith(typeNode);
+  }
+
+  private JCExpression call(String methodName, JavacNode node, JCExpression... args) {
+    return node.getTreeMaker().Apply(List.<JCExpression> nil(), name(methodName, node), List.from(args));
+  }
+
+  private JCExpression poll(JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.Apply(List.<JCExpression> nil(),
+        chainDots(treeMaker, typeNode, PENDING_PROPERTY_CHANGES_FIELD_NAME, "poll"), List.<JCExpression> nil());
+  }
+
+  private JCExpression eventsType(Class<?> collectionType, JavacNode typeNode) {
+    // Queue<PropertyChangeEvent>
+    List<JCExpression> typeArgs = List.of(typeReference(PropertyChangeEvent.class, typeNode));
+    return typeNode.getTreeMaker().TypeApply(typeReference(collectionType, typeNode), typeArgs);
+  }
+
+  private JCVariableDecl parameter(Class<?> type, String parameterName, JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(parameterName), typeReference(type, typeNode),
+        null);
+  }
+
+  private JCExpression booleanLiteral(boolean value, JavacNode node) {
+    return node.getTreeMaker().Literal(TypeTags.BOOLEAN, value ? 1 : 0);
+  }
+
+  private JCExpression nullLiteral(JavacNode node) {
+    return node.getTreeMaker().Literal(TypeTags.BOT, null);
+  }
+}
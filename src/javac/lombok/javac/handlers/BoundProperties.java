@@ -0,0 +1,105 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.javac.handlers;
+
+import static com.sun.tools.javac.code.Flags.*;
+import static java.util.Collections.synchronizedMap;
+import static lombok.javac.handlers.Lombok.findAnnotation;
+import static lombok.javac.handlers.MemberChecks.isField;
+
+import java.util.*;
+
+import lombok.GenerateBoundSetter;
+import lombok.javac.JavacNode;
+
+import com.sun.tools.javac.tree.JCTree.JCClassDecl;
+import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
+
+/**
+ * The properties of a type that get a bound setter, in the order their fields are declared. The position of a
+ * property in this list is its ordinal, which does not depend on the order annotations are handled in: the type handler
+ * and the field handlers of the same type always agree on it. Each type is scanned once, by whichever handler asks
+ * first.
+ *
+ * @author Alex Ruiz
+ */
+final class BoundProperties {
+
+  // weak keys: the properties of a type go away with its AST.
+  private static final Map<JCClassDecl, BoundProperties> INDEX =
+      synchronizedMap(new WeakHashMap<JCClassDecl, BoundProperties>());
+
+  private final List<String> names = new ArrayList<String>();
+  private final Map<String, Integer> ordinals = new HashMap<String, Integer>();
+
+  static BoundProperties boundPropertiesOf(JavacNode typeNode) {
+    JCClassDecl classDecl = (JCClassDecl) typeNode.get();
+    synchronized (INDEX) {
+      BoundProperties properties = INDEX.get(classDecl);
+      if (properties == null) INDEX.put(classDecl, properties = new BoundProperties(typeNode));
+      return properties;
+    }
+  }
+
+  /**
+   * Indicates whether the given field gets a bound setter because its type is annotated with
+   * <code>{@link GenerateBoundSetter}</code>: fields that are static, final, generated, or whose name starts with '$'
+   * don't, and fields annotated with <code>{@link GenerateBoundSetter}</code> are left to their own annotation.
+   * @param fieldNode the given field.
+   * @return {@code true} if the annotation on the type applies to the given field; {@code false} otherwise.
+   */
+  static boolean isBoundByTypeAnnotation(JavacNode fieldNode) {
+    if (fieldNode.isHandled() || fieldNode.getName().startsWith("$")) return false;
+    JCVariableDecl fieldDecl = (JCVariableDecl) fieldNode.get();
+    if ((fieldDecl.mods.flags & (STATIC | FINAL)) != 0) return false;
+    return !isAnnotated(fieldNode);
+  }
+
+  private static boolean isAnnotated(JavacNode node) {
+    return findAnnotation(GenerateBoundSetter.class, node) != null;
+  }
+
+  private BoundProperties(JavacNode typeNode) {
+    boolean typeAnnotated = isAnnotated(typeNode);
+    for (JavacNode child : typeNode.down()) {
+      if (!isField(child)) continue;
+      if (isAnnotated(child) || (typeAnnotated && isBoundByTypeAnnotation(child))) add(child.getName());
+    }
+  }
+
+  private void add(String name) {
+    if (ordinals.containsKey(name)) return;
+    ordinals.put(name, names.size());
+    names.add(name);
+  }
+
+  /**
+   * Returns the ordinal of the given property.
+   * @param name the name of the property.
+   * @return the ordinal of the given property, or -1 if the property does not get a bound setter.
+   */
+  int ordinalOf(String name) {
+    Integer ordinal = ordinals.get(name);
+    return ordinal != null ? ordinal : -1;
+  }
+
+  /**
+   * Returns the names of the properties, in the order of their ordinals.
+   * @return the names of the properties.
+   */
+  List<String> names() {
+    return Collections.unmodifiableList(names);
+  }
+}
@@ -16,28 +16,44 @@ package lombok.javac.handlers;
 
 import static com.sun.tools.javac.code.Flags.*;
 import static lombok.core.handlers.TransformationsUtil.*;
+import static lombok.EqualityCheck.*;
 import static lombok.core.util.AstGeneration.stopAstGeneration;
-import static lombok.core.util.ErrorMessages.canBeUsedOnFieldOnly;
+import static lombok.core.util.ErrorMessages.*;
 import static lombok.core.util.Names.*;
+import static lombok.core.util.PrimitiveType.primitiveTypeNamed;
+import static lombok.javac.handlers.AccessModeGenerator.accessModeGenerator;
+import static lombok.javac.handlers.BoundProperties.*;
+import static lombok.javac.handlers.ChangeBatchGenerator.changeBatchGenerator;
+import static lombok.javac.handlers.ChangeCallbackGenerator.changeCallbackGenerator;
+import static lombok.javac.handlers.ChangeJournalGenerator.changeJournalGenerator;
+import static lombok.javac.handlers.DirtyTrackingGenerator.dirtyTrackingGenerator;
 import static lombok.javac.handlers.FieldBuilder.newField;
+import static lombok.javac.handlers.FieldUpdaters.*;
+import static lombok.javac.handlers.InstrumentationGenerator.instrumentationGenerator;
 import static lombok.javac.handlers.JCNoType.voidType;
 import static lombok.javac.handlers.JavacHandlerUtil.*;
-import static lombok.javac.handlers.Lombok.newFieldAccessor;
+import static lombok.javac.handlers.ListenerRegistryGenerator.listenerRegistryGenerator;
+import static lombok.javac.handlers.Lombok.*;
 import static lombok.javac.handlers.MemberChecks.*;
 import static lombok.javac.handlers.MethodBuilder.newMethod;
+import static lombok.javac.handlers.VetoableChangeSupportGenerator.*;
 
 import java.beans.PropertyChangeSupport;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 import lombok.*;
 import lombok.core.AnnotationValues;
+import lombok.core.util.PrimitiveType;
 import lombok.javac.JavacAnnotationHandler;
 import lombok.javac.JavacNode;
 
 import org.mangosdk.spi.ProviderFor;
 
+import com.sun.tools.javac.code.TypeTags;
 import com.sun.tools.javac.tree.JCTree.JCAnnotation;
-import com.sun.tools.javac.tree.JCTree.JCAssign;
 import com.sun.tools.javac.tree.JCTree.JCBlock;
 import com.sun.tools.javac.tree.JCTree.JCClassDecl;
 import com.sun.tools.javac.tree.JCTree.JCExpression;
@@ -50,7 +66,8 @@ import com.sun.tools.javac.util.List;
 import com.sun.tools.javac.util.Name;
 
 /**
- * Generates a "bound" setter for a field annotated with <code>{@link GenerateBoundSetter}</code>.
+ * Generates a "bound" setter for a field annotated with <code>{@link GenerateBoundSetter}</code>, or for every field
+ * of a class annotated with it.
  * <p>
  * For example, given this class:
  *
@@ -70,6 +87,10 @@ import com.sun.tools.javac.util.Name;
  *   private String firstName;
  *
  *   public void setFirstName(String value) {
+ *      if (!propertySupport.hasListeners(PROP_FIRST_NAME)) {
+ *        firstName = value;
+ *        return;
+ *      }
  *      String oldValue = firstName;
  *      firstName = value;
  *      propertySupport.firePropertyChange(PROP_FIRST_NAME, oldValue, firstName);
@@ -83,6 +104,24 @@ import com.sun.tools.javac.util.Name;
  * field manually or annotate the class with <code>{@link GenerateJavaBean}</code> to have
  * <code>{@link JavaBeanHandler}</code> generate it for you.
  * </p>
+ * <p>
+ * The setter is extended by these generators, depending on the attributes of <code>{@link GenerateJavaBean}</code>,
+ * <code>{@link GenerateBoundSetter}</code> and <code>{@link GenerateConstrainedSetter}</code>:
+ * <ul>
+ * <li><code>{@link ListenerRegistryGenerator}</code>: checks and notifies the listeners of the registry in use</li>
+ * <li><code>{@link ChangeBatchGenerator}</code>: adds changes to the batch in progress, if any</li>
+ * <li><code>{@link ChangeCallbackGenerator}</code>: passes every change to the change callbacks</li>
+ * <li><code>{@link VetoableChangeSupportGenerator}</code>: lets vetoable change listeners reject the new value</li>
+ * <li><code>{@link DirtyTrackingGenerator}</code>: marks the property as dirty, if its value changed</li>
+ * <li><code>{@link ChangeJournalGenerator}</code>: journals the new value, if it changed</li>
+ * <li><code>{@link AccessModeGenerator}</code>: writes {@code volatile} fields as asked by {@code accessMode}</li>
+ * <li><code>{@link FieldUpdaters}</code>: backs the {@code compareAndSet}, {@code getAndSet} and counter methods</li>
+ * <li><code>{@link InstrumentationGenerator}</code>: records writes and the time taken to notify listeners</li>
+ * </ul>
+ * With {@code equalityCheck = EQUALS} (or {@code IDENTITY}), the setter returns right away if the new value is the
+ * same as the current one. When the class is annotated, the setters of all its eligible fields are generated in a
+ * single pass, which scans the existing members of the class only once (see <code>{@link MemberNames}</code>.)
+ * </p>
  *
  * @author Alex Ruiz
  */
@@ -91,6 +130,12 @@ public class BoundSetterHandler implements JavacAnnotationHandler<GenerateBoundS
 
   private static final Class<GenerateBoundSetter> TARGET_ANNOTATION_TYPE = GenerateBoundSetter.class;
 
+  private static final String COMPARE_AND_SET_METHOD_NAME = "compareAndSet";
+  private static final String GET_AND_SET_METHOD_NAME = "getAndSet";
+  private static final String ADD_AND_GET_METHOD_NAME = "addAndGet";
+  private static final String EXPECTED_ARG_NAME = "expected";
+  private static final String DELTA_ARG_NAME = "delta";
+
   /**
    * Called when an annotation is found that is likely to match <code>{@link GenerateBoundSetter}</code>. This is were
    * AST node generation happens.
@@ -104,14 +149,19 @@ public class BoundSetterHandler implements JavacAnnotationHandler<GenerateBoundS
     Collection<JavacNode> fields = astWrapper.upFromAnnotationToFields();
     markAnnotationAsProcessed(astWrapper, TARGET_ANNOTATION_TYPE);
     deleteImportFromCompilationUnit(astWrapper, AccessLevel.class.getName());
-    JavacNode mayBeField = astWrapper.up();
-    if (mayBeField == null) return false;
-    if (!isField(mayBeField)) {
-      astWrapper.addError(canBeUsedOnFieldOnly(TARGET_ANNOTATION_TYPE));
+    deleteImportFromCompilationUnit(astWrapper, EqualityCheck.class.getName());
+    deleteImportFromCompilationUnit(astWrapper, AccessMode.class.getName());
+    JavacNode annotatedNode = astWrapper.up();
+    if (annotatedNode == null) return false;
+    if (isField(annotatedNode)) {
+      generateSetters(fields, annotation.getInstance(), findTypeNodeFrom(annotatedNode));
+      return true;
+    }
+    if (isClass(annotatedNode)) {
+      generateSetters(fieldsOf(annotatedNode), annotation.getInstance(), annotatedNode);
       return true;
     }
-    JavacNode typeNode = findTypeNodeFrom(mayBeField);
-    generateSetter(fields, annotation.getInstance(), typeNode);
+    astWrapper.addError(canBeUsedOnClassAndFieldOnly(TARGET_ANNOTATION_TYPE));
     return true;
   }
 
@@ -126,11 +176,31 @@ public class BoundSetterHandler implements JavacAnnotationHandler<GenerateBoundS
     return node != null && node.get() instanceof JCClassDecl;
   }
 
-  private void generateSetter(Collection<JavacNode> fields, GenerateBoundSetter setter, JavacNode typeNode) {
+  private Collection<JavacNode> fieldsOf(JavacNode typeNode) {
+    // fields annotated with @GenerateBoundSetter are left to their own annotation, which may have other settings.
+    Collection<JavacNode> fields = new ArrayList<JavacNode>();
+    for (JavacNode child : typeNode.down())
+      if (isField(child) && isBoundByTypeAnnotation(child)) fields.add(child);
+    return fields;
+  }
+
+  private void generateSetters(Collection<JavacNode> fields, GenerateBoundSetter setter, JavacNode typeNode) {
+    GenerateJavaBean javaBean = findAnnotation(GenerateJavaBean.class, typeNode);
+    ListenerRegistryGenerator registry = listenerRegistryGenerator(javaBean);
+    ChangeBatchGenerator batches = changeBatchGenerator(javaBean, registry);
+    ChangeCallbackGenerator callbacks = changeCallbackGenerator(javaBean, registry);
+    DirtyTrackingGenerator dirtyTracking = dirtyTrackingGenerator(javaBean);
+    ChangeJournalGenerator journal = changeJournalGenerator(javaBean);
+    InstrumentationGenerator instrumentation = instrumentationGenerator(javaBean);
     for (JavacNode fieldNode : fields) {
       String propertyNameFieldName = nameOfConstantBasedOnProperty(fieldNode.getName());
       generatePropertyNameConstant(propertyNameFieldName, fieldNode, typeNode);
-      generateSetter(propertyNameFieldName, setter, fieldNode);
+      if (registry.indexesPropertyListeners() || callbacks.isEnabled() || dirtyTracking.isEnabled()
+          || journal.isEnabled())
+        generatePropertyOrdinalConstant(fieldNode, typeNode);
+      if (registry.indexesPropertyListeners()) registry.generatePropertyListenerMethods(fieldNode, typeNode);
+      generateSetter(propertyNameFieldName, setter, registry, batches, callbacks, dirtyTracking, journal,
+          instrumentation, fieldNode, typeNode);
     }
   }
 
@@ -138,27 +208,296 @@ public class BoundSetterHandler implements JavacAnnotationHandler<GenerateBoundS
     // generates:
     // public static final String PROP_FIRST_NAME = "firstName";
     String propertyName = fieldNode.getName();
-    if (fieldAlreadyExists(propertyNameFieldName, fieldNode)) return;
+    if (fieldAlreadyExists(propertyNameFieldName, typeNode)) return;
     JCExpression propertyNameExpression = fieldNode.getTreeMaker().Literal(propertyName);
     JCVariableDecl fieldDecl = newField().ofType(String.class)
                                          .withName(propertyNameFieldName)
                                          .withModifiers(PUBLIC | STATIC | FINAL)
                                          .withArgs(propertyNameExpression)
                                          .buildWith(typeNode);
-    injectField(typeNode, fieldDecl);
+    addField(typeNode, fieldDecl);
   }
 
-  private void generateSetter(String propertyNameFieldName, GenerateBoundSetter setter, JavacNode fieldNode) {
+  private void generatePropertyOrdinalConstant(JavacNode fieldNode, JavacNode typeNode) {
+    // generates:
+    // public static final int ORDINAL_FIRST_NAME = 0;
+    String ordinalFieldName = nameOfOrdinalConstantBasedOnProperty(fieldNode.getName());
+    int ordinal = boundPropertiesOf(typeNode).ordinalOf(fieldNode.getName());
+    if (ordinal < 0 || fieldAlreadyExists(ordinalFieldName, typeNode)) return;
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCVariableDecl fieldDecl = newField().ofType(treeMaker.TypeIdent(TypeTags.INT))
+                                         .withName(ordinalFieldName)
+                                         .withModifiers(PUBLIC | STATIC | FINAL)
+                                         .withInitializer(treeMaker.Literal(TypeTags.INT, ordinal))
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generateSetter(String propertyNameFieldName, GenerateBoundSetter setter,
+      ListenerRegistryGenerator registry, ChangeBatchGenerator batches, ChangeCallbackGenerator callbacks,
+      DirtyTrackingGenerator dirtyTracking, ChangeJournalGenerator journal, InstrumentationGenerator instrumentation,
+      JavacNode fieldNode, JavacNode typeNode) {
     AccessLevel accessLevel = setter.value();
     if (stopAstGeneration(accessLevel)) return;
-    String setterName = toSetterName(fieldNode.getName());
-    if (methodAlreadyExists(setterName, fieldNode)) return;
-    injectMethod(fieldNode.up(), createSetterDecl(accessLevel, propertyNameFieldName, setterName, fieldNode));
+    String setterName = nameOfSetter(fieldNode.getName());
+    if (methodAlreadyExists(setterName, typeNode)) return;
+    AccessModeGenerator access = accessModeGenerator(setter.accessMode());
+    if (!access.supports(fieldNode, typeNode)) return;
+    if (setter.atomicUpdates() && !supportsAtomicUpdates(fieldNode, typeNode)) return;
+    if (setter.counter() && !supportsCounter(setter, fieldNode, typeNode)) return;
+    access.generateUpdaterField(fieldNode, typeNode);
+    instrumentation.generateMetricsField(fieldNode, typeNode);
+    addMethod(typeNode, createSetterDecl(accessLevel, setter.equalityCheck(), propertyNameFieldName, setterName,
+        access, registry, batches, callbacks, dirtyTracking, journal, instrumentation, fieldNode, typeNode));
+    if (setter.atomicUpdates()) generateAtomicUpdateMethods(accessLevel, setter.equalityCheck(), propertyNameFieldName,
+        registry, batches, callbacks, dirtyTracking, journal, instrumentation, fieldNode, typeNode);
+    if (setter.counter()) generateCounterMethods(accessLevel, setter.notifyEvery(), propertyNameFieldName, registry,
+        batches, callbacks, dirtyTracking, journal, instrumentation, fieldNode, typeNode);
   }
 
-  private JCMethodDecl createSetterDecl(AccessLevel accessLevel, String propertyNameFieldName, String setterName,
+  private boolean supportsAtomicUpdates(JavacNode fieldNode, JavacNode typeNode) {
+    JCVariableDecl fieldDecl = (JCVariableDecl) fieldNode.get();
+    if ((fieldDecl.mods.flags & VOLATILE) == 0 || updaterTypeOf(fieldNode, typeNode) == null) {
+      fieldNode.addError(atomicUpdatesRequireUpdatableField(TARGET_ANNOTATION_TYPE));
+      return false;
+    }
+    if (isConstrained(fieldNode)) {
+      fieldNode.addError(atomicUpdatesCannotBeVetoed(TARGET_ANNOTATION_TYPE, GenerateConstrainedSetter.class));
+      return false;
+    }
+    return true;
+  }
+
+  private boolean supportsCounter(GenerateBoundSetter setter, JavacNode fieldNode, JavacNode typeNode) {
+    JCVariableDecl fieldDecl = (JCVariableDecl) fieldNode.get();
+    Class<?> updaterType = updaterTypeOf(fieldNode, typeNode);
+    boolean numeric = updaterType == AtomicIntegerFieldUpdater.class || updaterType == AtomicLongFieldUpdater.class;
+    if ((fieldDecl.mods.flags & VOLATILE) == 0 || !numeric) {
+      fieldNode.addError(counterRequiresVolatileNumericField(TARGET_ANNOTATION_TYPE));
+      return false;
+    }
+    if (isConstrained(fieldNode)) {
+      fieldNode.addError(counterCannotBeVetoed(TARGET_ANNOTATION_TYPE, GenerateConstrainedSetter.class));
+      return false;
+    }
+    if (setter.notifyEvery() < 1) {
+      fieldNode.addError(notifyEveryMustBePositive(TARGET_ANNOTATION_TYPE, setter.notifyEvery()));
+      return false;
+    }
+    return true;
+  }
+
+  private void generateAtomicUpdateMethods(AccessLevel accessLevel, EqualityCheck equalityCheck,
+      String propertyNameFieldName, ListenerRegistryGenerator registry, ChangeBatchGenerator batches,
+      ChangeCallbackGenerator callbacks, DirtyTrackingGenerator dirtyTracking, ChangeJournalGenerator journal,
+      InstrumentationGenerator instrumentation, JavacNode fieldNode, JavacNode typeNode) {
+    generateUpdaterField(fieldNode, typeNode);
+    String compareAndSetName = nameOfCompareAndSetMethod(fieldNode.getName());
+    if (!methodAlreadyExists(compareAndSetName, typeNode))
+      addMethod(typeNode, compareAndSetDecl(accessLevel, equalityCheck, propertyNameFieldName, compareAndSetName,
+          registry, batches, callbacks, dirtyTracking, journal, instrumentation, fieldNode, typeNode));
+    String getAndSetName = nameOfGetAndSetMethod(fieldNode.getName());
+    if (!methodAlreadyExists(getAndSetName, typeNode))
+      addMethod(typeNode, getAndSetDecl(accessLevel, equalityCheck, propertyNameFieldName, getAndSetName, registry,
+          batches, callbacks, dirtyTracking, journal, instrumentation, fieldNode, typeNode));
+  }
+
+  private void generateCounterMethods(AccessLevel accessLevel, int notifyEvery, String propertyNameFieldName,
+      ListenerRegistryGenerator registry, ChangeBatchGenerator batches, ChangeCallbackGenerator callbacks,
+      DirtyTrackingGenerator dirtyTracking, ChangeJournalGenerator journal, InstrumentationGenerator instrumentation,
+      JavacNode fieldNode, JavacNode typeNode) {
+    generateUpdaterField(fieldNode, typeNode);
+    String addToName = nameOfAddToMethod(fieldNode.getName());
+    if (!methodAlreadyExists(addToName, typeNode))
+      addMethod(typeNode, addToDecl(accessLevel, notifyEvery, propertyNameFieldName, addToName, registry, batches,
+          callbacks, dirtyTracking, journal, instrumentation, fieldNode, typeNode));
+    String incrementName = nameOfIncrementMethod(fieldNode.getName());
+    if (!methodAlreadyExists(incrementName, typeNode))
+      addMethod(typeNode, incrementDecl(accessLevel, incrementName, addToName, fieldNode));
+  }
+
+  private JCMethodDecl addToDecl(AccessLevel accessLevel, int notifyEvery, String propertyNameFieldName,
+      String methodName, ListenerRegistryGenerator registry, ChangeBatchGenerator batches,
+      ChangeCallbackGenerator callbacks, DirtyTrackingGenerator dirtyTracking, ChangeJournalGenerator journal,
+      InstrumentationGenerator instrumentation, JavacNode fieldNode, JavacNode typeNode) {
+    // the new value is held in a local variable named after the field, so it is what the setter would notify.
+    // public int addToCount(final int delta) {
+    //   final int count = COUNT_UPDATER.addAndGet(this, delta);
+    //   final int old = count - delta;
+    //   if (floor(old / 100) == floor(count / 100)) return count; // only if notifyEvery = 100
+    //   if (!propertySupport.hasListeners(PROP_COUNT)) return count;
+    //   propertySupport.firePropertyChange(PROP_COUNT, old, count);
+    //   return count;
+    // }
+    JCVariableDecl fieldDecl = (JCVariableDecl) fieldNode.get();
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    Name deltaName = fieldNode.toName(DELTA_ARG_NAME);
+    Name oldValueName = fieldNode.toName(OLD_VALUE_VARIABLE_NAME);
+    JCVariableDecl delta = treeMaker.VarDef(treeMaker.Modifiers(FINAL), deltaName, fieldDecl.vartype, null);
+    JCExpression add = updaterInvocation(ADD_AND_GET_METHOD_NAME, List.<JCExpression> of(treeMaker.Ident(deltaName)),
+        fieldNode);
+    JCStatement newValue = treeMaker.VarDef(treeMaker.Modifiers(FINAL), fieldDecl.name, fieldDecl.vartype, add);
+    JCExpression subtract = treeMaker.Binary(JCTree.MINUS, treeMaker.Ident(fieldDecl.name), treeMaker.Ident(deltaName));
+    JCStatement oldValue = treeMaker.VarDef(treeMaker.Modifiers(FINAL), oldValueName, fieldDecl.vartype, subtract);
+    // counters are numeric: whatever the equality check, a change is a different value.
+    List<JCStatement> statements = atomicUpdateNotificationDecls(NONE, propertyNameFieldName, oldValueName,
+        fieldDecl.name, notifyEvery, registry, batches, callbacks, dirtyTracking, journal, instrumentation, fieldNode,
+        typeNode);
+    statements = statements.prepend(oldValue).prepend(newValue);
+    return newMethod().withModifiers(toJavacModifier(accessLevel))
+                      .withName(methodName)
+                      .withReturnType(fieldDecl.vartype)
+                      .withParameters(List.of(delta))
+                      .withBody(treeMaker.Block(0, statements))
+                      .buildWith(fieldNode);
+  }
+
+  private JCMethodDecl incrementDecl(AccessLevel accessLevel, String methodName, String addToName,
       JavacNode fieldNode) {
+    // public int incrementCount() {
+    //   return addToCount(1);
+    // }
+    JCVariableDecl fieldDecl = (JCVariableDecl) fieldNode.get();
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCExpression addOne = treeMaker.Apply(List.<JCExpression> nil(), treeMaker.Ident(fieldNode.toName(addToName)),
+        List.<JCExpression> of(treeMaker.Literal(TypeTags.INT, 1)));
+    return newMethod().withModifiers(toJavacModifier(accessLevel))
+                      .withName(methodName)
+                      .withReturnType(fieldDecl.vartype)
+                      .withBody(treeMaker.Block(0, List.<JCStatement> of(treeMaker.Return(addOne))))
+                      .buildWith(fieldNode);
+  }
+
+  private JCMethodDecl compareAndSetDecl(AccessLevel accessLevel, EqualityCheck equalityCheck,
+      String propertyNameFieldName, String methodName, ListenerRegistryGenerator registry, ChangeBatchGenerator batches,
+      ChangeCallbackGenerator callbacks, DirtyTrackingGenerator dirtyTracking, ChangeJournalGenerator journal,
+      InstrumentationGenerator instrumentation, JavacNode fieldNode, JavacNode typeNode) {
+    // public boolean compareAndSetFirstName(final String expected, String firstName) {
+    //   if (!FIRST_NAME_UPDATER.compareAndSet(this, expected, firstName)) return false;
+    //   if (!propertySupport.hasListeners(PROP_FIRST_NAME)) return true;
+    //   propertySupport.firePropertyChange(PROP_FIRST_NAME, expected, firstName);
+    //   return true;
+    // }
+    JCVariableDecl fieldDecl = (JCVariableDecl) fieldNode.get();
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    Name expectedName = fieldNode.toName(EXPECTED_ARG_NAME);
+    JCVariableDecl expected = treeMaker.VarDef(treeMaker.Modifiers(FINAL), expectedName, fieldDecl.vartype, null);
+    List<JCExpression> args = List.<JCExpression> of(treeMaker.Ident(expectedName), treeMaker.Ident(fieldDecl.name));
+    JCExpression swapped = updaterInvocation(COMPARE_AND_SET_METHOD_NAME, args, fieldNode);
+    JCStatement returnIfNotSwapped = treeMaker.If(treeMaker.Unary(JCTree.NOT, swapped),
+        treeMaker.Return(treeMaker.Literal(TypeTags.BOOLEAN, 0)), null);
+    List<JCStatement> statements = atomicUpdateNotificationDecls(equalityCheck, propertyNameFieldName, expectedName,
+        null, 1, registry, batches, callbacks, dirtyTracking, journal, instrumentation, fieldNode, typeNode);
+    statements = statements.prepend(returnIfNotSwapped);
+    List<JCAnnotation> nonNulls = findAnnotations(fieldNode, NON_NULL_PATTERN);
+    return newMethod().withModifiers(toJavacModifier(accessLevel))
+                      .withName(methodName)
+                      .withReturnType(treeMaker.TypeIdent(TypeTags.BOOLEAN))
+                      .withParameters(parameters(nonNulls, fieldNode).prepend(expected))
+                      .withBody(treeMaker.Block(0, statements))
+                      .buildWith(fieldNode);
+  }
+
+  private JCMethodDecl getAndSetDecl(AccessLevel accessLevel, EqualityCheck equalityCheck, String propertyNameFieldName,
+      String methodName, ListenerRegistryGenerator registry, ChangeBatchGenerator batches,
+      ChangeCallbackGenerator callbacks, DirtyTrackingGenerator dirtyTracking, ChangeJournalGenerator journal,
+      InstrumentationGenerator instrumentation, JavacNode fieldNode, JavacNode typeNode) {
+    // public String getAndSetFirstName(String firstName) {
+    //   final String old = FIRST_NAME_UPDATER.getAndSet(this, firstName);
+    //   if (!propertySupport.hasListeners(PROP_FIRST_NAME)) return old;
+    //   propertySupport.firePropertyChange(PROP_FIRST_NAME, old, firstName);
+    //   return old;
+    // }
+    JCVariableDecl fieldDecl = (JCVariableDecl) fieldNode.get();
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    Name oldValueName = fieldNode.toName(OLD_VALUE_VARIABLE_NAME);
+    JCExpression swap = updaterInvocation(GET_AND_SET_METHOD_NAME,
+        List.<JCExpression> of(treeMaker.Ident(fieldDecl.name)), fieldNode);
+    JCStatement oldValue = treeMaker.VarDef(treeMaker.Modifiers(FINAL), oldValueName, fieldDecl.vartype, swap);
+    List<JCStatement> statements = atomicUpdateNotificationDecls(equalityCheck, propertyNameFieldName, oldValueName,
+        oldValueName, 1, registry, batches, callbacks, dirtyTracking, journal, instrumentation, fieldNode, typeNode);
+    statements = statements.prepend(oldValue);
+    List<JCAnnotation> nonNulls = findAnnotations(fieldNode, NON_NULL_PATTERN);
+    return newMethod().withModifiers(toJavacModifier(accessLevel))
+                      .withName(methodName)
+                      .withReturnType(fieldDecl.vartype)
+                      .withParameters(parameters(nonNulls, fieldNode))
+                      .withBody(treeMaker.Block(0, statements))
+                      .buildWith(fieldNode);
+  }
+
+  private List<JCStatement> atomicUpdateNotificationDecls(EqualityCheck equalityCheck, String propertyNameFieldName,
+      Name oldValueName, Name resultName, int notifyEvery, ListenerRegistryGenerator registry,
+      ChangeBatchGenerator batches, ChangeCallbackGenerator callbacks, DirtyTrackingGenerator dirtyTracking,
+      ChangeJournalGenerator journal, InstrumentationGenerator instrumentation, JavacNode fieldNode,
+      JavacNode typeNode) {
+    // the old value is the one the update actually replaced, and the new value is the parameter (or the local variable)
+    // named after the field, as with @GenerateBoundSetter(accessMode = VOLATILE).
+    AccessModeGenerator access = accessModeGenerator(AccessMode.VOLATILE);
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    List<JCStatement> statements = List.nil();
+    if (instrumentation.isEnabled()) statements = statements.append(instrumentation.recordWriteStatement(
+        sameValueDecl(oldValueName, EQUALS, access, fieldNode), fieldNode));
+    statements = statements.appendList(unlessUnchangedDecl(sameValueDecl(oldValueName, changeRule(equalityCheck),
+        access, fieldNode), changeRecordingDecls(dirtyTracking, journal, fieldNode, typeNode), fieldNode));
+    if (notifyEvery > 1) statements = statements.append(treeMaker.If(sameMultipleDecl(oldValueName, notifyEvery,
+        fieldNode), treeMaker.Return(atomicUpdateResult(resultName, fieldNode)), null));
+    if (callbacks.isEnabled()) statements = statements.append(notifyCallbacksDecl(oldValueName,
+        changeRule(equalityCheck), access, callbacks, fieldNode));
+    return statements.appendList(List.of(
+        returnIfNoListenersDecl(propertyNameFieldName, atomicUpdateResult(resultName, fieldNode), registry, fieldNode),
+        fireChangeEventMethodDecl(propertyNameFieldName, oldValueName, NONE, access, registry, batches,
+            instrumentation, fieldNode),
+        treeMaker.Return(atomicUpdateResult(resultName, fieldNode))));
+  }
+
+  private JCExpression sameMultipleDecl(Name oldValueName, int notifyEvery, JavacNode fieldNode) {
+    // the update did not reach or cross a multiple of notifyEvery:
+    // (old < 0 ? (old + 1) / 100 - 1 : old / 100) == (count < 0 ? (count + 1) / 100 - 1 : count / 100)
+    JCVariableDecl fieldDecl = (JCVariableDecl) fieldNode.get();
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    return treeMaker.Binary(JCTree.EQ, multipleDecl(oldValueName, notifyEvery, fieldNode),
+        multipleDecl(fieldDecl.name, notifyEvery, fieldNode));
+  }
+
+  private JCExpression multipleDecl(Name valueName, int notifyEvery, JavacNode fieldNode) {
+    // the quotient is rounded down, not toward zero, so that counters going below zero still reach or cross multiples:
+    // count < 0 ? (count + 1) / 100 - 1 : count / 100
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCExpression divisor = treeMaker.Literal(TypeTags.INT, notifyEvery);
+    JCExpression negative = treeMaker.Binary(JCTree.LT, treeMaker.Ident(valueName), treeMaker.Literal(TypeTags.INT, 0));
+    JCExpression nextValue = treeMaker.Binary(JCTree.PLUS, treeMaker.Ident(valueName),
+        treeMaker.Literal(TypeTags.INT, 1));
+    JCExpression roundedDown = treeMaker.Binary(JCTree.MINUS, treeMaker.Binary(JCTree.DIV, nextValue, divisor),
+        treeMaker.Literal(TypeTags.INT, 1));
+    JCExpression quotient = treeMaker.Binary(JCTree.DIV, treeMaker.Ident(valueName),
+        treeMaker.Literal(TypeTags.INT, notifyEvery));
+    return treeMaker.Conditional(negative, roundedDown, quotient);
+  }
+
+  private JCExpression atomicUpdateResult(Name resultName, JavacNode fieldNode) {
+    // compareAndSet returns true, getAndSet the old value, and addTo the new value.
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    if (resultName != null) return treeMaker.Ident(resultName);
+    return treeMaker.Literal(TypeTags.BOOLEAN, 1);
+  }
+
+  private JCMethodDecl createSetterDecl(AccessLevel accessLevel, EqualityCheck equalityCheck,
+      String propertyNameFieldName, String setterName, AccessModeGenerator access,
+      ListenerRegistryGenerator registry, ChangeBatchGenerator batches, ChangeCallbackGenerator callbacks,
+      DirtyTrackingGenerator dirtyTracking, ChangeJournalGenerator journal, InstrumentationGenerator instrumentation,
+      JavacNode fieldNode, JavacNode typeNode) {
     // public void setFirstName(String value) {
+    //   FIRST_NAME_METRICS.recordWrite(firstName == value || ...); // only if the JavaBean is instrumented
+    //   if (firstName == value) return; // only if an equality check was requested
+    //   if (!(firstName == value)) { // only if dirty tracking or a change journal was requested
+    //     this.dirtyBits |= 1L << 0; // only if dirty tracking was requested
+    //     journalChange(ORDINAL_FIRST_NAME, value); // only if a change journal was requested
+    //   }
+    //   if (!propertySupport.hasListeners(PROP_FIRST_NAME)) {
+    //     firstName = value;
+    //     return;
+    //   }
     //   final String oldValue = firstName;
     //   firstName = value;
     //   propertySupport.firePropertyChange(PROP_FIRST_NAME, oldValue, firstName);
@@ -167,11 +506,15 @@ public class BoundSetterHandler implements JavacAnnotationHandler<GenerateBoundS
     long accessModifiers = toJavacModifier(accessLevel) | (fieldDecl.mods.flags & STATIC);
     TreeMaker treeMaker = fieldNode.getTreeMaker();
     List<JCAnnotation> nonNulls = findAnnotations(fieldNode, NON_NULL_PATTERN);
+    List<JCExpression> throwsClauses = List.nil();
+    if (isConstrained(fieldNode)) throwsClauses = vetoThrowsClause(fieldNode);
     return newMethod().withModifiers(accessModifiers)
                       .withName(setterName)
                       .withReturnType(treeMaker.Type(voidType()))
                       .withParameters(parameters(nonNulls, fieldNode))
-                      .withBody(body(propertyNameFieldName, fieldNode))
+                      .withThrowsClauses(throwsClauses)
+                      .withBody(body(equalityCheck, propertyNameFieldName, access, registry, batches, callbacks,
+                          dirtyTracking, journal, instrumentation, fieldNode, typeNode))
                       .buildWith(fieldNode);
   }
 
@@ -182,13 +525,123 @@ public class BoundSetterHandler implements JavacAnnotationHandler<GenerateBoundS
     return List.of(param);
   }
 
-  private JCBlock body(String propertyNameFieldName, JavacNode fieldNode) {
+  private JCBlock body(EqualityCheck equalityCheck, String propertyNameFieldName, AccessModeGenerator access,
+      ListenerRegistryGenerator registry, ChangeBatchGenerator batches, ChangeCallbackGenerator callbacks,
+      DirtyTrackingGenerator dirtyTracking, ChangeJournalGenerator journal, InstrumentationGenerator instrumentation,
+      JavacNode fieldNode, JavacNode typeNode) {
     Name oldValueName = fieldNode.toName(OLD_VALUE_VARIABLE_NAME);
-    JCStatement[] statements = new JCStatement[3];
-    statements[0] = oldValueVariableDecl(oldValueName, fieldNode);
-    statements[1] = assignNewValueToFieldDecl(fieldNode);
-    statements[2] = fireChangeEventMethodDecl(propertyNameFieldName, oldValueName, fieldNode);
-    return fieldNode.getTreeMaker().Block(0, List.from(statements));
+    List<JCStatement> statements = List.of(
+        assignAndReturnIfNoListenersDecl(propertyNameFieldName, access, registry, callbacks, fieldNode),
+        oldValueVariableDecl(oldValueName, fieldNode),
+        access.assignNewValueStatement(fieldNode));
+    // the setter has already returned if the value is unchanged, unless it checks nothing: identity is then enough.
+    EqualityCheck callbackRule = equalityCheck == NONE ? changeRule(equalityCheck) : IDENTITY;
+    if (callbacks.isEnabled()) statements = statements.appendList(List.of(
+        notifyCallbacksDecl(oldValueName, callbackRule, access, callbacks, fieldNode),
+        returnIfNoListenersDecl(propertyNameFieldName, null, registry, fieldNode)));
+    statements = statements.append(fireChangeEventMethodDecl(propertyNameFieldName, oldValueName,
+        equalityCheck, access, registry, batches, instrumentation, fieldNode));
+    // a change is recorded and journaled even if nobody is listening, but not if it is vetoed or leaves the value
+    // unchanged. With an equality check, the setter has already returned if it does.
+    JCExpression unchanged = equalityCheck == NONE ? unchangedDecl(changeRule(equalityCheck), fieldNode) : null;
+    statements = statements.prependList(unlessUnchangedDecl(unchanged, changeRecordingDecls(dirtyTracking, journal,
+        fieldNode, typeNode), fieldNode));
+    if (isConstrained(fieldNode)) statements = statements.prepend(fireVetoableChangeStatement(propertyNameFieldName,
+        fieldNode));
+    if (equalityCheck != NONE) statements = statements.prepend(returnIfUnchangedDecl(equalityCheck, fieldNode));
+    // every write is recorded, including the ones that are vetoed or leave the value unchanged. As with
+    // PropertyChangeSupport, a value is unchanged if it equals the current one, whatever the equality check.
+    if (instrumentation.isEnabled()) statements = statements.prepend(instrumentation.recordWriteStatement(
+        unchangedDecl(EQUALS, fieldNode), fieldNode));
+    return fieldNode.getTreeMaker().Block(0, statements);
+  }
+
+  private EqualityCheck changeRule(EqualityCheck equalityCheck) {
+    // dirty tracking, the change journal and change callbacks tell a change apart the same way: by identity if the
+    // setter checks identity, and as equals tells otherwise (as listeners do when the setter checks nothing.)
+    return equalityCheck == IDENTITY ? IDENTITY : EQUALS;
+  }
+
+  private JCStatement returnIfUnchangedDecl(EqualityCheck equalityCheck, JavacNode fieldNode) {
+    // the new value is the current one: skip everything else, including the check for listeners.
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    return treeMaker.If(unchangedDecl(equalityCheck, fieldNode), treeMaker.Return(null), null);
+  }
+
+  private List<JCStatement> changeRecordingDecls(DirtyTrackingGenerator dirtyTracking, ChangeJournalGenerator journal,
+      JavacNode fieldNode, JavacNode typeNode) {
+    // this.dirtyBits |= 1L << 0;
+    // journalChange(ORDINAL_FIRST_NAME, firstName);
+    List<JCStatement> statements = List.nil();
+    if (dirtyTracking.tracks(fieldNode, typeNode))
+      statements = statements.append(dirtyTracking.markDirtyStatement(fieldNode, typeNode));
+    if (journal.journals(fieldNode, typeNode))
+      statements = statements.append(journal.journalChangeStatement(fieldNode));
+    return statements;
+  }
+
+  private List<JCStatement> unlessUnchangedDecl(JCExpression unchanged, List<JCStatement> statements,
+      JavacNode fieldNode) {
+    // if (!(this.firstName == firstName || ...)) { ... }, or the statements as they are if there is nothing to check.
+    if (unchanged == null || statements.isEmpty()) return statements;
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCStatement then = statements.tail.isEmpty() ? statements.head : treeMaker.Block(0, statements);
+    return List.<JCStatement> of(treeMaker.If(treeMaker.Unary(JCTree.NOT, unchanged), then, null));
+  }
+
+  private JCExpression unchangedDecl(EqualityCheck equalityCheck, JavacNode fieldNode) {
+    // primitives: this.id == id
+    // IDENTITY (or NONE): this.firstName == firstName
+    // EQUALS: this.firstName == firstName || this.firstName != null && this.firstName.equals(firstName)
+    JCVariableDecl fieldDecl = (JCVariableDecl) fieldNode.get();
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCExpression newValue = treeMaker.Ident(fieldDecl.name);
+    PrimitiveType primitiveType = primitiveTypeOf(fieldNode);
+    JCExpression unchanged;
+    if (primitiveType != null) unchanged = compareDecl(primitiveType, newFieldAccessor(fieldNode), newValue, true,
+        fieldNode);
+    else unchanged = treeMaker.Binary(JCTree.EQ, newFieldAccessor(fieldNode), newValue);
+    if (primitiveType == null && equalityCheck == EQUALS) {
+      JCExpression notNull = treeMaker.Binary(JCTree.NE, newFieldAccessor(fieldNode),
+          treeMaker.Literal(TypeTags.BOT, null));
+      JCExpression fn = treeMaker.Select(newFieldAccessor(fieldNode), fieldNode.toName("equals"));
+      JCExpression equal = treeMaker.Apply(List.<JCExpression> nil(), fn,
+          List.<JCExpression> of(treeMaker.Ident(fieldDecl.name)));
+      unchanged = treeMaker.Binary(JCTree.OR, unchanged, treeMaker.Binary(JCTree.AND, notNull, equal));
+    }
+    return unchanged;
+  }
+
+  private JCStatement assignAndReturnIfNoListenersDecl(String propertyNameFieldName, AccessModeGenerator access,
+      ListenerRegistryGenerator registry, ChangeCallbackGenerator callbacks, JavacNode fieldNode) {
+    // nobody is listening: skip capturing the old value, boxing and creating the event.
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCExpression noListeners = callbacks.noListenersOrCallbacksCondition(
+        registry.noListenersCondition(propertyNameFieldName, fieldNode), fieldNode);
+    List<JCStatement> assignAndReturn = List.of(access.assignNewValueStatement(fieldNode), treeMaker.Return(null));
+    return treeMaker.If(noListeners, treeMaker.Block(0, assignAndReturn), null);
+  }
+
+  private JCStatement notifyCallbacksDecl(Name oldValueName, EqualityCheck changeRule, AccessModeGenerator access,
+      ChangeCallbackGenerator callbacks, JavacNode fieldNode) {
+    // callbacks are invoked right away, even if listeners get the change later (batched or asynchronously.)
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    PrimitiveType primitiveType = primitiveTypeOf(fieldNode);
+    JCExpression changed;
+    if (primitiveType != null) changed = valueChangedDecl(primitiveType, oldValueName, access, fieldNode);
+    else if (changeRule == IDENTITY)
+      changed = treeMaker.Binary(JCTree.NE, treeMaker.Ident(oldValueName), access.newValue(fieldNode));
+    else changed = treeMaker.Unary(JCTree.NOT, sameValueDecl(oldValueName, changeRule, access, fieldNode));
+    return callbacks.notifyCallbacksStatement(primitiveType, changed, treeMaker.Ident(oldValueName),
+        access.newValue(fieldNode), fieldNode);
+  }
+
+  private JCStatement returnIfNoListenersDecl(String propertyNameFieldName, JCExpression result,
+      ListenerRegistryGenerator registry, JavacNode fieldNode) {
+    // only callbacks are registered: skip boxing and creating the event.
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    return treeMaker.If(registry.noListenersCondition(propertyNameFieldName, fieldNode), treeMaker.Return(result),
+        null);
   }
 
   private JCStatement oldValueVariableDecl(Name oldValueName, JavacNode fieldNode) {
@@ -198,22 +651,90 @@ public class BoundSetterHandler implements JavacAnnotationHandler<GenerateBoundS
     return treeMaker.VarDef(treeMaker.Modifiers(FINAL), oldValueName, varDecl.vartype, init);
   }
 
-  private JCStatement assignNewValueToFieldDecl(JavacNode fieldNode) {
+  private JCStatement fireChangeEventMethodDecl(String propertyNameFieldName, Name oldValueName,
+      EqualityCheck equalityCheck, AccessModeGenerator access, ListenerRegistryGenerator registry,
+      ChangeBatchGenerator batches, InstrumentationGenerator instrumentation, JavacNode fieldNode) {
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCStatement notify = registry.notifyListenersStatement(propertyNameFieldName, treeMaker.Ident(oldValueName),
+        access.newValue(fieldNode), fieldNode);
+    JCStatement fire = batches.batchOrNotifyStatement(notify, propertyNameFieldName, treeMaker.Ident(oldValueName),
+        access.newValue(fieldNode), fieldNode);
+    PrimitiveType primitiveType = primitiveTypeOf(fieldNode);
+    if (instrumentation.isEnabled()) {
+      fire = instrumentation.timedFireStatement(fire, fieldNode);
+      // only changes passed to the listeners are timed and counted, not the ones the registry drops as equal.
+      if (primitiveType == null && equalityCheck != EQUALS)
+        return treeMaker.If(passedToListenersDecl(oldValueName, access, fieldNode), fire, null);
+    }
+    if (primitiveType == null) return fire;
+    // the setter has already returned if the value is unchanged: comparing again is redundant.
+    if (equalityCheck != NONE || firedWithoutBoxing(primitiveType, registry, batches)) return fire;
+    return treeMaker.If(valueChangedDecl(primitiveType, oldValueName, access, fieldNode), fire, null);
+  }
+
+  private boolean firedWithoutBoxing(PrimitiveType primitiveType, ListenerRegistryGenerator registry,
+      ChangeBatchGenerator batches) {
+    // batched changes are always boxed, so they are only added to a batch when the value actually changed.
+    return primitiveType.isFiredWithoutBoxing() && registry.firesIntAndBooleanWithoutBoxing() && !batches.isEnabled();
+  }
+
+  private PrimitiveType primitiveTypeOf(JavacNode fieldNode) {
     JCVariableDecl fieldDecl = (JCVariableDecl) fieldNode.get();
+    return primitiveTypeNamed(fieldDecl.vartype.toString());
+  }
+
+  private JCExpression sameValueDecl(Name oldValueName, EqualityCheck equalityCheck, AccessModeGenerator access,
+      JavacNode fieldNode) {
+    // the update replaced a value with the same one:
+    // primitives: old == this.id
+    // IDENTITY: old == firstName
+    // EQUALS (or NONE), as PropertyChangeSupport tells: old == firstName || old != null && old.equals(firstName)
     TreeMaker treeMaker = fieldNode.getTreeMaker();
-    JCExpression fieldRef = newFieldAccessor(fieldNode);
-    JCAssign assign = treeMaker.Assign(fieldRef, treeMaker.Ident(fieldDecl.name));
-    return treeMaker.Exec(assign);
+    PrimitiveType primitiveType = primitiveTypeOf(fieldNode);
+    if (primitiveType != null) return compareDecl(primitiveType, treeMaker.Ident(oldValueName),
+        access.newValue(fieldNode), true, fieldNode);
+    JCExpression same = treeMaker.Binary(JCTree.EQ, treeMaker.Ident(oldValueName), access.newValue(fieldNode));
+    if (equalityCheck == IDENTITY) return same;
+    JCExpression notNull = treeMaker.Binary(JCTree.NE, treeMaker.Ident(oldValueName),
+        treeMaker.Literal(TypeTags.BOT, null));
+    JCExpression fn = treeMaker.Select(treeMaker.Ident(oldValueName), fieldNode.toName("equals"));
+    JCExpression equal = treeMaker.Apply(List.<JCExpression> nil(), fn,
+        List.<JCExpression> of(access.newValue(fieldNode)));
+    return treeMaker.Binary(JCTree.OR, same, treeMaker.Binary(JCTree.AND, notNull, equal));
   }
 
-  private JCStatement fireChangeEventMethodDecl(String propertyNameFieldName, Name oldValueName, JavacNode fieldNode) {
+  private JCExpression passedToListenersDecl(Name oldValueName, AccessModeGenerator access, JavacNode fieldNode) {
+    // as every registry tells, a change is dropped if both values are non-null and equal:
+    // old == null || this.firstName == null || !old.equals(this.firstName)
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCExpression oldNull = treeMaker.Binary(JCTree.EQ, treeMaker.Ident(oldValueName),
+        treeMaker.Literal(TypeTags.BOT, null));
+    JCExpression newNull = treeMaker.Binary(JCTree.EQ, access.newValue(fieldNode),
+        treeMaker.Literal(TypeTags.BOT, null));
+    JCExpression fn = treeMaker.Select(treeMaker.Ident(oldValueName), fieldNode.toName("equals"));
+    JCExpression equal = treeMaker.Apply(List.<JCExpression> nil(), fn,
+        List.<JCExpression> of(access.newValue(fieldNode)));
+    return treeMaker.Binary(JCTree.OR, treeMaker.Binary(JCTree.OR, oldNull, newNull),
+        treeMaker.Unary(JCTree.NOT, equal));
+  }
+
+  private JCExpression valueChangedDecl(PrimitiveType primitiveType, Name oldValueName, AccessModeGenerator access,
+      JavacNode fieldNode) {
+    // long: old != this.id
+    // float and double: java.lang.Double.compare(old, this.d) != 0
+    JCExpression oldValue = fieldNode.getTreeMaker().Ident(oldValueName);
+    return compareDecl(primitiveType, oldValue, access.newValue(fieldNode), false, fieldNode);
+  }
+
+  private JCExpression compareDecl(PrimitiveType primitiveType, JCExpression left, JCExpression right, boolean equal,
+      JavacNode fieldNode) {
     TreeMaker treeMaker = fieldNode.getTreeMaker();
-    JCExpression fn = chainDots(treeMaker, fieldNode, PROPERTY_SUPPORT_FIELD_NAME, FIRE_PROPERTY_CHANGE_METHOD_NAME);
-    List<JCExpression> args = List.<JCExpression> of(treeMaker.Ident(fieldNode.toName(propertyNameFieldName)),
-                                                     treeMaker.Ident(oldValueName),
-                                                     newFieldAccessor(fieldNode));
-    JCMethodInvocation m = treeMaker.Apply(List.<JCExpression> nil(), fn, args);
-    return treeMaker.Exec(m);
+    if (!primitiveType.isFloatingPoint()) return treeMaker.Binary(equal ? JCTree.EQ : JCTree.NE, left, right);
+    JCExpression wrapperType = chainDots(treeMaker, fieldNode, splitNameOf(primitiveType.wrapperType()));
+    JCExpression fn = treeMaker.Select(wrapperType, fieldNode.toName(COMPARE_METHOD_NAME));
+    List<JCExpression> args = List.<JCExpression> of(left, right);
+    JCMethodInvocation compare = treeMaker.Apply(List.<JCExpression> nil(), fn, args);
+    return treeMaker.Binary(equal ? JCTree.EQ : JCTree.NE, compare, treeMaker.Literal(TypeTags.INT, 0));
   }
 
   /**
@@ -0,0 +1,286 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.javac.handlers;
+
+import static com.sun.tools.javac.code.Flags.*;
+import static lombok.core.util.Names.*;
+import static lombok.javac.handlers.FieldBuilder.newField;
+import static lombok.javac.handlers.JCNoType.voidType;
+import static lombok.javac.handlers.JavacHandlerUtil.*;
+import static lombok.javac.handlers.ListenerRegistryGenerator.*;
+import static lombok.javac.handlers.Lombok.addField;
+import static lombok.javac.handlers.Lombok.addMethod;
+import static lombok.javac.handlers.MemberChecks.fieldAlreadyExists;
+import static lombok.javac.handlers.MethodBuilder.newMethod;
+
+import java.beans.PropertyChangeEvent;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.GenerateJavaBean;
+import lombok.javac.JavacNode;
+
+import com.sun.tools.javac.code.TypeTags;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.JCTree.JCMethodDecl;
+import com.sun.tools.javac.tree.JCTree.JCStatement;
+import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
+import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.util.List;
+
+/**
+ * Generates the members that let a JavaBean collect property changes between calls to {@code beginBatch()} and
+ * {@code endBatch()}, and deliver them to the listeners when the outermost batch ends. Changes of the same property are
+ * coalesced into one event that keeps the first old value and the last new value.
+ *
+ * @author Alex Ruiz
+ */
+class ChangeBatchGenerator {
+
+  private static final String CHANGES_VARIABLE_NAME = "changes";
+  private static final String EVENT_VARIABLE_NAME = "event";
+  private static final String FIRST_VARIABLE_NAME = "first";
+  private static final String FIRST_OLD_VALUE_VARIABLE_NAME = "firstOldValue";
+  private static final String PROPERTY_NAME_ARG_NAME = "propertyName";
+  private static final String OLD_VALUE_ARG_NAME = "oldValue";
+  private static final String NEW_VALUE_ARG_NAME = "newValue";
+
+  /**
+   * Returns the generator of batching support for the JavaBean annotated with the given
+   * <code>{@link GenerateJavaBean}</code>.
+   * @param javaBean the annotation on the JavaBean, or {@code null} if the JavaBean is not annotated.
+   * @param registry the generator of the listener registry of the JavaBean.
+   * @return the created generator, which generates nothing if the JavaBean does not batch changes.
+   */
+  static ChangeBatchGenerator changeBatchGenerator(GenerateJavaBean javaBean, ListenerRegistryGenerator registry) {
+    return new ChangeBatchGenerator(javaBean != null && javaBean.batchChanges(), registry);
+  }
+
+  private final boolean enabled;
+  private final ListenerRegistryGenerator registry;
+
+  private ChangeBatchGenerator(boolean enabled, ListenerRegistryGenerator registry) {
+    this.enabled = enabled;
+    this.registry = registry;
+  }
+
+  /**
+   * Indicates whether the JavaBean batches property changes.
+   * @return {@code true} if the JavaBean batches property changes; {@code false} otherwise.
+   */
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Generates, in the given type, the fields that keep track of the current batch and the methods
+   * {@code beginBatch()}, {@code endBatch()} and {@code batchPropertyChange(String, Object, Object)}.
+   * @param typeNode the type to add the members to.
+   */
+  void generateBatchMembers(JavacNode typeNode) {
+    if (!enabled || fieldAlreadyExists(BATCHED_CHANGES_FIELD_NAME, typeNode)) return;
+    generateBatchedChangesField(typeNode);
+    generateBatchDepthField(typeNode);
+    generateBeginBatchMethod(typeNode);
+    generateEndBatchMethod(typeNode);
+    generateBatchPropertyChangeMethod(typeNode);
+  }
+
+  private void generateBatchedChangesField(JavacNode typeNode) {
+    // private Map<String, PropertyChangeEvent> batchedChanges;
+    JCVariableDecl fieldDecl = newField().ofType(changesType(Map.class, typeNode))
+                                         .withName(BATCHED_CHANGES_FIELD_NAME)
+                                         .withModifiers(PRIVATE)
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generateBatchDepthField(JavacNode typeNode) {
+    // private int batchDepth;
+    JCVariableDecl fieldDecl = newField().ofType(typeNode.getTreeMaker().TypeIdent(TypeTags.INT))
+                                         .withName(BATCH_DEPTH_FIELD_NAME)
+                                         .withModifiers(PRIVATE)
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generateBeginBatchMethod(JavacNode typeNode) {
+    // public void beginBatch() {
+    //   if (batchDepth++ == 0) batchedChanges = new LinkedHashMap<String, PropertyChangeEvent>();
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression outermost = treeMaker.Binary(JCTree.EQ, treeMaker.Unary(JCTree.POSTINC, batchDepth(typeNode)),
+        intLiteral(0, typeNode));
+    JCExpression newChanges = treeMaker.NewClass(null, List.<JCExpression> nil(),
+        changesType(LinkedHashMap.class, typeNode), List.<JCExpression> nil(), null);
+    JCStatement startBatch = treeMaker.If(outermost, assign(batchedChanges(typeNode), newChanges, typeNode), null);
+    addMethod(typeNode, publicMethod(BEGIN_BATCH_METHOD_NAME, List.of(startBatch), typeNode));
+  }
+
+  private void generateEndBatchMethod(JavacNode typeNode) {
+    // public void endBatch() {
+    //   if (batchDepth == 0) throw new IllegalStateException("endBatch() called without beginBatch()");
+    //   if (--batchDepth > 0) return;
+    //   final Map<String, PropertyChangeEvent> changes = batchedChanges;
+    //   batchedChanges = null;
+    //   for (final PropertyChangeEvent event : changes.values()) propertySupport.firePropertyChange(event);
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression notStarted = treeMaker.Binary(JCTree.EQ, batchDepth(typeNode), intLiteral(0, typeNode));
+    JCExpression exception = treeMaker.NewClass(null, List.<JCExpression> nil(),
+        typeReference(IllegalStateException.class, typeNode),
+        List.<JCExpression> of(treeMaker.Literal("endBatch() called without beginBatch()")), null);
+    JCStatement throwIfNotStarted = treeMaker.If(notStarted, treeMaker.Throw(exception), null);
+    JCExpression nested = treeMaker.Binary(JCTree.GT, treeMaker.Unary(JCTree.PREDEC, batchDepth(typeNode)),
+        intLiteral(0, typeNode));
+    JCStatement returnIfNested = treeMaker.If(nested, treeMaker.Return(null), null);
+    JCStatement changesDecl = treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(CHANGES_VARIABLE_NAME),
+        changesType(Map.class, typeNode), batchedChanges(typeNode));
+    JCStatement clearChanges = assign(batchedChanges(typeNode), nullLiteral(typeNode), typeNode);
+    JCVariableDecl eventDecl = treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(EVENT_VARIABLE_NAME),
+        typeReference(PropertyChangeEvent.class, typeNode), null);
+    JCExpression values = treeMaker.Apply(List.<JCExpression> nil(),
+        chainDots(treeMaker, typeNode, CHANGES_VARIABLE_NAME, "values"), List.<JCExpression> nil());
+    JCStatement deliver = treeMaker.ForeachLoop(eventDecl, values,
+        registry.fireEventStatement(EVENT_VARIABLE_NAME, typeNode));
+    List<JCStatement> statements = List.of(throwIfNotStarted, returnIfNested, changesDecl, clearChanges, deliver);
+    addMethod(typeNode, publicMethod(END_BATCH_METHOD_NAME, statements, typeNode));
+  }
+
+  private void generateBatchPropertyChangeMethod(JavacNode typeNode) {
+    // private void batchPropertyChange(final String propertyName, final Object oldValue, final Object newValue) {
+    //   final PropertyChangeEvent first = batchedChanges.get(propertyName);
+    //   final Object firstOldValue = first == null ? oldValue : first.getOldValue();
+    //   // null -> x -> null is restored too: PropertyChangeSupport would deliver a null -> null change.
+    //   if (firstOldValue == newValue || firstOldValue != null && firstOldValue.equals(newValue))
+    //     batchedChanges.remove(propertyName);
+    //   else batchedChanges.put(propertyName, new PropertyChangeEvent(this, propertyName, firstOldValue, newValue));
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCStatement firstDecl = treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(FIRST_VARIABLE_NAME),
+        typeReference(PropertyChangeEvent.class, typeNode), changesCall("get", typeNode));
+    JCExpression noFirst = treeMaker.Binary(JCTree.EQ, name(FIRST_VARIABLE_NAME, typeNode), nullLiteral(typeNode));
+    JCExpression firstOldValue = treeMaker.Apply(List.<JCExpression> nil(),
+        chainDots(treeMaker, typeNode, FIRST_VARIABLE_NAME, "getOldValue"), List.<JCExpression> nil());
+    JCStatement firstOldValueDecl = treeMaker.VarDef(treeMaker.Modifiers(FINAL),
+        typeNode.toName(FIRST_OLD_VALUE_VARIABLE_NAME), typeReference(Object.class, typeNode),
+        treeMaker.Conditional(noFirst, name(OLD_VALUE_ARG_NAME, typeNode), firstOldValue));
+    JCExpression same = treeMaker.Binary(JCTree.EQ, name(FIRST_OLD_VALUE_VARIABLE_NAME, typeNode),
+        name(NEW_VALUE_ARG_NAME, typeNode));
+    JCExpression nonNull = treeMaker.Binary(JCTree.NE, name(FIRST_OLD_VALUE_VARIABLE_NAME, typeNode),
+        nullLiteral(typeNode));
+    JCExpression equal = treeMaker.Apply(List.<JCExpression> nil(),
+        chainDots(treeMaker, typeNode, FIRST_OLD_VALUE_VARIABLE_NAME, "equals"),
+        List.of(name(NEW_VALUE_ARG_NAME, typeNode)));
+    List<JCExpression> eventArgs = List.of(chainDots(treeMaker, typeNode, "this"),
+        name(PROPERTY_NAME_ARG_NAME, typeNode), name(FIRST_OLD_VALUE_VARIABLE_NAME, typeNode),
+        name(NEW_VALUE_ARG_NAME, typeNode));
+    JCExpression newEvent = treeMaker.NewClass(null, List.<JCExpression> nil(),
+        typeReference(PropertyChangeEvent.class, typeNode), eventArgs, null);
+    JCExpression put = changesCall("put", typeNode, newEvent);
+    JCExpression restored = treeMaker.Binary(JCTree.OR, same, treeMaker.Binary(JCTree.AND, nonNull, equal));
+    JCStatement removeOrPut = treeMaker.If(restored,
+        treeMaker.Exec(changesCall("remove", typeNode)), treeMaker.Exec(put));
+    List<JCVariableDecl> parameters = List.of(parameter(String.class, PROPERTY_NAME_ARG_NAME, typeNode),
+                                              parameter(Object.class, OLD_VALUE_ARG_NAME, typeNode),
+                                              parameter(Object.class, NEW_VALUE_ARG_NAME, typeNode));
+    JCMethodDecl methodDecl = newMethod().withModifiers(PRIVATE)
+                                         .withName(BATCH_PROPERTY_CHANGE_METHOD_NAME)
+                                         .withReturnType(treeMaker.Type(voidType()))
+                                         .withParameters(parameters)
+                                         .withBody(treeMaker.Block(0, List.of(firstDecl, firstOldValueDecl,
+                                             removeOrPut)))
+                                         .buildWith(typeNode);
+    addMethod(typeNode, methodDecl);
+  }
+
+  /**
+   * Creates the statement that either adds a property change to the current batch or, if there is no batch in
+   * progress, notifies the listeners right away. If the JavaBean does not batch changes, the given statement is
+   * returned unchanged.
+   * @param notify the statement that notifies the listeners.
+   * @param propertyNameFieldName the name of the constant holding the name of the property.
+   * @param oldValue the old value of the property.
+   * @param newValue the new value of the property.
+   * @param fieldNode the field the property belongs to.
+   * @return the created statement.
+   */
+  JCStatement batchOrNotifyStatement(JCStatement notify, String propertyNameFieldName, JCExpression oldValue,
+      JCExpression newValue, JavacNode fieldNode) {
+    // if (batchedChanges != null) batchPropertyChange(PROP_FIRST_NAME, old, this.firstName);
+    // else propertySupport.firePropertyChange(PROP_FIRST_NAME, old, this.firstName);
+    if (!enabled) return notify;
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCExpression batching = treeMaker.Binary(JCTree.NE, batchedChanges(fieldNode), nullLiteral(fieldNode));
+    List<JCExpression> args = List.of(name(propertyNameFieldName, fieldNode), oldValue, newValue);
+    JCExpression batch = treeMaker.Apply(List.<JCExpression> nil(), name(BATCH_PROPERTY_CHANGE_METHOD_NAME, fieldNode),
+        args);
+    return treeMaker.If(batching, treeMaker.Exec(batch), notify);
+  }
+
+  private JCMethodDecl publicMethod(String methodName, List<JCStatement> statements, JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return newMethod().withModifiers(PUBLIC)
+                      .withName(methodName)
+                      .withReturnType(treeMaker.Type(voidType()))
+                      .withParameters(List.<JCVariableDecl> nil())
+                      .withBody(treeMaker.Block(0, statements))
+                      .buildWith(typeNode);
+  }
+
+  private JCExpression changesCall(String methodName, JavacNode typeNode, JCExpression... extraArgs) {
+    // batchedChanges.get(propertyName)
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    List<JCExpression> args = List.<JCExpression> of(name(PROPERTY_NAME_ARG_NAME, typeNode)).appendList(
+        List.from(extraArgs));
+    JCExpression fn = chainDots(treeMaker, typeNode, BATCHED_CHANGES_FIELD_NAME, methodName);
+    return treeMaker.Apply(List.<JCExpression> nil(), fn, args);
+  }
+
+  private JCExpression changesType(Class<?> mapType, JavacNode typeNode) {
+    // Map<String, PropertyChangeEvent>
+    List<JCExpression> typeArgs = List.of(typeReference(String.class, typeNode),
+        typeReference(PropertyChangeEvent.class, typeNode));
+    return typeNode.getTreeMaker().TypeApply(typeReference(mapType, typeNode), typeArgs);
+  }
+
+  private JCVariableDecl parameter(Class<?> type, String parameterName, JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(parameterName), typeReference(type, typeNode),
+        null);
+  }
+
+  private JCStatement assign(JCExpression variable, JCExpression value, JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.Exec(treeMaker.Assign(variable, value));
+  }
+
+  private JCExpression batchedChanges(JavacNode node) {
+    return name(BATCHED_CHANGES_FIELD_NAME, node);
+  }
+
+  private JCExpression batchDepth(JavacNode node) {
+    return name(BATCH_DEPTH_FIELD_NAME, node);
+  }
+
+  private JCExpression intLiteral(int value, JavacNode node) {
+    return node.getTreeMaker().Literal(TypeTags.INT, value);
+  }
+
+  private JCExpression nullLiteral(JavacNode node) {
+    return node.getTreeMaker().Literal(TypeTags.BOT, null);
+  }
+}
@@ -0,0 +1,422 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.javac.handlers;
+
+import static com.sun.tools.javac.code.Flags.*;
+import static lombok.core.util.Names.*;
+import static lombok.core.util.PrimitiveType.*;
+import static lombok.javac.handlers.FieldBuilder.newField;
+import static lombok.javac.handlers.JCNoType.voidType;
+import static lombok.javac.handlers.JavacHandlerUtil.*;
+import static lombok.javac.handlers.ListenerRegistryGenerator.*;
+import static lombok.javac.handlers.Lombok.*;
+import static lombok.javac.handlers.MemberChecks.fieldAlreadyExists;
+import static lombok.javac.handlers.MethodBuilder.newMethod;
+
+import java.util.Arrays;
+
+import lombok.GenerateJavaBean;
+import lombok.core.util.PrimitiveType;
+import lombok.javac.JavacNode;
+
+import com.sun.tools.javac.code.TypeTags;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.JCTree.JCClassDecl;
+import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.JCTree.JCMethodDecl;
+import com.sun.tools.javac.tree.JCTree.JCStatement;
+import com.sun.tools.javac.tree.JCTree.JCTypeParameter;
+import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
+import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.util.List;
+
+/**
+ * Generates the interface {@code ChangeCallback} in a JavaBean, the members that keep track of the registered
+ * callbacks, and the code that setters use to invoke them. Callbacks are stored in a {@code volatile} array that is
+ * copied and replaced, using compare-and-set, every time a callback is added or removed. Invoking them does not lock,
+ * create events or box values: values of primitive properties are passed as {@code long} bits.
+ *
+ * @author Alex Ruiz
+ */
+class ChangeCallbackGenerator {
+
+  private static final String CALLBACK_ARG_NAME = "callback";
+  private static final String SOURCE_ARG_NAME = "source";
+  private static final String PROPERTY_ORDINAL_ARG_NAME = "propertyOrdinal";
+  private static final String ORDINAL_ARG_NAME = "ordinal";
+  private static final String OLD_BITS_ARG_NAME = "oldBits";
+  private static final String NEW_BITS_ARG_NAME = "newBits";
+  private static final String OLD_VALUE_ARG_NAME = "oldValue";
+  private static final String NEW_VALUE_ARG_NAME = "newValue";
+  private static final String CURRENT_VARIABLE_NAME = "current";
+  private static final String UPDATED_VARIABLE_NAME = "updated";
+  private static final String INDEX_VARIABLE_NAME = "index";
+
+  /**
+   * Returns the generator of change callbacks for the JavaBean annotated with the given
+   * <code>{@link GenerateJavaBean}</code>.
+   * @param javaBean the annotation on the JavaBean, or {@code null} if the JavaBean is not annotated.
+   * @param registry the generator of the listener registry of the JavaBean.
+   * @return the created generator, which generates nothing if the JavaBean does not have change callbacks.
+   */
+  static ChangeCallbackGenerator changeCallbackGenerator(GenerateJavaBean javaBean,
+      ListenerRegistryGenerator registry) {
+    return new ChangeCallbackGenerator(javaBean != null && javaBean.changeCallbacks(), registry);
+  }
+
+  private final boolean enabled;
+  private final ListenerRegistryGenerator registry;
+
+  private ChangeCallbackGenerator(boolean enabled, ListenerRegistryGenerator registry) {
+    this.enabled = enabled;
+    this.registry = registry;
+  }
+
+  /**
+   * Indicates whether the JavaBean has change callbacks.
+   * @return {@code true} if the JavaBean has change callbacks; {@code false} otherwise.
+   */
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Generates, in the given type, the interface {@code ChangeCallback}, the fields that store the registered callbacks
+   * and the methods {@code addChangeCallback}, {@code removeChangeCallback} and {@code notifyChangeCallbacks}.
+   * @param typeNode the type to add the members to.
+   */
+  void generateCallbackMembers(JavacNode typeNode) {
+    if (!enabled || fieldAlreadyExists(CHANGE_CALLBACKS_FIELD_NAME, typeNode)) return;
+    generateCallbackType(typeNode);
+    generateNoCallbacksField(typeNode);
+    registry.generateUpdaterField(CHANGE_CALLBACKS_UPDATER_FIELD_NAME, CHANGE_CALLBACKS_FIELD_NAME,
+        callbackArrayType(typeNode), callbackArrayType(typeNode), typeNode);
+    generateCallbacksField(typeNode);
+    addMethod(typeNode, callbackMethod(ADD_CHANGE_CALLBACK_METHOD_NAME, addCallbackStatements(typeNode), typeNode));
+    addMethod(typeNode, callbackMethod(REMOVE_CHANGE_CALLBACK_METHOD_NAME, removeCallbackStatements(typeNode),
+        typeNode));
+    addMethod(typeNode, notifyCallbacksMethod(true, typeNode));
+    addMethod(typeNode, notifyCallbacksMethod(false, typeNode));
+  }
+
+  private void generateCallbackType(JavacNode typeNode) {
+    // public static interface ChangeCallback {
+    //   void onChange(Person source, int propertyOrdinal, long oldBits, long newBits);
+    //   void onChange(Person source, int propertyOrdinal, Object oldValue, Object newValue);
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    List<JCTree> methods = List.<JCTree> of(onChangeMethod(true, typeNode), onChangeMethod(false, typeNode));
+    JCClassDecl typeDecl = treeMaker.ClassDef(treeMaker.Modifiers(PUBLIC | STATIC | INTERFACE),
+        typeNode.toName(CHANGE_CALLBACK_TYPE_NAME), List.<JCTypeParameter> nil(), null, List.<JCExpression> nil(),
+        methods);
+    addType(typeNode, typeDecl);
+  }
+
+  private JCMethodDecl onChangeMethod(boolean bits, JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    List<JCVariableDecl> parameters = List.of(parameter(name(typeNode.getName(), typeNode), SOURCE_ARG_NAME, 0,
+                                                  typeNode),
+                                              parameter(intType(typeNode), PROPERTY_ORDINAL_ARG_NAME, 0, typeNode),
+                                              parameter(valueType(bits, typeNode), oldValueName(bits), 0, typeNode),
+                                              parameter(valueType(bits, typeNode), newValueName(bits), 0, typeNode));
+    return newMethod().withModifiers(PUBLIC | ABSTRACT)
+                      .withName(ON_CHANGE_METHOD_NAME)
+                      .withReturnType(treeMaker.Type(voidType()))
+                      .withParameters(parameters)
+                      .buildWith(typeNode);
+  }
+
+  private void generateNoCallbacksField(JavacNode typeNode) {
+    // private static final ChangeCallback[] NO_CHANGE_CALLBACKS = new ChangeCallback[0];
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression emptyArray = treeMaker.NewArray(callbackType(typeNode), List.of(intLiteral(0, typeNode)), null);
+    JCVariableDecl fieldDecl = newField().ofType(callbackArrayType(typeNode))
+                                         .withName(NO_CHANGE_CALLBACKS_FIELD_NAME)
+                                         .withModifiers(PRIVATE | STATIC | FINAL)
+                                         .withInitializer(emptyArray)
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generateCallbacksField(JavacNode typeNode) {
+    // private volatile ChangeCallback[] changeCallbacks = NO_CHANGE_CALLBACKS;
+    JCVariableDecl fieldDecl = newField().ofType(callbackArrayType(typeNode))
+                                         .withName(CHANGE_CALLBACKS_FIELD_NAME)
+                                         .withModifiers(PRIVATE | VOLATILE)
+                                         .withInitializer(name(NO_CHANGE_CALLBACKS_FIELD_NAME, typeNode))
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private JCMethodDecl callbackMethod(String methodName, List<JCStatement> statements, JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    List<JCVariableDecl> parameters = List.of(parameter(callbackType(typeNode), CALLBACK_ARG_NAME, FINAL, typeNode));
+    return newMethod().withModifiers(PUBLIC)
+                      .withName(methodName)
+                      .withReturnType(treeMaker.Type(voidType()))
+                      .withParameters(parameters)
+                      .withBody(treeMaker.Block(0, statements))
+                      .buildWith(typeNode);
+  }
+
+  private List<JCStatement> addCallbackStatements(JavacNode typeNode) {
+    // if (callback == null) return;
+    // while (true) {
+    //   final ChangeCallback[] current = this.changeCallbacks;
+    //   final ChangeCallback[] updated = Arrays.copyOf(current, current.length + 1);
+    //   updated[current.length] = callback;
+    //   if (CHANGE_CALLBACKS_UPDATER.compareAndSet(this, current, updated)) return;
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression fn = chainDots(treeMaker, typeNode, append(splitNameOf(Arrays.class), "copyOf"));
+    List<JCExpression> args = List.of(name(CURRENT_VARIABLE_NAME, typeNode),
+        treeMaker.Binary(JCTree.PLUS, currentLength(typeNode), intLiteral(1, typeNode)));
+    JCExpression copy = treeMaker.Apply(List.<JCExpression> nil(), fn, args);
+    JCExpression slot = treeMaker.Indexed(name(UPDATED_VARIABLE_NAME, typeNode), currentLength(typeNode));
+    List<JCStatement> loopBody = List.of(currentCallbacksDecl(typeNode),
+                                         localCallbacksDecl(UPDATED_VARIABLE_NAME, copy, typeNode),
+                                         assign(slot, name(CALLBACK_ARG_NAME, typeNode), typeNode),
+                                         returnIfReplaced(typeNode));
+    return List.of(returnIfCallbackIsNull(typeNode), retryLoop(loopBody, typeNode));
+  }
+
+  private List<JCStatement> removeCallbackStatements(JavacNode typeNode) {
+    // if (callback == null) return;
+    // while (true) {
+    //   final ChangeCallback[] current = this.changeCallbacks;
+    //   int index = 0;
+    //   while (index < current.length && !callback.equals(current[index])) index++;
+    //   if (index == current.length) return;
+    //   final ChangeCallback[] updated = new ChangeCallback[current.length - 1];
+    //   System.arraycopy(current, 0, updated, 0, index);
+    //   System.arraycopy(current, index + 1, updated, index, updated.length - index);
+    //   if (CHANGE_CALLBACKS_UPDATER.compareAndSet(this, current, updated)) return;
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression callbackAtIndex = treeMaker.Indexed(name(CURRENT_VARIABLE_NAME, typeNode), index(typeNode));
+    JCExpression isCallback = treeMaker.Apply(List.<JCExpression> nil(),
+        chainDots(treeMaker, typeNode, CALLBACK_ARG_NAME, "equals"), List.of(callbackAtIndex));
+    JCExpression keepSearching = treeMaker.Binary(JCTree.AND, indexBeforeEnd(typeNode),
+        treeMaker.Unary(JCTree.NOT, isCallback));
+    JCStatement search = treeMaker.WhileLoop(keepSearching, treeMaker.Exec(incrementIndex(typeNode)));
+    JCExpression notFound = treeMaker.Binary(JCTree.EQ, index(typeNode), currentLength(typeNode));
+    JCStatement returnIfNotFound = treeMaker.If(notFound, treeMaker.Return(null), null);
+    JCExpression newLength = treeMaker.Binary(JCTree.MINUS, currentLength(typeNode), intLiteral(1, typeNode));
+    JCExpression newArray = treeMaker.NewArray(callbackType(typeNode), List.of(newLength), null);
+    JCExpression updatedLength = chainDots(treeMaker, typeNode, UPDATED_VARIABLE_NAME, "length");
+    JCExpression indexAfterRemoved = treeMaker.Binary(JCTree.PLUS, index(typeNode), intLiteral(1, typeNode));
+    JCExpression tailLength = treeMaker.Binary(JCTree.MINUS, updatedLength, index(typeNode));
+    List<JCStatement> loopBody = List.of(currentCallbacksDecl(typeNode),
+                                         indexDecl(typeNode),
+                                         search,
+                                         returnIfNotFound,
+                                         localCallbacksDecl(UPDATED_VARIABLE_NAME, newArray, typeNode),
+                                         arrayCopy(intLiteral(0, typeNode), intLiteral(0, typeNode), index(typeNode),
+                                             typeNode),
+                                         arrayCopy(indexAfterRemoved, index(typeNode), tailLength, typeNode),
+                                         returnIfReplaced(typeNode));
+    return List.of(returnIfCallbackIsNull(typeNode), retryLoop(loopBody, typeNode));
+  }
+
+  private JCMethodDecl notifyCallbacksMethod(boolean bits, JavacNode typeNode) {
+    // private void notifyChangeCallbacks(final int ordinal, final long oldBits, final long newBits) {
+    //   final ChangeCallback[] current = this.changeCallbacks;
+    //   for (int index = 0; index < current.length; index++)
+    //     current[index].onChange(this, ordinal, oldBits, newBits);
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression callback = treeMaker.Indexed(name(CURRENT_VARIABLE_NAME, typeNode), index(typeNode));
+    List<JCExpression> args = List.of(chainDots(treeMaker, typeNode, "this"), name(ORDINAL_ARG_NAME, typeNode),
+        name(oldValueName(bits), typeNode), name(newValueName(bits), typeNode));
+    JCExpression onChange = treeMaker.Apply(List.<JCExpression> nil(),
+        treeMaker.Select(callback, typeNode.toName(ON_CHANGE_METHOD_NAME)), args);
+    JCStatement invokeEach = treeMaker.ForLoop(List.of(indexDecl(typeNode)), indexBeforeEnd(typeNode),
+        List.of(treeMaker.Exec(incrementIndex(typeNode))), treeMaker.Exec(onChange));
+    List<JCVariableDecl> parameters = List.of(parameter(intType(typeNode), ORDINAL_ARG_NAME, FINAL, typeNode),
+                                              parameter(valueType(bits, typeNode), oldValueName(bits), FINAL,
+                                                  typeNode),
+                                              parameter(valueType(bits, typeNode), newValueName(bits), FINAL,
+                                                  typeNode));
+    return newMethod().withModifiers(PRIVATE)
+                      .withName(NOTIFY_CHANGE_CALLBACKS_METHOD_NAME)
+                      .withReturnType(treeMaker.Type(voidType()))
+                      .withParameters(parameters)
+                      .withBody(treeMaker.Block(0, List.of(currentCallbacksDecl(typeNode), invokeEach)))
+                      .buildWith(typeNode);
+  }
+
+  /**
+   * Adds, to the condition that evaluates to {@code true} when no listener would receive a change of a property, the
+   * condition that no callback is registered. If the JavaBean does not have change callbacks, the given condition is
+   * returned unchanged.
+   * @param noListeners the condition that evaluates to {@code true} when there are no listeners.
+   * @param fieldNode the field the property belongs to.
+   * @return the created condition.
+   */
+  JCExpression noListenersOrCallbacksCondition(JCExpression noListeners, JavacNode fieldNode) {
+    // this.changeCallbacks.length == 0 && !propertySupport.hasListeners(PROP_FIRST_NAME)
+    if (!enabled) return noListeners;
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCExpression length = chainDots(treeMaker, fieldNode, "this", CHANGE_CALLBACKS_FIELD_NAME, "length");
+    JCExpression noCallbacks = treeMaker.Binary(JCTree.EQ, length, intLiteral(0, fieldNode));
+    return treeMaker.Binary(JCTree.AND, noCallbacks, noListeners);
+  }
+
+  /**
+   * Creates the statement that invokes the change callbacks if the value of a property changed.
+   * @param primitiveType the type of the property, or {@code null} if the property is not of a primitive type.
+   * @param changed the condition that evaluates to {@code true} when the value of the property changed.
+   * @param oldValue the old value of the property.
+   * @param newValue the new value of the property.
+   * @param fieldNode the field the property belongs to.
+   * @return the created statement.
+   */
+  JCStatement notifyCallbacksStatement(PrimitiveType primitiveType, JCExpression changed, JCExpression oldValue,
+      JCExpression newValue, JavacNode fieldNode) {
+    // if (old != this.age) notifyChangeCallbacks(ORDINAL_AGE, old, this.age);
+    // if (Double.compare(old, this.weight) != 0)
+    //   notifyChangeCallbacks(ORDINAL_WEIGHT, Double.doubleToLongBits(old), Double.doubleToLongBits(this.weight));
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCExpression ordinal = name(nameOfOrdinalConstantBasedOnProperty(fieldNode.getName()), fieldNode);
+    List<JCExpression> args = List.of(ordinal, bits(primitiveType, oldValue, fieldNode),
+        bits(primitiveType, newValue, fieldNode));
+    JCExpression notify = treeMaker.Apply(List.<JCExpression> nil(),
+        name(NOTIFY_CHANGE_CALLBACKS_METHOD_NAME, fieldNode), args);
+    return treeMaker.If(changed, treeMaker.Exec(notify), null);
+  }
+
+  private JCExpression bits(PrimitiveType primitiveType, JCExpression value, JavacNode fieldNode) {
+    // other integral types are widened to long.
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    if (primitiveType == BOOLEAN)
+      return treeMaker.Conditional(value, treeMaker.Literal(TypeTags.LONG, 1L), treeMaker.Literal(TypeTags.LONG, 0L));
+    if (primitiveType == FLOAT) return wrapperCall(primitiveType, "floatToIntBits", value, fieldNode);
+    if (primitiveType == DOUBLE) return wrapperCall(primitiveType, "doubleToLongBits", value, fieldNode);
+    return value;
+  }
+
+  private JCExpression wrapperCall(PrimitiveType primitiveType, String methodName, JCExpression value,
+      JavacNode fieldNode) {
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCExpression fn = chainDots(treeMaker, fieldNode, append(splitNameOf(primitiveType.wrapperType()), methodName));
+    return treeMaker.Apply(List.<JCExpression> nil(), fn, List.of(value));
+  }
+
+  private JCStatement returnIfCallbackIsNull(JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression isNull = treeMaker.Binary(JCTree.EQ, name(CALLBACK_ARG_NAME, typeNode),
+        treeMaker.Literal(TypeTags.BOT, null));
+    return treeMaker.If(isNull, treeMaker.Return(null), null);
+  }
+
+  private JCStatement retryLoop(List<JCStatement> body, JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.WhileLoop(treeMaker.Literal(TypeTags.BOOLEAN, 1), treeMaker.Block(0, body));
+  }
+
+  private JCStatement currentCallbacksDecl(JavacNode typeNode) {
+    JCExpression callbacks = chainDots(typeNode.getTreeMaker(), typeNode, "this", CHANGE_CALLBACKS_FIELD_NAME);
+    return localCallbacksDecl(CURRENT_VARIABLE_NAME, callbacks, typeNode);
+  }
+
+  private JCStatement localCallbacksDecl(String variableName, JCExpression init, JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(variableName), callbackArrayType(typeNode),
+        init);
+  }
+
+  private JCStatement returnIfReplaced(JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression fn = chainDots(treeMaker, typeNode, CHANGE_CALLBACKS_UPDATER_FIELD_NAME, "compareAndSet");
+    List<JCExpression> args = List.of(chainDots(treeMaker, typeNode, "this"), name(CURRENT_VARIABLE_NAME, typeNode),
+        name(UPDATED_VARIABLE_NAME, typeNode));
+    JCExpression replaced = treeMaker.Apply(List.<JCExpression> nil(), fn, args);
+    return treeMaker.If(replaced, treeMaker.Return(null), null);
+  }
+
+  private JCStatement arrayCopy(JCExpression sourcePosition, JCExpression destinationPosition, JCExpression length,
+      JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression fn = chainDots(treeMaker, typeNode, "java", "lang", "System", "arraycopy");
+    List<JCExpression> args = List.of(name(CURRENT_VARIABLE_NAME, typeNode), sourcePosition,
+        name(UPDATED_VARIABLE_NAME, typeNode), destinationPosition, length);
+    return treeMaker.Exec(treeMaker.Apply(List.<JCExpression> nil(), fn, args));
+  }
+
+  private JCStatement indexDecl(JavacNode typeNode) {
+    // int index = 0;
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.VarDef(treeMaker.Modifiers(0), typeNode.toName(INDEX_VARIABLE_NAME),
+        treeMaker.TypeIdent(TypeTags.INT), intLiteral(0, typeNode));
+  }
+
+  private JCExpression indexBeforeEnd(JavacNode typeNode) {
+    // index < current.length
+    return typeNode.getTreeMaker().Binary(JCTree.LT, index(typeNode), currentLength(typeNode));
+  }
+
+  private JCExpression incrementIndex(JavacNode typeNode) {
+    // index++
+    return typeNode.getTreeMaker().Unary(JCTree.POSTINC, index(typeNode));
+  }
+
+  private JCVariableDecl parameter(JCExpression type, String parameterName, long modifiers, JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.VarDef(treeMaker.Modifiers(modifiers), typeNode.toName(parameterName), type, null);
+  }
+
+  private JCExpression valueType(boolean bits, JavacNode typeNode) {
+    // long for the bits of primitive values, Object for references.
+    if (bits) return typeNode.getTreeMaker().TypeIdent(TypeTags.LONG);
+    return typeReference(Object.class, typeNode);
+  }
+
+  private String oldValueName(boolean bits) {
+    return bits ? OLD_BITS_ARG_NAME : OLD_VALUE_ARG_NAME;
+  }
+
+  private String newValueName(boolean bits) {
+    return bits ? NEW_BITS_ARG_NAME : NEW_VALUE_ARG_NAME;
+  }
+
+  private JCExpression intType(JavacNode typeNode) {
+    return typeNode.getTreeMaker().TypeIdent(TypeTags.INT);
+  }
+
+  private JCStatement assign(JCExpression variable, JCExpression value, JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.Exec(treeMaker.Assign(variable, value));
+  }
+
+  private JCExpression callbackType(JavacNode typeNode) {
+    return name(CHANGE_CALLBACK_TYPE_NAME, typeNode);
+  }
+
+  private JCExpression callbackArrayType(JavacNode typeNode) {
+    return typeNode.getTreeMaker().TypeArray(callbackType(typeNode));
+  }
+
+  private JCExpression currentLength(JavacNode typeNode) {
+    return chainDots(typeNode.getTreeMaker(), typeNode, CURRENT_VARIABLE_NAME, "length");
+  }
+
+  private JCExpression index(JavacNode typeNode) {
+    return name(INDEX_VARIABLE_NAME, typeNode);
+  }
+
+  private JCExpression intLiteral(int value, JavacNode node) {
+    return node.getTreeMaker().Literal(TypeTags.INT, value);
+  }
+}
@@ -0,0 +1,328 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.javac.handlers;
+
+import static com.sun.tools.javac.code.Flags.*;
+import static lombok.core.util.Names.*;
+import static lombok.javac.handlers.BoundProperties.boundPropertiesOf;
+import static lombok.javac.handlers.FieldBuilder.newField;
+import static lombok.javac.handlers.JCNoType.voidType;
+import static lombok.javac.handlers.JavacHandlerUtil.chainDots;
+import static lombok.javac.handlers.ListenerRegistryGenerator.*;
+import static lombok.javac.handlers.Lombok.*;
+import static lombok.javac.handlers.MemberChecks.*;
+import static lombok.javac.handlers.MethodBuilder.newMethod;
+
+import java.util.Arrays;
+
+import lombok.GenerateJavaBean;
+import lombok.javac.JavacNode;
+
+import com.sun.tools.javac.code.TypeTags;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.JCTree.JCClassDecl;
+import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.JCTree.JCMethodDecl;
+import com.sun.tools.javac.tree.JCTree.JCStatement;
+import com.sun.tools.javac.tree.JCTree.JCTypeParameter;
+import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
+import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.util.List;
+
+/**
+ * Generates the change journal of a JavaBean: the interface {@code ChangeConsumer}, the arrays that hold the last value
+ * written to each property, the method that setters use to add a change, and the method {@code drainChanges} that
+ * passes the journaled changes to a consumer. The journal has one slot per property ordinal (see
+ * <code>{@link BoundProperties}</code>), so it never holds more entries than the JavaBean has bound properties, and is
+ * guarded by the lock of its array of ordinals. That lock does not cover the writes of the fields, so the journal only
+ * matches the fields of a JavaBean that has a single writer.
+ *
+ * @author Alex Ruiz
+ */
+final class ChangeJournalGenerator {
+
+  private static final String PROPERTY_ORDINAL_ARG_NAME = "propertyOrdinal";
+  private static final String ORDINAL_ARG_NAME = "ordinal";
+  private static final String NEW_VALUE_ARG_NAME = "newValue";
+  private static final String CONSUMER_ARG_NAME = "consumer";
+  private static final String ORDINALS_VARIABLE_NAME = "ordinals";
+  private static final String VALUES_VARIABLE_NAME = "values";
+  private static final String INDEX_VARIABLE_NAME = "index";
+
+  /**
+   * Returns the generator of the change journal for the JavaBean annotated with the given
+   * <code>{@link GenerateJavaBean}</code>.
+   * @param javaBean the annotation on the JavaBean, or {@code null} if the JavaBean is not annotated.
+   * @return the created generator, which generates nothing if the JavaBean does not have a change journal.
+   */
+  static ChangeJournalGenerator changeJournalGenerator(GenerateJavaBean javaBean) {
+    return new ChangeJournalGenerator(javaBean != null && javaBean.changeJournal());
+  }
+
+  private final boolean enabled;
+
+  private ChangeJournalGenerator(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Indicates whether the JavaBean has a change journal.
+   * @return {@code true} if the JavaBean has a change journal; {@code false} otherwise.
+   */
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Indicates whether the setter of the given field adds its changes to the journal: the JavaBean must have a change
+   * journal, and the field must be a bound property that is not {@code static}.
+   * @param fieldNode the given field.
+   * @param typeNode the type declaring the field.
+   * @return {@code true} if the setter of the given field adds its changes to the journal; {@code false} otherwise.
+   */
+  boolean journals(JavacNode fieldNode, JavacNode typeNode) {
+    if (!enabled) return false;
+    JCVariableDecl fieldDecl = (JCVariableDecl) fieldNode.get();
+    if ((fieldDecl.mods.flags & STATIC) != 0) return false;
+    return boundPropertiesOf(typeNode).ordinalOf(fieldNode.getName()) >= 0;
+  }
+
+  /**
+   * Generates, in the given type, the interface {@code ChangeConsumer}, the fields that hold the journal and the
+   * methods {@code journalChange} and {@code drainChanges}.
+   * @param typeNode the type to add the members to.
+   */
+  void generateJournalMembers(JavacNode typeNode) {
+    if (!enabled || fieldAlreadyExists(JOURNAL_ORDINALS_FIELD_NAME, typeNode)) return;
+    int propertyCount = boundPropertiesOf(typeNode).names().size();
+    if (propertyCount == 0) return;
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    generateConsumerType(typeNode);
+    generateJournalField(JOURNAL_ORDINALS_FIELD_NAME, intType(typeNode), propertyCount, typeNode);
+    generateJournalField(JOURNAL_VALUES_FIELD_NAME, objectType(typeNode), propertyCount, typeNode);
+    generateJournalField(JOURNALED_FIELD_NAME, treeMaker.TypeIdent(TypeTags.BOOLEAN), propertyCount, typeNode);
+    generateJournalSizeField(typeNode);
+    addMethod(typeNode, journalChangeMethod(typeNode));
+    addMethod(typeNode, drainChangesMethod(typeNode));
+  }
+
+  private void generateConsumerType(JavacNode typeNode) {
+    // public static interface ChangeConsumer {
+    //   void accept(int propertyOrdinal, Object newValue);
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    List<JCVariableDecl> parameters = List.of(parameter(intType(typeNode), PROPERTY_ORDINAL_ARG_NAME, 0, typeNode),
+                                              parameter(objectType(typeNode), NEW_VALUE_ARG_NAME, 0, typeNode));
+    JCMethodDecl accept = newMethod().withModifiers(PUBLIC | ABSTRACT)
+                                     .withName(ACCEPT_METHOD_NAME)
+                                     .withReturnType(treeMaker.Type(voidType()))
+                                     .withParameters(parameters)
+                                     .buildWith(typeNode);
+    JCClassDecl typeDecl = treeMaker.ClassDef(treeMaker.Modifiers(PUBLIC | STATIC | INTERFACE),
+        typeNode.toName(CHANGE_CONSUMER_TYPE_NAME), List.<JCTypeParameter> nil(), null, List.<JCExpression> nil(),
+        List.<JCTree> of(accept));
+    addType(typeNode, typeDecl);
+  }
+
+  private void generateJournalField(String fieldName, JCExpression elementType, int propertyCount,
+      JavacNode typeNode) {
+    // private final int[] journalOrdinals = new int[2];
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression newArray = treeMaker.NewArray(elementType, List.of(intLiteral(propertyCount, typeNode)), null);
+    JCVariableDecl fieldDecl = newField().ofType(treeMaker.TypeArray(elementType))
+                                         .withName(fieldName)
+                                         .withModifiers(PRIVATE | FINAL)
+                                         .withInitializer(newArray)
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generateJournalSizeField(JavacNode typeNode) {
+    // private int journalSize;
+    JCVariableDecl fieldDecl = newField().ofType(intType(typeNode))
+                                         .withName(JOURNAL_SIZE_FIELD_NAME)
+                                         .withModifiers(PRIVATE)
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private JCMethodDecl journalChangeMethod(JavacNode typeNode) {
+    // private void journalChange(final int ordinal, final Object newValue) {
+    //   synchronized (this.journalOrdinals) {
+    //     if (!this.journaled[ordinal]) {
+    //       this.journaled[ordinal] = true;
+    //       this.journalOrdinals[this.journalSize++] = ordinal;
+    //     }
+    //     this.journalValues[ordinal] = newValue;
+    //   }
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression nextSlot = treeMaker.Indexed(journalField(JOURNAL_ORDINALS_FIELD_NAME, typeNode),
+        treeMaker.Unary(JCTree.POSTINC, journalField(JOURNAL_SIZE_FIELD_NAME, typeNode)));
+    List<JCStatement> append = List.of(assign(journaled(name(ORDINAL_ARG_NAME, typeNode), typeNode),
+                                           treeMaker.Literal(TypeTags.BOOLEAN, 1), typeNode),
+                                       assign(nextSlot, name(ORDINAL_ARG_NAME, typeNode), typeNode));
+    JCStatement appendIfNotJournaled = treeMaker.If(treeMaker.Unary(JCTree.NOT, journaled(name(ORDINAL_ARG_NAME,
+        typeNode), typeNode)), treeMaker.Block(0, append), null);
+    JCStatement setValue = assign(journalValue(name(ORDINAL_ARG_NAME, typeNode), typeNode),
+        name(NEW_VALUE_ARG_NAME, typeNode), typeNode);
+    List<JCVariableDecl> parameters = List.of(parameter(intType(typeNode), ORDINAL_ARG_NAME, FINAL, typeNode),
+                                              parameter(objectType(typeNode), NEW_VALUE_ARG_NAME, FINAL, typeNode));
+    return newMethod().withModifiers(PRIVATE)
+                      .withName(JOURNAL_CHANGE_METHOD_NAME)
+                      .withReturnType(treeMaker.Type(voidType()))
+                      .withParameters(parameters)
+                      .withBody(treeMaker.Block(0, List.of(locked(List.of(appendIfNotJournaled, setValue),
+                          typeNode))))
+                      .buildWith(typeNode);
+  }
+
+  private JCMethodDecl drainChangesMethod(JavacNode typeNode) {
+    // public void drainChanges(final ChangeConsumer consumer) {
+    //   final int[] ordinals;
+    //   final Object[] values;
+    //   synchronized (this.journalOrdinals) {
+    //     ordinals = java.util.Arrays.copyOf(this.journalOrdinals, this.journalSize);
+    //     values = new Object[this.journalSize];
+    //     for (int index = 0; index < ordinals.length; index++) {
+    //       values[index] = this.journalValues[ordinals[index]];
+    //       this.journalValues[ordinals[index]] = null;
+    //       this.journaled[ordinals[index]] = false;
+    //     }
+    //     this.journalSize = 0;
+    //   }
+    //   for (int index = 0; index < ordinals.length; index++) consumer.accept(ordinals[index], values[index]);
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression copyFn = chainDots(treeMaker, typeNode, append(splitNameOf(Arrays.class), "copyOf"));
+    JCExpression copy = treeMaker.Apply(List.<JCExpression> nil(), copyFn, List.of(journalField(
+        JOURNAL_ORDINALS_FIELD_NAME, typeNode), journalField(JOURNAL_SIZE_FIELD_NAME, typeNode)));
+    JCExpression newValues = treeMaker.NewArray(objectType(typeNode), List.of(journalField(JOURNAL_SIZE_FIELD_NAME,
+        typeNode)), null);
+    List<JCStatement> clearEach = List.of(assign(value(typeNode), journalValue(ordinal(typeNode), typeNode),
+                                              typeNode),
+                                          assign(journalValue(ordinal(typeNode), typeNode),
+                                              treeMaker.Literal(TypeTags.BOT, null), typeNode),
+                                          assign(journaled(ordinal(typeNode), typeNode),
+                                              treeMaker.Literal(TypeTags.BOOLEAN, 0), typeNode));
+    List<JCStatement> drain = List.of(assign(name(ORDINALS_VARIABLE_NAME, typeNode), copy, typeNode),
+                                      assign(name(VALUES_VARIABLE_NAME, typeNode), newValues, typeNode),
+                                      forEachOrdinal(treeMaker.Block(0, clearEach), typeNode),
+                                      assign(journalField(JOURNAL_SIZE_FIELD_NAME, typeNode), intLiteral(0,
+                                          typeNode), typeNode));
+    JCExpression accept = treeMaker.Apply(List.<JCExpression> nil(), chainDots(treeMaker, typeNode,
+        CONSUMER_ARG_NAME, ACCEPT_METHOD_NAME), List.of(ordinal(typeNode), value(typeNode)));
+    List<JCStatement> statements = List.of(localDecl(ORDINALS_VARIABLE_NAME, treeMaker.TypeArray(intType(typeNode)),
+                                               typeNode),
+                                           localDecl(VALUES_VARIABLE_NAME, treeMaker.TypeArray(objectType(
+                                               typeNode)), typeNode),
+                                           locked(drain, typeNode),
+                                           forEachOrdinal(treeMaker.Exec(accept), typeNode));
+    List<JCVariableDecl> parameters = List.of(parameter(name(CHANGE_CONSUMER_TYPE_NAME, typeNode), CONSUMER_ARG_NAME,
+        FINAL, typeNode));
+    return newMethod().withModifiers(PUBLIC)
+                      .withName(DRAIN_CHANGES_METHOD_NAME)
+                      .withReturnType(treeMaker.Type(voidType()))
+                      .withParameters(parameters)
+                      .withBody(treeMaker.Block(0, statements))
+                      .buildWith(typeNode);
+  }
+
+  /**
+   * Creates the statement that adds the new value of the given field to the journal (e.g.
+   * {@code journalChange(ORDINAL_FIRST_NAME, firstName);}.)
+   * @param fieldNode the field written by the setter.
+   * @return the created statement.
+   */
+  JCStatement journalChangeStatement(JavacNode fieldNode) {
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCVariableDecl fieldDecl = (JCVariableDecl) fieldNode.get();
+    JCExpression ordinal = name(nameOfOrdinalConstantBasedOnProperty(fieldNode.getName()), fieldNode);
+    return treeMaker.Exec(treeMaker.Apply(List.<JCExpression> nil(), name(JOURNAL_CHANGE_METHOD_NAME, fieldNode),
+        List.of(ordinal, treeMaker.Ident(fieldDecl.name))));
+  }
+
+  private JCStatement locked(List<JCStatement> statements, JavacNode typeNode) {
+    // synchronized (this.journalOrdinals) { ... }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.Synchronized(journalField(JOURNAL_ORDINALS_FIELD_NAME, typeNode), treeMaker.Block(0, statements));
+  }
+
+  private JCStatement forEachOrdinal(JCStatement body, JavacNode typeNode) {
+    // for (int index = 0; index < ordinals.length; index++) ...
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCVariableDecl indexDecl = treeMaker.VarDef(treeMaker.Modifiers(0), typeNode.toName(INDEX_VARIABLE_NAME),
+        intType(typeNode), intLiteral(0, typeNode));
+    JCExpression indexBeforeEnd = treeMaker.Binary(JCTree.LT, index(typeNode), chainDots(treeMaker, typeNode,
+        ORDINALS_VARIABLE_NAME, "length"));
+    return treeMaker.ForLoop(List.<JCStatement> of(indexDecl), indexBeforeEnd, List.of(treeMaker.Exec(
+        treeMaker.Unary(JCTree.POSTINC, index(typeNode)))), body);
+  }
+
+  private JCStatement localDecl(String variableName, JCExpression type, JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(variableName), type, null);
+  }
+
+  private JCVariableDecl parameter(JCExpression type, String parameterName, long modifiers, JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.VarDef(treeMaker.Modifiers(modifiers), typeNode.toName(parameterName), type, null);
+  }
+
+  private JCStatement assign(JCExpression variable, JCExpression value, JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.Exec(treeMaker.Assign(variable, value));
+  }
+
+  private JCExpression journaled(JCExpression ordinal, JavacNode typeNode) {
+    // this.journaled[ordinal]
+    return typeNode.getTreeMaker().Indexed(journalField(JOURNALED_FIELD_NAME, typeNode), ordinal);
+  }
+
+  private JCExpression journalValue(JCExpression ordinal, JavacNode typeNode) {
+    // this.journalValues[ordinal]
+    return typeNode.getTreeMaker().Indexed(journalField(JOURNAL_VALUES_FIELD_NAME, typeNode), ordinal);
+  }
+
+  private JCExpression ordinal(JavacNode typeNode) {
+    // ordinals[index]
+    return typeNode.getTreeMaker().Indexed(name(ORDINALS_VARIABLE_NAME, typeNode), index(typeNode));
+  }
+
+  private JCExpression value(JavacNode typeNode) {
+    // values[index]
+    return typeNode.getTreeMaker().Indexed(name(VALUES_VARIABLE_NAME, typeNode), index(typeNode));
+  }
+
+  private JCExpression journalField(String fieldName, JavacNode typeNode) {
+    return chainDots(typeNode.getTreeMaker(), typeNode, "this", fieldName);
+  }
+
+  private JCExpression index(JavacNode typeNode) {
+    return name(INDEX_VARIABLE_NAME, typeNode);
+  }
+
+  private JCExpression intType(JavacNode typeNode) {
+    return typeNode.getTreeMaker().TypeIdent(TypeTags.INT);
+  }
+
+  private JCExpression objectType(JavacNode typeNode) {
+    return typeReference(Object.class, typeNode);
+  }
+
+  private JCExpression intLiteral(int value, JavacNode node) {
+    return node.getTreeMaker().Literal(TypeTags.INT, value);
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.javac.handlers;
+
+import static com.sun.tools.javac.code.Flags.PRIVATE;
+
+import lombok.javac.JavacNode;
+
+import com.sun.tools.javac.tree.JCTree.JCStatement;
+import com.sun.tools.javac.util.List;
+
+/**
+ * Stores property change listeners in a plain array that is copied and replaced every time a listener is added or
+ * removed, for beans that are only used by one thread. Nothing is {@code volatile} and nothing is compared-and-set:
+ * setters read the array like any other field, and notify listeners with a straight loop.
+ *
+ * @author Alex Ruiz
+ */
+class ConfinedArrayGenerator extends CopyOnWriteArrayGenerator {
+
+  @Override void generateListenersStore(JavacNode typeNode) {
+    // private PropertyChangeListener[] propertyChangeListeners = NO_PROPERTY_CHANGE_LISTENERS;
+    generateListenersField(PRIVATE, typeNode);
+  }
+
+  @Override List<JCStatement> replaceListeners(List<JCStatement> update, JavacNode typeNode) {
+    // this.propertyChangeListeners = updated;
+    return update.append(assign(listenersField(typeNode), name(UPDATED_VARIABLE_NAME, typeNode), typeNode));
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.javac.handlers;
+
+import static com.sun.tools.javac.code.Flags.*;
+import static lombok.core.handlers.TransformationsUtil.NON_NULL_PATTERN;
+import static lombok.core.util.AstGeneration.stopAstGeneration;
+import static lombok.core.util.ErrorMessages.canBeUsedOnFieldOnly;
+import static lombok.core.util.Names.*;
+import static lombok.javac.handlers.BoundProperties.boundPropertiesOf;
+import static lombok.javac.handlers.FieldBuilder.newField;
+import static lombok.javac.handlers.JCNoType.voidType;
+import static lombok.javac.handlers.JavacHandlerUtil.*;
+import static lombok.javac.handlers.Lombok.*;
+import static lombok.javac.handlers.MemberChecks.*;
+import static lombok.javac.handlers.MethodBuilder.newMethod;
+import static lombok.javac.handlers.VetoableChangeSupportGenerator.*;
+
+import java.beans.VetoableChangeSupport;
+import java.util.Collection;
+
+import lombok.*;
+import lombok.core.AnnotationValues;
+import lombok.javac.JavacAnnotationHandler;
+import lombok.javac.JavacNode;
+
+import org.mangosdk.spi.ProviderFor;
+
+import com.sun.tools.javac.tree.JCTree.JCAnnotation;
+import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.JCTree.JCMethodDecl;
+import com.sun.tools.javac.tree.JCTree.JCStatement;
+import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
+import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.util.List;
+
+/**
+ * Generates a "constrained" setter for a field annotated with <code>{@link GenerateConstrainedSetter}</code>.
+ * <p>
+ * For example, given this class:
+ *
+ * <pre>
+ * public class Person {
+ *
+ *   &#64;GenerateConstrainedSetter private String firstName;
+ * }
+ * </pre>
+ * this annotation handler will generate the AST nodes that correspond to this code:
+ *
+ * <pre>
+ * public class Person {
+ *
+ *   public static final String PROP_FIRST_NAME = "firstName";
+ *
+ *   private String firstName;
+ *
+ *   public void setFirstName(String value) throws PropertyVetoException {
+ *      if (vetoableSupport != null &amp;&amp; vetoableSupport.hasListeners(PROP_FIRST_NAME))
+ *        vetoableSupport.fireVetoableChange(PROP_FIRST_NAME, firstName, value);
+ *      firstName = value;
+ *   }
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * <strong>Note:</strong> This annotation handler assumes that the class declaring the annotated field has a field
+ * of type <code>{@link VetoableChangeSupport}</code> with name "vetoableSupport." You can either add this expected
+ * field manually or annotate the class with <code>{@link GenerateJavaBean}</code> to have
+ * <code>{@link JavaBeanHandler}</code> generate it for you.
+ * </p>
+ * <p>
+ * Fields that get a bound setter are left to <code>{@link BoundSetterHandler}</code>, which checks for vetoes before
+ * notifying property change listeners.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+@ProviderFor(JavacAnnotationHandler.class)
+public class ConstrainedSetterHandler implements JavacAnnotationHandler<GenerateConstrainedSetter> {
+
+  private static final Class<GenerateConstrainedSetter> TARGET_ANNOTATION_TYPE = GenerateConstrainedSetter.class;
+
+  /**
+   * Called when an annotation is found that is likely to match <code>{@link GenerateConstrainedSetter}</code>. This is
+   * were AST node generation happens.
+   * @param annotation the actual annotation.
+   * @param ast the javac AST node representing the annotation.
+   * @param astWrapper the lombok AST wrapper around {@code ast}.
+   * @return {@code true} if this handler successfully handled {@code GenerateConstrainedSetter}; {@code false}
+   * otherwise.
+   */
+  @Override
+  public boolean handle(AnnotationValues<GenerateConstrainedSetter> annotation, JCAnnotation ast,
+      JavacNode astWrapper) {
+    Collection<JavacNode> fields = astWrapper.upFromAnnotationToFields();
+    markAnnotationAsProcessed(astWrapper, TARGET_ANNOTATION_TYPE);
+    deleteImportFromCompilationUnit(astWrapper, AccessLevel.class.getName());
+    JavacNode annotatedNode = astWrapper.up();
+    if (annotatedNode == null) return false;
+    if (!isField(annotatedNode)) {
+      astWrapper.addError(canBeUsedOnFieldOnly(TARGET_ANNOTATION_TYPE));
+      return true;
+    }
+    generateSetters(fields, annotation.getInstance(), annotatedNode.up());
+    return true;
+  }
+
+  private void generateSetters(Collection<JavacNode> fields, GenerateConstrainedSetter setter, JavacNode typeNode) {
+    BoundProperties boundProperties = boundPropertiesOf(typeNode);
+    for (JavacNode fieldNode : fields) {
+      // fields that get a bound setter are constrained by it.
+      if (boundProperties.ordinalOf(fieldNode.getName()) >= 0) continue;
+      String propertyNameFieldName = nameOfConstantBasedOnProperty(fieldNode.getName());
+      generatePropertyNameConstant(propertyNameFieldName, fieldNode, typeNode);
+      generateSetter(propertyNameFieldName, setter, fieldNode, typeNode);
+    }
+  }
+
+  private void generatePropertyNameConstant(String propertyNameFieldName, JavacNode fieldNode, JavacNode typeNode) {
+    // generates:
+    // public static final String PROP_FIRST_NAME = "firstName";
+    if (fieldAlreadyExists(propertyNameFieldName, typeNode)) return;
+    JCExpression propertyNameExpression = fieldNode.getTreeMaker().Literal(fieldNode.getName());
+    JCVariableDecl fieldDecl = newField().ofType(String.class)
+                                         .withName(propertyNameFieldName)
+                                         .withModifiers(PUBLIC | STATIC | FINAL)
+                                         .withArgs(propertyNameExpression)
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generateSetter(String propertyNameFieldName, GenerateConstrainedSetter setter, JavacNode fieldNode,
+      JavacNode typeNode) {
+    AccessLevel accessLevel = setter.value();
+    if (stopAstGeneration(accessLevel)) return;
+    String setterName = nameOfSetter(fieldNode.getName());
+    if (methodAlreadyExists(setterName, typeNode)) return;
+    addMethod(typeNode, createSetterDecl(accessLevel, propertyNameFieldName, setterName, fieldNode));
+  }
+
+  private JCMethodDecl createSetterDecl(AccessLevel accessLevel, String propertyNameFieldName, String setterName,
+      JavacNode fieldNode) {
+    // public void setFirstName(String firstName) throws PropertyVetoException {
+    //   if (vetoableSupport != null && vetoableSupport.hasListeners(PROP_FIRST_NAME))
+    //     vetoableSupport.fireVetoableChange(PROP_FIRST_NAME, this.firstName, firstName);
+    //   this.firstName = firstName;
+    // }
+    JCVariableDecl fieldDecl = (JCVariableDecl) fieldNode.get();
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    List<JCAnnotation> nonNulls = findAnnotations(fieldNode, NON_NULL_PATTERN);
+    JCVariableDecl param = treeMaker.VarDef(treeMaker.Modifiers(0, nonNulls), fieldDecl.name, fieldDecl.vartype, null);
+    JCStatement assign = treeMaker.Exec(treeMaker.Assign(newFieldAccessor(fieldNode), treeMaker.Ident(fieldDecl.name)));
+    List<JCStatement> statements = List.of(fireVetoableChangeStatement(propertyNameFieldName, fieldNode), assign);
+    return newMethod().withModifiers(toJavacModifier(accessLevel))
+                      .withName(setterName)
+                      .withReturnType(treeMaker.Type(voidType()))
+                      .withParameters(List.of(param))
+                      .withThrowsClauses(vetoThrowsClause(fieldNode))
+                      .withBody(treeMaker.Block(0, statements))
+                      .buildWith(fieldNode);
+  }
+
+  /**
+   * Indicates whether this handler requires resolution.
+   * @return {@code false}.
+   */
+  @Override public boolean isResolutionBased() {
+    return false;
+  }
+}
@@ -0,0 +1,375 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.javac.handlers;
+
+import static com.sun.tools.javac.code.Flags.*;
+import static lombok.core.util.Names.*;
+import static lombok.javac.handlers.FieldBuilder.newField;
+import static lombok.javac.handlers.JCNoType.voidType;
+import static lombok.javac.handlers.JavacHandlerUtil.*;
+import static lombok.javac.handlers.Lombok.addField;
+import static lombok.javac.handlers.Lombok.addMethod;
+import static lombok.javac.handlers.MemberChecks.*;
+import static lombok.javac.handlers.MethodBuilder.newMethod;
+
+import java.beans.PropertyChangeEvent;
+import java.util.Arrays;
+
+import lombok.javac.JavacNode;
+
+import com.sun.tools.javac.code.TypeTags;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.JCTree.JCExpressionStatement;
+import com.sun.tools.javac.tree.JCTree.JCMethodDecl;
+import com.sun.tools.javac.tree.JCTree.JCStatement;
+import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
+import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.util.List;
+
+/**
+ * Stores property change listeners in a {@code volatile} array that is copied and replaced, using compare-and-set,
+ * every time a listener is added or removed. Notifying listeners does not lock.
+ *
+ * @author Alex Ruiz
+ */
+class CopyOnWriteArrayGenerator extends ListenerRegistryGenerator {
+
+  static final String CURRENT_VARIABLE_NAME = "current";
+  static final String UPDATED_VARIABLE_NAME = "updated";
+  static final String INDEX_VARIABLE_NAME = "index";
+  static final String EVENT_VARIABLE_NAME = "event";
+  static final String PROPERTY_NAME_ARG_NAME = "propertyName";
+  private static final String OLD_VALUE_ARG_NAME = "oldValue";
+  private static final String NEW_VALUE_ARG_NAME = "newValue";
+
+  @Override void generateRegistry(JavacNode typeNode) {
+    if (fieldAlreadyExists(PROPERTY_CHANGE_LISTENERS_FIELD_NAME, typeNode)) return;
+    generateNoListenersField(typeNode);
+    generateListenersStore(typeNode);
+    generateChangeListenerMethod(PROPERTY_CHANGE_METHOD_NAMES[0], addListenerStatements(typeNode), typeNode);
+    generateChangeListenerMethod(PROPERTY_CHANGE_METHOD_NAMES[1], removeListenerStatements(typeNode), typeNode);
+    generateNotifyListenersMethod(typeNode);
+  }
+
+  final void generateNoListenersField(JavacNode typeNode) {
+    // private static final PropertyChangeListener[] NO_PROPERTY_CHANGE_LISTENERS = new PropertyChangeListener[0];
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    List<JCExpression> dimensions = List.of(intLiteral(0, typeNode));
+    JCExpression emptyArray = treeMaker.NewArray(listenerType(typeNode), dimensions, null);
+    JCVariableDecl fieldDecl = newField().ofType(listenerArrayType(typeNode))
+                                         .withName(NO_PROPERTY_CHANGE_LISTENERS_FIELD_NAME)
+                                         .withModifiers(PRIVATE | STATIC | FINAL)
+                                         .withInitializer(emptyArray)
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  /**
+   * Generates the field that stores the array of listeners, and the field updater that replaces it.
+   * @param typeNode the type to add the fields to.
+   */
+  void generateListenersStore(JavacNode typeNode) {
+    generateUpdaterField(PROPERTY_CHANGE_LISTENERS_UPDATER_FIELD_NAME, PROPERTY_CHANGE_LISTENERS_FIELD_NAME,
+        listenerArrayType(typeNode), listenerArrayType(typeNode), typeNode);
+    generateListenersField(PRIVATE | VOLATILE, typeNode);
+  }
+
+  final void generateListenersField(long modifiers, JavacNode typeNode) {
+    // private volatile PropertyChangeListener[] propertyChangeListeners = NO_PROPERTY_CHANGE_LISTENERS;
+    JCVariableDecl fieldDecl = newField().ofType(listenerArrayType(typeNode))
+                                         .withName(PROPERTY_CHANGE_LISTENERS_FIELD_NAME)
+                                         .withModifiers(modifiers)
+                                         .withInitializer(name(NO_PROPERTY_CHANGE_LISTENERS_FIELD_NAME, typeNode))
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private List<JCStatement> addListenerStatements(JavacNode typeNode) {
+    // if (listener == null) return;
+    // while (true) {
+    //   final PropertyChangeListener[] current = this.propertyChangeListeners;
+    //   final PropertyChangeListener[] updated = Arrays.copyOf(current, current.length + 1);
+    //   updated[current.length] = listener;
+    //   if (PROPERTY_CHANGE_LISTENERS_UPDATER.compareAndSet(this, current, updated)) return;
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression fn = chainDots(treeMaker, typeNode, append(splitNameOf(Arrays.class), "copyOf"));
+    List<JCExpression> args = List.of(name(CURRENT_VARIABLE_NAME, typeNode),
+        treeMaker.Binary(JCTree.PLUS, currentLength(typeNode), intLiteral(1, typeNode)));
+    JCExpression copy = treeMaker.Apply(List.<JCExpression> nil(), fn, args);
+    JCExpression slot = treeMaker.Indexed(name(UPDATED_VARIABLE_NAME, typeNode), currentLength(typeNode));
+    List<JCStatement> update = List.of(currentListenersDecl(typeNode),
+                                       localListenersDecl(UPDATED_VARIABLE_NAME, copy, typeNode),
+                                       assign(slot, name(LISTENER_ARG_NAME, typeNode), typeNode));
+    return replaceListeners(update, typeNode).prepend(returnIfListenerIsNull(typeNode));
+  }
+
+  private List<JCStatement> removeListenerStatements(JavacNode typeNode) {
+    // if (listener == null) return;
+    // while (true) {
+    //   final PropertyChangeListener[] current = this.propertyChangeListeners;
+    //   int index = 0;
+    //   while (index < current.length && !listener.equals(current[index])) index++;
+    //   if (index == current.length) return;
+    //   final PropertyChangeListener[] updated = new PropertyChangeListener[current.length - 1];
+    //   System.arraycopy(current, 0, updated, 0, index);
+    //   System.arraycopy(current, index + 1, updated, index, updated.length - index);
+    //   if (PROPERTY_CHANGE_LISTENERS_UPDATER.compareAndSet(this, current, updated)) return;
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression listenerAtIndex = treeMaker.Indexed(name(CURRENT_VARIABLE_NAME, typeNode), index(typeNode));
+    JCExpression equalsFn = chainDots(treeMaker, typeNode, LISTENER_ARG_NAME, "equals");
+    JCExpression isListener = treeMaker.Apply(List.<JCExpression> nil(), equalsFn, List.of(listenerAtIndex));
+    JCExpression keepSearching = treeMaker.Binary(JCTree.AND, indexBeforeEnd(typeNode),
+        treeMaker.Unary(JCTree.NOT, isListener));
+    JCStatement search = treeMaker.WhileLoop(keepSearching, incrementIndex(typeNode));
+    JCExpression notFound = treeMaker.Binary(JCTree.EQ, index(typeNode), currentLength(typeNode));
+    JCStatement returnIfNotFound = treeMaker.If(notFound, treeMaker.Return(null), null);
+    JCExpression newLength = treeMaker.Binary(JCTree.MINUS, currentLength(typeNode), intLiteral(1, typeNode));
+    JCExpression newArray = treeMaker.NewArray(listenerType(typeNode), List.of(newLength), null);
+    JCExpression updatedLength = chainDots(treeMaker, typeNode, UPDATED_VARIABLE_NAME, "length");
+    JCExpression indexAfterRemoved = treeMaker.Binary(JCTree.PLUS, index(typeNode), intLiteral(1, typeNode));
+    JCExpression tailLength = treeMaker.Binary(JCTree.MINUS, updatedLength, index(typeNode));
+    List<JCStatement> update = List.of(currentListenersDecl(typeNode),
+                                       indexDecl(typeNode),
+                                       search,
+                                       returnIfNotFound,
+                                       localListenersDecl(UPDATED_VARIABLE_NAME, newArray, typeNode),
+                                       arrayCopy(intLiteral(0, typeNode), intLiteral(0, typeNode), index(typeNode),
+                                           typeNode),
+                                       arrayCopy(indexAfterRemoved, index(typeNode), tailLength, typeNode));
+    return replaceListeners(update, typeNode).prepend(returnIfListenerIsNull(typeNode));
+  }
+
+  /**
+   * Creates the statements that run the given statements, which copy the current array of listeners into a variable
+   * named "updated" and change the copy, and then replace the array with the copy. The statements are retried until
+   * the array is replaced using compare-and-set.
+   * @param update the statements that create the changed copy of the array.
+   * @param typeNode the type declaring the listener registry.
+   * @return the created statements.
+   */
+  List<JCStatement> replaceListeners(List<JCStatement> update, JavacNode typeNode) {
+    return List.of(retryLoop(update.append(returnIfReplaced(typeNode)), typeNode));
+  }
+
+  private JCStatement arrayCopy(JCExpression sourcePosition, JCExpression destinationPosition, JCExpression length,
+      JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression fn = chainDots(treeMaker, typeNode, "java", "lang", "System", "arraycopy");
+    List<JCExpression> args = List.of(name(CURRENT_VARIABLE_NAME, typeNode), sourcePosition,
+        name(UPDATED_VARIABLE_NAME, typeNode), destinationPosition, length);
+    return treeMaker.Exec(treeMaker.Apply(List.<JCExpression> nil(), fn, args));
+  }
+
+  JCStatement returnIfListenerIsNull(JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression isNull = treeMaker.Binary(JCTree.EQ, name(LISTENER_ARG_NAME, typeNode), nullLiteral(typeNode));
+    return treeMaker.If(isNull, treeMaker.Return(null), null);
+  }
+
+  JCStatement retryLoop(List<JCStatement> body, JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.WhileLoop(treeMaker.Literal(TypeTags.BOOLEAN, 1), treeMaker.Block(0, body));
+  }
+
+  private JCStatement currentListenersDecl(JavacNode typeNode) {
+    return localListenersDecl(CURRENT_VARIABLE_NAME, listenersField(typeNode), typeNode);
+  }
+
+  JCStatement localListenersDecl(String variableName, JCExpression init, JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(variableName), listenerArrayType(typeNode),
+        init);
+  }
+
+  private JCStatement returnIfReplaced(JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression fn = chainDots(treeMaker, typeNode, PROPERTY_CHANGE_LISTENERS_UPDATER_FIELD_NAME, "compareAndSet");
+    List<JCExpression> args = List.of(chainDots(treeMaker, typeNode, "this"), name(CURRENT_VARIABLE_NAME, typeNode),
+        name(UPDATED_VARIABLE_NAME, typeNode));
+    JCExpression replaced = treeMaker.Apply(List.<JCExpression> nil(), fn, args);
+    return treeMaker.If(replaced, treeMaker.Return(null), null);
+  }
+
+  void generateNotifyListenersMethod(JavacNode typeNode) {
+    // private void notifyPropertyChangeListeners(final String propertyName, final Object oldValue,
+    //     final Object newValue) {
+    //   if (oldValue != null && newValue != null && oldValue.equals(newValue)) return;
+    //   final PropertyChangeListener[] current = this.propertyChangeListeners;
+    //   final PropertyChangeEvent event = new PropertyChangeEvent(this, propertyName, oldValue, newValue);
+    //   for (int index = 0; index < current.length; index++) current[index].propertyChange(event);
+    // }
+    if (methodAlreadyExists(NOTIFY_PROPERTY_CHANGE_LISTENERS_METHOD_NAME, typeNode)) return;
+    addMethod(typeNode, notifyListenersMethod(List.<JCVariableDecl> nil(), notifyListenersStatements(typeNode),
+        typeNode));
+  }
+
+  /**
+   * Creates the method "notifyPropertyChangeListeners," which takes the name, old value and new value of a property,
+   * after the given parameters.
+   * @param leadingParameters the parameters that go before the name of the property.
+   * @param statements the body of the method.
+   * @param typeNode the type declaring the listener registry.
+   * @return the created method.
+   */
+  final JCMethodDecl notifyListenersMethod(List<JCVariableDecl> leadingParameters, List<JCStatement> statements,
+      JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    List<JCVariableDecl> parameters = leadingParameters.appendList(List.of(
+        parameter(String.class, PROPERTY_NAME_ARG_NAME, typeNode),
+        parameter(Object.class, OLD_VALUE_ARG_NAME, typeNode),
+        parameter(Object.class, NEW_VALUE_ARG_NAME, typeNode)));
+    return newMethod().withModifiers(PRIVATE)
+                      .withName(NOTIFY_PROPERTY_CHANGE_LISTENERS_METHOD_NAME)
+                      .withReturnType(treeMaker.Type(voidType()))
+                      .withParameters(parameters)
+                      .withBody(treeMaker.Block(0, statements))
+                      .buildWith(typeNode);
+  }
+
+  /**
+   * Creates the statements that create an event, in a variable named "event," and pass it to all the listeners of the
+   * registry.
+   * @param typeNode the type declaring the listener registry.
+   * @return the created statements.
+   */
+  final List<JCStatement> notifyListenersStatements(JavacNode typeNode) {
+    return List.of(returnIfEqual(typeNode), currentListenersDecl(typeNode), eventDecl(typeNode),
+        notifyEachListener(EVENT_VARIABLE_NAME, typeNode));
+  }
+
+  final JCStatement returnIfEqual(JavacNode typeNode) {
+    // if (oldValue != null && newValue != null && oldValue.equals(newValue)) return;
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression equalsFn = chainDots(treeMaker, typeNode, OLD_VALUE_ARG_NAME, "equals");
+    JCExpression equal = treeMaker.Apply(List.<JCExpression> nil(), equalsFn,
+        List.of(name(NEW_VALUE_ARG_NAME, typeNode)));
+    JCExpression bothNonNull = treeMaker.Binary(JCTree.AND, isNotNull(OLD_VALUE_ARG_NAME, typeNode),
+        isNotNull(NEW_VALUE_ARG_NAME, typeNode));
+    return treeMaker.If(treeMaker.Binary(JCTree.AND, bothNonNull, equal), treeMaker.Return(null), null);
+  }
+
+  final JCStatement eventDecl(JavacNode typeNode) {
+    // final PropertyChangeEvent event = new PropertyChangeEvent(this, propertyName, oldValue, newValue);
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression eventType = typeReference(PropertyChangeEvent.class, typeNode);
+    List<JCExpression> eventArgs = List.of(chainDots(treeMaker, typeNode, "this"),
+        name(PROPERTY_NAME_ARG_NAME, typeNode), name(OLD_VALUE_ARG_NAME, typeNode), name(NEW_VALUE_ARG_NAME, typeNode));
+    JCExpression newEvent = treeMaker.NewClass(null, List.<JCExpression> nil(), eventType, eventArgs, null);
+    return treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(EVENT_VARIABLE_NAME),
+        typeReference(PropertyChangeEvent.class, typeNode), newEvent);
+  }
+
+  private JCExpression isNotNull(String name, JavacNode typeNode) {
+    return typeNode.getTreeMaker().Binary(JCTree.NE, name(name, typeNode), nullLiteral(typeNode));
+  }
+
+  JCStatement notifyEachListener(String eventVariableName, JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression listener = treeMaker.Indexed(name(CURRENT_VARIABLE_NAME, typeNode), index(typeNode));
+    JCExpression fn = treeMaker.Select(listener, typeNode.toName("propertyChange"));
+    JCExpression notify = treeMaker.Apply(List.<JCExpression> nil(), fn,
+        List.of(name(eventVariableName, typeNode)));
+    return treeMaker.ForLoop(List.of(indexDecl(typeNode)), indexBeforeEnd(typeNode), List.of(incrementIndex(typeNode)),
+        treeMaker.Exec(notify));
+  }
+
+  JCStatement indexDecl(JavacNode typeNode) {
+    // int index = 0;
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.VarDef(treeMaker.Modifiers(0), typeNode.toName(INDEX_VARIABLE_NAME),
+        treeMaker.TypeIdent(TypeTags.INT), intLiteral(0, typeNode));
+  }
+
+  private JCExpression indexBeforeEnd(JavacNode typeNode) {
+    // index < current.length
+    return typeNode.getTreeMaker().Binary(JCTree.LT, index(typeNode), currentLength(typeNode));
+  }
+
+  JCExpressionStatement incrementIndex(JavacNode typeNode) {
+    // index++
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.Exec(treeMaker.Unary(JCTree.POSTINC, index(typeNode)));
+  }
+
+  JCVariableDecl parameter(Class<?> type, String parameterName, JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(parameterName), typeReference(type, typeNode),
+        null);
+  }
+
+  @Override JCExpression noListenersCondition(String propertyNameFieldName, JavacNode fieldNode) {
+    // this.propertyChangeListeners.length == 0
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCExpression length = treeMaker.Select(listenersField(fieldNode), fieldNode.toName("length"));
+    return treeMaker.Binary(JCTree.EQ, length, intLiteral(0, fieldNode));
+  }
+
+  @Override JCStatement notifyListenersStatement(String propertyNameFieldName, JCExpression oldValue,
+      JCExpression newValue, JavacNode fieldNode) {
+    // notifyPropertyChangeListeners(PROP_FIRST_NAME, old, this.firstName);
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCExpression fn = name(NOTIFY_PROPERTY_CHANGE_LISTENERS_METHOD_NAME, fieldNode);
+    List<JCExpression> args = List.of(name(propertyNameFieldName, fieldNode), oldValue, newValue);
+    return treeMaker.Exec(treeMaker.Apply(List.<JCExpression> nil(), fn, args));
+  }
+
+  @Override JCStatement fireEventStatement(String eventVariableName, JavacNode typeNode) {
+    // {
+    //   final PropertyChangeListener[] current = this.propertyChangeListeners;
+    //   for (int index = 0; index < current.length; index++) current[index].propertyChange(event);
+    // }
+    return typeNode.getTreeMaker().Block(0, fireEventStatements(eventVariableName, typeNode));
+  }
+
+  final List<JCStatement> fireEventStatements(String eventVariableName, JavacNode typeNode) {
+    return List.of(currentListenersDecl(typeNode), notifyEachListener(eventVariableName, typeNode));
+  }
+
+  @Override boolean firesIntAndBooleanWithoutBoxing() {
+    return false;
+  }
+
+  final JCExpression listenersField(JavacNode node) {
+    return chainDots(node.getTreeMaker(), node, "this", PROPERTY_CHANGE_LISTENERS_FIELD_NAME);
+  }
+
+  private JCExpression currentLength(JavacNode typeNode) {
+    return chainDots(typeNode.getTreeMaker(), typeNode, CURRENT_VARIABLE_NAME, "length");
+  }
+
+  JCExpression index(JavacNode typeNode) {
+    return name(INDEX_VARIABLE_NAME, typeNode);
+  }
+
+  JCExpression intLiteral(int value, JavacNode typeNode) {
+    return typeNode.getTreeMaker().Literal(TypeTags.INT, value);
+  }
+
+  JCExpression listenerArrayType(JavacNode typeNode) {
+    return typeNode.getTreeMaker().TypeArray(listenerType(typeNode));
+  }
+
+  JCExpression nullLiteral(JavacNode typeNode) {
+    return typeNode.getTreeMaker().Literal(TypeTags.BOT, null);
+  }
+
+  JCStatement assign(JCExpression variable, JCExpression value, JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.Exec(treeMaker.Assign(variable, value));
+  }
+}
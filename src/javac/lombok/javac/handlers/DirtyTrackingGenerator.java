@@ -0,0 +1,299 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.javac.handlers;
+
+import static com.sun.tools.javac.code.Flags.*;
+import static lombok.core.util.Names.*;
+import static lombok.javac.handlers.BoundProperties.boundPropertiesOf;
+import static lombok.javac.handlers.FieldBuilder.newField;
+import static lombok.javac.handlers.JCNoType.voidType;
+import static lombok.javac.handlers.JavacHandlerUtil.chainDots;
+import static lombok.javac.handlers.ListenerRegistryGenerator.*;
+import static lombok.javac.handlers.Lombok.*;
+import static lombok.javac.handlers.MemberChecks.*;
+import static lombok.javac.handlers.MethodBuilder.newMethod;
+
+import java.util.Arrays;
+
+import lombok.GenerateJavaBean;
+import lombok.javac.JavacNode;
+
+import com.sun.tools.javac.code.TypeTags;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.JCTree.JCStatement;
+import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
+import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.util.List;
+import com.sun.tools.javac.util.ListBuffer;
+
+/**
+ * Generates the bitset that records which properties of a JavaBean changed, the statement that bound setters use
+ * to record a change, and the methods that read and clear the bitset. The bit of a property is its ordinal (see
+ * <code>{@link BoundProperties}</code>): the bitset is a {@code long} when the JavaBean has up to 64 bound properties,
+ * and a {@code long[]} otherwise. Recording a change is a single bitwise OR with a constant.
+ *
+ * @author Alex Ruiz
+ */
+final class DirtyTrackingGenerator {
+
+  private static final int BITS_PER_WORD = 64;
+  private static final int WORD_INDEX_SHIFT = 6;
+
+  private static final String PROPERTY_NAME_ARG_NAME = "propertyName";
+  private static final String PROPERTY_ORDINAL_ARG_NAME = "propertyOrdinal";
+  private static final String DIRTY_VARIABLE_NAME = "dirty";
+  private static final String INDEX_VARIABLE_NAME = "index";
+
+  /**
+   * Returns the generator of the dirty-tracking bitset for the JavaBean annotated with the given
+   * <code>{@link GenerateJavaBean}</code>.
+   * @param javaBean the annotation on the JavaBean, or {@code null} if the JavaBean is not annotated.
+   * @return the created generator, which generates nothing if the JavaBean does not track dirty properties.
+   */
+  static DirtyTrackingGenerator dirtyTrackingGenerator(GenerateJavaBean javaBean) {
+    return new DirtyTrackingGenerator(javaBean != null && javaBean.dirtyTracking());
+  }
+
+  private final boolean enabled;
+
+  private DirtyTrackingGenerator(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Indicates whether the JavaBean tracks dirty properties.
+   * @return {@code true} if the JavaBean tracks dirty properties; {@code false} otherwise.
+   */
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Indicates whether the setter of the given field records writes in the bitset: the JavaBean must track dirty
+   * properties, and the field must be a bound property that is not {@code static}.
+   * @param fieldNode the given field.
+   * @param typeNode the type declaring the field.
+   * @return {@code true} if the setter of the given field records writes; {@code false} otherwise.
+   */
+  boolean tracks(JavacNode fieldNode, JavacNode typeNode) {
+    if (!enabled) return false;
+    JCVariableDecl fieldDecl = (JCVariableDecl) fieldNode.get();
+    if ((fieldDecl.mods.flags & STATIC) != 0) return false;
+    return boundPropertiesOf(typeNode).ordinalOf(fieldNode.getName()) >= 0;
+  }
+
+  /**
+   * Generates, in the given type, the bitset and the methods {@code isDirty} (by property name and by property
+   * ordinal), {@code dirtyProperties} and {@code clearDirty}.
+   * @param typeNode the type to add the members to.
+   */
+  void generateDirtyTrackingMembers(JavacNode typeNode) {
+    if (!enabled || fieldAlreadyExists(DIRTY_BITS_FIELD_NAME, typeNode)) return;
+    java.util.List<String> properties = boundPropertiesOf(typeNode).names();
+    if (properties.isEmpty()) return;
+    generateDirtyBitsField(properties.size(), typeNode);
+    if (!methodAlreadyExists(IS_DIRTY_METHOD_NAME, typeNode)) {
+      generateIsDirtyMethod(properties, typeNode);
+      generateIsDirtyByOrdinalMethod(properties.size(), typeNode);
+    }
+    generateDirtyPropertiesMethod(properties, typeNode);
+    generateClearDirtyMethod(properties.size(), typeNode);
+  }
+
+  private void generateDirtyBitsField(int propertyCount, JavacNode typeNode) {
+    // up to 64 properties: private long dirtyBits;
+    // more than 64 properties: private final long[] dirtyBits = new long[2];
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCVariableDecl fieldDecl;
+    if (fitsInOneWord(propertyCount)) {
+      fieldDecl = newField().ofType(longType(typeNode))
+                            .withName(DIRTY_BITS_FIELD_NAME)
+                            .withModifiers(PRIVATE)
+                            .buildWith(typeNode);
+    } else {
+      JCExpression words = treeMaker.NewArray(longType(typeNode),
+          List.of(treeMaker.Literal(TypeTags.INT, wordCount(propertyCount))), null);
+      fieldDecl = newField().ofType(treeMaker.TypeArray(longType(typeNode)))
+                            .withName(DIRTY_BITS_FIELD_NAME)
+                            .withModifiers(PRIVATE | FINAL)
+                            .withInitializer(words)
+                            .buildWith(typeNode);
+    }
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generateIsDirtyMethod(java.util.List<String> properties, JavacNode typeNode) {
+    // public boolean isDirty(final String propertyName) {
+    //   if (PROP_FIRST_NAME.equals(propertyName)) return (this.dirtyBits & 1L << 0) != 0;
+    //   ...
+    //   return false;
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    ListBuffer<JCStatement> statements = new ListBuffer<JCStatement>();
+    for (int ordinal = 0; ordinal < properties.size(); ordinal++) {
+      JCExpression fn = chainDots(treeMaker, typeNode, nameOfConstantBasedOnProperty(properties.get(ordinal)),
+          "equals");
+      JCExpression isProperty = treeMaker.Apply(List.<JCExpression> nil(), fn,
+          List.of(name(PROPERTY_NAME_ARG_NAME, typeNode)));
+      statements.append(treeMaker.If(isProperty, treeMaker.Return(isSet(ordinal, properties.size(), typeNode)),
+          null));
+    }
+    statements.append(treeMaker.Return(treeMaker.Literal(TypeTags.BOOLEAN, 0)));
+    JCVariableDecl parameter = treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(PROPERTY_NAME_ARG_NAME),
+        typeReference(String.class, typeNode), null);
+    addMethod(typeNode, newMethod().withModifiers(PUBLIC)
+                                   .withName(IS_DIRTY_METHOD_NAME)
+                                   .withReturnType(treeMaker.TypeIdent(TypeTags.BOOLEAN))
+                                   .withParameters(List.of(parameter))
+                                   .withBody(treeMaker.Block(0, statements.toList()))
+                                   .buildWith(typeNode));
+  }
+
+  private void generateIsDirtyByOrdinalMethod(int propertyCount, JavacNode typeNode) {
+    // public boolean isDirty(final int propertyOrdinal) {
+    //   return (this.dirtyBits & 1L << propertyOrdinal) != 0;
+    // }
+    // more than 64 properties: (this.dirtyBits[propertyOrdinal >>> 6] & 1L << propertyOrdinal) != 0
+    // a long is shifted by the low 6 bits of the ordinal only, which is the position of the bit within its word.
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression word = dirtyBitsField(typeNode);
+    if (!fitsInOneWord(propertyCount)) word = treeMaker.Indexed(word, treeMaker.Binary(JCTree.USR,
+        name(PROPERTY_ORDINAL_ARG_NAME, typeNode), treeMaker.Literal(TypeTags.INT, WORD_INDEX_SHIFT)));
+    JCExpression bit = treeMaker.Binary(JCTree.SL, longLiteral(1, typeNode), name(PROPERTY_ORDINAL_ARG_NAME, typeNode));
+    JCExpression isSet = treeMaker.Binary(JCTree.NE, treeMaker.Parens(treeMaker.Binary(JCTree.BITAND, word, bit)),
+        treeMaker.Literal(TypeTags.INT, 0));
+    JCVariableDecl parameter = treeMaker.VarDef(treeMaker.Modifiers(FINAL),
+        typeNode.toName(PROPERTY_ORDINAL_ARG_NAME), treeMaker.TypeIdent(TypeTags.INT), null);
+    addMethod(typeNode, newMethod().withModifiers(PUBLIC)
+                                   .withName(IS_DIRTY_METHOD_NAME)
+                                   .withReturnType(treeMaker.TypeIdent(TypeTags.BOOLEAN))
+                                   .withParameters(List.of(parameter))
+                                   .withBody(treeMaker.Block(0, List.<JCStatement> of(treeMaker.Return(isSet))))
+                                   .buildWith(typeNode));
+  }
+
+  private void generateDirtyPropertiesMethod(java.util.List<String> properties, JavacNode typeNode) {
+    // public String[] dirtyProperties() {
+    //   final String[] dirty = new String[Long.bitCount(this.dirtyBits)];
+    //   int index = 0;
+    //   if ((this.dirtyBits & 1L << 0) != 0) dirty[index++] = PROP_FIRST_NAME;
+    //   ...
+    //   return dirty;
+    // }
+    if (methodAlreadyExists(DIRTY_PROPERTIES_METHOD_NAME, typeNode)) return;
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    int propertyCount = properties.size();
+    JCExpression dirtyCount = null;
+    for (int word = 0; word < wordCount(propertyCount); word++) {
+      JCExpression bitCount = treeMaker.Apply(List.<JCExpression> nil(), chainDots(treeMaker, typeNode, "java", "lang",
+          "Long", "bitCount"), List.of(dirtyWord(word, propertyCount, typeNode)));
+      dirtyCount = dirtyCount == null ? bitCount : treeMaker.Binary(JCTree.PLUS, dirtyCount, bitCount);
+    }
+    JCExpression stringArrayType = treeMaker.TypeArray(typeReference(String.class, typeNode));
+    ListBuffer<JCStatement> statements = new ListBuffer<JCStatement>();
+    statements.append(treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(DIRTY_VARIABLE_NAME),
+        stringArrayType, treeMaker.NewArray(typeReference(String.class, typeNode), List.of(dirtyCount), null)));
+    statements.append(treeMaker.VarDef(treeMaker.Modifiers(0), typeNode.toName(INDEX_VARIABLE_NAME),
+        treeMaker.TypeIdent(TypeTags.INT), treeMaker.Literal(TypeTags.INT, 0)));
+    for (int ordinal = 0; ordinal < propertyCount; ordinal++) {
+      JCExpression slot = treeMaker.Indexed(name(DIRTY_VARIABLE_NAME, typeNode),
+          treeMaker.Unary(JCTree.POSTINC, name(INDEX_VARIABLE_NAME, typeNode)));
+      JCStatement add = treeMaker.Exec(treeMaker.Assign(slot, name(nameOfConstantBasedOnProperty(
+          properties.get(ordinal)), typeNode)));
+      statements.append(treeMaker.If(isSet(ordinal, propertyCount, typeNode), add, null));
+    }
+    statements.append(treeMaker.Return(name(DIRTY_VARIABLE_NAME, typeNode)));
+    addMethod(typeNode, newMethod().withModifiers(PUBLIC)
+                                   .withName(DIRTY_PROPERTIES_METHOD_NAME)
+                                   .withReturnType(stringArrayType)
+                                   .withParameters(List.<JCVariableDecl> nil())
+                                   .withBody(treeMaker.Block(0, statements.toList()))
+                                   .buildWith(typeNode));
+  }
+
+  private void generateClearDirtyMethod(int propertyCount, JavacNode typeNode) {
+    // up to 64 properties: public void clearDirty() { this.dirtyBits = 0L; }
+    // more than 64 properties: public void clearDirty() { java.util.Arrays.fill(this.dirtyBits, 0L); }
+    if (methodAlreadyExists(CLEAR_DIRTY_METHOD_NAME, typeNode)) return;
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression clear;
+    if (fitsInOneWord(propertyCount)) clear = treeMaker.Assign(dirtyBitsField(typeNode), longLiteral(0, typeNode));
+    else clear = treeMaker.Apply(List.<JCExpression> nil(), chainDots(treeMaker, typeNode,
+        append(splitNameOf(Arrays.class), "fill")), List.of(dirtyBitsField(typeNode), longLiteral(0, typeNode)));
+    addMethod(typeNode, newMethod().withModifiers(PUBLIC)
+                                   .withName(CLEAR_DIRTY_METHOD_NAME)
+                                   .withReturnType(treeMaker.Type(voidType()))
+                                   .withParameters(List.<JCVariableDecl> nil())
+                                   .withBody(treeMaker.Block(0, List.<JCStatement> of(treeMaker.Exec(clear))))
+                                   .buildWith(typeNode));
+  }
+
+  /**
+   * Creates the statement that records a change of the given field (e.g. {@code this.dirtyBits |= 1L << 3;}.)
+   * @param fieldNode the field written by the setter.
+   * @param typeNode the type declaring the field.
+   * @return the created statement.
+   */
+  JCStatement markDirtyStatement(JavacNode fieldNode, JavacNode typeNode) {
+    BoundProperties properties = boundPropertiesOf(typeNode);
+    int ordinal = properties.ordinalOf(fieldNode.getName());
+    int propertyCount = properties.names().size();
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    return treeMaker.Exec(treeMaker.Assignop(JCTree.BITOR_ASG, dirtyWord(ordinal / BITS_PER_WORD, propertyCount,
+        fieldNode), bit(ordinal, fieldNode)));
+  }
+
+  private JCExpression isSet(int ordinal, int propertyCount, JavacNode node) {
+    // (this.dirtyBits & 1L << 3) != 0
+    TreeMaker treeMaker = node.getTreeMaker();
+    JCExpression word = dirtyWord(ordinal / BITS_PER_WORD, propertyCount, node);
+    return treeMaker.Binary(JCTree.NE, treeMaker.Parens(treeMaker.Binary(JCTree.BITAND, word, bit(ordinal, node))),
+        treeMaker.Literal(TypeTags.INT, 0));
+  }
+
+  private JCExpression dirtyWord(int word, int propertyCount, JavacNode node) {
+    // this.dirtyBits, or this.dirtyBits[1] when there is more than one word.
+    if (fitsInOneWord(propertyCount)) return dirtyBitsField(node);
+    TreeMaker treeMaker = node.getTreeMaker();
+    return treeMaker.Indexed(dirtyBitsField(node), treeMaker.Literal(TypeTags.INT, word));
+  }
+
+  private JCExpression bit(int ordinal, JavacNode node) {
+    // 1L << 3
+    TreeMaker treeMaker = node.getTreeMaker();
+    return treeMaker.Binary(JCTree.SL, longLiteral(1, node), treeMaker.Literal(TypeTags.INT, ordinal % BITS_PER_WORD));
+  }
+
+  private JCExpression dirtyBitsField(JavacNode node) {
+    return chainDots(node.getTreeMaker(), node, "this", DIRTY_BITS_FIELD_NAME);
+  }
+
+  private JCExpression longType(JavacNode node) {
+    return node.getTreeMaker().TypeIdent(TypeTags.LONG);
+  }
+
+  private JCExpression longLiteral(long value, JavacNode node) {
+    return node.getTreeMaker().Literal(TypeTags.LONG, value);
+  }
+
+  private static boolean fitsInOneWord(int propertyCount) {
+    return propertyCount <= BITS_PER_WORD;
+  }
+
+  private static int wordCount(int propertyCount) {
+    return (propertyCount + BITS_PER_WORD - 1) / BITS_PER_WORD;
+  }
+}
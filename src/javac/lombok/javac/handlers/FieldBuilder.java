@@ -1,5 +1,5 @@
 /*
- * Created on Nov 30, 2010
+ * Created on Dec 1, 2010
  *
  * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
  * the License. You may obtain a copy of the License at
@@ -36,15 +36,22 @@ class FieldBuilder {
   }
 
   private Class<?> type;
+  private JCExpression typeExpression;
   private String name;
   private long modifiers;
   private List<JCExpression> args = nil();
+  private JCExpression initializer;
 
   FieldBuilder ofType(Class<?> newType) {
     type = newType;
     return this;
   }
 
+  FieldBuilder ofType(JCExpression newType) {
+    typeExpression = newType;
+    return this;
+  }
+
   FieldBuilder withName(String newName) {
     name = newName;
     return this;
@@ -60,11 +67,24 @@ class FieldBuilder {
     return this;
   }
 
+  FieldBuilder withInitializer(JCExpression newInitializer) {
+    initializer = newInitializer;
+    return this;
+  }
+
   JCVariableDecl buildWith(JavacNode node) {
     TreeMaker treeMaker = node.getTreeMaker();
-    JCExpression classType = chainDots(treeMaker, node, splitNameOf(type));
-    JCExpression newVar = treeMaker.NewClass(null, null, classType, args, null);
-    return treeMaker.VarDef(treeMaker.Modifiers(modifiers), node.toName(name), classType, newVar);
+    JCExpression varType = typeExpression != null ? typeExpression : classType(node);
+    return treeMaker.VarDef(treeMaker.Modifiers(modifiers), node.toName(name), varType, initializer(node));
+  }
+
+  private JCExpression initializer(JavacNode node) {
+    if (initializer != null || type == null) return initializer;
+    return node.getTreeMaker().NewClass(null, null, classType(node), args, null);
+  }
+
+  private JCExpression classType(JavacNode node) {
+    return chainDots(node.getTreeMaker(), node, splitNameOf(type));
   }
 
   private FieldBuilder() {}
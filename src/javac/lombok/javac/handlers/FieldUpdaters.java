@@ -0,0 +1,132 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.javac.handlers;
+
+import static com.sun.tools.javac.code.Flags.*;
+import static lombok.core.util.Names.*;
+import static lombok.core.util.PrimitiveType.primitiveTypeNamed;
+import static lombok.javac.handlers.FieldBuilder.newField;
+import static lombok.javac.handlers.JavacHandlerUtil.chainDots;
+import static lombok.javac.handlers.ListenerRegistryGenerator.*;
+import static lombok.javac.handlers.Lombok.addField;
+import static lombok.javac.handlers.MemberChecks.fieldAlreadyExists;
+
+import java.util.concurrent.atomic.*;
+
+import lombok.core.util.PrimitiveType;
+import lombok.javac.JavacNode;
+
+import com.sun.tools.javac.tree.JCTree.JCArrayTypeTree;
+import com.sun.tools.javac.tree.JCTree.JCClassDecl;
+import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.JCTree.JCIdent;
+import com.sun.tools.javac.tree.JCTree.JCMethodInvocation;
+import com.sun.tools.javac.tree.JCTree.JCTypeApply;
+import com.sun.tools.javac.tree.JCTree.JCTypeParameter;
+import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
+import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.util.List;
+
+/**
+ * Generates the field updaters that write {@code volatile} fields of bound properties atomically or with release
+ * semantics (e.g. {@code FIRST_NAME_UPDATER}), and the invocations of their methods. Field updaters can only write
+ * instance fields of type {@code int}, {@code long} or a reference type whose class is known at runtime.
+ *
+ * @author Alex Ruiz
+ */
+final class FieldUpdaters {
+
+  private static final String NEW_UPDATER_METHOD_NAME = "newUpdater";
+
+  /**
+   * Returns the type of field updater that can write the given field.
+   * @param fieldNode the given field.
+   * @param typeNode the type declaring the field.
+   * @return the type of field updater that can write the given field, or {@code null} if no field updater can.
+   */
+  static Class<?> updaterTypeOf(JavacNode fieldNode, JavacNode typeNode) {
+    JCVariableDecl fieldDecl = (JCVariableDecl) fieldNode.get();
+    if ((fieldDecl.mods.flags & STATIC) != 0) return null;
+    PrimitiveType primitiveType = primitiveTypeNamed(fieldDecl.vartype.toString());
+    if (primitiveType == PrimitiveType.INT) return AtomicIntegerFieldUpdater.class;
+    if (primitiveType == PrimitiveType.LONG) return AtomicLongFieldUpdater.class;
+    if (primitiveType != null || !isReifiable(fieldDecl.vartype, typeNode)) return null;
+    return AtomicReferenceFieldUpdater.class;
+  }
+
+  private static boolean isReifiable(JCExpression type, JavacNode typeNode) {
+    JCExpression elementType = type;
+    while (elementType instanceof JCArrayTypeTree) elementType = ((JCArrayTypeTree) elementType).elemtype;
+    if (elementType instanceof JCTypeApply) return false;
+    if (!(elementType instanceof JCIdent)) return true;
+    String name = elementType.toString();
+    for (JavacNode n = typeNode; n != null; n = n.up()) {
+      if (!(n.get() instanceof JCClassDecl)) continue;
+      for (JCTypeParameter typeParameter : ((JCClassDecl) n.get()).typarams)
+        if (typeParameter.name.toString().equals(name)) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Generates, in the given type, the field updater that writes the given field, unless the type already has it. The
+   * given field must be one that a field updater can write (see <code>{@link #updaterTypeOf(JavacNode, JavacNode)}
+   * </code>.)
+   * @param fieldNode the given field.
+   * @param typeNode the type declaring the field.
+   */
+  static void generateUpdaterField(JavacNode fieldNode, JavacNode typeNode) {
+    // int: private static final AtomicIntegerFieldUpdater<Person> AGE_UPDATER =
+    //          AtomicIntegerFieldUpdater.newUpdater(Person.class, "age");
+    // reference: private static final AtomicReferenceFieldUpdater<Person, String> FIRST_NAME_UPDATER =
+    //                AtomicReferenceFieldUpdater.newUpdater(Person.class, String.class, "firstName");
+    String updaterFieldName = nameOfUpdaterConstantBasedOnProperty(fieldNode.getName());
+    if (fieldAlreadyExists(updaterFieldName, typeNode)) return;
+    JCVariableDecl fieldDecl = (JCVariableDecl) fieldNode.get();
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    Class<?> updaterType = updaterTypeOf(fieldNode, typeNode);
+    List<JCExpression> typeArgs = List.of(name(typeNode.getName(), typeNode));
+    List<JCExpression> args = List.of(classLiteral(name(typeNode.getName(), typeNode), typeNode));
+    if (updaterType == AtomicReferenceFieldUpdater.class) {
+      typeArgs = typeArgs.append(fieldDecl.vartype);
+      args = args.append(classLiteral(fieldDecl.vartype, typeNode));
+    }
+    args = args.append(treeMaker.Literal(fieldNode.getName()));
+    JCExpression fn = chainDots(treeMaker, typeNode, append(splitNameOf(updaterType), NEW_UPDATER_METHOD_NAME));
+    JCVariableDecl updaterDecl = newField().ofType(treeMaker.TypeApply(typeReference(updaterType, typeNode), typeArgs))
+                                           .withName(updaterFieldName)
+                                           .withModifiers(PRIVATE | STATIC | FINAL)
+                                           .withInitializer(treeMaker.Apply(List.<JCExpression> nil(), fn, args))
+                                           .buildWith(typeNode);
+    addField(typeNode, updaterDecl);
+  }
+
+  /**
+   * Creates an invocation of a method of the field updater of the given field, on {@code this} (e.g.
+   * {@code FIRST_NAME_UPDATER.getAndSet(this, firstName)}.)
+   * @param methodName the name of the method to invoke.
+   * @param args the arguments of the method, after {@code this}.
+   * @param fieldNode the given field.
+   * @return the created method invocation.
+   */
+  static JCMethodInvocation updaterInvocation(String methodName, List<JCExpression> args, JavacNode fieldNode) {
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCExpression updater = name(nameOfUpdaterConstantBasedOnProperty(fieldNode.getName()), fieldNode);
+    JCExpression fn = treeMaker.Select(updater, fieldNode.toName(methodName));
+    return treeMaker.Apply(List.<JCExpression> nil(), fn, args.prepend(name("this", fieldNode)));
+  }
+
+  private FieldUpdaters() {}
+}
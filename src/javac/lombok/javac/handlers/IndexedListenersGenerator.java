@@ -0,0 +1,431 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.javac.handlers;
+
+import static com.sun.tools.javac.code.Flags.*;
+import static lombok.core.util.Names.*;
+import static lombok.javac.handlers.BoundProperties.boundPropertiesOf;
+import static lombok.javac.handlers.FieldBuilder.newField;
+import static lombok.javac.handlers.JCNoType.voidType;
+import static lombok.javac.handlers.JavacHandlerUtil.*;
+import static lombok.javac.handlers.Lombok.addField;
+import static lombok.javac.handlers.Lombok.addMethod;
+import static lombok.javac.handlers.MemberChecks.*;
+import static lombok.javac.handlers.MethodBuilder.newMethod;
+
+import java.beans.PropertyChangeEvent;
+import java.util.Arrays;
+
+import lombok.javac.JavacNode;
+
+import com.sun.tools.javac.code.TypeTags;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.JCTree.JCExpressionStatement;
+import com.sun.tools.javac.tree.JCTree.JCMethodDecl;
+import com.sun.tools.javac.tree.JCTree.JCStatement;
+import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
+import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.util.List;
+
+/**
+ * Stores listeners of all properties like <code>{@link CopyOnWriteArrayGenerator}</code> does, and listeners of a
+ * single property in a {@code volatile} table, indexed by the ordinal of the property, that is copied and replaced
+ * every time a listener is added or removed. All the instances of a type start with the same, empty, table.
+ *
+ * @author Alex Ruiz
+ */
+class IndexedListenersGenerator extends CopyOnWriteArrayGenerator {
+
+  private static final String ORDINAL_VARIABLE_NAME = "ordinal";
+  private static final String LISTENERS_VARIABLE_NAME = "listeners";
+
+  @Override void generateRegistry(JavacNode typeNode) {
+    super.generateRegistry(typeNode);
+    if (fieldAlreadyExists(NAMED_PROPERTY_CHANGE_LISTENERS_FIELD_NAME, typeNode)) return;
+    generatePropertyNamesField(typeNode);
+    generateNoNamedListenersField(typeNode);
+    generateUpdaterField(NAMED_PROPERTY_CHANGE_LISTENERS_UPDATER_FIELD_NAME, NAMED_PROPERTY_CHANGE_LISTENERS_FIELD_NAME,
+        tableType(typeNode), tableType(typeNode), typeNode);
+    generateNamedListenersField(typeNode);
+    // same names as the methods for listeners of all properties, which are already generated: only the parameters
+    // differ.
+    addMethod(typeNode, namedChangeListenerMethod(PROPERTY_CHANGE_METHOD_NAMES[0],
+        ADD_NAMED_PROPERTY_CHANGE_LISTENER_METHOD_NAME, typeNode));
+    addMethod(typeNode, namedChangeListenerMethod(PROPERTY_CHANGE_METHOD_NAMES[1],
+        REMOVE_NAMED_PROPERTY_CHANGE_LISTENER_METHOD_NAME, typeNode));
+    addMethod(typeNode, ordinalChangeListenerMethod(ADD_NAMED_PROPERTY_CHANGE_LISTENER_METHOD_NAME,
+        addNamedListenerStatements(typeNode), typeNode));
+    addMethod(typeNode, ordinalChangeListenerMethod(REMOVE_NAMED_PROPERTY_CHANGE_LISTENER_METHOD_NAME,
+        removeNamedListenerStatements(typeNode), typeNode));
+    generatePropertyOrdinalMethod(typeNode);
+  }
+
+  @Override void generatePropertyListenerMethods(JavacNode fieldNode, JavacNode typeNode) {
+    // public void addFirstNameListener(final PropertyChangeListener listener) {
+    //   addNamedPropertyChangeListener(ORDINAL_FIRST_NAME, listener);
+    // }
+    //
+    // public void removeFirstNameListener(final PropertyChangeListener listener) {
+    //   removeNamedPropertyChangeListener(ORDINAL_FIRST_NAME, listener);
+    // }
+    String propertyName = fieldNode.getName();
+    generateChangeListenerMethod(nameOfAddPropertyListenerMethod(propertyName),
+        List.of(delegateStatement(ADD_NAMED_PROPERTY_CHANGE_LISTENER_METHOD_NAME, ordinalConstant(fieldNode),
+            typeNode)), typeNode);
+    generateChangeListenerMethod(nameOfRemovePropertyListenerMethod(propertyName),
+        List.of(delegateStatement(REMOVE_NAMED_PROPERTY_CHANGE_LISTENER_METHOD_NAME, ordinalConstant(fieldNode),
+            typeNode)), typeNode);
+  }
+
+  private void generatePropertyNamesField(JavacNode typeNode) {
+    // private static final String[] PROPERTY_NAMES = new String[] { "firstName", "lastName" };
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    List<JCExpression> names = List.nil();
+    for (String name : boundPropertiesOf(typeNode).names()) names = names.append(treeMaker.Literal(name));
+    JCExpression init = treeMaker.NewArray(typeReference(String.class, typeNode), List.<JCExpression> nil(), names);
+    JCVariableDecl fieldDecl = newField().ofType(treeMaker.TypeArray(typeReference(String.class, typeNode)))
+                                         .withName(PROPERTY_NAMES_FIELD_NAME)
+                                         .withModifiers(PRIVATE | STATIC | FINAL)
+                                         .withInitializer(init)
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generateNoNamedListenersField(JavacNode typeNode) {
+    // private static final PropertyChangeListener[][] NO_NAMED_PROPERTY_CHANGE_LISTENERS =
+    //     new PropertyChangeListener[2][0];
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    int propertyCount = boundPropertiesOf(typeNode).names().size();
+    List<JCExpression> dimensions = List.of(intLiteral(propertyCount, typeNode), intLiteral(0, typeNode));
+    JCVariableDecl fieldDecl = newField().ofType(tableType(typeNode))
+                                         .withName(NO_NAMED_PROPERTY_CHANGE_LISTENERS_FIELD_NAME)
+                                         .withModifiers(PRIVATE | STATIC | FINAL)
+                                         .withInitializer(treeMaker.NewArray(listenerType(typeNode), dimensions, null))
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generateNamedListenersField(JavacNode typeNode) {
+    // private volatile PropertyChangeListener[][] namedPropertyChangeListeners = NO_NAMED_PROPERTY_CHANGE_LISTENERS;
+    JCVariableDecl fieldDecl = newField().ofType(tableType(typeNode))
+                                         .withName(NAMED_PROPERTY_CHANGE_LISTENERS_FIELD_NAME)
+                                         .withModifiers(PRIVATE | VOLATILE)
+                                         .withInitializer(name(NO_NAMED_PROPERTY_CHANGE_LISTENERS_FIELD_NAME, typeNode))
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private JCMethodDecl namedChangeListenerMethod(String methodName, String delegateMethodName, JavacNode typeNode) {
+    // public void addPropertyChangeListener(final String propertyName, final PropertyChangeListener listener) {
+    //   addNamedPropertyChangeListener(propertyOrdinal(propertyName), listener);
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression ordinal = treeMaker.Apply(List.<JCExpression> nil(), name(PROPERTY_ORDINAL_METHOD_NAME, typeNode),
+        List.of(name(PROPERTY_NAME_ARG_NAME, typeNode)));
+    List<JCVariableDecl> parameters = List.of(parameter(String.class, PROPERTY_NAME_ARG_NAME, typeNode),
+        listenerParameter(typeNode));
+    return newMethod().withModifiers(PUBLIC)
+                      .withName(methodName)
+                      .withReturnType(treeMaker.Type(voidType()))
+                      .withParameters(parameters)
+                      .withBody(treeMaker.Block(0, List.of(delegateStatement(delegateMethodName, ordinal, typeNode))))
+                      .buildWith(typeNode);
+  }
+
+  private JCStatement delegateStatement(String delegateMethodName, JCExpression ordinal, JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    List<JCExpression> args = List.of(ordinal, name(LISTENER_ARG_NAME, typeNode));
+    return treeMaker.Exec(treeMaker.Apply(List.<JCExpression> nil(), name(delegateMethodName, typeNode), args));
+  }
+
+  private JCMethodDecl ordinalChangeListenerMethod(String methodName, List<JCStatement> statements,
+      JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    List<JCVariableDecl> parameters = List.of(ordinalParameter(typeNode), listenerParameter(typeNode));
+    return newMethod().withModifiers(PRIVATE)
+                      .withName(methodName)
+                      .withReturnType(treeMaker.Type(voidType()))
+                      .withParameters(parameters)
+                      .withBody(treeMaker.Block(0, statements))
+                      .buildWith(typeNode);
+  }
+
+  private List<JCStatement> addNamedListenerStatements(JavacNode typeNode) {
+    // if (listener == null || ordinal < 0) return;
+    // while (true) {
+    //   final PropertyChangeListener[][] current = this.namedPropertyChangeListeners;
+    //   final PropertyChangeListener[] listeners = current[ordinal];
+    //   final PropertyChangeListener[][] updated = current.clone();
+    //   updated[ordinal] = Arrays.copyOf(listeners, listeners.length + 1);
+    //   updated[ordinal][listeners.length] = listener;
+    //   if (NAMED_PROPERTY_CHANGE_LISTENERS_UPDATER.compareAndSet(this, current, updated)) return;
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression fn = chainDots(treeMaker, typeNode, append(splitNameOf(Arrays.class), "copyOf"));
+    List<JCExpression> args = List.of(name(LISTENERS_VARIABLE_NAME, typeNode),
+        treeMaker.Binary(JCTree.PLUS, listenersLength(typeNode), intLiteral(1, typeNode)));
+    JCExpression copy = treeMaker.Apply(List.<JCExpression> nil(), fn, args);
+    JCExpression slot = treeMaker.Indexed(updatedListeners(typeNode), listenersLength(typeNode));
+    List<JCStatement> loopBody = List.of(currentTableDecl(typeNode),
+                                         listenersDecl(typeNode),
+                                         updatedTableDecl(typeNode),
+                                         assign(updatedListeners(typeNode), copy, typeNode),
+                                         assign(slot, name(LISTENER_ARG_NAME, typeNode), typeNode),
+                                         returnIfReplaced(typeNode));
+    return List.of(returnIfNoListenerOrProperty(typeNode), retryLoop(loopBody, typeNode));
+  }
+
+  private List<JCStatement> removeNamedListenerStatements(JavacNode typeNode) {
+    // if (listener == null || ordinal < 0) return;
+    // while (true) {
+    //   final PropertyChangeListener[][] current = this.namedPropertyChangeListeners;
+    //   final PropertyChangeListener[] listeners = current[ordinal];
+    //   int index = 0;
+    //   while (index < listeners.length && !listener.equals(listeners[index])) index++;
+    //   if (index == listeners.length) return;
+    //   final PropertyChangeListener[][] updated = current.clone();
+    //   updated[ordinal] = new PropertyChangeListener[listeners.length - 1];
+    //   System.arraycopy(listeners, 0, updated[ordinal], 0, index);
+    //   System.arraycopy(listeners, index + 1, updated[ordinal], index, updated[ordinal].length - index);
+    //   if (NAMED_PROPERTY_CHANGE_LISTENERS_UPDATER.compareAndSet(this, current, updated)) return;
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression listenerAtIndex = treeMaker.Indexed(name(LISTENERS_VARIABLE_NAME, typeNode), index(typeNode));
+    JCExpression equalsFn = chainDots(treeMaker, typeNode, LISTENER_ARG_NAME, "equals");
+    JCExpression isListener = treeMaker.Apply(List.<JCExpression> nil(), equalsFn, List.of(listenerAtIndex));
+    JCExpression indexBeforeEnd = treeMaker.Binary(JCTree.LT, index(typeNode), listenersLength(typeNode));
+    JCExpression keepSearching = treeMaker.Binary(JCTree.AND, indexBeforeEnd, treeMaker.Unary(JCTree.NOT, isListener));
+    JCStatement search = treeMaker.WhileLoop(keepSearching, incrementIndex(typeNode));
+    JCExpression notFound = treeMaker.Binary(JCTree.EQ, index(typeNode), listenersLength(typeNode));
+    JCStatement returnIfNotFound = treeMaker.If(notFound, treeMaker.Return(null), null);
+    JCExpression newLength = treeMaker.Binary(JCTree.MINUS, listenersLength(typeNode), intLiteral(1, typeNode));
+    JCExpression newArray = treeMaker.NewArray(listenerType(typeNode), List.of(newLength), null);
+    JCExpression indexAfterRemoved = treeMaker.Binary(JCTree.PLUS, index(typeNode), intLiteral(1, typeNode));
+    JCExpression updatedLength = treeMaker.Select(updatedListeners(typeNode), typeNode.toName("length"));
+    JCExpression tailLength = treeMaker.Binary(JCTree.MINUS, updatedLength, index(typeNode));
+    List<JCStatement> loopBody = List.of(currentTableDecl(typeNode),
+                                         listenersDecl(typeNode),
+                                         indexDecl(typeNode),
+                                         search,
+                                         returnIfNotFound,
+                                         updatedTableDecl(typeNode),
+                                         assign(updatedListeners(typeNode), newArray, typeNode),
+                                         arrayCopy(intLiteral(0, typeNode), intLiteral(0, typeNode), index(typeNode),
+                                             typeNode),
+                                         arrayCopy(indexAfterRemoved, index(typeNode), tailLength, typeNode),
+                                         returnIfReplaced(typeNode));
+    return List.of(returnIfNoListenerOrProperty(typeNode), retryLoop(loopBody, typeNode));
+  }
+
+  private JCStatement returnIfNoListenerOrProperty(JavacNode typeNode) {
+    // if (listener == null || ordinal < 0) return;
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression noListener = treeMaker.Binary(JCTree.EQ, name(LISTENER_ARG_NAME, typeNode), nullLiteral(typeNode));
+    JCExpression noProperty = treeMaker.Binary(JCTree.LT, name(ORDINAL_VARIABLE_NAME, typeNode),
+        intLiteral(0, typeNode));
+    return treeMaker.If(treeMaker.Binary(JCTree.OR, noListener, noProperty), treeMaker.Return(null), null);
+  }
+
+  private JCStatement currentTableDecl(JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(CURRENT_VARIABLE_NAME), tableType(typeNode),
+        namedListenersField(typeNode));
+  }
+
+  private JCStatement listenersDecl(JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression listeners = treeMaker.Indexed(name(CURRENT_VARIABLE_NAME, typeNode),
+        name(ORDINAL_VARIABLE_NAME, typeNode));
+    return localListenersDecl(LISTENERS_VARIABLE_NAME, listeners, typeNode);
+  }
+
+  private JCStatement updatedTableDecl(JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression clone = treeMaker.Apply(List.<JCExpression> nil(),
+        chainDots(treeMaker, typeNode, CURRENT_VARIABLE_NAME, "clone"), List.<JCExpression> nil());
+    return treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(UPDATED_VARIABLE_NAME), tableType(typeNode),
+        clone);
+  }
+
+  private JCExpression updatedListeners(JavacNode typeNode) {
+    // updated[ordinal]
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.Indexed(name(UPDATED_VARIABLE_NAME, typeNode), name(ORDINAL_VARIABLE_NAME, typeNode));
+  }
+
+  private JCExpression listenersLength(JavacNode typeNode) {
+    return chainDots(typeNode.getTreeMaker(), typeNode, LISTENERS_VARIABLE_NAME, "length");
+  }
+
+  private JCStatement arrayCopy(JCExpression sourcePosition, JCExpression destinationPosition, JCExpression length,
+      JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression fn = chainDots(treeMaker, typeNode, "java", "lang", "System", "arraycopy");
+    List<JCExpression> args = List.of(name(LISTENERS_VARIABLE_NAME, typeNode), sourcePosition,
+        updatedListeners(typeNode), destinationPosition, length);
+    return treeMaker.Exec(treeMaker.Apply(List.<JCExpression> nil(), fn, args));
+  }
+
+  private JCStatement returnIfReplaced(JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression fn = chainDots(treeMaker, typeNode, NAMED_PROPERTY_CHANGE_LISTENERS_UPDATER_FIELD_NAME,
+        "compareAndSet");
+    List<JCExpression> args = List.of(chainDots(treeMaker, typeNode, "this"), name(CURRENT_VARIABLE_NAME, typeNode),
+        name(UPDATED_VARIABLE_NAME, typeNode));
+    JCExpression replaced = treeMaker.Apply(List.<JCExpression> nil(), fn, args);
+    return treeMaker.If(replaced, treeMaker.Return(null), null);
+  }
+
+  private void generatePropertyOrdinalMethod(JavacNode typeNode) {
+    // private static int propertyOrdinal(final String propertyName) {
+    //   for (int ordinal = 0; ordinal < PROPERTY_NAMES.length; ordinal++)
+    //     if (PROPERTY_NAMES[ordinal].equals(propertyName)) return ordinal;
+    //   return -1;
+    // }
+    if (methodAlreadyExists(PROPERTY_ORDINAL_METHOD_NAME, typeNode)) return;
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression ordinal = name(ORDINAL_VARIABLE_NAME, typeNode);
+    JCExpression propertyName = treeMaker.Indexed(name(PROPERTY_NAMES_FIELD_NAME, typeNode), ordinal);
+    JCExpression isProperty = treeMaker.Apply(List.<JCExpression> nil(),
+        treeMaker.Select(propertyName, typeNode.toName("equals")), List.of(name(PROPERTY_NAME_ARG_NAME, typeNode)));
+    JCStatement returnIfFound = treeMaker.If(isProperty, treeMaker.Return(name(ORDINAL_VARIABLE_NAME, typeNode)),
+        null);
+    JCStatement init = treeMaker.VarDef(treeMaker.Modifiers(0), typeNode.toName(ORDINAL_VARIABLE_NAME),
+        treeMaker.TypeIdent(TypeTags.INT), intLiteral(0, typeNode));
+    JCExpression beforeEnd = treeMaker.Binary(JCTree.LT, name(ORDINAL_VARIABLE_NAME, typeNode),
+        chainDots(treeMaker, typeNode, PROPERTY_NAMES_FIELD_NAME, "length"));
+    JCExpressionStatement next = treeMaker.Exec(treeMaker.Unary(JCTree.POSTINC, name(ORDINAL_VARIABLE_NAME,
+        typeNode)));
+    JCStatement search = treeMaker.ForLoop(List.of(init), beforeEnd, List.of(next), returnIfFound);
+    JCStatement notFound = treeMaker.Return(intLiteral(-1, typeNode));
+    JCMethodDecl methodDecl = newMethod().withModifiers(PRIVATE | STATIC)
+                                         .withName(PROPERTY_ORDINAL_METHOD_NAME)
+                                         .withReturnType(treeMaker.TypeIdent(TypeTags.INT))
+                                         .withParameters(List.of(parameter(String.class, PROPERTY_NAME_ARG_NAME,
+                                             typeNode)))
+                                         .withBody(treeMaker.Block(0, List.of(search, notFound)))
+                                         .buildWith(typeNode);
+    addMethod(typeNode, methodDecl);
+  }
+
+  @Override void generateNotifyListenersMethod(JavacNode typeNode) {
+    // private void notifyPropertyChangeListeners(final int ordinal, final String propertyName, final Object oldValue,
+    //     final Object newValue) {
+    //   if (oldValue != null && newValue != null && oldValue.equals(newValue)) return;
+    //   final PropertyChangeListener[] current = this.propertyChangeListeners;
+    //   final PropertyChangeEvent event = new PropertyChangeEvent(this, propertyName, oldValue, newValue);
+    //   for (int index = 0; index < current.length; index++) current[index].propertyChange(event);
+    //   notifyNamedPropertyChangeListeners(ordinal, event);
+    // }
+    if (methodAlreadyExists(NOTIFY_PROPERTY_CHANGE_LISTENERS_METHOD_NAME, typeNode)) return;
+    List<JCStatement> statements = notifyListenersStatements(typeNode).append(
+        notifyNamedListenersStatement(name(ORDINAL_VARIABLE_NAME, typeNode), EVENT_VARIABLE_NAME, typeNode));
+    List<JCVariableDecl> ordinal = List.of(ordinalParameter(typeNode));
+    addMethod(typeNode, notifyListenersMethod(ordinal, statements, typeNode));
+    generateNotifyNamedListenersMethod(typeNode);
+  }
+
+  private void generateNotifyNamedListenersMethod(JavacNode typeNode) {
+    // private void notifyNamedPropertyChangeListeners(final int ordinal, final PropertyChangeEvent event) {
+    //   if (ordinal < 0) return;
+    //   final PropertyChangeListener[] current = this.namedPropertyChangeListeners[ordinal];
+    //   for (int index = 0; index < current.length; index++) current[index].propertyChange(event);
+    // }
+    if (methodAlreadyExists(NOTIFY_NAMED_PROPERTY_CHANGE_LISTENERS_METHOD_NAME, typeNode)) return;
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression noProperty = treeMaker.Binary(JCTree.LT, name(ORDINAL_VARIABLE_NAME, typeNode),
+        intLiteral(0, typeNode));
+    JCExpression listeners = treeMaker.Indexed(namedListenersField(typeNode), name(ORDINAL_VARIABLE_NAME, typeNode));
+    List<JCStatement> statements = List.of(treeMaker.If(noProperty, treeMaker.Return(null), null),
+                                           localListenersDecl(CURRENT_VARIABLE_NAME, listeners, typeNode),
+                                           notifyEachListener(EVENT_VARIABLE_NAME, typeNode));
+    List<JCVariableDecl> parameters = List.of(ordinalParameter(typeNode),
+        parameter(PropertyChangeEvent.class, EVENT_VARIABLE_NAME, typeNode));
+    JCMethodDecl methodDecl = newMethod().withModifiers(PRIVATE)
+                                         .withName(NOTIFY_NAMED_PROPERTY_CHANGE_LISTENERS_METHOD_NAME)
+                                         .withReturnType(treeMaker.Type(voidType()))
+                                         .withParameters(parameters)
+                                         .withBody(treeMaker.Block(0, statements))
+                                         .buildWith(typeNode);
+    addMethod(typeNode, methodDecl);
+  }
+
+  private JCVariableDecl ordinalParameter(JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(ORDINAL_VARIABLE_NAME),
+        treeMaker.TypeIdent(TypeTags.INT), null);
+  }
+
+  private JCStatement notifyNamedListenersStatement(JCExpression ordinal, String eventVariableName,
+      JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    List<JCExpression> args = List.of(ordinal, name(eventVariableName, typeNode));
+    return treeMaker.Exec(treeMaker.Apply(List.<JCExpression> nil(),
+        name(NOTIFY_NAMED_PROPERTY_CHANGE_LISTENERS_METHOD_NAME, typeNode), args));
+  }
+
+  @Override JCExpression noListenersCondition(String propertyNameFieldName, JavacNode fieldNode) {
+    // this.propertyChangeListeners.length == 0 && this.namedPropertyChangeListeners[ORDINAL_FIRST_NAME].length == 0
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCExpression listeners = treeMaker.Indexed(namedListenersField(fieldNode), ordinalConstant(fieldNode));
+    JCExpression noNamedListeners = treeMaker.Binary(JCTree.EQ,
+        treeMaker.Select(listeners, fieldNode.toName("length")), intLiteral(0, fieldNode));
+    return treeMaker.Binary(JCTree.AND, super.noListenersCondition(propertyNameFieldName, fieldNode),
+        noNamedListeners);
+  }
+
+  @Override JCStatement notifyListenersStatement(String propertyNameFieldName, JCExpression oldValue,
+      JCExpression newValue, JavacNode fieldNode) {
+    // notifyPropertyChangeListeners(ORDINAL_FIRST_NAME, PROP_FIRST_NAME, old, this.firstName);
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCExpression fn = name(NOTIFY_PROPERTY_CHANGE_LISTENERS_METHOD_NAME, fieldNode);
+    List<JCExpression> args = List.of(ordinalConstant(fieldNode), name(propertyNameFieldName, fieldNode), oldValue,
+        newValue);
+    return treeMaker.Exec(treeMaker.Apply(List.<JCExpression> nil(), fn, args));
+  }
+
+  @Override JCStatement fireEventStatement(String eventVariableName, JavacNode typeNode) {
+    // {
+    //   final PropertyChangeListener[] current = this.propertyChangeListeners;
+    //   for (int index = 0; index < current.length; index++) current[index].propertyChange(event);
+    //   notifyNamedPropertyChangeListeners(propertyOrdinal(event.getPropertyName()), event);
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression propertyName = treeMaker.Apply(List.<JCExpression> nil(),
+        chainDots(treeMaker, typeNode, eventVariableName, "getPropertyName"), List.<JCExpression> nil());
+    JCExpression ordinal = treeMaker.Apply(List.<JCExpression> nil(), name(PROPERTY_ORDINAL_METHOD_NAME, typeNode),
+        List.of(propertyName));
+    List<JCStatement> statements = fireEventStatements(eventVariableName, typeNode).append(
+        notifyNamedListenersStatement(ordinal, eventVariableName, typeNode));
+    return treeMaker.Block(0, statements);
+  }
+
+  @Override boolean indexesPropertyListeners() {
+    return true;
+  }
+
+  private JCExpression ordinalConstant(JavacNode fieldNode) {
+    return name(nameOfOrdinalConstantBasedOnProperty(fieldNode.getName()), fieldNode);
+  }
+
+  private JCExpression namedListenersField(JavacNode node) {
+    return chainDots(node.getTreeMaker(), node, "this", NAMED_PROPERTY_CHANGE_LISTENERS_FIELD_NAME);
+  }
+
+  private JCExpression tableType(JavacNode typeNode) {
+    return typeNode.getTreeMaker().TypeArray(listenerArrayType(typeNode));
+  }
+}
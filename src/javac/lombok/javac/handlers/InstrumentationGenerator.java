@@ -0,0 +1,147 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.javac.handlers;
+
+import static com.sun.tools.javac.code.Flags.*;
+import static lombok.core.util.Names.*;
+import static lombok.javac.handlers.FieldBuilder.newField;
+import static lombok.javac.handlers.JavacHandlerUtil.chainDots;
+import static lombok.javac.handlers.ListenerRegistryGenerator.*;
+import static lombok.javac.handlers.Lombok.addField;
+import static lombok.javac.handlers.MemberChecks.fieldAlreadyExists;
+
+import lombok.GenerateJavaBean;
+import lombok.core.BeanMetrics;
+import lombok.core.PropertyMetrics;
+import lombok.javac.JavacNode;
+
+import com.sun.tools.javac.code.TypeTags;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.JCTree.JCStatement;
+import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
+import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.util.List;
+
+/**
+ * Generates the instrumentation of the bound setters of a JavaBean: a constant per property holding its
+ * <code>{@link PropertyMetrics}</code>, the statement that records a write, and the statements that time the
+ * notification of listeners. Generates nothing unless the JavaBean is annotated with
+ * {@code @GenerateJavaBean(instrumented = true)}.
+ *
+ * @author Alex Ruiz
+ */
+final class InstrumentationGenerator {
+
+  private static final String PROPERTY_METRICS_METHOD_NAME = "propertyMetrics";
+  private static final String NANO_TIME_METHOD_NAME = "nanoTime";
+  private static final String FIRE_START_VARIABLE_NAME = "fireStart";
+
+  /**
+   * Returns the generator of the instrumentation of the JavaBean annotated with the given
+   * <code>{@link GenerateJavaBean}</code>.
+   * @param javaBean the annotation on the JavaBean, or {@code null} if the JavaBean is not annotated.
+   * @return the created generator, which generates nothing if the JavaBean is not instrumented.
+   */
+  static InstrumentationGenerator instrumentationGenerator(GenerateJavaBean javaBean) {
+    return new InstrumentationGenerator(javaBean != null && javaBean.instrumented());
+  }
+
+  private final boolean enabled;
+
+  private InstrumentationGenerator(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Indicates whether the JavaBean is instrumented.
+   * @return {@code true} if the JavaBean is instrumented; {@code false} otherwise.
+   */
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Generates, in the given type, the constant holding the metrics of the given field, unless the JavaBean is not
+   * instrumented or the type already has the constant.
+   * @param fieldNode the given field.
+   * @param typeNode the type declaring the field.
+   */
+  void generateMetricsField(JavacNode fieldNode, JavacNode typeNode) {
+    // the property name is a literal, since PROP_FIRST_NAME may not be initialized yet.
+    // private static final lombok.core.PropertyMetrics FIRST_NAME_METRICS =
+    //     lombok.core.BeanMetrics.propertyMetrics(Person.class, "firstName");
+    String metricsFieldName = nameOfMetricsConstantBasedOnProperty(fieldNode.getName());
+    if (!enabled || fieldAlreadyExists(metricsFieldName, typeNode)) return;
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression fn = chainDots(treeMaker, typeNode, append(splitNameOf(BeanMetrics.class),
+        PROPERTY_METRICS_METHOD_NAME));
+    List<JCExpression> args = List.of(classLiteral(name(typeNode.getName(), typeNode), typeNode),
+                                      treeMaker.Literal(fieldNode.getName()));
+    JCVariableDecl fieldDecl = newField().ofType(typeReference(PropertyMetrics.class, typeNode))
+                                         .withName(metricsFieldName)
+                                         .withModifiers(PRIVATE | STATIC | FINAL)
+                                         .withInitializer(treeMaker.Apply(List.<JCExpression> nil(), fn, args))
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  /**
+   * Creates the statement that records a write to the given field (e.g.
+   * {@code FIRST_NAME_METRICS.recordWrite(this.firstName == firstName);}.)
+   * @param unchanged the condition that is {@code true} if the write leaves the value of the field unchanged.
+   * @param fieldNode the field written by the setter.
+   * @return the created statement.
+   */
+  JCStatement recordWriteStatement(JCExpression unchanged, JavacNode fieldNode) {
+    return recordStatement(RECORD_WRITE_METHOD_NAME, unchanged, fieldNode);
+  }
+
+  /**
+   * Wraps the given statement, which passes a change of the given field to the listeners, with statements that
+   * measure the time it takes and record it:
+   *
+   * <pre>
+   * final long fireStart = System.nanoTime();
+   * propertySupport.firePropertyChange(PROP_FIRST_NAME, old, this.firstName);
+   * FIRST_NAME_METRICS.recordFire(System.nanoTime() - fireStart);
+   * </pre>
+   * @param fire the statement that passes a change to the listeners.
+   * @param fieldNode the field written by the setter.
+   * @return the given statement and the statements that time it, in a block.
+   */
+  JCStatement timedFireStatement(JCStatement fire, JavacNode fieldNode) {
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCStatement start = treeMaker.VarDef(treeMaker.Modifiers(FINAL), fieldNode.toName(FIRE_START_VARIABLE_NAME),
+        treeMaker.TypeIdent(TypeTags.LONG), nanoTime(fieldNode));
+    JCExpression elapsed = treeMaker.Binary(JCTree.MINUS, nanoTime(fieldNode), name(FIRE_START_VARIABLE_NAME,
+        fieldNode));
+    JCStatement record = recordStatement(RECORD_FIRE_METHOD_NAME, elapsed, fieldNode);
+    return treeMaker.Block(0, List.of(start, fire, record));
+  }
+
+  private JCStatement recordStatement(String methodName, JCExpression arg, JavacNode fieldNode) {
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCExpression metrics = name(nameOfMetricsConstantBasedOnProperty(fieldNode.getName()), fieldNode);
+    return treeMaker.Exec(treeMaker.Apply(List.<JCExpression> nil(), treeMaker.Select(metrics,
+        fieldNode.toName(methodName)), List.of(arg)));
+  }
+
+  private JCExpression nanoTime(JavacNode node) {
+    TreeMaker treeMaker = node.getTreeMaker();
+    JCExpression fn = chainDots(treeMaker, node, append(splitNameOf(System.class), NANO_TIME_METHOD_NAME));
+    return treeMaker.Apply(List.<JCExpression> nil(), fn, List.<JCExpression> nil());
+  }
+}
@@ -14,31 +14,30 @@
  */
 package lombok.javac.handlers;
 
-import static com.sun.tools.javac.code.Flags.*;
-import static lombok.core.util.ErrorMessages.canBeUsedOnClassOnly;
-import static lombok.core.util.Names.*;
-import static lombok.javac.handlers.FieldBuilder.newField;
-import static lombok.javac.handlers.JCNoType.voidType;
+import static lombok.core.util.ErrorMessages.*;
+import static lombok.javac.handlers.ChangeBatchGenerator.changeBatchGenerator;
+import static lombok.javac.handlers.ChangeCallbackGenerator.changeCallbackGenerator;
+import static lombok.javac.handlers.ChangeJournalGenerator.changeJournalGenerator;
+import static lombok.javac.handlers.DirtyTrackingGenerator.dirtyTrackingGenerator;
 import static lombok.javac.handlers.JavacHandlerUtil.*;
-import static lombok.javac.handlers.MemberChecks.*;
-import static lombok.javac.handlers.MethodBuilder.newMethod;
+import static lombok.javac.handlers.ListenerRegistryGenerator.listenerRegistryGenerator;
+import static lombok.javac.handlers.MemberChecks.isClass;
+import static lombok.javac.handlers.VetoableChangeSupportGenerator.*;
+import static lombok.javac.handlers.WeakListenersGenerator.weakListenersGenerator;
 
 import java.beans.*;
 
+import lombok.EventDispatch;
+import lombok.GenerateConstrainedSetter;
 import lombok.GenerateJavaBean;
+import lombok.ListenerRegistry;
+import lombok.Threading;
 import lombok.core.AnnotationValues;
 import lombok.javac.*;
 
 import org.mangosdk.spi.ProviderFor;
 
 import com.sun.tools.javac.tree.JCTree.JCAnnotation;
-import com.sun.tools.javac.tree.JCTree.JCBlock;
-import com.sun.tools.javac.tree.JCTree.JCExpression;
-import com.sun.tools.javac.tree.JCTree.JCMethodDecl;
-import com.sun.tools.javac.tree.JCTree.JCStatement;
-import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
-import com.sun.tools.javac.tree.*;
-import com.sun.tools.javac.util.*;
 
 /**
  * Generates basic support for making a class annotated with <code>{@link GenerateJavaBean}</code> a JavaBean.
@@ -77,6 +76,47 @@ import com.sun.tools.javac.util.*;
  * }
  * </pre>
  * </p>
+ * <p>
+ * When <code>{@link GenerateJavaBean#registry()}</code> is <code>{@link ListenerRegistry#COPY_ON_WRITE}</code>,
+ * listeners are stored in a copy-on-write array instead (see <code>{@link CopyOnWriteArrayGenerator}</code>.) When it
+ * is <code>{@link ListenerRegistry#INDEXED}</code>, listeners of a single property can be added too, and are stored by
+ * the ordinal of the property (see <code>{@link IndexedListenersGenerator}</code>.) When it is
+ * <code>{@link ListenerRegistry#STRIPED}</code>, listeners are partitioned into stripes by identity hash code (see
+ * <code>{@link StripedListenersGenerator}</code>.) When <code>{@link GenerateJavaBean#threading()}</code> is
+ * <code>{@link Threading#CONFINED}</code>, listeners are stored in a plain array that is read without any
+ * synchronization (see <code>{@link ConfinedArrayGenerator}</code>.)
+ * </p>
+ * <p>
+ * When <code>{@link GenerateJavaBean#batchChanges()}</code> is {@code true}, the methods {@code beginBatch()} and
+ * {@code endBatch()} are generated as well (see <code>{@link ChangeBatchGenerator}</code>.)
+ * </p>
+ * <p>
+ * When <code>{@link GenerateJavaBean#changeCallbacks()}</code> is {@code true}, the interface {@code ChangeCallback}
+ * and the methods that add and remove change callbacks are generated as well (see
+ * <code>{@link ChangeCallbackGenerator}</code>.)
+ * </p>
+ * <p>
+ * When <code>{@link GenerateJavaBean#dirtyTracking()}</code> is {@code true}, a bitset recording which properties were
+ * written, and the methods {@code isDirty(String)}, {@code dirtyProperties()} and {@code clearDirty()} are generated
+ * as well (see <code>{@link DirtyTrackingGenerator}</code>.)
+ * </p>
+ * <p>
+ * When <code>{@link GenerateJavaBean#changeJournal()}</code> is {@code true}, the interface {@code ChangeConsumer},
+ * the arrays that hold the change journal and the method {@code drainChanges(ChangeConsumer)} are generated as well
+ * (see <code>{@link ChangeJournalGenerator}</code>.)
+ * </p>
+ * <p>
+ * When <code>{@link GenerateJavaBean#weakListeners()}</code> is {@code true}, the type
+ * {@code WeakPropertyChangeListener} and the method {@code addWeakPropertyChangeListener(PropertyChangeListener)} are
+ * generated as well (see <code>{@link WeakListenersGenerator}</code>.)
+ * </p>
+ * <p>
+ * When any field of the class is annotated with <code>{@link GenerateConstrainedSetter}</code>, a field of type
+ * <code>{@link VetoableChangeSupport}</code> with name "vetoableSupport," created when the first vetoable change
+ * listener is added, and the methods {@code addVetoableChangeListener(VetoableChangeListener)} and
+ * {@code removeVetoableChangeListener(VetoableChangeListener)} are generated as well (see
+ * <code>{@link VetoableChangeSupportGenerator}</code>.)
+ * </p>
  *
  * @author Alex Ruiz
  */
@@ -96,70 +136,35 @@ public class JavaBeanHandler implements JavacAnnotationHandler<GenerateJavaBean>
   @Override
   public boolean handle(AnnotationValues<GenerateJavaBean> annotation, JCAnnotation ast, JavacNode astWrapper) {
     markAnnotationAsProcessed(astWrapper, TARGET_ANNOTATION_TYPE);
+    deleteImportFromCompilationUnit(astWrapper, ListenerRegistry.class.getName());
+    deleteImportFromCompilationUnit(astWrapper, EventDispatch.class.getName());
+    deleteImportFromCompilationUnit(astWrapper, Threading.class.getName());
     JavacNode typeNode = astWrapper.up();
     if (typeNode == null) return false;
     if (!isClass(typeNode)) {
       astWrapper.addError(canBeUsedOnClassOnly(TARGET_ANNOTATION_TYPE));
       return true;
     }
-    generatePropertyChangeSupportField(typeNode);
-    generateChangeListenerMethods(typeNode);
+    GenerateJavaBean javaBean = annotation.getInstance();
+    if (javaBean.threading() == Threading.CONFINED && javaBean.registry() != ListenerRegistry.PROPERTY_CHANGE_SUPPORT)
+      astWrapper.addWarning(confinedThreadingIgnoresRegistry(TARGET_ANNOTATION_TYPE, javaBean.registry()));
+    // cleared weak listeners are removed by the thread delivering the event: with asynchronous dispatch, the executor's
+    // thread, which must not write the unsynchronized listener array of a confined JavaBean.
+    boolean weakListenersRejected = javaBean.weakListeners() && javaBean.dispatch() == EventDispatch.ASYNC
+        && javaBean.threading() == Threading.CONFINED;
+    if (weakListenersRejected)
+      astWrapper.addError(weakListenersRequireSyncDispatchWhenConfined(TARGET_ANNOTATION_TYPE));
+    ListenerRegistryGenerator registry = listenerRegistryGenerator(javaBean);
+    registry.generateRegistry(typeNode);
+    changeBatchGenerator(javaBean, registry).generateBatchMembers(typeNode);
+    changeCallbackGenerator(javaBean, registry).generateCallbackMembers(typeNode);
+    dirtyTrackingGenerator(javaBean).generateDirtyTrackingMembers(typeNode);
+    changeJournalGenerator(javaBean).generateJournalMembers(typeNode);
+    if (!weakListenersRejected) weakListenersGenerator(javaBean).generateWeakListenerMembers(typeNode);
+    if (hasConstrainedProperties(typeNode)) generateVetoableSupport(registry, typeNode);
     return true;
   }
 
-  private void generatePropertyChangeSupportField(JavacNode typeNode) {
-    if (fieldAlreadyExists(PROPERTY_SUPPORT_FIELD_NAME, typeNode)) return;
-    JCExpression expressionForThis = chainDots(typeNode.getTreeMaker(), typeNode, "this");
-    JCVariableDecl fieldDecl = newField().ofType(PropertyChangeSupport.class)
-                                         .withName(PROPERTY_SUPPORT_FIELD_NAME)
-                                         .withModifiers(PRIVATE | FINAL)
-                                         .withArgs(expressionForThis)
-                                         .buildWith(typeNode);
-    injectField(typeNode, fieldDecl);
-  }
-
-  private void generateChangeListenerMethods(JavacNode typeNode) {
-    for (String methodName : PROPERTY_CHANGE_METHOD_NAMES)
-      generateChangeListenerMethod(methodName, typeNode);
-  }
-
-  private void generateChangeListenerMethod(String methodName, JavacNode typeNode) {
-    if (methodAlreadyExists(methodName, typeNode)) return;
-    TreeMaker treeMaker = typeNode.getTreeMaker();
-    JCMethodDecl methodDecl = newMethod().withModifiers(PUBLIC)
-                                         .withName(methodName)
-                                         .withReturnType(treeMaker.Type(voidType()))
-                                         .withParameters(parameters(typeNode))
-                                         .withBody(body(methodName, typeNode))
-                                         .buildWith(typeNode);
-    injectMethod(typeNode, methodDecl);
-  }
-
-  private List<JCVariableDecl> parameters(JavacNode typeNode) {
-    TreeMaker treeMaker = typeNode.getTreeMaker();
-    JCExpression type = chainDots(treeMaker, typeNode, splitNameOf(PropertyChangeListener.class));
-    JCVariableDecl parameter = treeMaker.VarDef(treeMaker.Modifiers(FINAL), listenerArgName(typeNode), type, null);
-    return List.of(parameter);
-  }
-
-  private JCBlock body(String methodName, JavacNode typeNode) {
-    TreeMaker treeMaker = typeNode.getTreeMaker();
-    JCExpression delegateToPropertySupport = delegateToPropertySupport(methodName, typeNode);
-    List<JCStatement> statements = List.<JCStatement> of(treeMaker.Exec(delegateToPropertySupport));
-    return treeMaker.Block(0, statements);
-  }
-
-  private JCExpression delegateToPropertySupport(String methodName, JavacNode typeNode) {
-    TreeMaker treeMaker = typeNode.getTreeMaker();
-    JCExpression fn = chainDots(treeMaker, typeNode, PROPERTY_SUPPORT_FIELD_NAME, methodName);
-    JCExpression arg = treeMaker.Ident(listenerArgName(typeNode));
-    return treeMaker.Apply(List.<JCExpression> nil(), fn, List.of(arg));
-  }
-
-  private Name listenerArgName(JavacNode typeNode) {
-    return typeNode.toName(LISTENER_ARG_NAME);
-  }
-
   /**
    * Indicates whether this handler requires resolution.
    * @return {@code false}.
@@ -0,0 +1,101 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.javac.handlers;
+
+import static com.sun.tools.javac.code.Flags.*;
+import static lombok.core.util.Names.*;
+import static lombok.javac.handlers.FieldBuilder.newField;
+import static lombok.javac.handlers.JavacHandlerUtil.*;
+import static lombok.javac.handlers.Lombok.addField;
+import static lombok.javac.handlers.MemberChecks.fieldAlreadyExists;
+
+import java.beans.PropertyChangeSupport;
+
+import lombok.javac.JavacNode;
+
+import com.sun.tools.javac.code.TypeTags;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.JCTree.JCStatement;
+import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
+import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.util.List;
+
+/**
+ * Stores property change listeners in a field of type <code>{@link PropertyChangeSupport}</code> that is created
+ * when the first listener is added.
+ *
+ * @author Alex Ruiz
+ */
+class LazyPropertyChangeSupportGenerator extends PropertyChangeSupportGenerator {
+
+  @Override void generateRegistry(JavacNode typeNode) {
+    if (fieldAlreadyExists(PROPERTY_SUPPORT_FIELD_NAME, typeNode)) {
+      super.generateRegistry(typeNode);
+      return;
+    }
+    generateUpdaterField(PROPERTY_SUPPORT_UPDATER_FIELD_NAME, PROPERTY_SUPPORT_FIELD_NAME,
+        typeReference(PropertyChangeSupport.class, typeNode), typeReference(PropertyChangeSupport.class, typeNode),
+        typeNode);
+    generatePropertyChangeSupportField(typeNode);
+    generateChangeListenerMethod(PROPERTY_CHANGE_METHOD_NAMES[0], addListenerStatements(typeNode), typeNode);
+    generateChangeListenerMethod(PROPERTY_CHANGE_METHOD_NAMES[1], removeListenerStatements(typeNode), typeNode);
+  }
+
+  private void generatePropertyChangeSupportField(JavacNode typeNode) {
+    // private volatile PropertyChangeSupport propertySupport;
+    JCVariableDecl fieldDecl = newField().ofType(typeReference(PropertyChangeSupport.class, typeNode))
+                                         .withName(PROPERTY_SUPPORT_FIELD_NAME)
+                                         .withModifiers(PRIVATE | VOLATILE)
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private List<JCStatement> addListenerStatements(JavacNode typeNode) {
+    // if (propertySupport == null) PROPERTY_SUPPORT_UPDATER.compareAndSet(this, null, new PropertyChangeSupport(this));
+    // propertySupport.addPropertyChangeListener(listener);
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression newSupport = treeMaker.NewClass(null, List.<JCExpression> nil(),
+        typeReference(PropertyChangeSupport.class, typeNode), List.of(chainDots(treeMaker, typeNode, "this")), null);
+    JCExpression fn = chainDots(treeMaker, typeNode, PROPERTY_SUPPORT_UPDATER_FIELD_NAME, "compareAndSet");
+    List<JCExpression> args = List.of(chainDots(treeMaker, typeNode, "this"), nullLiteral(typeNode), newSupport);
+    JCStatement create = treeMaker.Exec(treeMaker.Apply(List.<JCExpression> nil(), fn, args));
+    JCStatement createIfMissing = treeMaker.If(propertySupportIs(JCTree.EQ, typeNode), create, null);
+    return List.of(createIfMissing, delegateToPropertySupport(PROPERTY_CHANGE_METHOD_NAMES[0], typeNode));
+  }
+
+  private List<JCStatement> removeListenerStatements(JavacNode typeNode) {
+    // if (propertySupport != null) propertySupport.removePropertyChangeListener(listener);
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCStatement remove = delegateToPropertySupport(PROPERTY_CHANGE_METHOD_NAMES[1], typeNode);
+    return List.<JCStatement> of(treeMaker.If(propertySupportIs(JCTree.NE, typeNode), remove, null));
+  }
+
+  @Override JCExpression noListenersCondition(String propertyNameFieldName, JavacNode fieldNode) {
+    // propertySupport == null || !propertySupport.hasListeners(PROP_FIRST_NAME)
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCExpression noSupport = propertySupportIs(JCTree.EQ, fieldNode);
+    return treeMaker.Binary(JCTree.OR, noSupport, super.noListenersCondition(propertyNameFieldName, fieldNode));
+  }
+
+  private JCExpression propertySupportIs(int operator, JavacNode node) {
+    TreeMaker treeMaker = node.getTreeMaker();
+    return treeMaker.Binary(operator, name(PROPERTY_SUPPORT_FIELD_NAME, node), nullLiteral(node));
+  }
+
+  private JCExpression nullLiteral(JavacNode node) {
+    return node.getTreeMaker().Literal(TypeTags.BOT, null);
+  }
+}
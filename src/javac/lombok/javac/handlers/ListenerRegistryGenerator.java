@@ -0,0 +1,206 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.javac.handlers;
+
+import static com.sun.tools.javac.code.Flags.*;
+import static java.util.Arrays.copyOf;
+import static lombok.EventDispatch.ASYNC;
+import static lombok.ListenerRegistry.*;
+import static lombok.Threading.CONFINED;
+import static lombok.core.util.Names.*;
+import static lombok.javac.handlers.FieldBuilder.newField;
+import static lombok.javac.handlers.JCNoType.voidType;
+import static lombok.javac.handlers.JavacHandlerUtil.*;
+import static lombok.javac.handlers.Lombok.addField;
+import static lombok.javac.handlers.Lombok.addMethod;
+import static lombok.javac.handlers.MemberChecks.methodAlreadyExists;
+import static lombok.javac.handlers.MethodBuilder.newMethod;
+
+import java.beans.PropertyChangeListener;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import lombok.GenerateJavaBean;
+import lombok.ListenerRegistry;
+import lombok.javac.JavacNode;
+
+import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.JCTree.JCMethodDecl;
+import com.sun.tools.javac.tree.JCTree.JCStatement;
+import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
+import com.sun.tools.javac.tree.*;
+import com.sun.tools.javac.util.List;
+
+/**
+ * Generates the members that keep track of the property change listeners of a JavaBean, and the code that generated
+ * setters use to notify those listeners.
+ *
+ * @author Alex Ruiz
+ */
+abstract class ListenerRegistryGenerator {
+
+  /**
+   * Returns the generator for the listener registry chosen in the given <code>{@link GenerateJavaBean}</code>.
+   * @param javaBean the annotation on the JavaBean, or {@code null} if the JavaBean is not annotated (in which case
+   * the JavaBean is expected to declare a {@code PropertyChangeSupport} field itself.)
+   * @return the generator for the listener registry of the JavaBean.
+   */
+  static ListenerRegistryGenerator listenerRegistryGenerator(GenerateJavaBean javaBean) {
+    if (javaBean == null) return new PropertyChangeSupportGenerator();
+    ListenerRegistryGenerator registry = registryGenerator(javaBean);
+    if (javaBean.dispatch() == ASYNC) return new AsyncDispatchGenerator(registry);
+    return registry;
+  }
+
+  private static ListenerRegistryGenerator registryGenerator(GenerateJavaBean javaBean) {
+    // beans confined to a thread don't need a thread-safe registry, whichever was chosen.
+    if (javaBean.threading() == CONFINED) return new ConfinedArrayGenerator();
+    ListenerRegistry registry = javaBean.registry();
+    if (registry == COPY_ON_WRITE) return new CopyOnWriteArrayGenerator();
+    if (registry == INDEXED) return new IndexedListenersGenerator();
+    if (registry == LAZY_PROPERTY_CHANGE_SUPPORT) return new LazyPropertyChangeSupportGenerator();
+    if (registry == STRIPED) return new StripedListenersGenerator();
+    return new PropertyChangeSupportGenerator();
+  }
+
+  /**
+   * Generates, in the given type, the fields that store listeners and the methods that add and remove them.
+   * @param typeNode the type to add the members to.
+   */
+  abstract void generateRegistry(JavacNode typeNode);
+
+  /**
+   * Creates the condition that evaluates to {@code true} when no listener would receive a change of the given
+   * property.
+   * @param propertyNameFieldName the name of the constant holding the name of the property.
+   * @param fieldNode the field the property belongs to.
+   * @return the created condition.
+   */
+  abstract JCExpression noListenersCondition(String propertyNameFieldName, JavacNode fieldNode);
+
+  /**
+   * Creates the statement that notifies listeners of a change in a property.
+   * @param propertyNameFieldName the name of the constant holding the name of the property.
+   * @param oldValue the old value of the property.
+   * @param newValue the new value of the property.
+   * @param fieldNode the field the property belongs to.
+   * @return the created statement.
+   */
+  abstract JCStatement notifyListenersStatement(String propertyNameFieldName, JCExpression oldValue,
+      JCExpression newValue, JavacNode fieldNode);
+
+  /**
+   * Creates the statement that passes an existing property change event to the listeners.
+   * @param eventVariableName the name of the variable holding the event.
+   * @param typeNode the type declaring the listener registry.
+   * @return the created statement.
+   */
+  abstract JCStatement fireEventStatement(String eventVariableName, JavacNode typeNode);
+
+  /**
+   * Indicates whether changes of {@code int} and {@code boolean} properties are notified without boxing old and new
+   * values when they are equal.
+   * @return {@code true} if {@code int} and {@code boolean} values are only boxed when they are different;
+   * {@code false} otherwise.
+   */
+  abstract boolean firesIntAndBooleanWithoutBoxing();
+
+  /**
+   * Indicates whether listeners of a single property are stored by the ordinal of the property, in which case the
+   * setter of each property needs a constant holding its ordinal (e.g. "ORDINAL_FIRST_NAME".)
+   * @return {@code true} if listeners of a single property are stored by ordinal; {@code false} otherwise.
+   */
+  boolean indexesPropertyListeners() {
+    return false;
+  }
+
+  /**
+   * Generates, for the given property, the methods that add and remove listeners of that property only (e.g.
+   * "addFirstNameListener" and "removeFirstNameListener".) Registries that don't store listeners of a single property
+   * by ordinal generate nothing.
+   * @param fieldNode the field the property belongs to.
+   * @param typeNode the type declaring the listener registry.
+   */
+  void generatePropertyListenerMethods(JavacNode fieldNode, JavacNode typeNode) {}
+
+  final void generateChangeListenerMethod(String methodName, List<JCStatement> statements, JavacNode typeNode) {
+    if (methodAlreadyExists(methodName, typeNode)) return;
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCMethodDecl methodDecl = newMethod().withModifiers(PUBLIC)
+                                         .withName(methodName)
+                                         .withReturnType(treeMaker.Type(voidType()))
+                                         .withParameters(List.of(listenerParameter(typeNode)))
+                                         .withBody(treeMaker.Block(0, statements))
+                                         .buildWith(typeNode);
+    addMethod(typeNode, methodDecl);
+  }
+
+  /**
+   * Generates a field of type <code>{@link AtomicReferenceFieldUpdater}</code> for the given {@code volatile} field.
+   * @param updaterFieldName the name of the field updater.
+   * @param fieldName the name of the {@code volatile} field to update.
+   * @param fieldType the type of the {@code volatile} field (used as type argument.)
+   * @param fieldClass the type of the {@code volatile} field (used as class literal.)
+   * @param typeNode the type declaring the {@code volatile} field.
+   */
+  final void generateUpdaterField(String updaterFieldName, String fieldName, JCExpression fieldType,
+      JCExpression fieldClass, JavacNode typeNode) {
+    // private static final AtomicReferenceFieldUpdater<Person, PropertyChangeListener[]>
+    //     PROPERTY_CHANGE_LISTENERS_UPDATER = AtomicReferenceFieldUpdater.newUpdater(Person.class,
+    //         PropertyChangeListener[].class, "propertyChangeListeners");
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    List<JCExpression> typeArgs = List.of(name(typeNode.getName(), typeNode), fieldType);
+    JCExpression updaterType =
+        treeMaker.TypeApply(typeReference(AtomicReferenceFieldUpdater.class, typeNode), typeArgs);
+    JCExpression fn = chainDots(treeMaker, typeNode, append(splitNameOf(AtomicReferenceFieldUpdater.class),
+        "newUpdater"));
+    List<JCExpression> args = List.of(classLiteral(name(typeNode.getName(), typeNode), typeNode),
+                                      classLiteral(fieldClass, typeNode),
+                                      treeMaker.Literal(fieldName));
+    JCVariableDecl fieldDecl = newField().ofType(updaterType)
+                                         .withName(updaterFieldName)
+                                         .withModifiers(PRIVATE | STATIC | FINAL)
+                                         .withInitializer(treeMaker.Apply(List.<JCExpression> nil(), fn, args))
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  final JCVariableDecl listenerParameter(JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(LISTENER_ARG_NAME), listenerType(typeNode),
+        null);
+  }
+
+  static JCExpression listenerType(JavacNode node) {
+    return typeReference(PropertyChangeListener.class, node);
+  }
+
+  static JCExpression typeReference(Class<?> type, JavacNode node) {
+    return chainDots(node.getTreeMaker(), node, splitNameOf(type));
+  }
+
+  static JCExpression name(String name, JavacNode node) {
+    return node.getTreeMaker().Ident(node.toName(name));
+  }
+
+  static JCExpression classLiteral(JCExpression type, JavacNode node) {
+    return node.getTreeMaker().Select(type, node.toName("class"));
+  }
+
+  static String[] append(String[] names, String name) {
+    String[] appended = copyOf(names, names.length + 1);
+    appended[names.length] = name;
+    return appended;
+  }
+}
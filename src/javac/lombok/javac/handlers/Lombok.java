@@ -14,11 +14,21 @@
  */
 package lombok.javac.handlers;
 
-import static lombok.javac.handlers.JavacHandlerUtil.createFieldAccessor;
+import static lombok.core.AST.Kind.ANNOTATION;
+import static lombok.core.AST.Kind.TYPE;
+import static lombok.javac.Javac.*;
+import static lombok.javac.handlers.JavacHandlerUtil.*;
 import static lombok.javac.handlers.JavacHandlerUtil.FieldAccess.ALWAYS_FIELD;
+import static lombok.javac.handlers.MemberNames.memberNamesOf;
+
+import java.lang.annotation.Annotation;
+
 import lombok.javac.JavacNode;
 
+import com.sun.tools.javac.tree.JCTree.JCClassDecl;
 import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.JCTree.JCMethodDecl;
+import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
 
 /**
  * @author Alex Ruiz
@@ -29,5 +39,38 @@ final class Lombok {
     return createFieldAccessor(fieldNode.getTreeMaker(), fieldNode, ALWAYS_FIELD);
   }
 
+  static <A extends Annotation> A findAnnotation(Class<A> annotationType, JavacNode node) {
+    for (JavacNode child : node.down()) {
+      if (!ANNOTATION.equals(child.getKind()) || !annotationTypeMatches(annotationType, child)) continue;
+      return createAnnotation(annotationType, child).getInstance();
+    }
+    return null;
+  }
+
+  /*
+   * injects the field and records it in the type's MemberNames, so that later checks for existing members don't need to
+   * scan the type again.
+   */
+  static void addField(JavacNode typeNode, JCVariableDecl fieldDecl) {
+    MemberNames memberNames = memberNamesOf(typeNode);
+    injectField(typeNode, fieldDecl);
+    memberNames.fieldAdded(fieldDecl.name.toString(), typeNode);
+  }
+
+  static void addMethod(JavacNode typeNode, JCMethodDecl methodDecl) {
+    MemberNames memberNames = memberNamesOf(typeNode);
+    injectMethod(typeNode, methodDecl);
+    memberNames.methodAdded(methodDecl.name.toString(), typeNode);
+  }
+
+  /*
+   * lombok only knows how to inject fields and methods: member types are added to the class and to the lombok AST here.
+   */
+  static void addType(JavacNode typeNode, JCClassDecl typeDecl) {
+    JCClassDecl classDecl = (JCClassDecl) typeNode.get();
+    classDecl.defs = classDecl.defs.append(typeDecl);
+    typeNode.add(typeDecl, TYPE);
+  }
+
   private Lombok() {}
 }
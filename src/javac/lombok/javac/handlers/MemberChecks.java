@@ -16,10 +16,8 @@ package lombok.javac.handlers;
 
 import static com.sun.tools.javac.code.Flags.*;
 import static lombok.core.AST.Kind.FIELD;
-import static lombok.javac.handlers.JavacHandlerUtil.*;
-import static lombok.javac.handlers.JavacHandlerUtil.MemberExistsResult.NOT_EXISTS;
+import static lombok.javac.handlers.MemberNames.memberNamesOf;
 import lombok.javac.JavacNode;
-import lombok.javac.handlers.JavacHandlerUtil.MemberExistsResult;
 
 import com.sun.tools.javac.tree.JCTree;
 import com.sun.tools.javac.tree.JCTree.JCClassDecl;
@@ -41,15 +39,11 @@ final class MemberChecks {
   }
 
   static boolean fieldAlreadyExists(String fieldName, JavacNode node) {
-    return existsYesOrNo(fieldExists(fieldName, node));
+    return memberNamesOf(node).hasField(fieldName);
   }
 
   static boolean methodAlreadyExists(String methodName, JavacNode node) {
-    return existsYesOrNo(methodExists(methodName, node));
-  }
-
-  private static boolean existsYesOrNo(MemberExistsResult result) {
-    return !result.equals(NOT_EXISTS);
+    return memberNamesOf(node).hasMethod(methodName);
   }
 
   private MemberChecks() {}
@@ -0,0 +1,107 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.javac.handlers;
+
+import static java.util.Collections.synchronizedMap;
+
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import lombok.javac.JavacNode;
+
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.JCTree.JCClassDecl;
+import com.sun.tools.javac.tree.JCTree.JCMethodDecl;
+import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
+import com.sun.tools.javac.util.List;
+
+/**
+ * The names of the fields and methods of a type. Each type is indexed once, by whichever handler asks first, and the
+ * index is shared by all handlers and generators, which record the members they add through
+ * <code>{@link Lombok#addField(JavacNode, JCVariableDecl)}</code> and
+ * <code>{@link Lombok#addMethod(JavacNode, JCMethodDecl)}</code>. If the members of the type are changed by anybody
+ * else (e.g. lombok's own handlers) the type is indexed again.
+ *
+ * @author Alex Ruiz
+ */
+final class MemberNames {
+
+  // weak keys: the index of a type goes away with its AST.
+  private static final Map<JCClassDecl, MemberNames> INDEX =
+      synchronizedMap(new WeakHashMap<JCClassDecl, MemberNames>());
+
+  private final Set<String> fieldNames = new HashSet<String>();
+  private final Set<String> methodNames = new HashSet<String>();
+  private WeakReference<List<JCTree>> indexedMembers = new WeakReference<List<JCTree>>(null);
+
+  static MemberNames memberNamesOf(JavacNode node) {
+    JCClassDecl classDecl = typeDeclarationOf(node);
+    MemberNames names;
+    synchronized (INDEX) {
+      names = INDEX.get(classDecl);
+      if (names == null) INDEX.put(classDecl, names = new MemberNames());
+    }
+    if (!names.isIndexed(classDecl)) names.index(classDecl);
+    return names;
+  }
+
+  private static JCClassDecl typeDeclarationOf(JavacNode node) {
+    JavacNode n = node;
+    while (!(n.get() instanceof JCClassDecl)) n = n.up();
+    return (JCClassDecl) n.get();
+  }
+
+  private MemberNames() {}
+
+  // injecting a member always replaces the list that holds it.
+  private boolean isIndexed(JCClassDecl classDecl) {
+    return indexedMembers.get() == classDecl.defs;
+  }
+
+  private void index(JCClassDecl classDecl) {
+    fieldNames.clear();
+    methodNames.clear();
+    for (JCTree def : classDecl.defs) {
+      if (def instanceof JCVariableDecl) fieldNames.add(((JCVariableDecl) def).name.toString());
+      else if (def instanceof JCMethodDecl) methodNames.add(((JCMethodDecl) def).name.toString());
+    }
+    membersIndexed(classDecl);
+  }
+
+  private void membersIndexed(JCClassDecl classDecl) {
+    indexedMembers = new WeakReference<List<JCTree>>(classDecl.defs);
+  }
+
+  boolean hasField(String name) {
+    return fieldNames.contains(name);
+  }
+
+  boolean hasMethod(String name) {
+    return methodNames.contains(name);
+  }
+
+  void fieldAdded(String name, JavacNode typeNode) {
+    fieldNames.add(name);
+    membersIndexed(typeDeclarationOf(typeNode));
+  }
+
+  void methodAdded(String name, JavacNode typeNode) {
+    methodNames.add(name);
+    membersIndexed(typeDeclarationOf(typeNode));
+  }
+}
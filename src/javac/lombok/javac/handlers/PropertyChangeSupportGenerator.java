@@ -0,0 +1,96 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.javac.handlers;
+
+import static com.sun.tools.javac.code.Flags.*;
+import static lombok.core.util.Names.*;
+import static lombok.javac.handlers.FieldBuilder.newField;
+import static lombok.javac.handlers.JavacHandlerUtil.*;
+import static lombok.javac.handlers.Lombok.addField;
+import static lombok.javac.handlers.MemberChecks.fieldAlreadyExists;
+
+import java.beans.PropertyChangeSupport;
+
+import lombok.javac.JavacNode;
+
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.JCTree.JCStatement;
+import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
+import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.util.List;
+
+/**
+ * Stores property change listeners in a field of type <code>{@link PropertyChangeSupport}</code>.
+ *
+ * @author Alex Ruiz
+ */
+class PropertyChangeSupportGenerator extends ListenerRegistryGenerator {
+
+  @Override void generateRegistry(JavacNode typeNode) {
+    generatePropertyChangeSupportField(typeNode);
+    for (String methodName : PROPERTY_CHANGE_METHOD_NAMES)
+      generateChangeListenerMethod(methodName, List.of(delegateToPropertySupport(methodName, typeNode)), typeNode);
+  }
+
+  private void generatePropertyChangeSupportField(JavacNode typeNode) {
+    // private final PropertyChangeSupport propertySupport = new PropertyChangeSupport(this);
+    if (fieldAlreadyExists(PROPERTY_SUPPORT_FIELD_NAME, typeNode)) return;
+    JCExpression expressionForThis = chainDots(typeNode.getTreeMaker(), typeNode, "this");
+    JCVariableDecl fieldDecl = newField().ofType(PropertyChangeSupport.class)
+                                         .withName(PROPERTY_SUPPORT_FIELD_NAME)
+                                         .withModifiers(PRIVATE | FINAL)
+                                         .withArgs(expressionForThis)
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  final JCStatement delegateToPropertySupport(String methodName, JavacNode typeNode) {
+    // propertySupport.addPropertyChangeListener(listener);
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression fn = chainDots(treeMaker, typeNode, PROPERTY_SUPPORT_FIELD_NAME, methodName);
+    JCExpression arg = name(LISTENER_ARG_NAME, typeNode);
+    return treeMaker.Exec(treeMaker.Apply(List.<JCExpression> nil(), fn, List.of(arg)));
+  }
+
+  @Override JCExpression noListenersCondition(String propertyNameFieldName, JavacNode fieldNode) {
+    // !propertySupport.hasListeners(PROP_FIRST_NAME)
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCExpression fn = chainDots(treeMaker, fieldNode, PROPERTY_SUPPORT_FIELD_NAME, HAS_LISTENERS_METHOD_NAME);
+    List<JCExpression> args = List.of(name(propertyNameFieldName, fieldNode));
+    return treeMaker.Unary(JCTree.NOT, treeMaker.Apply(List.<JCExpression> nil(), fn, args));
+  }
+
+  @Override JCStatement notifyListenersStatement(String propertyNameFieldName, JCExpression oldValue,
+      JCExpression newValue, JavacNode fieldNode) {
+    // propertySupport.firePropertyChange(PROP_FIRST_NAME, old, this.firstName);
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCExpression fn = chainDots(treeMaker, fieldNode, PROPERTY_SUPPORT_FIELD_NAME, FIRE_PROPERTY_CHANGE_METHOD_NAME);
+    List<JCExpression> args = List.of(name(propertyNameFieldName, fieldNode), oldValue, newValue);
+    return treeMaker.Exec(treeMaker.Apply(List.<JCExpression> nil(), fn, args));
+  }
+
+  @Override JCStatement fireEventStatement(String eventVariableName, JavacNode typeNode) {
+    // propertySupport.firePropertyChange(event);
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression fn = chainDots(treeMaker, typeNode, PROPERTY_SUPPORT_FIELD_NAME, FIRE_PROPERTY_CHANGE_METHOD_NAME);
+    List<JCExpression> args = List.of(name(eventVariableName, typeNode));
+    return treeMaker.Exec(treeMaker.Apply(List.<JCExpression> nil(), fn, args));
+  }
+
+  @Override boolean firesIntAndBooleanWithoutBoxing() {
+    return true;
+  }
+}
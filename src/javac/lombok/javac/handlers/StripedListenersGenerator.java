@@ -0,0 +1,319 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.javac.handlers;
+
+import static com.sun.tools.javac.code.Flags.*;
+import static lombok.core.util.Names.*;
+import static lombok.javac.handlers.FieldBuilder.newField;
+import static lombok.javac.handlers.JavacHandlerUtil.chainDots;
+import static lombok.javac.handlers.Lombok.addField;
+import static lombok.javac.handlers.Lombok.addMethod;
+import static lombok.javac.handlers.Lombok.addType;
+import static lombok.javac.handlers.MemberChecks.*;
+import static lombok.javac.handlers.MethodBuilder.newMethod;
+
+import java.util.IdentityHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.javac.JavacNode;
+
+import com.sun.tools.javac.code.TypeTags;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.JCTree.JCClassDecl;
+import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.JCTree.JCMethodDecl;
+import com.sun.tools.javac.tree.JCTree.JCStatement;
+import com.sun.tools.javac.tree.JCTree.JCTypeParameter;
+import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
+import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.util.List;
+import com.sun.tools.javac.util.ListBuffer;
+
+/**
+ * Partitions property change listeners, by identity hash code, into stripes. Each stripe stores its listeners in an
+ * <code>{@link IdentityHashMap}</code>, guarded by the stripe's monitor, and caches them in a {@code volatile} array
+ * that notifying listeners reads without locking. Adding or removing a listener discards the array of its stripe only;
+ * the array is rebuilt by the next notification. The stripes are created by the first add, so that a bean that never
+ * gets a listener only holds a {@code null} reference.
+ *
+ * @author Alex Ruiz
+ */
+class StripedListenersGenerator extends CopyOnWriteArrayGenerator {
+
+  // must be a power of two: the stripe of a listener is its identity hash code masked with the number of stripes - 1.
+  private static final int STRIPE_COUNT = 8;
+
+  private static final String STRIPES_VARIABLE_NAME = "stripes";
+  private static final String STRIPE_VARIABLE_NAME = "stripe";
+  private static final String STRIPE_INDEX_VARIABLE_NAME = "stripeIndex";
+  private static final String STRIPE_LISTENERS_FIELD_NAME = "listeners";
+  private static final String STRIPE_SNAPSHOT_FIELD_NAME = "snapshot";
+
+  @Override void generateRegistry(JavacNode typeNode) {
+    if (fieldAlreadyExists(PROPERTY_CHANGE_LISTENER_STRIPES_FIELD_NAME, typeNode)) return;
+    generateNoListenersField(typeNode);
+    generateStripeType(typeNode);
+    generateUpdaterField(PROPERTY_CHANGE_LISTENER_STRIPES_UPDATER_FIELD_NAME,
+        PROPERTY_CHANGE_LISTENER_STRIPES_FIELD_NAME, stripeArrayType(typeNode), stripeArrayType(typeNode), typeNode);
+    generateStripesField(typeNode);
+    generateCountField(typeNode);
+    generateChangeListenerMethod(PROPERTY_CHANGE_METHOD_NAMES[0], addListenerStatements(typeNode), typeNode);
+    generateChangeListenerMethod(PROPERTY_CHANGE_METHOD_NAMES[1], removeListenerStatements(typeNode), typeNode);
+    generateListenersOfMethod(typeNode);
+    generateNotifyListenersMethod(typeNode);
+  }
+
+  private void generateStripeType(JavacNode typeNode) {
+    // private static final class PropertyChangeListenerStripe {
+    //   final IdentityHashMap<PropertyChangeListener, Boolean> listeners =
+    //       new IdentityHashMap<PropertyChangeListener, Boolean>();
+    //   volatile PropertyChangeListener[] snapshot = NO_PROPERTY_CHANGE_LISTENERS;
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCVariableDecl listeners = treeMaker.VarDef(treeMaker.Modifiers(FINAL),
+        typeNode.toName(STRIPE_LISTENERS_FIELD_NAME), listenerMapType(typeNode),
+        treeMaker.NewClass(null, List.<JCExpression> nil(), listenerMapType(typeNode), List.<JCExpression> nil(),
+            null));
+    JCVariableDecl snapshot = treeMaker.VarDef(treeMaker.Modifiers(VOLATILE),
+        typeNode.toName(STRIPE_SNAPSHOT_FIELD_NAME), listenerArrayType(typeNode),
+        name(NO_PROPERTY_CHANGE_LISTENERS_FIELD_NAME, typeNode));
+    JCClassDecl typeDecl = treeMaker.ClassDef(treeMaker.Modifiers(PRIVATE | STATIC | FINAL),
+        typeNode.toName(PROPERTY_CHANGE_LISTENER_STRIPE_TYPE_NAME), List.<JCTypeParameter> nil(), null,
+        List.<JCExpression> nil(), List.<JCTree> of(listeners, snapshot));
+    addType(typeNode, typeDecl);
+  }
+
+  private JCExpression listenerMapType(JavacNode typeNode) {
+    // IdentityHashMap<PropertyChangeListener, Boolean>
+    List<JCExpression> typeArgs = List.of(listenerType(typeNode), typeReference(Boolean.class, typeNode));
+    return typeNode.getTreeMaker().TypeApply(typeReference(IdentityHashMap.class, typeNode), typeArgs);
+  }
+
+  private void generateStripesField(JavacNode typeNode) {
+    // private volatile PropertyChangeListenerStripe[] propertyChangeListenerStripes;
+    JCVariableDecl fieldDecl = newField().ofType(stripeArrayType(typeNode))
+                                         .withName(PROPERTY_CHANGE_LISTENER_STRIPES_FIELD_NAME)
+                                         .withModifiers(PRIVATE | VOLATILE)
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private void generateCountField(JavacNode typeNode) {
+    // private final AtomicInteger propertyChangeListenerCount = new AtomicInteger();
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression newCount = treeMaker.NewClass(null, List.<JCExpression> nil(),
+        typeReference(AtomicInteger.class, typeNode), List.<JCExpression> nil(), null);
+    JCVariableDecl fieldDecl = treeMaker.VarDef(treeMaker.Modifiers(PRIVATE | FINAL),
+        typeNode.toName(PROPERTY_CHANGE_LISTENER_COUNT_FIELD_NAME), typeReference(AtomicInteger.class, typeNode),
+        newCount);
+    addField(typeNode, fieldDecl);
+  }
+
+  private List<JCStatement> addListenerStatements(JavacNode typeNode) {
+    // if (listener == null) return;
+    // if (this.propertyChangeListenerStripes == null) PROPERTY_CHANGE_LISTENER_STRIPES_UPDATER.compareAndSet(this,
+    //     null, new PropertyChangeListenerStripe[] { new PropertyChangeListenerStripe(), ... });
+    // final PropertyChangeListenerStripe[] stripes = this.propertyChangeListenerStripes;
+    // final PropertyChangeListenerStripe stripe = stripes[System.identityHashCode(listener) & (stripes.length - 1)];
+    // synchronized (stripe) {
+    //   if (stripe.listeners.put(listener, Boolean.TRUE) != null) return;
+    //   stripe.snapshot = null;
+    // }
+    // this.propertyChangeListenerCount.incrementAndGet();
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression put = stripeListenersCall("put", List.of(name(LISTENER_ARG_NAME, typeNode), chainDots(treeMaker,
+        typeNode, "java", "lang", "Boolean", "TRUE")), typeNode);
+    List<JCStatement> statements = updateStripeStatements(treeMaker.Binary(JCTree.NE, put, nullLiteral(typeNode)),
+        "incrementAndGet", typeNode);
+    return List.of(returnIfListenerIsNull(typeNode), createStripesIfMissing(typeNode), stripesDecl(typeNode))
+               .appendList(statements);
+  }
+
+  private JCStatement createStripesIfMissing(JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    ListBuffer<JCExpression> stripes = new ListBuffer<JCExpression>();
+    for (int i = 0; i < STRIPE_COUNT; i++)
+      stripes.append(treeMaker.NewClass(null, List.<JCExpression> nil(), stripeType(typeNode),
+          List.<JCExpression> nil(), null));
+    JCExpression allStripes = treeMaker.NewArray(stripeType(typeNode), List.<JCExpression> nil(), stripes.toList());
+    JCExpression fn = chainDots(treeMaker, typeNode, PROPERTY_CHANGE_LISTENER_STRIPES_UPDATER_FIELD_NAME,
+        "compareAndSet");
+    List<JCExpression> args = List.of(chainDots(treeMaker, typeNode, "this"), nullLiteral(typeNode), allStripes);
+    JCStatement create = treeMaker.Exec(treeMaker.Apply(List.<JCExpression> nil(), fn, args));
+    return treeMaker.If(treeMaker.Binary(JCTree.EQ, stripesField(typeNode), nullLiteral(typeNode)), create, null);
+  }
+
+  private List<JCStatement> removeListenerStatements(JavacNode typeNode) {
+    // if (listener == null) return;
+    // final PropertyChangeListenerStripe[] stripes = this.propertyChangeListenerStripes;
+    // if (stripes == null) return;
+    // final PropertyChangeListenerStripe stripe = stripes[System.identityHashCode(listener) & (stripes.length - 1)];
+    // synchronized (stripe) {
+    //   if (stripe.listeners.remove(listener) == null) return;
+    //   stripe.snapshot = null;
+    // }
+    // this.propertyChangeListenerCount.decrementAndGet();
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression remove = stripeListenersCall("remove", List.of(name(LISTENER_ARG_NAME, typeNode)), typeNode);
+    List<JCStatement> statements = updateStripeStatements(treeMaker.Binary(JCTree.EQ, remove, nullLiteral(typeNode)),
+        "decrementAndGet", typeNode);
+    JCStatement returnIfNoStripes = treeMaker.If(treeMaker.Binary(JCTree.EQ, stripes(typeNode),
+        nullLiteral(typeNode)), treeMaker.Return(null), null);
+    return List.of(returnIfListenerIsNull(typeNode), stripesDecl(typeNode), returnIfNoStripes).appendList(statements);
+  }
+
+  private JCStatement stripesDecl(JavacNode typeNode) {
+    // final PropertyChangeListenerStripe[] stripes = this.propertyChangeListenerStripes;
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(STRIPES_VARIABLE_NAME),
+        stripeArrayType(typeNode), stripesField(typeNode));
+  }
+
+  private List<JCStatement> updateStripeStatements(JCExpression unchanged, String countMethodName,
+      JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression identityHash = treeMaker.Apply(List.<JCExpression> nil(),
+        chainDots(treeMaker, typeNode, "java", "lang", "System", "identityHashCode"),
+        List.of(name(LISTENER_ARG_NAME, typeNode)));
+    JCExpression lastStripe = treeMaker.Binary(JCTree.MINUS, stripesLength(typeNode), intLiteral(1, typeNode));
+    JCExpression stripe = treeMaker.Indexed(stripes(typeNode), treeMaker.Binary(JCTree.BITAND, identityHash,
+        treeMaker.Parens(lastStripe)));
+    JCStatement stripeDecl = treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(STRIPE_VARIABLE_NAME),
+        stripeType(typeNode), stripe);
+    JCStatement returnIfUnchanged = treeMaker.If(unchanged, treeMaker.Return(null), null);
+    JCStatement discardSnapshot = assign(stripeSnapshot(typeNode), nullLiteral(typeNode), typeNode);
+    JCStatement lock = treeMaker.Synchronized(name(STRIPE_VARIABLE_NAME, typeNode),
+        treeMaker.Block(0, List.of(returnIfUnchanged, discardSnapshot)));
+    JCExpression count = treeMaker.Apply(List.<JCExpression> nil(), chainDots(treeMaker, typeNode, "this",
+        PROPERTY_CHANGE_LISTENER_COUNT_FIELD_NAME, countMethodName), List.<JCExpression> nil());
+    return List.of(stripeDecl, lock, treeMaker.Exec(count));
+  }
+
+  private JCExpression stripeListenersCall(String methodName, List<JCExpression> args, JavacNode typeNode) {
+    // stripe.listeners.<methodName>(<args>)
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.Apply(List.<JCExpression> nil(), chainDots(treeMaker, typeNode, STRIPE_VARIABLE_NAME,
+        STRIPE_LISTENERS_FIELD_NAME, methodName), args);
+  }
+
+  private void generateListenersOfMethod(JavacNode typeNode) {
+    // private static PropertyChangeListener[] propertyChangeListenersOf(final PropertyChangeListenerStripe stripe) {
+    //   final PropertyChangeListener[] current = stripe.snapshot;
+    //   if (current != null) return current;
+    //   synchronized (stripe) {
+    //     if (stripe.snapshot == null)
+    //       stripe.snapshot = stripe.listeners.keySet().toArray(NO_PROPERTY_CHANGE_LISTENERS);
+    //     return stripe.snapshot;
+    //   }
+    // }
+    if (methodAlreadyExists(PROPERTY_CHANGE_LISTENERS_OF_METHOD_NAME, typeNode)) return;
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCStatement currentDecl = localListenersDecl(CURRENT_VARIABLE_NAME, stripeSnapshot(typeNode), typeNode);
+    JCStatement returnIfCurrent = treeMaker.If(treeMaker.Binary(JCTree.NE, name(CURRENT_VARIABLE_NAME, typeNode),
+        nullLiteral(typeNode)), treeMaker.Return(name(CURRENT_VARIABLE_NAME, typeNode)), null);
+    JCExpression keySet = stripeListenersCall("keySet", List.<JCExpression> nil(), typeNode);
+    JCExpression toArray = treeMaker.Apply(List.<JCExpression> nil(), treeMaker.Select(keySet,
+        typeNode.toName("toArray")), List.of(name(NO_PROPERTY_CHANGE_LISTENERS_FIELD_NAME, typeNode)));
+    JCStatement rebuild = treeMaker.If(treeMaker.Binary(JCTree.EQ, stripeSnapshot(typeNode), nullLiteral(typeNode)),
+        assign(stripeSnapshot(typeNode), toArray, typeNode), null);
+    JCStatement lock = treeMaker.Synchronized(name(STRIPE_VARIABLE_NAME, typeNode),
+        treeMaker.Block(0, List.of(rebuild, treeMaker.Return(stripeSnapshot(typeNode)))));
+    JCVariableDecl parameter = treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(STRIPE_VARIABLE_NAME),
+        stripeType(typeNode), null);
+    JCMethodDecl methodDecl = newMethod().withModifiers(PRIVATE | STATIC)
+                                         .withName(PROPERTY_CHANGE_LISTENERS_OF_METHOD_NAME)
+                                         .withReturnType(listenerArrayType(typeNode))
+                                         .withParameters(List.of(parameter))
+                                         .withBody(treeMaker.Block(0, List.of(currentDecl, returnIfCurrent, lock)))
+                                         .buildWith(typeNode);
+    addMethod(typeNode, methodDecl);
+  }
+
+  @Override void generateNotifyListenersMethod(JavacNode typeNode) {
+    // private void notifyPropertyChangeListeners(final String propertyName, final Object oldValue,
+    //     final Object newValue) {
+    //   if (oldValue != null && newValue != null && oldValue.equals(newValue)) return;
+    //   final PropertyChangeEvent event = new PropertyChangeEvent(this, propertyName, oldValue, newValue);
+    //   {
+    //     ...
+    //   }
+    // }
+    if (methodAlreadyExists(NOTIFY_PROPERTY_CHANGE_LISTENERS_METHOD_NAME, typeNode)) return;
+    List<JCStatement> statements = List.of(returnIfEqual(typeNode), eventDecl(typeNode),
+        fireEventStatement(EVENT_VARIABLE_NAME, typeNode));
+    addMethod(typeNode, notifyListenersMethod(List.<JCVariableDecl> nil(), statements, typeNode));
+  }
+
+  @Override JCExpression noListenersCondition(String propertyNameFieldName, JavacNode fieldNode) {
+    // this.propertyChangeListenerCount.get() == 0
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCExpression count = treeMaker.Apply(List.<JCExpression> nil(), chainDots(treeMaker, fieldNode, "this",
+        PROPERTY_CHANGE_LISTENER_COUNT_FIELD_NAME, "get"), List.<JCExpression> nil());
+    return treeMaker.Binary(JCTree.EQ, count, intLiteral(0, fieldNode));
+  }
+
+  @Override JCStatement fireEventStatement(String eventVariableName, JavacNode typeNode) {
+    // {
+    //   final PropertyChangeListenerStripe[] stripes = this.propertyChangeListenerStripes;
+    //   if (stripes != null) for (int stripeIndex = 0; stripeIndex < stripes.length; stripeIndex++) {
+    //     final PropertyChangeListener[] current = propertyChangeListenersOf(stripes[stripeIndex]);
+    //     for (int index = 0; index < current.length; index++) current[index].propertyChange(event);
+    //   }
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCStatement stripeIndexDecl = treeMaker.VarDef(treeMaker.Modifiers(0), typeNode.toName(STRIPE_INDEX_VARIABLE_NAME),
+        treeMaker.TypeIdent(TypeTags.INT), intLiteral(0, typeNode));
+    JCExpression moreStripes = treeMaker.Binary(JCTree.LT, stripeIndex(typeNode), stripesLength(typeNode));
+    JCExpression nextStripe = treeMaker.Unary(JCTree.POSTINC, stripeIndex(typeNode));
+    JCExpression stripe = treeMaker.Indexed(stripes(typeNode), stripeIndex(typeNode));
+    JCExpression listenersOf = treeMaker.Apply(List.<JCExpression> nil(),
+        name(PROPERTY_CHANGE_LISTENERS_OF_METHOD_NAME, typeNode), List.of(stripe));
+    JCStatement body = treeMaker.Block(0, List.of(localListenersDecl(CURRENT_VARIABLE_NAME, listenersOf, typeNode),
+        notifyEachListener(eventVariableName, typeNode)));
+    JCStatement loop = treeMaker.ForLoop(List.of(stripeIndexDecl), moreStripes, List.of(treeMaker.Exec(nextStripe)),
+        body);
+    JCStatement loopIfStripes = treeMaker.If(treeMaker.Binary(JCTree.NE, stripes(typeNode), nullLiteral(typeNode)),
+        loop, null);
+    return treeMaker.Block(0, List.of(stripesDecl(typeNode), loopIfStripes));
+  }
+
+  private JCExpression stripesField(JavacNode typeNode) {
+    return chainDots(typeNode.getTreeMaker(), typeNode, "this", PROPERTY_CHANGE_LISTENER_STRIPES_FIELD_NAME);
+  }
+
+  private JCExpression stripes(JavacNode typeNode) {
+    return name(STRIPES_VARIABLE_NAME, typeNode);
+  }
+
+  private JCExpression stripeIndex(JavacNode typeNode) {
+    return name(STRIPE_INDEX_VARIABLE_NAME, typeNode);
+  }
+
+  private JCExpression stripesLength(JavacNode typeNode) {
+    return chainDots(typeNode.getTreeMaker(), typeNode, STRIPES_VARIABLE_NAME, "length");
+  }
+
+  private JCExpression stripeSnapshot(JavacNode typeNode) {
+    return chainDots(typeNode.getTreeMaker(), typeNode, STRIPE_VARIABLE_NAME, STRIPE_SNAPSHOT_FIELD_NAME);
+  }
+
+  private JCExpression stripeType(JavacNode typeNode) {
+    return name(PROPERTY_CHANGE_LISTENER_STRIPE_TYPE_NAME, typeNode);
+  }
+
+  private JCExpression stripeArrayType(JavacNode typeNode) {
+    return typeNode.getTreeMaker().TypeArray(stripeType(typeNode));
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.javac.handlers;
+
+import static com.sun.tools.javac.code.Flags.*;
+import static lombok.core.util.Names.*;
+import static lombok.javac.handlers.FieldBuilder.newField;
+import static lombok.javac.handlers.JCNoType.voidType;
+import static lombok.javac.handlers.JavacHandlerUtil.chainDots;
+import static lombok.javac.handlers.ListenerRegistryGenerator.*;
+import static lombok.javac.handlers.Lombok.*;
+import static lombok.javac.handlers.MemberChecks.*;
+import static lombok.javac.handlers.MethodBuilder.newMethod;
+
+import java.beans.*;
+
+import lombok.GenerateConstrainedSetter;
+import lombok.javac.JavacNode;
+
+import com.sun.tools.javac.code.TypeTags;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.JCTree.JCMethodDecl;
+import com.sun.tools.javac.tree.JCTree.JCStatement;
+import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
+import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.util.List;
+
+/**
+ * Generates the field of type <code>{@link VetoableChangeSupport}</code> that stores the vetoable change listeners of a
+ * JavaBean, and the code that constrained setters use to give those listeners the chance to reject a new value. The
+ * field is created when the first listener is added, and setters check it for {@code null} before anything else: a
+ * JavaBean that nobody tries to veto pays no synchronization or allocation for its constrained properties.
+ *
+ * @author Alex Ruiz
+ */
+final class VetoableChangeSupportGenerator {
+
+  /**
+   * Indicates whether the given field is annotated with <code>{@link GenerateConstrainedSetter}</code>.
+   * @param fieldNode the given field.
+   * @return {@code true} if the given field is constrained; {@code false} otherwise.
+   */
+  static boolean isConstrained(JavacNode fieldNode) {
+    return findAnnotation(GenerateConstrainedSetter.class, fieldNode) != null;
+  }
+
+  /**
+   * Indicates whether any field of the given type is annotated with <code>{@link GenerateConstrainedSetter}</code>.
+   * @param typeNode the given type.
+   * @return {@code true} if the given type has constrained properties; {@code false} otherwise.
+   */
+  static boolean hasConstrainedProperties(JavacNode typeNode) {
+    for (JavacNode child : typeNode.down())
+      if (isField(child) && isConstrained(child)) return true;
+    return false;
+  }
+
+  /**
+   * Generates, in the given type, the field that stores vetoable change listeners and the methods that add and remove
+   * them. Nothing is generated if the type already declares the field.
+   * @param registry the generator of the listener registry of the type, which provides the field updater.
+   * @param typeNode the type to add the members to.
+   */
+  static void generateVetoableSupport(ListenerRegistryGenerator registry, JavacNode typeNode) {
+    if (fieldAlreadyExists(VETOABLE_SUPPORT_FIELD_NAME, typeNode)) return;
+    registry.generateUpdaterField(VETOABLE_SUPPORT_UPDATER_FIELD_NAME, VETOABLE_SUPPORT_FIELD_NAME,
+        typeReference(VetoableChangeSupport.class, typeNode), typeReference(VetoableChangeSupport.class, typeNode),
+        typeNode);
+    generateVetoableSupportField(typeNode);
+    generateVetoableListenerMethod(VETOABLE_CHANGE_METHOD_NAMES[0], addListenerStatements(typeNode), typeNode);
+    generateVetoableListenerMethod(VETOABLE_CHANGE_METHOD_NAMES[1], removeListenerStatements(typeNode), typeNode);
+  }
+
+  private static void generateVetoableSupportField(JavacNode typeNode) {
+    // private volatile VetoableChangeSupport vetoableSupport;
+    JCVariableDecl fieldDecl = newField().ofType(typeReference(VetoableChangeSupport.class, typeNode))
+                                         .withName(VETOABLE_SUPPORT_FIELD_NAME)
+                                         .withModifiers(PRIVATE | VOLATILE)
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private static void generateVetoableListenerMethod(String methodName, List<JCStatement> statements,
+      JavacNode typeNode) {
+    if (methodAlreadyExists(methodName, typeNode)) return;
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCVariableDecl parameter = treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(LISTENER_ARG_NAME),
+        typeReference(VetoableChangeListener.class, typeNode), null);
+    JCMethodDecl methodDecl = newMethod().withModifiers(PUBLIC)
+                                         .withName(methodName)
+                                         .withReturnType(treeMaker.Type(voidType()))
+                                         .withParameters(List.of(parameter))
+                                         .withBody(treeMaker.Block(0, statements))
+                                         .buildWith(typeNode);
+    addMethod(typeNode, methodDecl);
+  }
+
+  private static List<JCStatement> addListenerStatements(JavacNode typeNode) {
+    // if (vetoableSupport == null) VETOABLE_SUPPORT_UPDATER.compareAndSet(this, null, new VetoableChangeSupport(this));
+    // vetoableSupport.addVetoableChangeListener(listener);
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression newSupport = treeMaker.NewClass(null, List.<JCExpression> nil(),
+        typeReference(VetoableChangeSupport.class, typeNode), List.of(chainDots(treeMaker, typeNode, "this")), null);
+    JCExpression fn = chainDots(treeMaker, typeNode, VETOABLE_SUPPORT_UPDATER_FIELD_NAME, "compareAndSet");
+    List<JCExpression> args = List.of(chainDots(treeMaker, typeNode, "this"), nullLiteral(typeNode), newSupport);
+    JCStatement create = treeMaker.Exec(treeMaker.Apply(List.<JCExpression> nil(), fn, args));
+    JCStatement createIfMissing = treeMaker.If(vetoableSupportIs(JCTree.EQ, typeNode), create, null);
+    return List.of(createIfMissing, delegateToVetoableSupport(VETOABLE_CHANGE_METHOD_NAMES[0], typeNode));
+  }
+
+  private static List<JCStatement> removeListenerStatements(JavacNode typeNode) {
+    // if (vetoableSupport != null) vetoableSupport.removeVetoableChangeListener(listener);
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCStatement remove = delegateToVetoableSupport(VETOABLE_CHANGE_METHOD_NAMES[1], typeNode);
+    return List.<JCStatement> of(treeMaker.If(vetoableSupportIs(JCTree.NE, typeNode), remove, null));
+  }
+
+  private static JCStatement delegateToVetoableSupport(String methodName, JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression fn = chainDots(treeMaker, typeNode, VETOABLE_SUPPORT_FIELD_NAME, methodName);
+    JCExpression arg = name(LISTENER_ARG_NAME, typeNode);
+    return treeMaker.Exec(treeMaker.Apply(List.<JCExpression> nil(), fn, List.of(arg)));
+  }
+
+  /**
+   * Creates the statement that passes a change of the given property to the vetoable change listeners, if any.
+   * @param propertyNameFieldName the name of the constant holding the name of the property.
+   * @param fieldNode the field the property belongs to.
+   * @return the created statement.
+   */
+  static JCStatement fireVetoableChangeStatement(String propertyNameFieldName, JavacNode fieldNode) {
+    // if (vetoableSupport != null && vetoableSupport.hasListeners(PROP_FIRST_NAME))
+    //   vetoableSupport.fireVetoableChange(PROP_FIRST_NAME, this.firstName, firstName);
+    TreeMaker treeMaker = fieldNode.getTreeMaker();
+    JCExpression hasListenersFn = chainDots(treeMaker, fieldNode, VETOABLE_SUPPORT_FIELD_NAME,
+        HAS_LISTENERS_METHOD_NAME);
+    JCExpression hasListeners = treeMaker.Apply(List.<JCExpression> nil(), hasListenersFn,
+        List.of(name(propertyNameFieldName, fieldNode)));
+    JCExpression vetoable = treeMaker.Binary(JCTree.AND, vetoableSupportIs(JCTree.NE, fieldNode), hasListeners);
+    JCExpression fireFn = chainDots(treeMaker, fieldNode, VETOABLE_SUPPORT_FIELD_NAME,
+        FIRE_VETOABLE_CHANGE_METHOD_NAME);
+    List<JCExpression> args = List.of(name(propertyNameFieldName, fieldNode), newFieldAccessor(fieldNode),
+        name(fieldNode.getName(), fieldNode));
+    JCStatement fire = treeMaker.Exec(treeMaker.Apply(List.<JCExpression> nil(), fireFn, args));
+    return treeMaker.If(vetoable, fire, null);
+  }
+
+  /**
+   * Creates the throws clause of a constrained setter.
+   * @param fieldNode the field the property belongs to.
+   * @return the created throws clause.
+   */
+  static List<JCExpression> vetoThrowsClause(JavacNode fieldNode) {
+    return List.of(typeReference(PropertyVetoException.class, fieldNode));
+  }
+
+  private static JCExpression vetoableSupportIs(int operator, JavacNode node) {
+    TreeMaker treeMaker = node.getTreeMaker();
+    return treeMaker.Binary(operator, name(VETOABLE_SUPPORT_FIELD_NAME, node), nullLiteral(node));
+  }
+
+  private static JCExpression nullLiteral(JavacNode node) {
+    return node.getTreeMaker().Literal(TypeTags.BOT, null);
+  }
+
+  private VetoableChangeSupportGenerator() {}
+}
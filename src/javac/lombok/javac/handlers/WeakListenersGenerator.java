@@ -0,0 +1,263 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.javac.handlers;
+
+import static com.sun.tools.javac.code.Flags.*;
+import static lombok.core.util.Names.*;
+import static lombok.javac.handlers.FieldBuilder.newField;
+import static lombok.javac.handlers.JCNoType.voidType;
+import static lombok.javac.handlers.JavacHandlerUtil.chainDots;
+import static lombok.javac.handlers.ListenerRegistryGenerator.*;
+import static lombok.javac.handlers.Lombok.*;
+import static lombok.javac.handlers.MemberChecks.fieldAlreadyExists;
+import static lombok.javac.handlers.MethodBuilder.newMethod;
+
+import java.beans.PropertyChangeEvent;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+import lombok.GenerateJavaBean;
+import lombok.ListenerRegistry;
+import lombok.javac.JavacNode;
+
+import com.sun.tools.javac.code.TypeTags;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.JCTree.JCClassDecl;
+import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.JCTree.JCExpressionStatement;
+import com.sun.tools.javac.tree.JCTree.JCMethodDecl;
+import com.sun.tools.javac.tree.JCTree.JCStatement;
+import com.sun.tools.javac.tree.JCTree.JCTypeParameter;
+import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
+import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.util.List;
+
+/**
+ * Generates the members that let a JavaBean hold property change listeners through weak references: the type
+ * {@code WeakPropertyChangeListener}, the queue that receives the references cleared by the garbage collector, and the
+ * methods {@code addWeakPropertyChangeListener} and {@code expungeWeakPropertyChangeListeners}. Weak listeners are
+ * added and removed with {@code addPropertyChangeListener} and {@code removePropertyChangeListener}, so they work with
+ * every <code>{@link ListenerRegistry}</code>. Listeners that were collected are removed by the next call to
+ * {@code addWeakPropertyChangeListener}, or by the next event that reaches them, so no thread has to watch the queue.
+ *
+ * @author Alex Ruiz
+ */
+final class WeakListenersGenerator {
+
+  private static final String SOURCE_FIELD_NAME = "source";
+  private static final String EVENT_ARG_NAME = "event";
+  private static final String WEAK_LISTENER_VARIABLE_NAME = "weakListener";
+  private static final String CLEARED_VARIABLE_NAME = "cleared";
+
+  /**
+   * Returns the generator of weak listener support for the JavaBean annotated with the given
+   * <code>{@link GenerateJavaBean}</code>.
+   * @param javaBean the annotation on the JavaBean, or {@code null} if the JavaBean is not annotated.
+   * @return the created generator, which generates nothing if the JavaBean does not support weak listeners.
+   */
+  static WeakListenersGenerator weakListenersGenerator(GenerateJavaBean javaBean) {
+    return new WeakListenersGenerator(javaBean != null && javaBean.weakListeners());
+  }
+
+  private final boolean enabled;
+
+  private WeakListenersGenerator(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Generates, in the given type, the type {@code WeakPropertyChangeListener}, the queue of cleared references and the
+   * methods {@code addWeakPropertyChangeListener} and {@code expungeWeakPropertyChangeListeners}.
+   * @param typeNode the type to add the members to.
+   */
+  void generateWeakListenerMembers(JavacNode typeNode) {
+    if (!enabled || fieldAlreadyExists(WEAK_PROPERTY_CHANGE_LISTENER_QUEUE_FIELD_NAME, typeNode)) return;
+    generateWeakListenerType(typeNode);
+    generateQueueField(typeNode);
+    addMethod(typeNode, addWeakListenerMethod(typeNode));
+    addMethod(typeNode, expungeMethod(typeNode));
+  }
+
+  private void generateWeakListenerType(JavacNode typeNode) {
+    // private static final class WeakPropertyChangeListener extends WeakReference<PropertyChangeListener>
+    //     implements PropertyChangeListener {
+    //   private final Person source;
+    //
+    //   WeakPropertyChangeListener(final PropertyChangeListener listener, final Person source) {
+    //     super(listener, source.weakPropertyChangeListenerQueue);
+    //     this.source = source;
+    //   }
+    //
+    //   public void propertyChange(final PropertyChangeEvent event) {
+    //     ...
+    //   }
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCVariableDecl source = treeMaker.VarDef(treeMaker.Modifiers(PRIVATE | FINAL), typeNode.toName(SOURCE_FIELD_NAME),
+        beanType(typeNode), null);
+    JCExpression superclass = treeMaker.TypeApply(typeReference(WeakReference.class, typeNode),
+        List.of(listenerType(typeNode)));
+    List<JCTree> members = List.<JCTree> of(source, constructor(typeNode), propertyChangeMethod(typeNode));
+    JCClassDecl typeDecl = treeMaker.ClassDef(treeMaker.Modifiers(PRIVATE | STATIC | FINAL),
+        typeNode.toName(WEAK_PROPERTY_CHANGE_LISTENER_TYPE_NAME), List.<JCTypeParameter> nil(), superclass,
+        List.of(listenerType(typeNode)), members);
+    addType(typeNode, typeDecl);
+  }
+
+  private JCMethodDecl constructor(JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression superCall = treeMaker.Apply(List.<JCExpression> nil(), name("super", typeNode), List.of(
+        name(LISTENER_ARG_NAME, typeNode), chainDots(treeMaker, typeNode, SOURCE_FIELD_NAME,
+            WEAK_PROPERTY_CHANGE_LISTENER_QUEUE_FIELD_NAME)));
+    JCStatement setSource = treeMaker.Exec(treeMaker.Assign(sourceField(typeNode), name(SOURCE_FIELD_NAME,
+        typeNode)));
+    List<JCVariableDecl> parameters = List.of(parameter(listenerType(typeNode), LISTENER_ARG_NAME, typeNode),
+                                              parameter(beanType(typeNode), SOURCE_FIELD_NAME, typeNode));
+    return newMethod().withName("<init>")
+                      .withParameters(parameters)
+                      .withBody(treeMaker.Block(0, List.of(treeMaker.Exec(superCall), setSource)))
+                      .buildWith(typeNode);
+  }
+
+  private JCMethodDecl propertyChangeMethod(JavacNode typeNode) {
+    // public void propertyChange(final PropertyChangeEvent event) {
+    //   final PropertyChangeListener listener = get();
+    //   if (listener == null) {
+    //     this.source.removePropertyChangeListener(this);
+    //     this.source.expungeWeakPropertyChangeListeners();
+    //     return;
+    //   }
+    //   listener.propertyChange(event);
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression get = treeMaker.Apply(List.<JCExpression> nil(), name("get", typeNode), List.<JCExpression> nil());
+    JCStatement listenerDecl = treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(LISTENER_ARG_NAME),
+        listenerType(typeNode), get);
+    JCExpression remove = treeMaker.Apply(List.<JCExpression> nil(), treeMaker.Select(sourceField(typeNode),
+        typeNode.toName(PROPERTY_CHANGE_METHOD_NAMES[1])), List.of(name("this", typeNode)));
+    JCExpression expunge = treeMaker.Apply(List.<JCExpression> nil(), treeMaker.Select(sourceField(typeNode),
+        typeNode.toName(EXPUNGE_WEAK_PROPERTY_CHANGE_LISTENERS_METHOD_NAME)), List.<JCExpression> nil());
+    JCStatement removeIfCleared = treeMaker.If(treeMaker.Binary(JCTree.EQ, name(LISTENER_ARG_NAME, typeNode),
+        nullLiteral(typeNode)), treeMaker.Block(0, List.of(treeMaker.Exec(remove), treeMaker.Exec(expunge),
+            treeMaker.Return(null))), null);
+    JCExpression notify = treeMaker.Apply(List.<JCExpression> nil(), chainDots(treeMaker, typeNode,
+        LISTENER_ARG_NAME, "propertyChange"), List.of(name(EVENT_ARG_NAME, typeNode)));
+    List<JCVariableDecl> parameters = List.of(parameter(typeReference(PropertyChangeEvent.class, typeNode),
+        EVENT_ARG_NAME, typeNode));
+    return newMethod().withModifiers(PUBLIC)
+                      .withName("propertyChange")
+                      .withReturnType(treeMaker.Type(voidType()))
+                      .withParameters(parameters)
+                      .withBody(treeMaker.Block(0, List.of(listenerDecl, removeIfCleared, treeMaker.Exec(notify))))
+                      .buildWith(typeNode);
+  }
+
+  private void generateQueueField(JavacNode typeNode) {
+    // private final ReferenceQueue<PropertyChangeListener> weakPropertyChangeListenerQueue =
+    //     new ReferenceQueue<PropertyChangeListener>();
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression newQueue = treeMaker.NewClass(null, List.<JCExpression> nil(), queueType(typeNode),
+        List.<JCExpression> nil(), null);
+    JCVariableDecl fieldDecl = newField().ofType(queueType(typeNode))
+                                         .withName(WEAK_PROPERTY_CHANGE_LISTENER_QUEUE_FIELD_NAME)
+                                         .withModifiers(PRIVATE | FINAL)
+                                         .withInitializer(newQueue)
+                                         .buildWith(typeNode);
+    addField(typeNode, fieldDecl);
+  }
+
+  private JCMethodDecl addWeakListenerMethod(JavacNode typeNode) {
+    // public PropertyChangeListener addWeakPropertyChangeListener(final PropertyChangeListener listener) {
+    //   expungeWeakPropertyChangeListeners();
+    //   if (listener == null) return null;
+    //   final PropertyChangeListener weakListener = new WeakPropertyChangeListener(listener, this);
+    //   addPropertyChangeListener(weakListener);
+    //   return weakListener;
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCExpression expunge = treeMaker.Apply(List.<JCExpression> nil(),
+        name(EXPUNGE_WEAK_PROPERTY_CHANGE_LISTENERS_METHOD_NAME, typeNode), List.<JCExpression> nil());
+    JCStatement returnIfNull = treeMaker.If(treeMaker.Binary(JCTree.EQ, name(LISTENER_ARG_NAME, typeNode),
+        nullLiteral(typeNode)), treeMaker.Return(nullLiteral(typeNode)), null);
+    JCExpression newWeakListener = treeMaker.NewClass(null, List.<JCExpression> nil(),
+        name(WEAK_PROPERTY_CHANGE_LISTENER_TYPE_NAME, typeNode), List.of(name(LISTENER_ARG_NAME, typeNode),
+            name("this", typeNode)), null);
+    JCStatement weakListenerDecl = treeMaker.VarDef(treeMaker.Modifiers(FINAL),
+        typeNode.toName(WEAK_LISTENER_VARIABLE_NAME), listenerType(typeNode), newWeakListener);
+    JCExpression add = treeMaker.Apply(List.<JCExpression> nil(), name(PROPERTY_CHANGE_METHOD_NAMES[0], typeNode),
+        List.of(name(WEAK_LISTENER_VARIABLE_NAME, typeNode)));
+    List<JCStatement> statements = List.of(treeMaker.Exec(expunge), returnIfNull, weakListenerDecl,
+        treeMaker.Exec(add), treeMaker.Return(name(WEAK_LISTENER_VARIABLE_NAME, typeNode)));
+    return newMethod().withModifiers(PUBLIC)
+                      .withName(ADD_WEAK_PROPERTY_CHANGE_LISTENER_METHOD_NAME)
+                      .withReturnType(listenerType(typeNode))
+                      .withParameters(List.of(parameter(listenerType(typeNode), LISTENER_ARG_NAME, typeNode)))
+                      .withBody(treeMaker.Block(0, statements))
+                      .buildWith(typeNode);
+  }
+
+  private JCMethodDecl expungeMethod(JavacNode typeNode) {
+    // private void expungeWeakPropertyChangeListeners() {
+    //   for (Object cleared = this.weakPropertyChangeListenerQueue.poll(); cleared != null;
+    //       cleared = this.weakPropertyChangeListenerQueue.poll())
+    //     removePropertyChangeListener((PropertyChangeListener) cleared);
+    // }
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    JCVariableDecl clearedDecl = treeMaker.VarDef(treeMaker.Modifiers(0), typeNode.toName(CLEARED_VARIABLE_NAME),
+        typeReference(Object.class, typeNode), poll(typeNode));
+    JCExpression notEmpty = treeMaker.Binary(JCTree.NE, name(CLEARED_VARIABLE_NAME, typeNode), nullLiteral(typeNode));
+    JCExpressionStatement next = treeMaker.Exec(treeMaker.Assign(name(CLEARED_VARIABLE_NAME, typeNode),
+        poll(typeNode)));
+    JCExpression remove = treeMaker.Apply(List.<JCExpression> nil(), name(PROPERTY_CHANGE_METHOD_NAMES[1], typeNode),
+        List.<JCExpression> of(treeMaker.TypeCast(listenerType(typeNode), name(CLEARED_VARIABLE_NAME, typeNode))));
+    JCStatement loop = treeMaker.ForLoop(List.<JCStatement> of(clearedDecl), notEmpty, List.of(next),
+        treeMaker.Exec(remove));
+    return newMethod().withModifiers(PRIVATE)
+                      .withName(EXPUNGE_WEAK_PROPERTY_CHANGE_LISTENERS_METHOD_NAME)
+                      .withReturnType(treeMaker.Type(voidType()))
+                      .withBody(treeMaker.Block(0, List.of(loop)))
+                      .buildWith(typeNode);
+  }
+
+  private JCExpression poll(JavacNode typeNode) {
+    // this.weakPropertyChangeListenerQueue.poll()
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.Apply(List.<JCExpression> nil(), chainDots(treeMaker, typeNode, "this",
+        WEAK_PROPERTY_CHANGE_LISTENER_QUEUE_FIELD_NAME, "poll"), List.<JCExpression> nil());
+  }
+
+  private JCVariableDecl parameter(JCExpression type, String parameterName, JavacNode typeNode) {
+    TreeMaker treeMaker = typeNode.getTreeMaker();
+    return treeMaker.VarDef(treeMaker.Modifiers(FINAL), typeNode.toName(parameterName), type, null);
+  }
+
+  private JCExpression sourceField(JavacNode typeNode) {
+    return chainDots(typeNode.getTreeMaker(), typeNode, "this", SOURCE_FIELD_NAME);
+  }
+
+  private JCExpression beanType(JavacNode typeNode) {
+    return name(typeNode.getName(), typeNode);
+  }
+
+  private JCExpression queueType(JavacNode typeNode) {
+    // ReferenceQueue<PropertyChangeListener>
+    return typeNode.getTreeMaker().TypeApply(typeReference(ReferenceQueue.class, typeNode),
+        List.of(listenerType(typeNode)));
+  }
+
+  private JCExpression nullLiteral(JavacNode typeNode) {
+    return typeNode.getTreeMaker().Literal(TypeTags.BOT, null);
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.core;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link BeanMetrics#propertyMetrics(Class, String)}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public class BeanMetrics_propertyMetrics_Test {
+
+  @Test public void should_return_same_metrics_for_same_class_and_property() {
+    PropertyMetrics metrics = BeanMetrics.propertyMetrics(Person.class, "firstName");
+    assertThat(BeanMetrics.propertyMetrics(Person.class, "firstName")).isSameAs(metrics);
+    assertThat(BeanMetrics.propertyMetrics(Person.class, "lastName")).isNotSameAs(metrics);
+    assertThat(BeanMetrics.propertyMetrics(Address.class, "firstName")).isNotSameAs(metrics);
+  }
+
+  @Test public void should_register_metrics_of_class_in_platform_MBean_server() throws Exception {
+    BeanMetrics.propertyMetrics(Address.class, "street").recordWrite(true);
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    BeanMetrics metrics = BeanMetrics.metricsOf(Address.class);
+    assertThat(server.isRegistered(metrics.objectName())).isTrue();
+    assertThat(server.getAttribute(metrics.objectName(), "BeanClassName")).isEqualTo(Address.class.getName());
+    Map<String, Long> noOpWrites = metrics.getNoOpWrites();
+    assertThat(noOpWrites.get("street")).isEqualTo(1L);
+  }
+
+  private static class Person {}
+
+  private static class Address {}
+}
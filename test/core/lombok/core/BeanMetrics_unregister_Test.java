@@ -0,0 +1,52 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.core;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link BeanMetrics#unregister(Class)}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public class BeanMetrics_unregister_Test {
+
+  @Test public void should_remove_metrics_of_class_from_registry_and_platform_MBean_server() throws Exception {
+    BeanMetrics metrics = BeanMetrics.metricsOf(Person.class);
+    ObjectName name = metrics.objectName();
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    assertThat(server.isRegistered(name)).isTrue();
+    BeanMetrics.unregister(Person.class);
+    assertThat(server.isRegistered(name)).isFalse();
+    BeanMetrics registered = BeanMetrics.metricsOf(Person.class);
+    assertThat(registered).isNotSameAs(metrics);
+    assertThat(server.isRegistered(name)).isTrue();
+  }
+
+  @Test public void should_ignore_class_without_metrics() {
+    BeanMetrics.unregister(Address.class);
+  }
+
+  private static class Person {}
+
+  private static class Address {}
+}
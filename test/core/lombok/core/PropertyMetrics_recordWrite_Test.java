@@ -0,0 +1,48 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.core;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link PropertyMetrics#recordWrite(boolean)}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public class PropertyMetrics_recordWrite_Test {
+
+  private PropertyMetrics metrics;
+
+  @Before public void setUp() {
+    metrics = new PropertyMetrics("firstName");
+  }
+
+  @Test public void should_count_writes() {
+    metrics.recordWrite(false);
+    metrics.recordWrite(false);
+    assertThat(metrics.writes()).isEqualTo(2);
+    assertThat(metrics.noOpWrites()).isEqualTo(0);
+  }
+
+  @Test public void should_count_no_op_writes_as_writes_too() {
+    metrics.recordWrite(true);
+    metrics.recordWrite(false);
+    assertThat(metrics.writes()).isEqualTo(2);
+    assertThat(metrics.noOpWrites()).isEqualTo(1);
+  }
+}
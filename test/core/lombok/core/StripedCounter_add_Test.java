@@ -0,0 +1,58 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.core;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link StripedCounter#add(long)}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public class StripedCounter_add_Test {
+
+  @Test public void should_add_value() {
+    StripedCounter counter = new StripedCounter();
+    counter.add(2);
+    counter.add(3);
+    assertThat(counter.sum()).isEqualTo(5);
+  }
+
+  @Test public void should_not_lose_values_added_concurrently() throws Exception {
+    final StripedCounter counter = new StripedCounter();
+    final CountDownLatch start = new CountDownLatch(1);
+    Thread[] threads = new Thread[8];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread() {
+        @Override public void run() {
+          try {
+            start.await();
+          } catch (InterruptedException e) {
+            return;
+          }
+          for (int j = 0; j < 10000; j++) counter.add(1);
+        }
+      };
+      threads[i].start();
+    }
+    start.countDown();
+    for (Thread thread : threads) thread.join();
+    assertThat(counter.sum()).isEqualTo(80000);
+  }
+}
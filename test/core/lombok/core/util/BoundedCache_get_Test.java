@@ -0,0 +1,62 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.core.util;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link BoundedCache#get(Object)}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public class BoundedCache_get_Test {
+
+  private CountingCache cache;
+
+  @Before public void setUp() {
+    cache = new CountingCache(2);
+  }
+
+  @Test public void should_compute_value_only_once() {
+    assertThat(cache.get("a")).isEqualTo("A");
+    assertThat(cache.get("a")).isEqualTo("A");
+    assertThat(cache.computations).isEqualTo(1);
+  }
+
+  @Test public void should_empty_cache_before_going_over_maximum_size() {
+    cache.get("a");
+    cache.get("b");
+    cache.get("c");
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.get("c")).isEqualTo("C");
+    assertThat(cache.computations).isEqualTo(3);
+  }
+
+  private static class CountingCache extends BoundedCache<String, String> {
+    int computations;
+
+    CountingCache(int maximumSize) {
+      super(maximumSize);
+    }
+
+    @Override protected String computeValue(String key) {
+      computations++;
+      return key.toUpperCase();
+    }
+  }
+}
@@ -0,0 +1,33 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.core.util;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link ErrorMessages#notifyEveryMustBePositive(Class, int)}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public class ErrorMessages_notifyEveryMustBePositive_Test {
+
+  @Test public void should_create_error_message() {
+    String errorMessage = ErrorMessages.notifyEveryMustBePositive(Override.class, 0);
+    assertThat(errorMessage).isEqualTo("@java.lang.Override(notifyEvery = 0) is invalid: notifyEvery must be 1 or "
+        + "greater");
+  }
+}
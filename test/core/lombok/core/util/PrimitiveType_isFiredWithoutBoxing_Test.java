@@ -0,0 +1,42 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.core.util;
+
+import static lombok.core.util.PrimitiveType.*;
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link PrimitiveType#isFiredWithoutBoxing()}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public class PrimitiveType_isFiredWithoutBoxing_Test {
+
+  @Test public void should_return_true_for_types_that_widen_to_int_or_are_boolean() {
+    assertThat(BOOLEAN.isFiredWithoutBoxing()).isTrue();
+    assertThat(BYTE.isFiredWithoutBoxing()).isTrue();
+    assertThat(CHAR.isFiredWithoutBoxing()).isTrue();
+    assertThat(SHORT.isFiredWithoutBoxing()).isTrue();
+    assertThat(INT.isFiredWithoutBoxing()).isTrue();
+  }
+
+  @Test public void should_return_false_for_long_float_and_double() {
+    assertThat(LONG.isFiredWithoutBoxing()).isFalse();
+    assertThat(FLOAT.isFiredWithoutBoxing()).isFalse();
+    assertThat(DOUBLE.isFiredWithoutBoxing()).isFalse();
+  }
+}
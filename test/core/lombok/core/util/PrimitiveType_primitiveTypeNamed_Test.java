@@ -0,0 +1,59 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package lombok.core.util;
+
+import static lombok.core.util.PrimitiveType.*;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.util.Collections.list;
+
+import java.util.Collection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Tests for <code>{@link PrimitiveType#primitiveTypeNamed(String)}</code>.
+ *
+ * @author Alex Ruiz
+ */
+@RunWith(Parameterized.class)
+public class PrimitiveType_primitiveTypeNamed_Test {
+
+  @Parameters public static Collection<Object[]> parameters() {
+    return list(new Object[][] {
+        { "boolean", BOOLEAN },
+        { "int", INT },
+        { "long", LONG },
+        { "double", DOUBLE },
+        { "int[]", null },
+        { "Integer", null },
+        { "java.lang.String", null }
+    });
+  }
+
+  private final String typeName;
+  private final PrimitiveType primitiveType;
+
+  public PrimitiveType_primitiveTypeNamed_Test(String typeName, PrimitiveType primitiveType) {
+    this.typeName = typeName;
+    this.primitiveType = primitiveType;
+  }
+
+  @Test public void should_return_primitive_type_with_matching_name() {
+    assertThat(PrimitiveType.primitiveTypeNamed(typeName)).isEqualTo(primitiveType);
+  }
+}
@@ -0,0 +1,69 @@
+class AccessModeJavaBean {
+	
+	private volatile String name;
+	private volatile String label;
+	private volatile int count;
+	private volatile long total;
+	private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.addPropertyChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.removePropertyChangeListener(listener);
+	}
+	public static final java.lang.String PROP_NAME = new java.lang.String("name");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(String name) {
+		if (!propertySupport.hasListeners(PROP_NAME)) {
+			this.name = name;
+			return;
+		}
+		final String old = this.name;
+		this.name = name;
+		propertySupport.firePropertyChange(PROP_NAME, old, name);
+	}
+	public static final java.lang.String PROP_LABEL = new java.lang.String("label");
+	private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<AccessModeJavaBean, String> LABEL_UPDATER = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(AccessModeJavaBean.class, String.class, "label");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setLabel(String label) {
+		if (!propertySupport.hasListeners(PROP_LABEL)) {
+			LABEL_UPDATER.lazySet(this, label);
+			return;
+		}
+		final String old = this.label;
+		LABEL_UPDATER.lazySet(this, label);
+		propertySupport.firePropertyChange(PROP_LABEL, old, label);
+	}
+	public static final java.lang.String PROP_COUNT = new java.lang.String("count");
+	private static final java.util.concurrent.atomic.AtomicIntegerFieldUpdater<AccessModeJavaBean> COUNT_UPDATER = java.util.concurrent.atomic.AtomicIntegerFieldUpdater.newUpdater(AccessModeJavaBean.class, "count");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setCount(int count) {
+		if (!propertySupport.hasListeners(PROP_COUNT)) {
+			COUNT_UPDATER.lazySet(this, count);
+			return;
+		}
+		final int old = this.count;
+		COUNT_UPDATER.lazySet(this, count);
+		propertySupport.firePropertyChange(PROP_COUNT, old, count);
+	}
+	public static final java.lang.String PROP_TOTAL = new java.lang.String("total");
+	private static final java.util.concurrent.atomic.AtomicLongFieldUpdater<AccessModeJavaBean> TOTAL_UPDATER = java.util.concurrent.atomic.AtomicLongFieldUpdater.newUpdater(AccessModeJavaBean.class, "total");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setTotal(long total) {
+		if (!propertySupport.hasListeners(PROP_TOTAL)) {
+			TOTAL_UPDATER.lazySet(this, total);
+			return;
+		}
+		final long old = this.total;
+		TOTAL_UPDATER.lazySet(this, total);
+		if (old != total) propertySupport.firePropertyChange(PROP_TOTAL, old, total);
+	}
+}
@@ -0,0 +1,74 @@
+class AtomicUpdatesJavaBean {
+	
+	private volatile String name;
+	private volatile long total;
+	private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.addPropertyChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.removePropertyChangeListener(listener);
+	}
+	public static final java.lang.String PROP_NAME = new java.lang.String("name");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(String name) {
+		if (!propertySupport.hasListeners(PROP_NAME)) {
+			this.name = name;
+			return;
+		}
+		final String old = this.name;
+		this.name = name;
+		propertySupport.firePropertyChange(PROP_NAME, old, this.name);
+	}
+	private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<AtomicUpdatesJavaBean, String> NAME_UPDATER = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(AtomicUpdatesJavaBean.class, String.class, "name");
+	
+	@java.lang.SuppressWarnings("all")
+	public boolean compareAndSetName(final String expected, String name) {
+		if (!NAME_UPDATER.compareAndSet(this, expected, name)) return false;
+		if (!propertySupport.hasListeners(PROP_NAME)) return true;
+		propertySupport.firePropertyChange(PROP_NAME, expected, name);
+		return true;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public String getAndSetName(String name) {
+		final String old = NAME_UPDATER.getAndSet(this, name);
+		if (!propertySupport.hasListeners(PROP_NAME)) return old;
+		propertySupport.firePropertyChange(PROP_NAME, old, name);
+		return old;
+	}
+	public static final java.lang.String PROP_TOTAL = new java.lang.String("total");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setTotal(long total) {
+		if (!propertySupport.hasListeners(PROP_TOTAL)) {
+			this.total = total;
+			return;
+		}
+		final long old = this.total;
+		this.total = total;
+		if (old != this.total) propertySupport.firePropertyChange(PROP_TOTAL, old, this.total);
+	}
+	private static final java.util.concurrent.atomic.AtomicLongFieldUpdater<AtomicUpdatesJavaBean> TOTAL_UPDATER = java.util.concurrent.atomic.AtomicLongFieldUpdater.newUpdater(AtomicUpdatesJavaBean.class, "total");
+	
+	@java.lang.SuppressWarnings("all")
+	public boolean compareAndSetTotal(final long expected, long total) {
+		if (!TOTAL_UPDATER.compareAndSet(this, expected, total)) return false;
+		if (!propertySupport.hasListeners(PROP_TOTAL)) return true;
+		if (expected != total) propertySupport.firePropertyChange(PROP_TOTAL, expected, total);
+		return true;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public long getAndSetTotal(long total) {
+		final long old = TOTAL_UPDATER.getAndSet(this, total);
+		if (!propertySupport.hasListeners(PROP_TOTAL)) return old;
+		if (old != total) propertySupport.firePropertyChange(PROP_TOTAL, old, total);
+		return old;
+	}
+}
@@ -0,0 +1,76 @@
+class BatchedJavaBean {
+	
+	private String name;
+	private int age;
+	private String nickname;
+	private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.addPropertyChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.removePropertyChangeListener(listener);
+	}
+	private java.util.Map<java.lang.String, java.beans.PropertyChangeEvent> batchedChanges;
+	private int batchDepth;
+	
+	@java.lang.SuppressWarnings("all")
+	public void beginBatch() {
+		if (batchDepth++ == 0) batchedChanges = new java.util.LinkedHashMap<java.lang.String, java.beans.PropertyChangeEvent>();
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void endBatch() {
+		if (batchDepth == 0) throw new java.lang.IllegalStateException("endBatch() called without beginBatch()");
+		if (--batchDepth > 0) return;
+		final java.util.Map<java.lang.String, java.beans.PropertyChangeEvent> changes = batchedChanges;
+		batchedChanges = null;
+		for (final java.beans.PropertyChangeEvent event : changes.values()) propertySupport.firePropertyChange(event);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private void batchPropertyChange(final java.lang.String propertyName, final java.lang.Object oldValue, final java.lang.Object newValue) {
+		final java.beans.PropertyChangeEvent first = batchedChanges.get(propertyName);
+		final java.lang.Object firstOldValue = first == null ? oldValue : first.getOldValue();
+		if (firstOldValue == newValue || firstOldValue != null && firstOldValue.equals(newValue)) batchedChanges.remove(propertyName); else batchedChanges.put(propertyName, new java.beans.PropertyChangeEvent(this, propertyName, firstOldValue, newValue));
+	}
+	public static final java.lang.String PROP_NAME = new java.lang.String("name");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(String name) {
+		if (!propertySupport.hasListeners(PROP_NAME)) {
+			this.name = name;
+			return;
+		}
+		final String old = this.name;
+		this.name = name;
+		if (batchedChanges != null) batchPropertyChange(PROP_NAME, old, this.name); else propertySupport.firePropertyChange(PROP_NAME, old, this.name);
+	}
+	public static final java.lang.String PROP_AGE = new java.lang.String("age");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setAge(int age) {
+		if (!propertySupport.hasListeners(PROP_AGE)) {
+			this.age = age;
+			return;
+		}
+		final int old = this.age;
+		this.age = age;
+		if (old != this.age) if (batchedChanges != null) batchPropertyChange(PROP_AGE, old, this.age); else propertySupport.firePropertyChange(PROP_AGE, old, this.age);
+	}
+	public static final java.lang.String PROP_NICKNAME = new java.lang.String("nickname");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setNickname(String nickname) {
+		if (!propertySupport.hasListeners(PROP_NICKNAME)) {
+			this.nickname = nickname;
+			return;
+		}
+		final String old = this.nickname;
+		this.nickname = nickname;
+		if (batchedChanges != null) batchPropertyChange(PROP_NICKNAME, old, this.nickname); else propertySupport.firePropertyChange(PROP_NICKNAME, old, this.nickname);
+	}
+}
@@ -0,0 +1,83 @@
+class BoundSetterEqualityCheck {
+	
+	private String name;
+	private Object owner;
+	private int age;
+	private double weight;
+	private String nickname;
+	private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.addPropertyChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.removePropertyChangeListener(listener);
+	}
+	public static final java.lang.String PROP_NAME = new java.lang.String("name");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(String name) {
+		if (this.name == name || this.name != null && this.name.equals(name)) return;
+		if (!propertySupport.hasListeners(PROP_NAME)) {
+			this.name = name;
+			return;
+		}
+		final String old = this.name;
+		this.name = name;
+		propertySupport.firePropertyChange(PROP_NAME, old, this.name);
+	}
+	public static final java.lang.String PROP_OWNER = new java.lang.String("owner");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setOwner(Object owner) {
+		if (this.owner == owner) return;
+		if (!propertySupport.hasListeners(PROP_OWNER)) {
+			this.owner = owner;
+			return;
+		}
+		final Object old = this.owner;
+		this.owner = owner;
+		propertySupport.firePropertyChange(PROP_OWNER, old, this.owner);
+	}
+	public static final java.lang.String PROP_AGE = new java.lang.String("age");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setAge(int age) {
+		if (this.age == age) return;
+		if (!propertySupport.hasListeners(PROP_AGE)) {
+			this.age = age;
+			return;
+		}
+		final int old = this.age;
+		this.age = age;
+		propertySupport.firePropertyChange(PROP_AGE, old, this.age);
+	}
+	public static final java.lang.String PROP_WEIGHT = new java.lang.String("weight");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setWeight(double weight) {
+		if (java.lang.Double.compare(this.weight, weight) == 0) return;
+		if (!propertySupport.hasListeners(PROP_WEIGHT)) {
+			this.weight = weight;
+			return;
+		}
+		final double old = this.weight;
+		this.weight = weight;
+		propertySupport.firePropertyChange(PROP_WEIGHT, old, this.weight);
+	}
+	public static final java.lang.String PROP_NICKNAME = new java.lang.String("nickname");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setNickname(String nickname) {
+		if (!propertySupport.hasListeners(PROP_NICKNAME)) {
+			this.nickname = nickname;
+			return;
+		}
+		final String old = this.nickname;
+		this.nickname = nickname;
+		propertySupport.firePropertyChange(PROP_NICKNAME, old, this.nickname);
+	}
+}
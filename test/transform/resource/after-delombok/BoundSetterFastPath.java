@@ -0,0 +1,30 @@
+class BoundSetterFastPath {
+	
+	private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+	private String name;
+	private long id;
+	public static final java.lang.String PROP_NAME = new java.lang.String("name");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(String name) {
+		if (!propertySupport.hasListeners(PROP_NAME)) {
+			this.name = name;
+			return;
+		}
+		final String old = this.name;
+		this.name = name;
+		propertySupport.firePropertyChange(PROP_NAME, old, this.name);
+	}
+	public static final java.lang.String PROP_ID = new java.lang.String("id");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setId(long id) {
+		if (!propertySupport.hasListeners(PROP_ID)) {
+			this.id = id;
+			return;
+		}
+		final long old = this.id;
+		this.id = id;
+		if (old != this.id) propertySupport.firePropertyChange(PROP_ID, old, this.id);
+	}
+}
@@ -0,0 +1,50 @@
+class BoundSetterOnType {
+	
+	private String name;
+	private int age;
+	private String nickname;
+	private static int instances;
+	private final long id = 0;
+	private String $cache;
+	
+	public void setAge(int age) {
+		this.age = age;
+	}
+	private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.addPropertyChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.removePropertyChangeListener(listener);
+	}
+	public static final java.lang.String PROP_NAME = new java.lang.String("name");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(String name) {
+		if (!propertySupport.hasListeners(PROP_NAME)) {
+			this.name = name;
+			return;
+		}
+		final String old = this.name;
+		this.name = name;
+		propertySupport.firePropertyChange(PROP_NAME, old, this.name);
+	}
+	public static final java.lang.String PROP_AGE = new java.lang.String("age");
+	public static final java.lang.String PROP_NICKNAME = new java.lang.String("nickname");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setNickname(String nickname) {
+		if (this.nickname == nickname || this.nickname != null && this.nickname.equals(nickname)) return;
+		if (!propertySupport.hasListeners(PROP_NICKNAME)) {
+			this.nickname = nickname;
+			return;
+		}
+		final String old = this.nickname;
+		this.nickname = nickname;
+		propertySupport.firePropertyChange(PROP_NICKNAME, old, this.nickname);
+	}
+}
@@ -0,0 +1,128 @@
+class ChangeCallbackJavaBean {
+	
+	private String name;
+	private int age;
+	private boolean active;
+	private double weight;
+	private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.addPropertyChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.removePropertyChangeListener(listener);
+	}
+	
+	public static interface ChangeCallback {
+		
+		@java.lang.SuppressWarnings("all")
+		public abstract void onChange(ChangeCallbackJavaBean source, int propertyOrdinal, long oldBits, long newBits);
+		
+		@java.lang.SuppressWarnings("all")
+		public abstract void onChange(ChangeCallbackJavaBean source, int propertyOrdinal, java.lang.Object oldValue, java.lang.Object newValue);
+	}
+	private static final ChangeCallback[] NO_CHANGE_CALLBACKS = new ChangeCallback[0];
+	private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<ChangeCallbackJavaBean, ChangeCallback[]> CHANGE_CALLBACKS_UPDATER = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(ChangeCallbackJavaBean.class, ChangeCallback[].class, "changeCallbacks");
+	private volatile ChangeCallback[] changeCallbacks = NO_CHANGE_CALLBACKS;
+	
+	@java.lang.SuppressWarnings("all")
+	public void addChangeCallback(final ChangeCallback callback) {
+		if (callback == null) return;
+		while (true) {
+			final ChangeCallback[] current = this.changeCallbacks;
+			final ChangeCallback[] updated = java.util.Arrays.copyOf(current, current.length + 1);
+			updated[current.length] = callback;
+			if (CHANGE_CALLBACKS_UPDATER.compareAndSet(this, current, updated)) return;
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removeChangeCallback(final ChangeCallback callback) {
+		if (callback == null) return;
+		while (true) {
+			final ChangeCallback[] current = this.changeCallbacks;
+			int index = 0;
+			while (index < current.length && !callback.equals(current[index])) index++;
+			if (index == current.length) return;
+			final ChangeCallback[] updated = new ChangeCallback[current.length - 1];
+			java.lang.System.arraycopy(current, 0, updated, 0, index);
+			java.lang.System.arraycopy(current, index + 1, updated, index, updated.length - index);
+			if (CHANGE_CALLBACKS_UPDATER.compareAndSet(this, current, updated)) return;
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private void notifyChangeCallbacks(final int ordinal, final long oldBits, final long newBits) {
+		final ChangeCallback[] current = this.changeCallbacks;
+		for (int index = 0; index < current.length; index++) current[index].onChange(this, ordinal, oldBits, newBits);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private void notifyChangeCallbacks(final int ordinal, final java.lang.Object oldValue, final java.lang.Object newValue) {
+		final ChangeCallback[] current = this.changeCallbacks;
+		for (int index = 0; index < current.length; index++) current[index].onChange(this, ordinal, oldValue, newValue);
+	}
+	public static final java.lang.String PROP_NAME = new java.lang.String("name");
+	public static final int ORDINAL_NAME = 0;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(String name) {
+		if (this.changeCallbacks.length == 0 && !propertySupport.hasListeners(PROP_NAME)) {
+			this.name = name;
+			return;
+		}
+		final String old = this.name;
+		this.name = name;
+		if (!(old == this.name || old != null && old.equals(this.name))) notifyChangeCallbacks(ORDINAL_NAME, old, this.name);
+		if (!propertySupport.hasListeners(PROP_NAME)) return;
+		propertySupport.firePropertyChange(PROP_NAME, old, this.name);
+	}
+	public static final java.lang.String PROP_AGE = new java.lang.String("age");
+	public static final int ORDINAL_AGE = 1;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setAge(int age) {
+		if (this.changeCallbacks.length == 0 && !propertySupport.hasListeners(PROP_AGE)) {
+			this.age = age;
+			return;
+		}
+		final int old = this.age;
+		this.age = age;
+		if (old != this.age) notifyChangeCallbacks(ORDINAL_AGE, old, this.age);
+		if (!propertySupport.hasListeners(PROP_AGE)) return;
+		propertySupport.firePropertyChange(PROP_AGE, old, this.age);
+	}
+	public static final java.lang.String PROP_ACTIVE = new java.lang.String("active");
+	public static final int ORDINAL_ACTIVE = 2;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setActive(boolean active) {
+		if (this.changeCallbacks.length == 0 && !propertySupport.hasListeners(PROP_ACTIVE)) {
+			this.active = active;
+			return;
+		}
+		final boolean old = this.active;
+		this.active = active;
+		if (old != this.active) notifyChangeCallbacks(ORDINAL_ACTIVE, old ? 1L : 0L, this.active ? 1L : 0L);
+		if (!propertySupport.hasListeners(PROP_ACTIVE)) return;
+		propertySupport.firePropertyChange(PROP_ACTIVE, old, this.active);
+	}
+	public static final java.lang.String PROP_WEIGHT = new java.lang.String("weight");
+	public static final int ORDINAL_WEIGHT = 3;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setWeight(double weight) {
+		if (this.changeCallbacks.length == 0 && !propertySupport.hasListeners(PROP_WEIGHT)) {
+			this.weight = weight;
+			return;
+		}
+		final double old = this.weight;
+		this.weight = weight;
+		if (java.lang.Double.compare(old, this.weight) != 0) notifyChangeCallbacks(ORDINAL_WEIGHT, java.lang.Double.doubleToLongBits(old), java.lang.Double.doubleToLongBits(this.weight));
+		if (!propertySupport.hasListeners(PROP_WEIGHT)) return;
+		if (java.lang.Double.compare(old, this.weight) != 0) propertySupport.firePropertyChange(PROP_WEIGHT, old, this.weight);
+	}
+}
@@ -0,0 +1,82 @@
+class ChangeJournalJavaBean {
+	
+	private String name;
+	private int age;
+	private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.addPropertyChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.removePropertyChangeListener(listener);
+	}
+	
+	public static interface ChangeConsumer {
+		
+		@java.lang.SuppressWarnings("all")
+		public abstract void accept(int propertyOrdinal, java.lang.Object newValue);
+	}
+	private final int[] journalOrdinals = new int[2];
+	private final java.lang.Object[] journalValues = new java.lang.Object[2];
+	private final boolean[] journaled = new boolean[2];
+	private int journalSize;
+	
+	@java.lang.SuppressWarnings("all")
+	private void journalChange(final int ordinal, final java.lang.Object newValue) {
+		synchronized (this.journalOrdinals) {
+			if (!this.journaled[ordinal]) {
+				this.journaled[ordinal] = true;
+				this.journalOrdinals[this.journalSize++] = ordinal;
+			}
+			this.journalValues[ordinal] = newValue;
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void drainChanges(final ChangeConsumer consumer) {
+		final int[] ordinals;
+		final java.lang.Object[] values;
+		synchronized (this.journalOrdinals) {
+			ordinals = java.util.Arrays.copyOf(this.journalOrdinals, this.journalSize);
+			values = new java.lang.Object[this.journalSize];
+			for (int index = 0; index < ordinals.length; index++) {
+				values[index] = this.journalValues[ordinals[index]];
+				this.journalValues[ordinals[index]] = null;
+				this.journaled[ordinals[index]] = false;
+			}
+			this.journalSize = 0;
+		}
+		for (int index = 0; index < ordinals.length; index++) consumer.accept(ordinals[index], values[index]);
+	}
+	public static final java.lang.String PROP_NAME = new java.lang.String("name");
+	public static final int ORDINAL_NAME = 0;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(String name) {
+		if (!(this.name == name || this.name != null && this.name.equals(name))) journalChange(ORDINAL_NAME, name);
+		if (!propertySupport.hasListeners(PROP_NAME)) {
+			this.name = name;
+			return;
+		}
+		final String old = this.name;
+		this.name = name;
+		propertySupport.firePropertyChange(PROP_NAME, old, this.name);
+	}
+	public static final java.lang.String PROP_AGE = new java.lang.String("age");
+	public static final int ORDINAL_AGE = 1;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setAge(int age) {
+		if (!(this.age == age)) journalChange(ORDINAL_AGE, age);
+		if (!propertySupport.hasListeners(PROP_AGE)) {
+			this.age = age;
+			return;
+		}
+		final int old = this.age;
+		this.age = age;
+		propertySupport.firePropertyChange(PROP_AGE, old, this.age);
+	}
+}
@@ -0,0 +1,128 @@
+class ChangeRuleJavaBean {
+	
+	private volatile String name;
+	private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.addPropertyChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.removePropertyChangeListener(listener);
+	}
+	
+	public static interface ChangeCallback {
+		
+		@java.lang.SuppressWarnings("all")
+		public abstract void onChange(ChangeRuleJavaBean source, int propertyOrdinal, long oldBits, long newBits);
+		
+		@java.lang.SuppressWarnings("all")
+		public abstract void onChange(ChangeRuleJavaBean source, int propertyOrdinal, java.lang.Object oldValue, java.lang.Object newValue);
+	}
+	private static final ChangeCallback[] NO_CHANGE_CALLBACKS = new ChangeCallback[0];
+	private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<ChangeRuleJavaBean, ChangeCallback[]> CHANGE_CALLBACKS_UPDATER = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(ChangeRuleJavaBean.class, ChangeCallback[].class, "changeCallbacks");
+	private volatile ChangeCallback[] changeCallbacks = NO_CHANGE_CALLBACKS;
+	
+	@java.lang.SuppressWarnings("all")
+	public void addChangeCallback(final ChangeCallback callback) {
+		if (callback == null) return;
+		while (true) {
+			final ChangeCallback[] current = this.changeCallbacks;
+			final ChangeCallback[] updated = java.util.Arrays.copyOf(current, current.length + 1);
+			updated[current.length] = callback;
+			if (CHANGE_CALLBACKS_UPDATER.compareAndSet(this, current, updated)) return;
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removeChangeCallback(final ChangeCallback callback) {
+		if (callback == null) return;
+		while (true) {
+			final ChangeCallback[] current = this.changeCallbacks;
+			int index = 0;
+			while (index < current.length && !callback.equals(current[index])) index++;
+			if (index == current.length) return;
+			final ChangeCallback[] updated = new ChangeCallback[current.length - 1];
+			java.lang.System.arraycopy(current, 0, updated, 0, index);
+			java.lang.System.arraycopy(current, index + 1, updated, index, updated.length - index);
+			if (CHANGE_CALLBACKS_UPDATER.compareAndSet(this, current, updated)) return;
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private void notifyChangeCallbacks(final int ordinal, final long oldBits, final long newBits) {
+		final ChangeCallback[] current = this.changeCallbacks;
+		for (int index = 0; index < current.length; index++) current[index].onChange(this, ordinal, oldBits, newBits);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private void notifyChangeCallbacks(final int ordinal, final java.lang.Object oldValue, final java.lang.Object newValue) {
+		final ChangeCallback[] current = this.changeCallbacks;
+		for (int index = 0; index < current.length; index++) current[index].onChange(this, ordinal, oldValue, newValue);
+	}
+	private long dirtyBits;
+	
+	@java.lang.SuppressWarnings("all")
+	public boolean isDirty(final java.lang.String propertyName) {
+		if (PROP_NAME.equals(propertyName)) return (this.dirtyBits & 1L << 0) != 0;
+		return false;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public boolean isDirty(final int propertyOrdinal) {
+		return (this.dirtyBits & 1L << propertyOrdinal) != 0;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public java.lang.String[] dirtyProperties() {
+		final java.lang.String[] dirty = new java.lang.String[java.lang.Long.bitCount(this.dirtyBits)];
+		int index = 0;
+		if ((this.dirtyBits & 1L << 0) != 0) dirty[index++] = PROP_NAME;
+		return dirty;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void clearDirty() {
+		this.dirtyBits = 0L;
+	}
+	public static final java.lang.String PROP_NAME = new java.lang.String("name");
+	public static final int ORDINAL_NAME = 0;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(String name) {
+		if (this.name == name) return;
+		this.dirtyBits |= 1L << 0;
+		if (this.changeCallbacks.length == 0 && !propertySupport.hasListeners(PROP_NAME)) {
+			this.name = name;
+			return;
+		}
+		final String old = this.name;
+		this.name = name;
+		if (old != this.name) notifyChangeCallbacks(ORDINAL_NAME, old, this.name);
+		if (!propertySupport.hasListeners(PROP_NAME)) return;
+		propertySupport.firePropertyChange(PROP_NAME, old, this.name);
+	}
+	private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<ChangeRuleJavaBean, String> NAME_UPDATER = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(ChangeRuleJavaBean.class, String.class, "name");
+	
+	@java.lang.SuppressWarnings("all")
+	public boolean compareAndSetName(final String expected, String name) {
+		if (!NAME_UPDATER.compareAndSet(this, expected, name)) return false;
+		if (!(expected == name)) this.dirtyBits |= 1L << 0;
+		if (expected != name) notifyChangeCallbacks(ORDINAL_NAME, expected, name);
+		if (!propertySupport.hasListeners(PROP_NAME)) return true;
+		propertySupport.firePropertyChange(PROP_NAME, expected, name);
+		return true;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public String getAndSetName(String name) {
+		final String old = NAME_UPDATER.getAndSet(this, name);
+		if (!(old == name)) this.dirtyBits |= 1L << 0;
+		if (old != name) notifyChangeCallbacks(ORDINAL_NAME, old, name);
+		if (!propertySupport.hasListeners(PROP_NAME)) return old;
+		propertySupport.firePropertyChange(PROP_NAME, old, name);
+		return old;
+	}
+}
@@ -14,6 +14,10 @@ class CompleteJavaBean {
 	
 	@java.lang.SuppressWarnings("all")
 	public void setI(int i) {
+		if (!propertySupport.hasListeners(PROP_I)) {
+			this.i = i;
+			return;
+		}
 		final int old = this.i;
 		this.i = i;
 		propertySupport.firePropertyChange(PROP_I, old, this.i);
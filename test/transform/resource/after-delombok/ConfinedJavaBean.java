@@ -0,0 +1,61 @@
+class ConfinedJavaBean {
+	
+	private String name;
+	private int age;
+	private static final java.beans.PropertyChangeListener[] NO_PROPERTY_CHANGE_LISTENERS = new java.beans.PropertyChangeListener[0];
+	private java.beans.PropertyChangeListener[] propertyChangeListeners = NO_PROPERTY_CHANGE_LISTENERS;
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		if (listener == null) return;
+		final java.beans.PropertyChangeListener[] current = this.propertyChangeListeners;
+		final java.beans.PropertyChangeListener[] updated = java.util.Arrays.copyOf(current, current.length + 1);
+		updated[current.length] = listener;
+		this.propertyChangeListeners = updated;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		if (listener == null) return;
+		final java.beans.PropertyChangeListener[] current = this.propertyChangeListeners;
+		int index = 0;
+		while (index < current.length && !listener.equals(current[index])) index++;
+		if (index == current.length) return;
+		final java.beans.PropertyChangeListener[] updated = new java.beans.PropertyChangeListener[current.length - 1];
+		java.lang.System.arraycopy(current, 0, updated, 0, index);
+		java.lang.System.arraycopy(current, index + 1, updated, index, updated.length - index);
+		this.propertyChangeListeners = updated;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private void notifyPropertyChangeListeners(final java.lang.String propertyName, final java.lang.Object oldValue, final java.lang.Object newValue) {
+		if (oldValue != null && newValue != null && oldValue.equals(newValue)) return;
+		final java.beans.PropertyChangeListener[] current = this.propertyChangeListeners;
+		final java.beans.PropertyChangeEvent event = new java.beans.PropertyChangeEvent(this, propertyName, oldValue, newValue);
+		for (int index = 0; index < current.length; index++) current[index].propertyChange(event);
+	}
+	public static final java.lang.String PROP_NAME = new java.lang.String("name");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(String name) {
+		if (this.propertyChangeListeners.length == 0) {
+			this.name = name;
+			return;
+		}
+		final String old = this.name;
+		this.name = name;
+		notifyPropertyChangeListeners(PROP_NAME, old, this.name);
+	}
+	public static final java.lang.String PROP_AGE = new java.lang.String("age");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setAge(int age) {
+		if (this.propertyChangeListeners.length == 0) {
+			this.age = age;
+			return;
+		}
+		final int old = this.age;
+		this.age = age;
+		if (old != this.age) notifyPropertyChangeListeners(PROP_AGE, old, this.age);
+	}
+}
@@ -0,0 +1,49 @@
+class ConstrainedJavaBean {
+	
+	private String name;
+	private int age;
+	private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.addPropertyChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.removePropertyChangeListener(listener);
+	}
+	private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<ConstrainedJavaBean, java.beans.VetoableChangeSupport> VETOABLE_SUPPORT_UPDATER = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(ConstrainedJavaBean.class, java.beans.VetoableChangeSupport.class, "vetoableSupport");
+	private volatile java.beans.VetoableChangeSupport vetoableSupport;
+	
+	@java.lang.SuppressWarnings("all")
+	public void addVetoableChangeListener(final java.beans.VetoableChangeListener listener) {
+		if (vetoableSupport == null) VETOABLE_SUPPORT_UPDATER.compareAndSet(this, null, new java.beans.VetoableChangeSupport(this));
+		vetoableSupport.addVetoableChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removeVetoableChangeListener(final java.beans.VetoableChangeListener listener) {
+		if (vetoableSupport != null) vetoableSupport.removeVetoableChangeListener(listener);
+	}
+	public static final java.lang.String PROP_NAME = new java.lang.String("name");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(String name) throws java.beans.PropertyVetoException {
+		if (vetoableSupport != null && vetoableSupport.hasListeners(PROP_NAME)) vetoableSupport.fireVetoableChange(PROP_NAME, this.name, name);
+		this.name = name;
+	}
+	public static final java.lang.String PROP_AGE = new java.lang.String("age");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setAge(int age) throws java.beans.PropertyVetoException {
+		if (vetoableSupport != null && vetoableSupport.hasListeners(PROP_AGE)) vetoableSupport.fireVetoableChange(PROP_AGE, this.age, age);
+		if (!propertySupport.hasListeners(PROP_AGE)) {
+			this.age = age;
+			return;
+		}
+		final int old = this.age;
+		this.age = age;
+		propertySupport.firePropertyChange(PROP_AGE, old, this.age);
+	}
+}
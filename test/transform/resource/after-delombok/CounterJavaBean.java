@@ -0,0 +1,100 @@
+class CounterJavaBean {
+	
+	private volatile int requests;
+	private volatile long bytes;
+	private volatile int balance;
+	private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.addPropertyChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.removePropertyChangeListener(listener);
+	}
+	public static final java.lang.String PROP_REQUESTS = new java.lang.String("requests");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setRequests(int requests) {
+		if (!propertySupport.hasListeners(PROP_REQUESTS)) {
+			this.requests = requests;
+			return;
+		}
+		final int old = this.requests;
+		this.requests = requests;
+		propertySupport.firePropertyChange(PROP_REQUESTS, old, this.requests);
+	}
+	private static final java.util.concurrent.atomic.AtomicIntegerFieldUpdater<CounterJavaBean> REQUESTS_UPDATER = java.util.concurrent.atomic.AtomicIntegerFieldUpdater.newUpdater(CounterJavaBean.class, "requests");
+	
+	@java.lang.SuppressWarnings("all")
+	public int addToRequests(final int delta) {
+		final int requests = REQUESTS_UPDATER.addAndGet(this, delta);
+		final int old = requests - delta;
+		if (!propertySupport.hasListeners(PROP_REQUESTS)) return requests;
+		propertySupport.firePropertyChange(PROP_REQUESTS, old, requests);
+		return requests;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public int incrementRequests() {
+		return addToRequests(1);
+	}
+	public static final java.lang.String PROP_BYTES = new java.lang.String("bytes");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setBytes(long bytes) {
+		if (!propertySupport.hasListeners(PROP_BYTES)) {
+			this.bytes = bytes;
+			return;
+		}
+		final long old = this.bytes;
+		this.bytes = bytes;
+		if (old != this.bytes) propertySupport.firePropertyChange(PROP_BYTES, old, this.bytes);
+	}
+	private static final java.util.concurrent.atomic.AtomicLongFieldUpdater<CounterJavaBean> BYTES_UPDATER = java.util.concurrent.atomic.AtomicLongFieldUpdater.newUpdater(CounterJavaBean.class, "bytes");
+	
+	@java.lang.SuppressWarnings("all")
+	public long addToBytes(final long delta) {
+		final long bytes = BYTES_UPDATER.addAndGet(this, delta);
+		final long old = bytes - delta;
+		if ((old < 0 ? (old + 1) / 100 - 1 : old / 100) == (bytes < 0 ? (bytes + 1) / 100 - 1 : bytes / 100)) return bytes;
+		if (!propertySupport.hasListeners(PROP_BYTES)) return bytes;
+		if (old != bytes) propertySupport.firePropertyChange(PROP_BYTES, old, bytes);
+		return bytes;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public long incrementBytes() {
+		return addToBytes(1);
+	}
+	public static final java.lang.String PROP_BALANCE = new java.lang.String("balance");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setBalance(int balance) {
+		if (!propertySupport.hasListeners(PROP_BALANCE)) {
+			this.balance = balance;
+			return;
+		}
+		final int old = this.balance;
+		this.balance = balance;
+		propertySupport.firePropertyChange(PROP_BALANCE, old, this.balance);
+	}
+	private static final java.util.concurrent.atomic.AtomicIntegerFieldUpdater<CounterJavaBean> BALANCE_UPDATER = java.util.concurrent.atomic.AtomicIntegerFieldUpdater.newUpdater(CounterJavaBean.class, "balance");
+	
+	@java.lang.SuppressWarnings("all")
+	public int addToBalance(final int delta) {
+		final int balance = BALANCE_UPDATER.addAndGet(this, delta);
+		final int old = balance - delta;
+		if ((old < 0 ? (old + 1) / 10 - 1 : old / 10) == (balance < 0 ? (balance + 1) / 10 - 1 : balance / 10)) return balance;
+		if (!propertySupport.hasListeners(PROP_BALANCE)) return balance;
+		propertySupport.firePropertyChange(PROP_BALANCE, old, balance);
+		return balance;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public int incrementBalance() {
+		return addToBalance(1);
+	}
+}
@@ -0,0 +1,72 @@
+class DirtyTrackingJavaBean {
+	
+	private String name;
+	private int age;
+	private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.addPropertyChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.removePropertyChangeListener(listener);
+	}
+	private long dirtyBits;
+	
+	@java.lang.SuppressWarnings("all")
+	public boolean isDirty(final java.lang.String propertyName) {
+		if (PROP_NAME.equals(propertyName)) return (this.dirtyBits & 1L << 0) != 0;
+		if (PROP_AGE.equals(propertyName)) return (this.dirtyBits & 1L << 1) != 0;
+		return false;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public boolean isDirty(final int propertyOrdinal) {
+		return (this.dirtyBits & 1L << propertyOrdinal) != 0;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public java.lang.String[] dirtyProperties() {
+		final java.lang.String[] dirty = new java.lang.String[java.lang.Long.bitCount(this.dirtyBits)];
+		int index = 0;
+		if ((this.dirtyBits & 1L << 0) != 0) dirty[index++] = PROP_NAME;
+		if ((this.dirtyBits & 1L << 1) != 0) dirty[index++] = PROP_AGE;
+		return dirty;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void clearDirty() {
+		this.dirtyBits = 0L;
+	}
+	public static final java.lang.String PROP_NAME = new java.lang.String("name");
+	public static final int ORDINAL_NAME = 0;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(String name) {
+		if (this.name == name || this.name != null && this.name.equals(name)) return;
+		this.dirtyBits |= 1L << 0;
+		if (!propertySupport.hasListeners(PROP_NAME)) {
+			this.name = name;
+			return;
+		}
+		final String old = this.name;
+		this.name = name;
+		propertySupport.firePropertyChange(PROP_NAME, old, this.name);
+	}
+	public static final java.lang.String PROP_AGE = new java.lang.String("age");
+	public static final int ORDINAL_AGE = 1;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setAge(int age) {
+		if (!(this.age == age)) this.dirtyBits |= 1L << 1;
+		if (!propertySupport.hasListeners(PROP_AGE)) {
+			this.age = age;
+			return;
+		}
+		final int old = this.age;
+		this.age = age;
+		propertySupport.firePropertyChange(PROP_AGE, old, this.age);
+	}
+}
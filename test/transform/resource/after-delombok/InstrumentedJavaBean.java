@@ -0,0 +1,110 @@
+class InstrumentedJavaBean {
+	
+	private String name;
+	private int count;
+	private double ratio;
+	private volatile long hits;
+	private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.addPropertyChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.removePropertyChangeListener(listener);
+	}
+	public static final java.lang.String PROP_NAME = new java.lang.String("name");
+	private static final lombok.core.PropertyMetrics NAME_METRICS = lombok.core.BeanMetrics.propertyMetrics(InstrumentedJavaBean.class, "name");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(String name) {
+		NAME_METRICS.recordWrite(this.name == name || this.name != null && this.name.equals(name));
+		if (!propertySupport.hasListeners(PROP_NAME)) {
+			this.name = name;
+			return;
+		}
+		final String old = this.name;
+		this.name = name;
+		if (old == null || this.name == null || !old.equals(this.name)) {
+			final long fireStart = java.lang.System.nanoTime();
+			propertySupport.firePropertyChange(PROP_NAME, old, this.name);
+			NAME_METRICS.recordFire(java.lang.System.nanoTime() - fireStart);
+		}
+	}
+	public static final java.lang.String PROP_COUNT = new java.lang.String("count");
+	private static final lombok.core.PropertyMetrics COUNT_METRICS = lombok.core.BeanMetrics.propertyMetrics(InstrumentedJavaBean.class, "count");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setCount(int count) {
+		COUNT_METRICS.recordWrite(this.count == count);
+		if (!propertySupport.hasListeners(PROP_COUNT)) {
+			this.count = count;
+			return;
+		}
+		final int old = this.count;
+		this.count = count;
+		{
+			final long fireStart = java.lang.System.nanoTime();
+			propertySupport.firePropertyChange(PROP_COUNT, old, this.count);
+			COUNT_METRICS.recordFire(java.lang.System.nanoTime() - fireStart);
+		}
+	}
+	public static final java.lang.String PROP_RATIO = new java.lang.String("ratio");
+	private static final lombok.core.PropertyMetrics RATIO_METRICS = lombok.core.BeanMetrics.propertyMetrics(InstrumentedJavaBean.class, "ratio");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setRatio(double ratio) {
+		RATIO_METRICS.recordWrite(java.lang.Double.compare(this.ratio, ratio) == 0);
+		if (!propertySupport.hasListeners(PROP_RATIO)) {
+			this.ratio = ratio;
+			return;
+		}
+		final double old = this.ratio;
+		this.ratio = ratio;
+		if (java.lang.Double.compare(old, this.ratio) != 0) {
+			final long fireStart = java.lang.System.nanoTime();
+			propertySupport.firePropertyChange(PROP_RATIO, old, this.ratio);
+			RATIO_METRICS.recordFire(java.lang.System.nanoTime() - fireStart);
+		}
+	}
+	public static final java.lang.String PROP_HITS = new java.lang.String("hits");
+	private static final lombok.core.PropertyMetrics HITS_METRICS = lombok.core.BeanMetrics.propertyMetrics(InstrumentedJavaBean.class, "hits");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setHits(long hits) {
+		HITS_METRICS.recordWrite(this.hits == hits);
+		if (!propertySupport.hasListeners(PROP_HITS)) {
+			this.hits = hits;
+			return;
+		}
+		final long old = this.hits;
+		this.hits = hits;
+		if (old != this.hits) {
+			final long fireStart = java.lang.System.nanoTime();
+			propertySupport.firePropertyChange(PROP_HITS, old, this.hits);
+			HITS_METRICS.recordFire(java.lang.System.nanoTime() - fireStart);
+		}
+	}
+	private static final java.util.concurrent.atomic.AtomicLongFieldUpdater<InstrumentedJavaBean> HITS_UPDATER = java.util.concurrent.atomic.AtomicLongFieldUpdater.newUpdater(InstrumentedJavaBean.class, "hits");
+	
+	@java.lang.SuppressWarnings("all")
+	public long addToHits(final long delta) {
+		final long hits = HITS_UPDATER.addAndGet(this, delta);
+		final long old = hits - delta;
+		HITS_METRICS.recordWrite(old == hits);
+		if (!propertySupport.hasListeners(PROP_HITS)) return hits;
+		if (old != hits) {
+			final long fireStart = java.lang.System.nanoTime();
+			propertySupport.firePropertyChange(PROP_HITS, old, hits);
+			HITS_METRICS.recordFire(java.lang.System.nanoTime() - fireStart);
+		}
+		return hits;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public long incrementHits() {
+		return addToHits(1);
+	}
+}
@@ -0,0 +1,42 @@
+class LazyJavaBean {
+	
+	private String name;
+	private int age;
+	private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<LazyJavaBean, java.beans.PropertyChangeSupport> PROPERTY_SUPPORT_UPDATER = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(LazyJavaBean.class, java.beans.PropertyChangeSupport.class, "propertySupport");
+	private volatile java.beans.PropertyChangeSupport propertySupport;
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		if (propertySupport == null) PROPERTY_SUPPORT_UPDATER.compareAndSet(this, null, new java.beans.PropertyChangeSupport(this));
+		propertySupport.addPropertyChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		if (propertySupport != null) propertySupport.removePropertyChangeListener(listener);
+	}
+	public static final java.lang.String PROP_NAME = new java.lang.String("name");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(String name) {
+		if (propertySupport == null || !propertySupport.hasListeners(PROP_NAME)) {
+			this.name = name;
+			return;
+		}
+		final String old = this.name;
+		this.name = name;
+		propertySupport.firePropertyChange(PROP_NAME, old, this.name);
+	}
+	public static final java.lang.String PROP_AGE = new java.lang.String("age");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setAge(int age) {
+		if (propertySupport == null || !propertySupport.hasListeners(PROP_AGE)) {
+			this.age = age;
+			return;
+		}
+		final int old = this.age;
+		this.age = age;
+		propertySupport.firePropertyChange(PROP_AGE, old, this.age);
+	}
+}
@@ -20,6 +20,10 @@ class SimpleJavaBean {
 	
 	@java.lang.SuppressWarnings("all")
 	public void setI(int i) {
+		if (!propertySupport.hasListeners(PROP_I)) {
+			this.i = i;
+			return;
+		}
 		final int old = this.i;
 		this.i = i;
 		propertySupport.firePropertyChange(PROP_I, old, this.i);
@@ -28,6 +32,10 @@ class SimpleJavaBean {
 	
 	@java.lang.SuppressWarnings("all")
 	public void setS(String s) {
+		if (!propertySupport.hasListeners(PROP_S)) {
+			this.s = s;
+			return;
+		}
 		final String old = this.s;
 		this.s = s;
 		propertySupport.firePropertyChange(PROP_S, old, this.s);
@@ -36,14 +44,22 @@ class SimpleJavaBean {
 	
 	@java.lang.SuppressWarnings("all")
 	protected void setF(float f) {
+		if (!propertySupport.hasListeners(PROP_F)) {
+			this.f = f;
+			return;
+		}
 		final float old = this.f;
 		this.f = f;
-		propertySupport.firePropertyChange(PROP_F, old, this.f);
+		if (java.lang.Float.compare(old, this.f) != 0) propertySupport.firePropertyChange(PROP_F, old, this.f);
 	}
 	public static final java.lang.String PROP_O = new java.lang.String("o");
 	
 	@java.lang.SuppressWarnings("all")
 	void setO(Object o) {
+		if (!propertySupport.hasListeners(PROP_O)) {
+			this.o = o;
+			return;
+		}
 		final Object old = this.o;
 		this.o = o;
 		propertySupport.firePropertyChange(PROP_O, old, this.o);
@@ -52,8 +68,12 @@ class SimpleJavaBean {
 	
 	@java.lang.SuppressWarnings("all")
 	private void setD(double d) {
+		if (!propertySupport.hasListeners(PROP_D)) {
+			this.d = d;
+			return;
+		}
 		final double old = this.d;
 		this.d = d;
-		propertySupport.firePropertyChange(PROP_D, old, this.d);
+		if (java.lang.Double.compare(old, this.d) != 0) propertySupport.firePropertyChange(PROP_D, old, this.d);
 	}
 }
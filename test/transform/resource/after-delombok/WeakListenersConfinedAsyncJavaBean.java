@@ -0,0 +1,118 @@
+class WeakListenersConfinedAsyncJavaBean {
+	
+	private String name;
+	private static final java.beans.PropertyChangeListener[] NO_PROPERTY_CHANGE_LISTENERS = new java.beans.PropertyChangeListener[0];
+	private java.beans.PropertyChangeListener[] propertyChangeListeners = NO_PROPERTY_CHANGE_LISTENERS;
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		if (listener == null) return;
+		final java.beans.PropertyChangeListener[] current = this.propertyChangeListeners;
+		final java.beans.PropertyChangeListener[] updated = java.util.Arrays.copyOf(current, current.length + 1);
+		updated[current.length] = listener;
+		this.propertyChangeListeners = updated;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		if (listener == null) return;
+		final java.beans.PropertyChangeListener[] current = this.propertyChangeListeners;
+		int index = 0;
+		while (index < current.length && !listener.equals(current[index])) index++;
+		if (index == current.length) return;
+		final java.beans.PropertyChangeListener[] updated = new java.beans.PropertyChangeListener[current.length - 1];
+		java.lang.System.arraycopy(current, 0, updated, 0, index);
+		java.lang.System.arraycopy(current, index + 1, updated, index, updated.length - index);
+		this.propertyChangeListeners = updated;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private void notifyPropertyChangeListeners(final java.lang.String propertyName, final java.lang.Object oldValue, final java.lang.Object newValue) {
+		if (oldValue != null && newValue != null && oldValue.equals(newValue)) return;
+		final java.beans.PropertyChangeListener[] current = this.propertyChangeListeners;
+		final java.beans.PropertyChangeEvent event = new java.beans.PropertyChangeEvent(this, propertyName, oldValue, newValue);
+		for (int index = 0; index < current.length; index++) current[index].propertyChange(event);
+	}
+	private static volatile java.util.concurrent.Executor propertyChangeExecutor = defaultPropertyChangeExecutor();
+	private final java.util.Queue<java.beans.PropertyChangeEvent> pendingPropertyChanges = new java.util.concurrent.ConcurrentLinkedQueue<java.beans.PropertyChangeEvent>();
+	private final java.util.concurrent.atomic.AtomicBoolean dispatchingPropertyChanges = new java.util.concurrent.atomic.AtomicBoolean();
+	private final java.lang.Runnable propertyChangeDispatcher = new java.lang.Runnable(){
+		
+		public void run() {
+			dispatchPendingPropertyChanges();
+		}
+	};
+	
+	@java.lang.SuppressWarnings("all")
+	public static void setPropertyChangeExecutor(final java.util.concurrent.Executor executor) {
+		if (executor == null) throw new java.lang.NullPointerException("executor");
+		propertyChangeExecutor = executor;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private static java.util.concurrent.Executor defaultPropertyChangeExecutor() {
+		try {
+			return (java.util.concurrent.Executor)java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (final java.lang.Exception e) {
+			return java.util.concurrent.Executors.newCachedThreadPool(new java.util.concurrent.ThreadFactory(){
+				
+				public java.lang.Thread newThread(final java.lang.Runnable task) {
+					final java.lang.Thread thread = java.util.concurrent.Executors.defaultThreadFactory().newThread(task);
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private void dispatchPropertyChange(final java.lang.String propertyName, final java.lang.Object oldValue, final java.lang.Object newValue) {
+		if (oldValue != null && newValue != null && oldValue.equals(newValue)) return;
+		dispatchPropertyChange(new java.beans.PropertyChangeEvent(this, propertyName, oldValue, newValue));
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private void dispatchPropertyChange(final java.beans.PropertyChangeEvent event) {
+		pendingPropertyChanges.offer(event);
+		if (dispatchingPropertyChanges.compareAndSet(false, true)) {
+			try {
+				propertyChangeExecutor.execute(propertyChangeDispatcher);
+			} catch (final java.lang.RuntimeException e) {
+				dispatchingPropertyChanges.set(false);
+				throw e;
+			}
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private void dispatchPendingPropertyChanges() {
+		try {
+			for (java.beans.PropertyChangeEvent event = pendingPropertyChanges.poll(); event != null; event = pendingPropertyChanges.poll()) {
+				final java.beans.PropertyChangeListener[] current = this.propertyChangeListeners;
+				for (int index = 0; index < current.length; index++) current[index].propertyChange(event);
+			}
+		} finally {
+			dispatchingPropertyChanges.set(false);
+			if (!pendingPropertyChanges.isEmpty() && dispatchingPropertyChanges.compareAndSet(false, true)) {
+				try {
+					propertyChangeExecutor.execute(propertyChangeDispatcher);
+				} catch (final java.lang.RuntimeException e) {
+					dispatchingPropertyChanges.set(false);
+					throw e;
+				}
+			}
+		}
+	}
+	public static final java.lang.String PROP_NAME = new java.lang.String("name");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(String name) {
+		if (this.propertyChangeListeners.length == 0) {
+			this.name = name;
+			return;
+		}
+		final String old = this.name;
+		this.name = name;
+		dispatchPropertyChange(PROP_NAME, old, this.name);
+	}
+}
@@ -0,0 +1,63 @@
+class WeakListenersJavaBean {
+	
+	private String name;
+	private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.addPropertyChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.removePropertyChangeListener(listener);
+	}
+	
+	private static final class WeakPropertyChangeListener extends java.lang.ref.WeakReference<java.beans.PropertyChangeListener> implements java.beans.PropertyChangeListener {
+		private final WeakListenersJavaBean source;
+		
+		@java.lang.SuppressWarnings("all")
+		WeakPropertyChangeListener(final java.beans.PropertyChangeListener listener, final WeakListenersJavaBean source) {
+			super(listener, source.weakPropertyChangeListenerQueue);
+			this.source = source;
+		}
+		
+		@java.lang.SuppressWarnings("all")
+		public void propertyChange(final java.beans.PropertyChangeEvent event) {
+			final java.beans.PropertyChangeListener listener = get();
+			if (listener == null) {
+				this.source.removePropertyChangeListener(this);
+				this.source.expungeWeakPropertyChangeListeners();
+				return;
+			}
+			listener.propertyChange(event);
+		}
+	}
+	private final java.lang.ref.ReferenceQueue<java.beans.PropertyChangeListener> weakPropertyChangeListenerQueue = new java.lang.ref.ReferenceQueue<java.beans.PropertyChangeListener>();
+	
+	@java.lang.SuppressWarnings("all")
+	public java.beans.PropertyChangeListener addWeakPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		expungeWeakPropertyChangeListeners();
+		if (listener == null) return null;
+		final java.beans.PropertyChangeListener weakListener = new WeakPropertyChangeListener(listener, this);
+		addPropertyChangeListener(weakListener);
+		return weakListener;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private void expungeWeakPropertyChangeListeners() {
+		for (java.lang.Object cleared = this.weakPropertyChangeListenerQueue.poll(); cleared != null; cleared = this.weakPropertyChangeListenerQueue.poll()) removePropertyChangeListener((java.beans.PropertyChangeListener)cleared);
+	}
+	public static final java.lang.String PROP_NAME = new java.lang.String("name");
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(String name) {
+		if (!propertySupport.hasListeners(PROP_NAME)) {
+			this.name = name;
+			return;
+		}
+		final String old = this.name;
+		this.name = name;
+		propertySupport.firePropertyChange(PROP_NAME, old, this.name);
+	}
+}
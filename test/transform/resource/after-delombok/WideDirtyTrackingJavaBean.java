@@ -0,0 +1,1142 @@
+class WideDirtyTrackingJavaBean {
+	
+	private int p0;
+	private int p1;
+	private int p2;
+	private int p3;
+	private int p4;
+	private int p5;
+	private int p6;
+	private int p7;
+	private int p8;
+	private int p9;
+	private int p10;
+	private int p11;
+	private int p12;
+	private int p13;
+	private int p14;
+	private int p15;
+	private int p16;
+	private int p17;
+	private int p18;
+	private int p19;
+	private int p20;
+	private int p21;
+	private int p22;
+	private int p23;
+	private int p24;
+	private int p25;
+	private int p26;
+	private int p27;
+	private int p28;
+	private int p29;
+	private int p30;
+	private int p31;
+	private int p32;
+	private int p33;
+	private int p34;
+	private int p35;
+	private int p36;
+	private int p37;
+	private int p38;
+	private int p39;
+	private int p40;
+	private int p41;
+	private int p42;
+	private int p43;
+	private int p44;
+	private int p45;
+	private int p46;
+	private int p47;
+	private int p48;
+	private int p49;
+	private int p50;
+	private int p51;
+	private int p52;
+	private int p53;
+	private int p54;
+	private int p55;
+	private int p56;
+	private int p57;
+	private int p58;
+	private int p59;
+	private int p60;
+	private int p61;
+	private int p62;
+	private int p63;
+	private int p64;
+	private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.addPropertyChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		propertySupport.removePropertyChangeListener(listener);
+	}
+	private final long[] dirtyBits = new long[2];
+	
+	@java.lang.SuppressWarnings("all")
+	public boolean isDirty(final java.lang.String propertyName) {
+		if (PROP_P0.equals(propertyName)) return (this.dirtyBits[0] & 1L << 0) != 0;
+		if (PROP_P1.equals(propertyName)) return (this.dirtyBits[0] & 1L << 1) != 0;
+		if (PROP_P2.equals(propertyName)) return (this.dirtyBits[0] & 1L << 2) != 0;
+		if (PROP_P3.equals(propertyName)) return (this.dirtyBits[0] & 1L << 3) != 0;
+		if (PROP_P4.equals(propertyName)) return (this.dirtyBits[0] & 1L << 4) != 0;
+		if (PROP_P5.equals(propertyName)) return (this.dirtyBits[0] & 1L << 5) != 0;
+		if (PROP_P6.equals(propertyName)) return (this.dirtyBits[0] & 1L << 6) != 0;
+		if (PROP_P7.equals(propertyName)) return (this.dirtyBits[0] & 1L << 7) != 0;
+		if (PROP_P8.equals(propertyName)) return (this.dirtyBits[0] & 1L << 8) != 0;
+		if (PROP_P9.equals(propertyName)) return (this.dirtyBits[0] & 1L << 9) != 0;
+		if (PROP_P10.equals(propertyName)) return (this.dirtyBits[0] & 1L << 10) != 0;
+		if (PROP_P11.equals(propertyName)) return (this.dirtyBits[0] & 1L << 11) != 0;
+		if (PROP_P12.equals(propertyName)) return (this.dirtyBits[0] & 1L << 12) != 0;
+		if (PROP_P13.equals(propertyName)) return (this.dirtyBits[0] & 1L << 13) != 0;
+		if (PROP_P14.equals(propertyName)) return (this.dirtyBits[0] & 1L << 14) != 0;
+		if (PROP_P15.equals(propertyName)) return (this.dirtyBits[0] & 1L << 15) != 0;
+		if (PROP_P16.equals(propertyName)) return (this.dirtyBits[0] & 1L << 16) != 0;
+		if (PROP_P17.equals(propertyName)) return (this.dirtyBits[0] & 1L << 17) != 0;
+		if (PROP_P18.equals(propertyName)) return (this.dirtyBits[0] & 1L << 18) != 0;
+		if (PROP_P19.equals(propertyName)) return (this.dirtyBits[0] & 1L << 19) != 0;
+		if (PROP_P20.equals(propertyName)) return (this.dirtyBits[0] & 1L << 20) != 0;
+		if (PROP_P21.equals(propertyName)) return (this.dirtyBits[0] & 1L << 21) != 0;
+		if (PROP_P22.equals(propertyName)) return (this.dirtyBits[0] & 1L << 22) != 0;
+		if (PROP_P23.equals(propertyName)) return (this.dirtyBits[0] & 1L << 23) != 0;
+		if (PROP_P24.equals(propertyName)) return (this.dirtyBits[0] & 1L << 24) != 0;
+		if (PROP_P25.equals(propertyName)) return (this.dirtyBits[0] & 1L << 25) != 0;
+		if (PROP_P26.equals(propertyName)) return (this.dirtyBits[0] & 1L << 26) != 0;
+		if (PROP_P27.equals(propertyName)) return (this.dirtyBits[0] & 1L << 27) != 0;
+		if (PROP_P28.equals(propertyName)) return (this.dirtyBits[0] & 1L << 28) != 0;
+		if (PROP_P29.equals(propertyName)) return (this.dirtyBits[0] & 1L << 29) != 0;
+		if (PROP_P30.equals(propertyName)) return (this.dirtyBits[0] & 1L << 30) != 0;
+		if (PROP_P31.equals(propertyName)) return (this.dirtyBits[0] & 1L << 31) != 0;
+		if (PROP_P32.equals(propertyName)) return (this.dirtyBits[0] & 1L << 32) != 0;
+		if (PROP_P33.equals(propertyName)) return (this.dirtyBits[0] & 1L << 33) != 0;
+		if (PROP_P34.equals(propertyName)) return (this.dirtyBits[0] & 1L << 34) != 0;
+		if (PROP_P35.equals(propertyName)) return (this.dirtyBits[0] & 1L << 35) != 0;
+		if (PROP_P36.equals(propertyName)) return (this.dirtyBits[0] & 1L << 36) != 0;
+		if (PROP_P37.equals(propertyName)) return (this.dirtyBits[0] & 1L << 37) != 0;
+		if (PROP_P38.equals(propertyName)) return (this.dirtyBits[0] & 1L << 38) != 0;
+		if (PROP_P39.equals(propertyName)) return (this.dirtyBits[0] & 1L << 39) != 0;
+		if (PROP_P40.equals(propertyName)) return (this.dirtyBits[0] & 1L << 40) != 0;
+		if (PROP_P41.equals(propertyName)) return (this.dirtyBits[0] & 1L << 41) != 0;
+		if (PROP_P42.equals(propertyName)) return (this.dirtyBits[0] & 1L << 42) != 0;
+		if (PROP_P43.equals(propertyName)) return (this.dirtyBits[0] & 1L << 43) != 0;
+		if (PROP_P44.equals(propertyName)) return (this.dirtyBits[0] & 1L << 44) != 0;
+		if (PROP_P45.equals(propertyName)) return (this.dirtyBits[0] & 1L << 45) != 0;
+		if (PROP_P46.equals(propertyName)) return (this.dirtyBits[0] & 1L << 46) != 0;
+		if (PROP_P47.equals(propertyName)) return (this.dirtyBits[0] & 1L << 47) != 0;
+		if (PROP_P48.equals(propertyName)) return (this.dirtyBits[0] & 1L << 48) != 0;
+		if (PROP_P49.equals(propertyName)) return (this.dirtyBits[0] & 1L << 49) != 0;
+		if (PROP_P50.equals(propertyName)) return (this.dirtyBits[0] & 1L << 50) != 0;
+		if (PROP_P51.equals(propertyName)) return (this.dirtyBits[0] & 1L << 51) != 0;
+		if (PROP_P52.equals(propertyName)) return (this.dirtyBits[0] & 1L << 52) != 0;
+		if (PROP_P53.equals(propertyName)) return (this.dirtyBits[0] & 1L << 53) != 0;
+		if (PROP_P54.equals(propertyName)) return (this.dirtyBits[0] & 1L << 54) != 0;
+		if (PROP_P55.equals(propertyName)) return (this.dirtyBits[0] & 1L << 55) != 0;
+		if (PROP_P56.equals(propertyName)) return (this.dirtyBits[0] & 1L << 56) != 0;
+		if (PROP_P57.equals(propertyName)) return (this.dirtyBits[0] & 1L << 57) != 0;
+		if (PROP_P58.equals(propertyName)) return (this.dirtyBits[0] & 1L << 58) != 0;
+		if (PROP_P59.equals(propertyName)) return (this.dirtyBits[0] & 1L << 59) != 0;
+		if (PROP_P60.equals(propertyName)) return (this.dirtyBits[0] & 1L << 60) != 0;
+		if (PROP_P61.equals(propertyName)) return (this.dirtyBits[0] & 1L << 61) != 0;
+		if (PROP_P62.equals(propertyName)) return (this.dirtyBits[0] & 1L << 62) != 0;
+		if (PROP_P63.equals(propertyName)) return (this.dirtyBits[0] & 1L << 63) != 0;
+		if (PROP_P64.equals(propertyName)) return (this.dirtyBits[1] & 1L << 0) != 0;
+		return false;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public boolean isDirty(final int propertyOrdinal) {
+		return (this.dirtyBits[propertyOrdinal >>> 6] & 1L << propertyOrdinal) != 0;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public java.lang.String[] dirtyProperties() {
+		final java.lang.String[] dirty = new java.lang.String[java.lang.Long.bitCount(this.dirtyBits[0]) + java.lang.Long.bitCount(this.dirtyBits[1])];
+		int index = 0;
+		if ((this.dirtyBits[0] & 1L << 0) != 0) dirty[index++] = PROP_P0;
+		if ((this.dirtyBits[0] & 1L << 1) != 0) dirty[index++] = PROP_P1;
+		if ((this.dirtyBits[0] & 1L << 2) != 0) dirty[index++] = PROP_P2;
+		if ((this.dirtyBits[0] & 1L << 3) != 0) dirty[index++] = PROP_P3;
+		if ((this.dirtyBits[0] & 1L << 4) != 0) dirty[index++] = PROP_P4;
+		if ((this.dirtyBits[0] & 1L << 5) != 0) dirty[index++] = PROP_P5;
+		if ((this.dirtyBits[0] & 1L << 6) != 0) dirty[index++] = PROP_P6;
+		if ((this.dirtyBits[0] & 1L << 7) != 0) dirty[index++] = PROP_P7;
+		if ((this.dirtyBits[0] & 1L << 8) != 0) dirty[index++] = PROP_P8;
+		if ((this.dirtyBits[0] & 1L << 9) != 0) dirty[index++] = PROP_P9;
+		if ((this.dirtyBits[0] & 1L << 10) != 0) dirty[index++] = PROP_P10;
+		if ((this.dirtyBits[0] & 1L << 11) != 0) dirty[index++] = PROP_P11;
+		if ((this.dirtyBits[0] & 1L << 12) != 0) dirty[index++] = PROP_P12;
+		if ((this.dirtyBits[0] & 1L << 13) != 0) dirty[index++] = PROP_P13;
+		if ((this.dirtyBits[0] & 1L << 14) != 0) dirty[index++] = PROP_P14;
+		if ((this.dirtyBits[0] & 1L << 15) != 0) dirty[index++] = PROP_P15;
+		if ((this.dirtyBits[0] & 1L << 16) != 0) dirty[index++] = PROP_P16;
+		if ((this.dirtyBits[0] & 1L << 17) != 0) dirty[index++] = PROP_P17;
+		if ((this.dirtyBits[0] & 1L << 18) != 0) dirty[index++] = PROP_P18;
+		if ((this.dirtyBits[0] & 1L << 19) != 0) dirty[index++] = PROP_P19;
+		if ((this.dirtyBits[0] & 1L << 20) != 0) dirty[index++] = PROP_P20;
+		if ((this.dirtyBits[0] & 1L << 21) != 0) dirty[index++] = PROP_P21;
+		if ((this.dirtyBits[0] & 1L << 22) != 0) dirty[index++] = PROP_P22;
+		if ((this.dirtyBits[0] & 1L << 23) != 0) dirty[index++] = PROP_P23;
+		if ((this.dirtyBits[0] & 1L << 24) != 0) dirty[index++] = PROP_P24;
+		if ((this.dirtyBits[0] & 1L << 25) != 0) dirty[index++] = PROP_P25;
+		if ((this.dirtyBits[0] & 1L << 26) != 0) dirty[index++] = PROP_P26;
+		if ((this.dirtyBits[0] & 1L << 27) != 0) dirty[index++] = PROP_P27;
+		if ((this.dirtyBits[0] & 1L << 28) != 0) dirty[index++] = PROP_P28;
+		if ((this.dirtyBits[0] & 1L << 29) != 0) dirty[index++] = PROP_P29;
+		if ((this.dirtyBits[0] & 1L << 30) != 0) dirty[index++] = PROP_P30;
+		if ((this.dirtyBits[0] & 1L << 31) != 0) dirty[index++] = PROP_P31;
+		if ((this.dirtyBits[0] & 1L << 32) != 0) dirty[index++] = PROP_P32;
+		if ((this.dirtyBits[0] & 1L << 33) != 0) dirty[index++] = PROP_P33;
+		if ((this.dirtyBits[0] & 1L << 34) != 0) dirty[index++] = PROP_P34;
+		if ((this.dirtyBits[0] & 1L << 35) != 0) dirty[index++] = PROP_P35;
+		if ((this.dirtyBits[0] & 1L << 36) != 0) dirty[index++] = PROP_P36;
+		if ((this.dirtyBits[0] & 1L << 37) != 0) dirty[index++] = PROP_P37;
+		if ((this.dirtyBits[0] & 1L << 38) != 0) dirty[index++] = PROP_P38;
+		if ((this.dirtyBits[0] & 1L << 39) != 0) dirty[index++] = PROP_P39;
+		if ((this.dirtyBits[0] & 1L << 40) != 0) dirty[index++] = PROP_P40;
+		if ((this.dirtyBits[0] & 1L << 41) != 0) dirty[index++] = PROP_P41;
+		if ((this.dirtyBits[0] & 1L << 42) != 0) dirty[index++] = PROP_P42;
+		if ((this.dirtyBits[0] & 1L << 43) != 0) dirty[index++] = PROP_P43;
+		if ((this.dirtyBits[0] & 1L << 44) != 0) dirty[index++] = PROP_P44;
+		if ((this.dirtyBits[0] & 1L << 45) != 0) dirty[index++] = PROP_P45;
+		if ((this.dirtyBits[0] & 1L << 46) != 0) dirty[index++] = PROP_P46;
+		if ((this.dirtyBits[0] & 1L << 47) != 0) dirty[index++] = PROP_P47;
+		if ((this.dirtyBits[0] & 1L << 48) != 0) dirty[index++] = PROP_P48;
+		if ((this.dirtyBits[0] & 1L << 49) != 0) dirty[index++] = PROP_P49;
+		if ((this.dirtyBits[0] & 1L << 50) != 0) dirty[index++] = PROP_P50;
+		if ((this.dirtyBits[0] & 1L << 51) != 0) dirty[index++] = PROP_P51;
+		if ((this.dirtyBits[0] & 1L << 52) != 0) dirty[index++] = PROP_P52;
+		if ((this.dirtyBits[0] & 1L << 53) != 0) dirty[index++] = PROP_P53;
+		if ((this.dirtyBits[0] & 1L << 54) != 0) dirty[index++] = PROP_P54;
+		if ((this.dirtyBits[0] & 1L << 55) != 0) dirty[index++] = PROP_P55;
+		if ((this.dirtyBits[0] & 1L << 56) != 0) dirty[index++] = PROP_P56;
+		if ((this.dirtyBits[0] & 1L << 57) != 0) dirty[index++] = PROP_P57;
+		if ((this.dirtyBits[0] & 1L << 58) != 0) dirty[index++] = PROP_P58;
+		if ((this.dirtyBits[0] & 1L << 59) != 0) dirty[index++] = PROP_P59;
+		if ((this.dirtyBits[0] & 1L << 60) != 0) dirty[index++] = PROP_P60;
+		if ((this.dirtyBits[0] & 1L << 61) != 0) dirty[index++] = PROP_P61;
+		if ((this.dirtyBits[0] & 1L << 62) != 0) dirty[index++] = PROP_P62;
+		if ((this.dirtyBits[0] & 1L << 63) != 0) dirty[index++] = PROP_P63;
+		if ((this.dirtyBits[1] & 1L << 0) != 0) dirty[index++] = PROP_P64;
+		return dirty;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void clearDirty() {
+		java.util.Arrays.fill(this.dirtyBits, 0L);
+	}
+	public static final java.lang.String PROP_P0 = new java.lang.String("p0");
+	public static final int ORDINAL_P0 = 0;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP0(int p0) {
+		if (!(this.p0 == p0)) this.dirtyBits[0] |= 1L << 0;
+		if (!propertySupport.hasListeners(PROP_P0)) {
+			this.p0 = p0;
+			return;
+		}
+		final int old = this.p0;
+		this.p0 = p0;
+		propertySupport.firePropertyChange(PROP_P0, old, this.p0);
+	}
+	public static final java.lang.String PROP_P1 = new java.lang.String("p1");
+	public static final int ORDINAL_P1 = 1;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP1(int p1) {
+		if (!(this.p1 == p1)) this.dirtyBits[0] |= 1L << 1;
+		if (!propertySupport.hasListeners(PROP_P1)) {
+			this.p1 = p1;
+			return;
+		}
+		final int old = this.p1;
+		this.p1 = p1;
+		propertySupport.firePropertyChange(PROP_P1, old, this.p1);
+	}
+	public static final java.lang.String PROP_P2 = new java.lang.String("p2");
+	public static final int ORDINAL_P2 = 2;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP2(int p2) {
+		if (!(this.p2 == p2)) this.dirtyBits[0] |= 1L << 2;
+		if (!propertySupport.hasListeners(PROP_P2)) {
+			this.p2 = p2;
+			return;
+		}
+		final int old = this.p2;
+		this.p2 = p2;
+		propertySupport.firePropertyChange(PROP_P2, old, this.p2);
+	}
+	public static final java.lang.String PROP_P3 = new java.lang.String("p3");
+	public static final int ORDINAL_P3 = 3;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP3(int p3) {
+		if (!(this.p3 == p3)) this.dirtyBits[0] |= 1L << 3;
+		if (!propertySupport.hasListeners(PROP_P3)) {
+			this.p3 = p3;
+			return;
+		}
+		final int old = this.p3;
+		this.p3 = p3;
+		propertySupport.firePropertyChange(PROP_P3, old, this.p3);
+	}
+	public static final java.lang.String PROP_P4 = new java.lang.String("p4");
+	public static final int ORDINAL_P4 = 4;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP4(int p4) {
+		if (!(this.p4 == p4)) this.dirtyBits[0] |= 1L << 4;
+		if (!propertySupport.hasListeners(PROP_P4)) {
+			this.p4 = p4;
+			return;
+		}
+		final int old = this.p4;
+		this.p4 = p4;
+		propertySupport.firePropertyChange(PROP_P4, old, this.p4);
+	}
+	public static final java.lang.String PROP_P5 = new java.lang.String("p5");
+	public static final int ORDINAL_P5 = 5;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP5(int p5) {
+		if (!(this.p5 == p5)) this.dirtyBits[0] |= 1L << 5;
+		if (!propertySupport.hasListeners(PROP_P5)) {
+			this.p5 = p5;
+			return;
+		}
+		final int old = this.p5;
+		this.p5 = p5;
+		propertySupport.firePropertyChange(PROP_P5, old, this.p5);
+	}
+	public static final java.lang.String PROP_P6 = new java.lang.String("p6");
+	public static final int ORDINAL_P6 = 6;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP6(int p6) {
+		if (!(this.p6 == p6)) this.dirtyBits[0] |= 1L << 6;
+		if (!propertySupport.hasListeners(PROP_P6)) {
+			this.p6 = p6;
+			return;
+		}
+		final int old = this.p6;
+		this.p6 = p6;
+		propertySupport.firePropertyChange(PROP_P6, old, this.p6);
+	}
+	public static final java.lang.String PROP_P7 = new java.lang.String("p7");
+	public static final int ORDINAL_P7 = 7;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP7(int p7) {
+		if (!(this.p7 == p7)) this.dirtyBits[0] |= 1L << 7;
+		if (!propertySupport.hasListeners(PROP_P7)) {
+			this.p7 = p7;
+			return;
+		}
+		final int old = this.p7;
+		this.p7 = p7;
+		propertySupport.firePropertyChange(PROP_P7, old, this.p7);
+	}
+	public static final java.lang.String PROP_P8 = new java.lang.String("p8");
+	public static final int ORDINAL_P8 = 8;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP8(int p8) {
+		if (!(this.p8 == p8)) this.dirtyBits[0] |= 1L << 8;
+		if (!propertySupport.hasListeners(PROP_P8)) {
+			this.p8 = p8;
+			return;
+		}
+		final int old = this.p8;
+		this.p8 = p8;
+		propertySupport.firePropertyChange(PROP_P8, old, this.p8);
+	}
+	public static final java.lang.String PROP_P9 = new java.lang.String("p9");
+	public static final int ORDINAL_P9 = 9;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP9(int p9) {
+		if (!(this.p9 == p9)) this.dirtyBits[0] |= 1L << 9;
+		if (!propertySupport.hasListeners(PROP_P9)) {
+			this.p9 = p9;
+			return;
+		}
+		final int old = this.p9;
+		this.p9 = p9;
+		propertySupport.firePropertyChange(PROP_P9, old, this.p9);
+	}
+	public static final java.lang.String PROP_P10 = new java.lang.String("p10");
+	public static final int ORDINAL_P10 = 10;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP10(int p10) {
+		if (!(this.p10 == p10)) this.dirtyBits[0] |= 1L << 10;
+		if (!propertySupport.hasListeners(PROP_P10)) {
+			this.p10 = p10;
+			return;
+		}
+		final int old = this.p10;
+		this.p10 = p10;
+		propertySupport.firePropertyChange(PROP_P10, old, this.p10);
+	}
+	public static final java.lang.String PROP_P11 = new java.lang.String("p11");
+	public static final int ORDINAL_P11 = 11;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP11(int p11) {
+		if (!(this.p11 == p11)) this.dirtyBits[0] |= 1L << 11;
+		if (!propertySupport.hasListeners(PROP_P11)) {
+			this.p11 = p11;
+			return;
+		}
+		final int old = this.p11;
+		this.p11 = p11;
+		propertySupport.firePropertyChange(PROP_P11, old, this.p11);
+	}
+	public static final java.lang.String PROP_P12 = new java.lang.String("p12");
+	public static final int ORDINAL_P12 = 12;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP12(int p12) {
+		if (!(this.p12 == p12)) this.dirtyBits[0] |= 1L << 12;
+		if (!propertySupport.hasListeners(PROP_P12)) {
+			this.p12 = p12;
+			return;
+		}
+		final int old = this.p12;
+		this.p12 = p12;
+		propertySupport.firePropertyChange(PROP_P12, old, this.p12);
+	}
+	public static final java.lang.String PROP_P13 = new java.lang.String("p13");
+	public static final int ORDINAL_P13 = 13;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP13(int p13) {
+		if (!(this.p13 == p13)) this.dirtyBits[0] |= 1L << 13;
+		if (!propertySupport.hasListeners(PROP_P13)) {
+			this.p13 = p13;
+			return;
+		}
+		final int old = this.p13;
+		this.p13 = p13;
+		propertySupport.firePropertyChange(PROP_P13, old, this.p13);
+	}
+	public static final java.lang.String PROP_P14 = new java.lang.String("p14");
+	public static final int ORDINAL_P14 = 14;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP14(int p14) {
+		if (!(this.p14 == p14)) this.dirtyBits[0] |= 1L << 14;
+		if (!propertySupport.hasListeners(PROP_P14)) {
+			this.p14 = p14;
+			return;
+		}
+		final int old = this.p14;
+		this.p14 = p14;
+		propertySupport.firePropertyChange(PROP_P14, old, this.p14);
+	}
+	public static final java.lang.String PROP_P15 = new java.lang.String("p15");
+	public static final int ORDINAL_P15 = 15;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP15(int p15) {
+		if (!(this.p15 == p15)) this.dirtyBits[0] |= 1L << 15;
+		if (!propertySupport.hasListeners(PROP_P15)) {
+			this.p15 = p15;
+			return;
+		}
+		final int old = this.p15;
+		this.p15 = p15;
+		propertySupport.firePropertyChange(PROP_P15, old, this.p15);
+	}
+	public static final java.lang.String PROP_P16 = new java.lang.String("p16");
+	public static final int ORDINAL_P16 = 16;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP16(int p16) {
+		if (!(this.p16 == p16)) this.dirtyBits[0] |= 1L << 16;
+		if (!propertySupport.hasListeners(PROP_P16)) {
+			this.p16 = p16;
+			return;
+		}
+		final int old = this.p16;
+		this.p16 = p16;
+		propertySupport.firePropertyChange(PROP_P16, old, this.p16);
+	}
+	public static final java.lang.String PROP_P17 = new java.lang.String("p17");
+	public static final int ORDINAL_P17 = 17;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP17(int p17) {
+		if (!(this.p17 == p17)) this.dirtyBits[0] |= 1L << 17;
+		if (!propertySupport.hasListeners(PROP_P17)) {
+			this.p17 = p17;
+			return;
+		}
+		final int old = this.p17;
+		this.p17 = p17;
+		propertySupport.firePropertyChange(PROP_P17, old, this.p17);
+	}
+	public static final java.lang.String PROP_P18 = new java.lang.String("p18");
+	public static final int ORDINAL_P18 = 18;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP18(int p18) {
+		if (!(this.p18 == p18)) this.dirtyBits[0] |= 1L << 18;
+		if (!propertySupport.hasListeners(PROP_P18)) {
+			this.p18 = p18;
+			return;
+		}
+		final int old = this.p18;
+		this.p18 = p18;
+		propertySupport.firePropertyChange(PROP_P18, old, this.p18);
+	}
+	public static final java.lang.String PROP_P19 = new java.lang.String("p19");
+	public static final int ORDINAL_P19 = 19;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP19(int p19) {
+		if (!(this.p19 == p19)) this.dirtyBits[0] |= 1L << 19;
+		if (!propertySupport.hasListeners(PROP_P19)) {
+			this.p19 = p19;
+			return;
+		}
+		final int old = this.p19;
+		this.p19 = p19;
+		propertySupport.firePropertyChange(PROP_P19, old, this.p19);
+	}
+	public static final java.lang.String PROP_P20 = new java.lang.String("p20");
+	public static final int ORDINAL_P20 = 20;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP20(int p20) {
+		if (!(this.p20 == p20)) this.dirtyBits[0] |= 1L << 20;
+		if (!propertySupport.hasListeners(PROP_P20)) {
+			this.p20 = p20;
+			return;
+		}
+		final int old = this.p20;
+		this.p20 = p20;
+		propertySupport.firePropertyChange(PROP_P20, old, this.p20);
+	}
+	public static final java.lang.String PROP_P21 = new java.lang.String("p21");
+	public static final int ORDINAL_P21 = 21;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP21(int p21) {
+		if (!(this.p21 == p21)) this.dirtyBits[0] |= 1L << 21;
+		if (!propertySupport.hasListeners(PROP_P21)) {
+			this.p21 = p21;
+			return;
+		}
+		final int old = this.p21;
+		this.p21 = p21;
+		propertySupport.firePropertyChange(PROP_P21, old, this.p21);
+	}
+	public static final java.lang.String PROP_P22 = new java.lang.String("p22");
+	public static final int ORDINAL_P22 = 22;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP22(int p22) {
+		if (!(this.p22 == p22)) this.dirtyBits[0] |= 1L << 22;
+		if (!propertySupport.hasListeners(PROP_P22)) {
+			this.p22 = p22;
+			return;
+		}
+		final int old = this.p22;
+		this.p22 = p22;
+		propertySupport.firePropertyChange(PROP_P22, old, this.p22);
+	}
+	public static final java.lang.String PROP_P23 = new java.lang.String("p23");
+	public static final int ORDINAL_P23 = 23;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP23(int p23) {
+		if (!(this.p23 == p23)) this.dirtyBits[0] |= 1L << 23;
+		if (!propertySupport.hasListeners(PROP_P23)) {
+			this.p23 = p23;
+			return;
+		}
+		final int old = this.p23;
+		this.p23 = p23;
+		propertySupport.firePropertyChange(PROP_P23, old, this.p23);
+	}
+	public static final java.lang.String PROP_P24 = new java.lang.String("p24");
+	public static final int ORDINAL_P24 = 24;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP24(int p24) {
+		if (!(this.p24 == p24)) this.dirtyBits[0] |= 1L << 24;
+		if (!propertySupport.hasListeners(PROP_P24)) {
+			this.p24 = p24;
+			return;
+		}
+		final int old = this.p24;
+		this.p24 = p24;
+		propertySupport.firePropertyChange(PROP_P24, old, this.p24);
+	}
+	public static final java.lang.String PROP_P25 = new java.lang.String("p25");
+	public static final int ORDINAL_P25 = 25;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP25(int p25) {
+		if (!(this.p25 == p25)) this.dirtyBits[0] |= 1L << 25;
+		if (!propertySupport.hasListeners(PROP_P25)) {
+			this.p25 = p25;
+			return;
+		}
+		final int old = this.p25;
+		this.p25 = p25;
+		propertySupport.firePropertyChange(PROP_P25, old, this.p25);
+	}
+	public static final java.lang.String PROP_P26 = new java.lang.String("p26");
+	public static final int ORDINAL_P26 = 26;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP26(int p26) {
+		if (!(this.p26 == p26)) this.dirtyBits[0] |= 1L << 26;
+		if (!propertySupport.hasListeners(PROP_P26)) {
+			this.p26 = p26;
+			return;
+		}
+		final int old = this.p26;
+		this.p26 = p26;
+		propertySupport.firePropertyChange(PROP_P26, old, this.p26);
+	}
+	public static final java.lang.String PROP_P27 = new java.lang.String("p27");
+	public static final int ORDINAL_P27 = 27;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP27(int p27) {
+		if (!(this.p27 == p27)) this.dirtyBits[0] |= 1L << 27;
+		if (!propertySupport.hasListeners(PROP_P27)) {
+			this.p27 = p27;
+			return;
+		}
+		final int old = this.p27;
+		this.p27 = p27;
+		propertySupport.firePropertyChange(PROP_P27, old, this.p27);
+	}
+	public static final java.lang.String PROP_P28 = new java.lang.String("p28");
+	public static final int ORDINAL_P28 = 28;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP28(int p28) {
+		if (!(this.p28 == p28)) this.dirtyBits[0] |= 1L << 28;
+		if (!propertySupport.hasListeners(PROP_P28)) {
+			this.p28 = p28;
+			return;
+		}
+		final int old = this.p28;
+		this.p28 = p28;
+		propertySupport.firePropertyChange(PROP_P28, old, this.p28);
+	}
+	public static final java.lang.String PROP_P29 = new java.lang.String("p29");
+	public static final int ORDINAL_P29 = 29;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP29(int p29) {
+		if (!(this.p29 == p29)) this.dirtyBits[0] |= 1L << 29;
+		if (!propertySupport.hasListeners(PROP_P29)) {
+			this.p29 = p29;
+			return;
+		}
+		final int old = this.p29;
+		this.p29 = p29;
+		propertySupport.firePropertyChange(PROP_P29, old, this.p29);
+	}
+	public static final java.lang.String PROP_P30 = new java.lang.String("p30");
+	public static final int ORDINAL_P30 = 30;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP30(int p30) {
+		if (!(this.p30 == p30)) this.dirtyBits[0] |= 1L << 30;
+		if (!propertySupport.hasListeners(PROP_P30)) {
+			this.p30 = p30;
+			return;
+		}
+		final int old = this.p30;
+		this.p30 = p30;
+		propertySupport.firePropertyChange(PROP_P30, old, this.p30);
+	}
+	public static final java.lang.String PROP_P31 = new java.lang.String("p31");
+	public static final int ORDINAL_P31 = 31;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP31(int p31) {
+		if (!(this.p31 == p31)) this.dirtyBits[0] |= 1L << 31;
+		if (!propertySupport.hasListeners(PROP_P31)) {
+			this.p31 = p31;
+			return;
+		}
+		final int old = this.p31;
+		this.p31 = p31;
+		propertySupport.firePropertyChange(PROP_P31, old, this.p31);
+	}
+	public static final java.lang.String PROP_P32 = new java.lang.String("p32");
+	public static final int ORDINAL_P32 = 32;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP32(int p32) {
+		if (!(this.p32 == p32)) this.dirtyBits[0] |= 1L << 32;
+		if (!propertySupport.hasListeners(PROP_P32)) {
+			this.p32 = p32;
+			return;
+		}
+		final int old = this.p32;
+		this.p32 = p32;
+		propertySupport.firePropertyChange(PROP_P32, old, this.p32);
+	}
+	public static final java.lang.String PROP_P33 = new java.lang.String("p33");
+	public static final int ORDINAL_P33 = 33;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP33(int p33) {
+		if (!(this.p33 == p33)) this.dirtyBits[0] |= 1L << 33;
+		if (!propertySupport.hasListeners(PROP_P33)) {
+			this.p33 = p33;
+			return;
+		}
+		final int old = this.p33;
+		this.p33 = p33;
+		propertySupport.firePropertyChange(PROP_P33, old, this.p33);
+	}
+	public static final java.lang.String PROP_P34 = new java.lang.String("p34");
+	public static final int ORDINAL_P34 = 34;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP34(int p34) {
+		if (!(this.p34 == p34)) this.dirtyBits[0] |= 1L << 34;
+		if (!propertySupport.hasListeners(PROP_P34)) {
+			this.p34 = p34;
+			return;
+		}
+		final int old = this.p34;
+		this.p34 = p34;
+		propertySupport.firePropertyChange(PROP_P34, old, this.p34);
+	}
+	public static final java.lang.String PROP_P35 = new java.lang.String("p35");
+	public static final int ORDINAL_P35 = 35;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP35(int p35) {
+		if (!(this.p35 == p35)) this.dirtyBits[0] |= 1L << 35;
+		if (!propertySupport.hasListeners(PROP_P35)) {
+			this.p35 = p35;
+			return;
+		}
+		final int old = this.p35;
+		this.p35 = p35;
+		propertySupport.firePropertyChange(PROP_P35, old, this.p35);
+	}
+	public static final java.lang.String PROP_P36 = new java.lang.String("p36");
+	public static final int ORDINAL_P36 = 36;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP36(int p36) {
+		if (!(this.p36 == p36)) this.dirtyBits[0] |= 1L << 36;
+		if (!propertySupport.hasListeners(PROP_P36)) {
+			this.p36 = p36;
+			return;
+		}
+		final int old = this.p36;
+		this.p36 = p36;
+		propertySupport.firePropertyChange(PROP_P36, old, this.p36);
+	}
+	public static final java.lang.String PROP_P37 = new java.lang.String("p37");
+	public static final int ORDINAL_P37 = 37;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP37(int p37) {
+		if (!(this.p37 == p37)) this.dirtyBits[0] |= 1L << 37;
+		if (!propertySupport.hasListeners(PROP_P37)) {
+			this.p37 = p37;
+			return;
+		}
+		final int old = this.p37;
+		this.p37 = p37;
+		propertySupport.firePropertyChange(PROP_P37, old, this.p37);
+	}
+	public static final java.lang.String PROP_P38 = new java.lang.String("p38");
+	public static final int ORDINAL_P38 = 38;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP38(int p38) {
+		if (!(this.p38 == p38)) this.dirtyBits[0] |= 1L << 38;
+		if (!propertySupport.hasListeners(PROP_P38)) {
+			this.p38 = p38;
+			return;
+		}
+		final int old = this.p38;
+		this.p38 = p38;
+		propertySupport.firePropertyChange(PROP_P38, old, this.p38);
+	}
+	public static final java.lang.String PROP_P39 = new java.lang.String("p39");
+	public static final int ORDINAL_P39 = 39;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP39(int p39) {
+		if (!(this.p39 == p39)) this.dirtyBits[0] |= 1L << 39;
+		if (!propertySupport.hasListeners(PROP_P39)) {
+			this.p39 = p39;
+			return;
+		}
+		final int old = this.p39;
+		this.p39 = p39;
+		propertySupport.firePropertyChange(PROP_P39, old, this.p39);
+	}
+	public static final java.lang.String PROP_P40 = new java.lang.String("p40");
+	public static final int ORDINAL_P40 = 40;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP40(int p40) {
+		if (!(this.p40 == p40)) this.dirtyBits[0] |= 1L << 40;
+		if (!propertySupport.hasListeners(PROP_P40)) {
+			this.p40 = p40;
+			return;
+		}
+		final int old = this.p40;
+		this.p40 = p40;
+		propertySupport.firePropertyChange(PROP_P40, old, this.p40);
+	}
+	public static final java.lang.String PROP_P41 = new java.lang.String("p41");
+	public static final int ORDINAL_P41 = 41;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP41(int p41) {
+		if (!(this.p41 == p41)) this.dirtyBits[0] |= 1L << 41;
+		if (!propertySupport.hasListeners(PROP_P41)) {
+			this.p41 = p41;
+			return;
+		}
+		final int old = this.p41;
+		this.p41 = p41;
+		propertySupport.firePropertyChange(PROP_P41, old, this.p41);
+	}
+	public static final java.lang.String PROP_P42 = new java.lang.String("p42");
+	public static final int ORDINAL_P42 = 42;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP42(int p42) {
+		if (!(this.p42 == p42)) this.dirtyBits[0] |= 1L << 42;
+		if (!propertySupport.hasListeners(PROP_P42)) {
+			this.p42 = p42;
+			return;
+		}
+		final int old = this.p42;
+		this.p42 = p42;
+		propertySupport.firePropertyChange(PROP_P42, old, this.p42);
+	}
+	public static final java.lang.String PROP_P43 = new java.lang.String("p43");
+	public static final int ORDINAL_P43 = 43;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP43(int p43) {
+		if (!(this.p43 == p43)) this.dirtyBits[0] |= 1L << 43;
+		if (!propertySupport.hasListeners(PROP_P43)) {
+			this.p43 = p43;
+			return;
+		}
+		final int old = this.p43;
+		this.p43 = p43;
+		propertySupport.firePropertyChange(PROP_P43, old, this.p43);
+	}
+	public static final java.lang.String PROP_P44 = new java.lang.String("p44");
+	public static final int ORDINAL_P44 = 44;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP44(int p44) {
+		if (!(this.p44 == p44)) this.dirtyBits[0] |= 1L << 44;
+		if (!propertySupport.hasListeners(PROP_P44)) {
+			this.p44 = p44;
+			return;
+		}
+		final int old = this.p44;
+		this.p44 = p44;
+		propertySupport.firePropertyChange(PROP_P44, old, this.p44);
+	}
+	public static final java.lang.String PROP_P45 = new java.lang.String("p45");
+	public static final int ORDINAL_P45 = 45;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP45(int p45) {
+		if (!(this.p45 == p45)) this.dirtyBits[0] |= 1L << 45;
+		if (!propertySupport.hasListeners(PROP_P45)) {
+			this.p45 = p45;
+			return;
+		}
+		final int old = this.p45;
+		this.p45 = p45;
+		propertySupport.firePropertyChange(PROP_P45, old, this.p45);
+	}
+	public static final java.lang.String PROP_P46 = new java.lang.String("p46");
+	public static final int ORDINAL_P46 = 46;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP46(int p46) {
+		if (!(this.p46 == p46)) this.dirtyBits[0] |= 1L << 46;
+		if (!propertySupport.hasListeners(PROP_P46)) {
+			this.p46 = p46;
+			return;
+		}
+		final int old = this.p46;
+		this.p46 = p46;
+		propertySupport.firePropertyChange(PROP_P46, old, this.p46);
+	}
+	public static final java.lang.String PROP_P47 = new java.lang.String("p47");
+	public static final int ORDINAL_P47 = 47;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP47(int p47) {
+		if (!(this.p47 == p47)) this.dirtyBits[0] |= 1L << 47;
+		if (!propertySupport.hasListeners(PROP_P47)) {
+			this.p47 = p47;
+			return;
+		}
+		final int old = this.p47;
+		this.p47 = p47;
+		propertySupport.firePropertyChange(PROP_P47, old, this.p47);
+	}
+	public static final java.lang.String PROP_P48 = new java.lang.String("p48");
+	public static final int ORDINAL_P48 = 48;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP48(int p48) {
+		if (!(this.p48 == p48)) this.dirtyBits[0] |= 1L << 48;
+		if (!propertySupport.hasListeners(PROP_P48)) {
+			this.p48 = p48;
+			return;
+		}
+		final int old = this.p48;
+		this.p48 = p48;
+		propertySupport.firePropertyChange(PROP_P48, old, this.p48);
+	}
+	public static final java.lang.String PROP_P49 = new java.lang.String("p49");
+	public static final int ORDINAL_P49 = 49;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP49(int p49) {
+		if (!(this.p49 == p49)) this.dirtyBits[0] |= 1L << 49;
+		if (!propertySupport.hasListeners(PROP_P49)) {
+			this.p49 = p49;
+			return;
+		}
+		final int old = this.p49;
+		this.p49 = p49;
+		propertySupport.firePropertyChange(PROP_P49, old, this.p49);
+	}
+	public static final java.lang.String PROP_P50 = new java.lang.String("p50");
+	public static final int ORDINAL_P50 = 50;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP50(int p50) {
+		if (!(this.p50 == p50)) this.dirtyBits[0] |= 1L << 50;
+		if (!propertySupport.hasListeners(PROP_P50)) {
+			this.p50 = p50;
+			return;
+		}
+		final int old = this.p50;
+		this.p50 = p50;
+		propertySupport.firePropertyChange(PROP_P50, old, this.p50);
+	}
+	public static final java.lang.String PROP_P51 = new java.lang.String("p51");
+	public static final int ORDINAL_P51 = 51;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP51(int p51) {
+		if (!(this.p51 == p51)) this.dirtyBits[0] |= 1L << 51;
+		if (!propertySupport.hasListeners(PROP_P51)) {
+			this.p51 = p51;
+			return;
+		}
+		final int old = this.p51;
+		this.p51 = p51;
+		propertySupport.firePropertyChange(PROP_P51, old, this.p51);
+	}
+	public static final java.lang.String PROP_P52 = new java.lang.String("p52");
+	public static final int ORDINAL_P52 = 52;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP52(int p52) {
+		if (!(this.p52 == p52)) this.dirtyBits[0] |= 1L << 52;
+		if (!propertySupport.hasListeners(PROP_P52)) {
+			this.p52 = p52;
+			return;
+		}
+		final int old = this.p52;
+		this.p52 = p52;
+		propertySupport.firePropertyChange(PROP_P52, old, this.p52);
+	}
+	public static final java.lang.String PROP_P53 = new java.lang.String("p53");
+	public static final int ORDINAL_P53 = 53;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP53(int p53) {
+		if (!(this.p53 == p53)) this.dirtyBits[0] |= 1L << 53;
+		if (!propertySupport.hasListeners(PROP_P53)) {
+			this.p53 = p53;
+			return;
+		}
+		final int old = this.p53;
+		this.p53 = p53;
+		propertySupport.firePropertyChange(PROP_P53, old, this.p53);
+	}
+	public static final java.lang.String PROP_P54 = new java.lang.String("p54");
+	public static final int ORDINAL_P54 = 54;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP54(int p54) {
+		if (!(this.p54 == p54)) this.dirtyBits[0] |= 1L << 54;
+		if (!propertySupport.hasListeners(PROP_P54)) {
+			this.p54 = p54;
+			return;
+		}
+		final int old = this.p54;
+		this.p54 = p54;
+		propertySupport.firePropertyChange(PROP_P54, old, this.p54);
+	}
+	public static final java.lang.String PROP_P55 = new java.lang.String("p55");
+	public static final int ORDINAL_P55 = 55;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP55(int p55) {
+		if (!(this.p55 == p55)) this.dirtyBits[0] |= 1L << 55;
+		if (!propertySupport.hasListeners(PROP_P55)) {
+			this.p55 = p55;
+			return;
+		}
+		final int old = this.p55;
+		this.p55 = p55;
+		propertySupport.firePropertyChange(PROP_P55, old, this.p55);
+	}
+	public static final java.lang.String PROP_P56 = new java.lang.String("p56");
+	public static final int ORDINAL_P56 = 56;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP56(int p56) {
+		if (!(this.p56 == p56)) this.dirtyBits[0] |= 1L << 56;
+		if (!propertySupport.hasListeners(PROP_P56)) {
+			this.p56 = p56;
+			return;
+		}
+		final int old = this.p56;
+		this.p56 = p56;
+		propertySupport.firePropertyChange(PROP_P56, old, this.p56);
+	}
+	public static final java.lang.String PROP_P57 = new java.lang.String("p57");
+	public static final int ORDINAL_P57 = 57;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP57(int p57) {
+		if (!(this.p57 == p57)) this.dirtyBits[0] |= 1L << 57;
+		if (!propertySupport.hasListeners(PROP_P57)) {
+			this.p57 = p57;
+			return;
+		}
+		final int old = this.p57;
+		this.p57 = p57;
+		propertySupport.firePropertyChange(PROP_P57, old, this.p57);
+	}
+	public static final java.lang.String PROP_P58 = new java.lang.String("p58");
+	public static final int ORDINAL_P58 = 58;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP58(int p58) {
+		if (!(this.p58 == p58)) this.dirtyBits[0] |= 1L << 58;
+		if (!propertySupport.hasListeners(PROP_P58)) {
+			this.p58 = p58;
+			return;
+		}
+		final int old = this.p58;
+		this.p58 = p58;
+		propertySupport.firePropertyChange(PROP_P58, old, this.p58);
+	}
+	public static final java.lang.String PROP_P59 = new java.lang.String("p59");
+	public static final int ORDINAL_P59 = 59;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP59(int p59) {
+		if (!(this.p59 == p59)) this.dirtyBits[0] |= 1L << 59;
+		if (!propertySupport.hasListeners(PROP_P59)) {
+			this.p59 = p59;
+			return;
+		}
+		final int old = this.p59;
+		this.p59 = p59;
+		propertySupport.firePropertyChange(PROP_P59, old, this.p59);
+	}
+	public static final java.lang.String PROP_P60 = new java.lang.String("p60");
+	public static final int ORDINAL_P60 = 60;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP60(int p60) {
+		if (!(this.p60 == p60)) this.dirtyBits[0] |= 1L << 60;
+		if (!propertySupport.hasListeners(PROP_P60)) {
+			this.p60 = p60;
+			return;
+		}
+		final int old = this.p60;
+		this.p60 = p60;
+		propertySupport.firePropertyChange(PROP_P60, old, this.p60);
+	}
+	public static final java.lang.String PROP_P61 = new java.lang.String("p61");
+	public static final int ORDINAL_P61 = 61;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP61(int p61) {
+		if (!(this.p61 == p61)) this.dirtyBits[0] |= 1L << 61;
+		if (!propertySupport.hasListeners(PROP_P61)) {
+			this.p61 = p61;
+			return;
+		}
+		final int old = this.p61;
+		this.p61 = p61;
+		propertySupport.firePropertyChange(PROP_P61, old, this.p61);
+	}
+	public static final java.lang.String PROP_P62 = new java.lang.String("p62");
+	public static final int ORDINAL_P62 = 62;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP62(int p62) {
+		if (!(this.p62 == p62)) this.dirtyBits[0] |= 1L << 62;
+		if (!propertySupport.hasListeners(PROP_P62)) {
+			this.p62 = p62;
+			return;
+		}
+		final int old = this.p62;
+		this.p62 = p62;
+		propertySupport.firePropertyChange(PROP_P62, old, this.p62);
+	}
+	public static final java.lang.String PROP_P63 = new java.lang.String("p63");
+	public static final int ORDINAL_P63 = 63;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP63(int p63) {
+		if (!(this.p63 == p63)) this.dirtyBits[0] |= 1L << 63;
+		if (!propertySupport.hasListeners(PROP_P63)) {
+			this.p63 = p63;
+			return;
+		}
+		final int old = this.p63;
+		this.p63 = p63;
+		propertySupport.firePropertyChange(PROP_P63, old, this.p63);
+	}
+	public static final java.lang.String PROP_P64 = new java.lang.String("p64");
+	public static final int ORDINAL_P64 = 64;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setP64(int p64) {
+		if (!(this.p64 == p64)) this.dirtyBits[1] |= 1L << 0;
+		if (!propertySupport.hasListeners(PROP_P64)) {
+			this.p64 = p64;
+			return;
+		}
+		final int old = this.p64;
+		this.p64 = p64;
+		propertySupport.firePropertyChange(PROP_P64, old, this.p64);
+	}
+}
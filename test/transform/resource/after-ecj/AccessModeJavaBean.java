@@ -0,0 +1,69 @@
+import lombok.AccessMode;
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+@GenerateJavaBean class AccessModeJavaBean {
+  private volatile @GenerateBoundSetter(accessMode = AccessMode.VOLATILE) String name;
+  private volatile @GenerateBoundSetter(accessMode = AccessMode.RELEASE) String label;
+  private volatile @GenerateBoundSetter(accessMode = AccessMode.RELEASE) int count;
+  private volatile @GenerateBoundSetter(accessMode = AccessMode.RELEASE) long total;
+  public static final java.lang.String PROP_NAME = new java.lang.String("name");
+  public static final java.lang.String PROP_LABEL = new java.lang.String("label");
+  private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<AccessModeJavaBean, String> LABEL_UPDATER = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(AccessModeJavaBean.class, String.class, "label");
+  public static final java.lang.String PROP_COUNT = new java.lang.String("count");
+  private static final java.util.concurrent.atomic.AtomicIntegerFieldUpdater<AccessModeJavaBean> COUNT_UPDATER = java.util.concurrent.atomic.AtomicIntegerFieldUpdater.newUpdater(AccessModeJavaBean.class, "count");
+  public static final java.lang.String PROP_TOTAL = new java.lang.String("total");
+  private static final java.util.concurrent.atomic.AtomicLongFieldUpdater<AccessModeJavaBean> TOTAL_UPDATER = java.util.concurrent.atomic.AtomicLongFieldUpdater.newUpdater(AccessModeJavaBean.class, "total");
+  private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+  <clinit>() {
+  }
+  public @java.lang.SuppressWarnings("all") void setName(String name) {
+    if ((! propertySupport.hasListeners(PROP_NAME)))
+        {
+          this.name = name;
+          return ;
+        }
+    final String old = this.name;
+    this.name = name;
+    propertySupport.firePropertyChange(PROP_NAME, old, name);
+  }
+  public @java.lang.SuppressWarnings("all") void setLabel(String label) {
+    if ((! propertySupport.hasListeners(PROP_LABEL)))
+        {
+          LABEL_UPDATER.lazySet(this, label);
+          return ;
+        }
+    final String old = this.label;
+    LABEL_UPDATER.lazySet(this, label);
+    propertySupport.firePropertyChange(PROP_LABEL, old, label);
+  }
+  public @java.lang.SuppressWarnings("all") void setCount(int count) {
+    if ((! propertySupport.hasListeners(PROP_COUNT)))
+        {
+          COUNT_UPDATER.lazySet(this, count);
+          return ;
+        }
+    final int old = this.count;
+    COUNT_UPDATER.lazySet(this, count);
+    propertySupport.firePropertyChange(PROP_COUNT, old, count);
+  }
+  public @java.lang.SuppressWarnings("all") void setTotal(long total) {
+    if ((! propertySupport.hasListeners(PROP_TOTAL)))
+        {
+          TOTAL_UPDATER.lazySet(this, total);
+          return ;
+        }
+    final long old = this.total;
+    TOTAL_UPDATER.lazySet(this, total);
+    if ((old != total))
+        propertySupport.firePropertyChange(PROP_TOTAL, old, total);
+  }
+  public @java.lang.SuppressWarnings("all") void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    propertySupport.addPropertyChangeListener(listener);
+  }
+  public @java.lang.SuppressWarnings("all") void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    propertySupport.removePropertyChangeListener(listener);
+  }
+  AccessModeJavaBean() {
+    super();
+  }
+}
\ No newline at end of file
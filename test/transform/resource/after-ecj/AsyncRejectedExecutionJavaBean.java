@@ -0,0 +1,106 @@
+import lombok.EventDispatch;
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+@GenerateJavaBean(dispatch = EventDispatch.ASYNC) class AsyncRejectedExecutionJavaBean {
+  private @GenerateBoundSetter long count;
+  public static final java.lang.String PROP_COUNT = new java.lang.String("count");
+  private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+  private static volatile java.util.concurrent.Executor propertyChangeExecutor = defaultPropertyChangeExecutor();
+  private final java.util.Queue<java.beans.PropertyChangeEvent> pendingPropertyChanges = new java.util.concurrent.ConcurrentLinkedQueue<java.beans.PropertyChangeEvent>();
+  private final java.util.concurrent.atomic.AtomicBoolean dispatchingPropertyChanges = new java.util.concurrent.atomic.AtomicBoolean();
+  private final java.lang.Runnable propertyChangeDispatcher = new java.lang.Runnable() {
+    public void run() {
+      dispatchPendingPropertyChanges();
+    }
+  };
+  <clinit>() {
+  }
+  public @java.lang.SuppressWarnings("all") void setCount(long count) {
+    if ((! propertySupport.hasListeners(PROP_COUNT)))
+        {
+          this.count = count;
+          return ;
+        }
+    final long old = this.count;
+    this.count = count;
+    if ((old != this.count))
+        dispatchPropertyChange(PROP_COUNT, old, this.count);
+  }
+  public @java.lang.SuppressWarnings("all") void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    propertySupport.addPropertyChangeListener(listener);
+  }
+  public @java.lang.SuppressWarnings("all") void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    propertySupport.removePropertyChangeListener(listener);
+  }
+  public static @java.lang.SuppressWarnings("all") void setPropertyChangeExecutor(final java.util.concurrent.Executor executor) {
+    if ((executor == null))
+        throw new java.lang.NullPointerException("executor");
+    propertyChangeExecutor = executor;
+  }
+  private static @java.lang.SuppressWarnings("all") java.util.concurrent.Executor defaultPropertyChangeExecutor() {
+    try 
+      {
+        return (java.util.concurrent.Executor) java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+      }
+    catch (final java.lang.Exception e)       {
+        return java.util.concurrent.Executors.newCachedThreadPool(new java.util.concurrent.ThreadFactory() {
+  public java.lang.Thread newThread(final java.lang.Runnable task) {
+    final java.lang.Thread thread = java.util.concurrent.Executors.defaultThreadFactory().newThread(task);
+    thread.setDaemon(true);
+    return thread;
+  }
+  private @java.lang.SuppressWarnings("all") void dispatchPropertyChange(final java.lang.String propertyName, final java.lang.Object oldValue, final java.lang.Object newValue) {
+    if ((((oldValue != null) && (newValue != null)) && oldValue.equals(newValue)))
+        return ;
+    dispatchPropertyChange(new java.beans.PropertyChangeEvent(this, propertyName, oldValue, newValue));
+  }
+  private @java.lang.SuppressWarnings("all") void dispatchPropertyChange(final java.beans.PropertyChangeEvent event) {
+    pendingPropertyChanges.offer(event);
+    if (dispatchingPropertyChanges.compareAndSet(false, true))
+        {
+          try 
+            {
+              propertyChangeExecutor.execute(propertyChangeDispatcher);
+            }
+          catch (final java.lang.RuntimeException e)             {
+              dispatchingPropertyChanges.set(false);
+              throw e;
+            }
+        }
+  }
+  private @java.lang.SuppressWarnings("all") void dispatchPendingPropertyChanges() {
+    try 
+      {
+        for (java.beans.PropertyChangeEvent event = pendingPropertyChanges.poll();; (event != null); event = pendingPropertyChanges.poll()) 
+          propertySupport.firePropertyChange(event);
+      }
+    finally
+      {
+        dispatchingPropertyChanges.set(false);
+        if (((! pendingPropertyChanges.isEmpty()) && dispatchingPropertyChanges.compareAndSet(false, true)))
+            {
+              try 
+                {
+                  propertyChangeExecutor.execute(propertyChangeDispatcher);
+                }
+              catch (final java.lang.RuntimeException e)                 {
+                  dispatchingPropertyChanges.set(false);
+                  throw e;
+                }
+            }
+      }
+  }
+  AsyncRejectedExecutionJavaBean() {
+    super();
+  }
+  static void rejectDispatches() {
+    setPropertyChangeExecutor(new java.util.concurrent.Executor() {
+  public void execute(Runnable task) {
+    throw new java.util.concurrent.RejectedExecutionException();
+  }
+});
+  }
+});
+      }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+@GenerateJavaBean class AtomicUpdatesJavaBean {
+  private volatile @GenerateBoundSetter(atomicUpdates = true) String name;
+  private volatile @GenerateBoundSetter(atomicUpdates = true) long total;
+  public static final java.lang.String PROP_NAME = new java.lang.String("name");
+  private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<AtomicUpdatesJavaBean, String> NAME_UPDATER = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(AtomicUpdatesJavaBean.class, String.class, "name");
+  public static final java.lang.String PROP_TOTAL = new java.lang.String("total");
+  private static final java.util.concurrent.atomic.AtomicLongFieldUpdater<AtomicUpdatesJavaBean> TOTAL_UPDATER = java.util.concurrent.atomic.AtomicLongFieldUpdater.newUpdater(AtomicUpdatesJavaBean.class, "total");
+  private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+  <clinit>() {
+  }
+  public @java.lang.SuppressWarnings("all") void setName(String name) {
+    if ((! propertySupport.hasListeners(PROP_NAME)))
+        {
+          this.name = name;
+          return ;
+        }
+    final String old = this.name;
+    this.name = name;
+    propertySupport.firePropertyChange(PROP_NAME, old, this.name);
+  }
+  public @java.lang.SuppressWarnings("all") boolean compareAndSetName(final String expected, String name) {
+    if ((! NAME_UPDATER.compareAndSet(this, expected, name)))
+        return false;
+    if ((! propertySupport.hasListeners(PROP_NAME)))
+        return true;
+    propertySupport.firePropertyChange(PROP_NAME, expected, name);
+    return true;
+  }
+  public @java.lang.SuppressWarnings("all") String getAndSetName(String name) {
+    final String old = NAME_UPDATER.getAndSet(this, name);
+    if ((! propertySupport.hasListeners(PROP_NAME)))
+        return old;
+    propertySupport.firePropertyChange(PROP_NAME, old, name);
+    return old;
+  }
+  public @java.lang.SuppressWarnings("all") void setTotal(long total) {
+    if ((! propertySupport.hasListeners(PROP_TOTAL)))
+        {
+          this.total = total;
+          return ;
+        }
+    final long old = this.total;
+    this.total = total;
+    if ((old != this.total))
+        propertySupport.firePropertyChange(PROP_TOTAL, old, this.total);
+  }
+  public @java.lang.SuppressWarnings("all") boolean compareAndSetTotal(final long expected, long total) {
+    if ((! TOTAL_UPDATER.compareAndSet(this, expected, total)))
+        return false;
+    if ((! propertySupport.hasListeners(PROP_TOTAL)))
+        return true;
+    if ((expected != total))
+        propertySupport.firePropertyChange(PROP_TOTAL, expected, total);
+    return true;
+  }
+  public @java.lang.SuppressWarnings("all") long getAndSetTotal(long total) {
+    final long old = TOTAL_UPDATER.getAndSet(this, total);
+    if ((! propertySupport.hasListeners(PROP_TOTAL)))
+        return old;
+    if ((old != total))
+        propertySupport.firePropertyChange(PROP_TOTAL, old, total);
+    return old;
+  }
+  public @java.lang.SuppressWarnings("all") void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    propertySupport.addPropertyChangeListener(listener);
+  }
+  public @java.lang.SuppressWarnings("all") void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    propertySupport.removePropertyChangeListener(listener);
+  }
+  AtomicUpdatesJavaBean() {
+    super();
+  }
+}
\ No newline at end of file
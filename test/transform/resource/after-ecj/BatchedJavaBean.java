@@ -0,0 +1,86 @@
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+@GenerateJavaBean(batchChanges = true) class BatchedJavaBean {
+  private @GenerateBoundSetter String name;
+  private @GenerateBoundSetter int age;
+  private @GenerateBoundSetter String nickname;
+  public static final java.lang.String PROP_NAME = new java.lang.String("name");
+  public static final java.lang.String PROP_AGE = new java.lang.String("age");
+  public static final java.lang.String PROP_NICKNAME = new java.lang.String("nickname");
+  private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+  private java.util.Map<java.lang.String, java.beans.PropertyChangeEvent> batchedChanges;
+  private int batchDepth;
+  <clinit>() {
+  }
+  public @java.lang.SuppressWarnings("all") void setName(String name) {
+    if ((! propertySupport.hasListeners(PROP_NAME)))
+        {
+          this.name = name;
+          return ;
+        }
+    final String old = this.name;
+    this.name = name;
+    if ((batchedChanges != null))
+        batchPropertyChange(PROP_NAME, old, this.name);
+    else
+        propertySupport.firePropertyChange(PROP_NAME, old, this.name);
+  }
+  public @java.lang.SuppressWarnings("all") void setAge(int age) {
+    if ((! propertySupport.hasListeners(PROP_AGE)))
+        {
+          this.age = age;
+          return ;
+        }
+    final int old = this.age;
+    this.age = age;
+    if ((old != this.age))
+        if ((batchedChanges != null))
+            batchPropertyChange(PROP_AGE, old, this.age);
+        else
+            propertySupport.firePropertyChange(PROP_AGE, old, this.age);
+  }
+  public @java.lang.SuppressWarnings("all") void setNickname(String nickname) {
+    if ((! propertySupport.hasListeners(PROP_NICKNAME)))
+        {
+          this.nickname = nickname;
+          return ;
+        }
+    final String old = this.nickname;
+    this.nickname = nickname;
+    if ((batchedChanges != null))
+        batchPropertyChange(PROP_NICKNAME, old, this.nickname);
+    else
+        propertySupport.firePropertyChange(PROP_NICKNAME, old, this.nickname);
+  }
+  public @java.lang.SuppressWarnings("all") void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    propertySupport.addPropertyChangeListener(listener);
+  }
+  public @java.lang.SuppressWarnings("all") void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    propertySupport.removePropertyChangeListener(listener);
+  }
+  public @java.lang.SuppressWarnings("all") void beginBatch() {
+    if (((batchDepth ++) == 0))
+        batchedChanges = new java.util.LinkedHashMap<java.lang.String, java.beans.PropertyChangeEvent>();
+  }
+  public @java.lang.SuppressWarnings("all") void endBatch() {
+    if ((batchDepth == 0))
+        throw new java.lang.IllegalStateException("endBatch() called without beginBatch()");
+    if (((-- batchDepth) > 0))
+        return ;
+    final java.util.Map<java.lang.String, java.beans.PropertyChangeEvent> changes = batchedChanges;
+    batchedChanges = null;
+    for (final java.beans.PropertyChangeEvent event : changes.values()) 
+      propertySupport.firePropertyChange(event);
+  }
+  private @java.lang.SuppressWarnings("all") void batchPropertyChange(final java.lang.String propertyName, final java.lang.Object oldValue, final java.lang.Object newValue) {
+    final java.beans.PropertyChangeEvent first = batchedChanges.get(propertyName);
+    final java.lang.Object firstOldValue = ((first == null) ? oldValue : first.getOldValue());
+    if (((firstOldValue == newValue) || ((firstOldValue != null) && firstOldValue.equals(newValue))))
+        batchedChanges.remove(propertyName);
+    else
+        batchedChanges.put(propertyName, new java.beans.PropertyChangeEvent(this, propertyName, firstOldValue, newValue));
+  }
+  BatchedJavaBean() {
+    super();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+import lombok.EqualityCheck;
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+@GenerateJavaBean @GenerateBoundSetter class BoundSetterOnType {
+  private String name;
+  private int age;
+  private @GenerateBoundSetter(equalityCheck = EqualityCheck.EQUALS) String nickname;
+  private static int instances;
+  private final long id = 0;
+  private String $cache;
+  public static final java.lang.String PROP_NICKNAME = new java.lang.String("nickname");
+  private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+  public static final java.lang.String PROP_NAME = new java.lang.String("name");
+  public static final java.lang.String PROP_AGE = new java.lang.String("age");
+  <clinit>() {
+  }
+  public @java.lang.SuppressWarnings("all") void setNickname(String nickname) {
+    if (((this.nickname == nickname) || ((this.nickname != null) && this.nickname.equals(nickname))))
+        return ;
+    if ((! propertySupport.hasListeners(PROP_NICKNAME)))
+        {
+          this.nickname = nickname;
+          return ;
+        }
+    final String old = this.nickname;
+    this.nickname = nickname;
+    propertySupport.firePropertyChange(PROP_NICKNAME, old, this.nickname);
+  }
+  public @java.lang.SuppressWarnings("all") void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    propertySupport.addPropertyChangeListener(listener);
+  }
+  public @java.lang.SuppressWarnings("all") void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    propertySupport.removePropertyChangeListener(listener);
+  }
+  public @java.lang.SuppressWarnings("all") void setName(String name) {
+    if ((! propertySupport.hasListeners(PROP_NAME)))
+        {
+          this.name = name;
+          return ;
+        }
+    final String old = this.name;
+    this.name = name;
+    propertySupport.firePropertyChange(PROP_NAME, old, this.name);
+  }
+  BoundSetterOnType() {
+    super();
+  }
+  public void setAge(int age) {
+    this.age = age;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+@GenerateJavaBean(changeJournal = true) class ChangeJournalJavaBean {
+  private @GenerateBoundSetter String name;
+  private @GenerateBoundSetter int age;
+  public static final java.lang.String PROP_NAME = new java.lang.String("name");
+  public static final int ORDINAL_NAME = 0;
+  public static final java.lang.String PROP_AGE = new java.lang.String("age");
+  public static final int ORDINAL_AGE = 1;
+  private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+  private final int[] journalOrdinals = new int[2];
+  private final java.lang.Object[] journalValues = new java.lang.Object[2];
+  private final boolean[] journaled = new boolean[2];
+  private int journalSize;
+  <clinit>() {
+  }
+  public @java.lang.SuppressWarnings("all") void setName(String name) {
+    if ((! ((this.name == name) || ((this.name != null) && this.name.equals(name)))))
+        journalChange(ORDINAL_NAME, name);
+    if ((! propertySupport.hasListeners(PROP_NAME)))
+        {
+          this.name = name;
+          return ;
+        }
+    final String old = this.name;
+    this.name = name;
+    propertySupport.firePropertyChange(PROP_NAME, old, this.name);
+  }
+  public @java.lang.SuppressWarnings("all") void setAge(int age) {
+    if ((! (this.age == age)))
+        journalChange(ORDINAL_AGE, age);
+    if ((! propertySupport.hasListeners(PROP_AGE)))
+        {
+          this.age = age;
+          return ;
+        }
+    final int old = this.age;
+    this.age = age;
+    propertySupport.firePropertyChange(PROP_AGE, old, this.age);
+  }
+  public @java.lang.SuppressWarnings("all") void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    propertySupport.addPropertyChangeListener(listener);
+  }
+  public @java.lang.SuppressWarnings("all") void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    propertySupport.removePropertyChangeListener(listener);
+  }
+  private @java.lang.SuppressWarnings("all") void journalChange(final int ordinal, final java.lang.Object newValue) {
+    synchronized (this.journalOrdinals)
+      {
+        if ((! this.journaled[ordinal]))
+            {
+              this.journaled[ordinal] = true;
+              this.journalOrdinals[(this.journalSize ++)] = ordinal;
+            }
+        this.journalValues[ordinal] = newValue;
+      }
+  }
+  public @java.lang.SuppressWarnings("all") void drainChanges(final ChangeConsumer consumer) {
+    final int[] ordinals;
+    final java.lang.Object[] values;
+    synchronized (this.journalOrdinals)
+      {
+        ordinals = java.util.Arrays.copyOf(this.journalOrdinals, this.journalSize);
+        values = new java.lang.Object[this.journalSize];
+        for (int index = 0;; (index < ordinals.length); index ++) 
+          {
+            values[index] = this.journalValues[ordinals[index]];
+            this.journalValues[ordinals[index]] = null;
+            this.journaled[ordinals[index]] = false;
+          }
+        this.journalSize = 0;
+      }
+    for (int index = 0;; (index < ordinals.length); index ++) 
+      consumer.accept(ordinals[index], values[index]);
+  }
+  ChangeJournalJavaBean() {
+    super();
+  }
+  public static interface ChangeConsumer {
+    public abstract void accept(int propertyOrdinal, java.lang.Object newValue);
+  }
+}
\ No newline at end of file
@@ -7,16 +7,15 @@ import lombok.GenerateBoundSetter;
   <clinit>() {
   }
   public @java.lang.SuppressWarnings("all") void setI(int i) {
+    if ((! propertySupport.hasListeners(PROP_I)))
+        {
+          this.i = i;
+          return ;
+        }
     final int old = this.i;
     this.i = i;
     propertySupport.firePropertyChange(PROP_I, old, this.i);
   }
-  public @java.lang.SuppressWarnings("all") void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
-    propertySupport.addPropertyChangeListener(listener);
-  }
-  public @java.lang.SuppressWarnings("all") void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
-    propertySupport.removePropertyChangeListener(listener);
-  }
   CompleteJavaBean() {
     super();
   }
@@ -0,0 +1,71 @@
+import lombok.EqualityCheck;
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+@GenerateJavaBean(dirtyTracking = true) class DirtyTrackingJavaBean {
+  private @GenerateBoundSetter(equalityCheck = EqualityCheck.EQUALS) String name;
+  private @GenerateBoundSetter int age;
+  public static final java.lang.String PROP_NAME = new java.lang.String("name");
+  public static final int ORDINAL_NAME = 0;
+  public static final java.lang.String PROP_AGE = new java.lang.String("age");
+  public static final int ORDINAL_AGE = 1;
+  private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+  private long dirtyBits;
+  <clinit>() {
+  }
+  public @java.lang.SuppressWarnings("all") void setName(String name) {
+    if (((this.name == name) || ((this.name != null) && this.name.equals(name))))
+        return ;
+    this.dirtyBits |= (1L << 0);
+    if ((! propertySupport.hasListeners(PROP_NAME)))
+        {
+          this.name = name;
+          return ;
+        }
+    final String old = this.name;
+    this.name = name;
+    propertySupport.firePropertyChange(PROP_NAME, old, this.name);
+  }
+  public @java.lang.SuppressWarnings("all") void setAge(int age) {
+    if ((! (this.age == age)))
+        this.dirtyBits |= (1L << 1);
+    if ((! propertySupport.hasListeners(PROP_AGE)))
+        {
+          this.age = age;
+          return ;
+        }
+    final int old = this.age;
+    this.age = age;
+    propertySupport.firePropertyChange(PROP_AGE, old, this.age);
+  }
+  public @java.lang.SuppressWarnings("all") void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    propertySupport.addPropertyChangeListener(listener);
+  }
+  public @java.lang.SuppressWarnings("all") void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    propertySupport.removePropertyChangeListener(listener);
+  }
+  public @java.lang.SuppressWarnings("all") boolean isDirty(final java.lang.String propertyName) {
+    if (PROP_NAME.equals(propertyName))
+        return ((this.dirtyBits & (1L << 0)) != 0);
+    if (PROP_AGE.equals(propertyName))
+        return ((this.dirtyBits & (1L << 1)) != 0);
+    return false;
+  }
+  public @java.lang.SuppressWarnings("all") boolean isDirty(final int propertyOrdinal) {
+    return ((this.dirtyBits & (1L << propertyOrdinal)) != 0);
+  }
+  public @java.lang.SuppressWarnings("all") java.lang.String[] dirtyProperties() {
+    final java.lang.String[] dirty = new java.lang.String[java.lang.Long.bitCount(this.dirtyBits)];
+    int index = 0;
+    if (((this.dirtyBits & (1L << 0)) != 0))
+        dirty[(index ++)] = PROP_NAME;
+    if (((this.dirtyBits & (1L << 1)) != 0))
+        dirty[(index ++)] = PROP_AGE;
+    return dirty;
+  }
+  public @java.lang.SuppressWarnings("all") void clearDirty() {
+    this.dirtyBits = 0L;
+  }
+  DirtyTrackingJavaBean() {
+    super();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,143 @@
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+import lombok.ListenerRegistry;
+@GenerateJavaBean(registry = ListenerRegistry.INDEXED) class IndexedJavaBean {
+  private @GenerateBoundSetter String name;
+  private Object cache;
+  private @GenerateBoundSetter int age;
+  public static final java.lang.String PROP_NAME = new java.lang.String("name");
+  public static final int ORDINAL_NAME = 0;
+  public static final java.lang.String PROP_AGE = new java.lang.String("age");
+  public static final int ORDINAL_AGE = 1;
+  private static final java.beans.PropertyChangeListener[] NO_PROPERTY_CHANGE_LISTENERS = new java.beans.PropertyChangeListener[0];
+  private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<IndexedJavaBean, java.beans.PropertyChangeListener[]> PROPERTY_CHANGE_LISTENERS_UPDATER = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(IndexedJavaBean.class, java.beans.PropertyChangeListener[].class, "propertyChangeListeners");
+  private volatile java.beans.PropertyChangeListener[] propertyChangeListeners = NO_PROPERTY_CHANGE_LISTENERS;
+  private static final java.lang.String[] PROPERTY_NAMES = new java.lang.String[]{"name", "age"};
+  private static final java.beans.PropertyChangeListener[][] NO_NAMED_PROPERTY_CHANGE_LISTENERS = new java.beans.PropertyChangeListener[2][0];
+  private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<IndexedJavaBean, java.beans.PropertyChangeListener[][]> NAMED_PROPERTY_CHANGE_LISTENERS_UPDATER = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(IndexedJavaBean.class, java.beans.PropertyChangeListener[][].class, "namedPropertyChangeListeners");
+  private volatile java.beans.PropertyChangeListener[][] namedPropertyChangeListeners = NO_NAMED_PROPERTY_CHANGE_LISTENERS;
+  <clinit>() {
+  }
+  public @java.lang.SuppressWarnings("all") void addNameListener(final java.beans.PropertyChangeListener listener) {
+    addNamedPropertyChangeListener(ORDINAL_NAME, listener);
+  }
+  public @java.lang.SuppressWarnings("all") void removeNameListener(final java.beans.PropertyChangeListener listener) {
+    removeNamedPropertyChangeListener(ORDINAL_NAME, listener);
+  }
+  public @java.lang.SuppressWarnings("all") void setName(String name) {
+    if (((this.propertyChangeListeners.length == 0) && (this.namedPropertyChangeListeners[ORDINAL_NAME].length == 0)))
+        {
+          this.name = name;
+          return ;
+        }
+    final String old = this.name;
+    this.name = name;
+    notifyPropertyChangeListeners(ORDINAL_NAME, PROP_NAME, old, this.name);
+  }
+  public @java.lang.SuppressWarnings("all") void addAgeListener(final java.beans.PropertyChangeListener listener) {
+    addNamedPropertyChangeListener(ORDINAL_AGE, listener);
+  }
+  public @java.lang.SuppressWarnings("all") void removeAgeListener(final java.beans.PropertyChangeListener listener) {
+    removeNamedPropertyChangeListener(ORDINAL_AGE, listener);
+  }
+  public @java.lang.SuppressWarnings("all") void setAge(int age) {
+    if (((this.propertyChangeListeners.length == 0) && (this.namedPropertyChangeListeners[ORDINAL_AGE].length == 0)))
+        {
+          this.age = age;
+          return ;
+        }
+    final int old = this.age;
+    this.age = age;
+    if ((old != this.age))
+        notifyPropertyChangeListeners(ORDINAL_AGE, PROP_AGE, old, this.age);
+  }
+  public @java.lang.SuppressWarnings("all") void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    if ((listener == null))
+        return ;
+    while (true)      {
+        final java.beans.PropertyChangeListener[] current = this.propertyChangeListeners;
+        final java.beans.PropertyChangeListener[] updated = java.util.Arrays.copyOf(current, (current.length + 1));
+        updated[current.length] = listener;
+        if (PROPERTY_CHANGE_LISTENERS_UPDATER.compareAndSet(this, current, updated))
+            return ;
+      }
+  }
+  public @java.lang.SuppressWarnings("all") void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    if ((listener == null))
+        return ;
+    while (true)      {
+        final java.beans.PropertyChangeListener[] current = this.propertyChangeListeners;
+        int index = 0;
+        while (((index < current.length) && (! listener.equals(current[index]))))          index ++;
+        if ((index == current.length))
+            return ;
+        final java.beans.PropertyChangeListener[] updated = new java.beans.PropertyChangeListener[(current.length - 1)];
+        java.lang.System.arraycopy(current, 0, updated, 0, index);
+        java.lang.System.arraycopy(current, (index + 1), updated, index, (updated.length - index));
+        if (PROPERTY_CHANGE_LISTENERS_UPDATER.compareAndSet(this, current, updated))
+            return ;
+      }
+  }
+  private @java.lang.SuppressWarnings("all") void notifyPropertyChangeListeners(final int ordinal, final java.lang.String propertyName, final java.lang.Object oldValue, final java.lang.Object newValue) {
+    if ((((oldValue != null) && (newValue != null)) && oldValue.equals(newValue)))
+        return ;
+    final java.beans.PropertyChangeListener[] current = this.propertyChangeListeners;
+    final java.beans.PropertyChangeEvent event = new java.beans.PropertyChangeEvent(this, propertyName, oldValue, newValue);
+    for (int index = 0;; (index < current.length); index ++) 
+      current[index].propertyChange(event);
+    notifyNamedPropertyChangeListeners(ordinal, event);
+  }
+  private @java.lang.SuppressWarnings("all") void notifyNamedPropertyChangeListeners(final int ordinal, final java.beans.PropertyChangeEvent event) {
+    if ((ordinal < 0))
+        return ;
+    final java.beans.PropertyChangeListener[] current = this.namedPropertyChangeListeners[ordinal];
+    for (int index = 0;; (index < current.length); index ++) 
+      current[index].propertyChange(event);
+  }
+  public @java.lang.SuppressWarnings("all") void addPropertyChangeListener(final java.lang.String propertyName, final java.beans.PropertyChangeListener listener) {
+    addNamedPropertyChangeListener(propertyOrdinal(propertyName), listener);
+  }
+  public @java.lang.SuppressWarnings("all") void removePropertyChangeListener(final java.lang.String propertyName, final java.beans.PropertyChangeListener listener) {
+    removeNamedPropertyChangeListener(propertyOrdinal(propertyName), listener);
+  }
+  private @java.lang.SuppressWarnings("all") void addNamedPropertyChangeListener(final int ordinal, final java.beans.PropertyChangeListener listener) {
+    if (((listener == null) || (ordinal < 0)))
+        return ;
+    while (true)      {
+        final java.beans.PropertyChangeListener[][] current = this.namedPropertyChangeListeners;
+        final java.beans.PropertyChangeListener[] listeners = current[ordinal];
+        final java.beans.PropertyChangeListener[][] updated = current.clone();
+        updated[ordinal] = java.util.Arrays.copyOf(listeners, (listeners.length + 1));
+        updated[ordinal][listeners.length] = listener;
+        if (NAMED_PROPERTY_CHANGE_LISTENERS_UPDATER.compareAndSet(this, current, updated))
+            return ;
+      }
+  }
+  private @java.lang.SuppressWarnings("all") void removeNamedPropertyChangeListener(final int ordinal, final java.beans.PropertyChangeListener listener) {
+    if (((listener == null) || (ordinal < 0)))
+        return ;
+    while (true)      {
+        final java.beans.PropertyChangeListener[][] current = this.namedPropertyChangeListeners;
+        final java.beans.PropertyChangeListener[] listeners = current[ordinal];
+        int index = 0;
+        while (((index < listeners.length) && (! listener.equals(listeners[index]))))          index ++;
+        if ((index == listeners.length))
+            return ;
+        final java.beans.PropertyChangeListener[][] updated = current.clone();
+        updated[ordinal] = new java.beans.PropertyChangeListener[(listeners.length - 1)];
+        java.lang.System.arraycopy(listeners, 0, updated[ordinal], 0, index);
+        java.lang.System.arraycopy(listeners, (index + 1), updated[ordinal], index, (updated[ordinal].length - index));
+        if (NAMED_PROPERTY_CHANGE_LISTENERS_UPDATER.compareAndSet(this, current, updated))
+            return ;
+      }
+  }
+  private static @java.lang.SuppressWarnings("all") int propertyOrdinal(final java.lang.String propertyName) {
+    for (int ordinal = 0;; (ordinal < PROPERTY_NAMES.length); ordinal ++) 
+      if (PROPERTY_NAMES[ordinal].equals(propertyName))
+          return ordinal;
+    return (- 1);
+  }
+  IndexedJavaBean() {
+    super();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+import lombok.ListenerRegistry;
+@GenerateJavaBean(registry = ListenerRegistry.LAZY_PROPERTY_CHANGE_SUPPORT) class LazyJavaBean {
+  private @GenerateBoundSetter String name;
+  private @GenerateBoundSetter int age;
+  public static final java.lang.String PROP_NAME = new java.lang.String("name");
+  public static final java.lang.String PROP_AGE = new java.lang.String("age");
+  private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<LazyJavaBean, java.beans.PropertyChangeSupport> PROPERTY_SUPPORT_UPDATER = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(LazyJavaBean.class, java.beans.PropertyChangeSupport.class, "propertySupport");
+  private volatile java.beans.PropertyChangeSupport propertySupport;
+  <clinit>() {
+  }
+  public @java.lang.SuppressWarnings("all") void setName(String name) {
+    if (((propertySupport == null) || (! propertySupport.hasListeners(PROP_NAME))))
+        {
+          this.name = name;
+          return ;
+        }
+    final String old = this.name;
+    this.name = name;
+    propertySupport.firePropertyChange(PROP_NAME, old, this.name);
+  }
+  public @java.lang.SuppressWarnings("all") void setAge(int age) {
+    if (((propertySupport == null) || (! propertySupport.hasListeners(PROP_AGE))))
+        {
+          this.age = age;
+          return ;
+        }
+    final int old = this.age;
+    this.age = age;
+    propertySupport.firePropertyChange(PROP_AGE, old, this.age);
+  }
+  public @java.lang.SuppressWarnings("all") void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    if ((propertySupport == null))
+        PROPERTY_SUPPORT_UPDATER.compareAndSet(this, null, new java.beans.PropertyChangeSupport(this));
+    propertySupport.addPropertyChangeListener(listener);
+  }
+  public @java.lang.SuppressWarnings("all") void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    if ((propertySupport != null))
+        propertySupport.removePropertyChangeListener(listener);
+  }
+  LazyJavaBean() {
+    super();
+  }
+}
\ No newline at end of file
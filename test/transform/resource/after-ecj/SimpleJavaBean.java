@@ -16,29 +16,56 @@ import lombok.GenerateBoundSetter;
   <clinit>() {
   }
   public @java.lang.SuppressWarnings("all") void setI(int i) {
+    if ((! propertySupport.hasListeners(PROP_I)))
+        {
+          this.i = i;
+          return ;
+        }
     final int old = this.i;
     this.i = i;
     propertySupport.firePropertyChange(PROP_I, old, this.i);
   }
   public @java.lang.SuppressWarnings("all") void setS(String s) {
+    if ((! propertySupport.hasListeners(PROP_S)))
+        {
+          this.s = s;
+          return ;
+        }
     final String old = this.s;
     this.s = s;
     propertySupport.firePropertyChange(PROP_S, old, this.s);
   }
   protected @java.lang.SuppressWarnings("all") void setF(float f) {
+    if ((! propertySupport.hasListeners(PROP_F)))
+        {
+          this.f = f;
+          return ;
+        }
     final float old = this.f;
     this.f = f;
-    propertySupport.firePropertyChange(PROP_F, old, this.f);
+    if ((java.lang.Float.compare(old, this.f) != 0))
+        propertySupport.firePropertyChange(PROP_F, old, this.f);
   }
   @java.lang.SuppressWarnings("all") void setO(Object o) {
+    if ((! propertySupport.hasListeners(PROP_O)))
+        {
+          this.o = o;
+          return ;
+        }
     final Object old = this.o;
     this.o = o;
     propertySupport.firePropertyChange(PROP_O, old, this.o);
   }
   private @java.lang.SuppressWarnings("all") void setD(double d) {
+    if ((! propertySupport.hasListeners(PROP_D)))
+        {
+          this.d = d;
+          return ;
+        }
     final double old = this.d;
     this.d = d;
-    propertySupport.firePropertyChange(PROP_D, old, this.d);
+    if ((java.lang.Double.compare(old, this.d) != 0))
+        propertySupport.firePropertyChange(PROP_D, old, this.d);
   }
   public @java.lang.SuppressWarnings("all") void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
     propertySupport.addPropertyChangeListener(listener);
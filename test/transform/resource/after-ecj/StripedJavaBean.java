@@ -0,0 +1,102 @@
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+import lombok.ListenerRegistry;
+@GenerateJavaBean(registry = ListenerRegistry.STRIPED) class StripedJavaBean {
+  private @GenerateBoundSetter String name;
+  private @GenerateBoundSetter int age;
+  public static final java.lang.String PROP_NAME = new java.lang.String("name");
+  public static final java.lang.String PROP_AGE = new java.lang.String("age");
+  private static final java.beans.PropertyChangeListener[] NO_PROPERTY_CHANGE_LISTENERS = new java.beans.PropertyChangeListener[0];
+  private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<StripedJavaBean, PropertyChangeListenerStripe[]> PROPERTY_CHANGE_LISTENER_STRIPES_UPDATER = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(StripedJavaBean.class, PropertyChangeListenerStripe[].class, "propertyChangeListenerStripes");
+  private volatile PropertyChangeListenerStripe[] propertyChangeListenerStripes;
+  private final java.util.concurrent.atomic.AtomicInteger propertyChangeListenerCount = new java.util.concurrent.atomic.AtomicInteger();
+  <clinit>() {
+  }
+  public @java.lang.SuppressWarnings("all") void setName(String name) {
+    if ((this.propertyChangeListenerCount.get() == 0))
+        {
+          this.name = name;
+          return ;
+        }
+    final String old = this.name;
+    this.name = name;
+    notifyPropertyChangeListeners(PROP_NAME, old, this.name);
+  }
+  public @java.lang.SuppressWarnings("all") void setAge(int age) {
+    if ((this.propertyChangeListenerCount.get() == 0))
+        {
+          this.age = age;
+          return ;
+        }
+    final int old = this.age;
+    this.age = age;
+    if ((old != this.age))
+        notifyPropertyChangeListeners(PROP_AGE, old, this.age);
+  }
+  public @java.lang.SuppressWarnings("all") void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    if ((listener == null))
+        return ;
+    if ((this.propertyChangeListenerStripes == null))
+        PROPERTY_CHANGE_LISTENER_STRIPES_UPDATER.compareAndSet(this, null, new PropertyChangeListenerStripe[]{new PropertyChangeListenerStripe(), new PropertyChangeListenerStripe(), new PropertyChangeListenerStripe(), new PropertyChangeListenerStripe(), new PropertyChangeListenerStripe(), new PropertyChangeListenerStripe(), new PropertyChangeListenerStripe(), new PropertyChangeListenerStripe()});
+    final PropertyChangeListenerStripe[] stripes = this.propertyChangeListenerStripes;
+    final PropertyChangeListenerStripe stripe = stripes[(java.lang.System.identityHashCode(listener) & (stripes.length - 1))];
+    synchronized (stripe)
+      {
+        if ((stripe.listeners.put(listener, java.lang.Boolean.TRUE) != null))
+            return ;
+        stripe.snapshot = null;
+      }
+    this.propertyChangeListenerCount.incrementAndGet();
+  }
+  public @java.lang.SuppressWarnings("all") void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    if ((listener == null))
+        return ;
+    final PropertyChangeListenerStripe[] stripes = this.propertyChangeListenerStripes;
+    if ((stripes == null))
+        return ;
+    final PropertyChangeListenerStripe stripe = stripes[(java.lang.System.identityHashCode(listener) & (stripes.length - 1))];
+    synchronized (stripe)
+      {
+        if ((stripe.listeners.remove(listener) == null))
+            return ;
+        stripe.snapshot = null;
+      }
+    this.propertyChangeListenerCount.decrementAndGet();
+  }
+  private static @java.lang.SuppressWarnings("all") java.beans.PropertyChangeListener[] propertyChangeListenersOf(final PropertyChangeListenerStripe stripe) {
+    final java.beans.PropertyChangeListener[] current = stripe.snapshot;
+    if ((current != null))
+        return current;
+    synchronized (stripe)
+      {
+        if ((stripe.snapshot == null))
+            stripe.snapshot = stripe.listeners.keySet().toArray(NO_PROPERTY_CHANGE_LISTENERS);
+        return stripe.snapshot;
+      }
+  }
+  private @java.lang.SuppressWarnings("all") void notifyPropertyChangeListeners(final java.lang.String propertyName, final java.lang.Object oldValue, final java.lang.Object newValue) {
+    if ((((oldValue != null) && (newValue != null)) && oldValue.equals(newValue)))
+        return ;
+    final java.beans.PropertyChangeEvent event = new java.beans.PropertyChangeEvent(this, propertyName, oldValue, newValue);
+    {
+      final PropertyChangeListenerStripe[] stripes = this.propertyChangeListenerStripes;
+      if ((stripes != null))
+          for (int stripeIndex = 0;; (stripeIndex < stripes.length); stripeIndex ++) 
+            {
+              final java.beans.PropertyChangeListener[] current = propertyChangeListenersOf(stripes[stripeIndex]);
+              for (int index = 0;; (index < current.length); index ++) 
+                current[index].propertyChange(event);
+            }
+    }
+  }
+  StripedJavaBean() {
+    super();
+  }
+  private static final class PropertyChangeListenerStripe {
+    final java.util.IdentityHashMap<java.beans.PropertyChangeListener, java.lang.Boolean> listeners = new java.util.IdentityHashMap<java.beans.PropertyChangeListener, java.lang.Boolean>();
+    volatile java.beans.PropertyChangeListener[] snapshot = NO_PROPERTY_CHANGE_LISTENERS;
+    private PropertyChangeListenerStripe() {
+      super();
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+@GenerateJavaBean(weakListeners = true) class WeakListenersJavaBean {
+  private @GenerateBoundSetter String name;
+  public static final java.lang.String PROP_NAME = new java.lang.String("name");
+  private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+  private final java.lang.ref.ReferenceQueue<java.beans.PropertyChangeListener> weakPropertyChangeListenerQueue = new java.lang.ref.ReferenceQueue<java.beans.PropertyChangeListener>();
+  <clinit>() {
+  }
+  public @java.lang.SuppressWarnings("all") void setName(String name) {
+    if ((! propertySupport.hasListeners(PROP_NAME)))
+        {
+          this.name = name;
+          return ;
+        }
+    final String old = this.name;
+    this.name = name;
+    propertySupport.firePropertyChange(PROP_NAME, old, this.name);
+  }
+  public @java.lang.SuppressWarnings("all") void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    propertySupport.addPropertyChangeListener(listener);
+  }
+  public @java.lang.SuppressWarnings("all") void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    propertySupport.removePropertyChangeListener(listener);
+  }
+  public @java.lang.SuppressWarnings("all") java.beans.PropertyChangeListener addWeakPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    expungeWeakPropertyChangeListeners();
+    if ((listener == null))
+        return null;
+    final java.beans.PropertyChangeListener weakListener = new WeakPropertyChangeListener(listener, this);
+    addPropertyChangeListener(weakListener);
+    return weakListener;
+  }
+  private @java.lang.SuppressWarnings("all") void expungeWeakPropertyChangeListeners() {
+    for (java.lang.Object cleared = this.weakPropertyChangeListenerQueue.poll();; (cleared != null); cleared = this.weakPropertyChangeListenerQueue.poll()) 
+      removePropertyChangeListener((java.beans.PropertyChangeListener) cleared);
+  }
+  WeakListenersJavaBean() {
+    super();
+  }
+  private static final class WeakPropertyChangeListener extends java.lang.ref.WeakReference<java.beans.PropertyChangeListener> implements java.beans.PropertyChangeListener {
+    private final WeakListenersJavaBean source;
+    WeakPropertyChangeListener(final java.beans.PropertyChangeListener listener, final WeakListenersJavaBean source) {
+      super(listener, source.weakPropertyChangeListenerQueue);
+      this.source = source;
+    }
+    public void propertyChange(final java.beans.PropertyChangeEvent event) {
+      final java.beans.PropertyChangeListener listener = get();
+      if ((listener == null))
+          {
+            this.source.removePropertyChangeListener(this);
+            this.source.expungeWeakPropertyChangeListeners();
+            return ;
+          }
+      listener.propertyChange(event);
+    }
+  }
+}
\ No newline at end of file
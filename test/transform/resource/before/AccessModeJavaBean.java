@@ -0,0 +1,11 @@
+import lombok.AccessMode;
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+
+@GenerateJavaBean
+class AccessModeJavaBean {
+	@GenerateBoundSetter(accessMode = AccessMode.VOLATILE) private volatile String name;
+	@GenerateBoundSetter(accessMode = AccessMode.RELEASE) private volatile String label;
+	@GenerateBoundSetter(accessMode = AccessMode.RELEASE) private volatile int count;
+	@GenerateBoundSetter(accessMode = AccessMode.RELEASE) private volatile long total;
+}
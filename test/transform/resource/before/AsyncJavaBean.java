@@ -0,0 +1,9 @@
+import lombok.EventDispatch;
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+
+@GenerateJavaBean(dispatch = EventDispatch.ASYNC)
+class AsyncJavaBean {
+	@GenerateBoundSetter private String name;
+	@GenerateBoundSetter private int age;
+}
@@ -0,0 +1,16 @@
+import lombok.EventDispatch;
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+
+@GenerateJavaBean(dispatch = EventDispatch.ASYNC)
+class AsyncRejectedExecutionJavaBean {
+	@GenerateBoundSetter private long count;
+
+	static void rejectDispatches() {
+		setPropertyChangeExecutor(new java.util.concurrent.Executor() {
+			public void execute(Runnable task) {
+				throw new java.util.concurrent.RejectedExecutionException();
+			}
+		});
+	}
+}
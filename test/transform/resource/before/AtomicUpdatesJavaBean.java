@@ -0,0 +1,8 @@
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+
+@GenerateJavaBean
+class AtomicUpdatesJavaBean {
+	@GenerateBoundSetter(atomicUpdates = true) private volatile String name;
+	@GenerateBoundSetter(atomicUpdates = true) private volatile long total;
+}
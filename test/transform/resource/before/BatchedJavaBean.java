@@ -0,0 +1,9 @@
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+
+@GenerateJavaBean(batchChanges = true)
+class BatchedJavaBean {
+	@GenerateBoundSetter private String name;
+	@GenerateBoundSetter private int age;
+	@GenerateBoundSetter private String nickname;
+}
@@ -0,0 +1,12 @@
+import lombok.EqualityCheck;
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+
+@GenerateJavaBean
+class BoundSetterEqualityCheck {
+	@GenerateBoundSetter(equalityCheck = EqualityCheck.EQUALS) private String name;
+	@GenerateBoundSetter(equalityCheck = EqualityCheck.IDENTITY) private Object owner;
+	@GenerateBoundSetter(equalityCheck = EqualityCheck.EQUALS) private int age;
+	@GenerateBoundSetter(equalityCheck = EqualityCheck.IDENTITY) private double weight;
+	@GenerateBoundSetter private String nickname;
+}
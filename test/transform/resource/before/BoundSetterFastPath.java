@@ -0,0 +1,7 @@
+import lombok.GenerateBoundSetter;
+
+class BoundSetterFastPath {
+  private final java.beans.PropertyChangeSupport propertySupport = new java.beans.PropertyChangeSupport(this);
+  @GenerateBoundSetter private String name;
+  @GenerateBoundSetter private long id;
+}
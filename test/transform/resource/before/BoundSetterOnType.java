@@ -0,0 +1,17 @@
+import lombok.EqualityCheck;
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+
+@GenerateJavaBean @GenerateBoundSetter
+class BoundSetterOnType {
+	private String name;
+	private int age;
+	@GenerateBoundSetter(equalityCheck = EqualityCheck.EQUALS) private String nickname;
+	private static int instances;
+	private final long id = 0;
+	private String $cache;
+	
+	public void setAge(int age) {
+		this.age = age;
+	}
+}
@@ -0,0 +1,10 @@
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+
+@GenerateJavaBean(changeCallbacks = true)
+class ChangeCallbackJavaBean {
+	@GenerateBoundSetter private String name;
+	@GenerateBoundSetter private int age;
+	@GenerateBoundSetter private boolean active;
+	@GenerateBoundSetter private double weight;
+}
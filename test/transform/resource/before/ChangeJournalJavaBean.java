@@ -0,0 +1,8 @@
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+
+@GenerateJavaBean(changeJournal = true)
+class ChangeJournalJavaBean {
+	@GenerateBoundSetter private String name;
+	@GenerateBoundSetter private int age;
+}
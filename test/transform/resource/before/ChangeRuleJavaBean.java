@@ -0,0 +1,8 @@
+import lombok.EqualityCheck;
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+
+@GenerateJavaBean(changeCallbacks = true, dirtyTracking = true)
+class ChangeRuleJavaBean {
+	@GenerateBoundSetter(equalityCheck = EqualityCheck.IDENTITY, atomicUpdates = true) private volatile String name;
+}
@@ -0,0 +1,9 @@
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+import lombok.ListenerRegistry;
+import lombok.Threading;
+
+@GenerateJavaBean(threading = Threading.CONFINED, registry = ListenerRegistry.INDEXED)
+class ConfinedIndexedJavaBean {
+	@GenerateBoundSetter private String name;
+}
@@ -0,0 +1,9 @@
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+import lombok.Threading;
+
+@GenerateJavaBean(threading = Threading.CONFINED)
+class ConfinedJavaBean {
+	@GenerateBoundSetter private String name;
+	@GenerateBoundSetter private int age;
+}
@@ -0,0 +1,9 @@
+import lombok.GenerateBoundSetter;
+import lombok.GenerateConstrainedSetter;
+import lombok.GenerateJavaBean;
+
+@GenerateJavaBean
+class ConstrainedJavaBean {
+	@GenerateConstrainedSetter private String name;
+	@GenerateBoundSetter @GenerateConstrainedSetter private int age;
+}
@@ -0,0 +1,9 @@
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+import lombok.ListenerRegistry;
+
+@GenerateJavaBean(registry = ListenerRegistry.COPY_ON_WRITE)
+class CopyOnWriteJavaBean {
+	@GenerateBoundSetter private String name;
+	@GenerateBoundSetter private int age;
+}
@@ -0,0 +1,9 @@
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+
+@GenerateJavaBean
+class CounterJavaBean {
+	@GenerateBoundSetter(counter = true) private volatile int requests;
+	@GenerateBoundSetter(counter = true, notifyEvery = 100) private volatile long bytes;
+	@GenerateBoundSetter(counter = true, notifyEvery = 10) private volatile int balance;
+}
@@ -0,0 +1,9 @@
+import lombok.EqualityCheck;
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+
+@GenerateJavaBean(dirtyTracking = true)
+class DirtyTrackingJavaBean {
+	@GenerateBoundSetter(equalityCheck = EqualityCheck.EQUALS) private String name;
+	@GenerateBoundSetter private int age;
+}
@@ -0,0 +1,10 @@
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+import lombok.ListenerRegistry;
+
+@GenerateJavaBean(registry = ListenerRegistry.INDEXED)
+class IndexedJavaBean {
+	@GenerateBoundSetter private String name;
+	private Object cache;
+	@GenerateBoundSetter private int age;
+}
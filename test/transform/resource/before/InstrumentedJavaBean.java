@@ -0,0 +1,10 @@
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+
+@GenerateJavaBean(instrumented = true)
+class InstrumentedJavaBean {
+	@GenerateBoundSetter private String name;
+	@GenerateBoundSetter private int count;
+	@GenerateBoundSetter private double ratio;
+	@GenerateBoundSetter(counter = true) private volatile long hits;
+}
@@ -0,0 +1,9 @@
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+import lombok.ListenerRegistry;
+
+@GenerateJavaBean(registry = ListenerRegistry.LAZY_PROPERTY_CHANGE_SUPPORT)
+class LazyJavaBean {
+	@GenerateBoundSetter private String name;
+	@GenerateBoundSetter private int age;
+}
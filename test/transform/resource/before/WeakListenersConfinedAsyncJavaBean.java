@@ -0,0 +1,9 @@
+import lombok.EventDispatch;
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+import lombok.Threading;
+
+@GenerateJavaBean(threading = Threading.CONFINED, dispatch = EventDispatch.ASYNC, weakListeners = true)
+class WeakListenersConfinedAsyncJavaBean {
+	@GenerateBoundSetter private String name;
+}
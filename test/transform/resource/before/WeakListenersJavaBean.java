@@ -0,0 +1,7 @@
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+
+@GenerateJavaBean(weakListeners = true)
+class WeakListenersJavaBean {
+	@GenerateBoundSetter private String name;
+}
@@ -0,0 +1,71 @@
+import lombok.GenerateBoundSetter;
+import lombok.GenerateJavaBean;
+
+@GenerateJavaBean(dirtyTracking = true)
+class WideDirtyTrackingJavaBean {
+	@GenerateBoundSetter private int p0;
+	@GenerateBoundSetter private int p1;
+	@GenerateBoundSetter private int p2;
+	@GenerateBoundSetter private int p3;
+	@GenerateBoundSetter private int p4;
+	@GenerateBoundSetter private int p5;
+	@GenerateBoundSetter private int p6;
+	@GenerateBoundSetter private int p7;
+	@GenerateBoundSetter private int p8;
+	@GenerateBoundSetter private int p9;
+	@GenerateBoundSetter private int p10;
+	@GenerateBoundSetter private int p11;
+	@GenerateBoundSetter private int p12;
+	@GenerateBoundSetter private int p13;
+	@GenerateBoundSetter private int p14;
+	@GenerateBoundSetter private int p15;
+	@GenerateBoundSetter private int p16;
+	@GenerateBoundSetter private int p17;
+	@GenerateBoundSetter private int p18;
+	@GenerateBoundSetter private int p19;
+	@GenerateBoundSetter private int p20;
+	@GenerateBoundSetter private int p21;
+	@GenerateBoundSetter private int p22;
+	@GenerateBoundSetter private int p23;
+	@GenerateBoundSetter private int p24;
+	@GenerateBoundSetter private int p25;
+	@GenerateBoundSetter private int p26;
+	@GenerateBoundSetter private int p27;
+	@GenerateBoundSetter private int p28;
+	@GenerateBoundSetter private int p29;
+	@GenerateBoundSetter private int p30;
+	@GenerateBoundSetter private int p31;
+	@GenerateBoundSetter private int p32;
+	@GenerateBoundSetter private int p33;
+	@GenerateBoundSetter private int p34;
+	@GenerateBoundSetter private int p35;
+	@GenerateBoundSetter private int p36;
+	@GenerateBoundSetter private int p37;
+	@GenerateBoundSetter private int p38;
+	@GenerateBoundSetter private int p39;
+	@GenerateBoundSetter private int p40;
+	@GenerateBoundSetter private int p41;
+	@GenerateBoundSetter private int p42;
+	@GenerateBoundSetter private int p43;
+	@GenerateBoundSetter private int p44;
+	@GenerateBoundSetter private int p45;
+	@GenerateBoundSetter private int p46;
+	@GenerateBoundSetter private int p47;
+	@GenerateBoundSetter private int p48;
+	@GenerateBoundSetter private int p49;
+	@GenerateBoundSetter private int p50;
+	@GenerateBoundSetter private int p51;
+	@GenerateBoundSetter private int p52;
+	@GenerateBoundSetter private int p53;
+	@GenerateBoundSetter private int p54;
+	@GenerateBoundSetter private int p55;
+	@GenerateBoundSetter private int p56;
+	@GenerateBoundSetter private int p57;
+	@GenerateBoundSetter private int p58;
+	@GenerateBoundSetter private int p59;
+	@GenerateBoundSetter private int p60;
+	@GenerateBoundSetter private int p61;
+	@GenerateBoundSetter private int p62;
+	@GenerateBoundSetter private int p63;
+	@GenerateBoundSetter private int p64;
+}